@@ -13,6 +13,7 @@ function main() {
     if [[ "$COMMAND" == "quick"         ]]; then build-quick   "$@"; exit 0; fi
     if [[ "$COMMAND" == "test"          ]]; then build-test    "$@"; exit 0; fi
     if [[ "$COMMAND" == "package"       ]]; then build-package "$@"; exit 0; fi
+    if [[ "$COMMAND" == "benchmark"     ]]; then run-benchmark "$@"; exit 0; fi
     if [[ "$COMMAND" == "release"       ]]; then build-release "$@"; exit 0; fi
     if [[ "$COMMAND" == "set-version"   ]]; then set-version   "$@"; exit 0; fi
     if [[ "$COMMAND" == "reset-version" ]]; then reset-version "$@"; exit 0; fi
@@ -66,6 +67,29 @@ function build-full() {
         clean install
 }
 
+function run-benchmark() {
+    ./mvnw \
+        --no-transfer-progress        \
+        --batch-mode                  \
+        -Pbenchmarks                  \
+        -pl functionalj-benchmarks    \
+        -am                           \
+        -Dmaven.test.skip=true        \
+        -Dmaven.source.skip=true      \
+        -Dmaven.javadoc.skip=true     \
+        -Dgpg.signing.skip=true       \
+        -Dsona.staging.skip=true      \
+        --settings   ./settings.xml   \
+        --toolchains ./toolchains.xml \
+        clean package
+    
+    # BENCHMARK_BASELINE: the CSV result of an earlier run to compare with.
+    java                                                                      \
+        -Dbenchmark.result=functionalj-benchmarks/target/benchmark-result.csv \
+        ${BENCHMARK_BASELINE:+-Dbenchmark.baseline=$BENCHMARK_BASELINE}       \
+        -jar functionalj-benchmarks/target/benchmarks.jar "$@"
+}
+
 function build-package() {
     run-prepackage-hook
     
@@ -156,6 +180,7 @@ function show-help() {
     echo "  quick  : Quick build skipping tests."
     echo "  test   : Compile and test."
     echo "  package: Compile, test, install and package (signed)."
+    echo "  benchmark [jmh-args]: Build and run the JMH benchmarks (set BENCHMARK_BASELINE to compare with an earlier result)."
     echo "  release: Build and release. Must be run while on 'release' branch only."
     echo "  help   : Show this message."
     echo ""
@@ -0,0 +1,121 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import static functionalj.ref.Run.With;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import functionalj.environments.Env;
+import functionalj.promise.AsyncRunner;
+import functionalj.promise.DeferAction;
+import functionalj.promise.Promise;
+import functionalj.ref.Substitution;
+
+/**
+ * The cost of launching asynchronous runs -- waiting for the prepare of each run ({@link AsyncRunner#awaitPrepare}) or not.
+ * 
+ * Each invocation launches {@value #FAN_OUT} runs and then waits for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncRunnerBenchmark {
+    
+    static final int FAN_OUT = 16;
+    
+    @Param({ "true", "false" })
+    public boolean awaitPrepare;
+    
+    private ExecutorService executor;
+    
+    private AsyncRunner runner;
+    
+    private Substitution<Boolean> mode;
+    
+    private Substitution<AsyncRunner> async;
+    
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+        runner   = AsyncRunner.executorService(executor);
+        mode     = AsyncRunner.awaitPrepare.butWith(awaitPrepare);
+        async    = Env.refs.async.butWith(runner);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(FAN_OUT)
+    public void run_fanOut(Blackhole blackhole) {
+        With(mode).run(() -> {
+            Promise<?>[] promises = new Promise<?>[FAN_OUT];
+            for (int i = 0; i < FAN_OUT; i++) {
+                int value = i;
+                promises[i] = AsyncRunner.run(runner, () -> value);
+            }
+            for (Promise<?> promise : promises) {
+                blackhole.consume(promise.getResult());
+            }
+        });
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(FAN_OUT)
+    public void deferAction_fanOut(Blackhole blackhole) {
+        With(mode, async).run(() -> {
+            Promise<?>[] promises = new Promise<?>[FAN_OUT];
+            for (int i = 0; i < FAN_OUT; i++) {
+                int value = i;
+                promises[i] = DeferAction.from(() -> value).start().getPromise();
+            }
+            for (Promise<?> promise : promises) {
+                blackhole.consume(promise.getResult());
+            }
+        });
+    }
+}
@@ -0,0 +1,246 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compare two JMH CSV results (as written by {@link BenchmarkRunner}) -- the score and the allocation per operation.
+ * 
+ * Run as {@code java -cp target/benchmarks.jar functionalj.benchmarks.BaselineReport baseline.csv current.csv [threshold]}.
+ */
+public class BaselineReport {
+    
+    static final String ALLOCATION = "gc.alloc.rate.norm";
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineReport <baseline.csv> <current.csv> [threshold-percent]");
+            System.exit(2);
+        }
+        double         threshold = (args.length > 2) ? Double.parseDouble(args[2]) : 5.0;
+        BaselineReport report    = compare(new File(args[0]), new File(args[1]), threshold);
+        System.out.println(report.toMarkdown());
+        System.exit(report.hasRegression() ? 1 : 0);
+    }
+    
+    /** The result of one benchmark (with its parameters). */
+    static final class Score {
+        final String mode;
+        final String unit;
+        double score      = Double.NaN;
+        double allocation = Double.NaN;
+        
+        Score(String mode, String unit) {
+            this.mode = mode;
+            this.unit = unit;
+        }
+        
+        boolean isHigherBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+    
+    /** A row of the report. */
+    static final class Row {
+        final String  benchmark;
+        final Score   baseline;
+        final Score   current;
+        final double  change;
+        final boolean isRegression;
+        
+        Row(String benchmark, Score baseline, Score current, double threshold) {
+            this.benchmark = benchmark;
+            this.baseline  = baseline;
+            this.current   = current;
+            if ((baseline == null) || (current == null) || (baseline.score == 0)) {
+                this.change       = Double.NaN;
+                this.isRegression = false;
+            } else {
+                // Positive change is better.
+                double ratio = (current.score - baseline.score) / baseline.score * 100;
+                this.change       = current.isHigherBetter() ? ratio : -ratio;
+                this.isRegression = (this.change < -threshold) || isMoreAllocation(baseline, current, threshold);
+            }
+        }
+        
+        private static boolean isMoreAllocation(Score baseline, Score current, double threshold) {
+            if (Double.isNaN(baseline.allocation) || Double.isNaN(current.allocation))
+                return false;
+            // Less than a word per operation is noise.
+            return (current.allocation - baseline.allocation) > Math.max(8, baseline.allocation * threshold / 100);
+        }
+    }
+    
+    private final List<Row> rows;
+    
+    private BaselineReport(List<Row> rows) {
+        this.rows = rows;
+    }
+    
+    /** @return the report comparing the current results with the baseline. */
+    public static BaselineReport compare(File baselineFile, File currentFile, double threshold) throws IOException {
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> current  = read(currentFile);
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            rows.add(new Row(entry.getKey(), baseline.get(entry.getKey()), entry.getValue(), threshold));
+        }
+        for (Map.Entry<String, Score> entry : baseline.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                rows.add(new Row(entry.getKey(), entry.getValue(), null, threshold));
+            }
+        }
+        return new BaselineReport(rows);
+    }
+    
+    /** @return true if any benchmark got slower or allocates more than the threshold. */
+    public boolean hasRegression() {
+        return rows.stream().anyMatch(row -> row.isRegression);
+    }
+    
+    /** @return the report as a markdown table. */
+    public String toMarkdown() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("| Benchmark | Mode | Baseline | Current | Unit | Change | Baseline B/op | Current B/op | |\n");
+        buffer.append("|---|---|---:|---:|---|---:|---:|---:|---|\n");
+        for (Row row : rows) {
+            Score any = (row.current != null) ? row.current : row.baseline;
+            buffer
+                .append("| ").append(row.benchmark)
+                .append(" | ").append(any.mode)
+                .append(" | ").append(format(row.baseline, false))
+                .append(" | ").append(format(row.current, false))
+                .append(" | ").append(any.unit)
+                .append(" | ").append(Double.isNaN(row.change) ? "" : String.format("%+.1f%%", row.change))
+                .append(" | ").append(format(row.baseline, true))
+                .append(" | ").append(format(row.current, true))
+                .append(" | ").append(row.isRegression ? "REGRESSION" : "")
+                .append(" |\n");
+        }
+        return buffer.toString();
+    }
+    
+    private static String format(Score score, boolean isAllocation) {
+        if (score == null)
+            return "-";
+        double value = isAllocation ? score.allocation : score.score;
+        return Double.isNaN(value) ? "" : String.format("%.3f", value);
+    }
+    
+    // == CSV ==
+    
+    static Map<String, Score> read(File file) throws IOException {
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (lines.isEmpty())
+            return scores;
+        
+        List<String> header      = parseLine(lines.get(0));
+        int          benchmarkAt = header.indexOf("Benchmark");
+        int          modeAt      = header.indexOf("Mode");
+        int          scoreAt     = header.indexOf("Score");
+        int          unitAt      = header.indexOf("Unit");
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.trim().isEmpty())
+                continue;
+            
+            List<String> columns   = parseLine(line);
+            String       benchmark = columns.get(benchmarkAt);
+            String       secondary = null;
+            int          colonAt   = benchmark.indexOf(':');
+            if (colonAt != -1) {
+                // Secondary results (from the profilers) look like "Class.method:gc.alloc.rate.norm" (older JMH uses "·").
+                secondary = benchmark.substring(colonAt + 1).replace("·", "");
+                benchmark = benchmark.substring(0, colonAt);
+            }
+            String key   = benchmark + params(header, columns);
+            double value = parseDouble(columns.get(scoreAt));
+            if (secondary == null) {
+                Score score = scores.computeIfAbsent(key, __ -> new Score(columns.get(modeAt), columns.get(unitAt)));
+                score.score = value;
+            } else if (secondary.equals(ALLOCATION)) {
+                Score score = scores.computeIfAbsent(key, __ -> new Score(columns.get(modeAt), columns.get(unitAt)));
+                score.allocation = value;
+            }
+        }
+        return scores;
+    }
+    
+    private static String params(List<String> header, List<String> columns) {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (name.startsWith("Param: ") && (i < columns.size()) && !columns.get(i).isEmpty()) {
+                buffer.append((buffer.length() == 0) ? " (" : ", ");
+                buffer.append(name.substring("Param: ".length())).append("=").append(columns.get(i));
+            }
+        }
+        return (buffer.length() == 0) ? "" : buffer.append(")").toString();
+    }
+    
+    private static double parseDouble(String text) {
+        try {
+            // Some locales write the decimal comma.
+            return Double.parseDouble(text.trim().replace(',', '.'));
+        } catch (NumberFormatException exception) {
+            return Double.NaN;
+        }
+    }
+    
+    static List<String> parseLine(String line) {
+        List<String>  columns  = new ArrayList<>();
+        StringBuilder column   = new StringBuilder();
+        boolean       isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (isQuoted) {
+                if ((ch == '"') && (i + 1 < line.length()) && (line.charAt(i + 1) == '"')) {
+                    column.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    isQuoted = false;
+                } else {
+                    column.append(ch);
+                }
+            } else if (ch == '"') {
+                isQuoted = true;
+            } else if (ch == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(ch);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+}
@@ -0,0 +1,78 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run the benchmarks with the GC profiler (for the allocation per operation) and keep the result as CSV.
+ * 
+ * The arguments are the usual JMH ones (the benchmark patterns, -p, -f, -wi, -i and so on).
+ * The system properties:
+ * <ul>
+ *   <li>{@code benchmark.result}   -- the result file (default: {@code benchmark-result.csv}).</li>
+ *   <li>{@code benchmark.baseline} -- a result file of an earlier run, when given the comparison is printed at the end.</li>
+ *   <li>{@code benchmark.threshold} -- the percentage of a change reported as a regression (default: 5).</li>
+ * </ul>
+ * 
+ * For example:
+ * <pre>
+ *   java -Dbenchmark.baseline=release.csv -jar target/benchmarks.jar 'IntFuncList|Promise'
+ * </pre>
+ */
+public class BenchmarkRunner {
+    
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        String resultFile   = System.getProperty("benchmark.result", "benchmark-result.csv");
+        String baselineFile = System.getProperty("benchmark.baseline");
+        double threshold    = Double.parseDouble(System.getProperty("benchmark.threshold", "5"));
+        
+        ChainedOptionsBuilder options
+                = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.CSV)
+                .result(resultFile);
+        new Runner(options.build()).run();
+        
+        if (baselineFile != null) {
+            BaselineReport report = BaselineReport.compare(new File(baselineFile), new File(resultFile), threshold);
+            System.out.println();
+            System.out.println(report.toMarkdown());
+            if (report.hasRegression()) {
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import functionalj.list.FuncList;
+import functionalj.list.ImmutableFuncList;
+import functionalj.list.intlist.IntFuncList;
+
+/**
+ * {@link ImmutableFuncList} access and chains of modifications, and the deep chains of the derived (lazy) lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuncListBenchmark {
+    
+    @Param({ "10", "1000" })
+    public int size;
+    
+    private ImmutableFuncList<Integer> list;
+    
+    private FuncList<Integer> lazyList;
+    
+    @Setup
+    public void setup() {
+        list     = IntFuncList.range(0, size).boxed().toImmutableList();
+        lazyList = list.toLazy();
+    }
+    
+    @Benchmark
+    public Integer get() {
+        return list.get(size / 2);
+    }
+    
+    @Benchmark
+    public FuncList<Integer> appendChain() {
+        return list.append(1).append(2).append(3).append(4).append(5);
+    }
+    
+    @Benchmark
+    public FuncList<Integer> withChain() {
+        return list.with(0, 1).with(1, 2).with(2, 3).with(3, 4).with(4, 5);
+    }
+    
+    @Benchmark
+    public Integer appendChain_get() {
+        return list.append(1).append(2).append(3).append(4).append(5).get(size / 2);
+    }
+    
+    @Benchmark
+    public int derivedChain_size() {
+        return derivedChain().size();
+    }
+    
+    @Benchmark
+    public Integer derivedChain_get() {
+        return derivedChain().get(0);
+    }
+    
+    @Benchmark
+    public ImmutableFuncList<Integer> derivedChain_toImmutableList() {
+        return derivedChain().toImmutableList();
+    }
+    
+    private FuncList<Integer> derivedChain() {
+        return lazyList
+                .map(i -> i + 1)
+                .filter(i -> (i % 7) != 0)
+                .map(i -> i * 2)
+                .filter(i -> (i % 5) != 0)
+                .map(i -> i - 1)
+                .filter(i -> (i % 3) != 0)
+                .map(i -> i + 3)
+                .filter(i -> (i % 11) != 0);
+    }
+}
@@ -0,0 +1,105 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import functionalj.function.IntComparator;
+import functionalj.list.intlist.IntFuncList;
+import functionalj.map.FuncMap;
+
+/**
+ * The aggregations of the primitive {@link IntFuncList}.
+ * 
+ * Run with the GC profiler ({@link BenchmarkRunner} does by default) -- the gc.alloc.rate.norm of the comparator
+ *   sort, min/max and groupingBy should not grow by an {@code Integer} per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntFuncListBenchmark {
+    
+    private static final IntComparator byLastDigit = (a, b) -> Integer.compare(a % 10, b % 10);
+    
+    @Param({ "1000", "100000" })
+    public int size;
+    
+    private IntFuncList list;
+    
+    @Setup
+    public void setup() {
+        list = IntFuncList.range(0, size).map(i -> (int) ((i * 2654435761L) % size)).toImmutableList();
+    }
+    
+    @Benchmark
+    public int sum() {
+        return list.sum();
+    }
+    
+    @Benchmark
+    public OptionalInt min() {
+        return list.min();
+    }
+    
+    @Benchmark
+    public OptionalInt min_comparator() {
+        return list.min(byLastDigit);
+    }
+    
+    @Benchmark
+    public OptionalInt max_comparator() {
+        return list.max(byLastDigit);
+    }
+    
+    @Benchmark
+    public int[] sorted() {
+        return list.sorted().toArray();
+    }
+    
+    @Benchmark
+    public int[] sorted_comparator() {
+        return list.sorted(byLastDigit).toArray();
+    }
+    
+    @Benchmark
+    public FuncMap<Integer, IntFuncList> groupingBy() {
+        return list.groupingBy(i -> i % 10).toImmutableMap();
+    }
+}
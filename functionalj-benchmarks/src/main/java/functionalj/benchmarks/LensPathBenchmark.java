@@ -0,0 +1,143 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import static functionalj.benchmarks.Portfolio.thePortfolio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import functionalj.lens.core.WriteLens;
+
+/**
+ * Five-level-deep lens read/write -- the generated lenses (one fused path) against the lenses composed level by level.
+ * 
+ * The composed lenses are built the way the lens chain used to be:
+ *   each level wraps the read and the write of the level above so a write re-reads the spine from the host at each level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LensPathBenchmark {
+    
+    private static final Function<Portfolio, String> composedRead;
+    
+    private static final WriteLens<Portfolio, String> composedWrite;
+    
+    static {
+        Function<Portfolio, Portfolio>  self      = portfolio -> portfolio;
+        WriteLens<Portfolio, Portfolio> selfWrite = (portfolio, newPortfolio) -> newPortfolio;
+        
+        Function<Portfolio, Deal>     readDeal   = subRead(self, Portfolio::deal);
+        Function<Portfolio, Company>  readBuyer  = subRead(readDeal, Deal::buyer);
+        Function<Portfolio, Person>   readCeo    = subRead(readBuyer, Company::ceo);
+        Function<Portfolio, Address>  readAddr   = subRead(readCeo, Person::address);
+        
+        WriteLens<Portfolio, Deal>    writeDeal  = subWrite(self, selfWrite, Portfolio::withDeal);
+        WriteLens<Portfolio, Company> writeBuyer = subWrite(readDeal, writeDeal, Deal::withBuyer);
+        WriteLens<Portfolio, Person>  writeCeo   = subWrite(readBuyer, writeBuyer, Company::withCeo);
+        WriteLens<Portfolio, Address> writeAddr  = subWrite(readCeo, writeCeo, Person::withAddress);
+        
+        composedRead  = subRead(readAddr, Address::city);
+        composedWrite = subWrite(readAddr, writeAddr, Address::withCity);
+    }
+    
+    private static <HOST, DATA, SUB> Function<HOST, SUB> subRead(Function<HOST, DATA> readValue, Function<DATA, SUB> readSub) {
+        return host -> {
+            DATA value = readValue.apply(host);
+            if (value == null)
+                return null;
+            return readSub.apply(value);
+        };
+    }
+    
+    private static <HOST, DATA, SUB> WriteLens<HOST, SUB> subWrite(Function<HOST, DATA> readValue, WriteLens<HOST, DATA> writeValue, WriteLens<DATA, SUB> writeSub) {
+        return (host, newSubValue) -> {
+            DATA oldValue = readValue.apply(host);
+            if (oldValue == null)
+                return host;
+            DATA newValue = writeSub.apply(oldValue, newSubValue);
+            return writeValue.apply(host, newValue);
+        };
+    }
+    
+    private static final Function<Portfolio, String> fusedRead = thePortfolio.deal.buyer.ceo.address.city.lensSpec().getRead();
+    
+    private static final WriteLens<Portfolio, String> fusedWrite = thePortfolio.deal.buyer.ceo.address.city.lensSpec().getWrite();
+    
+    private Portfolio portfolio;
+    
+    @Setup
+    public void setup() {
+        portfolio = Structs.newPortfolio(42);
+    }
+    
+    @Benchmark
+    public String fused_read() {
+        return fusedRead.apply(portfolio);
+    }
+    
+    @Benchmark
+    public String composed_read() {
+        return composedRead.apply(portfolio);
+    }
+    
+    @Benchmark
+    public Portfolio fused_write() {
+        return fusedWrite.apply(portfolio, "Other City");
+    }
+    
+    @Benchmark
+    public Portfolio composed_write() {
+        return composedWrite.apply(portfolio, "Other City");
+    }
+    
+    @Benchmark
+    public Portfolio lens_changeTo() {
+        return thePortfolio.deal.buyer.ceo.address.city.changeTo("Other City").apply(portfolio);
+    }
+    
+    @Benchmark
+    public Portfolio with_nested() {
+        Deal    deal    = portfolio.deal();
+        Company buyer   = deal.buyer();
+        Person  ceo     = buyer.ceo();
+        Address address = ceo.address();
+        return portfolio.withDeal(deal.withBuyer(buyer.withCeo(ceo.withAddress(address.withCity("Other City")))));
+    }
+}
@@ -0,0 +1,121 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import static functionalj.benchmarks.Account.theAccount;
+import static functionalj.benchmarks.Portfolio.thePortfolio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import functionalj.lens.Lens;
+
+/**
+ * One batch update against the chained {@code changeTo}s.
+ * 
+ * For the five fields across three levels of the portfolio, the chained changes rebuild the whole spine
+ *   (portfolio, deal, company, person and address) for each field while the batch update rebuilds each of them once.
+ * For the eight fields of the wide account, the chained changes copy all 16 fields eight times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LensUpdateBenchmark {
+    
+    private static final Function<Portfolio, Portfolio> chained
+            = thePortfolio.deal.buyer.ceo.address.street.changeTo("Other Street")
+            .andThen(thePortfolio.deal.buyer.ceo.address.city.changeTo("Other City"))
+            .andThen(thePortfolio.deal.buyer.ceo.address.zip.changeTo(12345))
+            .andThen(thePortfolio.deal.buyer.ceo.age.changeTo(50))
+            .andThen(thePortfolio.deal.price.changeTo(1.0));
+    
+    private static final Function<Account, Account> chainedAccount
+            = theAccount.name.changeTo("Other Name")
+            .andThen(theAccount.email.changeTo("other@example.com"))
+            .andThen(theAccount.city.changeTo("Other City"))
+            .andThen(theAccount.zip.changeTo("Z0"))
+            .andThen(theAccount.rank.changeTo(1))
+            .andThen(theAccount.score.changeTo(99))
+            .andThen(theAccount.balance.changeTo(0.0))
+            .andThen(theAccount.active.changeTo(false));
+    
+    private Portfolio portfolio;
+    
+    private Account account;
+    
+    @Setup
+    public void setup() {
+        portfolio = Structs.newPortfolio(42);
+        account   = Structs.newAccount(42);
+    }
+    
+    @Benchmark
+    public Portfolio chained_changeTo() {
+        return chained.apply(portfolio);
+    }
+    
+    @Benchmark
+    public Portfolio batch_update() {
+        return Lens.update(portfolio)
+                .set(thePortfolio.deal.buyer.ceo.address.street, "Other Street")
+                .set(thePortfolio.deal.buyer.ceo.address.city, "Other City")
+                .set(thePortfolio.deal.buyer.ceo.address.zip, 12345)
+                .set(thePortfolio.deal.buyer.ceo.age, 50)
+                .set(thePortfolio.deal.price, 1.0)
+                .apply();
+    }
+    
+    @Benchmark
+    public Account chained_changeTo_wide() {
+        return chainedAccount.apply(account);
+    }
+    
+    @Benchmark
+    public Account batch_update_wide() {
+        return Lens.update(account)
+                .set(theAccount.name, "Other Name")
+                .set(theAccount.email, "other@example.com")
+                .set(theAccount.city, "Other City")
+                .set(theAccount.zip, "Z0")
+                .set(theAccount.rank, 1)
+                .set(theAccount.score, 99)
+                .set(theAccount.balance, 0.0)
+                .set(theAccount.active, false)
+                .apply();
+    }
+}
@@ -0,0 +1,138 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import functionalj.promise.DeferAction;
+import functionalj.promise.DeferValue;
+import functionalj.promise.Promise;
+import functionalj.promise.SubscriptionRecord;
+import functionalj.result.Result;
+
+/**
+ * {@link Promise} map/chain throughput (completed synchronously) and the latency of the asynchronous actions.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromiseBenchmark {
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Result<Integer> mapChain_completed() {
+        return Promise.ofValue(1)
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1)
+                .map(i -> i + 3)
+                .getResult();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Result<Integer> mapChain_thenComplete() {
+        DeferValue<Integer> value   = DeferValue.deferInt();
+        Promise<Integer>    promise = value.getPromise()
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1)
+                .map(i -> i + 3);
+        value.assign(1);
+        return promise.getResult();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Result<Integer> chain_thenComplete() {
+        DeferValue<Integer> value   = DeferValue.deferInt();
+        Promise<Integer>    promise = value.getPromise()
+                .chain(i -> Promise.ofValue(i + 1))
+                .chain(i -> Promise.ofValue(i * 2))
+                .chain(i -> Promise.ofValue(i - 1));
+        value.assign(1);
+        return promise.getResult();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Result<Integer> subscribers_thenComplete() {
+        DeferValue<Integer> value = DeferValue.deferInt();
+        int[] count = new int[1];
+        for (int i = 0; i < 8; i++) {
+            value.onCompleted(result -> count[0]++);
+        }
+        value.assign(count.length);
+        return value.getResult();
+    }
+    
+    /** A promise that stays pending -- with one subscriber kept so unsubscribing the others does not cancel it. */
+    @State(Scope.Thread)
+    public static class Pending {
+        final DeferValue<Integer> value = DeferValue.deferInt();
+        {
+            value.onCompleted(result -> {});
+        }
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public SubscriptionRecord<Integer> subscribeUnsubscribe_pending(Pending pending) {
+        return pending.value.onCompleted(result -> {}).unsubscribe();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Result<Integer> asyncAction_latency() {
+        return DeferAction.from(() -> 42).start().getResult();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Result<Integer> asyncAction_map_latency() {
+        return DeferAction.from(() -> 42)
+                .map(i -> i + 1)
+                .chain(i -> Promise.ofValue(i * 2))
+                .start()
+                .getResult();
+    }
+}
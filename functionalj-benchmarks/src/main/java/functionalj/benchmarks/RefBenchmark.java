@@ -0,0 +1,116 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import static functionalj.ref.Run.With;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import functionalj.ref.Ref;
+import functionalj.ref.Substitution;
+
+/**
+ * {@link Ref#get()} with N substitutions in effect.
+ * 
+ * The substitutions only last within the run body so each invocation reads the refs {@value #READS} times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RefBenchmark {
+    
+    static final int READS = 1000;
+    
+    @Param({ "0", "1", "4", "16" })
+    public int substitutionCount;
+    
+    private Ref<Integer> substituted;
+    
+    private Ref<Integer> notSubstituted;
+    
+    private List<Substitution<?>> substitutions;
+    
+    @Setup
+    public void setup() {
+        substitutions  = new ArrayList<>();
+        notSubstituted = Ref.ofValue(-1);
+        substituted    = Ref.ofValue(0);
+        for (int i = 0; i < substitutionCount; i++) {
+            Ref<Integer> ref = (i == 0) ? substituted : Ref.ofValue(i);
+            substitutions.add(ref.butWith(i + 100));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public void get_noRun(Blackhole blackhole) {
+        for (int i = 0; i < READS; i++) {
+            blackhole.consume(substituted.get());
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public void get_substituted(Blackhole blackhole) {
+        With(substitutions).run(() -> {
+            for (int i = 0; i < READS; i++) {
+                blackhole.consume(substituted.get());
+            }
+        });
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public void get_notSubstituted(Blackhole blackhole) {
+        With(substitutions).run(() -> {
+            for (int i = 0; i < READS; i++) {
+                blackhole.consume(notSubstituted.get());
+            }
+        });
+    }
+    
+    @Benchmark
+    public Integer run_get() {
+        return With(substitutions).run(() -> substituted.get());
+    }
+}
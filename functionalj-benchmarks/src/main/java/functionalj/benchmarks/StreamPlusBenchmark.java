@@ -0,0 +1,87 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import functionalj.list.FuncList;
+import functionalj.list.intlist.IntFuncList;
+import functionalj.stream.StreamPlus;
+
+/**
+ * The grouping operations of {@link StreamPlus} -- segment and mapGroup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamPlusBenchmark {
+    
+    @Param({ "10000" })
+    public int size;
+    
+    @Param({ "2", "100" })
+    public int groupSize;
+    
+    private FuncList<Integer> list;
+    
+    @Setup
+    public void setup() {
+        list = IntFuncList.range(0, size).boxed().toImmutableList();
+    }
+    
+    @Benchmark
+    public long segment() {
+        return list.streamPlus().segment(groupSize).count();
+    }
+    
+    @Benchmark
+    public int segment_sum() {
+        return list.streamPlus().segment(groupSize).mapToInt(segment -> segment.size()).sum();
+    }
+    
+    @Benchmark
+    public long mapGroup() {
+        return list.streamPlus().mapGroup(groupSize, group -> group.count()).count();
+    }
+    
+    @Benchmark
+    public long mapGroup_sum() {
+        return list.streamPlus().mapGroup(groupSize, group -> group.mapToLong(i -> i).sum()).mapToLong(sum -> sum).sum();
+    }
+}
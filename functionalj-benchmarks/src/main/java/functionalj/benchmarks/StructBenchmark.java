@@ -0,0 +1,121 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import static functionalj.benchmarks.Company.theCompany;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lens read/write on the nested generated structs and the generated equals/hashCode/toMap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructBenchmark {
+    
+    private Company company;
+    
+    private Company sameCompany;
+    
+    private Company otherCompany;
+    
+    private int seed = 0;
+    
+    @Setup
+    public void setup() {
+        company      = Structs.newCompany(42);
+        sameCompany  = Structs.newCompany(42);
+        otherCompany = company.withCeo(company.ceo().withAddress(company.ceo().address().withZip(0)));
+    }
+    
+    // == Lens ==
+    
+    @Benchmark
+    public String lens_read() {
+        return theCompany.ceo.address.city.apply(company);
+    }
+    
+    @Benchmark
+    public Company lens_write() {
+        return theCompany.ceo.address.city.changeTo("Other City").apply(company);
+    }
+    
+    @Benchmark
+    public Company lens_modify() {
+        return theCompany.ceo.age.changeTo(age -> age + 1).apply(company);
+    }
+    
+    @Benchmark
+    public Company with_nested() {
+        return company.withCeo(company.ceo().withAddress(company.ceo().address().withCity("Other City")));
+    }
+    
+    // == Generated methods ==
+    
+    @Benchmark
+    public boolean equals_same() {
+        return company.equals(sameCompany);
+    }
+    
+    @Benchmark
+    public boolean equals_differentDeep() {
+        return company.equals(otherCompany);
+    }
+    
+    @Benchmark
+    public int hashCode_existing() {
+        return company.hashCode();
+    }
+    
+    @Benchmark
+    public int hashCode_new() {
+        return Structs.newCompany(seed++ & 0xff).hashCode();
+    }
+    
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return company.__toMap();
+    }
+    
+    @Benchmark
+    public Company fromMap() {
+        return Company.fromMap(company.__toMap());
+    }
+}
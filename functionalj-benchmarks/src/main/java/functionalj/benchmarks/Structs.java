@@ -0,0 +1,81 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.benchmarks;
+
+import functionalj.list.FuncList;
+import functionalj.types.Struct;
+
+/**
+ * The structs used by the benchmarks -- a few levels of nesting so the lens paths are not trivial.
+ */
+public class Structs {
+    
+    @Struct
+    void AddressSpec(String street, String city, int zip) {
+    }
+    
+    @Struct
+    void PersonSpec(String name, int age, Address address) {
+    }
+    
+    @Struct
+    void CompanySpec(String name, Person ceo, FuncList<String> tags) {
+    }
+    
+    @Struct
+    void DealSpec(String id, Company buyer, double price) {
+    }
+    
+    @Struct
+    void PortfolioSpec(String owner, Deal deal) {
+    }
+    
+    @Struct
+    void AccountSpec(
+            String  id,      String  name,    String  email,   String  phone,
+            String  street,  String  city,    String  country, String  zip,
+            int     age,     int     rank,    int     score,   int     level,
+            double  balance, double  limit,   double  rate,    boolean active) {
+    }
+    
+    /** @return a company with its nested person and address. */
+    public static Company newCompany(int seed) {
+        Address address = new Address("Street " + seed, "City " + (seed % 10), 10000 + seed);
+        Person  ceo     = new Person("Person " + seed, 20 + (seed % 50), address);
+        return new Company("Company " + seed, ceo, FuncList.of("tag" + (seed % 3), "tag" + (seed % 5)));
+    }
+    
+    /** @return an account -- a wide struct of 16 fields. */
+    public static Account newAccount(int seed) {
+        return new Account("A" + seed, "Name " + seed, "mail" + seed + "@example.com", "555-" + seed,
+                "Street " + seed, "City " + (seed % 10), "Country", "Z" + seed,
+                20 + (seed % 50), seed % 7, seed % 100, seed % 3,
+                1000.0 + seed, 5000.0, 0.05, true);
+    }
+    
+    /** @return a portfolio with its deal -- five levels down to the address. */
+    public static Portfolio newPortfolio(int seed) {
+        return new Portfolio("Owner " + seed, new Deal("Deal " + seed, newCompany(seed), 100.0 + seed));
+    }
+}
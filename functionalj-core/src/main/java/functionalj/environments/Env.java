@@ -37,6 +37,8 @@ public final class Env {
         public static final Ref<Log.Instance> log = Ref.ofValue(Log.Instance.instance);
         
         public static final Ref<Time.Instance> time = Ref.ofValue(Time.System.instance);
+        
+        public static final Ref<Scheduler.Instance> scheduler = Ref.ofValue(Scheduler.System.instance);
     }
     
     // TODO - File lister, reader - bytes,string,line. -> no-idea about seekable
@@ -49,6 +51,11 @@ public final class Env {
         return Env.refs.time.orElse(Time.System.instance);
     }
     
+    /** @return  the {@link Scheduler} to be used. */
+    public static Scheduler.Instance scheduler() {
+        return Env.refs.scheduler.orElse(Scheduler.System.instance);
+    }
+    
     /** @return  the {@link AsyncRunner} to be used. */
     public static AsyncRunner async() {
         return Env.refs.async.orElse(AsyncRunner.virtualThread(AsyncRunner.threadFactory));
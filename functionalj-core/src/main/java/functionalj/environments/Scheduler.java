@@ -0,0 +1,493 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.environments;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import functionalj.exception.Throwables;
+import functionalj.ref.Run;
+import lombok.val;
+
+/**
+ * Run tasks after a delay -- without a thread waiting for each of them.
+ */
+public final class Scheduler {
+    
+    private Scheduler() {
+    }
+    
+    /**
+     * Schedule the task to run after the delay using the current scheduler ({@link Env#scheduler()}).
+     * 
+     * @param delayMillisecond  the delay in milliseconds.
+     * @param task              the task.
+     * @return                  the handle to cancel the task.
+     */
+    public static Handle schedule(long delayMillisecond, Runnable task) {
+        return Env.scheduler().schedule(delayMillisecond, task);
+    }
+    
+    /** The handle of a scheduled task. */
+    public static interface Handle {
+        
+        /**
+         * Cancel the task if it is not yet run.
+         * 
+         * @return  true if the task is cancelled by this call.
+         */
+        public boolean cancel();
+        
+        /** @return  true if the task was cancelled. */
+        public boolean isCancelled();
+        
+        /** @return  true if the task was due and handed over to be run. */
+        public boolean isExpired();
+    }
+    
+    public static interface Instance {
+        
+        public Handle schedule(long delayMillisecond, Runnable task);
+    }
+    
+    /**
+     * A hashed hierarchical timer wheel.
+     * 
+     * The lowest level has 256 slots of one tick each and each higher level has 64 slots
+     *   each of which spans the whole level below -- so five levels covers 2^32 ticks and a later task
+     *   is kept in the last level until it comes into range.
+     * Scheduling and cancelling are O(1) and a task is moved down one level at a time as its time gets near.
+     * 
+     * The time is read from the given {@link Time.Instance} and due tasks are only run by {@link #advance()},
+     *   so a wheel with a fake time can be driven manually in tests.
+     * The due tasks are run with the given executor outside of the lock.
+     */
+    public static class TimerWheel implements Instance {
+        
+        private static final int[] LEVEL_BITS = { 8, 6, 6, 6, 6 };
+        
+        private static final int LEVEL_COUNT = LEVEL_BITS.length;
+        
+        private static final int[] LEVEL_SHIFTS = new int[LEVEL_COUNT];
+        
+        private static final long MAX_SPAN;
+        
+        static {
+            int shift = 0;
+            for (int level = 0; level < LEVEL_COUNT; level++) {
+                LEVEL_SHIFTS[level] = shift;
+                shift += LEVEL_BITS[level];
+            }
+            MAX_SPAN = 1L << shift;
+        }
+        
+        private final Time.Instance time;
+        private final long          tickMillisecond;
+        private final Executor      executor;
+        private final long          startTime;
+        
+        private final Timeout[][] wheels     = new Timeout[LEVEL_COUNT][];
+        private final int[]       levelSizes = new int[LEVEL_COUNT];
+        
+        private long currentTick = 0;
+        private int  size        = 0;
+        
+        /**
+         * Create a wheel with one millisecond tick that runs the due tasks on the thread calling {@link #advance()}.
+         * 
+         * @param time  the time.
+         */
+        public TimerWheel(Time.Instance time) {
+            this(time, 1, Runnable::run);
+        }
+        
+        public TimerWheel(Time.Instance time, long tickMillisecond, Executor executor) {
+            this.time            = requireNonNull(time);
+            this.tickMillisecond = Math.max(1, tickMillisecond);
+            this.executor        = requireNonNull(executor);
+            this.startTime       = time.currentMilliSecond();
+            for (int level = 0; level < LEVEL_COUNT; level++) {
+                wheels[level] = new Timeout[1 << LEVEL_BITS[level]];
+            }
+        }
+        
+        @Override
+        public Handle schedule(long delayMillisecond, Runnable task) {
+            val timeout = new Timeout(this, requireNonNull(task));
+            if (delayMillisecond <= 0) {
+                timeout.state = Timeout.EXPIRED;
+                execute(task);
+                return timeout;
+            }
+            
+            synchronized (this) {
+                val deadline     = time.currentMilliSecond() + delayMillisecond - startTime;
+                val deadlineTick = (deadline + tickMillisecond - 1) / tickMillisecond;
+                timeout.deadlineTick = Math.max(deadlineTick, currentTick + 1);
+                insert(timeout);
+                size++;
+            }
+            onScheduled();
+            return timeout;
+        }
+        
+        /** @return  the time this wheel runs on. */
+        protected final Time.Instance time() {
+            return time;
+        }
+        
+        /** Called after a task is added -- for the sub class to wake its ticker. */
+        protected void onScheduled() {
+        }
+        
+        /** @return  the number of the tasks waiting. */
+        public synchronized int size() {
+            return size;
+        }
+        
+        /**
+         * Run all the tasks that are due by the current time.
+         * 
+         * @return  the number of the tasks run.
+         */
+        public int advance() {
+            val expired = new ArrayList<Timeout>();
+            synchronized (this) {
+                val targetTick = (time.currentMilliSecond() - startTime) / tickMillisecond;
+                while (currentTick < targetTick) {
+                    if (size == 0) {
+                        currentTick = targetTick;
+                        break;
+                    }
+                    currentTick = Math.min(nextEventTick(), targetTick);
+                    cascade();
+                    collect(expired);
+                }
+            }
+            for (val timeout : expired) {
+                execute(timeout.task);
+            }
+            return expired.size();
+        }
+        
+        /**
+         * Returns the milliseconds until something may be due -- a ticker can sleep that long.
+         * 
+         * @return  the milliseconds or -1 if there is no task.
+         */
+        protected synchronized long millisecondToNextEvent() {
+            if (size == 0)
+                return -1;
+            val nextTime = startTime + nextEventTick() * tickMillisecond;
+            return Math.max(0, nextTime - time.currentMilliSecond());
+        }
+        
+        /** @return  the next tick that may have something to do -- skipping the levels with nothing in. */
+        private long nextEventTick() {
+            for (int level = 0; level < LEVEL_COUNT; level++) {
+                if (levelSizes[level] == 0)
+                    continue;
+                if (level == 0)
+                    return nextFilledTick();
+                
+                val shift = LEVEL_SHIFTS[level];
+                return ((currentTick >> shift) + 1) << shift;
+            }
+            return currentTick + 1;
+        }
+        
+        /** @return  the next tick with a task in the lowest level or the next cascade -- whichever comes first. */
+        private long nextFilledTick() {
+            val slotMask = (1 << LEVEL_BITS[0]) - 1;
+            long tick = currentTick + 1;
+            while (((tick & slotMask) != 0) && (wheels[0][(int) (tick & slotMask)] == null)) {
+                tick++;
+            }
+            return tick;
+        }
+        
+        private void insert(Timeout timeout) {
+            val delta = Math.min(Math.max(timeout.deadlineTick - currentTick, 0), MAX_SPAN - 1);
+            val tick  = currentTick + delta;
+            int level = 0;
+            while ((level < LEVEL_COUNT - 1) && (delta >= (1L << LEVEL_SHIFTS[level + 1]))) {
+                level++;
+            }
+            val slot = (int) ((tick >> LEVEL_SHIFTS[level]) & ((1 << LEVEL_BITS[level]) - 1));
+            
+            val head = wheels[level][slot];
+            timeout.level = level;
+            timeout.slot  = slot;
+            timeout.prev  = null;
+            timeout.next  = head;
+            if (head != null)
+                head.prev = timeout;
+            wheels[level][slot] = timeout;
+            levelSizes[level]++;
+        }
+        
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null)
+                timeout.prev.next = timeout.next;
+            else
+                wheels[timeout.level][timeout.slot] = timeout.next;
+            if (timeout.next != null)
+                timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            levelSizes[timeout.level]--;
+        }
+        
+        /** Move the tasks of the higher levels that are now in range down to the lower levels. */
+        private void cascade() {
+            for (int level = 1; level < LEVEL_COUNT; level++) {
+                val shift = LEVEL_SHIFTS[level];
+                if ((currentTick & ((1L << shift) - 1)) != 0)
+                    break;
+                
+                val slot = (int) ((currentTick >> shift) & ((1 << LEVEL_BITS[level]) - 1));
+                Timeout timeout = detach(level, slot);
+                while (timeout != null) {
+                    val next = timeout.next;
+                    insert(timeout);
+                    timeout = next;
+                }
+            }
+        }
+        
+        private void collect(ArrayList<Timeout> expired) {
+            val slot = (int) (currentTick & ((1 << LEVEL_BITS[0]) - 1));
+            Timeout timeout = detach(0, slot);
+            while (timeout != null) {
+                val next = timeout.next;
+                if (timeout.deadlineTick <= currentTick) {
+                    timeout.state = Timeout.EXPIRED;
+                    timeout.next  = null;
+                    expired.add(timeout);
+                    size--;
+                } else {
+                    insert(timeout);
+                }
+                timeout = next;
+            }
+        }
+        
+        /** Take the whole list out of the slot -- the nodes keep their next links. */
+        private Timeout detach(int level, int slot) {
+            val head = wheels[level][slot];
+            wheels[level][slot] = null;
+            for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+                timeout.prev = null;
+                levelSizes[level]--;
+            }
+            return head;
+        }
+        
+        private void execute(Runnable task) {
+            try {
+                executor.execute(task);
+            } catch (Throwable exception) {
+                // One failing task must not stop the others.
+                Throwables.noThrowLogger.get().accept(exception);
+            }
+        }
+        
+        synchronized boolean cancel(Timeout timeout) {
+            if (timeout.state != Timeout.PENDING)
+                return false;
+            
+            remove(timeout);
+            timeout.state = Timeout.CANCELLED;
+            size--;
+            return true;
+        }
+    }
+    
+    /** A scheduled task in the wheel -- its state and links are guarded by the wheel. */
+    static final class Timeout implements Handle {
+        
+        static final int PENDING   = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED   = 2;
+        
+        final TimerWheel wheel;
+        final Runnable   task;
+        
+        long    deadlineTick;
+        int     level;
+        int     slot;
+        Timeout prev;
+        Timeout next;
+        
+        volatile int state = PENDING;
+        
+        Timeout(TimerWheel wheel, Runnable task) {
+            this.wheel = wheel;
+            this.task  = task;
+        }
+        
+        @Override
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+        
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+    
+    /**
+     * The wheel on the system time with a daemon ticker thread -- started when the first task is scheduled.
+     * The ticker sleeps until something may be due.
+     * 
+     * A task is scheduled against the caller's {@link Env#time()}:
+     *   on the system time, it waits in the wheel;
+     *   on a substituted time (e.g., a fake time in tests), the wait is left to the sleep of that time
+     *   so the substituted time is in control.
+     * The due task is run with the caller's {@link Env#async()} and the caller's (global) substitutions.
+     */
+    public static class System extends TimerWheel {
+        
+        public static final Scheduler.Instance instance = new Scheduler.System();
+        
+        private volatile Thread ticker = null;
+        
+        public System() {
+            // The ticker only hands the due tasks over to the caller's runner.
+            super(Time.System.instance, 1, Runnable::run);
+        }
+        
+        @Override
+        public Handle schedule(long delayMillisecond, Runnable task) {
+            val time    = Env.time();
+            val async   = Env.async();
+            val dueTask = withCallerSubstitutions(requireNonNull(task));
+            if (time == time())
+                return super.schedule(delayMillisecond, () -> async.accept(dueTask));
+            
+            val sleeping = new Sleeping(time, delayMillisecond, dueTask);
+            async.accept(sleeping);
+            return sleeping;
+        }
+        
+        private static Runnable withCallerSubstitutions(Runnable task) {
+            val substitutions = Run.WithAllGlobalSubstitutions();
+            return () -> substitutions.run(() -> {
+                try {
+                    task.run();
+                } catch (Throwable exception) {
+                    Throwables.noThrowLogger.get().accept(exception);
+                }
+            });
+        }
+        
+        @Override
+        protected void onScheduled() {
+            val thread = ticker;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+                return;
+            }
+            startTicker();
+        }
+        
+        private synchronized void startTicker() {
+            if (ticker != null) {
+                LockSupport.unpark(ticker);
+                return;
+            }
+            
+            val thread = new Thread(this::tick, "functionalj-scheduler");
+            thread.setDaemon(true);
+            ticker = thread;
+            thread.start();
+        }
+        
+        private void tick() {
+            while (true) {
+                val waitTime = millisecondToNextEvent();
+                if (waitTime < 0)
+                    LockSupport.park(this);
+                else if (waitTime > 0)
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(waitTime));
+                
+                advance();
+            }
+        }
+        
+        /** A task waiting with the sleep of a substituted time. */
+        static final class Sleeping implements Handle, Runnable {
+            
+            private final Time.Instance time;
+            private final long          delayMillisecond;
+            private final Runnable      task;
+            
+            private final AtomicInteger state = new AtomicInteger(Timeout.PENDING);
+            
+            Sleeping(Time.Instance time, long delayMillisecond, Runnable task) {
+                this.time             = time;
+                this.delayMillisecond = delayMillisecond;
+                this.task             = task;
+            }
+            
+            @Override
+            public void run() {
+                try {
+                    if (delayMillisecond > 0)
+                        time.sleep(delayMillisecond);
+                    if (state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED))
+                        task.run();
+                } catch (Throwable exception) {
+                    Throwables.noThrowLogger.get().accept(exception);
+                }
+            }
+            
+            @Override
+            public boolean cancel() {
+                return state.compareAndSet(Timeout.PENDING, Timeout.CANCELLED);
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return state.get() == Timeout.CANCELLED;
+            }
+            
+            @Override
+            public boolean isExpired() {
+                return state.get() == Timeout.EXPIRED;
+            }
+        }
+    }
+}
@@ -27,15 +27,36 @@ import functionalj.function.FuncUnit1;
 
 public class Publisher<DATA> {
     
-    private final Topic<DATA> topic = new Topic<>();
+    private final Topic<DATA> topic;
     
     private final FuncUnit1<Publisher<DATA>> onDone;
     
     public Publisher() {
-        this(null);
+        this((FuncUnit1<Publisher<DATA>>)null);
     }
     
     public Publisher(FuncUnit1<Publisher<DATA>> onDone) {
+        this.topic  = new Topic<>();
+        this.onDone = onDone;
+    }
+    
+    /**
+     * Create a publisher that delivers asynchronously through a ring buffer as specified.
+     * 
+     * @param spec  the spec of the ring buffer.
+     */
+    public Publisher(RingTopicSpec spec) {
+        this(spec, null);
+    }
+    
+    /**
+     * Create a publisher that delivers asynchronously through a ring buffer as specified.
+     * 
+     * @param spec    the spec of the ring buffer.
+     * @param onDone  the action to run when the publisher is done.
+     */
+    public Publisher(RingTopicSpec spec, FuncUnit1<Publisher<DATA>> onDone) {
+        this.topic  = new RingTopic<>(spec);
         this.onDone = onDone;
     }
     
@@ -0,0 +1,420 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.event;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import functionalj.environments.Env;
+import functionalj.event.RingTopicSpec.LagPolicy;
+import functionalj.event.RingTopicSpec.ProducerType;
+import functionalj.event.RingTopicSpec.WaitStrategy;
+import functionalj.exception.Throwables;
+import functionalj.promise.AsyncRunner;
+import functionalj.result.Result;
+import lombok.val;
+
+/**
+ * A topic that delivers asynchronously through a preallocated ring buffer -- see {@link RingTopicSpec}.
+ * 
+ * Publishing claims the next sequence and puts the result into its slot so the publisher never runs the subscribers.
+ * Each subscription has its own cursor. When the cursor falls behind, a drain task is given to the runner of the spec.
+ * The task delivers the available results in order (up to the maximum batch size) before moving the cursor
+ *   so the publisher only sees the cursor once per batch.
+ * Then it gives the thread back -- giving the runner another task if there are more results
+ *   so a subscription never holds on to a thread while it waits.
+ * The results published before a subscription is made are not delivered to it.
+ * 
+ * A subscriber that publishes to (or completes) the same topic while the buffer is full
+ *   waits for itself when the lag policy is to block.
+ *
+ * @param <DATA>  the data type.
+ */
+public class RingTopic<DATA> extends Topic<DATA> {
+    
+    /** The published sequence of a slot while the slot is being overwritten. */
+    private static final long WRITING = Long.MIN_VALUE;
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private final int          capacity;
+    private final int          mask;
+    private final int          maxBatchSize;
+    private final ProducerType producerType;
+    private final WaitStrategy waitStrategy;
+    private final LagPolicy    lagPolicy;
+    private final AsyncRunner  runner;
+    
+    private final AtomicReferenceArray<Result<DATA>> slots;
+    /** The sequence of the result in each slot. */
+    private final AtomicLongArray published;
+    private final AtomicLong      claimed = new AtomicLong(-1);
+    
+    private final AtomicReference<Cursors> cursors = new AtomicReference<>(new Cursors(new Cursor[0]));
+    
+    /** The sequence of the final no-more result. */
+    private volatile long doneSequence = Long.MAX_VALUE;
+    
+    private final ReentrantLock lock    = new ReentrantLock();
+    private final Condition     changed = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+    
+    /**
+     * Create a ring topic as specified.
+     * 
+     * @param spec  the spec.
+     */
+    public RingTopic(RingTopicSpec spec) {
+        this.capacity     = spec.bufferSize();
+        this.mask         = capacity - 1;
+        this.maxBatchSize = spec.maxBatchSize();
+        this.producerType = spec.producerType();
+        this.waitStrategy = spec.waitStrategy();
+        this.lagPolicy    = spec.lagPolicy();
+        this.runner       = (spec.runner() != null) ? spec.runner() : Env.async();
+        this.slots        = new AtomicReferenceArray<>(capacity);
+        this.published    = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, i - capacity);
+        }
+    }
+    
+    /** @return the number of the results the buffer holds. */
+    public int bufferSize() {
+        return capacity;
+    }
+    
+    //== Publishing ==
+    
+    @Override
+    boolean publish(DATA data) {
+        boolean stillActive = isActive();
+        if (stillActive) {
+            put(Result.valueOf(data), false);
+        }
+        return stillActive;
+    }
+    
+    @Override
+    void done() {
+        if (!deactivate())
+            return;
+        
+        put(Result.ofNoMore(), true);
+    }
+    
+    private void put(Result<DATA> result, boolean isFinal) {
+        long sequence = claim(isFinal);
+        if (isFinal) {
+            doneSequence = sequence;
+        }
+        
+        int index = (int) sequence & mask;
+        if (lagPolicy != LagPolicy.DROP_OLDEST) {
+            if (!hasCapacity(sequence)) {
+                await(() -> hasCapacity(sequence));
+            }
+        }
+        // Another publisher (or the final put of a single publisher's topic) may still be writing the previous lap.
+        long previous = sequence - capacity;
+        if (published.get(index) < previous) {
+            await(() -> published.get(index) >= previous);
+        }
+        
+        published.set(index, WRITING);
+        slots.set(index, result);
+        published.set(index, sequence);
+        signal();
+        
+        for (val cursor : cursors.get().cursors) {
+            schedule(cursor);
+        }
+    }
+    
+    /**
+     * Claim the next sequence.
+     * 
+     * The final claim comes from {@link #done()} which may run on any thread (a subscriber unsubscribing for one)
+     *   so even a single publisher claims with compare-and-set -- it is just never contended but by that final claim.
+     */
+    private long claim(boolean isFinal) {
+        boolean isFailFast = (lagPolicy == LagPolicy.FAIL) && !isFinal;
+        if ((producerType == ProducerType.MULTI) && !isFailFast)
+            return claimed.incrementAndGet();
+        
+        while (true) {
+            long current  = claimed.get();
+            long sequence = current + 1;
+            if (isFailFast && !hasCapacity(sequence))
+                throw new IllegalStateException("The ring buffer is full: " + capacity);
+            if (claimed.compareAndSet(current, sequence))
+                return sequence;
+        }
+    }
+    
+    /** @return true if all the cursors are past the previous lap of the sequence's slot. */
+    private boolean hasCapacity(long sequence) {
+        long wrapPoint = sequence - capacity;
+        val  current   = cursors.get();
+        if (wrapPoint <= current.gatingSequence)
+            return true;
+        
+        long minimum = Long.MAX_VALUE;
+        for (val cursor : current.cursors) {
+            minimum = Math.min(minimum, cursor.sequence);
+        }
+        current.gatingSequence = minimum;
+        return wrapPoint <= minimum;
+    }
+    
+    //== Consuming ==
+    
+    @Override
+    void subscriptionAdded(Subscription<DATA> subscription) {
+        val cursor = new Cursor(subscription);
+        while (true) {
+            val current = cursors.get();
+            val array   = Arrays.copyOf(current.cursors, current.cursors.length + 1);
+            array[current.cursors.length] = cursor;
+            cursor.sequence = claimed.get();
+            if (cursors.compareAndSet(current, new Cursors(array)))
+                break;
+        }
+        // A result published while the cursor was being added may not see it.
+        schedule(cursor);
+    }
+    
+    @Override
+    void unsubcribe(Subscription<DATA> subscription) {
+        for (val cursor : cursors.get().cursors) {
+            if (cursor.subscription == subscription) {
+                cursor.isStopped = true;
+                removeCursor(cursor);
+            }
+        }
+        synchronized (subscription) {
+            super.unsubcribe(subscription);
+        }
+    }
+    
+    /** Give the runner a drain task for the cursor -- unless there is one already. */
+    private void schedule(Cursor cursor) {
+        if (cursor.isScheduled.get() || !cursor.isScheduled.compareAndSet(false, true))
+            return;
+        
+        try {
+            runner.accept(() -> drain(cursor));
+        } catch (Throwable throwable) {
+            Throwables.noThrowLogger.get().accept(throwable);
+            stop(cursor);
+        }
+    }
+    
+    /** Deliver one batch then give the thread back. */
+    @SuppressWarnings("unchecked")
+    private void drain(Cursor cursor) {
+        val subscription = (Subscription<DATA>) cursor.subscription;
+        try {
+            long next = cursor.sequence + 1;
+            if (cursor.isStopped || !subscription.isActive()) {
+                stop(cursor);
+                return;
+            }
+            if (next > doneSequence) {
+                deliver(subscription, Result.ofNoMore());
+                stop(cursor);
+                return;
+            }
+            if (published.get((int) next & mask) >= next) {
+                next = deliverBatch(cursor, subscription, next);
+                cursor.sequence = next - 1;
+                signal();
+            }
+        } catch (Throwable throwable) {
+            Throwables.noThrowLogger.get().accept(throwable);
+            stop(cursor);
+            return;
+        }
+        
+        // A publisher that put a result before this sees the task as still scheduled -- so check again.
+        cursor.isScheduled.set(false);
+        if (isReady(cursor, cursor.sequence + 1)) {
+            schedule(cursor);
+        }
+    }
+    
+    /** Stop the cursor for good -- it stays scheduled so it is never run again. */
+    private void stop(Cursor cursor) {
+        cursor.isStopped = true;
+        removeCursor(cursor);
+    }
+    
+    /** @return the next sequence after delivering the available results -- skipping the overwritten ones. */
+    private long deliverBatch(Cursor cursor, Subscription<DATA> subscription, long next) {
+        synchronized (subscription) {
+            for (int count = 0; (count < maxBatchSize) && !cursor.isStopped && subscription.isActive(); ) {
+                int  index    = (int) next & mask;
+                long sequence = published.get(index);
+                if (sequence < next)
+                    break;
+                if (sequence > next) {
+                    // Overrun -- the oldest result that may still be there is in the lap of the sequence.
+                    next = sequence - capacity + 1;
+                    continue;
+                }
+                
+                val result = slots.get(index);
+                if (published.get(index) != next)
+                    continue;
+                
+                deliver(subscription, result);
+                next++;
+                count++;
+            }
+        }
+        return next;
+    }
+    
+    private void deliver(Subscription<DATA> subscription, Result<DATA> result) {
+        synchronized (subscription) {
+            try {
+                subscription.notifyNext(result);
+            } catch (Throwable throwable) {
+                Throwables.noThrowLogger.get().accept(throwable);
+            }
+        }
+    }
+    
+    private boolean isReady(Cursor cursor, long sequence) {
+        return cursor.isStopped
+            || !cursor.subscription.isActive()
+            || (published.get((int) sequence & mask) >= sequence)
+            || (sequence > doneSequence);
+    }
+    
+    private void removeCursor(Cursor cursor) {
+        while (true) {
+            val current = cursors.get();
+            int index   = -1;
+            for (int i = 0; i < current.cursors.length; i++) {
+                if (current.cursors[i] == cursor) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index == -1)
+                break;
+            
+            val array = new Cursor[current.cursors.length - 1];
+            System.arraycopy(current.cursors, 0,         array, 0,     index);
+            System.arraycopy(current.cursors, index + 1, array, index, array.length - index);
+            if (cursors.compareAndSet(current, new Cursors(array)))
+                break;
+        }
+        signal();
+    }
+    
+    //== Waiting ==
+    
+    private void await(BooleanSupplier isReady) {
+        if (waitStrategy == WaitStrategy.BUSY_SPIN) {
+            while (!isReady.getAsBoolean()) {
+            }
+            return;
+        }
+        if (waitStrategy == WaitStrategy.YIELDING) {
+            for (int tries = 0; !isReady.getAsBoolean(); tries++) {
+                if (tries >= SPIN_TRIES) {
+                    Thread.yield();
+                }
+            }
+            return;
+        }
+        
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            while (!isReady.getAsBoolean()) {
+                changed.await();
+            }
+        } catch (InterruptedException exception) {
+            throw Throwables.exceptionTransformer.get().apply(exception);
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+    
+    /** Wake up the waiting threads -- only takes the lock when there is one. */
+    private void signal() {
+        if (waiters.get() == 0)
+            return;
+        
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    //== Cursors ==
+    
+    /** The position of a subscription -- the sequence of the last delivered result. */
+    private static final class Cursor {
+        
+        final Subscription<?> subscription;
+        
+        volatile long    sequence;
+        volatile boolean isStopped = false;
+        
+        /** Whether there is a drain task for the cursor -- there is never more than one. */
+        final AtomicBoolean isScheduled = new AtomicBoolean(false);
+        
+        Cursor(Subscription<?> subscription) {
+            this.subscription = subscription;
+        }
+    }
+    
+    /** The copy-on-write array of the cursors with the cached minimum of their sequences. */
+    private static final class Cursors {
+        
+        final Cursor[] cursors;
+        
+        /** Never more than the minimum of the sequences -- written by the publishers. */
+        volatile long gatingSequence = Long.MIN_VALUE;
+        
+        Cursors(Cursor[] cursors) {
+            this.cursors = cursors;
+        }
+    }
+}
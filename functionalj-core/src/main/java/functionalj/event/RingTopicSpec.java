@@ -0,0 +1,224 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.event;
+
+import functionalj.environments.Env;
+import functionalj.promise.AsyncRunner;
+
+/**
+ * The specification of the asynchronous delivery of a {@link Publisher} through a ring buffer -- see {@link RingTopic}.
+ * It is immutable so it can be shared and derived from.
+ *
+ * By default, the buffer holds 1024 results, multiple threads may publish, the waiting threads block,
+ *   the publisher waits for the slowest subscription and the subscriptions are run by {@link Env#async()}.
+ *
+ * <pre>
+ * val publisher = RingTopicSpec.newSpec().bufferSize(4096).singleProducer().dropOldest().&lt;Event&gt;newPublisher();
+ * </pre>
+ */
+public final class RingTopicSpec {
+    
+    /** Who may publish. */
+    public static enum ProducerType {
+        /**
+         * Only one thread publishes at a time -- the sequence is claimed without contention.
+         * 
+         * This only covers the publishing. Completing the topic (directly or when the last subscription unsubscribes)
+         *   may happen on another thread and it is still safe as that final claim is made with compare-and-set.
+         */
+        SINGLE,
+        /** Any thread may publish. */
+        MULTI;
+    }
+    
+    /** How a publisher waits for a free slot -- the subscriptions never wait as they are only run when there are results. */
+    public static enum WaitStrategy {
+        /** Wait on a lock -- the publisher only takes the lock when someone is waiting. */
+        BLOCKING,
+        /** Spin for a while then yield the processor -- lower latency but keeps a processor busy. */
+        YIELDING,
+        /** Spin -- the lowest latency but needs a processor for each waiting thread. */
+        BUSY_SPIN;
+    }
+    
+    /** What the publisher does when the slowest subscription lags the whole buffer behind. */
+    public static enum LagPolicy {
+        /** Wait for the slowest subscription. */
+        BLOCK,
+        /** Overwrite the oldest result -- the subscriptions that have not got it skip it. */
+        DROP_OLDEST,
+        /** Throw an {@link IllegalStateException} (the final no-more result waits instead). */
+        FAIL;
+    }
+    
+    private static final RingTopicSpec DEFAULT = new RingTopicSpec(1024, 256, ProducerType.MULTI, WaitStrategy.BLOCKING, LagPolicy.BLOCK, null);
+    
+    /** @return the default spec -- to be refined. */
+    public static RingTopicSpec newSpec() {
+        return DEFAULT;
+    }
+    
+    private final int          bufferSize;
+    private final int          maxBatchSize;
+    private final ProducerType producerType;
+    private final WaitStrategy waitStrategy;
+    private final LagPolicy    lagPolicy;
+    private final AsyncRunner  runner;
+    
+    private RingTopicSpec(int bufferSize, int maxBatchSize, ProducerType producerType, WaitStrategy waitStrategy, LagPolicy lagPolicy, AsyncRunner runner) {
+        this.bufferSize   = bufferSize;
+        this.maxBatchSize = maxBatchSize;
+        this.producerType = producerType;
+        this.waitStrategy = waitStrategy;
+        this.lagPolicy    = lagPolicy;
+        this.runner       = runner;
+    }
+    
+    //== Buffer ==
+    
+    /** @return the number of the results the buffer holds -- a power of two. */
+    public int bufferSize() {
+        return bufferSize;
+    }
+    
+    /** @return the spec with the given buffer size -- a power of two. */
+    public RingTopicSpec bufferSize(int bufferSize) {
+        if ((bufferSize <= 0) || (Integer.bitCount(bufferSize) != 1))
+            throw new IllegalArgumentException("Buffer size must be a positive power of two: " + bufferSize);
+        return new RingTopicSpec(bufferSize, maxBatchSize, producerType, waitStrategy, lagPolicy, runner);
+    }
+    
+    /** @return the maximum number of the results delivered to a subscription before its cursor is moved. */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+    
+    /** @return the spec with the given maximum batch size. */
+    public RingTopicSpec maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize <= 0)
+            throw new IllegalArgumentException("Maximum batch size must be positive: " + maxBatchSize);
+        return new RingTopicSpec(bufferSize, maxBatchSize, producerType, waitStrategy, lagPolicy, runner);
+    }
+    
+    //== Producer ==
+    
+    /** @return who may publish. */
+    public ProducerType producerType() {
+        return producerType;
+    }
+    
+    /** @return the spec with the given producer type. */
+    public RingTopicSpec producerType(ProducerType producerType) {
+        if (producerType == null)
+            throw new NullPointerException("producerType");
+        return new RingTopicSpec(bufferSize, maxBatchSize, producerType, waitStrategy, lagPolicy, runner);
+    }
+    
+    /** @return the spec where only one thread publishes at a time. */
+    public RingTopicSpec singleProducer() {
+        return producerType(ProducerType.SINGLE);
+    }
+    
+    /** @return the spec where any thread may publish -- the default. */
+    public RingTopicSpec multiProducer() {
+        return producerType(ProducerType.MULTI);
+    }
+    
+    //== Waiting ==
+    
+    /** @return how the threads wait. */
+    public WaitStrategy waitStrategy() {
+        return waitStrategy;
+    }
+    
+    /** @return the spec with the given wait strategy. */
+    public RingTopicSpec waitStrategy(WaitStrategy waitStrategy) {
+        if (waitStrategy == null)
+            throw new NullPointerException("waitStrategy");
+        return new RingTopicSpec(bufferSize, maxBatchSize, producerType, waitStrategy, lagPolicy, runner);
+    }
+    
+    /** @return the policy when the slowest subscription lags the whole buffer behind. */
+    public LagPolicy lagPolicy() {
+        return lagPolicy;
+    }
+    
+    /** @return the spec with the given lag policy. */
+    public RingTopicSpec lagPolicy(LagPolicy lagPolicy) {
+        if (lagPolicy == null)
+            throw new NullPointerException("lagPolicy");
+        return new RingTopicSpec(bufferSize, maxBatchSize, producerType, waitStrategy, lagPolicy, runner);
+    }
+    
+    /** @return the spec where the publisher waits for the slowest subscription -- the default. */
+    public RingTopicSpec blockWhenFull() {
+        return lagPolicy(LagPolicy.BLOCK);
+    }
+    
+    /** @return the spec where the publisher overwrites the oldest result. */
+    public RingTopicSpec dropOldest() {
+        return lagPolicy(LagPolicy.DROP_OLDEST);
+    }
+    
+    /** @return the spec where the publisher fails. */
+    public RingTopicSpec failWhenFull() {
+        return lagPolicy(LagPolicy.FAIL);
+    }
+    
+    //== Runner ==
+    
+    /** @return the runner of the subscriptions or null for {@link Env#async()} at the time the publisher is created. */
+    public AsyncRunner runner() {
+        return runner;
+    }
+    
+    /** @return the spec with the given runner of the subscriptions -- a subscription only takes a thread for a batch of results. */
+    public RingTopicSpec runner(AsyncRunner runner) {
+        return new RingTopicSpec(bufferSize, maxBatchSize, producerType, waitStrategy, lagPolicy, runner);
+    }
+    
+    //== Build ==
+    
+    /**
+     * Create a new publisher that delivers asynchronously as specified.
+     * 
+     * @param <DATA>  the data type.
+     * @return        the publisher.
+     */
+    public <DATA> Publisher<DATA> newPublisher() {
+        return new Publisher<DATA>(this);
+    }
+    
+    @Override
+    public String toString() {
+        return "RingTopicSpec["
+                + "bufferSize: "   + bufferSize   + ", "
+                + "maxBatchSize: " + maxBatchSize + ", "
+                + "producerType: " + producerType + ", "
+                + "waitStrategy: " + waitStrategy + ", "
+                + "lagPolicy: "    + lagPolicy    + ", "
+                + "runner: "       + runner
+                + "]";
+    }
+}
@@ -24,6 +24,7 @@
 package functionalj.event;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import functionalj.exception.Throwables;
 import functionalj.function.Func1;
 import functionalj.result.Result;
 import lombok.val;
@@ -52,13 +53,12 @@ public class Subscription<DATA> {
     void notifyNext(Result<DATA> next) {
         if (!isActive.get())
             return;
-        // TODO - Add scheduling here.
         try {
             val cancellation = subscriber.apply(next);
             if (Subscription.Cancel.equals(cancellation))
                 unsubcribe();
         } catch (Exception e) {
-            // TODO: handle exception
+            Throwables.noThrowLogger.get().accept(e);
         }
         next.ifNoMore(() -> {
             isActive.set(false);
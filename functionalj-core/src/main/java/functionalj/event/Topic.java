@@ -24,19 +24,32 @@
 package functionalj.event;
 
 import static java.util.Objects.requireNonNull;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import functionalj.exception.Throwables;
 import functionalj.function.Func1;
 import functionalj.function.FuncUnit1;
 import functionalj.function.FuncUnit2;
-import functionalj.list.FuncList;
 import functionalj.result.Result;
 import lombok.val;
 
+/**
+ * A topic delivers the published results to its subscriptions -- synchronously on the publishing thread.
+ * 
+ * The subscriptions are kept in a copy-on-write array so publishing is just a loop over the array.
+ * For the asynchronous delivery through a ring buffer, see {@link RingTopic}.
+ *
+ * @param <DATA>  the data type.
+ */
 public class Topic<DATA> {
     
-    private final AtomicReference<FuncList<Subscription<DATA>>> subscriptions = new AtomicReference<>(FuncList.empty());
+    @SuppressWarnings("rawtypes")
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+    
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<Subscription<DATA>[]> subscriptions = new AtomicReference<>(NO_SUBSCRIPTIONS);
     
     private final AtomicBoolean isActive = new AtomicBoolean(true);
     
@@ -53,20 +66,34 @@ public class Topic<DATA> {
         return stillActive;
     }
     
+    @SuppressWarnings("unchecked")
     void done() {
         notifySubscription(Result.ofNoMore());
         isActive.set(false);
-        subscriptions.set(FuncList.empty());
+        subscriptions.set(NO_SUBSCRIPTIONS);
     }
     
-    private void notifySubscription(Result<DATA> result) {
-        subscriptions.get().filter(Subscription::isActive).forEach(sub -> {
+    /** @return true if this call deactivates the topic -- for the subclasses that deliver the final result themselves. */
+    @SuppressWarnings("unchecked")
+    boolean deactivate() {
+        if (!isActive.compareAndSet(true, false))
+            return false;
+        subscriptions.set(NO_SUBSCRIPTIONS);
+        return true;
+    }
+    
+    void notifySubscription(Result<DATA> result) {
+        val subs = subscriptions.get();
+        for (int i = 0; i < subs.length; i++) {
+            val sub = subs[i];
+            if (!sub.isActive())
+                continue;
             try {
                 sub.notifyNext(result);
             } catch (Throwable e) {
-                // TODO: handle exception
+                Throwables.noThrowLogger.get().accept(e);
             }
-        });
+        }
     }
     
     private <TOPIC> Topic<TOPIC> newSubTopic(FuncUnit2<Result<DATA>, Topic<TOPIC>> resultConsumer) {
@@ -125,23 +152,51 @@ public class Topic<DATA> {
     public Subscription<DATA> onNext(Func1<Result<DATA>, Cancellation> subscribe) {
         requireNonNull(subscribe);
         val subscription = new Subscription<DATA>(this, subscribe);
-        subscriptions.getAndUpdate(subs -> {
-            if (subs.isEmpty() && !isActive.get()) {
+        while (true) {
+            val subs = subscriptions.get();
+            if ((subs.length == 0) && !isActive.get()) {
                 unsubcribe(subscription);
-                return subs;
+                return subscription;
             }
-            return subs.append(subscription).toImmutableList();
-        });
+            val newSubs = Arrays.copyOf(subs, subs.length + 1);
+            newSubs[subs.length] = subscription;
+            if (subscriptions.compareAndSet(subs, newSubs))
+                break;
+        }
+        subscriptionAdded(subscription);
         return subscription;
     }
     
+    /** Called after the subscription is added -- for the subclasses that deliver to each subscription themselves. */
+    void subscriptionAdded(Subscription<DATA> subscription) {
+    }
+    
     void unsubcribe(Subscription<DATA> subscription) {
         subscription.notifyNext(Result.ofNoMore());
-        subscriptions.getAndUpdate(subs -> {
-            val newSub = subs.exclude(subscription).toImmutableList();
-            if (newSub.isEmpty())
+        while (true) {
+            val subs    = subscriptions.get();
+            val newSubs = exclude(subs, subscription);
+            if (!subscriptions.compareAndSet(subs, newSubs))
+                continue;
+            if (newSubs.length == 0)
                 done();
-            return newSub;
-        });
+            return;
+        }
+    }
+    
+    private static <DATA> Subscription<DATA>[] exclude(Subscription<DATA>[] subs, Subscription<DATA> subscription) {
+        int index = -1;
+        for (int i = 0; i < subs.length; i++) {
+            if (subs[i] == subscription) {
+                index = i;
+                break;
+            }
+        }
+        if (index == -1)
+            return subs;
+        
+        val newSubs = Arrays.copyOf(subs, subs.length - 1);
+        System.arraycopy(subs, index + 1, newSubs, index, subs.length - index - 1);
+        return newSubs;
     }
 }
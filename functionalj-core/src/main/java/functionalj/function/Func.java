@@ -27,7 +27,6 @@ import static java.util.Arrays.stream;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -40,8 +39,9 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import functionalj.environments.Env;
 import functionalj.exception.Throwables;
+import functionalj.function.cache.Cache;
+import functionalj.function.cache.CacheSpec;
 import functionalj.list.FuncList;
 import functionalj.list.ImmutableFuncList;
 import functionalj.supportive.CallerId;
@@ -1456,43 +1456,35 @@ public interface Func {
     
     // == Cache and Lazy ==
     public static <INPUT, OUTPUT> Func1<INPUT, OUTPUT> cacheFor(Function<INPUT, OUTPUT> inFunction) {
-        val cache = new ConcurrentHashMap<INPUT, OUTPUT>();
-        return in -> cache.computeIfAbsent(in, inFunction::apply);
+        return cacheFor(CacheSpec.unbounded(), inFunction);
     }
     
     public static <INPUT, OUTPUT> Func1<INPUT, OUTPUT> cacheFor(long timeMilliSecond, Function<INPUT, OUTPUT> inFunction) {
-        val cache = new ConcurrentHashMap<INPUT, OUTPUT>();
-        val expiredTime = new ConcurrentHashMap<INPUT, Long>();
-        return in -> {
-            if (expiredTime.contains(in) && expiredTime.get(in) > Env.time().currentMilliSecond()) {
-                cache.remove(in);
-            }
-            return cache.computeIfAbsent(in, key -> {
-                expiredTime.put(key, Env.time().currentMilliSecond() + timeMilliSecond);
-                return inFunction.apply(key);
-            });
-        };
+        return cacheFor(CacheSpec.newSpec().expireAfterWrite(timeMilliSecond), inFunction);
     }
     
-    @SuppressWarnings("unchecked")
+    /**
+     * Returns a function that caches the result of the given function as specified by the cache spec.
+     * 
+     * @param <INPUT>     the input type.
+     * @param <OUTPUT>    the output type.
+     * @param spec        the cache spec -- bound, expiry, value strength and statistics.
+     * @param inFunction  the function to be cached.
+     * @return            the cached function -- a {@link Cache}.
+     */
+    public static <INPUT, OUTPUT> Func1<INPUT, OUTPUT> cacheFor(CacheSpec spec, Function<INPUT, OUTPUT> inFunction) {
+        return Cache.of(spec, inFunction);
+    }
+    
+    /**
+     * Returns a function that computes the value once on the first call and returns the same value (or exception) after that.
+     * 
+     * @param <TYPE>    the value type.
+     * @param supplier  the supplier of the value.
+     * @return          the lazy function -- a {@link Once}.
+     */
     public static <TYPE> Func0<TYPE> lazy(Supplier<TYPE> supplier) {
-        val reference = new AtomicReference<Object>();
-        val startKey = new Object();
-        return () -> {
-            if (reference.compareAndSet(null, startKey)) {
-                try {
-                    val value = supplier.get();
-                    reference.set((Supplier<TYPE>) (() -> value));
-                } catch (RuntimeException e) {
-                    reference.set(e);
-                }
-            }
-            while (!(reference.get() instanceof Supplier)) {
-                if (reference.get() instanceof RuntimeException)
-                    throw (RuntimeException) reference.get();
-            }
-            return ((Supplier<TYPE>) reference.get()).get();
-        };
+        return Once.of(supplier);
     }
     
     // == Recursive ==
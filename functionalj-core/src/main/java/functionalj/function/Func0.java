@@ -113,7 +113,7 @@ public interface Func0<OUTPUT> extends Supplier<OUTPUT>, ComputeBody<OUTPUT, Run
     }
     
     public default Func0<OUTPUT> memoize() {
-        return Func0.from(Func.lazy(this));
+        return Once.of(this);
     }
     
     public default <TARGET> Func0<TARGET> then(Func1<OUTPUT, TARGET> mapper) {
@@ -35,6 +35,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import functionalj.exception.Throwables;
+import functionalj.function.cache.CacheSpec;
 import functionalj.list.FuncList;
 import functionalj.map.FuncMap;
 import functionalj.promise.DeferAction;
@@ -288,6 +289,16 @@ public interface Func1<INPUT, OUTPUT> extends Function<INPUT, OUTPUT> {
         return Func.cacheFor(this);
     }
     
+    /**
+     * Memoizes this function with a cache as specified -- for example, bounded in size or expired after some time.
+     *
+     * @param spec  the cache spec.
+     * @return a memoized version of this {@code Func1} that caches its results as specified
+     */
+    public default Func1<INPUT, OUTPUT> memoize(CacheSpec spec) {
+        return Func.cacheFor(spec, this);
+    }
+    
     /**
      * Compose this function to the given function.
      * NOTE: Too bad the name 'compose' is already been taken :-(
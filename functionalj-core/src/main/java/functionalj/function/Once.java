@@ -0,0 +1,211 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.function;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A value computed at most once on the first call -- the backing of {@link Func#lazy(Supplier)} and {@link Func0#memoize()}.
+ *
+ * The state (including the computed value) is kept in a single volatile field so reading the computed value
+ *   is just one volatile read.
+ * While the first caller computes, the other callers park (so a virtual thread yields its carrier)
+ *   until the result is ready instead of spinning.
+ * A returned value or a thrown exception is the result -- the same exception is thrown to every caller
+ *   ({@link #applyUnsafe()} throws it as is, {@link #get()} transforms the checked one as other {@link Func0}s do).
+ * An {@link Error} is not kept so the next call computes again.
+ *
+ * @param <TYPE>  the value type.
+ */
+public final class Once<TYPE> implements Func0<TYPE> {
+    
+    /**
+     * Create a once-cell that computes its value from the given supplier.
+     * If the supplier is a {@link Func0}, its checked exception is propagated as is.
+     *
+     * @param <TYPE>    the value type.
+     * @param supplier  the supplier.
+     * @return          the once-cell.
+     */
+    public static <TYPE> Once<TYPE> of(Supplier<TYPE> supplier) {
+        if (supplier instanceof Once)
+            return (Once<TYPE>) supplier;
+        return new Once<TYPE>(supplier);
+    }
+    
+    /** All the internal states extend this so they are not confused with a value. */
+    private static class State {
+    }
+    
+    private static final State UNSTARTED = new State();
+    private static final State NULL      = new State();
+    
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Once, Object> STATE = AtomicReferenceFieldUpdater.newUpdater(Once.class, Object.class, "state");
+    
+    /** The value (NULL for null) or the internal state. */
+    private volatile Object state = UNSTARTED;
+    
+    /** Released once computed -- read only by the computing thread. */
+    private Supplier<TYPE> supplier;
+    
+    private Once(Supplier<TYPE> supplier) {
+        if (supplier == null)
+            throw new NullPointerException("supplier");
+        this.supplier = supplier;
+    }
+    
+    /** @return true if the value (or the exception) is already computed. */
+    public boolean isComputed() {
+        Object current = state;
+        return !(current instanceof State) || (current == NULL) || (current instanceof Failed);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public TYPE applyUnsafe() throws Exception {
+        Object current = state;
+        if (!(current instanceof State))
+            return (TYPE) current;
+        return awaitValue(current);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private TYPE awaitValue(Object current) throws Exception {
+        while (true) {
+            if (!(current instanceof State))
+                return (TYPE) current;
+            if (current == NULL)
+                return null;
+            if (current instanceof Failed)
+                throw ((Failed) current).exception;
+            
+            if (current == UNSTARTED) {
+                Computing computing = new Computing();
+                if (STATE.compareAndSet(this, UNSTARTED, computing))
+                    return compute(computing);
+            } else {
+                ((Computing) current).await(this);
+            }
+            current = state;
+        }
+    }
+    
+    private TYPE compute(Computing computing) throws Exception {
+        try {
+            TYPE value = (supplier instanceof Func0) ? ((Func0<TYPE>) supplier).applyUnsafe() : supplier.get();
+            supplier = null;
+            state    = (value == null) ? NULL : value;
+            return value;
+        } catch (Exception exception) {
+            supplier = null;
+            state    = new Failed(exception);
+            throw exception;
+        } catch (Error error) {
+            state = UNSTARTED;
+            throw error;
+        } finally {
+            computing.release();
+        }
+    }
+    
+    @Override
+    public String toString() {
+        Object current = state;
+        if (current == UNSTARTED)
+            return "Once[-]";
+        if (current instanceof Computing)
+            return "Once[computing]";
+        if (current instanceof Failed)
+            return "Once[" + ((Failed) current).exception + "]";
+        return "Once[" + ((current == NULL) ? null : current) + "]";
+    }
+    
+    private static final class Failed extends State {
+        
+        final Exception exception;
+        
+        Failed(Exception exception) {
+            this.exception = exception;
+        }
+    }
+    
+    /** The state while computing -- holds the stack of the waiting threads. */
+    private static final class Computing extends State {
+        
+        private static final Waiter RELEASED = new Waiter(null);
+        
+        private static final AtomicReferenceFieldUpdater<Computing, Waiter> WAITERS = AtomicReferenceFieldUpdater.newUpdater(Computing.class, Waiter.class, "waiters");
+        
+        private final Thread owner = Thread.currentThread();
+        
+        private volatile Waiter waiters = null;
+        
+        void await(Once<?> once) {
+            if (owner == Thread.currentThread())
+                throw new IllegalStateException("Recursive computation of the once value.");
+            
+            Waiter waiter = new Waiter(Thread.currentThread());
+            while (true) {
+                Waiter head = waiters;
+                if (head == RELEASED)
+                    return;
+                
+                waiter.next = head;
+                if (WAITERS.compareAndSet(this, head, waiter))
+                    break;
+            }
+            
+            boolean isInterrupted = false;
+            while (once.state == this) {
+                LockSupport.park(once);
+                // Keep waiting (the computation is not ours to cancel) but keep the interrupt for the caller.
+                isInterrupted |= Thread.interrupted();
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        void release() {
+            Waiter waiter = WAITERS.getAndSet(this, RELEASED);
+            for (; waiter != null; waiter = waiter.next) {
+                LockSupport.unpark(waiter.thread);
+            }
+        }
+    }
+    
+    private static final class Waiter {
+        
+        final Thread thread;
+        
+        Waiter next;
+        
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
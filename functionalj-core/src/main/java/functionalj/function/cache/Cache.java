@@ -0,0 +1,830 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.function.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import functionalj.environments.Env;
+import functionalj.function.Func0;
+import functionalj.function.Func1;
+import functionalj.promise.DeferAction;
+import functionalj.promise.Promise;
+
+/**
+ * A concurrent cache as specified by a {@link CacheSpec} -- also a function that returns the cached value of the key.
+ *
+ * The entries live in a {@link ConcurrentHashMap} and a missing value is loaded without holding any lock:
+ *   the loading thread puts a placeholder node with a future of the load so other threads asking for the same key
+ *   wait on that future instead of loading again and loads of other keys (including recursive ones) are not blocked.
+ * A load that (directly or through other threads) waits for itself fails with an {@link IllegalStateException}.
+ *
+ * The eviction and expiry bookkeeping is done under a single lock.
+ * Writes take the lock while reads only record themselves in a lossy buffer which is drained when it is full
+ *   (if the lock is free) or on the next write -- so a read never waits for the lock.
+ * The time is taken from {@link Env#time()}.
+ *
+ * @param <KEY>    the key type.
+ * @param <VALUE>  the value type.
+ */
+public final class Cache<KEY, VALUE> implements Func1<KEY, VALUE> {
+    
+    /**
+     * Create a new cache.
+     *
+     * @param <KEY>    the key type.
+     * @param <VALUE>  the value type.
+     * @param spec     the cache spec.
+     * @param loader   the loader of the missing value.
+     * @return         the cache.
+     */
+    public static <KEY, VALUE> Cache<KEY, VALUE> of(CacheSpec spec, Function<? super KEY, ? extends VALUE> loader) {
+        return new Cache<KEY, VALUE>(spec, loader);
+    }
+    
+    private static final int WINDOW    = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    
+    private final CacheSpec                              spec;
+    private final Function<? super KEY, ? extends VALUE> loader;
+    
+    private final ConcurrentHashMap<KEY, Node<KEY, VALUE>> map        = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<KEY, Promise<VALUE>>   asyncLoads = new ConcurrentHashMap<>();
+    
+    /** The load each thread waits for -- to find the loads that wait for themselves (across the caches). */
+    private static final ConcurrentHashMap<Thread, Node<?, ?>> waitingLoads = new ConcurrentHashMap<>();
+    
+    private final boolean isBounded;
+    private final boolean isTinyLfu;
+    private final boolean expiresAfterWrite;
+    private final boolean expiresAfterAccess;
+    private final boolean tracksAccess;
+    private final boolean needsMaintenance;
+    private final boolean recordStats;
+    private final long    maximumSize;
+    private final long    windowMaximum;
+    private final long    protectedMaximum;
+    private final long    expireAfterWrite;
+    private final long    expireAfterAccess;
+    
+    private final ReferenceQueue<VALUE> referenceQueue;
+    
+    // == Policy -- guarded by the eviction lock. ==
+    
+    private final ReentrantLock               evictionLock   = new ReentrantLock();
+    private final AccessQueue<KEY, VALUE>     window         = new AccessQueue<>();
+    private final AccessQueue<KEY, VALUE>     probation      = new AccessQueue<>();
+    private final AccessQueue<KEY, VALUE>     protectedQueue = new AccessQueue<>();
+    private final WriteQueue<KEY, VALUE>      writeQueue     = new WriteQueue<>();
+    private final FrequencySketch             sketch;
+    private long                              policySize     = 0;
+    
+    private final AtomicReferenceArray<Node<KEY, VALUE>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicInteger                          readCount  = new AtomicInteger();
+    
+    // == Stats ==
+    
+    private final LongAdder hitCount         = new LongAdder();
+    private final LongAdder missCount        = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime    = new LongAdder();
+    private final LongAdder evictionCount    = new LongAdder();
+    
+    Cache(CacheSpec spec, Function<? super KEY, ? extends VALUE> loader) {
+        this.spec   = Objects.requireNonNull(spec, "spec");
+        this.loader = loader;
+        
+        this.isBounded          = spec.isBounded();
+        this.isTinyLfu          = isBounded && (spec.eviction() == CacheSpec.Eviction.TINY_LFU);
+        this.expiresAfterWrite  = spec.expiresAfterWrite();
+        this.expiresAfterAccess = spec.expiresAfterAccess();
+        this.tracksAccess       = isBounded || expiresAfterAccess;
+        this.recordStats        = spec.recordStats();
+        this.maximumSize        = spec.maximumSize();
+        this.expireAfterWrite   = spec.expireAfterWrite();
+        this.expireAfterAccess  = spec.expireAfterAccess();
+        this.referenceQueue     = (spec.valueStrength() == CacheSpec.ValueStrength.STRONG) ? null : new ReferenceQueue<VALUE>();
+        this.needsMaintenance   = tracksAccess || expiresAfterWrite || (referenceQueue != null);
+        
+        this.windowMaximum    = (maximumSize <= 0) ? 0 : Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 80 / 100;
+        this.sketch           = isTinyLfu ? new FrequencySketch(maximumSize) : null;
+    }
+    
+    /** @return the spec of this cache. */
+    public CacheSpec spec() {
+        return spec;
+    }
+    
+    @Override
+    public VALUE applyUnsafe(KEY key) throws Exception {
+        return get(key);
+    }
+    
+    /**
+     * Returns the value associated with the key -- loading it with the cache's loader if needed.
+     *
+     * @param key  the key.
+     * @return     the value or null if the loader returns null (which is not cached).
+     */
+    public VALUE get(KEY key) {
+        if (loader == null)
+            throw new IllegalStateException("This cache has no loader, use get(key, loader).");
+        return get(key, loader);
+    }
+    
+    /**
+     * Returns the value associated with the key -- loading it with the given loader if needed.
+     * Only one thread loads the value of a key at a time, the others wait for it.
+     *
+     * @param key     the key.
+     * @param loader  the loader.
+     * @return        the value or null if the loader returns null (which is not cached).
+     */
+    public VALUE get(KEY key, Function<? super KEY, ? extends VALUE> loader) {
+        Objects.requireNonNull(loader, "loader");
+        while (true) {
+            Node<KEY, VALUE> node = map.get(key);
+            if (node == null) {
+                Node<KEY, VALUE> newNode = new Node<>(key, true);
+                if (map.putIfAbsent(key, newNode) == null)
+                    return load(newNode, loader);
+                continue;
+            }
+            
+            Object stored = node.value;
+            if (stored == null) {
+                awaitLoad(node);
+                continue;
+            }
+            
+            VALUE value = hit(node, stored);
+            if (value != null)
+                return value;
+        }
+    }
+    
+    /**
+     * Returns the value associated with the key asynchronously -- loading it with the cache's loader if needed.
+     *
+     * @param key  the key.
+     * @return     the promise of the value.
+     */
+    public Promise<VALUE> getAsync(KEY key) {
+        if (loader == null)
+            throw new IllegalStateException("This cache has no loader, use getAsync(key, loader).");
+        return getAsync(key, loader);
+    }
+    
+    /**
+     * Returns the value associated with the key asynchronously -- loading it with the given loader if needed.
+     * A present value is returned as a completed promise and concurrent calls for the same key share the same promise.
+     *
+     * @param key     the key.
+     * @param loader  the loader.
+     * @return        the promise of the value.
+     */
+    public Promise<VALUE> getAsync(KEY key, Function<? super KEY, ? extends VALUE> loader) {
+        Objects.requireNonNull(loader, "loader");
+        Node<KEY, VALUE> node   = map.get(key);
+        Object           stored = (node != null) ? node.value : null;
+        if (stored != null) {
+            VALUE value = hit(node, stored);
+            if (value != null)
+                return Promise.ofValue(value);
+        }
+        
+        Promise<VALUE> pending = asyncLoads.get(key);
+        if (pending != null)
+            return pending;
+        
+        DeferAction<VALUE> action   = DeferAction.from((Func0<VALUE>) () -> get(key, loader));
+        Promise<VALUE>     promise  = action.getPromise();
+        Promise<VALUE>     existing = asyncLoads.putIfAbsent(key, promise);
+        if (existing != null)
+            return existing;
+        
+        promise.eavesdrop(result -> asyncLoads.remove(key, promise));
+        action.start();
+        return promise;
+    }
+    
+    /**
+     * Returns the value associated with the key without loading.
+     *
+     * @param key  the key.
+     * @return     the value or null if it is not in the cache.
+     */
+    public VALUE getIfPresent(Object key) {
+        Node<KEY, VALUE> node   = map.get(key);
+        Object           stored = (node != null) ? node.value : null;
+        if (stored != null) {
+            VALUE value = hit(node, stored);
+            if (value != null)
+                return value;
+        }
+        if (recordStats) {
+            missCount.increment();
+        }
+        return null;
+    }
+    
+    /**
+     * Associate the value with the key -- replacing the existing one.
+     *
+     * @param key    the key.
+     * @param value  the value.
+     */
+    public void put(KEY key, VALUE value) {
+        Objects.requireNonNull(key,   "key");
+        Objects.requireNonNull(value, "value");
+        
+        long             now  = currentTime();
+        Node<KEY, VALUE> node = new Node<>(key, false);
+        node.writeTime  = now;
+        node.accessTime = now;
+        node.value      = wrap(node, value);
+        
+        Node<KEY, VALUE> oldNode = map.put(key, node);
+        if (oldNode != null) {
+            retire(oldNode);
+        }
+        afterWrite(node, now);
+    }
+    
+    /**
+     * Remove the value associated with the key.
+     *
+     * @param key  the key.
+     */
+    public void invalidate(Object key) {
+        Node<KEY, VALUE> node = map.remove(key);
+        if (node != null) {
+            retire(node);
+        }
+    }
+    
+    /** Remove all the values. */
+    public void invalidateAll() {
+        for (KEY key : map.keySet()) {
+            invalidate(key);
+        }
+    }
+    
+    /** @return the approximate number of entries -- may include the expired or collected entries not yet cleaned up. */
+    public long estimatedSize() {
+        return map.size();
+    }
+    
+    /** Perform the pending eviction and expiry now -- normally done as the cache is used. */
+    public void cleanUp() {
+        if (!needsMaintenance)
+            return;
+        
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            maintain(currentTime());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+    
+    /** @return the snapshot of the statistics -- all zeros unless the spec records the statistics. */
+    public CacheStats stats() {
+        if (!recordStats)
+            return CacheStats.empty();
+        
+        return new CacheStats(
+                hitCount.sum(),
+                missCount.sum(),
+                loadSuccessCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadTime.sum(),
+                evictionCount.sum());
+    }
+    
+    @Override
+    public String toString() {
+        return "Cache[size: " + map.size() + ", spec: " + spec + "]";
+    }
+    
+    //== Internal ==
+    
+    private VALUE load(Node<KEY, VALUE> node, Function<? super KEY, ? extends VALUE> loader) {
+        long startTime = recordStats ? System.nanoTime() : 0L;
+        if (recordStats) {
+            missCount.increment();
+        }
+        
+        VALUE value;
+        try {
+            value = loader.apply(node.key);
+        } catch (RuntimeException | Error exception) {
+            discard(node, startTime);
+            loaded(node);
+            throw exception;
+        }
+        if (value == null) {
+            discard(node, startTime);
+            loaded(node);
+            return null;
+        }
+        
+        if (recordStats) {
+            loadSuccessCount.increment();
+            totalLoadTime.add(System.nanoTime() - startTime);
+        }
+        
+        long now = currentTime();
+        node.writeTime  = now;
+        node.accessTime = now;
+        node.value      = wrap(node, value);
+        // Release the waiting threads before the eviction work.
+        loaded(node);
+        afterWrite(node, now);
+        return value;
+    }
+    
+    private static void loaded(Node<?, ?> node) {
+        node.loader = null;
+        node.loading.complete(null);
+    }
+    
+    private void discard(Node<KEY, VALUE> node, long startTime) {
+        node.isRetired = true;
+        map.remove(node.key, node);
+        if (recordStats) {
+            loadFailureCount.increment();
+            totalLoadTime.add(System.nanoTime() - startTime);
+        }
+    }
+    
+    /** Wait until the load of the node is done (either way) -- or throws if that load waits for this thread. */
+    private static void awaitLoad(Node<?, ?> node) {
+        Thread current = Thread.currentThread();
+        synchronized (waitingLoads) {
+            for (Node<?, ?> waited = node; waited != null; ) {
+                Thread loader = waited.loader;
+                if (loader == current)
+                    throw new IllegalStateException("Recursive load of the key: " + node.key);
+                if (loader == null)
+                    break;
+                waited = waitingLoads.get(loader);
+            }
+            waitingLoads.put(current, node);
+        }
+        try {
+            node.loading.join();
+        } finally {
+            waitingLoads.remove(current);
+        }
+    }
+    
+    /** Returns the value if it is still alive (and record the hit) -- otherwise, remove the node and returns null. */
+    private VALUE hit(Node<KEY, VALUE> node, Object stored) {
+        long  now   = currentTime();
+        VALUE value = unwrap(stored);
+        if ((value == null) || isExpired(node, now)) {
+            removeStale(node);
+            return null;
+        }
+        if (recordStats) {
+            hitCount.increment();
+        }
+        afterRead(node, now);
+        return value;
+    }
+    
+    private long currentTime() {
+        return (expiresAfterWrite || expiresAfterAccess) ? Env.time().currentMilliSecond() : 0L;
+    }
+    
+    private boolean isExpired(Node<KEY, VALUE> node, long now) {
+        return (expiresAfterWrite  && ((now - node.writeTime)  >= expireAfterWrite))
+            || (expiresAfterAccess && ((now - node.accessTime) >= expireAfterAccess));
+    }
+    
+    private Object wrap(Node<KEY, VALUE> node, VALUE value) {
+        if (referenceQueue == null)
+            return value;
+        if (spec.valueStrength() == CacheSpec.ValueStrength.WEAK)
+            return new WeakValue<KEY, VALUE>(node, value, referenceQueue);
+        return new SoftValue<KEY, VALUE>(node, value, referenceQueue);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private VALUE unwrap(Object stored) {
+        if (referenceQueue == null)
+            return (VALUE) stored;
+        return ((Reference<VALUE>) stored).get();
+    }
+    
+    private void removeStale(Node<KEY, VALUE> node) {
+        if (map.remove(node.key, node)) {
+            if (recordStats) {
+                evictionCount.increment();
+            }
+            retire(node);
+        }
+    }
+    
+    private void retire(Node<KEY, VALUE> node) {
+        node.isRetired = true;
+        if (!needsMaintenance)
+            return;
+        
+        evictionLock.lock();
+        try {
+            removeFromPolicy(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+    
+    private void afterRead(Node<KEY, VALUE> node, long now) {
+        if (expiresAfterAccess) {
+            node.accessTime = now;
+        }
+        if (!needsMaintenance)
+            return;
+        
+        int index = readCount.getAndIncrement() & READ_BUFFER_MASK;
+        if (tracksAccess) {
+            readBuffer.lazySet(index, node);
+        }
+        if ((index == READ_BUFFER_MASK) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+                maintain(currentTime());
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+    
+    private void afterWrite(Node<KEY, VALUE> node, long now) {
+        if (!needsMaintenance)
+            return;
+        
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            addToPolicy(node);
+            maintain(now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+    
+    //-- Under the eviction lock --
+    
+    private void drainReadBuffer() {
+        if (!tracksAccess)
+            return;
+        
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node<KEY, VALUE> node = readBuffer.getAndSet(i, null);
+            if (node != null) {
+                onAccess(node);
+            }
+        }
+    }
+    
+    private void addToPolicy(Node<KEY, VALUE> node) {
+        if (node.isRetired || node.inPolicy)
+            return;
+        
+        node.inPolicy = true;
+        policySize++;
+        if (tracksAccess) {
+            node.queue = WINDOW;
+            window.add(node);
+        }
+        if (expiresAfterWrite) {
+            writeQueue.add(node);
+        }
+        if (isTinyLfu) {
+            sketch.increment(node.key);
+        }
+    }
+    
+    private void removeFromPolicy(Node<KEY, VALUE> node) {
+        if (!node.inPolicy)
+            return;
+        
+        node.inPolicy = false;
+        policySize--;
+        if (tracksAccess) {
+            queueOf(node).remove(node);
+        }
+        if (expiresAfterWrite) {
+            writeQueue.remove(node);
+        }
+    }
+    
+    private AccessQueue<KEY, VALUE> queueOf(Node<KEY, VALUE> node) {
+        return (node.queue == WINDOW)    ? window
+             : (node.queue == PROBATION) ? probation
+             :                             protectedQueue;
+    }
+    
+    private void onAccess(Node<KEY, VALUE> node) {
+        if (!node.inPolicy)
+            return;
+        if (!isTinyLfu) {
+            window.moveToTail(node);
+            return;
+        }
+        
+        sketch.increment(node.key);
+        if (node.queue == WINDOW) {
+            window.moveToTail(node);
+        } else if (node.queue == PROTECTED) {
+            protectedQueue.moveToTail(node);
+        } else {
+            // Used again while on probation -- promote it and demote the least recently used protected ones.
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedQueue.add(node);
+            while (protectedQueue.size > protectedMaximum) {
+                Node<KEY, VALUE> demoted = protectedQueue.head;
+                protectedQueue.remove(demoted);
+                demoted.queue = PROBATION;
+                probation.add(demoted);
+            }
+        }
+    }
+    
+    private void maintain(long now) {
+        drainReferences();
+        expireEntries(now);
+        evictEntries();
+    }
+    
+    private void drainReferences() {
+        if (referenceQueue == null)
+            return;
+        
+        Reference<? extends VALUE> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            @SuppressWarnings("unchecked")
+            Node<KEY, VALUE> node = ((ValueReference<KEY, VALUE>) reference).node();
+            if (node.value == reference) {
+                evict(node);
+            }
+        }
+    }
+    
+    private void expireEntries(long now) {
+        if (expiresAfterAccess) {
+            expireAccessed(window,         now);
+            expireAccessed(probation,      now);
+            expireAccessed(protectedQueue, now);
+        }
+        if (expiresAfterWrite) {
+            while ((writeQueue.head != null) && ((now - writeQueue.head.writeTime) >= expireAfterWrite)) {
+                evict(writeQueue.head);
+            }
+        }
+    }
+    
+    private void expireAccessed(AccessQueue<KEY, VALUE> queue, long now) {
+        while ((queue.head != null) && ((now - queue.head.accessTime) >= expireAfterAccess)) {
+            evict(queue.head);
+        }
+    }
+    
+    private void evictEntries() {
+        if (!isBounded)
+            return;
+        
+        if (!isTinyLfu) {
+            while (policySize > maximumSize) {
+                evict(window.head);
+            }
+            return;
+        }
+        
+        // The ones falling out of the window become the candidates at the tail of the probation.
+        while (window.size > windowMaximum) {
+            Node<KEY, VALUE> candidate = window.head;
+            window.remove(candidate);
+            candidate.queue = PROBATION;
+            probation.add(candidate);
+        }
+        while (policySize > maximumSize) {
+            Node<KEY, VALUE> candidate = probation.tail;
+            Node<KEY, VALUE> victim    = probation.head;
+            if (victim == null) {
+                victim = (protectedQueue.head != null) ? protectedQueue.head : window.head;
+            }
+            if ((candidate == null) || (candidate == victim)) {
+                evict(victim);
+                continue;
+            }
+            
+            // Admit the candidate only if it is used more often than the victim.
+            boolean admit = sketch.frequency(candidate.key) > sketch.frequency(victim.key);
+            evict(admit ? victim : candidate);
+        }
+    }
+    
+    private void evict(Node<KEY, VALUE> node) {
+        removeFromPolicy(node);
+        if (map.remove(node.key, node)) {
+            node.isRetired = true;
+            if (recordStats) {
+                evictionCount.increment();
+            }
+        }
+    }
+    
+    //== Node ==
+    
+    private static final class Node<KEY, VALUE> {
+        
+        final KEY key;
+        
+        /** The value (or a reference to it) -- null while loading. */
+        volatile Object value;
+        
+        /** Completes when the load is done (either way) -- null for the put value. */
+        final CompletableFuture<Void> loading;
+        
+        /** The thread loading the value -- null once done. */
+        volatile Thread loader;
+        
+        volatile long writeTime;
+        
+        volatile long accessTime;
+        
+        volatile boolean isRetired = false;
+        
+        // Guarded by the eviction lock.
+        boolean          inPolicy = false;
+        int              queue    = WINDOW;
+        Node<KEY, VALUE> accessPrev;
+        Node<KEY, VALUE> accessNext;
+        Node<KEY, VALUE> writePrev;
+        Node<KEY, VALUE> writeNext;
+        
+        Node(KEY key, boolean isLoading) {
+            this.key     = key;
+            this.loading = isLoading ? new CompletableFuture<Void>() : null;
+            this.loader  = isLoading ? Thread.currentThread() : null;
+        }
+    }
+    
+    /** Nodes in the order of access -- least recent at the head. */
+    private static final class AccessQueue<KEY, VALUE> {
+        
+        Node<KEY, VALUE> head;
+        Node<KEY, VALUE> tail;
+        long             size;
+        
+        void add(Node<KEY, VALUE> node) {
+            node.accessPrev = tail;
+            node.accessNext = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.accessNext = node;
+            }
+            tail = node;
+            size++;
+        }
+        
+        void remove(Node<KEY, VALUE> node) {
+            Node<KEY, VALUE> prev = node.accessPrev;
+            Node<KEY, VALUE> next = node.accessNext;
+            if (prev == null) {
+                head = next;
+            } else {
+                prev.accessNext = next;
+            }
+            if (next == null) {
+                tail = prev;
+            } else {
+                next.accessPrev = prev;
+            }
+            node.accessPrev = null;
+            node.accessNext = null;
+            size--;
+        }
+        
+        void moveToTail(Node<KEY, VALUE> node) {
+            if (node != tail) {
+                remove(node);
+                add(node);
+            }
+        }
+    }
+    
+    /** Nodes in the order of write -- oldest at the head. */
+    private static final class WriteQueue<KEY, VALUE> {
+        
+        Node<KEY, VALUE> head;
+        Node<KEY, VALUE> tail;
+        
+        void add(Node<KEY, VALUE> node) {
+            node.writePrev = tail;
+            node.writeNext = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.writeNext = node;
+            }
+            tail = node;
+        }
+        
+        void remove(Node<KEY, VALUE> node) {
+            Node<KEY, VALUE> prev = node.writePrev;
+            Node<KEY, VALUE> next = node.writeNext;
+            if (prev == null) {
+                head = next;
+            } else {
+                prev.writeNext = next;
+            }
+            if (next == null) {
+                tail = prev;
+            } else {
+                next.writePrev = prev;
+            }
+            node.writePrev = null;
+            node.writeNext = null;
+        }
+    }
+    
+    //== Value references ==
+    
+    private static interface ValueReference<KEY, VALUE> {
+        Node<KEY, VALUE> node();
+    }
+    
+    private static final class WeakValue<KEY, VALUE> extends WeakReference<VALUE> implements ValueReference<KEY, VALUE> {
+        
+        private final Node<KEY, VALUE> node;
+        
+        WeakValue(Node<KEY, VALUE> node, VALUE value, ReferenceQueue<VALUE> queue) {
+            super(value, queue);
+            this.node = node;
+        }
+        
+        @Override
+        public Node<KEY, VALUE> node() {
+            return node;
+        }
+    }
+    
+    private static final class SoftValue<KEY, VALUE> extends SoftReference<VALUE> implements ValueReference<KEY, VALUE> {
+        
+        private final Node<KEY, VALUE> node;
+        
+        SoftValue(Node<KEY, VALUE> node, VALUE value, ReferenceQueue<VALUE> queue) {
+            super(value, queue);
+            this.node = node;
+        }
+        
+        @Override
+        public Node<KEY, VALUE> node() {
+            return node;
+        }
+    }
+}
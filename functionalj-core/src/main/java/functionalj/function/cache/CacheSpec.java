@@ -0,0 +1,255 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.function.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The specification of a {@link Cache} -- immutable so it can be shared and derived from.
+ *
+ * By default, a cache is unbounded, never expires, holds its values strongly and does not record statistics.
+ *
+ * <pre>
+ * val spec = CacheSpec.newSpec().maximumSize(10_000).expireAfterWrite(5, TimeUnit.MINUTES).recordStats();
+ * val cachedLookup = lookup.memoize(spec);
+ * </pre>
+ */
+public final class CacheSpec {
+    
+    /** The policy to choose the entry to evict when the cache is full. */
+    public static enum Eviction {
+        /** Evict the least recently used entry. */
+        LRU,
+        /** Window TinyLFU -- admit an entry to the main space only if it is used more frequently than the one it replaces. */
+        TINY_LFU;
+    }
+    
+    /** How the values are held by the cache. */
+    public static enum ValueStrength {
+        STRONG,
+        /** The values can be garbage collected once they are no longer strongly reachable from elsewhere. */
+        WEAK,
+        /** The values can be garbage collected when the memory is low. */
+        SOFT;
+    }
+    
+    static final long UNSET = -1L;
+    
+    private static final CacheSpec UNBOUNDED = new CacheSpec(UNSET, Eviction.TINY_LFU, UNSET, UNSET, ValueStrength.STRONG, false);
+    
+    /** @return the spec of an unbounded cache -- to be refined. */
+    public static CacheSpec newSpec() {
+        return UNBOUNDED;
+    }
+    
+    /** @return the spec of an unbounded cache that never expires. */
+    public static CacheSpec unbounded() {
+        return UNBOUNDED;
+    }
+    
+    private final long          maximumSize;
+    private final Eviction      eviction;
+    private final long          expireAfterWrite;
+    private final long          expireAfterAccess;
+    private final ValueStrength valueStrength;
+    private final boolean       recordStats;
+    
+    private CacheSpec(long maximumSize, Eviction eviction, long expireAfterWrite, long expireAfterAccess, ValueStrength valueStrength, boolean recordStats) {
+        this.maximumSize       = maximumSize;
+        this.eviction          = eviction;
+        this.expireAfterWrite  = expireAfterWrite;
+        this.expireAfterAccess = expireAfterAccess;
+        this.valueStrength     = valueStrength;
+        this.recordStats       = recordStats;
+    }
+    
+    //== Bound ==
+    
+    /** @return the maximum number of entries or -1 for unbounded. */
+    public long maximumSize() {
+        return maximumSize;
+    }
+    
+    /** @return the spec with the given maximum number of entries. */
+    public CacheSpec maximumSize(long maximumSize) {
+        if (maximumSize < 0)
+            throw new IllegalArgumentException("Maximum size must not be negative: " + maximumSize);
+        return new CacheSpec(maximumSize, eviction, expireAfterWrite, expireAfterAccess, valueStrength, recordStats);
+    }
+    
+    /** @return the spec without the maximum number of entries. */
+    public CacheSpec unboundedSize() {
+        return new CacheSpec(UNSET, eviction, expireAfterWrite, expireAfterAccess, valueStrength, recordStats);
+    }
+    
+    /** @return the eviction policy used once the cache is full. */
+    public Eviction eviction() {
+        return eviction;
+    }
+    
+    /** @return the spec with the given eviction policy. */
+    public CacheSpec eviction(Eviction eviction) {
+        if (eviction == null)
+            throw new NullPointerException("eviction");
+        return new CacheSpec(maximumSize, eviction, expireAfterWrite, expireAfterAccess, valueStrength, recordStats);
+    }
+    
+    /** @return the spec that evicts the least recently used entry. */
+    public CacheSpec lru() {
+        return eviction(Eviction.LRU);
+    }
+    
+    /** @return the spec that evicts using Window TinyLFU -- the default. */
+    public CacheSpec tinyLfu() {
+        return eviction(Eviction.TINY_LFU);
+    }
+    
+    //== Expiry ==
+    
+    /** @return the millisecond an entry lives after it is written or -1 for never. */
+    public long expireAfterWrite() {
+        return expireAfterWrite;
+    }
+    
+    /** @return the spec where an entry expires the given milliseconds after it is written. */
+    public CacheSpec expireAfterWrite(long milliseconds) {
+        if (milliseconds < 0)
+            throw new IllegalArgumentException("Expiry must not be negative: " + milliseconds);
+        return new CacheSpec(maximumSize, eviction, milliseconds, expireAfterAccess, valueStrength, recordStats);
+    }
+    
+    /** @return the spec where an entry expires the given duration after it is written. */
+    public CacheSpec expireAfterWrite(long duration, TimeUnit unit) {
+        return expireAfterWrite(unit.toMillis(duration));
+    }
+    
+    /** @return the millisecond an entry lives after it is last read or written or -1 for never. */
+    public long expireAfterAccess() {
+        return expireAfterAccess;
+    }
+    
+    /** @return the spec where an entry expires the given milliseconds after it is last read or written. */
+    public CacheSpec expireAfterAccess(long milliseconds) {
+        if (milliseconds < 0)
+            throw new IllegalArgumentException("Expiry must not be negative: " + milliseconds);
+        return new CacheSpec(maximumSize, eviction, expireAfterWrite, milliseconds, valueStrength, recordStats);
+    }
+    
+    /** @return the spec where an entry expires the given duration after it is last read or written. */
+    public CacheSpec expireAfterAccess(long duration, TimeUnit unit) {
+        return expireAfterAccess(unit.toMillis(duration));
+    }
+    
+    //== Value ==
+    
+    /** @return how the values are held. */
+    public ValueStrength valueStrength() {
+        return valueStrength;
+    }
+    
+    /** @return the spec with the values held in the given way. */
+    public CacheSpec valueStrength(ValueStrength valueStrength) {
+        if (valueStrength == null)
+            throw new NullPointerException("valueStrength");
+        return new CacheSpec(maximumSize, eviction, expireAfterWrite, expireAfterAccess, valueStrength, recordStats);
+    }
+    
+    /** @return the spec with the values held weakly. */
+    public CacheSpec weakValues() {
+        return valueStrength(ValueStrength.WEAK);
+    }
+    
+    /** @return the spec with the values held softly. */
+    public CacheSpec softValues() {
+        return valueStrength(ValueStrength.SOFT);
+    }
+    
+    //== Stats ==
+    
+    /** @return true if the cache records its statistics. */
+    public boolean recordStats() {
+        return recordStats;
+    }
+    
+    /** @return the spec that records the statistics. */
+    public CacheSpec withStats() {
+        return recordStats(true);
+    }
+    
+    /** @return the spec that records (or not) the statistics. */
+    public CacheSpec recordStats(boolean recordStats) {
+        return new CacheSpec(maximumSize, eviction, expireAfterWrite, expireAfterAccess, valueStrength, recordStats);
+    }
+    
+    //== Build ==
+    
+    /**
+     * Create a new cache that loads the missing value using the given loader.
+     *
+     * @param <KEY>    the key type.
+     * @param <VALUE>  the value type.
+     * @param loader   the loader.
+     * @return         the cache.
+     */
+    public <KEY, VALUE> Cache<KEY, VALUE> build(Function<? super KEY, ? extends VALUE> loader) {
+        return new Cache<KEY, VALUE>(this, loader);
+    }
+    
+    /**
+     * Create a new cache without a loader -- the values are added by {@link Cache#put(Object, Object)}
+     *   or loaded by {@link Cache#get(Object, Function)}.
+     *
+     * @param <KEY>    the key type.
+     * @param <VALUE>  the value type.
+     * @return         the cache.
+     */
+    public <KEY, VALUE> Cache<KEY, VALUE> build() {
+        return new Cache<KEY, VALUE>(this, null);
+    }
+    
+    boolean isBounded() {
+        return maximumSize != UNSET;
+    }
+    
+    boolean expiresAfterWrite() {
+        return expireAfterWrite != UNSET;
+    }
+    
+    boolean expiresAfterAccess() {
+        return expireAfterAccess != UNSET;
+    }
+    
+    @Override
+    public String toString() {
+        return "CacheSpec["
+                + "maximumSize: "       + maximumSize       + ", "
+                + "eviction: "          + eviction          + ", "
+                + "expireAfterWrite: "  + expireAfterWrite  + ", "
+                + "expireAfterAccess: " + expireAfterAccess + ", "
+                + "valueStrength: "     + valueStrength     + ", "
+                + "recordStats: "       + recordStats
+                + "]";
+    }
+}
@@ -0,0 +1,159 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.function.cache;
+
+/**
+ * A snapshot of the statistics of a {@link Cache} -- all zeros unless the cache spec records the statistics.
+ */
+public final class CacheStats {
+    
+    private static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0);
+    
+    /** @return the statistics with all the counts being zero. */
+    public static CacheStats empty() {
+        return EMPTY;
+    }
+    
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+    
+    public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime, long evictionCount) {
+        this.hitCount         = hitCount;
+        this.missCount        = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime    = totalLoadTime;
+        this.evictionCount    = evictionCount;
+    }
+    
+    /** @return the number of lookups that found the value. */
+    public long hitCount() {
+        return hitCount;
+    }
+    
+    /** @return the number of lookups that did not find the value. */
+    public long missCount() {
+        return missCount;
+    }
+    
+    /** @return the number of lookups. */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+    
+    /** @return the ratio of the lookups that found the value -- 1.0 when there is no lookup. */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return (requestCount == 0) ? 1.0 : (double) hitCount / requestCount;
+    }
+    
+    /** @return the ratio of the lookups that did not find the value -- 0.0 when there is no lookup. */
+    public double missRate() {
+        long requestCount = requestCount();
+        return (requestCount == 0) ? 0.0 : (double) missCount / requestCount;
+    }
+    
+    /** @return the number of loads that returned a value. */
+    public long loadSuccessCount() {
+        return loadSuccessCount;
+    }
+    
+    /** @return the number of loads that threw an exception or returned null. */
+    public long loadFailureCount() {
+        return loadFailureCount;
+    }
+    
+    /** @return the total nanoseconds spent loading. */
+    public long totalLoadTime() {
+        return totalLoadTime;
+    }
+    
+    /** @return the average nanoseconds spent per load. */
+    public double averageLoadPenalty() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return (loadCount == 0) ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+    
+    /** @return the number of entries removed by the size bound, the expiry or the garbage collection. */
+    public long evictionCount() {
+        return evictionCount;
+    }
+    
+    /**
+     * @param other  the statistics to subtract.
+     * @return the difference between this statistics and the given one -- useful to measure a period.
+     */
+    public CacheStats minus(CacheStats other) {
+        return new CacheStats(
+                Math.max(0, hitCount         - other.hitCount),
+                Math.max(0, missCount        - other.missCount),
+                Math.max(0, loadSuccessCount - other.loadSuccessCount),
+                Math.max(0, loadFailureCount - other.loadFailureCount),
+                Math.max(0, totalLoadTime    - other.totalLoadTime),
+                Math.max(0, evictionCount    - other.evictionCount));
+    }
+    
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        hashCode = 31*hashCode + Long.hashCode(hitCount);
+        hashCode = 31*hashCode + Long.hashCode(missCount);
+        hashCode = 31*hashCode + Long.hashCode(loadSuccessCount);
+        hashCode = 31*hashCode + Long.hashCode(loadFailureCount);
+        hashCode = 31*hashCode + Long.hashCode(totalLoadTime);
+        hashCode = 31*hashCode + Long.hashCode(evictionCount);
+        return hashCode;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
+        if (!(obj instanceof CacheStats))
+            return false;
+        CacheStats that = (CacheStats) obj;
+        return (hitCount         == that.hitCount)
+            && (missCount        == that.missCount)
+            && (loadSuccessCount == that.loadSuccessCount)
+            && (loadFailureCount == that.loadFailureCount)
+            && (totalLoadTime    == that.totalLoadTime)
+            && (evictionCount    == that.evictionCount);
+    }
+    
+    @Override
+    public String toString() {
+        return "CacheStats["
+                + "hitCount: "         + hitCount         + ", "
+                + "missCount: "        + missCount        + ", "
+                + "loadSuccessCount: " + loadSuccessCount + ", "
+                + "loadFailureCount: " + loadFailureCount + ", "
+                + "totalLoadTime: "    + totalLoadTime    + ", "
+                + "evictionCount: "    + evictionCount
+                + "]";
+    }
+}
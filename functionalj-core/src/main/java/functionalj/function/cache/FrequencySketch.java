@@ -0,0 +1,117 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.function.cache;
+
+/**
+ * Approximate access frequency of the keys (a count-min sketch with 4-bit counters) used by the TinyLFU admission.
+ *
+ * Each long in the table holds sixteen counters and a key uses four of them (one per hash function) in one long each.
+ * Once the number of increments reaches the sample size, all the counters are halved
+ *   so the frequency reflects the recent history.
+ *
+ * This class is not thread-safe -- the cache only uses it under its eviction lock.
+ */
+final class FrequencySketch {
+    
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK   = 0x1111111111111111L;
+    
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L,
+            0xb492b66fbe98f273L,
+            0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L
+    };
+    
+    private final long[] table;
+    private final int    tableMask;
+    private final int    sampleSize;
+    
+    private int size = 0;
+    
+    FrequencySketch(long maximumSize) {
+        int capacity = (int) Math.min(Math.max(maximumSize, 16), 1 << 26);
+        int length   = Integer.highestOneBit(capacity - 1) << 1;
+        this.table      = new long[length];
+        this.tableMask  = length - 1;
+        this.sampleSize = 10 * capacity;
+    }
+    
+    /** @return the estimated number of times the key is used (at most 15). */
+    int frequency(Object key) {
+        int hash      = spread(key.hashCode());
+        int start     = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+    
+    /** Record a use of the key. */
+    void increment(Object key) {
+        int     hash  = spread(key.hashCode());
+        int     start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && (++size == sampleSize)) {
+            reset();
+        }
+    }
+    
+    private boolean incrementAt(int index, int counter) {
+        int  offset = counter << 2;
+        long mask   = 0xfL << offset;
+        if ((table[index] & mask) == mask)
+            return false;
+        
+        table[index] += 1L << offset;
+        return true;
+    }
+    
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd     += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+    
+    private int indexOf(int hash, int i) {
+        long index = (hash + SEEDS[i]) * SEEDS[i];
+        index += (index >>> 32);
+        return ((int) index) & tableMask;
+    }
+    
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -53,6 +53,9 @@ import functionalj.function.Func6;
 import functionalj.function.Func7;
 import functionalj.function.Func8;
 import functionalj.function.Func9;
+import functionalj.function.cache.Cache;
+import functionalj.function.cache.CacheSpec;
+import functionalj.function.cache.CacheStats;
 import functionalj.functions.RegExMatchResult.RegExMatchResultStreamAccess;
 import functionalj.lens.lenses.FuncListAccess;
 import functionalj.lens.lenses.FuncMapAccess;
@@ -70,14 +73,45 @@ public class StrFuncs {
     
     public static Pattern GROUP_NAME_PATTERN = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
     
+    /** The maximum number of the compiled patterns (and of their group names) kept for reuse. */
+    public static final int REGEX_CACHE_SIZE = 1024;
+    
+    private static final Pattern NEW_LINE_PATTERN = Pattern.compile("(\n|\r\n?)");
+    
+    private static final Cache<RegExKey, Pattern> regexCache = CacheSpec.newSpec().maximumSize(REGEX_CACHE_SIZE).withStats().build(RegExKey::compile);
+    
+    private static final Cache<Pattern, FuncList<String>> groupNameCache = CacheSpec.newSpec().maximumSize(REGEX_CACHE_SIZE).build(StrFuncs::findGroupNames);
+    
     @SuppressWarnings("unused")
     private static final Map<Integer, String> indentTabs = new ConcurrentHashMap<>();
     
     /**
      * Create a regular expression pattern from a string.
+     * The compiled pattern is cached and shared (a pattern is immutable).
      **/
     public static Pattern regex(String pattern) {
-        return Pattern.compile(pattern);
+        return regex(pattern, 0);
+    }
+    
+    /**
+     * Create a regular expression pattern from a string with the flags.
+     * The compiled pattern is cached and shared (a pattern is immutable).
+     **/
+    public static Pattern regex(String pattern, RegExFlag flags) {
+        return regex(pattern, (flags != null) ? flags.getIntValue() : 0);
+    }
+    
+    /**
+     * Create a regular expression pattern from a string with the flags (negative for no flag).
+     * The compiled pattern is cached and shared (a pattern is immutable).
+     **/
+    public static Pattern regex(String pattern, int flags) {
+        return regexCache.get(new RegExKey(pattern, Math.max(flags, 0)));
+    }
+    
+    /** @return the statistics of the compiled pattern cache. */
+    public static CacheStats regexCacheStats() {
+        return regexCache.stats();
     }
     
     /**
@@ -540,7 +574,7 @@ public class StrFuncs {
     public static StreamPlus<String> split(CharSequence str, String regexDelimiter, int flags) {
         if (str == null || (str.length() == 0))
             return StreamPlus.empty();
-        val pattern = (flags < 0) ? Pattern.compile(regexDelimiter) : Pattern.compile(regexDelimiter, flags);
+        val pattern = regex(regexDelimiter, flags);
         val matcher = pattern.matcher(str);
         val offset = new AtomicInteger(0);
         val isLast = new AtomicReference<Boolean>(null);
@@ -590,7 +624,7 @@ public class StrFuncs {
     public static String indent(String str) {
         if (str == null || str.isEmpty())
             return "";
-        return "\t" + str.replaceAll("(\n|\r\n?)", "$1\t");
+        return "\t" + NEW_LINE_PATTERN.matcher(str).replaceAll("$1\t");
     }
     
     public static String leftPadding(String str, char prefix, int width) {
@@ -609,11 +643,11 @@ public class StrFuncs {
     }
     
     public static <TEXT extends CharSequence> FuncListAccess<TEXT, String, StringAccess<TEXT>> grab(String regex, RegExFlag flags) {
-        return grab(regex, flags);
+        return grab(regex, flags.getIntValue());
     }
     
     public static <TEXT extends CharSequence> FuncListAccess<TEXT, String, StringAccess<TEXT>> grab(String regex, int patternFlags) {
-        return FuncListAccess.of(strValue -> grab(strValue, regex, patternFlags), StringAccess::of);
+        return grab(regex(regex, patternFlags));
     }
     
     public static <TEXT extends CharSequence> FuncListAccess<TEXT, String, StringAccess<TEXT>> grab(Pattern pattern) {
@@ -629,7 +663,7 @@ public class StrFuncs {
     }
     
     public static FuncList<String> grab(CharSequence strValue, String regex, int flags) {
-        val pattern = (flags < 0) ? Pattern.compile(regex) : Pattern.compile(regex, flags);
+        val pattern = regex(regex, flags);
         return grab(strValue, pattern);
     }
     
@@ -675,7 +709,7 @@ public class StrFuncs {
     }
     
     public static <TEXT extends CharSequence> RegExMatchResultStreamAccess<TEXT> matches(String regex, int flags) {
-        return new RegExMatchResultStreamAccess<>(str -> matches(str, regex, -1));
+        return matches(regex(regex, flags));
     }
     
     public static <TEXT extends CharSequence> RegExMatchResultStreamAccess<TEXT> matches(Pattern pattern) {
@@ -693,7 +727,7 @@ public class StrFuncs {
     public static RegExMatchResultStream matches(CharSequence str, String regex, int flags) {
         if (str == null || (str.length() == 0))
             return RegExMatchResultStream.empty;
-        val pattern = (flags < 0) ? Pattern.compile(regex) : Pattern.compile(regex, flags);
+        val pattern = regex(regex, flags);
         return matches(str, pattern);
     }
     
@@ -741,7 +775,7 @@ public class StrFuncs {
     
     public static <TEXT extends CharSequence> 
             StreamPlusAccess<TEXT, FuncMap<String, String>, FuncMapAccess<TEXT, String, String, StringAccess<TEXT>, StringAccess<TEXT>>> capture(String regex, int flags) {
-        val pattern = (flags < 0) ? Pattern.compile(regex.toString()) : Pattern.compile(regex.toString(), flags);
+        val pattern = regex(regex, flags);
         return capture(pattern);
     }
     
@@ -764,7 +798,7 @@ public class StrFuncs {
         if (text == null || (text.length() == 0))
             return StreamPlus.empty();
         
-        val pattern = (flags < 0) ? Pattern.compile(regex) : Pattern.compile(regex, flags);
+        val pattern = regex(regex, flags);
         return capture(text, pattern);
     }
     
@@ -773,7 +807,7 @@ public class StrFuncs {
             return StreamPlus.empty();
         
         val matcher  = pattern.matcher(text);
-        val regEx    = pattern.pattern();
+        val names    = groupNameCache.get(pattern);
         val iterable = new Iterable<FuncMap<String, String>>() {
             @Override
             public Iterator<FuncMap<String, String>> iterator() {
@@ -784,10 +818,7 @@ public class StrFuncs {
                     }
                     @Override
                     public FuncMap<String, String> next() {
-                        return grab(regEx, StrFuncs.GROUP_NAME_PATTERN)
-                                .map  (each -> each.substring(3, each.length() - 1))
-                                .toMap(name -> name, name -> matcher.group(name))
-                                ;
+                        return names.toMap(name -> name, name -> matcher.group(name));
                     }
                 };
             }
@@ -795,6 +826,12 @@ public class StrFuncs {
         return StreamPlus.from(StreamSupport.stream(iterable.spliterator(), false));
     }
     
+    private static FuncList<String> findGroupNames(Pattern pattern) {
+        return grab(pattern.pattern(), StrFuncs.GROUP_NAME_PATTERN)
+                .map  (each -> each.substring(3, each.length() - 1))
+                .toImmutableList();
+    }
+    
     //== Template ==
     
     /**
@@ -822,8 +859,7 @@ public class StrFuncs {
             return "";
         
         val buffer = new StringBuffer();
-        val pattern = Pattern.compile("(?<!\\$)\\$\\{(?<capture>[a-zA-Z][a-zA-Z0-9_]+[ ]*)\\}");
-        val matcher = pattern.matcher(str);
+        val matcher = StrTemplate.PLACEHOLDER_PATTERN.matcher(str);
         while (matcher.find()) {
             val capture = matcher.group("capture");
             val name = capture.trim();
@@ -834,4 +870,43 @@ public class StrFuncs {
         return buffer.toString().replace("$$", "$");
     }
     
+    /**
+     * Parse the given template once so it can be rendered many times -- see {@link StrTemplate}.
+     *
+     * @param template  the template string.
+     * @return          the template.
+     */
+    public static StrTemplate template(CharSequence template) {
+        return StrTemplate.of(template);
+    }
+    
+    /** The key of the compiled pattern cache. */
+    private static final class RegExKey {
+        
+        private final String regex;
+        private final int    flags;
+        
+        RegExKey(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+        
+        Pattern compile() {
+            return Pattern.compile(regex, flags);
+        }
+        
+        @Override
+        public int hashCode() {
+            return regex.hashCode() * 31 + flags;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof RegExKey))
+                return false;
+            val key = (RegExKey) obj;
+            return (flags == key.flags) && regex.equals(key.regex);
+        }
+    }
+    
 }
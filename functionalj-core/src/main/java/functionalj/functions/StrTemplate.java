@@ -0,0 +1,121 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.functions;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import functionalj.list.FuncList;
+import lombok.val;
+
+/**
+ * A string template with the "${name}" placeholders -- parsed once so it can be rendered many times.
+ * 
+ * A placeholder is not replaced when it is preceded by another "$" and the "$$" in the template is rendered as "$".
+ * The replacement values are appended as is.
+ * 
+ * <pre>
+ * val template = StrFuncs.template("Hello ${name}!");
+ * template.render(name -&gt; "World");    // "Hello World!"
+ * </pre>
+ */
+public final class StrTemplate {
+    
+    /** The pattern of the placeholders. */
+    public static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("(?<!\\$)\\$\\{(?<capture>[a-zA-Z][a-zA-Z0-9_]+[ ]*)\\}");
+    
+    /**
+     * Parse the given template.
+     * 
+     * @param template  the template string.
+     * @return          the template.
+     */
+    public static StrTemplate of(CharSequence template) {
+        return new StrTemplate((template == null) ? "" : template.toString());
+    }
+    
+    private final String template;
+    
+    // The literal text before each placeholder and the one after the last placeholder.
+    private final String[] literals;
+    
+    private final String[] names;
+    
+    private final int literalLength;
+    
+    private StrTemplate(String template) {
+        val literals = new ArrayList<String>();
+        val names    = new ArrayList<String>();
+        val matcher  = PLACEHOLDER_PATTERN.matcher(template);
+        int offset   = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(offset, matcher.start()).replace("$$", "$"));
+            names.add(matcher.group("capture").trim());
+            offset = matcher.end();
+        }
+        literals.add(template.substring(offset).replace("$$", "$"));
+        
+        this.template      = template;
+        this.literals      = literals.toArray(new String[literals.size()]);
+        this.names         = names.toArray(new String[names.size()]);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+    
+    /** @return the names of the placeholders in the order they appear (including the repeated ones). */
+    public FuncList<String> names() {
+        return FuncList.of(names);
+    }
+    
+    /**
+     * Render this template with the given replacer.
+     * 
+     * @param replacer  the function returning the replacement value of the placeholder name.
+     * @return          the rendered string.
+     */
+    public String render(Function<String, ?> replacer) {
+        val builder = new StringBuilder(literalLength + names.length * 16);
+        return renderTo(builder, replacer).toString();
+    }
+    
+    /**
+     * Render this template with the given replacer by appending to the given builder -- so the builder can be reused.
+     * 
+     * @param builder   the builder to append to.
+     * @param replacer  the function returning the replacement value of the placeholder name.
+     * @return          the given builder.
+     */
+    public StringBuilder renderTo(StringBuilder builder, Function<String, ?> replacer) {
+        for (int i = 0; i < names.length; i++) {
+            builder.append(literals[i]);
+            builder.append(String.valueOf(replacer.apply(names[i])));
+        }
+        builder.append(literals[names.length]);
+        return builder;
+    }
+    
+    @Override
+    public String toString() {
+        return template;
+    }
+}
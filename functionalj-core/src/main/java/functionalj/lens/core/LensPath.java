@@ -0,0 +1,252 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.lens.core;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A lens chain flattened into one path of hops -- from the host to the data.
+ * 
+ * Each hop has a read (from its input to the next value) and a write (of the next value back into its input).
+ * The path write reads each intermediate value exactly once and then rebuilds the spine from the bottom up
+ *   (instead of re-reading the spine from the host at each level).
+ * The null-safety of each hop is resolved once when the path is built.
+ * The hops of the struct fields also carry the field names -- used by {@link LensUpdate} to rebuild the struct once.
+ * 
+ * @param <HOST>  the host type.
+ * @param <DATA>  the data type.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class LensPath<HOST, DATA> {
+    
+    /** Marks the writes skipped because of a null intermediate value. */
+    private static final Object UNCHANGED = new Object();
+    
+    final Function[] reads;
+    
+    final WriteLens[] writes;
+    
+    // Whether the input of the hop (at the same index) is allowed to be null -- hop 0 takes the host as is.
+    final boolean[] nullSafes;
+    
+    // The field name of each hop (null when unknown).
+    final String[] names;
+    
+    private final Reader<HOST, DATA> reader;
+    
+    private final Writer<HOST, DATA> writer = new Writer<>(this);
+    
+    // The shapes of the updates (see LensUpdate) starting by setting or by changing through this path.
+    volatile LensUpdate.Shape firstSetShape;
+    
+    volatile LensUpdate.Shape firstChangeShape;
+    
+    private LensPath(Function[] reads, WriteLens[] writes, boolean[] nullSafes, String[] names, Reader<HOST, ?> parentReader) {
+        this.reads = reads;
+        this.writes = writes;
+        this.nullSafes = nullSafes;
+        this.names = names;
+        
+        int last = reads.length - 1;
+        boolean hasReader = (reads[last] != null) && ((last == 0) || (parentReader != null));
+        this.reader = hasReader ? new Reader<>(this, parentReader, reads[last], nullSafes[last]) : null;
+    }
+    
+    /**
+     * Returns the path of the given read and write -- the path they were created from if any so the chain stays flat.
+     * 
+     * @param <HOST>  the host type.
+     * @param <DATA>  the data type.
+     * @param read    the read.
+     * @param write   the write (may be null).
+     * @return        the path.
+     */
+    public static <HOST, DATA> LensPath<HOST, DATA> of(Function<HOST, DATA> read, WriteLens<HOST, DATA> write) {
+        LensPath<HOST, DATA> readPath = (read instanceof Reader) ? ((Reader<HOST, DATA>) read).path : null;
+        if (readPath != null) {
+            if (write == null)
+                return new LensPath<>(readPath.reads, new WriteLens[readPath.writes.length], readPath.nullSafes, readPath.names, readPath.reader.parent);
+            
+            if (write instanceof Writer) {
+                LensPath<HOST, DATA> writePath = ((Writer<HOST, DATA>) write).path;
+                if (writePath == readPath)
+                    return readPath;
+                if (readPath.isReadOf(writePath))
+                    return new LensPath<>(readPath.reads, writePath.writes, readPath.nullSafes, readPath.names, readPath.reader.parent);
+            }
+        }
+        return new LensPath<>(new Function[] { read }, new WriteLens[] { write }, new boolean[] { false }, new String[] { null }, null);
+    }
+    
+    // The write path of a separately-created read and write has the same hops but not the last read.
+    private boolean isReadOf(LensPath<?, ?> writePath) {
+        int length = reads.length;
+        if ((writePath.reads.length != length) || !Arrays.equals(nullSafes, writePath.nullSafes))
+            return false;
+        for (int i = 0; i < length; i++) {
+            Function writeRead = writePath.reads[i];
+            if ((writeRead != reads[i]) && ((writeRead != null) || (i != length - 1)))
+                return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Returns the path extended with one more hop.
+     * 
+     * @param <SUB>       the sub data type.
+     * @param readSub     the read of the sub data (may be null for the write-only path).
+     * @param writeSub    the write of the sub data (may be null for the read-only path).
+     * @param isNullSafe  whether the null data should be skipped instead of read or written.
+     * @return            the longer path.
+     */
+    public <SUB> LensPath<HOST, SUB> then(Function<DATA, SUB> readSub, WriteLens<DATA, SUB> writeSub, boolean isNullSafe) {
+        return then(null, readSub, writeSub, isNullSafe);
+    }
+    
+    /**
+     * Returns the path extended with one more hop of the named field.
+     * 
+     * @param <SUB>       the sub data type.
+     * @param name        the field name of the sub data (may be null).
+     * @param readSub     the read of the sub data (may be null for the write-only path).
+     * @param writeSub    the write of the sub data (may be null for the read-only path).
+     * @param isNullSafe  whether the null data should be skipped instead of read or written.
+     * @return            the longer path.
+     */
+    public <SUB> LensPath<HOST, SUB> then(String name, Function<DATA, SUB> readSub, WriteLens<DATA, SUB> writeSub, boolean isNullSafe) {
+        int length = reads.length;
+        Function[] newReads = Arrays.copyOf(reads, length + 1);
+        WriteLens[] newWrites = Arrays.copyOf(writes, length + 1);
+        boolean[] newNullSafes = Arrays.copyOf(nullSafes, length + 1);
+        String[] newNames = Arrays.copyOf(names, length + 1);
+        newReads[length] = readSub;
+        newWrites[length] = writeSub;
+        newNullSafes[length] = isNullSafe;
+        newNames[length] = name;
+        return new LensPath<>(newReads, newWrites, newNullSafes, newNames, reader);
+    }
+    
+    /** @return the number of hops. */
+    public int length() {
+        return reads.length;
+    }
+    
+    /** @return the fused read function. */
+    public Function<HOST, DATA> reader() {
+        return reader;
+    }
+    
+    /** @return the fused write. */
+    public WriteLens<HOST, DATA> writer() {
+        return writer;
+    }
+    
+    /**
+     * Read the data from the host.
+     * 
+     * @param host  the host.
+     * @return      the data or null when a null-safe intermediate value is null.
+     */
+    public DATA read(HOST host) {
+        return reader.apply(host);
+    }
+    
+    /**
+     * Write the data to the host.
+     * 
+     * @param host   the host.
+     * @param value  the new data.
+     * @return       the new host or the same host when a null-safe intermediate value is null or nothing changes.
+     */
+    public HOST write(HOST host, DATA value) {
+        Object newHost = write(0, host, value);
+        return (newHost == UNCHANGED) ? host : (HOST) newHost;
+    }
+    
+    private Object write(int index, Object input, Object value) {
+        if (index == writes.length - 1)
+            return writes[index].apply(input, value);
+        
+        Object next = reads[index].apply(input);
+        if ((next == null) && nullSafes[index + 1])
+            return UNCHANGED;
+        
+        Object newNext = write(index + 1, next, value);
+        if ((newNext == UNCHANGED) || (newNext == next))
+            return UNCHANGED;
+        
+        return writes[index].apply(input, newNext);
+    }
+    
+    @Override
+    public String toString() {
+        return "LensPath(" + reads.length + ")";
+    }
+    
+    // The read of each hop applied to the read of its parent -- the JIT inlines these nested calls better than a loop over the hops.
+    static final class Reader<HOST, DATA> implements Function<HOST, DATA> {
+        
+        final LensPath<HOST, DATA> path;
+        
+        final Reader<HOST, ?> parent;
+        
+        private final Function read;
+        
+        private final boolean isNullSafe;
+        
+        Reader(LensPath<HOST, DATA> path, Reader<HOST, ?> parent, Function read, boolean isNullSafe) {
+            this.path = path;
+            this.parent = parent;
+            this.read = read;
+            this.isNullSafe = isNullSafe;
+        }
+        
+        @Override
+        public DATA apply(HOST host) {
+            if (parent == null)
+                return (DATA) read.apply(host);
+            
+            Object value = parent.apply(host);
+            if ((value == null) && isNullSafe)
+                return null;
+            return (DATA) read.apply(value);
+        }
+    }
+    
+    static final class Writer<HOST, DATA> implements WriteLens<HOST, DATA> {
+        
+        final LensPath<HOST, DATA> path;
+        
+        Writer(LensPath<HOST, DATA> path) {
+            this.path = path;
+        }
+        
+        @Override
+        public HOST apply(HOST host, DATA newValue) {
+            return path.write(host, newValue);
+        }
+    }
+}
@@ -23,6 +23,7 @@
 // ============================================================================
 package functionalj.lens.core;
 
+import static java.util.Objects.requireNonNull;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -99,17 +100,16 @@ public class LensSpec<HOST, DATA> implements Function<HOST, DATA> {
     }
     
     public static <HOST, DATA> LensSpec<HOST, DATA> of(Function<HOST, DATA> read, WriteLens<HOST, DATA> write) {
-        if (write == null)
-            return new LensSpec<HOST, DATA>(read::apply, null);
-        return new LensSpec<HOST, DATA>(read::apply, write::apply);
+        // The read and write are kept as is (not wrapped) so the sub lenses can extend their path.
+        return new LensSpec<HOST, DATA>(requireNonNull(read), write);
     }
     
     public static <HOST, DATA> LensSpec<HOST, DATA> of(Function<HOST, DATA> read, WriteLens<HOST, DATA> write, boolean isNullSafe) {
-        return new LensSpec<HOST, DATA>(read::apply, write::apply, booleanSupplierOf(isNullSafe));
+        return new LensSpec<HOST, DATA>(requireNonNull(read), requireNonNull(write), booleanSupplierOf(isNullSafe));
     }
     
     public static <HOST, DATA> LensSpec<HOST, DATA> of(Function<HOST, DATA> read, WriteLens<HOST, DATA> write, BooleanSupplier isNullSafe) {
-        return new LensSpec<HOST, DATA>(read::apply, write::apply, isNullSafe);
+        return new LensSpec<HOST, DATA>(requireNonNull(read), requireNonNull(write), isNullSafe);
     }
     
     public static <HOST> PrimitiveLensSpecs.IntegerLensSpecPrimitive<HOST> ofPrimitive(ToIntFunction<HOST> readInt, WriteLens.PrimitiveInt<HOST> writeInt) {
@@ -158,39 +158,69 @@ public class LensSpec<HOST, DATA> implements Function<HOST, DATA> {
         return SUPPLY_FALSE.equals(this.isNullSafe) ? this : new LensSpec<>(read, write, SUPPLY_FALSE);
     }
     
+    /** @return the path of this lens -- the hops from the host to the data. */
+    public LensPath<HOST, DATA> toPath() {
+        return LensPath.of(read, write);
+    }
+    
     public <SUB> LensSpec<HOST, SUB> then(LensSpec<DATA, SUB> sub) {
-        return LensSpec.of(LensUtils.createSubRead(read, sub.read, isNullSafe), LensUtils.createSubWrite(read, write, sub.write, isNullSafe), isNullSafe);
+        return then(null, sub);
+    }
+    
+    public <SUB> LensSpec<HOST, SUB> then(String name, LensSpec<DATA, SUB> sub) {
+        LensPath<HOST, SUB> path = LensPath.of(read, write).then(name, sub.read, sub.write, isNullSafe.getAsBoolean());
+        return new LensSpec<HOST, SUB>(path.reader(), path.writer(), isNullSafe);
     }
     
     public PrimitiveLensSpecs.IntegerLensSpecPrimitive<HOST> thenPrimitive(PrimitiveLensSpecs.IntegerLensSpecPrimitive<DATA> sub) {
+        return thenPrimitive(null, sub);
+    }
+    
+    public PrimitiveLensSpecs.IntegerLensSpecPrimitive<HOST> thenPrimitive(String name, PrimitiveLensSpecs.IntegerLensSpecPrimitive<DATA> sub) {
         ToIntFunction<DATA> subReadInt = sub.getReadInt();
         WriteLens.PrimitiveInt<DATA> subWriteInt = sub.getWriteInt();
         ToIntFunction<HOST> readInt = LensUtils.createSubReadInt(read, subReadInt);
         WriteLens.PrimitiveInt<HOST> writeInt = LensUtils.createSubWriteInt(read, write, subWriteInt);
-        return LensSpec.ofPrimitive(readInt, writeInt);
+        LensPath<HOST, Integer> path = LensPath.of(read, write).then(name, sub.getRead(), sub.getWrite(), false);
+        return new PrimitiveLensSpecs.IntegerLensSpecPrimitive<HOST>(readInt, writeInt, path);
     }
     
     public PrimitiveLensSpecs.LongLensSpecPrimitive<HOST> thenPrimitive(PrimitiveLensSpecs.LongLensSpecPrimitive<DATA> sub) {
+        return thenPrimitive(null, sub);
+    }
+    
+    public PrimitiveLensSpecs.LongLensSpecPrimitive<HOST> thenPrimitive(String name, PrimitiveLensSpecs.LongLensSpecPrimitive<DATA> sub) {
         ToLongFunction<DATA> subReadLong = sub.getReadLong();
         WriteLens.PrimitiveLong<DATA> subWriteLong = sub.getWriteLong();
         ToLongFunction<HOST> readLong = LensUtils.createSubReadLong(read, subReadLong);
         WriteLens.PrimitiveLong<HOST> writeLong = LensUtils.createSubWriteLong(read, write, subWriteLong);
-        return LensSpec.ofPrimitive(readLong, writeLong);
+        LensPath<HOST, Long> path = LensPath.of(read, write).then(name, sub.getRead(), sub.getWrite(), false);
+        return new PrimitiveLensSpecs.LongLensSpecPrimitive<HOST>(readLong, writeLong, path);
     }
     
     public PrimitiveLensSpecs.DoubleLensSpecPrimitive<HOST> thenPrimitive(PrimitiveLensSpecs.DoubleLensSpecPrimitive<DATA> sub) {
+        return thenPrimitive(null, sub);
+    }
+    
+    public PrimitiveLensSpecs.DoubleLensSpecPrimitive<HOST> thenPrimitive(String name, PrimitiveLensSpecs.DoubleLensSpecPrimitive<DATA> sub) {
         ToDoubleFunction<DATA> subReadDouble = sub.getReadDouble();
         WriteLens.PrimitiveDouble<DATA> subWriteDouble = sub.getWriteDouble();
         ToDoubleFunction<HOST> readDouble = LensUtils.createSubReadDouble(read, subReadDouble);
         WriteLens.PrimitiveDouble<HOST> writeDouble = LensUtils.createSubWriteDouble(read, write, subWriteDouble);
-        return LensSpec.ofPrimitive(readDouble, writeDouble);
+        LensPath<HOST, Double> path = LensPath.of(read, write).then(name, sub.getRead(), sub.getWrite(), false);
+        return new PrimitiveLensSpecs.DoubleLensSpecPrimitive<HOST>(readDouble, writeDouble, path);
     }
     
     public PrimitiveLensSpecs.BooleanLensSpecPrimitive<HOST> thenPrimitive(PrimitiveLensSpecs.BooleanLensSpecPrimitive<DATA> sub) {
+        return thenPrimitive(null, sub);
+    }
+    
+    public PrimitiveLensSpecs.BooleanLensSpecPrimitive<HOST> thenPrimitive(String name, PrimitiveLensSpecs.BooleanLensSpecPrimitive<DATA> sub) {
         Predicate<DATA> subReadBoolean = sub.getReadBoolean();
         WriteLens.PrimitiveBoolean<DATA> subWriteBoolean = sub.getWriteBoolean();
         Predicate<HOST> readBoolean = LensUtils.createSubReadBoolean(read, subReadBoolean);
         WriteLens.PrimitiveBoolean<HOST> writeBoolean = LensUtils.createSubWriteBoolean(read, write, subWriteBoolean);
-        return LensSpec.ofPrimitive(readBoolean, writeBoolean);
+        LensPath<HOST, Boolean> path = LensPath.of(read, write).then(name, sub.getRead(), sub.getWrite(), false);
+        return new PrimitiveLensSpecs.BooleanLensSpecPrimitive<HOST>(readBoolean, writeBoolean, path);
     }
 }
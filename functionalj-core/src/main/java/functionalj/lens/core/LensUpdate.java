@@ -0,0 +1,331 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.lens.core;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import functionalj.lens.lenses.AnyLens;
+
+/**
+ * A batch update of a host through multiple lenses.
+ * 
+ * The changes are added to a tree by the hops their {@link LensPath}s share
+ *   so each intermediate value is read once and each affected struct is rebuilt once
+ *   -- using its {@link TransientBuilder} when more than one of its fields changes.
+ * The changes through the same hop are applied in the order they are added
+ *   and the fields that end up the same (identical) value are not written.
+ * 
+ * The tree only depends on the lenses (and whether each is a set or a change) so it is built once for each shape of the update
+ *   and kept by the path of the first lens -- the update itself only holds the values and the mappers.
+ * 
+ * @param <HOST>  the host type.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class LensUpdate<HOST> {
+    
+    /** Marks the fields that are not changed. */
+    private static final Object UNCHANGED = new Object();
+    
+    /** The most next shapes kept for a shape -- the others (lenses created on the fly for one) are built for each update. */
+    private static final int MAX_NEXT_SHAPES = 8;
+    
+    private static final Shape[] NO_SHAPES = new Shape[0];
+    
+    private final HOST host;
+    
+    private Shape shape;
+    
+    // The value or the mapper of each change -- in the order added.
+    private Object[] arguments = new Object[8];
+    
+    public LensUpdate(HOST host) {
+        this.host = host;
+    }
+    
+    public <DATA> LensUpdate<HOST> set(AnyLens<HOST, DATA> lens, DATA value) {
+        return add(lens, false, value);
+    }
+    
+    public <DATA> LensUpdate<HOST> change(AnyLens<HOST, DATA> lens, Function<? super DATA, ? extends DATA> mapper) {
+        return add(lens, true, mapper);
+    }
+    
+    private LensUpdate<HOST> add(AnyLens<HOST, ?> lens, boolean isChange, Object argument) {
+        LensPath path = lens.lensSpec().toPath();
+        shape = (shape == null) ? Shape.first(path, isChange) : shape.next(path, isChange);
+        if (shape.index == arguments.length) {
+            arguments = Arrays.copyOf(arguments, arguments.length * 2);
+        }
+        arguments[shape.index] = argument;
+        return this;
+    }
+    
+    /** @return the updated host or the same host if nothing changes. */
+    public HOST apply() {
+        return (shape == null) ? host : (HOST) shape.root().update(host, arguments);
+    }
+    
+    // The lens paths added so far (each with whether it is a change) -- shared by the updates adding the same lenses.
+    static final class Shape {
+        
+        private final Shape parent;
+        
+        private final LensPath path;
+        
+        private final boolean isChange;
+        
+        private final int index;
+        
+        private volatile Shape[] nexts = NO_SHAPES;
+        
+        // The tree of the changes -- built on the first apply.
+        private volatile Node root;
+        
+        private Shape(Shape parent, LensPath path, boolean isChange) {
+            this.parent   = parent;
+            this.path     = path;
+            this.isChange = isChange;
+            this.index    = (parent == null) ? 0 : parent.index + 1;
+        }
+        
+        static Shape first(LensPath path, boolean isChange) {
+            Shape first = isChange ? path.firstChangeShape : path.firstSetShape;
+            if (first == null) {
+                first = new Shape(null, path, isChange);
+                if (isChange) {
+                    path.firstChangeShape = first;
+                } else {
+                    path.firstSetShape = first;
+                }
+            }
+            return first;
+        }
+        
+        Shape next(LensPath nextPath, boolean nextIsChange) {
+            Shape[] current = nexts;
+            for (Shape next : current) {
+                if ((next.isChange == nextIsChange) && isSamePath(next.path, nextPath))
+                    return next;
+            }
+            Shape next = new Shape(this, nextPath, nextIsChange);
+            if (current.length < MAX_NEXT_SHAPES) {
+                // A racing update may replace this one -- it is just built again.
+                Shape[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = next;
+                nexts = updated;
+            }
+            return next;
+        }
+        
+        // The paths may be different objects (see LensPath#of) of the same hops.
+        private static boolean isSamePath(LensPath path, LensPath other) {
+            if (path == other)
+                return true;
+            int length = path.length();
+            if (other.length() != length)
+                return false;
+            for (int hop = 0; hop < length; hop++) {
+                if ((path.reads[hop]     != other.reads[hop])
+                 || (path.writes[hop]    != other.writes[hop])
+                 || (path.nullSafes[hop] != other.nullSafes[hop]))
+                    return false;
+            }
+            return true;
+        }
+        
+        Node root() {
+            Node tree = root;
+            if (tree == null) {
+                Shape[] shapes = new Shape[index + 1];
+                for (Shape shape = this; shape != null; shape = shape.parent) {
+                    shapes[shape.index] = shape;
+                }
+                tree = new Node(null, -1);
+                for (Shape shape : shapes) {
+                    Node node = tree;
+                    for (int hop = 0; hop < shape.path.length(); hop++) {
+                        node = node.child(shape.path, hop);
+                    }
+                    node.add(new Node(shape.isChange, shape.index));
+                }
+                root = tree;
+            }
+            return tree;
+        }
+    }
+    
+    // The value reached through a hop -- with the changes to it (the leaves) and to its fields (the child nodes) in order.
+    // The tree is only changed while it is built.
+    private static final class Node {
+        
+        private final LensPath path;
+        
+        private final int hop;
+        
+        // The change of the leaf -- whether the argument is the mapper (or else the new value) and its index.
+        private final boolean isChange;
+        
+        private final int index;
+        
+        private Node first;
+        
+        private Node last;
+        
+        private Node next;
+        
+        Node(LensPath path, int hop) {
+            this.path     = path;
+            this.hop      = hop;
+            this.isChange = false;
+            this.index    = -1;
+        }
+        
+        Node(boolean isChange, int index) {
+            this.path     = null;
+            this.hop      = -1;
+            this.isChange = isChange;
+            this.index    = index;
+        }
+        
+        void add(Node entry) {
+            if (first == null) {
+                first = entry;
+            } else {
+                last.next = entry;
+            }
+            last = entry;
+        }
+        
+        Node child(LensPath childPath, int childHop) {
+            // Only the children after the last leaf can take more changes -- the leaf must see the changes before it.
+            Node child = null;
+            for (Node entry = first; entry != null; entry = entry.next) {
+                if (entry.path == null) {
+                    child = null;
+                } else if ((child == null)
+                        && (entry.path.reads[childHop]     == childPath.reads[childHop])
+                        && (entry.path.writes[childHop]    == childPath.writes[childHop])
+                        && (entry.path.nullSafes[childHop] == childPath.nullSafes[childHop])) {
+                    child = entry;
+                }
+            }
+            if (child == null) {
+                child = new Node(childPath, childHop);
+                add(child);
+            }
+            return child;
+        }
+        
+        Object update(Object value, Object[] arguments) {
+            Node entry = first;
+            while (entry != null) {
+                if (entry.path == null) {
+                    Object argument = arguments[entry.index];
+                    value = entry.isChange ? ((Function) argument).apply(value) : argument;
+                    entry = entry.next;
+                    continue;
+                }
+                Node end   = entry.next;
+                int  count = 1;
+                while ((end != null) && (end.path != null)) {
+                    end = end.next;
+                    count++;
+                }
+                value = (count == 1) ? entry.updateIn(value, arguments) : updateFields(value, arguments, entry, end, count);
+                entry = end;
+            }
+            return value;
+        }
+        
+        // Update the field of this node in the host value.
+        Object updateIn(Object host, Object[] arguments) {
+            if ((host == null) && path.nullSafes[hop])
+                return host;
+            
+            Object oldValue = path.reads[hop].apply(host);
+            Object newValue = update(oldValue, arguments);
+            return (newValue == oldValue) ? host : path.writes[hop].apply(host, newValue);
+        }
+        
+        private static Object updateFields(Object value, Object[] arguments, Node start, Node end, int count) {
+            if (!(value instanceof TransientSource) || !hasDistinctNames(start, end)) {
+                for (Node child = start; child != end; child = child.next) {
+                    value = child.updateIn(value, arguments);
+                }
+                return value;
+            }
+            
+            Object[] newFields    = new Object[count];
+            int      changedCount = 0;
+            Node     lastChanged  = null;
+            int      lastIndex    = -1;
+            int      index        = 0;
+            for (Node child = start; child != end; child = child.next, index++) {
+                Object oldField = child.path.reads[child.hop].apply(value);
+                Object newField = child.update(oldField, arguments);
+                newFields[index] = (newField == oldField) ? UNCHANGED : newField;
+                if (newField != oldField) {
+                    changedCount++;
+                    lastChanged = child;
+                    lastIndex   = index;
+                }
+            }
+            if (changedCount == 0)
+                return value;
+            
+            // A single field is cheaper to write by itself.
+            if (changedCount == 1)
+                return lastChanged.path.writes[lastChanged.hop].apply(value, newFields[lastIndex]);
+            
+            TransientBuilder builder = ((TransientSource) value).__transientBuilder();
+            index = 0;
+            for (Node child = start; child != end; child = child.next, index++) {
+                if ((newFields[index] != UNCHANGED) && builder.set(child.path.names[child.hop], newFields[index])) {
+                    newFields[index] = UNCHANGED;
+                }
+            }
+            Object newValue = builder.seal();
+            index = 0;
+            for (Node child = start; child != end; child = child.next, index++) {
+                if (newFields[index] != UNCHANGED) {
+                    newValue = child.path.writes[child.hop].apply(newValue, newFields[index]);
+                }
+            }
+            return newValue;
+        }
+        
+        private static boolean hasDistinctNames(Node start, Node end) {
+            for (Node child = start; child != end; child = child.next) {
+                String name = child.path.names[child.hop];
+                if (name == null)
+                    return false;
+                for (Node other = start; other != child; other = other.next) {
+                    if (name.equals(other.path.names[other.hop]))
+                        return false;
+                }
+            }
+            return true;
+        }
+    }
+}
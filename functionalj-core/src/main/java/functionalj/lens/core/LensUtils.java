@@ -25,10 +25,14 @@ package functionalj.lens.core;
 
 import static functionalj.functions.StrFuncs.joinNonNull;
 import static functionalj.functions.StrFuncs.whenBlank;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -55,9 +59,14 @@ import nullablej.nullable.Nullable;
 
 public class LensUtils {
     
+    // The last part of the lens name (e.g. "city" of "theAddress.city") names the field of the hop.
+    private static String fieldName(String lensName) {
+        return (lensName == null) ? null : lensName.substring(lensName.lastIndexOf('.') + 1);
+    }
+    
     public static <HOST, DATA, SUB, SUBLENS> SUBLENS createSubLens(ObjectLens<HOST, DATA> dataLens, String name, Function<DATA, SUB> readSub, WriteLens<DATA, SUB> writeSub, BiFunction<String, LensSpec<HOST, SUB>, SUBLENS> subLensCreator) {
         val lensSpec = dataLens.lensSpec();
-        val hostSubSpec = lensSpec.then(LensSpec.of(readSub, writeSub, lensSpec.isNullSafe()));
+        val hostSubSpec = lensSpec.then(fieldName(name), LensSpec.of(readSub, writeSub, lensSpec.isNullSafe()));
         return subLensCreator.apply(name, hostSubSpec);
     }
     
@@ -71,7 +80,7 @@ public class LensUtils {
     
     public static <HOST, DATA> IntegerLens<HOST> createSubLens(ObjectLens<HOST, DATA> dataLens, String name, ToIntFunction<DATA> readSubInt, WriteLens.PrimitiveInt<DATA> writeSubInt) {
         val lensSpec = dataLens.lensSpec();
-        val hostSubSpec = lensSpec.thenPrimitive(LensSpec.ofPrimitive(readSubInt, writeSubInt));
+        val hostSubSpec = lensSpec.thenPrimitive(fieldName(name), LensSpec.ofPrimitive(readSubInt, writeSubInt));
         return new IntegerLens.Impl<>(name, hostSubSpec);
     }
     
@@ -81,7 +90,7 @@ public class LensUtils {
     
     public static <HOST, DATA> LongLens<HOST> createSubLens(ObjectLens<HOST, DATA> dataLens, String name, ToLongFunction<DATA> readSubLong, WriteLens.PrimitiveLong<DATA> writeSubLong) {
         val lensSpec = dataLens.lensSpec();
-        val hostSubSpec = lensSpec.thenPrimitive(LensSpec.ofPrimitive(readSubLong, writeSubLong));
+        val hostSubSpec = lensSpec.thenPrimitive(fieldName(name), LensSpec.ofPrimitive(readSubLong, writeSubLong));
         return new LongLens.Impl<>(name, hostSubSpec);
     }
     
@@ -91,7 +100,7 @@ public class LensUtils {
     
     public static <HOST, DATA> DoubleLens<HOST> createSubLens(ObjectLens<HOST, DATA> dataLens, String name, ToDoubleFunction<DATA> readSubDouble, WriteLens.PrimitiveDouble<DATA> writeSubDouble) {
         val lensSpec = dataLens.lensSpec();
-        val hostSubSpec = lensSpec.thenPrimitive(LensSpec.ofPrimitive(readSubDouble, writeSubDouble));
+        val hostSubSpec = lensSpec.thenPrimitive(fieldName(name), LensSpec.ofPrimitive(readSubDouble, writeSubDouble));
         return new DoubleLens.Impl<>(name, hostSubSpec);
     }
     
@@ -101,7 +110,7 @@ public class LensUtils {
     
     public static <HOST, DATA> BooleanLens<HOST> createSubLens(ObjectLens<HOST, DATA> dataLens, String name, Predicate<DATA> readSubBoolean, WriteLens.PrimitiveBoolean<DATA> writeSubBoolean) {
         val lensSpec = dataLens.lensSpec();
-        val hostSubSpec = lensSpec.thenPrimitive(LensSpec.ofPrimitive(readSubBoolean, writeSubBoolean));
+        val hostSubSpec = lensSpec.thenPrimitive(fieldName(name), LensSpec.ofPrimitive(readSubBoolean, writeSubBoolean));
         return new BooleanLens.Impl<>(name, hostSubSpec);
     }
     
@@ -110,13 +119,8 @@ public class LensUtils {
     }
     
     public static <DATA, SUB, HOST> Function<HOST, SUB> createSubRead(Function<HOST, DATA> readValue, Function<DATA, SUB> readSub, BooleanSupplier isNullSafe) {
-        return host -> {
-            val value = readValue.apply(host);
-            if (isNullSafe.getAsBoolean() && (value == null))
-                return null;
-            val subValue = readSub.apply(value);
-            return subValue;
-        };
+        val path = LensPath.of(readValue, null);
+        return path.then(readSub, null, isNullSafe.getAsBoolean()).reader();
     }
     
     public static <HOST, DATA, SUB> WriteLens<HOST, SUB> createSubWrite(Function<HOST, DATA> readValue, WriteLens<HOST, DATA> writeValue, BiFunction<DATA, SUB, DATA> writeSub, BooleanSupplier isNullSafe) {
@@ -124,9 +128,93 @@ public class LensUtils {
     }
     
     public static <HOST, DATA, SUB> WriteLens<HOST, SUB> createSubWrite(Function<HOST, DATA> readValue, WriteLens<HOST, DATA> writeValue, WriteLens<DATA, SUB> writeSub, BooleanSupplier isNullSafe) {
-        return (host, newSubValue) -> {
-            return performWrite(readValue, writeValue, writeSub, isNullSafe, host, newSubValue);
-        };
+        val path = LensPath.of(readValue, writeValue);
+        return path.then(null, writeSub, isNullSafe.getAsBoolean()).writer();
+    }
+    
+    // == Copy on change ==
+    /**
+     * Returns the list with the element at the index replaced -- the same list if the element is the same (by identity).
+     * 
+     * @param <TYPE>    the element type.
+     * @param list      the list.
+     * @param index     the index.
+     * @param newValue  the new element.
+     * @return          the new list or the given list.
+     */
+    public static <TYPE> List<TYPE> replaceAt(List<TYPE> list, int index, TYPE newValue) {
+        if (list.get(index) == newValue)
+            return list;
+        
+        val newList = new ArrayList<TYPE>(list);
+        newList.set(index, newValue);
+        return newList;
+    }
+    
+    /**
+     * Returns the list with the matching elements mapped -- the same list if no element changes (by identity).
+     * Only the elements from the first changed one on are checked and mapped again for the new list.
+     * 
+     * @param <TYPE>   the element type.
+     * @param list     the list.
+     * @param checker  the check of the elements to map.
+     * @param mapper   the mapper.
+     * @return         the new list or the given list.
+     */
+    public static <TYPE> List<TYPE> mapMatching(List<TYPE> list, Predicate<? super TYPE> checker, Function<? super TYPE, ? extends TYPE> mapper) {
+        Iterator<TYPE> iterator = list.iterator();
+        int            index    = 0;
+        while (iterator.hasNext()) {
+            TYPE each = iterator.next();
+            if (checker.test(each)) {
+                TYPE newEach = mapper.apply(each);
+                if (newEach != each) {
+                    val newList = new ArrayList<TYPE>(list.size());
+                    newList.addAll(list.subList(0, index));
+                    newList.add(newEach);
+                    while (iterator.hasNext()) {
+                        TYPE rest = iterator.next();
+                        newList.add(checker.test(rest) ? mapper.apply(rest) : rest);
+                    }
+                    return newList;
+                }
+            }
+            index++;
+        }
+        return list;
+    }
+    
+    /**
+     * Returns the map (in the same order) with the values of the matching entries mapped
+     *   -- the same map if no value changes (by identity).
+     * 
+     * @param <KEY>    the key type.
+     * @param <VALUE>  the value type.
+     * @param map      the map.
+     * @param checker  the check of the entries to map.
+     * @param mapper   the mapper.
+     * @return         the new map or the given map.
+     */
+    public static <KEY, VALUE> Map<KEY, VALUE> mapMatchingValues(Map<KEY, VALUE> map, BiPredicate<? super KEY, ? super VALUE> checker, Function<? super VALUE, ? extends VALUE> mapper) {
+        LinkedHashMap<KEY, VALUE> newMap = null;
+        int                       index  = 0;
+        for (val entry : map.entrySet()) {
+            val key = entry.getKey();
+            val value = entry.getValue();
+            val newValue = checker.test(key, value) ? mapper.apply(value) : value;
+            if ((newMap == null) && (newValue != value)) {
+                newMap = new LinkedHashMap<KEY, VALUE>();
+                val prevEntries = map.entrySet().iterator();
+                for (int i = 0; i < index; i++) {
+                    val prev = prevEntries.next();
+                    newMap.put(prev.getKey(), prev.getValue());
+                }
+            }
+            if (newMap != null)
+                newMap.put(key, newValue);
+            index++;
+        }
+        return (newMap != null) ? newMap : map;
     }
     
     // == Primitive ==
@@ -143,6 +231,8 @@ public class LensUtils {
         return (host, newSubValue) -> {
             val oldValue = readValue.apply(host);
             val newValue = writeSub.apply(oldValue, newSubValue);
+            if (newValue == oldValue)
+                return host;
             val newHost = writeValue.apply(host, newValue);
             return newHost;
         };
@@ -161,6 +251,8 @@ public class LensUtils {
         return (host, newSubValue) -> {
             val oldValue = readValue.apply(host);
             val newValue = writeSub.apply(oldValue, newSubValue);
+            if (newValue == oldValue)
+                return host;
             val newHost = writeValue.apply(host, newValue);
             return newHost;
         };
@@ -179,6 +271,8 @@ public class LensUtils {
         return (host, newSubValue) -> {
             val oldValue = readValue.apply(host);
             val newValue = writeSub.apply(oldValue, newSubValue);
+            if (newValue == oldValue)
+                return host;
             val newHost = writeValue.apply(host, newValue);
             return newHost;
         };
@@ -197,20 +291,13 @@ public class LensUtils {
         return (host, newSubValue) -> {
             val oldValue = readValue.apply(host);
             val newValue = writeSub.apply(oldValue, newSubValue);
+            if (newValue == oldValue)
+                return host;
             val newHost = writeValue.apply(host, newValue);
             return newHost;
         };
     }
     
-    private static <DATA, HOST, SUB> HOST performWrite(Function<HOST, DATA> readValue, WriteLens<HOST, DATA> writeValue, WriteLens<DATA, SUB> writeSub, BooleanSupplier isNullSafe, HOST host, SUB newSubValue) {
-        val oldValue = readValue.apply(host);
-        if (isNullSafe.getAsBoolean() && (oldValue == null))
-            return host;
-        val newValue = writeSub.apply(oldValue, newSubValue);
-        val newHost = writeValue.apply(host, newValue);
-        return newHost;
-    }
-    
     // == Parameterized ==
     public static <HOST, TYPE, SUB, SUBLENS extends AnyLens<HOST, SUB>> LensSpecParameterized<HOST, TYPE, SUB, SUBLENS> createLensSpecParameterized(String name, Function<HOST, TYPE> read, WriteLens<HOST, TYPE> write, BiFunction<String, LensSpec<HOST, SUB>, SUBLENS> subCreator) {
         return new LensSpecParameterized<HOST, TYPE, SUB, SUBLENS>() {
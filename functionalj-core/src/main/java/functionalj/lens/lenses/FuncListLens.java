@@ -26,7 +26,6 @@ package functionalj.lens.lenses;
 import static functionalj.function.Func.alwaysTrue;
 import static functionalj.functions.StrFuncs.joinNonNull;
 import static functionalj.functions.StrFuncs.whenBlank;
-import java.util.ArrayList;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import functionalj.function.Named;
@@ -37,7 +36,6 @@ import functionalj.lens.core.LensSpecParameterized;
 import functionalj.lens.core.LensUtils;
 import functionalj.lens.core.WriteLens;
 import functionalj.list.FuncList;
-import functionalj.list.ImmutableFuncList;
 import lombok.val;
 
 public interface FuncListLens<HOST, TYPE, TYPELENS extends AnyLens<HOST, TYPE>> extends ObjectLens<HOST, FuncList<TYPE>>, FuncListAccess<HOST, TYPE, TYPELENS> {
@@ -114,11 +112,7 @@ public interface FuncListLens<HOST, TYPE, TYPELENS extends AnyLens<HOST, TYPE>>
             if (list.isEmpty())
                 return null;
             return list.get(list.size() - 1);
-        }, (list, newValue) -> {
-            val newList = new ArrayList<>(list);
-            newList.set(list.size() - 1, newValue);
-            return ImmutableFuncList.from(newList);
-        });
+        }, (list, newValue) -> list.with(list.size() - 1, newValue));
     }
     
     public default TYPELENS at(int index) {
@@ -27,15 +27,10 @@ import static functionalj.functions.StrFuncs.escapeJava;
 import static functionalj.functions.StrFuncs.joinNonNull;
 import static functionalj.functions.StrFuncs.toStr;
 import static functionalj.functions.StrFuncs.whenBlank;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import functionalj.function.Func;
 import functionalj.function.Named;
 import functionalj.lens.core.AccessParameterized2;
 import functionalj.lens.core.LensSpec;
@@ -43,7 +38,6 @@ import functionalj.lens.core.LensSpecParameterized2;
 import functionalj.lens.core.LensUtils;
 import functionalj.lens.core.WriteLens;
 import functionalj.map.FuncMap;
-import functionalj.tuple.ImmutableTuple2;
 import lombok.val;
 
 public interface FuncMapLens<HOST, KEY, VALUE, KEYLENS extends AnyLens<HOST, KEY>, VALUELENS extends AnyLens<HOST, VALUE>> extends ObjectLens<HOST, FuncMap<KEY, VALUE>>, FuncMapAccess<HOST, KEY, VALUE, KEYLENS, VALUELENS> {
@@ -98,6 +92,8 @@ public interface FuncMapLens<HOST, KEY, VALUE, KEYLENS extends AnyLens<HOST, KEY
             return map.get(key);
         };
         WriteLens<FuncMap<KEY, VALUE>, VALUE> write = (map, value) -> {
+            if ((map.get(key) == value) && ((value != null) || map.containsKey(key)))
+                return map;
             val newMap = map.with(key, value);
             return newMap;
         };
@@ -108,54 +104,16 @@ public interface FuncMapLens<HOST, KEY, VALUE, KEYLENS extends AnyLens<HOST, KEY
     }
     
     public default Function<HOST, HOST> changeTo(Predicate<KEY> checker, Function<VALUE, VALUE> mapper) {
-        val mapEntry = Func.from((Map.Entry<KEY, VALUE> each) -> {
-            val key = each.getKey();
-            val value = each.getValue();
-            if (!checker.test(key))
-                return each;
-            val newValue = mapper.apply(value);
-            return (Map.Entry<KEY, VALUE>) new ImmutableTuple2<KEY, VALUE>(key, newValue);
-        });
-        val newMap = new LinkedHashMap<KEY, VALUE>();
-        Consumer<? super Entry<KEY, VALUE>> transformEntry = entry -> {
-            val key = entry.getKey();
-            val value = entry.getValue();
-            if (!checker.test(key))
-                newMap.put(key, value);
-            else {
-                val newValue = mapper.apply(value);
-                newMap.put(key, newValue);
-            }
-        };
-        return host -> {
-            apply(host).entrySet().stream().map(mapEntry).forEach(transformEntry);
-            val newHost = apply(host, FuncMap.from(newMap));
-            return newHost;
-        };
+        BiPredicate<KEY, VALUE> entryChecker = (key, value) -> checker.test(key);
+        return changeTo(entryChecker, mapper);
     }
     
     public default Function<HOST, HOST> changeTo(BiPredicate<KEY, VALUE> checker, Function<VALUE, VALUE> mapper) {
-        val mapEntry = Func.from((Map.Entry<KEY, VALUE> each) -> {
-            val key = each.getKey();
-            val value = each.getValue();
-            if (!checker.test(key, value))
-                return each;
-            val newValue = mapper.apply(value);
-            return (Map.Entry<KEY, VALUE>) new ImmutableTuple2<KEY, VALUE>(key, newValue);
-        });
         return host -> {
-            val newMap = new LinkedHashMap<KEY, VALUE>();
-            Consumer<? super Entry<KEY, VALUE>> transformEntry = entry -> {
-                val key = entry.getKey();
-                val value = entry.getValue();
-                if (!checker.test(key, value))
-                    newMap.put(key, value);
-                else {
-                    val newValue = mapper.apply(value);
-                    newMap.put(key, newValue);
-                }
-            };
-            apply(host).entrySet().stream().map(mapEntry).forEach(transformEntry);
+            val orgMap = apply(host);
+            val newMap = LensUtils.mapMatchingValues(orgMap, checker, mapper);
+            if (newMap == orgMap)
+                return host;
             val newHost = apply(host, FuncMap.from(newMap));
             return newHost;
         };
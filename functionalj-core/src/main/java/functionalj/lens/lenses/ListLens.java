@@ -25,11 +25,9 @@ package functionalj.lens.lenses;
 
 import static functionalj.functions.StrFuncs.joinNonNull;
 import static functionalj.functions.StrFuncs.whenBlank;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import functionalj.function.Func1;
 import functionalj.function.Named;
 import functionalj.lens.core.AccessParameterized;
@@ -110,11 +108,7 @@ public interface ListLens<HOST, TYPE, TYPELENS extends AnyLens<HOST, TYPE>> exte
             if (index >= list.size())
                 return null;
             return list.get(index);
-        }, (list, newValue) -> {
-            val newList = new ArrayList<>(list);
-            newList.set(index, newValue);
-            return newList;
-        });
+        }, (list, newValue) -> LensUtils.replaceAt(list, index, newValue));
     }
     
     public default TYPELENS last() {
@@ -126,11 +120,7 @@ public interface ListLens<HOST, TYPE, TYPELENS extends AnyLens<HOST, TYPE>> exte
             if (list.isEmpty())
                 return null;
             return list.get(list.size() - 1);
-        }, (list, newValue) -> {
-            val newList = new ArrayList<>(list);
-            newList.set(list.size() - 1, newValue);
-            return newList;
-        });
+        }, (list, newValue) -> LensUtils.replaceAt(list, list.size() - 1, newValue));
     }
     
     public default TYPELENS at(int index) {
@@ -146,16 +136,15 @@ public interface ListLens<HOST, TYPE, TYPELENS extends AnyLens<HOST, TYPE>> exte
             if (index >= list.size())
                 return null;
             return list.get(index);
-        }, (list, newValue) -> {
-            val newList = new ArrayList<>(list);
-            newList.set(index, newValue);
-            return newList;
-        });
+        }, (list, newValue) -> LensUtils.replaceAt(list, index, newValue));
     }
     
     public default Func1<HOST, HOST> changeTo(Predicate<TYPE> checker, Function<TYPE, TYPE> mapper) {
         return host -> {
-            val newList = apply(host).stream().map(each -> checker.test(each) ? mapper.apply(each) : each).collect(Collectors.toList());
+            val orgList = apply(host);
+            val newList = LensUtils.mapMatching(orgList, checker, mapper);
+            if (newList == orgList)
+                return host;
             val newHost = apply(host, newList);
             return newHost;
         };
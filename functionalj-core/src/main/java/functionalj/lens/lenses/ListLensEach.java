@@ -29,7 +29,9 @@ import java.util.function.Supplier;
 import functionalj.function.Func;
 import functionalj.function.Func1;
 import functionalj.lens.core.AccessParameterized;
+import functionalj.lens.core.LensUtils;
 import functionalj.list.FuncList;
+import functionalj.list.ImmutableFuncList;
 import lombok.val;
 
 public class ListLensEach<HOST, TYPE, TYPELENS extends AnyLens<HOST, TYPE>> implements FuncListAccess<HOST, TYPE, TYPELENS> {
@@ -68,29 +70,24 @@ public class ListLensEach<HOST, TYPE, TYPELENS extends AnyLens<HOST, TYPE>> impl
     }
     
     public Func1<HOST, HOST> changeTo(TYPE newValue) {
-        return host -> {
-            val orgList = ListLensEach.this.parentLens.apply(host);
-            val newList = orgList.mapOnly(checker, __ -> newValue);
-            val newHost = ListLensEach.this.parentLens.changeTo(newList).apply(host);
-            return newHost;
-        };
+        return host -> changeEach(host, __ -> newValue);
     }
     
     public Func1<HOST, HOST> changeTo(Supplier<TYPE> supplier) {
-        return host -> {
-            val orgList = ListLensEach.this.parentLens.apply(host);
-            val newList = orgList.mapOnly(checker, __ -> supplier.get());
-            val newHost = ListLensEach.this.parentLens.changeTo(newList).apply(host);
-            return newHost;
-        };
+        return host -> changeEach(host, __ -> supplier.get());
     }
     
     public Func1<HOST, HOST> changeTo(Function<TYPE, TYPE> mapper) {
-        return host -> {
-            val orgList = ListLensEach.this.parentLens.apply(host);
-            val newList = orgList.mapOnly(checker, mapper);
-            val newHost = ListLensEach.this.parentLens.changeTo(newList).apply(host);
-            return newHost;
-        };
+        return host -> changeEach(host, mapper);
+    }
+    
+    // Only the list from the first changed element is copied and the host is returned as is when nothing changes.
+    private HOST changeEach(HOST host, Function<TYPE, TYPE> mapper) {
+        val orgList = parentLens.apply(host);
+        val newList = LensUtils.mapMatching(orgList, checker, mapper);
+        if (newList == orgList)
+            return host;
+        val newHost = parentLens.changeTo(ImmutableFuncList.from(newList)).apply(host);
+        return newHost;
     }
 }
@@ -29,20 +29,16 @@ import static functionalj.functions.StrFuncs.toStr;
 import static functionalj.functions.StrFuncs.whenBlank;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import functionalj.function.Func;
 import functionalj.function.Named;
 import functionalj.lens.core.AccessParameterized2;
 import functionalj.lens.core.LensSpec;
 import functionalj.lens.core.LensSpecParameterized2;
 import functionalj.lens.core.LensUtils;
 import functionalj.lens.core.WriteLens;
-import functionalj.tuple.ImmutableTuple2;
 import lombok.val;
 
 public interface MapLens<HOST, KEY, VALUE, KEYLENS extends AnyLens<HOST, KEY>, VALUELENS extends AnyLens<HOST, VALUE>> extends ObjectLens<HOST, Map<KEY, VALUE>>, MapAccess<HOST, KEY, VALUE, KEYLENS, VALUELENS> {
@@ -97,6 +93,8 @@ public interface MapLens<HOST, KEY, VALUE, KEYLENS extends AnyLens<HOST, KEY>, V
             return map.get(key);
         };
         WriteLens<Map<KEY, VALUE>, VALUE> write = (map, value) -> {
+            if ((map.get(key) == value) && ((value != null) || map.containsKey(key)))
+                return map;
             val newMap = new LinkedHashMap<KEY, VALUE>();
             newMap.putAll(map);
             newMap.put(key, value);
@@ -109,54 +107,16 @@ public interface MapLens<HOST, KEY, VALUE, KEYLENS extends AnyLens<HOST, KEY>, V
     }
     
     public default Function<HOST, HOST> changeEach(Predicate<KEY> checker, Function<VALUE, VALUE> mapper) {
-        val mapEntry = Func.from((Map.Entry<KEY, VALUE> each) -> {
-            val key = each.getKey();
-            val value = each.getValue();
-            if (!checker.test(key))
-                return each;
-            val newValue = mapper.apply(value);
-            return (Map.Entry<KEY, VALUE>) new ImmutableTuple2<KEY, VALUE>(key, newValue);
-        });
-        val newMap = new LinkedHashMap<KEY, VALUE>();
-        Consumer<? super Entry<KEY, VALUE>> transformEntry = entry -> {
-            val key = entry.getKey();
-            val value = entry.getValue();
-            if (!checker.test(key))
-                newMap.put(key, value);
-            else {
-                val newValue = mapper.apply(value);
-                newMap.put(key, newValue);
-            }
-        };
-        return host -> {
-            apply(host).entrySet().stream().map(mapEntry).forEach(transformEntry);
-            val newHost = apply(host, newMap);
-            return newHost;
-        };
+        BiPredicate<KEY, VALUE> entryChecker = (key, value) -> checker.test(key);
+        return changeEach(entryChecker, mapper);
     }
     
     public default Function<HOST, HOST> changeEach(BiPredicate<KEY, VALUE> checker, Function<VALUE, VALUE> mapper) {
-        val mapEntry = Func.from((Map.Entry<KEY, VALUE> each) -> {
-            val key = each.getKey();
-            val value = each.getValue();
-            if (!checker.test(key, value))
-                return each;
-            val newValue = mapper.apply(value);
-            return (Map.Entry<KEY, VALUE>) new ImmutableTuple2<KEY, VALUE>(key, newValue);
-        });
         return host -> {
-            val newMap = new LinkedHashMap<KEY, VALUE>();
-            Consumer<? super Entry<KEY, VALUE>> transformEntry = entry -> {
-                val key = entry.getKey();
-                val value = entry.getValue();
-                if (!checker.test(key, value))
-                    newMap.put(key, value);
-                else {
-                    val newValue = mapper.apply(value);
-                    newMap.put(key, newValue);
-                }
-            };
-            apply(host).entrySet().stream().map(mapEntry).forEach(transformEntry);
+            val orgMap = apply(host);
+            val newMap = LensUtils.mapMatchingValues(orgMap, checker, mapper);
+            if (newMap == orgMap)
+                return host;
             val newHost = apply(host, newMap);
             return newHost;
         };
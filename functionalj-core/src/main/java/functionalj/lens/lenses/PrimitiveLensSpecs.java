@@ -27,6 +27,7 @@ import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
+import functionalj.lens.core.LensPath;
 import functionalj.lens.core.LensSpec;
 import functionalj.lens.core.WriteLens;
 import lombok.val;
@@ -37,9 +38,21 @@ public class PrimitiveLensSpecs {
         
         private final ToIntFunction<HOST> readInt;
         
+        private final LensPath<HOST, Integer> path;
+        
         public IntegerLensSpecPrimitive(ToIntFunction<HOST> readInt, WriteLens.PrimitiveInt<HOST> writeInt) {
+            this(readInt, writeInt, null);
+        }
+        
+        public IntegerLensSpecPrimitive(ToIntFunction<HOST> readInt, WriteLens.PrimitiveInt<HOST> writeInt, LensPath<HOST, Integer> path) {
             super(host -> readInt.applyAsInt(host), writeInt);
             this.readInt = readInt;
+            this.path = path;
+        }
+        
+        @Override
+        public LensPath<HOST, Integer> toPath() {
+            return (path != null) ? path : super.toPath();
         }
         
         public ToIntFunction<HOST> getReadInt() {
@@ -64,9 +77,21 @@ public class PrimitiveLensSpecs {
         
         private final ToLongFunction<HOST> readLong;
         
+        private final LensPath<HOST, Long> path;
+        
         public LongLensSpecPrimitive(ToLongFunction<HOST> readLong, WriteLens.PrimitiveLong<HOST> writeLong) {
+            this(readLong, writeLong, null);
+        }
+        
+        public LongLensSpecPrimitive(ToLongFunction<HOST> readLong, WriteLens.PrimitiveLong<HOST> writeLong, LensPath<HOST, Long> path) {
             super(host -> readLong.applyAsLong(host), writeLong);
             this.readLong = readLong;
+            this.path = path;
+        }
+        
+        @Override
+        public LensPath<HOST, Long> toPath() {
+            return (path != null) ? path : super.toPath();
         }
         
         public ToLongFunction<HOST> getReadLong() {
@@ -91,9 +116,21 @@ public class PrimitiveLensSpecs {
         
         private final ToDoubleFunction<HOST> readDouble;
         
+        private final LensPath<HOST, Double> path;
+        
         public DoubleLensSpecPrimitive(ToDoubleFunction<HOST> readDouble, WriteLens.PrimitiveDouble<HOST> writeDouble) {
+            this(readDouble, writeDouble, null);
+        }
+        
+        public DoubleLensSpecPrimitive(ToDoubleFunction<HOST> readDouble, WriteLens.PrimitiveDouble<HOST> writeDouble, LensPath<HOST, Double> path) {
             super(host -> readDouble.applyAsDouble(host), writeDouble);
             this.readDouble = readDouble;
+            this.path = path;
+        }
+        
+        @Override
+        public LensPath<HOST, Double> toPath() {
+            return (path != null) ? path : super.toPath();
         }
         
         public ToDoubleFunction<HOST> getReadDouble() {
@@ -118,9 +155,21 @@ public class PrimitiveLensSpecs {
         
         private final Predicate<HOST> readBoolean;
         
+        private final LensPath<HOST, Boolean> path;
+        
         public BooleanLensSpecPrimitive(Predicate<HOST> readBoolean, WriteLens.PrimitiveBoolean<HOST> writeBoolean) {
+            this(readBoolean, writeBoolean, null);
+        }
+        
+        public BooleanLensSpecPrimitive(Predicate<HOST> readBoolean, WriteLens.PrimitiveBoolean<HOST> writeBoolean, LensPath<HOST, Boolean> path) {
             super(host -> readBoolean.test(host), writeBoolean);
             this.readBoolean = readBoolean;
+            this.path = path;
+        }
+        
+        @Override
+        public LensPath<HOST, Boolean> toPath() {
+            return (path != null) ? path : super.toPath();
         }
         
         public Predicate<HOST> getReadBoolean() {
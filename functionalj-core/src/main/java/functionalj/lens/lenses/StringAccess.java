@@ -531,13 +531,14 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default BooleanAccess<HOST> thatMatches(String regex) {
+        val pattern = StrFuncs.regex(regex);
         return BooleanAccess.of(host -> {
             if (host == null)
-                return "".matches(regex);
+                return pattern.matcher("").matches();
             val value = apply(host);
             if (value == null)
-                return "".matches(regex);
-            return value.matches(regex);
+                return pattern.matcher("").matches();
+            return pattern.matcher(value).matches();
         });
     }
     
@@ -554,14 +555,14 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default BooleanAccess<HOST> thatMatchesIgnoreCase(String regex) {
+        val lowerCasePattern = StrFuncs.regex(regex.toLowerCase());
         return BooleanAccess.of(host -> {
-            val lowerCaseRegEx = regex.toLowerCase();
             if (host == null)
-                return "".matches(lowerCaseRegEx);
+                return lowerCasePattern.matcher("").matches();
             val value = apply(host);
             if (value == null)
-                return "".matches(lowerCaseRegEx);
-            return value.toLowerCase().matches(lowerCaseRegEx);
+                return lowerCasePattern.matcher("").matches();
+            return lowerCasePattern.matcher(value.toLowerCase()).matches();
         });
     }
     
@@ -587,13 +588,14 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default StringAccess<HOST> replaceAll(String regEx, String replacement) {
+        val pattern = StrFuncs.regex(regEx);
         return StringAccess.of(host -> {
             if (host == null)
                 return null;
             val value = apply(host);
             if (value == null)
                 return null;
-            return value.replaceAll(regEx, replacement);
+            return pattern.matcher(value).replaceAll(replacement);
         });
     }
     
@@ -611,13 +613,14 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default StringAccess<HOST> replaceFirst(String regEx, String replacement) {
+        val pattern = StrFuncs.regex(regEx);
         return StringAccess.of(host -> {
             if (host == null)
                 return null;
             val value = apply(host);
             if (value == null)
                 return null;
-            return value.replaceFirst(regEx, replacement);
+            return pattern.matcher(value).replaceFirst(replacement);
         });
     }
     
@@ -635,16 +638,14 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default FuncListAccess<HOST, String, StringAccess<HOST>> split(String regex) {
-        return FuncListAccess.of(host -> {
-            val strValue = StringAccess.this.apply(host);
-            return FuncList.from(strValue.split(regex));
-        }, func -> StringAccess.this.newAccess(func));
+        return split(regex, 0);
     }
     
     public default FuncListAccess<HOST, String, StringAccess<HOST>> split(String regex, int limit) {
+        val pattern = StrFuncs.regex(regex);
         return FuncListAccess.of(host -> {
             val strValue = StringAccess.this.apply(host);
-            return FuncList.from(strValue.split(regex, limit));
+            return FuncList.from(pattern.split(strValue, limit));
         }, func -> StringAccess.this.newAccess(func));
     }
     
@@ -923,10 +924,7 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default RegExMatchResultStreamAccess<HOST> matches(String regex, int flags) {
-        return new RegExMatchResultStreamAccess<>(host -> {
-            val value = apply(host);
-            return StrFuncs.matches(value, regex, flags);
-        });
+        return matches(StrFuncs.regex(regex, flags));
     }
     
     public default RegExMatchResultStreamAccess<HOST> matches(Pattern pattern) {
@@ -937,24 +935,15 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default FuncListAccess<HOST, String, StringAccess<HOST>> grab(String regex) {
-        return FuncListAccess.of(host -> {
-            val value = apply(host);
-            return StrFuncs.grab(value, regex);
-        }, StringAccess::of);
+        return grab(StrFuncs.regex(regex));
     }
     
     public default FuncListAccess<HOST, String, StringAccess<HOST>> grab(String regex, RegExFlag flags) {
-        return FuncListAccess.of(host -> {
-            val value = apply(host);
-            return StrFuncs.grab(value, regex, flags);
-        }, StringAccess::of);
+        return grab(StrFuncs.regex(regex, flags));
     }
     
     public default FuncListAccess<HOST, String, StringAccess<HOST>> grab(String regex, int flags) {
-        return FuncListAccess.of(host -> {
-            val value = apply(host);
-            return StrFuncs.grab(value, regex, flags);
-        }, StringAccess::of);
+        return grab(StrFuncs.regex(regex, flags));
     }
     
     public default FuncListAccess<HOST, String, StringAccess<HOST>> grab(Pattern pattern) {
@@ -965,20 +954,23 @@ public interface StringAccess<HOST> extends ObjectAccess<HOST, String>, Concrete
     }
     
     public default StreamPlusAccess<HOST, FuncMap<String, String>, FuncMapAccess<HOST, String, String, StringAccess<HOST>, StringAccess<HOST>>> capture(String regex) {
+        val pattern = StrFuncs.regex(regex);
         return StreamPlusAccess.of(
-                host   -> StrFuncs.capture(StringAccess.this.apply(host), Pattern.compile(regex)),
+                host   -> StrFuncs.capture(StringAccess.this.apply(host), pattern),
                 access -> FuncMapAccess.of(access, StringAccess::of, StringAccess::of));
     }
     
     public default StreamPlusAccess<HOST, FuncMap<String, String>, FuncMapAccess<HOST, String, String, StringAccess<HOST>, StringAccess<HOST>>> capture(String regex, RegExFlag flags) {
+        val pattern = StrFuncs.regex(regex, flags);
         return StreamPlusAccess.of(
-                host   -> StrFuncs.capture(StringAccess.this.apply(host), Pattern.compile(regex, flags.getIntValue())),
+                host   -> StrFuncs.capture(StringAccess.this.apply(host), pattern),
                 access -> FuncMapAccess.of(access, StringAccess::of, StringAccess::of));
     }
     
     public default StreamPlusAccess<HOST, FuncMap<String, String>, FuncMapAccess<HOST, String, String, StringAccess<HOST>, StringAccess<HOST>>> capture(String regex, int flags) {
+        val pattern = StrFuncs.regex(regex, flags);
         return StreamPlusAccess.of(
-                host   -> StrFuncs.capture(StringAccess.this.apply(host), Pattern.compile(regex, flags)),
+                host   -> StrFuncs.capture(StringAccess.this.apply(host), pattern),
                 access -> FuncMapAccess.of(access, StringAccess::of, StringAccess::of));
     }
     
@@ -346,6 +346,13 @@ public interface FuncList<DATA>
      */
     @SafeVarargs
     public static <TARGET> FuncList<TARGET> combine(FuncList<TARGET>... lists) {
+        if ((lists.length > 0) && Stream.of(lists).allMatch(ImmutableFuncList.class::isInstance)) {
+            ImmutableFuncList<TARGET> combined = (ImmutableFuncList<TARGET>) lists[0];
+            for (int i = 1; i < lists.length; i++) {
+                combined = combined.concat((ImmutableFuncList<TARGET>) lists[i]);
+            }
+            return combined;
+        }
         ImmutableFuncList<FuncList<TARGET>> listOfList = FuncList.listOf(lists);
         return listOfList.flatMap(Func.itself());
     }
@@ -0,0 +1,254 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe memoization of a one-shot source used by {@link StreamBackedFuncList}.
+ * 
+ * The source is materialized exactly once into a chunked, append-only buffer.
+ * The chunks grow geometrically (16, 32, 64, ...) so no element is ever copied once added.
+ * A value is published by the volatile write to {@code count} after it is stored,
+ *   so reading at an index already materialized never blocks.
+ * Only the thread that needs to extend the frontier takes the lock (this object's monitor).
+ * 
+ * @param <DATA> the data type.
+ */
+final class FuncListCache<DATA> {
+    
+    private static final int FIRST_CHUNK_BITS = 4;
+    
+    private static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_BITS;
+    
+    private Spliterator<DATA> source;
+    
+    private Object[][] chunks = new Object[4][];
+    
+    /** The number of published elements -- written only under the lock. */
+    private volatile int count = 0;
+    
+    /** True once the source is exhausted -- written only under the lock, after the last count. */
+    private volatile boolean isComplete = false;
+    
+    FuncListCache(Spliterator<DATA> source) {
+        this.source = source;
+    }
+    
+    /**
+     * @return the number of elements materialized so far.
+     */
+    int materializedCount() {
+        return count;
+    }
+    
+    /**
+     * @return true if all the elements has been materialized.
+     */
+    boolean isComplete() {
+        return isComplete;
+    }
+    
+    /**
+     * Make sure the element at the index is materialized (if the source has that many elements).
+     * 
+     * @return true if the element at the index exists.
+     */
+    boolean ensure(int index) {
+        if (index < count)
+            return true;
+        if (isComplete)
+            return false;
+        
+        synchronized (this) {
+            while ((index >= count) && !isComplete) {
+                if (!source.tryAdvance(this::add)) {
+                    isComplete = true;
+                    // Let the source (and everything it holds) be garbage collected.
+                    source = null;
+                }
+            }
+            return index < count;
+        }
+    }
+    
+    /**
+     * Materialize all the elements.
+     * 
+     * @return the number of elements.
+     */
+    int completeAll() {
+        while (!isComplete) {
+            ensure(Integer.MAX_VALUE - 1);
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the element at the index -- the element must already be materialized (see {@link #ensure(int)}).
+     */
+    @SuppressWarnings("unchecked")
+    DATA get(int index) {
+        if (index >= count)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Materialized: " + count);
+        
+        int chunkIndex = chunkIndexOf(index);
+        int offset     = index - chunkStartOf(chunkIndex);
+        return (DATA) chunks[chunkIndex][offset];
+    }
+    
+    /**
+     * @return the java list of all the elements -- materialize all the elements.
+     */
+    List<DATA> toJavaList() {
+        int        size = completeAll();
+        List<DATA> list = new ArrayList<DATA>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+    
+    /**
+     * @return the spliterator that materialize as it goes and split on the materialized prefix.
+     */
+    Spliterator<DATA> spliterator() {
+        return new CacheSpliterator(0, -1);
+    }
+    
+    // Called under the lock.
+    private void add(DATA value) {
+        int index      = count;
+        int chunkIndex = chunkIndexOf(index);
+        if (chunkIndex >= chunks.length) {
+            Object[][] newChunks = new Object[chunks.length * 2][];
+            System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+            chunks = newChunks;
+        }
+        if (chunks[chunkIndex] == null) {
+            chunks[chunkIndex] = new Object[FIRST_CHUNK_SIZE << chunkIndex];
+        }
+        chunks[chunkIndex][index - chunkStartOf(chunkIndex)] = value;
+        // The volatile write publishes the value (and the chunks) to the readers.
+        count = index + 1;
+    }
+    
+    private static int chunkIndexOf(int index) {
+        int base = (index >>> FIRST_CHUNK_BITS) + 1;
+        return 31 - Integer.numberOfLeadingZeros(base);
+    }
+    
+    private static int chunkStartOf(int chunkIndex) {
+        return ((1 << chunkIndex) - 1) << FIRST_CHUNK_BITS;
+    }
+    
+    /**
+     * Spliterator over the cache.
+     * With an unknown fence, it pulls from the source as needed;
+     *   splitting then hands out the already materialized part (if any) as a sized spliterator.
+     * With a known fence, it only covers the materialized elements and splits in halves.
+     */
+    private final class CacheSpliterator implements Spliterator<DATA> {
+        
+        private int index;
+        
+        private int fence;
+        
+        // Decided once -- the open-ended spliterator stays unsized even after the source completes.
+        private final int characteristics;
+        
+        CacheSpliterator(int index, int fence) {
+            if ((fence < 0) && isComplete) {
+                fence = count;
+            }
+            this.index           = index;
+            this.fence           = fence;
+            this.characteristics = (fence >= 0) ? (ORDERED | SIZED | SUBSIZED | IMMUTABLE) : (ORDERED | IMMUTABLE);
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super DATA> action) {
+            if (fence >= 0) {
+                if (index >= fence)
+                    return false;
+            } else if (!ensure(index)) {
+                return false;
+            }
+            action.accept(get(index++));
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super DATA> action) {
+            if (fence >= 0) {
+                while (index < fence) {
+                    action.accept(get(index++));
+                }
+                return;
+            }
+            while (ensure(index)) {
+                action.accept(get(index++));
+            }
+        }
+        
+        @Override
+        public Spliterator<DATA> trySplit() {
+            if (fence < 0) {
+                if (isComplete) {
+                    fence = count;
+                } else {
+                    int materialized = count;
+                    if (materialized - index < 2)
+                        return null;
+                    CacheSpliterator prefix = new CacheSpliterator(index, materialized);
+                    index = materialized;
+                    return prefix;
+                }
+            }
+            int middle = (index + fence) >>> 1;
+            if (middle <= index)
+                return null;
+            CacheSpliterator prefix = new CacheSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            if (fence >= 0)
+                return fence - index;
+            if (isComplete)
+                return count - index;
+            return Long.MAX_VALUE;
+        }
+        
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+}
@@ -25,7 +25,11 @@ package functionalj.list;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 import functionalj.list.doublelist.DoubleFuncList;
+import functionalj.stream.StreamPartitions;
 import lombok.val;
 
 class FuncListHelper {
@@ -49,4 +53,20 @@ class FuncListHelper {
         }
         return FuncList.from(lists.stream().map(each -> ImmutableFuncList.from(each.stream())));
     }
+    
+    /** @return the lists of the partitions -- see {@link StreamPartitions}. */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    static <DATA> FuncList<DATA>[] split(AsFuncList<DATA> asList, boolean[] isKept, Predicate<? super DATA> ... predicates) {
+        val list        = asList.asFuncList();
+        val spliterator = (list instanceof ImmutableFuncList)
+                        ? Spliterators.spliterator(list.iterator(), list.size(), Spliterator.ORDERED)
+                        : list.streamPlus().stream().spliterator();
+        val arrays = StreamPartitions.partition(spliterator, isKept, predicates);
+        val lists  = new FuncList[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            lists[i] = new ImmutableFuncList<DATA>((DATA[]) arrays[i], list.mode());
+        }
+        return (FuncList<DATA>[]) lists;
+    }
 }
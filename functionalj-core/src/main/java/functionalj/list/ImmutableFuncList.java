@@ -25,6 +25,7 @@ package functionalj.list;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -32,11 +33,13 @@ import java.util.ListIterator;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import functionalj.function.IntObjBiFunction;
 import functionalj.function.ObjectObjectToIntegerFunction;
 import functionalj.result.Result;
 import functionalj.stream.StreamPlus;
@@ -213,6 +216,8 @@ public final class ImmutableFuncList<DATA> implements FuncList<DATA> {
             this.data = Collections.emptyList();
         } else if (data instanceof ImmutableFuncList) {
             this.data = ((ImmutableFuncList<DATA>) data).data;
+        } else if (data instanceof RrbVector) {
+            this.data = (RrbVector<DATA>) data;
         } else {
             val list = new ArrayList<DATA>();
             data.forEach(list::add);
@@ -222,6 +227,13 @@ public final class ImmutableFuncList<DATA> implements FuncList<DATA> {
         this.mode = mode;
     }
     
+    // The array is used as is so it must not be shared.
+    ImmutableFuncList(DATA[] data, Mode mode) {
+        this.data = Arrays.asList(data);
+        this.size = data.length;
+        this.mode = mode;
+    }
+    
     @Override
     public StreamPlus<DATA> stream() {
         if (size == -1) {
@@ -387,11 +399,14 @@ public final class ImmutableFuncList<DATA> implements FuncList<DATA> {
             list.add(value);
             return new ImmutableFuncList<DATA>(list, 1, mode());
         }
+        if (data instanceof RrbVector) {
+            return withVector(vector().append(value));
+        }
         return syncIf(() -> (data instanceof ArrayList) && (size == data.size()), () -> {
             data.add(value);
             return new ImmutableFuncList<>(data, data.size(), mode());
         }, () -> {
-            return FuncList.super.append(value);
+            return withVector(vector().append(value));
         });
     }
     
@@ -407,13 +422,18 @@ public final class ImmutableFuncList<DATA> implements FuncList<DATA> {
         // }
         // return new ImmutableFuncList<DATA>(list, list.size(), isLazy);
         // }
+        if ((values == null) || (values.length == 0))
+            return this;
+        if (data instanceof RrbVector) {
+            return withVector(vector().appendAll(Arrays.asList(values)));
+        }
         return syncIf(() -> (data instanceof ArrayList) && (size == data.size()), () -> {
             for (DATA value : values) {
                 data.add(value);
             }
             return new ImmutableFuncList<>(data, data.size(), mode());
         }, () -> {
-            return FuncList.super.appendAll(values);
+            return withVector(vector().appendAll(Arrays.asList(values)));
         });
     }
     
@@ -426,14 +446,170 @@ public final class ImmutableFuncList<DATA> implements FuncList<DATA> {
         // list.addAll(collection);
         // return new ImmutableFuncList<DATA>(list, list.size(), isLazy);
         // }
+        if (collection == null)
+            return this;
+        if (data instanceof RrbVector) {
+            return withVector(vector().concat(ImmutableFuncList.<DATA>vectorOf(collection)));
+        }
         return syncIf(() -> (data instanceof ArrayList) && (size == data.size()), () -> {
             data.addAll(collection);
             return new ImmutableFuncList<>(data, data.size(), mode());
         }, () -> {
-            return FuncList.super.appendAll(collection);
+            return withVector(vector().concat(ImmutableFuncList.<DATA>vectorOf(collection)));
         });
     }
     
+    // -- Persistent modification --
+    // These are done on the persistent vector (see RrbVector) so a chain of modifications shares the structure
+    //   instead of stacking up layers of derived lists.
+    
+    @Override
+    public FuncList<DATA> prepend(DATA value) {
+        return withVector(vector().prepend(value));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public FuncList<DATA> prependAll(DATA... values) {
+        if ((values == null) || (values.length == 0))
+            return this;
+        return withVector(vector().prependAll(Arrays.asList(values)));
+    }
+    
+    @Override
+    public FuncList<DATA> prependAll(Collection<? extends DATA> collection) {
+        if ((collection == null) || collection.isEmpty())
+            return this;
+        return withVector(ImmutableFuncList.<DATA>vectorOf(collection).concat(vector()));
+    }
+    
+    @Override
+    public FuncList<DATA> with(int index, DATA value) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException(index + "");
+        if (index >= size)
+            throw new IndexOutOfBoundsException(index + " vs " + size);
+        if (data.get(index) == value)
+            return this;
+        return withVector(vector().with(index, value));
+    }
+    
+    @Override
+    public FuncList<DATA> with(int index, Function<DATA, DATA> mapper) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException(index + "");
+        if (index >= size)
+            throw new IndexOutOfBoundsException(index + " vs " + size);
+        // The mapper runs once here (in any mode) so a no-op write can return this list.
+        val orgValue = data.get(index);
+        val newValue = mapper.apply(orgValue);
+        if (newValue == orgValue)
+            return this;
+        return withVector(vector().with(index, newValue));
+    }
+    
+    @Override
+    public FuncList<DATA> with(int index, IntObjBiFunction<DATA, DATA> mapper) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException(index + "");
+        if (index >= size)
+            throw new IndexOutOfBoundsException(index + " vs " + size);
+        val orgValue = data.get(index);
+        val newValue = mapper.apply(index, orgValue);
+        if (newValue == orgValue)
+            return this;
+        return withVector(vector().with(index, newValue));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public FuncList<DATA> insertAt(int index, DATA... elements) {
+        if ((elements == null) || (elements.length == 0))
+            return this;
+        if (index < 0)
+            return FuncList.super.insertAt(index, elements);
+        return withVector(vector().insertAllAt(Math.min(index, size), Arrays.asList(elements)));
+    }
+    
+    @Override
+    public FuncList<DATA> insertAllAt(int index, Collection<? extends DATA> collection) {
+        if ((collection == null) || collection.isEmpty())
+            return this;
+        if (index < 0)
+            return FuncList.super.insertAllAt(index, collection);
+        return withVector(vector().insertAllAt(Math.min(index, size), ImmutableFuncList.<DATA>vectorOf(collection)));
+    }
+    
+    @Override
+    public FuncList<DATA> excludeAt(int index) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException("index: " + index);
+        if (index >= size)
+            return this;
+        return withVector(vector().remove(index, index + 1));
+    }
+    
+    @Override
+    public FuncList<DATA> excludeFrom(int fromIndexInclusive, int count) {
+        if (fromIndexInclusive < 0)
+            throw new IndexOutOfBoundsException("fromIndexInclusive: " + fromIndexInclusive);
+        if (count <= 0)
+            throw new IndexOutOfBoundsException("count: " + count);
+        if (fromIndexInclusive >= size)
+            return this;
+        val toIndexExclusive = (int)Math.min((long)fromIndexInclusive + count, size);
+        return withVector(vector().remove(fromIndexInclusive, toIndexExclusive));
+    }
+    
+    @Override
+    public FuncList<DATA> excludeBetween(int fromIndexInclusive, int toIndexExclusive) {
+        if (fromIndexInclusive < 0)
+            throw new IndexOutOfBoundsException("fromIndexInclusive: " + fromIndexInclusive);
+        if (toIndexExclusive < 0)
+            throw new IndexOutOfBoundsException("toIndexExclusive: " + toIndexExclusive);
+        if (fromIndexInclusive > toIndexExclusive)
+            throw new IndexOutOfBoundsException("fromIndexInclusive: " + fromIndexInclusive + ", toIndexExclusive: " + toIndexExclusive);
+        if ((fromIndexInclusive == toIndexExclusive) || (fromIndexInclusive >= size))
+            return this;
+        return withVector(vector().remove(fromIndexInclusive, Math.min(toIndexExclusive, size)));
+    }
+    
+    @Override
+    public FuncList<DATA> subList(int fromIndexInclusive, int toIndexExclusive) {
+        if ((fromIndexInclusive < 0) || (toIndexExclusive < fromIndexInclusive))
+            return FuncList.super.subList(fromIndexInclusive, toIndexExclusive);
+        val from = Math.min(fromIndexInclusive, size);
+        val to   = Math.min(toIndexExclusive,   size);
+        return withVector(vector().slice(from, to));
+    }
+    
+    /**
+     * Concatenate the two lists sharing the structure of both.
+     */
+    ImmutableFuncList<DATA> concat(ImmutableFuncList<DATA> other) {
+        if (other.isEmpty())
+            return this;
+        return withVector(vector().concat(other.vector()));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private RrbVector<DATA> vector() {
+        if (data instanceof RrbVector)
+            return (RrbVector<DATA>) data;
+        return RrbVector.from(data, size);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <DATA> RrbVector<DATA> vectorOf(Collection<? extends DATA> collection) {
+        if (collection instanceof ImmutableFuncList)
+            return ((ImmutableFuncList<DATA>) collection).vector();
+        return RrbVector.from(collection, collection.size());
+    }
+    
+    private ImmutableFuncList<DATA> withVector(RrbVector<DATA> vector) {
+        return new ImmutableFuncList<DATA>(vector, vector.size(), mode);
+    }
+    
     private FuncList<DATA> syncIf(BooleanSupplier condition, Supplier<FuncList<DATA>> matchAction, Supplier<FuncList<DATA>> elseAction) {
         synchronized (this) {
             if (condition.getAsBoolean()) {
@@ -0,0 +1,584 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.list;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Persistent relaxed-radix-balanced vector (RRB-tree) used as the storage of {@link ImmutableFuncList}.
+ *
+ * Leaves are {@code Object[]} of up to 32 elements and branches keep a cumulative size table
+ *   so the tree can hold partially filled nodes after insert, concat and slice.
+ * All operations return a new vector that shares the untouched nodes with the original one.
+ * Indexed get and update are O(log32 n); insert, remove, concat and slice are O(log32 n) plus the size of the inserted data.
+ *
+ * @param <DATA> the data type.
+ */
+public final class RrbVector<DATA> extends AbstractList<DATA> implements RandomAccess {
+    
+    static final int BITS  = 5;
+    static final int WIDTH = 1 << BITS;
+    
+    /** The number of extra nodes allowed (over the optimal count) before the concat re-packs them. */
+    static final int EXTRA = 2;
+    
+    private static final Object[] EMPTY_LEAF = new Object[0];
+    
+    @SuppressWarnings("rawtypes")
+    private static final RrbVector EMPTY = new RrbVector<>(EMPTY_LEAF, 0, 0);
+    
+    /** Branch node: children are leaves (Object[]) when the height is 1, branches otherwise. */
+    static final class Branch {
+        final Object[] children;
+        final int[]    sizes;
+        Branch(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes    = sizes;
+        }
+        int size() {
+            return sizes[sizes.length - 1];
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    public static <DATA> RrbVector<DATA> empty() {
+        return (RrbVector<DATA>) EMPTY;
+    }
+    
+    /**
+     * Create a vector from the first {@code size} elements of the given collection.
+     */
+    public static <DATA> RrbVector<DATA> from(Collection<? extends DATA> collection, int size) {
+        if (collection instanceof RrbVector) {
+            @SuppressWarnings("unchecked")
+            RrbVector<DATA> vector = (RrbVector<DATA>) collection;
+            return (size >= vector.size) ? vector : vector.slice(0, size);
+        }
+        Object[] elements = collection.toArray();
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+        return fromArray(elements);
+    }
+    
+    /**
+     * Create a vector from the given elements -- the array is copied.
+     */
+    public static <DATA> RrbVector<DATA> fromArray(Object[] elements) {
+        int length = elements.length;
+        if (length == 0)
+            return empty();
+        
+        int      leafCount = (length + WIDTH - 1) / WIDTH;
+        Object[] nodes     = new Object[leafCount];
+        for (int i = 0; i < leafCount; i++) {
+            int from = i * WIDTH;
+            int to   = Math.min(from + WIDTH, length);
+            nodes[i] = Arrays.copyOfRange(elements, from, to);
+        }
+        
+        int height = 0;
+        while (nodes.length > 1) {
+            int      count  = (nodes.length + WIDTH - 1) / WIDTH;
+            Object[] parent = new Object[count];
+            for (int i = 0; i < count; i++) {
+                int from = i * WIDTH;
+                int to   = Math.min(from + WIDTH, nodes.length);
+                parent[i] = branch(Arrays.copyOfRange(nodes, from, to), height + 1);
+            }
+            nodes = parent;
+            height++;
+        }
+        return new RrbVector<>(nodes[0], height, length);
+    }
+    
+    // -- Data --
+    
+    private final Object root;
+    private final int    height;
+    private final int    size;
+    
+    private RrbVector(Object root, int height, int size) {
+        this.root   = root;
+        this.height = height;
+        this.size   = size;
+    }
+    
+    // -- Query --
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public DATA get(int index) {
+        checkIndex(index);
+        Object node = root;
+        int    i    = index;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int    slot   = slotOf(branch, h, i);
+            if (slot > 0) {
+                i -= branch.sizes[slot - 1];
+            }
+            node = branch.children[slot];
+        }
+        return (DATA) ((Object[]) node)[i];
+    }
+    
+    @Override
+    public Iterator<DATA> iterator() {
+        return new LeafIterator();
+    }
+    
+    @Override
+    public Spliterator<DATA> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE);
+    }
+    
+    @Override
+    public void forEach(Consumer<? super DATA> action) {
+        forEachIn(root, height, action);
+    }
+    
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyInto(root, height, array, 0);
+        return array;
+    }
+    
+    // -- Modification --
+    
+    /**
+     * @return the new vector with the value replacing the element at the index.
+     */
+    public RrbVector<DATA> with(int index, DATA value) {
+        checkIndex(index);
+        return new RrbVector<>(update(root, height, index, value), height, size);
+    }
+    
+    /**
+     * @return the new vector with the value added to the end.
+     */
+    public RrbVector<DATA> append(DATA value) {
+        if (size == 0)
+            return new RrbVector<>(new Object[] { value }, 0, 1);
+        
+        Object newRoot = push(root, height, value);
+        if (newRoot != null)
+            return new RrbVector<>(newRoot, height, size + 1);
+        
+        Object[] children = new Object[] { root, path(height, value) };
+        return new RrbVector<>(branch(children, height + 1), height + 1, size + 1);
+    }
+    
+    /**
+     * @return the new vector with the values added to the end.
+     */
+    public RrbVector<DATA> appendAll(Collection<? extends DATA> values) {
+        return concat(from(values, values.size()));
+    }
+    
+    /**
+     * @return the new vector with the value added to the beginning.
+     */
+    public RrbVector<DATA> prepend(DATA value) {
+        return RrbVector.<DATA>fromArray(new Object[] { value }).concat(this);
+    }
+    
+    /**
+     * @return the new vector with the values added to the beginning.
+     */
+    public RrbVector<DATA> prependAll(Collection<? extends DATA> values) {
+        return RrbVector.<DATA>from(values, values.size()).concat(this);
+    }
+    
+    /**
+     * @return the new vector with the values inserted at the index.
+     */
+    public RrbVector<DATA> insertAllAt(int index, Collection<? extends DATA> values) {
+        if ((index < 0) || (index > size))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        
+        RrbVector<DATA> middle = from(values, values.size());
+        if (index == 0)
+            return middle.concat(this);
+        if (index == size)
+            return this.concat(middle);
+        return slice(0, index).concat(middle).concat(slice(index, size));
+    }
+    
+    /**
+     * @return the new vector without the elements from {@code fromIndexInclusive} to {@code toIndexExclusive}.
+     */
+    public RrbVector<DATA> remove(int fromIndexInclusive, int toIndexExclusive) {
+        checkRange(fromIndexInclusive, toIndexExclusive);
+        if (fromIndexInclusive == toIndexExclusive)
+            return this;
+        return slice(0, fromIndexInclusive).concat(slice(toIndexExclusive, size));
+    }
+    
+    /**
+     * @return the new vector containing the elements from {@code fromIndexInclusive} to {@code toIndexExclusive}.
+     */
+    public RrbVector<DATA> slice(int fromIndexInclusive, int toIndexExclusive) {
+        checkRange(fromIndexInclusive, toIndexExclusive);
+        if ((fromIndexInclusive == 0) && (toIndexExclusive == size))
+            return this;
+        if (fromIndexInclusive == toIndexExclusive)
+            return empty();
+        
+        Object node = root;
+        if (toIndexExclusive < size) {
+            node = take(node, height, toIndexExclusive);
+        }
+        if (fromIndexInclusive > 0) {
+            node = drop(node, height, fromIndexInclusive);
+        }
+        return collapse(node, height, toIndexExclusive - fromIndexInclusive);
+    }
+    
+    /**
+     * @return the new vector with the elements of this vector followed by the elements of the other vector.
+     */
+    public RrbVector<DATA> concat(RrbVector<DATA> other) {
+        if (other.size == 0)
+            return this;
+        if (this.size == 0)
+            return other;
+        
+        Object[] nodes     = concatSubTree(this.root, this.height, other.root, other.height);
+        int      newHeight = Math.max(this.height, other.height);
+        int      newSize   = this.size + other.size;
+        if (nodes.length == 1)
+            return new RrbVector<>(nodes[0], newHeight, newSize);
+        return new RrbVector<>(branch(nodes, newHeight + 1), newHeight + 1, newSize);
+    }
+    
+    // -- Internal --
+    
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= size))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    
+    private void checkRange(int fromIndexInclusive, int toIndexExclusive) {
+        if ((fromIndexInclusive < 0) || (toIndexExclusive > size) || (fromIndexInclusive > toIndexExclusive))
+            throw new IndexOutOfBoundsException("fromIndexInclusive: " + fromIndexInclusive + ", toIndexExclusive: " + toIndexExclusive + ", Size: " + size);
+    }
+    
+    /** The radix guess is always a lower bound of the actual slot, so only a short forward scan is needed. */
+    private static int slotOf(Branch branch, int height, int index) {
+        int shift = BITS * height;
+        int slot  = (shift >= 31) ? 0 : Math.min(index >>> shift, branch.sizes.length - 1);
+        while (branch.sizes[slot] <= index) {
+            slot++;
+        }
+        return slot;
+    }
+    
+    private static int sizeOf(Object node, int height) {
+        return (height == 0) ? ((Object[]) node).length : ((Branch) node).size();
+    }
+    
+    private static Branch branch(Object[] children, int height) {
+        int[] sizes = new int[children.length];
+        int   total = 0;
+        for (int i = 0; i < children.length; i++) {
+            total += sizeOf(children[i], height - 1);
+            sizes[i] = total;
+        }
+        return new Branch(children, sizes);
+    }
+    
+    private static Object path(int height, Object value) {
+        Object node = new Object[] { value };
+        for (int h = 1; h <= height; h++) {
+            node = new Branch(new Object[] { node }, new int[] { 1 });
+        }
+        return node;
+    }
+    
+    private static Object update(Object node, int height, int index, Object value) {
+        if (height == 0) {
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = value;
+            return leaf;
+        }
+        Branch   branch   = (Branch) node;
+        int      slot     = slotOf(branch, height, index);
+        int      offset   = (slot == 0) ? 0 : branch.sizes[slot - 1];
+        Object[] children = branch.children.clone();
+        children[slot] = update(children[slot], height - 1, index - offset, value);
+        return new Branch(children, branch.sizes);
+    }
+    
+    /** @return the new node with the value pushed to the right-most leaf or null if this sub tree is full. */
+    private static Object push(Object node, int height, Object value) {
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            if (leaf.length >= WIDTH)
+                return null;
+            Object[] newLeaf = Arrays.copyOf(leaf, leaf.length + 1);
+            newLeaf[leaf.length] = value;
+            return newLeaf;
+        }
+        
+        Branch branch = (Branch) node;
+        int    last   = branch.children.length - 1;
+        Object child  = push(branch.children[last], height - 1, value);
+        if (child != null) {
+            Object[] children = branch.children.clone();
+            int[]    sizes    = branch.sizes.clone();
+            children[last] = child;
+            sizes[last]++;
+            return new Branch(children, sizes);
+        }
+        if (branch.children.length >= WIDTH)
+            return null;
+        
+        Object[] children = Arrays.copyOf(branch.children, last + 2);
+        int[]    sizes    = Arrays.copyOf(branch.sizes,    last + 2);
+        children[last + 1] = path(height - 1, value);
+        sizes[last + 1]    = sizes[last] + 1;
+        return new Branch(children, sizes);
+    }
+    
+    /** @return the node with only the first {@code count} elements (0 &lt; count &lt;= size of node). */
+    private static Object take(Object node, int height, int count) {
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            return (count == leaf.length) ? leaf : Arrays.copyOf(leaf, count);
+        }
+        Branch branch = (Branch) node;
+        if (count == branch.size())
+            return branch;
+        
+        int      slot     = slotOf(branch, height, count - 1);
+        int      offset   = (slot == 0) ? 0 : branch.sizes[slot - 1];
+        Object[] children = Arrays.copyOf(branch.children, slot + 1);
+        int[]    sizes    = Arrays.copyOf(branch.sizes,    slot + 1);
+        children[slot] = take(children[slot], height - 1, count - offset);
+        sizes[slot]    = count;
+        return new Branch(children, sizes);
+    }
+    
+    /** @return the node without the first {@code count} elements (0 &lt;= count &lt; size of node). */
+    private static Object drop(Object node, int height, int count) {
+        if (count == 0)
+            return node;
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            return Arrays.copyOfRange(leaf, count, leaf.length);
+        }
+        Branch   branch   = (Branch) node;
+        int      slot     = slotOf(branch, height, count);
+        int      offset   = (slot == 0) ? 0 : branch.sizes[slot - 1];
+        Object[] children = Arrays.copyOfRange(branch.children, slot, branch.children.length);
+        int[]    sizes    = new int[children.length];
+        children[0] = drop(children[0], height - 1, count - offset);
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = branch.sizes[slot + i] - count;
+        }
+        return new Branch(children, sizes);
+    }
+    
+    private static <DATA> RrbVector<DATA> collapse(Object node, int height, int size) {
+        while ((height > 0) && (((Branch) node).children.length == 1)) {
+            node = ((Branch) node).children[0];
+            height--;
+        }
+        return new RrbVector<>(node, height, size);
+    }
+    
+    /**
+     * Concatenate the two sub trees by merging down both seams.
+     *
+     * @return one or more nodes, all at the height of max(leftHeight, rightHeight).
+     */
+    private static Object[] concatSubTree(Object left, int leftHeight, Object right, int rightHeight) {
+        if (leftHeight > rightHeight) {
+            Branch   leftBranch = (Branch) left;
+            int      last       = leftBranch.children.length - 1;
+            Object[] middle     = concatSubTree(leftBranch.children[last], leftHeight - 1, right, rightHeight);
+            return rebalance(leftHeight, leftBranch.children, 0, last, middle, null, 0, 0);
+        }
+        if (leftHeight < rightHeight) {
+            Branch   rightBranch = (Branch) right;
+            Object[] middle      = concatSubTree(left, leftHeight, rightBranch.children[0], rightHeight - 1);
+            return rebalance(rightHeight, null, 0, 0, middle, rightBranch.children, 1, rightBranch.children.length);
+        }
+        if (leftHeight == 0) {
+            Object[] leftLeaf  = (Object[]) left;
+            Object[] rightLeaf = (Object[]) right;
+            if (leftLeaf.length + rightLeaf.length > WIDTH)
+                return new Object[] { leftLeaf, rightLeaf };
+            
+            Object[] leaf = Arrays.copyOf(leftLeaf, leftLeaf.length + rightLeaf.length);
+            System.arraycopy(rightLeaf, 0, leaf, leftLeaf.length, rightLeaf.length);
+            return new Object[] { leaf };
+        }
+        
+        Branch   leftBranch  = (Branch) left;
+        Branch   rightBranch = (Branch) right;
+        int      last        = leftBranch.children.length - 1;
+        Object[] middle      = concatSubTree(leftBranch.children[last], leftHeight - 1, rightBranch.children[0], rightHeight - 1);
+        return rebalance(leftHeight, leftBranch.children, 0, last, middle, rightBranch.children, 1, rightBranch.children.length);
+    }
+    
+    /**
+     * Join the children (all at height - 1) into nodes at the given height.
+     * The children are re-packed when there are more of them than the optimal count plus {@link #EXTRA}
+     *   so the tree does not degrade after many concatenations.
+     */
+    private static Object[] rebalance(int height,
+                                      Object[] left,  int leftFrom,  int leftTo,
+                                      Object[] middle,
+                                      Object[] right, int rightFrom, int rightTo) {
+        List<Object> children = new ArrayList<>((leftTo - leftFrom) + middle.length + (rightTo - rightFrom));
+        for (int i = leftFrom;  i < leftTo;  i++) children.add(left[i]);
+        for (Object each : middle)                children.add(each);
+        for (int i = rightFrom; i < rightTo; i++) children.add(right[i]);
+        
+        int childHeight = height - 1;
+        int slotCount   = 0;
+        for (Object child : children) {
+            slotCount += (childHeight == 0) ? ((Object[]) child).length : ((Branch) child).children.length;
+        }
+        int optimal = (slotCount + WIDTH - 1) / WIDTH;
+        if (children.size() > optimal + EXTRA) {
+            children = repack(children, childHeight, slotCount);
+        }
+        
+        int      count = children.size();
+        int      nodes = (count + WIDTH - 1) / WIDTH;
+        Object[] result = new Object[nodes];
+        for (int n = 0; n < nodes; n++) {
+            int from = n * count / nodes;
+            int to   = (n + 1) * count / nodes;
+            result[n] = branch(children.subList(from, to).toArray(), height);
+        }
+        return result;
+    }
+    
+    /** Re-pack the slots (elements or grand-children) of the given nodes into full nodes. */
+    private static List<Object> repack(List<Object> nodes, int height, int slotCount) {
+        List<Object> packed  = new ArrayList<>((slotCount + WIDTH - 1) / WIDTH);
+        Object[]     current = new Object[Math.min(WIDTH, slotCount)];
+        int          filled  = 0;
+        int          left    = slotCount;
+        for (Object node : nodes) {
+            Object[] slots = (height == 0) ? (Object[]) node : ((Branch) node).children;
+            for (Object slot : slots) {
+                current[filled++] = slot;
+                left--;
+                if (filled == current.length) {
+                    packed.add((height == 0) ? current : branch(current, height));
+                    current = new Object[Math.min(WIDTH, left)];
+                    filled  = 0;
+                }
+            }
+        }
+        return packed;
+    }
+    
+    private static int copyInto(Object node, int height, Object[] array, int offset) {
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            System.arraycopy(leaf, 0, array, offset, leaf.length);
+            return offset + leaf.length;
+        }
+        for (Object child : ((Branch) node).children) {
+            offset = copyInto(child, height - 1, array, offset);
+        }
+        return offset;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <DATA> void forEachIn(Object node, int height, Consumer<? super DATA> action) {
+        if (height == 0) {
+            for (Object each : (Object[]) node) {
+                action.accept((DATA) each);
+            }
+            return;
+        }
+        for (Object child : ((Branch) node).children) {
+            forEachIn(child, height - 1, action);
+        }
+    }
+    
+    /** Iterate leaf by leaf so each element costs O(1) amortized. */
+    private final class LeafIterator implements Iterator<DATA> {
+        
+        private Object[] leaf      = EMPTY_LEAF;
+        private int      leafIndex = 0;
+        private int      index     = 0;
+        
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public DATA next() {
+            if (index >= size)
+                throw new NoSuchElementException();
+            if (leafIndex >= leaf.length) {
+                leaf      = leafAt(index);
+                leafIndex = 0;
+            }
+            index++;
+            return (DATA) leaf[leafIndex++];
+        }
+        
+        /** Only called at a leaf boundary, so the index is always the first element of the leaf. */
+        private Object[] leafAt(int index) {
+            Object node = root;
+            int    i    = index;
+            for (int h = height; h > 0; h--) {
+                Branch branch = (Branch) node;
+                int    slot   = slotOf(branch, h, i);
+                if (slot > 0) {
+                    i -= branch.sizes[slot - 1];
+                }
+                node = branch.children[slot];
+            }
+            return (Object[]) node;
+        }
+    }
+}
@@ -24,14 +24,8 @@
 package functionalj.list;
 
 import static functionalj.stream.ZipWithOption.AllowUnpaired;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.Objects;
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import functionalj.stream.StreamPlus;
@@ -43,12 +37,10 @@ public class StreamBackedFuncList<DATA> implements FuncList<DATA> {
     
     private final Mode mode;
     
-    private final List<DATA> cache = new ArrayList<DATA>();
-    
-    private final Spliterator<DATA> spliterator;
+    private final FuncListCache<DATA> cache;
     
     StreamBackedFuncList(@NonNull Stream<DATA> stream, @NonNull Mode mode) {
-        this.spliterator = stream.spliterator();
+        this.cache = new FuncListCache<DATA>(stream.spliterator());
         this.mode = mode;
         if (mode.isEager()) {
             size();
@@ -74,8 +66,8 @@ public class StreamBackedFuncList<DATA> implements FuncList<DATA> {
     @Override
     public FuncList<DATA> toEager() {
         // Just materialize all value.
-        int size = size();
-        return new ImmutableFuncList<DATA>(cache, size);
+        val list = cache.toJavaList();
+        return new ImmutableFuncList<DATA>(list, list.size());
     }
     
     @Override
@@ -88,38 +80,27 @@ public class StreamBackedFuncList<DATA> implements FuncList<DATA> {
     
     @Override
     public StreamPlus<DATA> stream() {
-        val indexRef = new AtomicInteger(0);
-        val valueConsumer = (Consumer<DATA>) ((DATA v) -> cache.add(v));
-        val newSpliterator = new Spliterators.AbstractSpliterator<DATA>(Long.MAX_VALUE, 0) {
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super DATA> consumer) {
-                int index = indexRef.getAndIncrement();
-                if (fromCache(consumer, index))
-                    return true;
-                boolean hadNext = false;
-                synchronized (this) {
-                    if (index >= cache.size()) {
-                        hadNext = spliterator.tryAdvance(valueConsumer);
-                    }
-                }
-                if (fromCache(consumer, index))
-                    return true;
-                return hadNext;
-            }
-        
-            private boolean fromCache(Consumer<? super DATA> consumer, int index) {
-                if (index >= cache.size())
-                    return false;
-                DATA value = cache.get(index);
-                consumer.accept(value);
-                return true;
-            }
-        };
-        val newStream = StreamSupport.stream(newSpliterator, false);
+        val newStream = StreamSupport.stream(cache.spliterator(), false);
         return StreamPlus.from(newStream);
     }
     
+    @Override
+    public int size() {
+        return cache.completeAll();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return !cache.ensure(0);
+    }
+    
+    @Override
+    public DATA get(int index) {
+        if ((index < 0) || !cache.ensure(index))
+            throw new IndexOutOfBoundsException("" + index);
+        return cache.get(index);
+    }
+    
     @Override
     public int hashCode() {
         return StreamPlusUtils.hashCode(this.stream());
@@ -163,7 +163,7 @@ public interface DoubleFuncList extends AsDoubleFuncList, DoubleIterable, Double
      * Create a FuncList from the given doubles.
      */
     public static ImmutableDoubleFuncList from(double[] datas) {
-        return new ImmutableDoubleFuncList(datas, datas.length);
+        return new ImmutableDoubleFuncList(datas.clone(), datas.length);
     }
     
     /**
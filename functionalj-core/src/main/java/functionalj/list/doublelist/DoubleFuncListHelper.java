@@ -24,7 +24,11 @@
 package functionalj.list.doublelist;
 
 import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoublePredicate;
 import functionalj.list.FuncList;
+import functionalj.stream.doublestream.DoubleStreamPartitions;
 import functionalj.stream.doublestream.GrowOnlyDoubleArray;
 import lombok.val;
 
@@ -49,4 +53,18 @@ public class DoubleFuncListHelper {
         }
         return FuncList.from(lists.stream().map(each -> each.toFuncList()));
     }
+    
+    /** @return the lists of the partitions -- see {@link DoubleStreamPartitions}. */
+    static DoubleFuncList[] split(AsDoubleFuncList asList, boolean[] isKept, DoublePredicate ... predicates) {
+        val list        = asList.asDoubleFuncList();
+        val spliterator = (list instanceof ImmutableDoubleFuncList)
+                        ? Spliterators.spliterator(list.iterator(), list.size(), Spliterator.ORDERED)
+                        : list.doubleStreamPlus().doubleStream().spliterator();
+        val arrays = DoubleStreamPartitions.partition(spliterator, isKept, predicates);
+        val lists  = new DoubleFuncList[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            lists[i] = new ImmutableDoubleFuncList(arrays[i], arrays[i].length, list.mode());
+        }
+        return lists;
+    }
 }
@@ -46,10 +46,8 @@ public interface DoubleFuncListWithSplit extends DoubleFuncListWithMapToTuple {
      * The elements in this stream is guaranteed to be in one of the result stream.
      */
     public default Tuple2<DoubleFuncList, DoubleFuncList> split(DoublePredicate predicate) {
-        val temp = mapToTuple(it -> predicate.test(it) ? 0 : 1, it -> it).toImmutableList();
-        val list1 = temp.filter(it -> it._1() == 0).mapToDouble(it -> it._2());
-        val list2 = temp.filter(it -> it._1() == 1).mapToDouble(it -> it._2());
-        return Tuple.of(list1, list2);
+        val lists = DoubleFuncListHelper.split(this, new boolean[] { true, true }, predicate);
+        return Tuple.of(lists[0], lists[1]);
     }
     
     /**
@@ -140,12 +138,8 @@ public interface DoubleFuncListWithSplit extends DoubleFuncListWithMapToTuple {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, DoubleFuncList> split(KEY key1, DoublePredicate predicate1, KEY key2, DoublePredicate predicate2, KEY key3, DoublePredicate predicate3, KEY key4, DoublePredicate predicate4, KEY key5, DoublePredicate predicate5, KEY key6, DoublePredicate predicate6) {
-        val splittedMap = split(key1, predicate1, key2, predicate2, key3, predicate3, key4, predicate4, key5, predicate5, key6);
-        if (key6 != null) {
-            val list6 = splittedMap.get(key6);
-            return splittedMap.with(key6, list6.filter(predicate6));
-        }
-        return splittedMap;
+        val lists = DoubleFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, key6 != null }, predicate1, predicate2, predicate3, predicate4, predicate5, predicate6);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], key5, lists[4], key6, lists[5]);
     }
     
     /**
@@ -160,10 +154,8 @@ public interface DoubleFuncListWithSplit extends DoubleFuncListWithMapToTuple {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, DoubleFuncList> split(KEY key1, DoublePredicate predicate, KEY key2) {
-        val temp = mapToTuple(it -> predicate.test(it) ? 0 : 1, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2);
+        val lists = DoubleFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null }, predicate);
+        return FuncMap.of(key1, lists[0], key2, lists[1]);
     }
     
     /**
@@ -178,11 +170,8 @@ public interface DoubleFuncListWithSplit extends DoubleFuncListWithMapToTuple {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, DoubleFuncList> split(KEY key1, DoublePredicate predicate1, KEY key2, DoublePredicate predicate2, KEY key3) {
-        val temp = mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : 2, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3);
+        val lists = DoubleFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null }, predicate1, predicate2);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2]);
     }
     
     /**
@@ -197,12 +186,8 @@ public interface DoubleFuncListWithSplit extends DoubleFuncListWithMapToTuple {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, DoubleFuncList> split(KEY key1, DoublePredicate predicate1, KEY key2, DoublePredicate predicate2, KEY key3, DoublePredicate predicate3, KEY otherKey) {
-        val temp = mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : 3, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list4 = (otherKey != null) ? temp.filter(it -> it._1() == 3).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, otherKey, list4);
+        val lists = DoubleFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, otherKey != null }, predicate1, predicate2, predicate3);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], otherKey, lists[3]);
     }
     
     /**
@@ -217,13 +202,8 @@ public interface DoubleFuncListWithSplit extends DoubleFuncListWithMapToTuple {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, DoubleFuncList> split(KEY key1, DoublePredicate predicate1, KEY key2, DoublePredicate predicate2, KEY key3, DoublePredicate predicate3, KEY key4, DoublePredicate predicate4, KEY otherKey) {
-        val temp = mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : 4, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list5 = (otherKey != null) ? temp.filter(it -> it._1() == 4).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, otherKey, list5);
+        val lists = DoubleFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, otherKey != null }, predicate1, predicate2, predicate3, predicate4);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], otherKey, lists[4]);
     }
     
     /**
@@ -238,13 +218,7 @@ public interface DoubleFuncListWithSplit extends DoubleFuncListWithMapToTuple {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, DoubleFuncList> split(KEY key1, DoublePredicate predicate1, KEY key2, DoublePredicate predicate2, KEY key3, DoublePredicate predicate3, KEY key4, DoublePredicate predicate4, KEY key5, DoublePredicate predicate5, KEY otherKey) {
-        val temp = mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : predicate5.test(it) ? 4 : 5, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list5 = (key5 != null) ? temp.filter(it -> it._1() == 4).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        val list6 = (otherKey != null) ? temp.filter(it -> it._1() == 5).mapToDouble(it -> it._2()) : DoubleFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, key5, list5, otherKey, list6);
+        val lists = DoubleFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, otherKey != null }, predicate1, predicate2, predicate3, predicate4, predicate5);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], key5, lists[4], otherKey, lists[5]);
     }
 }
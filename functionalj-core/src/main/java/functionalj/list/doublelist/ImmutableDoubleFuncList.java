@@ -35,7 +35,6 @@ import functionalj.list.FuncList;
 import functionalj.list.FuncList.Mode;
 import functionalj.stream.doublestream.DoubleStreamPlus;
 import functionalj.stream.doublestream.GrowOnlyDoubleArray;
-import functionalj.stream.intstream.IntStreamPlus;
 import functionalj.stream.markers.Sequential;
 import functionalj.stream.markers.Terminal;
 import lombok.val;
@@ -175,7 +174,7 @@ public class ImmutableDoubleFuncList implements DoubleFuncList {
     }
     
     ImmutableDoubleFuncList(double[] data, int size, Mode mode) {
-        this.data = new GrowOnlyDoubleArray((data == null) ? EMPTY_DOUBLE_ARRAY : data);
+        this.data = GrowOnlyDoubleArray.wrap((data == null) ? EMPTY_DOUBLE_ARRAY : data);
         this.mode = mode;
         this.size = size;
     }
@@ -195,9 +194,9 @@ public class ImmutableDoubleFuncList implements DoubleFuncList {
     @Override
     public DoubleStreamPlus doubleStream() {
         if (size == -1) {
-            return DoubleStreamPlus.from(data.stream());
+            return data.stream();
         } else {
-            return IntStreamPlus.infinite().limit(size).mapToDouble(i -> data.get(i));
+            return data.stream(0, size);
         }
     }
     
@@ -242,7 +241,7 @@ public class ImmutableDoubleFuncList implements DoubleFuncList {
         synchronized (this) {
             if (toStringCache != null)
                 return toStringCache;
-            toStringCache = DoubleStreamPlus.from(data.stream().limit(size)).toListString();
+            toStringCache = doubleStream().toListString();
             return toStringCache;
         }
     }
@@ -284,7 +283,7 @@ public class ImmutableDoubleFuncList implements DoubleFuncList {
     
     @Override
     public double[] toArray() {
-        return data.stream().toArray();
+        return doubleStream().toArray();
     }
     
     @Override
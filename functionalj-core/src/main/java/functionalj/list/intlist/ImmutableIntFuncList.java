@@ -174,7 +174,7 @@ public class ImmutableIntFuncList implements IntFuncList {
     }
     
     ImmutableIntFuncList(int[] data, int size, Mode mode) {
-        this.data = new GrowOnlyIntArray((data == null) ? EMPTY_INT_ARRAY : data);
+        this.data = GrowOnlyIntArray.wrap((data == null) ? EMPTY_INT_ARRAY : data);
         this.mode = mode;
         this.size = size;
     }
@@ -194,9 +194,9 @@ public class ImmutableIntFuncList implements IntFuncList {
     @Override
     public IntStreamPlus intStream() {
         if (size == -1) {
-            return IntStreamPlus.from(data.stream());
+            return data.stream();
         } else {
-            return IntStreamPlus.infinite().limit(size).map(i -> data.get(i));
+            return data.stream(0, size);
         }
     }
     
@@ -241,7 +241,7 @@ public class ImmutableIntFuncList implements IntFuncList {
         synchronized (this) {
             if (toStringCache != null)
                 return toStringCache;
-            toStringCache = IntStreamPlus.from(data.stream().limit(size)).toListString();
+            toStringCache = intStream().toListString();
             return toStringCache;
         }
     }
@@ -283,7 +283,7 @@ public class ImmutableIntFuncList implements IntFuncList {
     
     @Override
     public int[] toArray() {
-        return data.stream().toArray();
+        return intStream().toArray();
     }
     
     @Override
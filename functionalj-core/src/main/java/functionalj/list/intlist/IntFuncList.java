@@ -183,7 +183,7 @@ public interface IntFuncList
      * Create a FuncList from the given ints.
      */
     public static ImmutableIntFuncList from(int[] datas) {
-        return new ImmutableIntFuncList(datas, datas.length);
+        return new ImmutableIntFuncList(datas.clone(), datas.length);
     }
     
     /**
@@ -24,9 +24,13 @@
 package functionalj.list.intlist;
 
 import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntPredicate;
 import functionalj.list.FuncList;
 import functionalj.list.doublelist.DoubleFuncList;
 import functionalj.stream.intstream.GrowOnlyIntArray;
+import functionalj.stream.intstream.IntStreamPartitions;
 import lombok.val;
 
 public class IntFuncListHelper {
@@ -50,4 +54,18 @@ public class IntFuncListHelper {
         }
         return FuncList.from(lists.stream().map(each -> each.toFuncList()));
     }
+    
+    /** @return the lists of the partitions -- see {@link IntStreamPartitions}. */
+    static IntFuncList[] split(AsIntFuncList asList, boolean[] isKept, IntPredicate ... predicates) {
+        val list        = asList.asIntFuncList();
+        val spliterator = (list instanceof ImmutableIntFuncList)
+                        ? Spliterators.spliterator(list.iterator(), list.size(), Spliterator.ORDERED)
+                        : list.intStreamPlus().intStream().spliterator();
+        val arrays = IntStreamPartitions.partition(spliterator, isKept, predicates);
+        val lists  = new IntFuncList[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            lists[i] = new ImmutableIntFuncList(arrays[i], arrays[i].length, list.mode());
+        }
+        return lists;
+    }
 }
@@ -47,10 +47,8 @@ public interface IntFuncListWithSplit extends AsIntFuncList {
      * The elements in this stream is guaranteed to be in one of the result stream.
      */
     public default Tuple2<IntFuncList, IntFuncList> split(IntPredicate predicate) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate.test(it) ? 0 : 1, it -> it).toImmutableList();
-        val list1 = temp.filter(it -> it._1() == 0).mapToInt(it -> it._2());
-        val list2 = temp.filter(it -> it._1() == 1).mapToInt(it -> it._2());
-        return Tuple.of(list1, list2);
+        val lists = IntFuncListHelper.split(this, new boolean[] { true, true }, predicate);
+        return Tuple.of(lists[0], lists[1]);
     }
     
     /**
@@ -141,14 +139,8 @@ public interface IntFuncListWithSplit extends AsIntFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, IntFuncList> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4, IntPredicate predicate4, KEY key5, IntPredicate predicate5, KEY key6, IntPredicate predicate6) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : predicate5.test(it) ? 4 : 5, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list5 = (key5 != null) ? temp.filter(it -> it._1() == 4).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list6 = (key6 != null) ? temp.filter(it -> it._1() == 5).mapToInt(it -> it._2()) : IntFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, key5, list5, key6, list6.filter(predicate6));
+        val lists = IntFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, key6 != null }, predicate1, predicate2, predicate3, predicate4, predicate5, predicate6);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], key5, lists[4], key6, lists[5]);
     }
     
     /**
@@ -163,10 +155,8 @@ public interface IntFuncListWithSplit extends AsIntFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, IntFuncList> split(KEY key1, IntPredicate predicate, KEY key2) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate.test(it) ? 0 : 1, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToInt(it -> it._2()) : IntFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2);
+        val lists = IntFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null }, predicate);
+        return FuncMap.of(key1, lists[0], key2, lists[1]);
     }
     
     /**
@@ -181,11 +171,8 @@ public interface IntFuncListWithSplit extends AsIntFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, IntFuncList> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : 2, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToInt(it -> it._2()) : IntFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3);
+        val lists = IntFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null }, predicate1, predicate2);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2]);
     }
     
     /**
@@ -200,12 +187,8 @@ public interface IntFuncListWithSplit extends AsIntFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, IntFuncList> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY otherKey) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : 3, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list4 = (otherKey != null) ? temp.filter(it -> it._1() == 3).mapToInt(it -> it._2()) : IntFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, otherKey, list4);
+        val lists = IntFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, otherKey != null }, predicate1, predicate2, predicate3);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], otherKey, lists[3]);
     }
     
     /**
@@ -220,13 +203,8 @@ public interface IntFuncListWithSplit extends AsIntFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, IntFuncList> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4, IntPredicate predicate4, KEY otherKey) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : 4, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list5 = (otherKey != null) ? temp.filter(it -> it._1() == 4).mapToInt(it -> it._2()) : IntFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, otherKey, list5);
+        val lists = IntFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, otherKey != null }, predicate1, predicate2, predicate3, predicate4);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], otherKey, lists[4]);
     }
     
     /**
@@ -241,13 +219,7 @@ public interface IntFuncListWithSplit extends AsIntFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, IntFuncList> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4, IntPredicate predicate4, KEY key5, IntPredicate predicate5, KEY otherKey) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : predicate5.test(it) ? 4 : 5, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list5 = (key5 != null) ? temp.filter(it -> it._1() == 4).mapToInt(it -> it._2()) : IntFuncList.empty();
-        val list6 = (otherKey != null) ? temp.filter(it -> it._1() == 5).mapToInt(it -> it._2()) : IntFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, key5, list5, otherKey, list6);
+        val lists = IntFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, otherKey != null }, predicate1, predicate2, predicate3, predicate4, predicate5);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], key5, lists[4], otherKey, lists[5]);
     }
 }
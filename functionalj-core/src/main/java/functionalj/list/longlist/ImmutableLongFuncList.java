@@ -33,7 +33,6 @@ import java.util.function.Supplier;
 import java.util.stream.LongStream;
 import functionalj.list.FuncList;
 import functionalj.list.FuncList.Mode;
-import functionalj.stream.intstream.IntStreamPlus;
 import functionalj.stream.longstream.GrowOnlyLongArray;
 import functionalj.stream.longstream.LongStreamPlus;
 import functionalj.stream.markers.Sequential;
@@ -175,7 +174,7 @@ public class ImmutableLongFuncList implements LongFuncList {
     }
     
     ImmutableLongFuncList(long[] data, int size, Mode mode) {
-        this.data = new GrowOnlyLongArray((data == null) ? EMPTY_LONG_ARRAY : data);
+        this.data = GrowOnlyLongArray.wrap((data == null) ? EMPTY_LONG_ARRAY : data);
         this.mode = mode;
         this.size = size;
     }
@@ -195,9 +194,9 @@ public class ImmutableLongFuncList implements LongFuncList {
     @Override
     public LongStreamPlus longStream() {
         if (size == -1) {
-            return LongStreamPlus.from(data.stream());
+            return data.stream();
         } else {
-            return IntStreamPlus.infinite().limit(size).mapToLong(i -> data.get(i));
+            return data.stream(0, size);
         }
     }
     
@@ -242,7 +241,7 @@ public class ImmutableLongFuncList implements LongFuncList {
         synchronized (this) {
             if (toStringCache != null)
                 return toStringCache;
-            toStringCache = LongStreamPlus.from(data.stream().limit(size)).toListString();
+            toStringCache = longStream().toListString();
             return toStringCache;
         }
     }
@@ -284,7 +283,7 @@ public class ImmutableLongFuncList implements LongFuncList {
     
     @Override
     public long[] toArray() {
-        return data.stream().toArray();
+        return longStream().toArray();
     }
     
     @Override
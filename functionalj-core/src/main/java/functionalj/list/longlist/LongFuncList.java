@@ -164,7 +164,7 @@ public interface LongFuncList extends AsLongFuncList, LongIterable, LongPredicat
      * Create a FuncList from the given longs.
      */
     public static ImmutableLongFuncList from(long[] datas) {
-        return new ImmutableLongFuncList(datas, datas.length);
+        return new ImmutableLongFuncList(datas.clone(), datas.length);
     }
     
     /**
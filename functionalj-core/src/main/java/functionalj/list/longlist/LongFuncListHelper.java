@@ -24,9 +24,13 @@
 package functionalj.list.longlist;
 
 import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongPredicate;
 import functionalj.list.FuncList;
 import functionalj.list.doublelist.DoubleFuncList;
 import functionalj.stream.longstream.GrowOnlyLongArray;
+import functionalj.stream.longstream.LongStreamPartitions;
 import lombok.val;
 
 public class LongFuncListHelper {
@@ -50,4 +54,18 @@ public class LongFuncListHelper {
         }
         return FuncList.from(lists.stream().map(each -> each.toFuncList()));
     }
+    
+    /** @return the lists of the partitions -- see {@link LongStreamPartitions}. */
+    static LongFuncList[] split(AsLongFuncList asList, boolean[] isKept, LongPredicate ... predicates) {
+        val list        = asList.asLongFuncList();
+        val spliterator = (list instanceof ImmutableLongFuncList)
+                        ? Spliterators.spliterator(list.iterator(), list.size(), Spliterator.ORDERED)
+                        : list.longStreamPlus().longStream().spliterator();
+        val arrays = LongStreamPartitions.partition(spliterator, isKept, predicates);
+        val lists  = new LongFuncList[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            lists[i] = new ImmutableLongFuncList(arrays[i], arrays[i].length, list.mode());
+        }
+        return lists;
+    }
 }
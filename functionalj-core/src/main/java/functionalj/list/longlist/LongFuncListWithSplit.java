@@ -47,10 +47,8 @@ public interface LongFuncListWithSplit extends AsLongFuncList {
      * The elements in this stream is guaranteed to be in one of the result stream.
      */
     public default Tuple2<LongFuncList, LongFuncList> split(LongPredicate predicate) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate.test(it) ? 0 : 1, it -> it).toImmutableList();
-        val list1 = temp.filter(it -> it._1() == 0).mapToLong(it -> it._2());
-        val list2 = temp.filter(it -> it._1() == 1).mapToLong(it -> it._2());
-        return Tuple.of(list1, list2);
+        val lists = LongFuncListHelper.split(this, new boolean[] { true, true }, predicate);
+        return Tuple.of(lists[0], lists[1]);
     }
     
     /**
@@ -141,14 +139,8 @@ public interface LongFuncListWithSplit extends AsLongFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, LongFuncList> split(KEY key1, LongPredicate predicate1, KEY key2, LongPredicate predicate2, KEY key3, LongPredicate predicate3, KEY key4, LongPredicate predicate4, KEY key5, LongPredicate predicate5, KEY key6, LongPredicate predicate6) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : predicate5.test(it) ? 4 : 5, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list5 = (key5 != null) ? temp.filter(it -> it._1() == 4).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list6 = (key6 != null) ? temp.filter(it -> it._1() == 5).mapToLong(it -> it._2()) : LongFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, key5, list5, key6, list6.filter(predicate6));
+        val lists = LongFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, key6 != null }, predicate1, predicate2, predicate3, predicate4, predicate5, predicate6);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], key5, lists[4], key6, lists[5]);
     }
     
     /**
@@ -163,10 +155,8 @@ public interface LongFuncListWithSplit extends AsLongFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, LongFuncList> split(KEY key1, LongPredicate predicate, KEY key2) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate.test(it) ? 0 : 1, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToLong(it -> it._2()) : LongFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2);
+        val lists = LongFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null }, predicate);
+        return FuncMap.of(key1, lists[0], key2, lists[1]);
     }
     
     /**
@@ -181,11 +171,8 @@ public interface LongFuncListWithSplit extends AsLongFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, LongFuncList> split(KEY key1, LongPredicate predicate1, KEY key2, LongPredicate predicate2, KEY key3) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : 2, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToLong(it -> it._2()) : LongFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3);
+        val lists = LongFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null }, predicate1, predicate2);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2]);
     }
     
     /**
@@ -200,12 +187,8 @@ public interface LongFuncListWithSplit extends AsLongFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, LongFuncList> split(KEY key1, LongPredicate predicate1, KEY key2, LongPredicate predicate2, KEY key3, LongPredicate predicate3, KEY otherKey) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : 3, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list4 = (otherKey != null) ? temp.filter(it -> it._1() == 3).mapToLong(it -> it._2()) : LongFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, otherKey, list4);
+        val lists = LongFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, otherKey != null }, predicate1, predicate2, predicate3);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], otherKey, lists[3]);
     }
     
     /**
@@ -220,13 +203,8 @@ public interface LongFuncListWithSplit extends AsLongFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, LongFuncList> split(KEY key1, LongPredicate predicate1, KEY key2, LongPredicate predicate2, KEY key3, LongPredicate predicate3, KEY key4, LongPredicate predicate4, KEY otherKey) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : 4, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list5 = (otherKey != null) ? temp.filter(it -> it._1() == 4).mapToLong(it -> it._2()) : LongFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, otherKey, list5);
+        val lists = LongFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, otherKey != null }, predicate1, predicate2, predicate3, predicate4);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], otherKey, lists[4]);
     }
     
     /**
@@ -241,13 +219,7 @@ public interface LongFuncListWithSplit extends AsLongFuncList {
     @Eager
     @Terminal
     public default <KEY> FuncMap<KEY, LongFuncList> split(KEY key1, LongPredicate predicate1, KEY key2, LongPredicate predicate2, KEY key3, LongPredicate predicate3, KEY key4, LongPredicate predicate4, KEY key5, LongPredicate predicate5, KEY otherKey) {
-        val temp = funcListOf(this).mapToTuple(it -> predicate1.test(it) ? 0 : predicate2.test(it) ? 1 : predicate3.test(it) ? 2 : predicate4.test(it) ? 3 : predicate5.test(it) ? 4 : 5, it -> it).toImmutableList();
-        val list1 = (key1 != null) ? temp.filter(it -> it._1() == 0).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list2 = (key2 != null) ? temp.filter(it -> it._1() == 1).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list3 = (key3 != null) ? temp.filter(it -> it._1() == 2).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list4 = (key4 != null) ? temp.filter(it -> it._1() == 3).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list5 = (key5 != null) ? temp.filter(it -> it._1() == 4).mapToLong(it -> it._2()) : LongFuncList.empty();
-        val list6 = (otherKey != null) ? temp.filter(it -> it._1() == 5).mapToLong(it -> it._2()) : LongFuncList.empty();
-        return FuncMap.of(key1, list1, key2, list2, key3, list3, key4, list4, key5, list5, otherKey, list6);
+        val lists = LongFuncListHelper.split(this, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, otherKey != null }, predicate1, predicate2, predicate3, predicate4, predicate5);
+        return FuncMap.of(key1, lists[0], key2, lists[1], key3, lists[2], key4, lists[3], key5, lists[4], otherKey, lists[5]);
     }
 }
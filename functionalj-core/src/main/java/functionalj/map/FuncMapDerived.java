@@ -25,7 +25,6 @@ package functionalj.map;
 
 import static java.util.stream.Collectors.joining;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -365,10 +364,7 @@ public class FuncMapDerived<KEY, SOURCE, VALUE> extends FuncMap<KEY, VALUE> {
     
     @Override
     public FuncMap<KEY, VALUE> withAll(Map<? extends KEY, ? extends VALUE> entries) {
-        // TODO: Find the way to do it
-        val newMap = new HashMap<>(this.toMap());
-        newMap.putAll(entries);
-        return ImmutableFuncMap.from(newMap);
+        return toImmutableMap().withAll(entries);
     }
     
     @Override
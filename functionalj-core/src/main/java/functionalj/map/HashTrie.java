@@ -0,0 +1,385 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.map;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Persistent hash-array-mapped-trie (HAMT).
+ *
+ * Each node keeps two bitmaps -- one for the entries stored inline and one for the sub nodes --
+ *   so a lookup is at most one bit-count per 5 bits of the hash (O(log32 n)).
+ * Keys with the exact same hash end up in a collision node at the bottom of the trie.
+ * All modifications return a new trie that shares the untouched nodes with the original one.
+ *
+ * @param <KEY>    the key type.
+ * @param <VALUE>  the value type.
+ */
+final class HashTrie<KEY, VALUE> implements Iterable<Map.Entry<KEY, VALUE>> {
+    
+    static final int BITS = 5;
+    static final int MASK = (1 << BITS) - 1;
+    
+    /** Marker for a missing key -- so null values can be stored. */
+    static final Object NOT_FOUND = new Object();
+    
+    private static final Node EMPTY_NODE = new Node(0, 0, new Object[0], new Node[0]);
+    
+    @SuppressWarnings("rawtypes")
+    private static final HashTrie EMPTY = new HashTrie<>(EMPTY_NODE, 0);
+    
+    @SuppressWarnings("unchecked")
+    static <KEY, VALUE> HashTrie<KEY, VALUE> empty() {
+        return (HashTrie<KEY, VALUE>) EMPTY;
+    }
+    
+    static int hash(Object key) {
+        int hash = Objects.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+    
+    // -- Data --
+    
+    private final Node root;
+    private final int  size;
+    
+    private HashTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * @return the value for the key or {@link #NOT_FOUND} if the key is not in the trie.
+     */
+    Object find(Object key) {
+        return root.find(key, hash(key), 0);
+    }
+    
+    boolean containsKey(Object key) {
+        return find(key) != NOT_FOUND;
+    }
+    
+    /**
+     * @return the trie with the key associated with the value or this trie if it is already the case.
+     */
+    HashTrie<KEY, VALUE> with(KEY key, VALUE value) {
+        int[] sizeChange = new int[1];
+        Node  newRoot    = root.with(key, hash(key), value, 0, sizeChange);
+        return (newRoot == root) ? this : new HashTrie<>(newRoot, size + sizeChange[0]);
+    }
+    
+    /**
+     * @return the trie without the key or this trie if the key is not there.
+     */
+    HashTrie<KEY, VALUE> without(Object key) {
+        Node newRoot = root.without(key, hash(key), 0);
+        if (newRoot == root)
+            return this;
+        return (newRoot == null) ? empty() : new HashTrie<>(newRoot, size - 1);
+    }
+    
+    @SuppressWarnings("unchecked")
+    void forEach(BiConsumer<? super KEY, ? super VALUE> action) {
+        root.forEach((BiConsumer<Object, Object>) action);
+    }
+    
+    @Override
+    public Iterator<Map.Entry<KEY, VALUE>> iterator() {
+        return new EntryIterator<>(root);
+    }
+    
+    // -- Node --
+    
+    /**
+     * A trie node. The {@code data} array keeps key-value pairs for the bits in {@code dataMap}
+     *   and the {@code nodes} array keeps the sub nodes for the bits in {@code nodeMap}.
+     * A collision node has {@code hash} set and both maps zero; its data is a flat list of pairs.
+     */
+    static final class Node {
+        
+        final int      dataMap;
+        final int      nodeMap;
+        final Object[] data;
+        final Node[]   nodes;
+        final int      hash;
+        final boolean  isCollision;
+        
+        Node(int dataMap, int nodeMap, Object[] data, Node[] nodes) {
+            this.dataMap     = dataMap;
+            this.nodeMap     = nodeMap;
+            this.data        = data;
+            this.nodes       = nodes;
+            this.hash        = 0;
+            this.isCollision = false;
+        }
+        
+        Node(int hash, Object[] data) {
+            this.dataMap     = 0;
+            this.nodeMap     = 0;
+            this.data        = data;
+            this.nodes       = EMPTY_NODE.nodes;
+            this.hash        = hash;
+            this.isCollision = true;
+        }
+        
+        int dataCount() {
+            return data.length >> 1;
+        }
+        
+        Object find(Object key, int hash, int shift) {
+            if (isCollision) {
+                for (int i = 0; i < data.length; i += 2) {
+                    if (Objects.equals(key, data[i]))
+                        return data[i + 1];
+                }
+                return NOT_FOUND;
+            }
+            
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((dataMap & bit) != 0) {
+                int index = Integer.bitCount(dataMap & (bit - 1)) << 1;
+                return Objects.equals(key, data[index]) ? data[index + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = Integer.bitCount(nodeMap & (bit - 1));
+                return nodes[index].find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+        
+        Node with(Object key, int hash, Object value, int shift, int[] sizeChange) {
+            if (isCollision) {
+                for (int i = 0; i < data.length; i += 2) {
+                    if (Objects.equals(key, data[i])) {
+                        if (data[i + 1] == value)
+                            return this;
+                        Object[] newData = data.clone();
+                        newData[i + 1] = value;
+                        return new Node(this.hash, newData);
+                    }
+                }
+                Object[] newData = Arrays.copyOf(data, data.length + 2);
+                newData[data.length]     = key;
+                newData[data.length + 1] = value;
+                sizeChange[0] = 1;
+                return new Node(this.hash, newData);
+            }
+            
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((dataMap & bit) != 0) {
+                int    index       = Integer.bitCount(dataMap & (bit - 1)) << 1;
+                Object existingKey = data[index];
+                if (Objects.equals(key, existingKey)) {
+                    if (data[index + 1] == value)
+                        return this;
+                    Object[] newData = data.clone();
+                    newData[index + 1] = value;
+                    return new Node(dataMap, nodeMap, newData, nodes);
+                }
+                
+                Node subNode = merge(existingKey, HashTrie.hash(existingKey), data[index + 1], key, hash, value, shift + BITS);
+                sizeChange[0] = 1;
+                return withoutData(bit, index).withNode(bit, subNode);
+            }
+            if ((nodeMap & bit) != 0) {
+                int  index   = Integer.bitCount(nodeMap & (bit - 1));
+                Node subNode = nodes[index].with(key, hash, value, shift + BITS, sizeChange);
+                if (subNode == nodes[index])
+                    return this;
+                Node[] newNodes = nodes.clone();
+                newNodes[index] = subNode;
+                return new Node(dataMap, nodeMap, data, newNodes);
+            }
+            
+            int      index   = Integer.bitCount(dataMap & (bit - 1)) << 1;
+            Object[] newData = new Object[data.length + 2];
+            System.arraycopy(data, 0, newData, 0, index);
+            System.arraycopy(data, index, newData, index + 2, data.length - index);
+            newData[index]     = key;
+            newData[index + 1] = value;
+            sizeChange[0] = 1;
+            return new Node(dataMap | bit, nodeMap, newData, nodes);
+        }
+        
+        /** @return the node without the key, this node if the key is not here or null if the node becomes empty. */
+        Node without(Object key, int hash, int shift) {
+            if (isCollision) {
+                for (int i = 0; i < data.length; i += 2) {
+                    if (Objects.equals(key, data[i])) {
+                        if (data.length == 2)
+                            return null;
+                        Object[] newData = new Object[data.length - 2];
+                        System.arraycopy(data, 0, newData, 0, i);
+                        System.arraycopy(data, i + 2, newData, i, data.length - i - 2);
+                        return new Node(this.hash, newData);
+                    }
+                }
+                return this;
+            }
+            
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((dataMap & bit) != 0) {
+                int index = Integer.bitCount(dataMap & (bit - 1)) << 1;
+                if (!Objects.equals(key, data[index]))
+                    return this;
+                if ((data.length == 2) && (nodeMap == 0))
+                    return null;
+                return withoutData(bit, index);
+            }
+            if ((nodeMap & bit) != 0) {
+                int  index   = Integer.bitCount(nodeMap & (bit - 1));
+                Node subNode = nodes[index].without(key, hash, shift + BITS);
+                if (subNode == nodes[index])
+                    return this;
+                if (subNode == null) {
+                    if ((data.length == 0) && (nodes.length == 1))
+                        return null;
+                    return withoutNode(bit, index);
+                }
+                // Pull a lone entry up so the trie stays compact.
+                if ((subNode.nodes.length == 0) && (subNode.dataCount() == 1)) {
+                    Object subKey   = subNode.data[0];
+                    Object subValue = subNode.data[1];
+                    return withoutNode(bit, index).withData(bit, subKey, subValue);
+                }
+                Node[] newNodes = nodes.clone();
+                newNodes[index] = subNode;
+                return new Node(dataMap, nodeMap, data, newNodes);
+            }
+            return this;
+        }
+        
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < data.length; i += 2) {
+                action.accept(data[i], data[i + 1]);
+            }
+            for (Node node : nodes) {
+                node.forEach(action);
+            }
+        }
+        
+        private Node withoutData(int bit, int index) {
+            Object[] newData = new Object[data.length - 2];
+            System.arraycopy(data, 0, newData, 0, index);
+            System.arraycopy(data, index + 2, newData, index, data.length - index - 2);
+            return new Node(dataMap & ~bit, nodeMap, newData, nodes);
+        }
+        
+        private Node withData(int bit, Object key, Object value) {
+            int      index   = Integer.bitCount(dataMap & (bit - 1)) << 1;
+            Object[] newData = new Object[data.length + 2];
+            System.arraycopy(data, 0, newData, 0, index);
+            System.arraycopy(data, index, newData, index + 2, data.length - index);
+            newData[index]     = key;
+            newData[index + 1] = value;
+            return new Node(dataMap | bit, nodeMap, newData, nodes);
+        }
+        
+        private Node withoutNode(int bit, int index) {
+            Node[] newNodes = new Node[nodes.length - 1];
+            System.arraycopy(nodes, 0, newNodes, 0, index);
+            System.arraycopy(nodes, index + 1, newNodes, index, nodes.length - index - 1);
+            return new Node(dataMap, nodeMap & ~bit, data, newNodes);
+        }
+        
+        private Node withNode(int bit, Node node) {
+            int    index    = Integer.bitCount(nodeMap & (bit - 1));
+            Node[] newNodes = new Node[nodes.length + 1];
+            System.arraycopy(nodes, 0, newNodes, 0, index);
+            System.arraycopy(nodes, index, newNodes, index + 1, nodes.length - index);
+            newNodes[index] = node;
+            return new Node(dataMap, nodeMap | bit, data, newNodes);
+        }
+        
+        private static Node merge(Object key1, int hash1, Object value1, Object key2, int hash2, Object value2, int shift) {
+            if (shift >= 32)
+                return new Node(hash1, new Object[] { key1, value1, key2, value2 });
+            
+            int index1 = (hash1 >>> shift) & MASK;
+            int index2 = (hash2 >>> shift) & MASK;
+            if (index1 == index2) {
+                Node subNode = merge(key1, hash1, value1, key2, hash2, value2, shift + BITS);
+                return new Node(0, 1 << index1, EMPTY_NODE.data, new Node[] { subNode });
+            }
+            Object[] data = (index1 < index2)
+                          ? new Object[] { key1, value1, key2, value2 }
+                          : new Object[] { key2, value2, key1, value1 };
+            return new Node((1 << index1) | (1 << index2), 0, data, EMPTY_NODE.nodes);
+        }
+    }
+    
+    /** Depth-first iterator over the entries -- inline entries of a node first then its sub nodes. */
+    private static final class EntryIterator<KEY, VALUE> implements Iterator<Map.Entry<KEY, VALUE>> {
+        
+        private final Deque<Node> pending = new ArrayDeque<>();
+        
+        private Node current;
+        private int  dataIndex;
+        
+        EntryIterator(Node root) {
+            this.current   = root;
+            this.dataIndex = 0;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (current != null) {
+                if (dataIndex < current.data.length)
+                    return true;
+                for (int i = current.nodes.length - 1; i >= 0; i--) {
+                    pending.push(current.nodes[i]);
+                }
+                current   = pending.poll();
+                dataIndex = 0;
+            }
+            return false;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map.Entry<KEY, VALUE> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            KEY   key   = (KEY)   current.data[dataIndex];
+            VALUE value = (VALUE) current.data[dataIndex + 1];
+            dataIndex += 2;
+            return FuncMap.Entry.of(key, value);
+        }
+    }
+}
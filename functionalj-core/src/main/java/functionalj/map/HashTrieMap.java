@@ -0,0 +1,280 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+import functionalj.list.RrbVector;
+
+/**
+ * Read-only {@link Map} backed by a {@link HashTrie} -- the storage of {@link ImmutableFuncMap}.
+ *
+ * The ordered variant keeps the insertion order (just like {@link java.util.LinkedHashMap})
+ *   by also keeping the entries in a persistent vector.
+ * Removed entries leave a hole in the vector which is compacted once the holes out-number the entries.
+ *
+ * @param <KEY>    the key type.
+ * @param <VALUE>  the value type.
+ */
+final class HashTrieMap<KEY, VALUE> extends AbstractMap<KEY, VALUE> {
+    
+    private static final int COMPACT_THRESHOLD = 32;
+    
+    @SuppressWarnings("rawtypes")
+    private static final HashTrieMap EMPTY_ORDERED = new HashTrieMap<>(HashTrie.empty(), RrbVector.empty(), 0);
+    
+    @SuppressWarnings("rawtypes")
+    private static final HashTrieMap EMPTY_UNORDERED = new HashTrieMap<>(HashTrie.empty(), null, 0);
+    
+    /** The ordered variant stores this (both in the trie and in the order vector) so an entry knows its position. */
+    static final class Slot<KEY, VALUE> extends FuncMap.Entry<KEY, VALUE> {
+        final int position;
+        Slot(KEY key, VALUE value, int position) {
+            super(key, value);
+            this.position = position;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    static <KEY, VALUE> HashTrieMap<KEY, VALUE> empty(boolean isOrdered) {
+        return isOrdered ? EMPTY_ORDERED : EMPTY_UNORDERED;
+    }
+    
+    /**
+     * Create a map with the entries of the given map -- the ordered variant keeps the iteration order of the given map.
+     */
+    @SuppressWarnings("unchecked")
+    static <KEY, VALUE> HashTrieMap<KEY, VALUE> from(Map<? extends KEY, ? extends VALUE> map, boolean isOrdered) {
+        if ((map instanceof HashTrieMap) && (((HashTrieMap<KEY, VALUE>) map).isOrdered() == isOrdered))
+            return (HashTrieMap<KEY, VALUE>) map;
+        
+        HashTrieMap<KEY, VALUE> trieMap = empty(isOrdered);
+        return trieMap.withAll(map);
+    }
+    
+    // -- Data --
+    
+    /** Values are {@link Slot}s for the ordered variant. */
+    private final HashTrie<KEY, Object> trie;
+    
+    /** The entries in the insertion order with null for the removed ones -- null for the unordered variant. */
+    private final RrbVector<Slot<KEY, VALUE>> order;
+    
+    private final int holes;
+    
+    private volatile Set<Map.Entry<KEY, VALUE>> entrySet = null;
+    
+    private HashTrieMap(HashTrie<KEY, Object> trie, RrbVector<Slot<KEY, VALUE>> order, int holes) {
+        this.trie  = trie;
+        this.order = order;
+        this.holes = holes;
+    }
+    
+    boolean isOrdered() {
+        return order != null;
+    }
+    
+    // -- Query --
+    
+    @Override
+    public int size() {
+        return trie.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return trie.isEmpty();
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return trie.containsKey(key);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public VALUE get(Object key) {
+        Object found = trie.find(key);
+        if (found == HashTrie.NOT_FOUND)
+            return null;
+        return (order != null) ? ((Slot<KEY, VALUE>) found).getValue() : (VALUE) found;
+    }
+    
+    @Override
+    public Set<Map.Entry<KEY, VALUE>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(BiConsumer<? super KEY, ? super VALUE> action) {
+        if (order == null) {
+            ((HashTrie<KEY, VALUE>) (HashTrie<KEY, ?>) trie).forEach(action);
+            return;
+        }
+        order.forEach(slot -> {
+            if (slot != null) {
+                action.accept(slot.getKey(), slot.getValue());
+            }
+        });
+    }
+    
+    // -- Modification --
+    
+    /**
+     * @return the map with the key associated with the value -- an existing key keeps its position.
+     */
+    @SuppressWarnings("unchecked")
+    HashTrieMap<KEY, VALUE> with(KEY key, VALUE value) {
+        if (order == null) {
+            HashTrie<KEY, Object> newTrie = trie.with(key, value);
+            return (newTrie == trie) ? this : new HashTrieMap<>(newTrie, null, 0);
+        }
+        
+        Object found = trie.find(key);
+        if (found != HashTrie.NOT_FOUND) {
+            Slot<KEY, VALUE> existing = (Slot<KEY, VALUE>) found;
+            if (existing.getValue() == value)
+                return this;
+            Slot<KEY, VALUE> slot = new Slot<>(key, value, existing.position);
+            return new HashTrieMap<>(trie.with(key, slot), order.with(slot.position, slot), holes);
+        }
+        
+        Slot<KEY, VALUE> slot = new Slot<>(key, value, order.size());
+        return new HashTrieMap<>(trie.with(key, slot), order.append(slot), holes);
+    }
+    
+    /**
+     * @return the map with all the entries added.
+     */
+    @SuppressWarnings("unchecked")
+    HashTrieMap<KEY, VALUE> withAll(Map<? extends KEY, ? extends VALUE> entries) {
+        // Use forEach as FuncMap keeps its order there (its entrySet does not).
+        HashTrieMap<KEY, VALUE>[] result = new HashTrieMap[] { this };
+        entries.forEach((key, value) -> result[0] = result[0].with(key, value));
+        return result[0];
+    }
+    
+    /**
+     * @return the map without the key.
+     */
+    @SuppressWarnings("unchecked")
+    HashTrieMap<KEY, VALUE> without(Object key) {
+        Object found = trie.find(key);
+        if (found == HashTrie.NOT_FOUND)
+            return this;
+        if (order == null)
+            return new HashTrieMap<>(trie.without(key), null, 0);
+        
+        Slot<KEY, VALUE> slot = (Slot<KEY, VALUE>) found;
+        return compactIfNeeded(new HashTrieMap<>(trie.without(key), order.with(slot.position, null), holes + 1));
+    }
+    
+    /**
+     * @return the map with only the entries that pass the check.
+     */
+    HashTrieMap<KEY, VALUE> filter(BiPredicate<? super KEY, ? super VALUE> check) {
+        HashTrieMap<KEY, VALUE> result = empty(isOrdered());
+        for (Map.Entry<KEY, VALUE> entry : entrySet()) {
+            if (check.test(entry.getKey(), entry.getValue())) {
+                result = result.with(entry.getKey(), entry.getValue());
+            }
+        }
+        return (result.size() == size()) ? this : result;
+    }
+    
+    private static <KEY, VALUE> HashTrieMap<KEY, VALUE> compactIfNeeded(HashTrieMap<KEY, VALUE> map) {
+        if ((map.holes < COMPACT_THRESHOLD) || (map.holes < map.size()))
+            return map;
+        
+        HashTrieMap<KEY, VALUE> compacted = empty(true);
+        for (Map.Entry<KEY, VALUE> entry : map.entrySet()) {
+            compacted = compacted.with(entry.getKey(), entry.getValue());
+        }
+        return compacted;
+    }
+    
+    // -- Iteration --
+    
+    private final class EntrySet extends AbstractSet<Map.Entry<KEY, VALUE>> {
+        
+        @Override
+        public int size() {
+            return trie.size();
+        }
+        
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            Object          key   = entry.getKey();
+            return containsKey(key) && Objects.equals(get(key), entry.getValue());
+        }
+        
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        public Iterator<Map.Entry<KEY, VALUE>> iterator() {
+            if (order == null)
+                return (Iterator) trie.iterator();
+            return new OrderIterator();
+        }
+    }
+    
+    /** Walk the order vector skipping the holes. */
+    private final class OrderIterator implements Iterator<Map.Entry<KEY, VALUE>> {
+        
+        private final Iterator<Slot<KEY, VALUE>> slots = order.iterator();
+        
+        private Slot<KEY, VALUE> next = null;
+        
+        @Override
+        public boolean hasNext() {
+            while ((next == null) && slots.hasNext()) {
+                next = slots.next();
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Map.Entry<KEY, VALUE> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Slot<KEY, VALUE> slot = next;
+            next = null;
+            return slot;
+        }
+    }
+}
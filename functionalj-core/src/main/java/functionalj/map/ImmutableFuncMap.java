@@ -23,13 +23,21 @@
 // ============================================================================
 package functionalj.map;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import lombok.val;
 
-// TODO - Make Native-map-backed ImmutableFuncMap.
+/**
+ * Immutable map backed by a persistent hash trie (see {@link HashTrieMap}).
+ * 
+ * Modifications ({@link #with(Object, Object)}, {@link #withAll(Map)}, {@link #exclude(Object)} and the filters)
+ *   return a new flat map that shares the structure with this map so the access stays O(log32 n)
+ *   no matter how many modifications were done.
+ * Use {@link #lazyView()} for the lazy derived-layer behaviour.
+ */
 public final class ImmutableFuncMap<KEY, VALUE> extends FuncMapDerived<KEY, VALUE, VALUE> {
     
     @SuppressWarnings("unchecked")
@@ -46,13 +54,20 @@ public final class ImmutableFuncMap<KEY, VALUE> extends FuncMapDerived<KEY, VALU
                 : new ImmutableFuncMap<KEY, VALUE>(map);
     }
     
+    /**
+     * Create an immutable map that does not keep the order of the entries -- slightly faster and smaller.
+     */
+    public static <KEY, VALUE> ImmutableFuncMap<KEY, VALUE> fromUnordered(Map<? extends KEY, ? extends VALUE> map) {
+        return new ImmutableFuncMap<KEY, VALUE>(HashTrieMap.from(map, false), true);
+    }
+    
     @SuppressWarnings("unchecked")
     public static <KEY, VALUE> ImmutableFuncMap<KEY, VALUE> empty() {
         return empty;
     }
     
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private static final ImmutableFuncMap empty = new ImmutableFuncMap(Collections.emptyMap());
+    private static final ImmutableFuncMap empty = new ImmutableFuncMap(HashTrieMap.empty(true));
     
     private final boolean isLazy;
     
@@ -67,9 +82,19 @@ public final class ImmutableFuncMap<KEY, VALUE> extends FuncMapDerived<KEY, VALU
     
     @SuppressWarnings("unchecked")
     private static <K, V> Map<K, V> createBaseMap(Map<? extends K, ? extends V> map) {
-        return (map instanceof ImmutableFuncMap) 
-                ? (ImmutableFuncMap<K, V>) map 
-                : new LinkedHashMap<K, V>(map);
+        if (map instanceof ImmutableFuncMap)
+            return ((ImmutableFuncMap<K, V>) map).trieMap();
+        if (map instanceof HashTrieMap)
+            return (HashTrieMap<K, V>) map;
+        return HashTrieMap.from(map, true);
+    }
+    
+    private HashTrieMap<KEY, VALUE> trieMap() {
+        return (HashTrieMap<KEY, VALUE>) map;
+    }
+    
+    private ImmutableFuncMap<KEY, VALUE> withTrieMap(HashTrieMap<KEY, VALUE> trieMap) {
+        return (trieMap == map) ? this : new ImmutableFuncMap<KEY, VALUE>(trieMap, isLazy);
     }
     
     public boolean isLazy() {
@@ -92,10 +117,50 @@ public final class ImmutableFuncMap<KEY, VALUE> extends FuncMapDerived<KEY, VALU
         return new ImmutableFuncMap<KEY, VALUE>(this, false);
     }
     
+    /**
+     * Returns a lazy view of this map -- modifications on the view are layered on top of this map and only evaluated when accessed.
+     */
+    public FuncMap<KEY, VALUE> lazyView() {
+        return new FuncMapDerived<KEY, VALUE, VALUE>(this, null);
+    }
+    
+    @Override
+    public Set<Map.Entry<KEY, VALUE>> entrySet() {
+        return trieMap().entrySet();
+    }
+    
+    @Override
+    public FuncMap<KEY, VALUE> with(KEY key, VALUE value) {
+        return withTrieMap(trieMap().with(key, value));
+    }
+    
+    @Override
+    public FuncMap<KEY, VALUE> withAll(Map<? extends KEY, ? extends VALUE> entries) {
+        return withTrieMap(trieMap().withAll(entries));
+    }
+    
+    @Override
+    public FuncMap<KEY, VALUE> exclude(KEY key) {
+        return withTrieMap(trieMap().without(key));
+    }
+    
+    @Override
+    public FuncMap<KEY, VALUE> filter(Predicate<? super KEY> keyCheck) {
+        return withTrieMap(trieMap().filter((key, value) -> keyCheck.test(key)));
+    }
+    
+    @Override
+    public FuncMap<KEY, VALUE> filter(BiPredicate<? super KEY, ? super VALUE> entryCheck) {
+        return withTrieMap(trieMap().filter(entryCheck));
+    }
+    
+    @Override
+    public FuncMap<KEY, VALUE> filterByEntry(Predicate<? super Map.Entry<? super KEY, ? super VALUE>> entryCheck) {
+        return withTrieMap(trieMap().filter((key, value) -> entryCheck.test(FuncMap.Entry.of(key, value))));
+    }
+    
     @Override
     public FuncMap<KEY, VALUE> sorted() {
-        if (map instanceof TreeMap)
-            return this;
         val sortedMap = new TreeMap<KEY, VALUE>();
         entryStream().forEach(e -> sortedMap.put(e.getKey(), e.getValue()));
         return new ImmutableFuncMap<KEY, VALUE>(sortedMap, isLazy());
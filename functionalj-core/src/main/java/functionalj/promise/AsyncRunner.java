@@ -40,6 +40,7 @@ import functionalj.function.Annotated;
 import functionalj.ref.ComputeBody;
 import functionalj.ref.Ref;
 import functionalj.ref.RunBody;
+import functionalj.ref.Substitution;
 import lombok.val;
 
 /**
@@ -94,6 +95,16 @@ public interface AsyncRunner extends functionalj.function.FuncUnit1<java.lang.Ru
     @SuppressWarnings("rawtypes")
 	static final Ref<DeferAction> currentDeferAction = Ref.to(DeferAction.class);
     
+    @SuppressWarnings("rawtypes")
+	static final Substitution<DeferAction> noDeferAction = currentDeferAction.butWith("NoDeferAction", null);
+    
+    /**
+     * Whether {@link #run(AsyncRunner, ComputeBody)} waits until {@code prepare()} of the body is done (on the runner)
+     *   before returning -- so the runs start in the order they are launched but each run costs a thread round trip.
+     * Substitute with false to launch without waiting (fire-and-forget).
+     */
+    public static final Ref<Boolean> awaitPrepare = Ref.ofValue(true);
+    
     static enum Strategy {
     	LAUNCH,
     	FORK
@@ -120,18 +131,23 @@ public interface AsyncRunner extends functionalj.function.FuncUnit1<java.lang.Ru
         val theRunner  = (runner != null) ? runner : Env.async();
     	val deferValue = new DeferValue<DATA>();
 
-        // This latch is to ensure `prepare()` runs completely before continue the parent thread.
-        val latch = new CountDownLatch(1);
-        val with  = WithAllGlobalSubstitutions()
-                	.and(currentDeferAction.butWith(currentAction));
+        // This latch (if any) is to ensure `prepare()` runs completely before continue the parent thread.
+        val latch = awaitPrepare.orElse(true) ? new CountDownLatch(1) : null;
+        // The substitutions are merged here so the runner thread just put them in place.
+        // The substitution is named so no caller trace is taken for each run.
+        val with  = WithAllGlobalSubstitutions((currentAction != null) ? currentDeferAction.butWith("CurrentDeferAction", currentAction) : noDeferAction);
         theRunner.accept(() -> {
         	with
             .run(() -> {
 	            try {
 	            	try {
 	                	// prepare() is guaranteed to run..
-	                    body.prepare();
-	                    latch.countDown();
+	                	try {
+	                		body.prepare();
+	                	} finally {
+	                		if (latch != null)
+	                			latch.countDown();
+	                	}
 	                    
 	                    // This is where the body is run.
 	                    val value = body.compute();
@@ -149,10 +165,12 @@ public interface AsyncRunner extends functionalj.function.FuncUnit1<java.lang.Ru
             });
         });
         
-        try {
-            latch.await();
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        if (latch != null) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
         }
         
         return deferValue;
@@ -24,29 +24,24 @@
 package functionalj.promise;
 
 import static functionalj.function.Apply.$;
-import static functionalj.function.Func.carelessly;
 import static java.util.Objects.requireNonNull;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import functionalj.function.Func0;
 import functionalj.function.Func1;
 import functionalj.function.Func10;
 import functionalj.function.Func2;
@@ -74,8 +69,6 @@ import lombok.val;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeable<HasPromise<DATA>>, PromiseChainAddOn<DATA>, PromiseFilterAddOn<DATA>, PromiseMapAddOn<DATA>, PromisePeekAddOn<DATA>, PromiseStatusAddOn<DATA> {
     
-    private static final int INITIAL_CAPACITY = 2;
-    
     /** Default wait time in millisecond. -1L is infinity. */
     public static final Ref<Long> waitTimeout = Ref.ofValue(-1L);
     
@@ -410,48 +403,60 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
     
     //== Data ==
     
-    // DATA
-    // StartableAction  -> NOT START
-    // consumer         -> Pending
-    // result           -> done.
-    // result.cancelled -> cancelled
-    // result.completed -> completed
-    final Map<SubscriptionRecord<DATA>, FuncUnit1<Result<DATA>>> consumers = new ConcurrentHashMap<>(INITIAL_CAPACITY);
-    
-    final List<FuncUnit1<Result<DATA>>> eavesdroppers = new ArrayList<>(INITIAL_CAPACITY);
+    // PHASE
+    // StartableAction/OnStart -> NOT START
+    // parent promise          -> follows the parent
+    // STARTED                 -> Pending
+    // DONE                    -> done (the state is the result).
+    //
+    // STATE
+    // null                    -> no subscriber
+    // SubscriptionRecord      -> the top of the subscriber stack (the first subscriber needs no other node)
+    // result                  -> done.
+    // result.cancelled        -> cancelled
+    // result.completed        -> completed
+    //
+    // Completion swaps the state for the result so the subscribers are taken (and later subscribers run right away) atomically.
+    
+    private static final Object STARTED = new Object();
+    private static final Object DONE    = new Object();
+    
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Promise, Object> PHASE = AtomicReferenceFieldUpdater.newUpdater(Promise.class, Object.class, "phase");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Promise, Object> STATE = AtomicReferenceFieldUpdater.newUpdater(Promise.class, Object.class, "state");
     
     private static final AtomicInteger ID = new AtomicInteger(1);
     
-    final AtomicReference<Object> dataRef = new AtomicReference<>();
+    private volatile Object phase;
+    
+    private volatile Object state;
     
-    final String name;
+    final int id = ID.getAndIncrement();
     
     public int hashCode() {
-        return name.hashCode();
+        return Integer.hashCode(id);
     }
     
     public String toString() {
-        return "Promise#" + name;
+        return "Promise#" + id;
     }
     
     Promise(OnStart onStart) {
-        name = "" + ID.getAndIncrement();
-        dataRef.set(onStart);
+        this.phase = onStart;
     }
     
     Promise(StartableAction<DATA> action) {
-        name = "" + ID.getAndIncrement();
-        dataRef.set(action);
+        this.phase = action;
     }
     
     Promise(Promise parent) {
-        name = "" + ID.getAndIncrement();
-        this.dataRef.set(parent);
+        this.phase = parent;
     }
     
     Promise<DATA> parent() {
-        val data = this.dataRef.get();
-        return (data instanceof Promise) ? (Promise) data : null;
+        val phase = this.phase;
+        return (phase instanceof Promise) ? (Promise) phase : null;
     }
     
     @Override
@@ -473,28 +478,38 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
     }
     
     public final PromiseStatus getStatus() {
-        val data = dataRef.get();
-        if (data instanceof Promise) {
-            Promise<DATA> promise      = (Promise<DATA>) data;
-            PromiseStatus parentStatus = promise.getStatus();
-            // Pending ... as the result is not yet propagated down
-            if (parentStatus.isNotDone())
-                return parentStatus;
-            else
+        while (true) {
+            val current = state;
+            if (current instanceof Result) {
+                val result = (Result<DATA>) current;
+                if (result.isCancelled())
+                    return PromiseStatus.CANCELLED;
+                if (result.isReady())
+                    return PromiseStatus.COMPLETED;
+                return handleUnknownState(current);
+            }
+            val phase = this.phase;
+            if (phase instanceof Promise) {
+                Promise<DATA> promise      = (Promise<DATA>) phase;
+                PromiseStatus parentStatus = promise.getStatus();
+                // Pending ... as the result is not yet propagated down
+                if (parentStatus.isNotDone())
+                    return parentStatus;
+                else
+                    return PromiseStatus.PENDING;
+            }
+            if ((phase instanceof StartableAction) || (phase instanceof OnStart))
+                return PromiseStatus.NOT_STARTED;
+            if (phase == STARTED)
                 return PromiseStatus.PENDING;
+            if (phase != DONE)
+                return handleUnknownState(phase);
+            // DONE -- the result is already in the state, read again.
         }
-        if ((data instanceof StartableAction) || (data instanceof OnStart))
-            return PromiseStatus.NOT_STARTED;
-        if (consumers == data)
-            return PromiseStatus.PENDING;
-        if (data instanceof Result) {
-            val result = (Result<DATA>) data;
-            if (result.isCancelled())
-                return PromiseStatus.CANCELLED;
-            if (result.isReady())
-                return PromiseStatus.COMPLETED;
-        }
-        dataRef.set(Result.ofException(new IllegalStateException("Promise is in an unknown state!: " + data)));
+    }
+    
+    private PromiseStatus handleUnknownState(Object data) {
+        state = Result.ofException(new IllegalStateException("Promise is in an unknown state!: " + data));
         try {
             handleIllegalStatusException(data);
         } catch (Exception e) {
@@ -510,7 +525,7 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
     }
     
     final boolean start(AsyncRunner.Strategy strategy) {
-        val data = dataRef.get();
+        val data = phase;
         if (data instanceof Promise) {
             val parent = (Promise<DATA>) data;
             return parent.start();
@@ -519,7 +534,9 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
         val isOnStart = (data instanceof OnStart);
         if (!isStartAction && !isOnStart)
             return false;
-        val isJustStarted = dataRef.compareAndSet(data, consumers);
+        if (state instanceof Result)
+            return false;
+        val isJustStarted = PHASE.compareAndSet(this, data, STARTED);
         if (isJustStarted) {
             if (isStartAction) {
                 if (data instanceof DeferAction) {
@@ -536,7 +553,7 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
     }
     
     OnStart getOnStart() {
-        val data = dataRef.get();
+        val data = phase;
         return (data instanceof OnStart) ? (OnStart) data : OnStart.DoNothing;
     }
     
@@ -570,60 +587,75 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
         return makeDone(result);
     }
     
-    <T> T synchronouseOperation(Func0<T> operation) {
-        synchronized (dataRef) {
-            return operation.get();
-        }
-    }
-    
     static <DATA> boolean makeDone(Promise<DATA> promise, Result<DATA> result) {
-        val isDone = promise.synchronouseOperation(() -> {
-            val data = promise.dataRef.get();
-            if (data instanceof Promise) {
-                val parent = (Promise<DATA>) data;
-                try {
-                    if (!promise.dataRef.compareAndSet(parent, result))
-                        return false;
-                } finally {
-                    parent.unsubscribe(promise);
-                }
-            } else if ((data instanceof StartableAction) || (data instanceof OnStart)) {
-                if (!promise.dataRef.compareAndSet(data, result))
-                    return false;
-            } else {
-                val changeSuccess = promise.dataRef.compareAndSet(promise.consumers, result);
-                if (!changeSuccess)
+        val phase = promise.phase;
+        Object current;
+        try {
+            do {
+                current = promise.state;
+                if (current instanceof Result)
                     return false;
+            } while (!STATE.compareAndSet(promise, current, result));
+            promise.phase = DONE;
+        } finally {
+            if (phase instanceof Promise) {
+                val parent = (Promise<DATA>) phase;
+                parent.unsubscribe(promise);
             }
-            return null;
-        });
+        }
         
-        if (isDone != null)
-            return isDone.booleanValue();
+        val first = (SubscriptionRecord<DATA>) current;
+        if (first == null)
+            return true;
+        if (first.next == null) {
+            promise.notify(first, result);
+            return true;
+        }
         
-        val subscribers = new HashMap<SubscriptionRecord<DATA>, FuncUnit1<Result<DATA>>>(promise.consumers);
-        promise.consumers.clear();
-        val eavesdroppers = new ArrayList<Consumer<Result<DATA>>>(promise.eavesdroppers);
-        promise.eavesdroppers.clear();
-        for (val eavesdropper : eavesdroppers) {
-            carelessly(() -> {
-                eavesdropper.accept(result);
-            });
+        // The stack is taken out so nothing is pushed to it anymore -- collect it to notify in the subscription order.
+        // The links are not reversed in place as a concurrent prune may still be walking them.
+        val records = new ArrayList<SubscriptionRecord<DATA>>();
+        boolean hasEavesdropper = false;
+        for (SubscriptionRecord<DATA> record = first; record != null; record = record.next) {
+            if (record.isActive()) {
+                records.add(record);
+                hasEavesdropper |= record.isEavesdropping;
+            }
         }
-        subscribers.forEach((subscription, consumer) -> {
-            try {
-                consumer.accept(result);
-            } catch (Exception e) {
-                try {
-                    promise.handleResultConsumptionExcepion(subscription, consumer, result);
-                } catch (Exception anotherException) {
-                    // Do nothing this time.
-                }
+        if (hasEavesdropper) {
+            for (int i = records.size() - 1; i >= 0; i--) {
+                val record = records.get(i);
+                if (record.isEavesdropping)
+                    promise.notify(record, result);
             }
-        });
+        }
+        for (int i = records.size() - 1; i >= 0; i--) {
+            val record = records.get(i);
+            if (!record.isEavesdropping)
+                promise.notify(record, result);
+        }
         return true;
     }
     
+    private void notify(SubscriptionRecord<DATA> record, Result<DATA> result) {
+        if (!record.markFired())
+            return;
+        
+        // Only the one marking the record fired or removed clears the consumer.
+        val consumer = record.consumer;
+        record.consumer = null;
+        record.next     = null;
+        try {
+            consumer.accept(result);
+        } catch (Throwable e) {
+            try {
+                handleResultConsumptionExcepion(record, consumer, result);
+            } catch (Throwable anotherException) {
+                // Do nothing this time.
+            }
+        }
+    }
+    
     private boolean makeDone(Result<DATA> result) {
         return makeDone(this, result);
     }
@@ -685,34 +717,90 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
     }
     
     boolean isSubscribed(SubscriptionRecord<DATA> subscription) {
-        return consumers.containsKey(subscription);
+        for (SubscriptionRecord<DATA> record = topSubscription(); record != null; record = record.next) {
+            if (record == subscription)
+                return !record.isEavesdropping && record.isActive();
+        }
+        return false;
     }
     
     void unsubscribe(SubscriptionRecord<DATA> subscription) {
-        consumers.remove(subscription);
+        for (SubscriptionRecord<DATA> record = topSubscription(); record != null; record = record.next) {
+            if ((record == subscription) && !record.isEavesdropping) {
+                record.markRemoved();
+                break;
+            }
+        }
         cancelWhenNoSubscription();
     }
     
     void unsubscribe(Promise<DATA> promise) {
-        val entry = consumers.entrySet().stream().filter(e -> Objects.equals(e.getKey().getPromise(), promise)).findFirst();
-        if (entry.isPresent())
-            consumers.remove(entry.get().getKey());
+        for (SubscriptionRecord<DATA> record = topSubscription(); record != null; record = record.next) {
+            if (!record.isEavesdropping && record.isActive() && (record.promiseIfCreated() == promise)) {
+                record.markRemoved();
+                break;
+            }
+        }
         cancelWhenNoSubscription();
     }
     
+    private SubscriptionRecord<DATA> topSubscription() {
+        val current = state;
+        return (current instanceof SubscriptionRecord) ? (SubscriptionRecord<DATA>) current : null;
+    }
+    
     private void cancelWhenNoSubscription() {
-        if (consumers.isEmpty())
+        // Drop the removed records on the top so they can be garbage collected.
+        Object current;
+        while (((current = state) instanceof SubscriptionRecord) && !((SubscriptionRecord<DATA>) current).isActive()) {
+            STATE.compareAndSet(this, current, ((SubscriptionRecord<DATA>) current).next);
+        }
+        if (current instanceof Result)
+            return;
+        
+        if (!prune((SubscriptionRecord<DATA>) current))
             cancel("No more listener.");
     }
     
-    private SubscriptionRecord<DATA> listen(boolean isEavesdropping, FuncUnit1<Result<DATA>> resultConsumer) {
-    	val promise      = new Promise(Promise.this);
-        val subscription = new SubscriptionRecord<DATA>(promise);
-        if (isEavesdropping)
-            eavesdroppers.add(resultConsumer);
-        else
-            consumers.put(subscription, resultConsumer);
-        return subscription;
+    /**
+     * Unlink the removed records below the given top so they can be garbage collected.
+     * A link is only ever changed to skip the removed records -- so a walk racing with this one still sees all the active ones.
+     * 
+     * @return  true if there is an active (non-eavesdropping) subscriber left.
+     */
+    private static <DATA> boolean prune(SubscriptionRecord<DATA> top) {
+        boolean hasSubscriber = false;
+        SubscriptionRecord<DATA> previous = null;
+        for (SubscriptionRecord<DATA> record = top; record != null; record = record.next) {
+            if (record.isActive()) {
+                hasSubscriber |= !record.isEavesdropping;
+                previous = record;
+            } else if (previous != null) {
+                previous.next = record.next;
+            }
+        }
+        return hasSubscriber;
+    }
+    
+    /**
+     * Push the subscription to the stack -- skipping the removed records on the top.
+     * 
+     * @return  false if the promise is already done -- the subscription is not added and should be notified right away.
+     */
+    private boolean push(SubscriptionRecord<DATA> subscription) {
+        while (true) {
+            val current = state;
+            if (current instanceof Result)
+                return false;
+            
+            SubscriptionRecord<DATA> next = (SubscriptionRecord<DATA>) current;
+            while ((next != null) && !next.isActive()) {
+                next = next.next;
+            }
+            subscription.next = next;
+            if (STATE.compareAndSet(this, current, subscription))
+                return true;
+        }
     }
     
     public final DATA get() {
@@ -735,11 +823,8 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
             start();
             if (!isDone()) {
                 val latch = new CountDownLatch(1);
-                synchronouseOperation(() -> {
-                    onCompleted(result -> {
-                        latch.countDown();
-                    });
-                    return isDone();
+                onCompleted(result -> {
+                    latch.countDown();
                 });
                 if (!isDone()) {
                     if ((timeout < 0) || (unit == null))
@@ -761,13 +846,14 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
      * Returns the current result without starting the action if it has not been started.
      **/
     public final Result<DATA> getCurrentResult() {
-        val data = dataRef.get();
-        if (data instanceof Result) {
-            val result = (Result<DATA>) data;
+        val current = state;
+        if (current instanceof Result) {
+            val result = (Result<DATA>) current;
             return result;
         }
-        if (data instanceof Promise) {
-            val parent = (Promise<DATA>) data;
+        val phase = this.phase;
+        if (phase instanceof Promise) {
+            val parent = (Promise<DATA>) phase;
             return parent.getCurrentResult();
         }
         return Result.ofNotReady();
@@ -820,46 +906,32 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
     }
     
     final SubscriptionRecord<DATA> doSubscribe(boolean isEavesdropping, Wait wait, FuncUnit1<Result<DATA>> resultConsumer) {
-        val toRunNow = new AtomicBoolean(false);
-        val returnSubscription = (SubscriptionRecord<DATA>) synchronouseOperation(() -> {
-            val data = dataRef.get();
-            if (data instanceof Result) {
-            	val promise      = new Promise(Promise.this);
-                val subscription = new SubscriptionRecord<DATA>(promise);
-                toRunNow.set(true);
-                return subscription;
+        val current = state;
+        if (current instanceof Result) {
+            // Already done -- no need for the wait session.
+            val result       = (Result<DATA>) current;
+            val subscription = new SubscriptionRecord<DATA>(this);
+            try {
+                resultConsumer.accept(result);
+            } catch (Throwable e) {
+                handleResultConsumptionExcepion(subscription, resultConsumer, result);
             }
-            val hasNotified = new AtomicBoolean(false);
-            val waitSession = wait != null ? wait.newSession() : Wait.forever().newSession();
-            val subscription = listen(isEavesdropping, result -> {
-                if (hasNotified.compareAndSet(false, true)) {
-                    try {
-                        resultConsumer.accept(result);
-                    } catch (Throwable e) {
-                        // TODO - Use null here because don't know what to do.
-                        // FIXME
-                        handleResultConsumptionExcepion(null, resultConsumer, result);
-                    }
-                }
-            });
-            waitSession.onExpired((message, throwable) -> {
-                if (!hasNotified.compareAndSet(false, true))
-                    return;
-                subscription.unsubscribe();
-                Result<DATA> result;
-                try {
-                    if (wait instanceof WaitOrDefault) {
-                        val supplier = ((WaitOrDefault<DATA>) wait).getDefaultSupplier();
-                        if (supplier == null)
-                            result = Result.ofCancelled(message, throwable);
-                        else
-                            result = supplier.get();
-                    } else {
-                        result = Result.ofCancelled(message, throwable);
-                    }
-                } catch (Exception e) {
-                    result = Result.ofCancelled(null, e);
-                }
+            return subscription;
+        }
+        
+        if ((wait == null) || (wait instanceof WaitForever)) {
+            // Nothing to expire -- the record notifies at most once so the consumer is used as is.
+            val subscription = new SubscriptionRecord<DATA>(this, isEavesdropping, resultConsumer);
+            if (!push(subscription))
+                notify(subscription, (Result<DATA>) state);
+            return subscription;
+        }
+        
+        val hasNotified = new AtomicBoolean(false);
+        val waitSession = wait.newSession();
+        FuncUnit1<Result<DATA>> consumer = result -> {
+            if (hasNotified.compareAndSet(false, true)) {
+                waitSession.close();
                 try {
                     resultConsumer.accept(result);
                 } catch (Throwable e) {
@@ -867,20 +939,39 @@ public class Promise<DATA> implements HasPromise<DATA>, HasResult<DATA>, Pipeabl
                     // FIXME
                     handleResultConsumptionExcepion(null, resultConsumer, result);
                 }
-            });
+            }
+        };
+        val subscription = new SubscriptionRecord<DATA>(this, isEavesdropping, consumer);
+        if (!push(subscription)) {
+            // Done in the mean time -- the consumer can be heavy so it is run out of the push loop.
+            notify(subscription, (Result<DATA>) state);
             return subscription;
-        });
-        if (toRunNow.get()) {
-            // The consumer can be heavy so we remove it out of the locked operation.
-            val data = dataRef.get();
-            val result = (Result<DATA>) data;
+        }
+        waitSession.onExpired((message, throwable) -> {
+            if (!hasNotified.compareAndSet(false, true))
+                return;
+            subscription.unsubscribe();
+            Result<DATA> result;
+            try {
+                if (wait instanceof WaitOrDefault) {
+                    val supplier = ((WaitOrDefault<DATA>) wait).getDefaultSupplier();
+                    if (supplier == null)
+                        result = Result.ofCancelled(message, throwable);
+                    else
+                        result = supplier.get();
+                } else {
+                    result = Result.ofCancelled(message, throwable);
+                }
+            } catch (Exception e) {
+                result = Result.ofCancelled(null, e);
+            }
             try {
                 resultConsumer.accept(result);
             } catch (Throwable e) {
-                handleResultConsumptionExcepion(returnSubscription, resultConsumer, result);
+                handleResultConsumptionExcepion(subscription, resultConsumer, result);
             }
-        }
-        return returnSubscription;
+        });
+        return subscription;
     }
     
     // == Functional ==
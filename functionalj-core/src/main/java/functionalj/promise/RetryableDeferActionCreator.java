@@ -88,16 +88,25 @@ public class RetryableDeferActionCreator {
                     finalAction.cancel("Retry exceed: " + retry.times());
                 } else {
                     val period = retry.waitTimeMilliSecond();
-                    Env.time().sleep(period);
+                    if (period <= 0) {
+                        retry();
+                        return;
+                    }
                     
-                    builder
-                    .build()
-                    .onCompleted(this)
-                    .start();
+                    Env.scheduler().schedule(period, () -> {
+                        if (!finalAction.getPromise().isDone())
+                            retry();
+                    });
                 }
             }
         }
         
+        private void retry() {
+            builder
+            .build()
+            .onCompleted(this)
+            .start();
+        }
     }
     
 }
@@ -25,6 +25,10 @@ package functionalj.promise;
 
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import functionalj.function.FuncUnit1;
 import functionalj.result.Result;
 import lombok.val;
 
@@ -59,17 +63,78 @@ public class SubscriptionRecord<DATA> implements HasPromise<DATA> {
         }
     }
     
-    private final Promise<DATA> promise;
+    // The record is also the node in the subscriber stack of the subscribed promise -- so subscribing needs no other node.
+    
+    static final int ACTIVE  = 0;
+    static final int FIRED   = 1;
+    static final int REMOVED = 2;
+    
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<SubscriptionRecord> NODE_STATE = AtomicIntegerFieldUpdater.newUpdater(SubscriptionRecord.class, "nodeState");
+    
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<SubscriptionRecord, Promise> PROMISE = AtomicReferenceFieldUpdater.newUpdater(SubscriptionRecord.class, Promise.class, "promise");
+    
+    /** The promise subscribed to. */
+    private final Promise<DATA> parent;
+    
+    /** The promise of this subscription (following the parent) -- only created when asked for. */
+    private volatile Promise<DATA> promise;
+    
+    /** The consumer -- cleared once notified or removed so the closure is not kept by the stack. */
+    FuncUnit1<Result<DATA>> consumer;
+    
+    final boolean isEavesdropping;
+    
+    /** The record subscribed before this one -- only ever changed to skip the removed records (see Promise.prune). */
+    volatile SubscriptionRecord<DATA> next;
+    
+    private volatile int nodeState = ACTIVE;
+    
+    SubscriptionRecord(Promise<DATA> parent) {
+        this(parent, false, null);
+    }
     
-    SubscriptionRecord(Promise<DATA> promise) {
-        this.promise = Objects.requireNonNull(promise);
+    SubscriptionRecord(Promise<DATA> parent, boolean isEavesdropping, FuncUnit1<Result<DATA>> consumer) {
+        this.parent          = Objects.requireNonNull(parent);
+        this.isEavesdropping = isEavesdropping;
+        this.consumer        = consumer;
+    }
+    
+    boolean isActive() {
+        return nodeState == ACTIVE;
+    }
+    
+    /** @return true if this call is the one to notify the consumer. */
+    boolean markFired() {
+        return NODE_STATE.compareAndSet(this, ACTIVE, FIRED);
+    }
+    
+    /** @return true if the consumer is removed by this call (so it will never be notified). */
+    boolean markRemoved() {
+        if (!NODE_STATE.compareAndSet(this, ACTIVE, REMOVED))
+            return false;
+        
+        consumer = null;
+        return true;
+    }
+    
+    /** @return the promise of this subscription if it was already created. */
+    Promise<DATA> promiseIfCreated() {
+        return promise;
     }
     
     public Promise<DATA> getPromise() {
+        val current = promise;
+        if (current != null)
+            return current;
+        
+        PROMISE.compareAndSet(this, null, new Promise<DATA>(parent));
         return promise;
     }
     
     public SubscriptionStatus getSubscriptionStatus() {
+        val promise       = getPromise();
         val promiseStatus = promise.getStatus();
         Objects.requireNonNull(promiseStatus);
         if (promiseStatus.isComplete())
@@ -82,7 +147,12 @@ public class SubscriptionRecord<DATA> implements HasPromise<DATA> {
     }
     
     public SubscriptionRecord<DATA> unsubscribe() {
-        promise.unsubscribe(this);
+        // Without the promise of this subscription, there is nothing else to cancel.
+        val promise = this.promise;
+        if (promise != null)
+            promise.unsubscribe(this);
+        else
+            parent.unsubscribe(this);
         return this;
     }
     
@@ -111,10 +181,10 @@ public class SubscriptionRecord<DATA> implements HasPromise<DATA> {
     }
     
     public final Result<DATA> getResult() {
-        return promise.getResult(-1, null);
+        return getPromise().getResult(-1, null);
     }
     
     public final Result<DATA> getResult(long timeout, TimeUnit unit) {
-        return promise.getResult(timeout, unit);
+        return getPromise().getResult(timeout, unit);
     }
 }
@@ -26,6 +26,7 @@ package functionalj.promise;
 import static functionalj.function.Func.getOrElse;
 import java.util.function.Supplier;
 
+import functionalj.environments.Env;
 import functionalj.function.Func0;
 import functionalj.result.Result;
 import lombok.val;
@@ -87,8 +88,14 @@ public abstract class WaitAwhile extends Wait {
         @Override
         public WaitSession newSession() {
             val session = new WaitSession();
+            if (asyncRunner == null) {
+                val handle = Env.scheduler().schedule(time, () -> session.expire(null, null));
+                session.onClose(handle::cancel);
+                return session;
+            }
+            
+            // The given runner waits so the wait can still be cut short by interrupting its thread.
             AsyncRunner.run(asyncRunner, () -> {
-                // TODO - Once scheduling is available, use it.
                 try {
                     Thread.sleep(time);
                 } catch (InterruptedException e) {
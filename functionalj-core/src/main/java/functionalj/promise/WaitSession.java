@@ -28,10 +28,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import lombok.val;
+
 public class WaitSession {
     
     private List<BiConsumer<String, Exception>> listeners = new ArrayList<BiConsumer<String, Exception>>();
     
+    private volatile Runnable onClose = null;
+    
     public WaitSession() {
     }
     
@@ -39,6 +43,19 @@ public class WaitSession {
         listeners.add(onDone);
     }
     
+    /** Set the action to release what this session holds (like its timer) once the wait is no longer needed. */
+    void onClose(Runnable onClose) {
+        this.onClose = onClose;
+    }
+    
+    void close() {
+        val onClose = this.onClose;
+        if (onClose != null) {
+            this.onClose = null;
+            onClose.run();
+        }
+    }
+    
     void expire(String message, Exception throwable) {
         listeners.forEach(listener -> {
             carelessly(() -> {
@@ -26,8 +26,6 @@ package functionalj.ref;
 import static functionalj.ref.Substitution.Scope.allThread;
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -44,8 +42,6 @@ import lombok.val;
 
 public abstract class Ref<DATA> implements AsResult<DATA> {
     
-    private static final ThreadLocal<Entry> refEntry = ThreadLocal.withInitial(() -> new Entry(null, null));
-    
     public static <D> Ref<D> to(String name, Class<D> dataClass) {
         return new RefTo<D>(name, dataClass);
     }
@@ -96,6 +92,8 @@ public abstract class Ref<DATA> implements AsResult<DATA> {
     
     final Supplier<DATA> whenAbsentSupplier;
     
+    private volatile int ordinal = -1;
+    
     Ref(String toString, Class<DATA> dataClass, Supplier<DATA> whenAbsentSupplier) {
         this.toString  = toString;
         this.dataClass = requireNonNull(dataClass);
@@ -104,11 +102,35 @@ public abstract class Ref<DATA> implements AsResult<DATA> {
     
     abstract Result<DATA> findResult();
     
+    /**
+     * @return the ordinal of this ref -- the index of its substitution in the {@link SubstitutionFrame}.
+     *         Only the substituted refs are given one and the ordinals of the collected refs are reused
+     *         so the ordinals stay dense (see {@link RefOrdinals}).
+     */
+    final int ordinal() {
+        val ordinal = this.ordinal;
+        if (ordinal >= 0)
+            return ordinal;
+        return assignOrdinal();
+    }
+    
+    private synchronized int assignOrdinal() {
+        if (ordinal < 0)
+            ordinal = RefOrdinals.assign(this);
+        return ordinal;
+    }
+    
     Result<DATA> findOverrideResult() {
-        val entry = refEntry.get();
-        val supplier = entry.findSupplier(this);
-        if (supplier != null) {
-            val result = Result.of(supplier);
+        // Never substituted -- no need to look.
+        val ordinal = this.ordinal;
+        if (ordinal < 0)
+            return null;
+        
+        val substitution = SubstitutionContext.instance.current().find(ordinal);
+        if (substitution != null) {
+            @SuppressWarnings("unchecked")
+            val supplier = (Func0<DATA>) substitution.supplier();
+            val result   = Result.of(supplier);
             return result;
         }
         return null;
@@ -291,100 +313,41 @@ public abstract class Ref<DATA> implements AsResult<DATA> {
     }
     
     // == Overriability ==
-    @SuppressWarnings("rawtypes")
-    private static class Entry {
-        
-        private final Entry parent;
-        
-        private final Substitution substitution;
-        
-        Entry(Entry parent, Substitution substitution) {
-            this.parent = parent;
-            this.substitution = substitution;
-        }
-        
-        @SuppressWarnings("unchecked")
-        public <D> Func0<D> findSupplier(Ref<D> ref) {
-            if (ref == null)
-                return null;
-            if (substitution != null) {
-                if (ref.equals(substitution.ref())) {
-                    return substitution.supplier();
-                }
-            }
-            if (parent == null)
-                return null;
-            return parent.findSupplier(ref);
-        }
-        
-        @Override
-        public String toString() {
-            return "Entry [parent=" + parent + ", substitution=" + substitution + "]";
-        }
+    
+    static final SubstitutionFrame currentFrame() {
+        return SubstitutionContext.instance.current();
     }
     
     static final <V, E extends Exception> V runWith(List<Substitution<?>> substitutions, ComputeBody<V, E> action) throws E {
-        val map = refEntry.get();
-        try {
-            if (substitutions != null) {
-                Entry current = map;
-                for (val substitution : substitutions) {
-                    if (substitution == null)
-                        continue;
-                    if (substitution.ref() instanceof DictatedRef)
-                        continue;
-                    current = new Entry(current, substitution);
-                }
-                refEntry.set(current);
-            }
-            return action.compute();
-        } finally {
-            refEntry.set(map);
-        }
+        return runWith(null, substitutions, action);
     }
     
     static final <V, E extends Exception> void runWith(List<Substitution<?>> substitutions, RunBody<E> action) throws E {
-        val map = refEntry.get();
-        try {
-            if (substitutions != null) {
-                Entry currentEntry = map;
-                for (val substitution : substitutions) {
-                    if (substitution == null)
-                        continue;
-                    if (substitution.ref() instanceof DictatedRef)
-                        continue;
-                    val newEntry = new Entry(currentEntry, substitution);
-                    refEntry.set(newEntry);
-                    currentEntry = newEntry;
-                }
-            }
-            action.run();
-        } finally {
-            refEntry.set(map);
-        }
+        runWith(null, substitutions, action);
+    }
+    
+    static final <V, E extends Exception> V runWith(SubstitutionFrame base, List<Substitution<?>> substitutions, ComputeBody<V, E> action) throws E {
+        val context = SubstitutionContext.instance;
+        val frame   = newFrame(context.current(), base, substitutions);
+        return context.compute(frame, action);
+    }
+    
+    static final <V, E extends Exception> void runWith(SubstitutionFrame base, List<Substitution<?>> substitutions, RunBody<E> action) throws E {
+        val context = SubstitutionContext.instance;
+        val frame   = newFrame(context.current(), base, substitutions);
+        context.run(frame, action);
+    }
+    
+    private static SubstitutionFrame newFrame(SubstitutionFrame current, SubstitutionFrame base, List<Substitution<?>> substitutions) {
+        val frame = (base != null) ? current.with(base) : current;
+        return frame.with(substitutions);
     }
     
     public static final FuncList<Ref<?>> getCurrentRefs() {
-        val set = new HashSet<Ref<?>>();
-        Entry entry = refEntry.get();
-        while ((entry != null) && (entry.substitution != null)) {
-            @SuppressWarnings("rawtypes")
-            val ref = entry.substitution.ref();
-            set.add(ref);
-            entry = entry.parent;
-        }
-        return FuncList.from(set);
+        return currentFrame().substitutions().<Ref<?>>map(Substitution::ref).toFuncList();
     }
     
     static final FuncList<Substitution<?>> getSubstitutions() {
-        val map = new HashMap<Ref<?>, Substitution<?>>();
-        Entry entry = refEntry.get();
-        while ((entry != null) && (entry.substitution != null)) {
-            @SuppressWarnings("rawtypes")
-            val ref = entry.substitution.ref();
-            map.putIfAbsent(ref, entry.substitution);
-            entry = entry.parent;
-        }
-        return FuncList.from(map.values());
+        return currentFrame().substitutions();
     }
 }
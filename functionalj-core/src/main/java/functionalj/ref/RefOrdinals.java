@@ -0,0 +1,97 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.ref;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import lombok.val;
+
+/**
+ * Hands out the ordinals of the substituted refs and takes them back once the refs are garbage collected.
+ * 
+ * A frame is as long as the largest ordinal in it so the smallest free ordinal is always given out first.
+ * An ordinal is only reused after its ref is gone -- by then no frame can still hold its substitution
+ *   as the substitution refers to the ref.
+ */
+final class RefOrdinals {
+    
+    private static final ReferenceQueue<Ref<?>> released = new ReferenceQueue<>();
+    
+    /** Keep the weak references reachable until they are enqueued. */
+    private static final Set<Holder> holders = new HashSet<>();
+    
+    private static final BitSet freeOrdinals = new BitSet();
+    
+    private static int nextOrdinal = 0;
+    
+    private RefOrdinals() {
+    }
+    
+    /**
+     * Assign a new ordinal to the given ref.
+     * 
+     * @param ref  the ref.
+     * @return     the smallest ordinal not used by any live ref.
+     */
+    static synchronized int assign(Ref<?> ref) {
+        reclaim();
+        
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal >= 0) {
+            freeOrdinals.clear(ordinal);
+        } else {
+            ordinal = nextOrdinal++;
+        }
+        holders.add(new Holder(ref, ordinal, released));
+        return ordinal;
+    }
+    
+    /** @return the number of the ordinals given out so far and not yet reclaimed -- for testing. */
+    static synchronized int inUse() {
+        reclaim();
+        return holders.size();
+    }
+    
+    private static void reclaim() {
+        Holder holder;
+        while ((holder = (Holder) released.poll()) != null) {
+            holders.remove(holder);
+            freeOrdinals.set(holder.ordinal);
+        }
+    }
+    
+    private static final class Holder extends WeakReference<Ref<?>> {
+        
+        final int ordinal;
+        
+        Holder(Ref<?> ref, int ordinal, ReferenceQueue<Ref<?>> queue) {
+            super(ref, queue);
+            this.ordinal = ordinal;
+        }
+    }
+}
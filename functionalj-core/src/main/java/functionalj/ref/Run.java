@@ -58,15 +58,26 @@ public class Run {
     }
     
     public static SyncRunInstance WithAllSubstitutions() {
-        val currentSubstitutions = Substitution.getCurrentSubstitutions();
-        return With(currentSubstitutions);
+        // Capturing the current substitutions is just keeping the current frame.
+        return new SyncRunInstance(Ref.currentFrame(), FuncList.empty());
     }
     
     public static SyncRunInstance WithAllGlobalSubstitutions() {
-    	val currentSubstitutions = Substitution.allThreadSubstitutions();
-    	return With(currentSubstitutions);
+        return new SyncRunInstance(Ref.currentFrame().allThread(), FuncList.empty());
 	}
     
+    /**
+     * Returns the run instance with all the global substitutions and the given substitution on top.
+     * They are merged into one frame right here -- the global frame itself when the substitution is already in it
+     *   -- so running it (e.g., on another thread) just put that frame in place.
+     * 
+     * @param substitution  the substitution.
+     * @return              the run instance.
+     */
+    public static SyncRunInstance WithAllGlobalSubstitutions(Substitution<?> substitution) {
+        return new SyncRunInstance(Ref.currentFrame().allThread().with(substitution), FuncList.empty());
+    }
+    
     public static final SyncRunInstance Synchronously = new SyncRunInstance();
     
     public static final SyncRunInstance synchronously = Synchronously;
@@ -97,24 +108,42 @@ public class Run {
     
     public static abstract class RunInstance<R extends RunInstance<?>> {
         
+        /** The captured substitutions (if any) to be applied before the substitutions. */
+        private final SubstitutionFrame base;
+        
         private final FuncList<Substitution<?>> substitutions;
         
         RunInstance() {
-            this.substitutions = FuncList.empty();
+            this(null, FuncList.empty());
         }
         
         RunInstance(List<Substitution<?>> substitutions) {
+            this(null, substitutions);
+        }
+        
+        RunInstance(SubstitutionFrame base, List<Substitution<?>> substitutions) {
+            this.base          = ((base != null) && !base.isEmpty()) ? base : null;
             this.substitutions = FuncList.from(substitutions);
         }
         
+        SubstitutionFrame base() {
+            return base;
+        }
+        
         public FuncList<Substitution<?>> substitutions() {
+            if (base == null)
+                return this.substitutions;
+            return base.substitutions().appendAll(this.substitutions);
+        }
+        
+        FuncList<Substitution<?>> ownSubstitutions() {
             return this.substitutions;
         }
         
         public SyncRunInstance synchronously() {
             if (this instanceof SyncRunInstance)
                 return (SyncRunInstance) this;
-            return new SyncRunInstance(substitutions);
+            return new SyncRunInstance(base, substitutions);
         }
         
         public SyncRunInstance onSameThread() {
@@ -124,7 +153,7 @@ public class Run {
         public AsyncRunInstance asynchronously() {
             if (this instanceof AsyncRunInstance)
                 return (AsyncRunInstance) this;
-            return new AsyncRunInstance(substitutions);
+            return new AsyncRunInstance(base, substitutions);
         }
         
         public AsyncRunInstance onAnotherThread() {
@@ -165,19 +194,23 @@ public class Run {
             super(substitutions);
         }
         
+        SyncRunInstance(SubstitutionFrame base, List<Substitution<?>> substitutions) {
+            super(base, substitutions);
+        }
+        
         public SyncRunInstance with(List<Substitution<?>> newSubstitutions) {
-            val substitutions = this.substitutions().appendAll(newSubstitutions);
-            return new SyncRunInstance(substitutions);
+            val substitutions = this.ownSubstitutions().appendAll(newSubstitutions);
+            return new SyncRunInstance(base(), substitutions);
         }
         
         public <E extends Exception> void run(RunBody<E> action) throws E {
-            val substitutions = substitutions();
-            Ref.runWith(substitutions, action);
+            val substitutions = ownSubstitutions();
+            Ref.runWith(base(), substitutions, action);
         }
         
         public <V, E extends Exception> V run(ComputeBody<V, E> action) throws E {
-            val substitutions = substitutions();
-            return Ref.runWith(substitutions, action);
+            val substitutions = ownSubstitutions();
+            return Ref.runWith(base(), substitutions, action);
         }
     }
     
@@ -191,22 +224,28 @@ public class Run {
             super(substitutions);
         }
         
+        AsyncRunInstance(SubstitutionFrame base, List<Substitution<?>> substitutions) {
+            super(base, substitutions);
+        }
+        
         public AsyncRunInstance with(List<Substitution<?>> newSubstitutions) {
-            val substitutions = this.substitutions().appendAll(newSubstitutions);
-            return new AsyncRunInstance(substitutions);
+            val substitutions = this.ownSubstitutions().appendAll(newSubstitutions);
+            return new AsyncRunInstance(base(), substitutions);
         }
         
         public <E extends Exception> Promise<Object> run(RunBody<E> action) throws E {
-            val substitutions = substitutions();
+            val base          = base();
+            val substitutions = ownSubstitutions();
             return AsyncRunner.run(() -> {
-                Ref.runWith(substitutions, action);
+                Ref.runWith(base, substitutions, action);
             });
         }
         
         public <V, E extends Exception> Promise<V> run(ComputeBody<V, E> action) throws E {
-            val substitutions = substitutions();
+            val base          = base();
+            val substitutions = ownSubstitutions();
             return AsyncRunner.run(() -> {
-                return Ref.runWith(substitutions, action);
+                return Ref.runWith(base, substitutions, action);
             });
         }
     }
@@ -80,8 +80,7 @@ public abstract class Substitution<DATA> {
     }
     
     public static final FuncList<Substitution<?>> allThreadSubstitutions() {
-    	return getCurrentSubstitutions()
-    			.exclude(Substitution::isThreadLocal);
+    	return Ref.currentFrame().allThread().substitutions();
     }
     
     public static final FuncList<Substitution<?>> getCurrentSubstitutions() {
@@ -0,0 +1,220 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.ref;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import lombok.val;
+
+/**
+ * Where the current {@link SubstitutionFrame} is kept.
+ * 
+ * By default, the frame is kept in a thread local.
+ * With the system property "functionalj.ref.scopedValue" set to "true" on Java 21 or later,
+ *   the frame is kept in a {@code ScopedValue} instead -- the binding is then inherited by the structured sub tasks
+ *   and cost nothing to create a (virtual) thread.
+ * When the scoped value is not available (older Java or the preview is not enabled), the thread local is used.
+ */
+abstract class SubstitutionContext {
+    
+    static final String SCOPED_VALUE_PROPERTY = "functionalj.ref.scopedValue";
+    
+    static final SubstitutionContext instance = newContext();
+    
+    private static SubstitutionContext newContext() {
+        if (Boolean.getBoolean(SCOPED_VALUE_PROPERTY)) {
+            try {
+                return new WithScopedValue();
+            } catch (Throwable exception) {
+                // Not supported -- use the thread local.
+            }
+        }
+        return new WithThreadLocal();
+    }
+    
+    /** @return the current frame. */
+    abstract SubstitutionFrame current();
+    
+    /**
+     * Compute the action with the given frame as the current frame.
+     * 
+     * @param <V>     the result type.
+     * @param <E>     the exception type.
+     * @param frame   the frame.
+     * @param action  the action.
+     * @return        the result.
+     * @throws E      the exception from the action.
+     */
+    abstract <V, E extends Exception> V compute(SubstitutionFrame frame, ComputeBody<V, E> action) throws E;
+    
+    /**
+     * Run the action with the given frame as the current frame.
+     * 
+     * @param <E>     the exception type.
+     * @param frame   the frame.
+     * @param action  the action.
+     * @throws E      the exception from the action.
+     */
+    abstract <E extends Exception> void run(SubstitutionFrame frame, RunBody<E> action) throws E;
+    
+    // == Implementations ==
+    
+    static final class WithThreadLocal extends SubstitutionContext {
+        
+        private final ThreadLocal<SubstitutionFrame> frame = ThreadLocal.withInitial(() -> SubstitutionFrame.EMPTY);
+        
+        @Override
+        SubstitutionFrame current() {
+            return frame.get();
+        }
+        
+        @Override
+        <V, E extends Exception> V compute(SubstitutionFrame newFrame, ComputeBody<V, E> action) throws E {
+            val oldFrame = frame.get();
+            if (oldFrame == newFrame)
+                return action.compute();
+            
+            frame.set(newFrame);
+            try {
+                return action.compute();
+            } finally {
+                frame.set(oldFrame);
+            }
+        }
+        
+        @Override
+        <E extends Exception> void run(SubstitutionFrame newFrame, RunBody<E> action) throws E {
+            val oldFrame = frame.get();
+            if (oldFrame == newFrame) {
+                action.run();
+                return;
+            }
+            
+            frame.set(newFrame);
+            try {
+                action.run();
+            } finally {
+                frame.set(oldFrame);
+            }
+        }
+    }
+    
+    /**
+     * The scoped value is accessed through method handles so this library still compiles and runs on Java 8.
+     * The handles are static final so the JIT can treat them as constants.
+     */
+    static final class WithScopedValue extends SubstitutionContext {
+        
+        private static final MethodHandle orElse;
+        private static final MethodHandle where;
+        private static final MethodHandle run;
+        
+        static {
+            MethodHandle orElseHandle = null;
+            MethodHandle whereHandle  = null;
+            MethodHandle runHandle    = null;
+            try {
+                val lookup       = MethodHandles.publicLookup();
+                val valueClass   = Class.forName("java.lang.ScopedValue");
+                val carrierClass = Class.forName("java.lang.ScopedValue$Carrier");
+                val newInstance  = lookup.findStatic(valueClass, "newInstance", MethodType.methodType(valueClass));
+                val scopedValue  = newInstance.invoke();
+                orElseHandle = lookup.findVirtual(valueClass,   "orElse", MethodType.methodType(Object.class, Object.class)).bindTo(scopedValue);
+                whereHandle  = lookup.findStatic (valueClass,   "where",  MethodType.methodType(carrierClass, valueClass, Object.class)).bindTo(scopedValue);
+                runHandle    = lookup.findVirtual(carrierClass, "run",    MethodType.methodType(void.class, Runnable.class));
+                
+                // Make sure it is usable (e.g., the preview is enabled).
+                runHandle.invoke(whereHandle.invoke(SubstitutionFrame.EMPTY), (Runnable) () -> {});
+            } catch (Throwable exception) {
+                // Not supported -- the constructor will fail.
+                orElseHandle = null;
+                whereHandle  = null;
+                runHandle    = null;
+            }
+            orElse = orElseHandle;
+            where  = whereHandle;
+            run    = runHandle;
+        }
+        
+        WithScopedValue() {
+            if (run == null)
+                throw new UnsupportedOperationException("ScopedValue is not available.");
+        }
+        
+        @Override
+        SubstitutionFrame current() {
+            try {
+                return (SubstitutionFrame) orElse.invoke((Object) SubstitutionFrame.EMPTY);
+            } catch (Throwable exception) {
+                throw new IllegalStateException("Unable to read the scoped value.", exception);
+            }
+        }
+        
+        @Override
+        <V, E extends Exception> V compute(SubstitutionFrame newFrame, ComputeBody<V, E> action) throws E {
+            if (current() == newFrame)
+                return action.compute();
+            
+            val result = new Object[1];
+            val thrown = new Throwable[1];
+            runInScope(newFrame, () -> {
+                try {
+                    result[0] = action.compute();
+                } catch (Throwable throwable) {
+                    thrown[0] = throwable;
+                }
+            });
+            if (thrown[0] != null)
+                throw WithScopedValue.<E>rethrow(thrown[0]);
+            
+            @SuppressWarnings("unchecked")
+            val value = (V) result[0];
+            return value;
+        }
+        
+        @Override
+        <E extends Exception> void run(SubstitutionFrame newFrame, RunBody<E> action) throws E {
+            compute(newFrame, () -> {
+                action.run();
+                return null;
+            });
+        }
+        
+        private void runInScope(SubstitutionFrame newFrame, Runnable runnable) {
+            try {
+                run.invoke(where.invoke(newFrame), runnable);
+            } catch (Throwable exception) {
+                throw new IllegalStateException("Unable to bind the scoped value.", exception);
+            }
+        }
+        
+        /** Throw the exception from the action as is -- it can only be E or an unchecked one. */
+        @SuppressWarnings("unchecked")
+        private static <E extends Throwable> E rethrow(Throwable throwable) throws E {
+            throw (E) throwable;
+        }
+    }
+}
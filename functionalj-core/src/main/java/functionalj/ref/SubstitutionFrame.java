@@ -0,0 +1,209 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.ref;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import functionalj.list.FuncList;
+import lombok.val;
+
+/**
+ * An immutable set of the substitutions in effect -- indexed by the ordinal of the substituted ref.
+ * 
+ * Finding the substitution of a ref is an array access and a new frame is a copy of the array (copy-on-write)
+ *   so the current frame can be captured and restored by just keeping its reference.
+ * The refs with the ordinal beyond {@link #DENSE_LIMIT} are kept in a small overflow array instead
+ *   so one frame never grows too large.
+ */
+final class SubstitutionFrame {
+    
+    static final int DENSE_LIMIT = 1024;
+    
+    private static final Substitution<?>[] NO_SUBSTITUTIONS = new Substitution<?>[0];
+    
+    static final SubstitutionFrame EMPTY = new SubstitutionFrame(NO_SUBSTITUTIONS, NO_SUBSTITUTIONS);
+    
+    /** The substitutions indexed by the ordinal of their refs. */
+    private final Substitution<?>[] slots;
+    
+    /** The substitutions of the refs with the ordinal beyond the dense limit. */
+    private final Substitution<?>[] overflow;
+    
+    private final boolean hasThreadLocal;
+    
+    /** The view without the thread-local substitutions -- lazily created, racing is harmless. */
+    private SubstitutionFrame allThreadFrame;
+    
+    private SubstitutionFrame(Substitution<?>[] slots, Substitution<?>[] overflow) {
+        this.slots    = slots;
+        this.overflow = overflow;
+        
+        boolean hasThreadLocal = false;
+        for (val substitution : slots) {
+            hasThreadLocal |= (substitution != null) && substitution.isThreadLocal();
+        }
+        for (val substitution : overflow) {
+            hasThreadLocal |= substitution.isThreadLocal();
+        }
+        this.hasThreadLocal = hasThreadLocal;
+        this.allThreadFrame = hasThreadLocal ? null : this;
+    }
+    
+    boolean isEmpty() {
+        return this == EMPTY;
+    }
+    
+    /**
+     * Find the substitution of the ref with the given ordinal.
+     * 
+     * @param ordinal  the ordinal of the ref.
+     * @return         the substitution or null if the ref is not substituted.
+     */
+    Substitution<?> find(int ordinal) {
+        if (ordinal < slots.length)
+            return slots[ordinal];
+        if (ordinal < DENSE_LIMIT)
+            return null;
+        
+        for (val substitution : overflow) {
+            if (substitution.ref().ordinal() == ordinal)
+                return substitution;
+        }
+        return null;
+    }
+    
+    /**
+     * Returns the frame with the given substitutions on top of this frame.
+     * The later substitution of the same ref wins and the substitutions of the dictated refs are ignored.
+     * The substitutions already in place (the same instances) are skipped so this frame is returned if there is nothing else.
+     * 
+     * @param substitutions  the substitutions.
+     * @return               the new frame or this frame if there is nothing to add.
+     */
+    SubstitutionFrame with(List<Substitution<?>> substitutions) {
+        if ((substitutions == null) || substitutions.isEmpty())
+            return this;
+        
+        Substitution<?>[] newSlots    = null;
+        Substitution<?>[] newOverflow = overflow;
+        for (val substitution : substitutions) {
+            if (substitution == null)
+                continue;
+            if (substitution.ref() instanceof DictatedRef)
+                continue;
+            
+            val ordinal = substitution.ref().ordinal();
+            if (ordinal < DENSE_LIMIT) {
+                val current = (newSlots != null) ? newSlots : slots;
+                if ((ordinal < current.length) && (current[ordinal] == substitution))
+                    continue;
+                if (newSlots == null)
+                    newSlots = Arrays.copyOf(slots, Math.max(slots.length, ordinal + 1));
+                else if (ordinal >= newSlots.length)
+                    newSlots = Arrays.copyOf(newSlots, ordinal + 1);
+                newSlots[ordinal] = substitution;
+            } else {
+                newOverflow = withOverflow(newOverflow, substitution);
+            }
+        }
+        if ((newSlots == null) && (newOverflow == overflow))
+            return this;
+        return new SubstitutionFrame((newSlots != null) ? newSlots : slots, newOverflow);
+    }
+    
+    /**
+     * Returns the frame with the given substitution on top of this frame.
+     * 
+     * @param substitution  the substitution.
+     * @return              the new frame or this frame if there is nothing to add (or it is already in place).
+     */
+    SubstitutionFrame with(Substitution<?> substitution) {
+        return with(Collections.<Substitution<?>>singletonList(substitution));
+    }
+    
+    /**
+     * Returns the frame with the substitutions of the given frame on top of this frame.
+     * 
+     * @param frame  the frame on top.
+     * @return       the merged frame -- one of the two frames if the other one is empty.
+     */
+    SubstitutionFrame with(SubstitutionFrame frame) {
+        if (frame.isEmpty())
+            return this;
+        if (this.isEmpty())
+            return frame;
+        return with(frame.substitutions());
+    }
+    
+    /** @return the frame without the thread-local substitutions. */
+    SubstitutionFrame allThread() {
+        val frame = allThreadFrame;
+        if (frame != null)
+            return frame;
+        
+        val substitutions = new ArrayList<Substitution<?>>();
+        for (val substitution : substitutions()) {
+            if (!substitution.isThreadLocal())
+                substitutions.add(substitution);
+        }
+        val newFrame = EMPTY.with(substitutions);
+        allThreadFrame = newFrame;
+        return newFrame;
+    }
+    
+    /** @return all the substitutions in this frame. */
+    FuncList<Substitution<?>> substitutions() {
+        val substitutions = new ArrayList<Substitution<?>>();
+        for (val substitution : slots) {
+            if (substitution != null)
+                substitutions.add(substitution);
+        }
+        substitutions.addAll(Arrays.asList(overflow));
+        return FuncList.from(substitutions);
+    }
+    
+    private static Substitution<?>[] withOverflow(Substitution<?>[] overflow, Substitution<?> substitution) {
+        val ordinal = substitution.ref().ordinal();
+        for (int i = 0; i < overflow.length; i++) {
+            if (overflow[i] == substitution)
+                return overflow;
+            if (overflow[i].ref().ordinal() == ordinal) {
+                val newOverflow = overflow.clone();
+                newOverflow[i] = substitution;
+                return newOverflow;
+            }
+        }
+        val newOverflow = Arrays.copyOf(overflow, overflow.length + 1);
+        newOverflow[overflow.length] = substitution;
+        return newOverflow;
+    }
+    
+    @Override
+    public String toString() {
+        return "SubstitutionFrame" + substitutions();
+    }
+}
@@ -23,36 +23,36 @@
 // ============================================================================
 package functionalj.result;
 
-import static functionalj.function.Func.f;
 import functionalj.function.Func0;
 import functionalj.function.Func1;
+import functionalj.function.Once;
 
 public class DerivedResult<DATA> extends Result<DATA> {
     
-    private final Func0<Object> dataSupplier;
+    private final Once<Object> data;
     
     public DerivedResult(Func0<DATA> dataSupplier) {
-        this.dataSupplier = f(() -> {
+        this.data = Once.of(() -> {
             try {
                 return dataSupplier.applySafely().__valueData();
             } catch (Exception e) {
                 return new ExceptionHolder(e);
             }
-        }).memoize();
+        });
     }
     
     public <ORG> DerivedResult(Result<ORG> orgValue, Func1<Result<ORG>, Result<DATA>> mapper) {
-        this.dataSupplier = f(() -> {
+        this.data = Once.of(() -> {
             try {
                 return mapper.applyUnsafe(orgValue).__valueData();
             } catch (Exception e) {
                 return new ExceptionHolder(e);
             }
-        }).memoize();
+        });
     }
     
     @Override
     Object __valueData() {
-        return dataSupplier.get();
+        return data.get();
     }
 }
@@ -27,6 +27,19 @@ public class NoMoreResultException extends ResultNotAvailableException {
     
     private static final long serialVersionUID = 3232883306883973811L;
     
+    /** The shared instance without the stack trace -- see {@link Result#captureNotAvailableStackTrace}. */
+    static final NoMoreResultException STACKLESS = new NoMoreResultException(null, null, false);
+    
+    /**
+     * Returns the exception to throw to signal that there is no more element (for example, to end a generator).
+     * This is the shared instance without the stack trace unless {@link Result#captureNotAvailableStackTrace} is on.
+     * 
+     * @return  the exception.
+     */
+    public static NoMoreResultException signal() {
+        return Result.captureNotAvailableStackTrace.get() ? new NoMoreResultException() : STACKLESS;
+    }
+    
     public NoMoreResultException() {
         this(null, null);
     }
@@ -42,4 +55,8 @@ public class NoMoreResultException extends ResultNotAvailableException {
     public NoMoreResultException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    NoMoreResultException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace);
+    }
 }
@@ -56,6 +56,7 @@ import functionalj.pipeable.Pipeable;
 import functionalj.promise.HasPromise;
 import functionalj.promise.Promise;
 import functionalj.promise.UncheckedInterruptedException;
+import functionalj.ref.Ref;
 import functionalj.tuple.Tuple;
 import functionalj.tuple.Tuple2;
 import functionalj.validator.SimpleValidator;
@@ -109,6 +110,26 @@ public abstract class Result<DATA> implements AsResult<DATA>, Pipeable<Result<DA
     @SuppressWarnings("rawtypes")
     private static final Result NULL = new Value<>(null);
     
+    /**
+     * Whether the NotExist, NoMore, NotReady and Cancelled results (without message) capture the stack trace -- for debugging.
+     * 
+     * These results are used for the ordinary control flow (such as filtering or ending a generator)
+     *   so, by default, they are the shared results with the exceptions without the stack trace.
+     */
+    public static final Ref<Boolean> captureNotAvailableStackTrace = Ref.ofValue(false);
+    
+    @SuppressWarnings("rawtypes")
+    private static final Result NOT_EXIST = new Value<>(null, ResultNotExistException.STACKLESS);
+    
+    @SuppressWarnings("rawtypes")
+    private static final Result NO_MORE = new Value<>(null, NoMoreResultException.STACKLESS);
+    
+    @SuppressWarnings("rawtypes")
+    private static final Result NOT_READY = new Value<>(null, ResultNotReadyException.STACKLESS);
+    
+    @SuppressWarnings("rawtypes")
+    private static final Result CANCELLED = new Value<>(null, ResultCancelledException.STACKLESS);
+    
     /**
      * Returns the Null result.
      *
@@ -128,8 +149,11 @@ public abstract class Result<DATA> implements AsResult<DATA>, Pipeable<Result<DA
      * @return the Result that is the result does not exist.
      */
     public static <D> Result<D> ofNotExist() {
+        if (captureNotAvailableStackTrace.get())
+            return Result.ofException(new ResultNotExistException());
+        
         @SuppressWarnings("unchecked")
-        val notAvailableResult = (Result<D>) Result.ofException(new ResultNotExistException());
+        val notAvailableResult = (Result<D>) NOT_EXIST;
         return notAvailableResult;
     }
     
@@ -167,8 +191,11 @@ public abstract class Result<DATA> implements AsResult<DATA>, Pipeable<Result<DA
      * @return the Result that is the result does not exist.
      */
     public static <D> Result<D> ofNoMore() {
+        if (captureNotAvailableStackTrace.get())
+            return Result.ofException(new NoMoreResultException());
+        
         @SuppressWarnings("unchecked")
-        val notAvailableResult = (Result<D>) Result.ofException(new NoMoreResultException());
+        val notAvailableResult = (Result<D>) NO_MORE;
         return notAvailableResult;
     }
     
@@ -206,8 +233,11 @@ public abstract class Result<DATA> implements AsResult<DATA>, Pipeable<Result<DA
      * @return the Result that is the result is not ready.
      */
     public static <D> Result<D> ofNotReady() {
+        if (captureNotAvailableStackTrace.get())
+            return Result.ofException(new ResultNotReadyException());
+        
         @SuppressWarnings("unchecked")
-        val notReady = (Result<D>) Result.ofException(new ResultNotReadyException());
+        val notReady = (Result<D>) NOT_READY;
         return notReady;
     }
     
@@ -245,8 +275,11 @@ public abstract class Result<DATA> implements AsResult<DATA>, Pipeable<Result<DA
      * @return the Result that is the result is cancelled.
      */
     public static <D> Result<D> ofCancelled() {
+        if (captureNotAvailableStackTrace.get())
+            return Result.ofException(new ResultCancelledException());
+        
         @SuppressWarnings("unchecked")
-        val cancelledResult = (Result<D>) Result.ofException(new ResultCancelledException());
+        val cancelledResult = (Result<D>) CANCELLED;
         return cancelledResult;
     }
     
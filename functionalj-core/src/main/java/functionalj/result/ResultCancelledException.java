@@ -27,10 +27,17 @@ public class ResultCancelledException extends ResultNotAvailableException {
     
     private static final long serialVersionUID = 1402992361738590955L;
     
+    /** The shared instance without the stack trace -- see {@link Result#captureNotAvailableStackTrace}. */
+    static final ResultCancelledException STACKLESS = new ResultCancelledException(null, null, false);
+    
     ResultCancelledException() {
     }
     
     public ResultCancelledException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    ResultCancelledException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace);
+    }
 }
@@ -33,4 +33,9 @@ public class ResultNotAvailableException extends RuntimeException {
     ResultNotAvailableException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    /** For the shared instances -- without the stack trace (and the suppressed exceptions) when not writable. */
+    ResultNotAvailableException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace, writableStackTrace);
+    }
 }
@@ -27,6 +27,9 @@ public class ResultNotExistException extends ResultNotAvailableException {
     
     private static final long serialVersionUID = -1710800832797536830L;
     
+    /** The shared instance without the stack trace -- see {@link Result#captureNotAvailableStackTrace}. */
+    static final ResultNotExistException STACKLESS = new ResultNotExistException(null, null, false);
+    
     public ResultNotExistException() {
         super();
     }
@@ -34,4 +37,8 @@ public class ResultNotExistException extends ResultNotAvailableException {
     public ResultNotExistException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    ResultNotExistException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace);
+    }
 }
@@ -27,6 +27,9 @@ public class ResultNotReadyException extends ResultNotAvailableException {
     
     private static final long serialVersionUID = 7838693114260918473L;
     
+    /** The shared instance without the stack trace -- see {@link Result#captureNotAvailableStackTrace}. */
+    static final ResultNotReadyException STACKLESS = new ResultNotReadyException(null, null, false);
+    
     public ResultNotReadyException() {
         super();
     }
@@ -34,4 +37,8 @@ public class ResultNotReadyException extends ResultNotAvailableException {
     public ResultNotReadyException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    ResultNotReadyException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace);
+    }
 }
@@ -0,0 +1,333 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.stream;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+import functionalj.exception.Throwables;
+import lombok.val;
+
+/**
+ * Partitioning of the elements for the split methods -- in one pass and with each predicate evaluated at most once per element.
+ *
+ * An element goes to the first partition which predicate accepts it.
+ * If there are more partitions than the predicates, the last partition takes the elements that no predicate accepts
+ *   otherwise those elements are thrown away.
+ * The elements of the partitions that are not kept are thrown away without being buffered.
+ */
+public final class StreamPartitions {
+    
+    private StreamPartitions() {
+    }
+    
+    /**
+     * Partition all the elements from the source.
+     *
+     * @param <DATA>      the data type.
+     * @param source      the source of the elements -- only pulled once.
+     * @param isKept      whether to keep each of the partitions -- the length is the number of partitions.
+     * @param predicates  the predicates of the partitions.
+     * @return  the exactly-sized arrays of the elements of each partition -- empty for the partition that is not kept.
+     */
+    @SafeVarargs
+    public static <DATA> Object[][] partition(Spliterator<DATA> source, boolean[] isKept, Predicate<? super DATA> ... predicates) {
+        val buffer = new Buffer<DATA>(source.getExactSizeIfKnown(), isKept, predicates);
+        source.forEachRemaining(buffer);
+        return buffer.toArrays();
+    }
+    
+    /**
+     * Partition the elements from the source into the streams that pull the source as they are consumed.
+     *
+     * The stream pulling an element for another partition hands it over through that partition's queue
+     *   and waits when the queue is full -- so the streams must be consumed concurrently
+     *   (or closed when they are not used) to avoid waiting forever.
+     * The source is closed when all the streams are closed.
+     *
+     * @param <DATA>      the data type.
+     * @param source      the source stream -- only pulled once.
+     * @param bufferSize  the maximum number of the elements waiting in each partition's queue.
+     * @param isKept      whether to keep each of the partitions -- the length is the number of partitions.
+     * @param predicates  the predicates of the partitions.
+     * @return  the stream of each partition -- empty for the partition that is not kept.
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <DATA> StreamPlus<DATA>[] partitionConcurrently(StreamPlus<DATA> source, int bufferSize, boolean[] isKept, Predicate<? super DATA> ... predicates) {
+        if (bufferSize <= 0)
+            throw new IllegalArgumentException("bufferSize: " + bufferSize);
+        
+        val hub     = new Hub<DATA>(source, bufferSize, isKept, predicates);
+        val streams = new StreamPlus[isKept.length];
+        for (int i = 0; i < streams.length; i++) {
+            val partition = i;
+            val stream    = StreamSupport.stream(new PartitionSpliterator<DATA>(hub, partition), false);
+            streams[i] = StreamPlus.from(stream.onClose(() -> hub.close(partition)));
+        }
+        return (StreamPlus<DATA>[]) streams;
+    }
+    
+    static <DATA> int partitionOf(DATA data, Predicate<? super DATA>[] predicates, int partitionCount) {
+        for (int i = 0; i < predicates.length; i++) {
+            if (predicates[i].test(data))
+                return i;
+        }
+        return (partitionCount > predicates.length) ? predicates.length : -1;
+    }
+    
+    /** Holds all the kept elements (with their partitions) and then scatters them to the exactly-sized arrays. */
+    private static final class Buffer<DATA> implements Consumer<DATA> {
+        
+        private final boolean[] isKept;
+        private final Predicate<? super DATA>[] predicates;
+        private final int[] counts;
+        
+        private Object[] elements;
+        private byte[]   partitions;
+        private int      size = 0;
+        
+        Buffer(long exactSize, boolean[] isKept, Predicate<? super DATA>[] predicates) {
+            int capacity = ((exactSize >= 0) && (exactSize < Integer.MAX_VALUE - 8)) ? (int) exactSize : 16;
+            this.isKept     = isKept;
+            this.predicates = predicates;
+            this.counts     = new int[isKept.length];
+            this.elements   = new Object[capacity];
+            this.partitions = new byte[capacity];
+        }
+        
+        @Override
+        public void accept(DATA data) {
+            int partition = partitionOf(data, predicates, isKept.length);
+            if ((partition == -1) || !isKept[partition])
+                return;
+            
+            if (size == elements.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                elements   = Arrays.copyOf(elements,   capacity);
+                partitions = Arrays.copyOf(partitions, capacity);
+            }
+            elements[size]   = data;
+            partitions[size] = (byte) partition;
+            counts[partition]++;
+            size++;
+        }
+        
+        Object[][] toArrays() {
+            val arrays  = new Object[counts.length][];
+            val indexes = new int[counts.length];
+            for (int p = 0; p < counts.length; p++) {
+                arrays[p] = new Object[counts[p]];
+            }
+            for (int i = 0; i < size; i++) {
+                int partition = partitions[i];
+                arrays[partition][indexes[partition]++] = elements[i];
+            }
+            return arrays;
+        }
+    }
+    
+    /**
+     * The shared state of the concurrent partitions.
+     *
+     * Only one partition pulls the source at a time and it does so outside of the lock
+     *   so the source and the predicates are never run while holding the lock.
+     * Each partition's queue is a ring that grows up to the buffer size.
+     */
+    private static final class Hub<DATA> {
+        
+        private final ReentrantLock lock    = new ReentrantLock();
+        private final Condition     changed = lock.newCondition();
+        
+        private final StreamPlus<DATA>  source;
+        private final Spliterator<DATA> spliterator;
+        private final int               bufferSize;
+        private final Predicate<? super DATA>[] predicates;
+        private final Object[][] queues;
+        private final int[]      heads;
+        private final int[]      sizes;
+        private final boolean[]  isClosed;
+        
+        private int     openCount = 0;
+        private boolean isPulling = false;
+        private boolean isDone    = false;
+        
+        Hub(StreamPlus<DATA> source, int bufferSize, boolean[] isKept, Predicate<? super DATA>[] predicates) {
+            this.source      = source;
+            this.spliterator = source.stream().spliterator();
+            this.bufferSize  = bufferSize;
+            this.predicates  = predicates;
+            this.queues      = new Object[isKept.length][];
+            this.heads       = new int[isKept.length];
+            this.sizes       = new int[isKept.length];
+            this.isClosed    = new boolean[isKept.length];
+            for (int i = 0; i < isKept.length; i++) {
+                queues[i]   = new Object[Math.min(bufferSize, 16)];
+                isClosed[i] = !isKept[i];
+                openCount  += isKept[i] ? 1 : 0;
+            }
+        }
+        
+        /** Put the next element of the partition in the holder and return true -- or return false when there is no more. */
+        @SuppressWarnings("unchecked")
+        boolean next(int partition, Object[] holder) {
+            Consumer<DATA> pull = data -> holder[0] = data;
+            lock.lock();
+            try {
+                while (true) {
+                    if (sizes[partition] != 0) {
+                        holder[0] = poll(partition);
+                        changed.signalAll();
+                        return true;
+                    }
+                    if (isDone || isClosed[partition])
+                        return false;
+                    if (isPulling) {
+                        await();
+                        continue;
+                    }
+                    
+                    isPulling = true;
+                    lock.unlock();
+                    boolean hasNext = false;
+                    int     target  = -1;
+                    try {
+                        hasNext = spliterator.tryAdvance(pull);
+                        target  = hasNext ? partitionOf((DATA) holder[0], predicates, queues.length) : -1;
+                    } finally {
+                        lock.lock();
+                        isPulling = false;
+                        changed.signalAll();
+                    }
+                    
+                    if (!hasNext) {
+                        isDone = true;
+                        continue;
+                    }
+                    if ((target == -1) || isClosed[target])
+                        continue;
+                    if (target == partition)
+                        return true;
+                    
+                    isPulling = true;
+                    try {
+                        while ((sizes[target] >= bufferSize) && !isClosed[target]) {
+                            await();
+                        }
+                        if (!isClosed[target]) {
+                            offer(target, holder[0]);
+                        }
+                    } finally {
+                        isPulling = false;
+                        changed.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        void close(int partition) {
+            lock.lock();
+            try {
+                if (isClosed[partition])
+                    return;
+                
+                isClosed[partition] = true;
+                queues[partition]   = null;
+                sizes[partition]    = 0;
+                openCount--;
+                changed.signalAll();
+                if (openCount != 0)
+                    return;
+            } finally {
+                lock.unlock();
+            }
+            source.close();
+        }
+        
+        private Object poll(int partition) {
+            val queue = queues[partition];
+            val data  = queue[heads[partition]];
+            queue[heads[partition]] = null;
+            heads[partition] = (heads[partition] + 1) % queue.length;
+            sizes[partition]--;
+            return data;
+        }
+        
+        private void offer(int partition, Object data) {
+            val queue = queues[partition];
+            val size  = sizes[partition];
+            if (size == queue.length) {
+                val newQueue = new Object[(int) Math.min(bufferSize, 2L * size)];
+                for (int i = 0; i < size; i++) {
+                    newQueue[i] = queue[(heads[partition] + i) % size];
+                }
+                queues[partition] = newQueue;
+                heads[partition]  = 0;
+            }
+            queues[partition][(heads[partition] + size) % queues[partition].length] = data;
+            sizes[partition]++;
+        }
+        
+        private void await() {
+            try {
+                changed.await();
+            } catch (InterruptedException exception) {
+                throw Throwables.exceptionTransformer.get().apply(exception);
+            }
+        }
+    }
+    
+    private static final class PartitionSpliterator<DATA> extends Spliterators.AbstractSpliterator<DATA> {
+        
+        private final Hub<DATA> hub;
+        private final int       partition;
+        private final Object[]  holder = new Object[1];
+        
+        PartitionSpliterator(Hub<DATA> hub, int partition) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.hub       = hub;
+            this.partition = partition;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super DATA> action) {
+            if (!hub.next(partition, holder))
+                return false;
+            
+            val data = (DATA) holder[0];
+            holder[0] = null;
+            action.accept(data);
+            return true;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import lombok.val;
@@ -177,4 +178,17 @@ public class StreamPlusHelper {
         val stream = StreamSupport.stream(spliterator, false);
         return StreamPlus.from(stream);
     }
+    
+    /** @return the streams of the partitions -- see {@link StreamPartitions}. */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    static <DATA> StreamPlus<DATA>[] split(AsStreamPlus<DATA> asStreamPlus, boolean[] isKept, Predicate<? super DATA> ... predicates) {
+        Function<Stream<DATA>, Object[][]> partition = stream -> StreamPartitions.partition(stream.spliterator(), isKept, predicates);
+        val arrays  = terminate(asStreamPlus, partition);
+        val streams = new StreamPlus[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            streams[i] = ArrayBackedStreamPlus.from(arrays[i]);
+        }
+        return (StreamPlus<DATA>[]) streams;
+    }
 }
@@ -182,7 +182,7 @@ public interface StreamPlusWithCombine<DATA> {
                 if (hasNextB) {
                     return nextB;
                 }
-                throw new NoMoreResultException();
+                throw NoMoreResultException.signal();
             }
         };
         val iterable = new Iterable<DATA>() {
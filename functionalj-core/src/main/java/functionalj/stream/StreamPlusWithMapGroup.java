@@ -23,16 +23,9 @@
 // ============================================================================
 package functionalj.stream;
 
-import static functionalj.stream.StreamPlusHelper.sequential;
-
-import java.util.Spliterators;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
-import java.util.function.DoubleConsumer;
-import java.util.function.IntConsumer;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
-import java.util.stream.StreamSupport;
 
 import functionalj.function.Func1;
 import functionalj.function.Func10;
@@ -58,128 +51,6 @@ import functionalj.tuple.Tuple8;
 import functionalj.tuple.Tuple9;
 import lombok.val;
 
-class StreamPlusWithMapGroupHelper {
-    
-    static <DATA, TARGET> StreamPlus<TARGET> mapGroup(StreamPlus<DATA> streamPlus, int count, Func4<Object[], Integer, Integer, Consumer<? super TARGET>, Void> processNormal, Func4<Object[], Integer, Integer, Consumer<? super TARGET>, Void> processTail) {
-        return sequential(streamPlus, stream -> {
-            val splitr = stream.spliterator();
-            val spliterator = new Spliterators.AbstractSpliterator<TARGET>(splitr.estimateSize(), 0) {
-        
-                Object[] array = new Object[count * 10];
-        
-                int start = 0;
-        
-                int end = 0;
-        
-                boolean used = false;
-        
-                @Override
-                public boolean tryAdvance(Consumer<? super TARGET> consumer) {
-                    Consumer<? super DATA> action = elem -> {
-                        array[end] = elem;
-                        end++;
-                        int length = end - start;
-                        if (length >= count) {
-                            processNormal.apply(array, start, end, consumer);
-                            used = true;
-                            start++;
-                        }
-                        if (end >= array.length) {
-                            System.arraycopy(array, start, array, 0, length - 1);
-                            start = 0;
-                            end = length - 1;
-                        }
-                    };
-                    boolean hasNext = splitr.tryAdvance(action);
-                    if (!hasNext && !used && (processTail != null)) {
-                        processTail.apply(array, start, end, consumer);
-                    }
-                    return hasNext;
-                }
-            };
-            return StreamPlus.from(StreamSupport.stream(spliterator, false));
-        });
-    }
-    
-    static <DATA, TARGET> IntStreamPlus mapGroupToInt(StreamPlus<DATA> streamPlus, int count, Func4<Object[], Integer, Integer, IntConsumer, Void> processNormal, Func4<Object[], Integer, Integer, IntConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractIntSpliterator(splitr.estimateSize(), 0) {
-        
-            Object[] array = new Object[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(IntConsumer consumer) {
-                Consumer<DATA> action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return IntStreamPlus.from(StreamSupport.intStream(spliterator, false));
-    }
-    
-    static <DATA, TARGET> DoubleStreamPlus mapGroupToDouble(StreamPlus<DATA> streamPlus, int count, Func4<Object[], Integer, Integer, DoubleConsumer, Void> processNormal, Func4<Object[], Integer, Integer, DoubleConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractDoubleSpliterator(splitr.estimateSize(), 0) {
-        
-            Object[] array = new Object[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(DoubleConsumer consumer) {
-                Consumer<DATA> action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return DoubleStreamPlus.from(StreamSupport.doubleStream(spliterator, false));
-    }
-}
-
 public interface StreamPlusWithMapGroup<DATA> {
     
     public StreamPlus<DATA> streamPlus();
@@ -190,7 +61,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple2<DATA, DATA>> mapTwo() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 2, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 2, (array, start, end, consumer) -> {
             val prev = (DATA) array[start];
             val curr = (DATA) array[start + 1];
             consumer.accept(Tuple2.of(prev, curr));
@@ -204,7 +75,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple3<DATA, DATA, DATA>> mapThree() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 3, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 3, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -219,7 +90,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple4<DATA, DATA, DATA, DATA>> mapFour() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 4, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 4, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -235,7 +106,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple5<DATA, DATA, DATA, DATA, DATA>> mapFive() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 5, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 5, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -252,7 +123,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple6<DATA, DATA, DATA, DATA, DATA, DATA>> mapSix() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 6, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 6, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -270,7 +141,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple7<DATA, DATA, DATA, DATA, DATA, DATA, DATA>> mapSeven() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 7, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 7, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -289,7 +160,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple8<DATA, DATA, DATA, DATA, DATA, DATA, DATA, DATA>> mapEight() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 8, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 8, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -309,7 +180,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple9<DATA, DATA, DATA, DATA, DATA, DATA, DATA, DATA, DATA>> mapNine() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 9, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 9, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -330,7 +201,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default StreamPlus<Tuple10<DATA, DATA, DATA, DATA, DATA, DATA, DATA, DATA, DATA, DATA>> mapTen() {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 10, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 10, (array, start, end, consumer) -> {
             val value1  = (DATA) array[start];
             val value2  = (DATA) array[start + 1];
             val value3  = (DATA) array[start + 2];
@@ -352,7 +223,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(BiFunction<? super DATA, ? super DATA, ? extends TARGET> combinator) {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 2, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 2, (array, start, end, consumer) -> {
             val prev = (DATA) array[start];
             val curr = (DATA) array[start + 1];
             val value = combinator.apply(prev, curr);
@@ -367,7 +238,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func3<? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 3, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 3, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -383,7 +254,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func4<? super DATA, ? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 4, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 4, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -400,7 +271,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func5<? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus, 5, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus, 5, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -417,7 +288,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func6<? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus(), 6, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus(), 6, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -435,7 +306,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func7<? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus(), 7, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus(), 7, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -454,7 +325,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func8<? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus(), 8, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus(), 8, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -474,7 +345,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func9<? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus(), 9, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus(), 9, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -495,7 +366,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings("unchecked")
     public default <TARGET> StreamPlus<TARGET> mapGroup(Func10<? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? super DATA, ? extends TARGET> combinator) {
-        return StreamPlusWithMapGroupHelper.mapGroup(streamPlus(), 10, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroup(streamPlus(), 10, (array, start, end, consumer) -> {
             val value1 = (DATA) array[start];
             val value2 = (DATA) array[start + 1];
             val value3 = (DATA) array[start + 2];
@@ -517,7 +388,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public default StreamPlus<StreamPlus<DATA>> mapGroup(int count) {
-        return StreamPlusWithMapGroupHelper.<DATA, StreamPlus<DATA>>mapGroup(streamPlus(), count, (array, start, end, consumer) -> {
+        return SegmentSpliterators.<DATA, StreamPlus<DATA>>mapGroup(streamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIteratorPlus<>(array, start, count);
             val streamPlus = new ArrayBackedStreamPlus<>(iterator);
             consumer.accept((StreamPlus<DATA>) (StreamPlus) streamPlus);
@@ -544,7 +415,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default IntStreamPlus mapTwoToInt(ObjectObjectToIntFunctionPrimitive<? super DATA, ? super DATA> combinator) {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroupToInt(streamPlus, 2, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroupToInt(streamPlus, 2, (array, start, end, consumer) -> {
             val prev = (DATA) array[start];
             val curr = (DATA) array[start + 1];
             val value = combinator.apply(prev, curr);
@@ -558,7 +429,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings("unchecked")
     public default IntStreamPlus mapGroupToInt(int count, ToIntFunction<? super StreamPlus<? extends DATA>> combinator) {
-        return StreamPlusWithMapGroupHelper.mapGroupToInt(streamPlus(), count, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroupToInt(streamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIteratorPlus<>(array, start, count);
             val streamPlus = new ArrayBackedStreamPlus<>(iterator);
             val value = combinator.applyAsInt((StreamPlus<? extends DATA>) streamPlus);
@@ -580,7 +451,7 @@ public interface StreamPlusWithMapGroup<DATA> {
     @SuppressWarnings("unchecked")
     public default DoubleStreamPlus mapTwoToDouble(ObjectObjectToDoubleFunctionPrimitive<? super DATA, ? super DATA> combinator) {
         val streamPlus = streamPlus();
-        return StreamPlusWithMapGroupHelper.mapGroupToDouble(streamPlus, 2, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroupToDouble(streamPlus, 2, (array, start, end, consumer) -> {
             val prev = (DATA) array[start];
             val curr = (DATA) array[start + 1];
             val value = combinator.apply(prev, curr);
@@ -594,7 +465,7 @@ public interface StreamPlusWithMapGroup<DATA> {
      */
     @SuppressWarnings("unchecked")
     public default DoubleStreamPlus mapGroupToDouble(int count, ToDoubleFunction<? super StreamPlus<? extends DATA>> combinator) {
-        return StreamPlusWithMapGroupHelper.mapGroupToDouble(streamPlus(), count, (array, start, end, consumer) -> {
+        return SegmentSpliterators.mapGroupToDouble(streamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIteratorPlus<>(array, start, count);
             val streamPlus = new ArrayBackedStreamPlus<>(iterator);
             val value = combinator.applyAsDouble((StreamPlus<? extends DATA>) streamPlus);
@@ -30,7 +30,6 @@ import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.StreamSupport;
 import functionalj.list.FuncList;
-import functionalj.list.FuncListBuilder;
 import functionalj.stream.markers.Sequential;
 import lombok.val;
 
@@ -41,8 +40,9 @@ public interface StreamPlusWithSegment<DATA> {
     /**
      * Segment the stream into sub stream with the fix length of count.
      * The last portion may be shorter.
+     * 
+     * A parallel stream of the known size is split at multiples of the count.
      */
-    @Sequential
     public default StreamPlus<FuncList<DATA>> segment(int count) {
         if (count <= 0) {
             return StreamPlus.empty();
@@ -50,26 +50,7 @@ public interface StreamPlusWithSegment<DATA> {
         if (count <= 1) {
             return streamPlus().map(each -> FuncList.of(each));
         }
-        val splitr = streamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<FuncList<DATA>>(splitr.estimateSize(), 0) {
-            @Override
-            public boolean tryAdvance(Consumer<? super FuncList<DATA>> consumer) {
-                val eachListBuilder = FuncList.<DATA>newBuilder();
-                boolean hasThis;
-                int i = count;
-                do {
-                    hasThis = splitr.tryAdvance(eachListBuilder::add);
-                } while (hasThis && (--i > 0));
-                val eachList = eachListBuilder.build();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return SegmentSpliterators.segment(streamPlus(), count);
     }
     
     /**
@@ -115,93 +96,17 @@ public interface StreamPlusWithSegment<DATA> {
     /**
      * Segment the stream into sub stream whenever the start condition is true.
      */
-    @Sequential
     public default StreamPlus<FuncList<DATA>> segmentWhen(Predicate<? super DATA> startCondition) {
         Objects.requireNonNull(startCondition);
-        val splitr = streamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<FuncList<DATA>>(splitr.estimateSize(), 0) {
-        
-            FuncListBuilder<DATA> eachListBuilder = FuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super FuncList<DATA>> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance(eachValue -> {
-                        if (startCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            eachListBuilder = FuncList.newBuilder();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                        }
-                        eachListBuilder.add(eachValue);
-                    });
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = FuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return SegmentSpliterators.segment(streamPlus(), startCondition, null, true);
     }
     
     /**
      * Segment the stream into sub stream starting the element after the precondition is true.
      */
-    @Sequential
     public default StreamPlus<FuncList<DATA>> segmentAfter(Predicate<? super DATA> endCondition) {
         Objects.requireNonNull(endCondition);
-        val splitr = streamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<FuncList<DATA>>(splitr.estimateSize(), 0) {
-        
-            FuncListBuilder<DATA> eachListBuilder = FuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super FuncList<DATA>> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance(eachValue -> {
-                        eachListBuilder.add(eachValue);
-                        if (endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = FuncList.newBuilder();
-                        }
-                    });
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = FuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return SegmentSpliterators.segment(streamPlus(), null, endCondition, true);
     }
     
     /**
@@ -216,7 +121,6 @@ public interface StreamPlusWithSegment<DATA> {
      * @param startCondition  the condition to start the sub stream
      * @param endCondition    the condition to end the sub stream
      */
-    @Sequential
     public default StreamPlus<FuncList<DATA>> segmentBetween(Predicate<? super DATA> startCondition, Predicate<? super DATA> endCondition) {
         return segmentBetween(startCondition, endCondition, false);
     }
@@ -231,7 +135,6 @@ public interface StreamPlusWithSegment<DATA> {
      * @param endCondition        the condition to end the sub stream
      * @param incompletedSegment  specifying if the incomplete segment at the end should be included.
      */
-    @Sequential
     public default StreamPlus<FuncList<DATA>> segmentBetween(Predicate<? super DATA> startCondition, Predicate<? super DATA> endCondition, IncompletedSegment incompletedSegment) {
         val includeIncompletedSegment = incompletedSegment == IncompletedSegment.included;
         return segmentBetween(startCondition, endCondition, includeIncompletedSegment);
@@ -247,54 +150,9 @@ public interface StreamPlusWithSegment<DATA> {
      * @param endCondition               the condition to end the sub stream
      * @param includeIncompletedSegment  specifying if the incomplete segment at the end should be included.
      */
-    @Sequential
     public default StreamPlus<FuncList<DATA>> segmentBetween(Predicate<? super DATA> startCondition, Predicate<? super DATA> endCondition, boolean includeIncompletedSegment) {
+        Objects.requireNonNull(startCondition);
         Objects.requireNonNull(endCondition);
-        val splitr = streamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<FuncList<DATA>>(splitr.estimateSize(), 0) {
-        
-            FuncListBuilder<DATA> eachListBuilder = null;
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super FuncList<DATA>> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance(eachValue -> {
-                        if ((eachListBuilder == null) && startCondition.test(eachValue)) {
-                            eachListBuilder = FuncList.newBuilder();
-                        }
-                        if (eachListBuilder != null) {
-                            eachListBuilder.add(eachValue);
-                        }
-                        if ((eachListBuilder != null) && endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = null;
-                        }
-                    });
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                if (includeIncompletedSegment && (eachListBuilder != null)) {
-                    val eachList = eachListBuilder.build();
-                    eachListBuilder = FuncList.newBuilder();
-                    val useThis = !eachList.isEmpty();
-                    if (useThis) {
-                        consumer.accept(eachList);
-                    }
-                    return hasThis || useThis;
-                }
-                return hasThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return SegmentSpliterators.segment(streamPlus(), startCondition, endCondition, includeIncompletedSegment);
     }
 }
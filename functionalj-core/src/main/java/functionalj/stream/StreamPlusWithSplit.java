@@ -23,20 +23,17 @@
 // ============================================================================
 package functionalj.stream;
 
-import java.util.function.Function;
 import java.util.function.Predicate;
-import functionalj.list.FuncList;
 import functionalj.map.FuncMap;
+import functionalj.tuple.Tuple;
 import functionalj.tuple.Tuple2;
+import lombok.val;
 
 public interface StreamPlusWithSplit<DATA> extends StreamPlusWithMapToTuple<DATA> {
     
     // The most important thing here is to only evaluate the value once.
     // Everything else that contradict that must give. That because we can use regular filter if evaluating once is not important.
     // == split ==
-    // TODO - Try to make it lazy
-    // It is not easy as it seems as there has to be buffer for one branch when go through with another branch.
-    // We may need a dynamic collection of all branch as we goes along.
     /**
      * Split the stream using the predicate.
      * The result is a tuple of streams where the first stream is for those element that the predicate returns true.
@@ -44,57 +41,136 @@ public interface StreamPlusWithSplit<DATA> extends StreamPlusWithMapToTuple<DATA
      * The elements in this stream is guaranteed to be in one of the result stream.
      */
     public default Tuple2<StreamPlus<DATA>, StreamPlus<DATA>> split(Predicate<DATA> predicate) {
-        Function<? super FuncList<DATA>, StreamPlus<DATA>> toStreamPlus = FuncList::streamPlus;
-        return FuncList.from(() -> streamPlus()).split(predicate).map(toStreamPlus, toStreamPlus);
+        val streams = StreamPlusHelper.split(streamPlus(), new boolean[] { true, true }, predicate);
+        return Tuple.of(streams[0], streams[1]);
     }
     
     /**
      * Split the stream using the predicate and return as part of a map.
      *
-     * The predicate will be checked one by one and when match the element will be used as part of the value with theat associated key.
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, StreamPlus<DATA>> split(KEY key1, Predicate<? super DATA> predicate, KEY key2) {
-        Function<? super FuncList<DATA>, StreamPlus<DATA>> toStreamPlus = FuncList::streamPlus;
-        return FuncList.from(() -> streamPlus()).split(key1, predicate, key2).mapValue(toStreamPlus);
+        val streams = StreamPlusHelper.split(streamPlus(), new boolean[] { key1 != null, key2 != null }, predicate);
+        return FuncMap.of(key1, streams[0], key2, streams[1]);
     }
     
     /**
      * Split the stream using the predicate and return as part of a map.
      *
-     * The predicate will be checked one by one and when match the element will be used as part of the value with theat associated key.
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, StreamPlus<DATA>> split(KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3) {
-        Function<? super FuncList<DATA>, StreamPlus<DATA>> toStreamPlus = FuncList::streamPlus;
-        return FuncList.from(() -> streamPlus()).split(key1, predicate1, key2, predicate2, key3).mapValue(toStreamPlus);
+        val streams = StreamPlusHelper.split(streamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null }, predicate1, predicate2);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2]);
     }
     
     /**
      * Split the stream using the predicate and return as part of a map.
      *
-     * The predicate will be checked one by one and when match the element will be used as part of the value with theat associated key.
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, StreamPlus<DATA>> split(KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3, Predicate<? super DATA> predicate3, KEY key4) {
-        Function<? super FuncList<DATA>, StreamPlus<DATA>> toStreamPlus = FuncList::streamPlus;
-        return FuncList.from(() -> streamPlus()).split(key1, predicate1, key2, predicate2, key3, predicate3, key4).mapValue(toStreamPlus);
+        val streams = StreamPlusHelper.split(streamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null }, predicate1, predicate2, predicate3);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3]);
     }
     
     /**
      * Split the stream using the predicate and return as part of a map.
      *
-     * The predicate will be checked one by one and when match the element will be used as part of the value with theat associated key.
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, StreamPlus<DATA>> split(KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3, Predicate<? super DATA> predicate3, KEY key4, Predicate<? super DATA> predicate4, KEY key5) {
-        Function<? super FuncList<DATA>, StreamPlus<DATA>> toStreamPlus = FuncList::streamPlus;
-        return FuncList.from(() -> streamPlus()).split(key1, predicate1, key2, predicate2, key3, predicate3, key4, predicate4, key5).mapValue(toStreamPlus);
+        val streams = StreamPlusHelper.split(streamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null }, predicate1, predicate2, predicate3, predicate4);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4]);
     }
     
     /**
      * Split the stream using the predicate and return as part of a map.
      *
-     * The predicate will be checked one by one and when match the element will be used as part of the value with theat associated key.
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, StreamPlus<DATA>> split(KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3, Predicate<? super DATA> predicate3, KEY key4, Predicate<? super DATA> predicate4, KEY key5, Predicate<? super DATA> predicate5, KEY key6) {
-        Function<? super FuncList<DATA>, StreamPlus<DATA>> toStreamPlus = FuncList::streamPlus;
-        return FuncList.from(() -> streamPlus()).split(key1, predicate1, key2, predicate2, key3, predicate3, key4, predicate4, key5, predicate5, key6).mapValue(toStreamPlus);
+        val streams = StreamPlusHelper.split(streamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, key6 != null }, predicate1, predicate2, predicate3, predicate4, predicate5);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4], key6, streams[5]);
+    }
+    
+    // == splitConcurrently ==
+    /**
+     * Split the stream using the predicate -- the result streams pull this stream as they are consumed so it is only run once
+     *   and it is not buffered as a whole.
+     * The result is a tuple of streams where the first stream is for those element that the predicate returns true.
+     *
+     * An element for the other stream waits in that stream's queue (of at most the buffer size)
+     *   so both streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default Tuple2<StreamPlus<DATA>, StreamPlus<DATA>> splitConcurrently(int bufferSize, Predicate<? super DATA> predicate) {
+        val streams = StreamPartitions.partitionConcurrently(streamPlus(), bufferSize, new boolean[] { true, true }, predicate);
+        return Tuple.of(streams[0], streams[1]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, StreamPlus<DATA>> splitConcurrently(int bufferSize, KEY key1, Predicate<? super DATA> predicate, KEY key2) {
+        val streams = StreamPartitions.partitionConcurrently(streamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null }, predicate);
+        return FuncMap.of(key1, streams[0], key2, streams[1]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, StreamPlus<DATA>> splitConcurrently(int bufferSize, KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3) {
+        val streams = StreamPartitions.partitionConcurrently(streamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null }, predicate1, predicate2);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, StreamPlus<DATA>> splitConcurrently(int bufferSize, KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3, Predicate<? super DATA> predicate3, KEY key4) {
+        val streams = StreamPartitions.partitionConcurrently(streamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null }, predicate1, predicate2, predicate3);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, StreamPlus<DATA>> splitConcurrently(int bufferSize, KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3, Predicate<? super DATA> predicate3, KEY key4, Predicate<? super DATA> predicate4, KEY key5) {
+        val streams = StreamPartitions.partitionConcurrently(streamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null }, predicate1, predicate2, predicate3, predicate4);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, StreamPlus<DATA>> splitConcurrently(int bufferSize, KEY key1, Predicate<? super DATA> predicate1, KEY key2, Predicate<? super DATA> predicate2, KEY key3, Predicate<? super DATA> predicate3, KEY key4, Predicate<? super DATA> predicate4, KEY key5, Predicate<? super DATA> predicate5, KEY key6) {
+        val streams = StreamPartitions.partitionConcurrently(streamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, key6 != null }, predicate1, predicate2, predicate3, predicate4, predicate5);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4], key6, streams[5]);
     }
 }
@@ -23,8 +23,6 @@
 // ============================================================================
 package functionalj.stream;
 
-import static functionalj.functions.ThrowFuncs.throwFrom;
-
 import java.util.Iterator;
 import java.util.function.Supplier;
 
@@ -36,8 +34,7 @@ public class SupplierBackedIterator<DATA> implements Iterator<DATA> {
      * Throw a no more element exception. This is used for generator.
      */
     public static <D> D noMoreElement() throws NoMoreResultException {
-        throwFrom(() -> new NoMoreResultException());
-        return (D) null;
+        throw NoMoreResultException.signal();
     }
     
     private final Supplier<DATA> supplier;
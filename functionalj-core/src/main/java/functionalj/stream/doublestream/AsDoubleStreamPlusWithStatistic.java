@@ -131,7 +131,8 @@ public interface AsDoubleStreamPlusWithStatistic {
      */
     public default OptionalDouble min(DoubleComparator comparator) {
         val streamPlus = doubleStreamPlus();
-        return streamPlus.sorted(comparator).findFirst();
+        // Keep the first of the equals -- as the first of the (stable) sorted values.
+        return streamPlus.reduce((a, b) -> (comparator.compareDouble(a, b) <= 0) ? a : b);
     }
     
     /**
@@ -139,7 +140,8 @@ public interface AsDoubleStreamPlusWithStatistic {
      */
     public default OptionalDouble max(DoubleComparator comparator) {
         val streamPlus = doubleStreamPlus();
-        return streamPlus.sorted(comparator.reverse()).findFirst();
+        // Keep the first of the equals -- as the first of the (stable) reverse sorted values.
+        return streamPlus.reduce((a, b) -> (comparator.compareDouble(a, b) >= 0) ? a : b);
     }
     
     /**
@@ -288,16 +290,28 @@ public interface AsDoubleStreamPlusWithStatistic {
     @Terminal
     public default Optional<DoubleDoubleTuple> minMax(DoubleDoubleToIntFunctionPrimitive comparator) {
         val streamPlus = doubleStreamPlus();
-        val minMaxRef = new double[] { Double.NaN, Double.NaN };
-        streamPlus.sorted((a, b) -> comparator.applyAsDoubleAndDouble(a, b)).forEach(each -> {
-            if (Double.isNaN(minMaxRef[0])) {
-                minMaxRef[0] = each;
+        // [0]: 1 when there is a value, [1]: the min (the first of the equals), [2]: the max (the last of the equals).
+        val minMax = streamPlus.collect(() -> new double[3], (holder, each) -> {
+            if (holder[0] == 0) {
+                holder[0] = 1;
+                holder[1] = each;
+                holder[2] = each;
+                return;
             }
-            minMaxRef[1] = each;
+            if (comparator.applyAsDoubleAndDouble(each, holder[1]) < 0)
+                holder[1] = each;
+            if (comparator.applyAsDoubleAndDouble(each, holder[2]) >= 0)
+                holder[2] = each;
+        }, (left, right) -> {
+            if (right[0] == 0)
+                return;
+            if ((left[0] == 0) || (comparator.applyAsDoubleAndDouble(right[1], left[1]) < 0))
+                left[1] = right[1];
+            if ((left[0] == 0) || (comparator.applyAsDoubleAndDouble(right[2], left[2]) >= 0))
+                left[2] = right[2];
+            left[0] = 1;
         });
-        val min = minMaxRef[0];
-        val max = minMaxRef[1];
-        return (Double.isNaN(min) || Double.isNaN(max)) ? Optional.empty() : Optional.of(DoubleDoubleTuple.of(min, max));
+        return (minMax[0] == 0) ? Optional.empty() : Optional.of(DoubleDoubleTuple.of(minMax[1], minMax[2]));
     }
     
     /**
@@ -0,0 +1,600 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.stream.doublestream;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
+
+import functionalj.function.Func4;
+import functionalj.list.doublelist.DoubleFuncList;
+import functionalj.list.doublelist.DoubleFuncListBuilder;
+import functionalj.stream.StreamPlus;
+import functionalj.stream.intstream.IntStreamPlus;
+import lombok.val;
+
+/**
+ * The spliterators of the segments ({@link DoubleStreamPlusWithSegment}) and the groups ({@link DoubleStreamPlusWithMapGroup})
+ *   that can be split for parallel streams -- see {@code functionalj.stream.SegmentSpliterators}.
+ */
+final class DoubleSegmentSpliterators {
+    
+    private DoubleSegmentSpliterators() {
+    }
+    
+    /** @return the stream of the segments of the fixed size. */
+    static StreamPlus<DoubleFuncList> segment(DoubleStreamPlus streamPlus, int count) {
+        val source      = new Source(streamPlus.doubleStream().spliterator());
+        val spliterator = new Chunks(source, count);
+        return StreamPlus.from(StreamSupport.stream(spliterator, streamPlus.isParallel()));
+    }
+    
+    /** @return the stream of the segments by the conditions -- see {@link Segments}. */
+    static StreamPlus<DoubleFuncList> segment(DoubleStreamPlus streamPlus, DoublePredicate startCondition, DoublePredicate endCondition, boolean includeIncompletedSegment) {
+        val source      = new Source(streamPlus.doubleStream().spliterator());
+        val spliterator = new Segments(source, startCondition, endCondition, includeIncompletedSegment);
+        return StreamPlus.from(StreamSupport.stream(spliterator, streamPlus.isParallel()));
+    }
+    
+    /** @return the stream of the results of the processors on the sliding groups -- see {@link Groups}. */
+    static <TARGET> StreamPlus<TARGET> mapGroup(DoubleStreamPlus streamPlus, int count, Func4<double[], Integer, Integer, Consumer<? super TARGET>, Void> processNormal, Func4<double[], Integer, Integer, Consumer<? super TARGET>, Void> processTail) {
+        val groups      = new Groups<Consumer<? super TARGET>>(new Source(streamPlus.doubleStream().spliterator()), count, processNormal, processTail);
+        val spliterator = new GroupSpliterator<TARGET>(groups);
+        return StreamPlus.from(StreamSupport.stream(spliterator, streamPlus.isParallel()));
+    }
+    
+    /** @return the int stream of the results of the processors on the sliding groups -- see {@link Groups}. */
+    static IntStreamPlus mapGroupToInt(DoubleStreamPlus streamPlus, int count, Func4<double[], Integer, Integer, IntConsumer, Void> processNormal, Func4<double[], Integer, Integer, IntConsumer, Void> processTail) {
+        val groups      = new Groups<IntConsumer>(new Source(streamPlus.doubleStream().spliterator()), count, processNormal, processTail);
+        val spliterator = new IntGroupSpliterator(groups);
+        return IntStreamPlus.from(StreamSupport.intStream(spliterator, streamPlus.isParallel()));
+    }
+    
+    /** @return the double stream of the results of the processors on the sliding groups -- see {@link Groups}. */
+    static DoubleStreamPlus mapGroupToDouble(DoubleStreamPlus streamPlus, int count, Func4<double[], Integer, Integer, DoubleConsumer, Void> processNormal, Func4<double[], Integer, Integer, DoubleConsumer, Void> processTail) {
+        val groups      = new Groups<DoubleConsumer>(new Source(streamPlus.doubleStream().spliterator()), count, processNormal, processTail);
+        val spliterator = new DoubleGroupSpliterator(groups);
+        return DoubleStreamPlus.from(StreamSupport.doubleStream(spliterator, streamPlus.isParallel()));
+    }
+    
+    /** The elements of a part: the head, then the spliterator, then the tail. */
+    static final class Source {
+        
+        private static final double[] EMPTY = new double[0];
+        private static final boolean[] NO_MARKS = new boolean[0];
+        
+        private double[]             head;
+        private int                  headIndex = 0;
+        private Spliterator.OfDouble spliterator;
+        private double[]             tail;
+        private int                  tailIndex = 0;
+        private boolean              isStarted = false;
+        
+        /** The known boundary results (from the split) of the first elements of the head and of the tail. */
+        private boolean[]            headMarks = NO_MARKS;
+        private boolean[]            tailMarks = NO_MARKS;
+        private Boolean              mark      = null;
+        
+        Source(Spliterator.OfDouble spliterator) {
+            this(EMPTY, spliterator, EMPTY);
+        }
+        
+        private Source(double[] head, Spliterator.OfDouble spliterator, double[] tail) {
+            this.head        = head;
+            this.spliterator = spliterator;
+            this.tail        = tail;
+        }
+        
+        boolean tryAdvance(DoubleConsumer action) {
+            isStarted = true;
+            return next(action);
+        }
+        
+        private boolean next(DoubleConsumer action) {
+            if (headIndex < head.length) {
+                mark = (headIndex < headMarks.length) ? headMarks[headIndex] : null;
+                action.accept(head[headIndex++]);
+                return true;
+            }
+            mark = null;
+            if (spliterator.tryAdvance(action))
+                return true;
+            if (tailIndex < tail.length) {
+                mark = (tailIndex < tailMarks.length) ? tailMarks[tailIndex] : null;
+                action.accept(tail[tailIndex++]);
+                return true;
+            }
+            return false;
+        }
+        
+        /** @return the boundary result of the element just given if it is known from the split -- otherwise null. */
+        Boolean mark() {
+            return mark;
+        }
+        
+        long estimateSize() {
+            long size = spliterator.estimateSize() + (head.length - headIndex) + (tail.length - tailIndex);
+            return (size < 0) ? Long.MAX_VALUE : size;
+        }
+        
+        /** @return the exact number of the remaining elements or -1 if unknown. */
+        long exactSize() {
+            long size = spliterator.getExactSizeIfKnown();
+            return (size < 0) ? -1 : size + (head.length - headIndex) + (tail.length - tailIndex);
+        }
+        
+        int characteristics() {
+            return spliterator.characteristics() & (Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+        
+        /**
+         * Split off the prefix part -- the head and the prefix of the spliterator.
+         * The prefix part always has at least one element.
+         * 
+         * @return the prefix part or null if this part is already started or cannot be split.
+         */
+        Source splitPrefix() {
+            if (isStarted)
+                return null;
+            val prefix = spliterator.trySplit();
+            if (prefix == null)
+                return null;
+            
+            // Take the first element to ensure that the prefix is not empty.
+            val first = new GrowOnlyDoubleArray(Arrays.copyOfRange(head, headIndex, head.length));
+            if (!prefix.tryAdvance((DoubleConsumer) first::add))
+                return null;
+            
+            val part = new Source(first.toArray(), prefix, EMPTY);
+            part.headMarks = Arrays.copyOfRange(headMarks, Math.min(headIndex, headMarks.length), headMarks.length);
+            head      = EMPTY;
+            headIndex = 0;
+            headMarks = NO_MARKS;
+            return part;
+        }
+        
+        /**
+         * Take the next elements.
+         * If there are not enough elements, the taken elements are kept as the tail so nothing is lost.
+         * 
+         * @return the next count elements or null if there are less.
+         */
+        double[] take(int count) {
+            val taken = new GrowOnlyDoubleArray();
+            while ((taken.length() < count) && next(taken::add)) {}
+            return ended(taken, taken.length() == count, false);
+        }
+        
+        /**
+         * Take the next elements up to (and including) the first one matching the boundary.
+         * If there is no such element, the taken elements are kept as the tail so nothing is lost.
+         * 
+         * @return the taken elements or null if there is no boundary.
+         */
+        double[] takeUntil(DoublePredicate boundary) {
+            val taken   = new GrowOnlyDoubleArray();
+            val isFound = new boolean[1];
+            while (!isFound[0] && next((DoubleConsumer) each -> {
+                taken.add(each);
+                isFound[0] = (mark != null) ? mark : boundary.test(each);
+            })) {}
+            return ended(taken, isFound[0], true);
+        }
+        
+        private double[] ended(GrowOnlyDoubleArray taken, boolean isFound, boolean isTested) {
+            if (isFound)
+                return taken.toArray();
+            
+            // The tested elements (if any) are known not to be the boundary.
+            tail      = taken.toArray();
+            tailIndex = 0;
+            tailMarks = isTested ? new boolean[tail.length] : NO_MARKS;
+            return null;
+        }
+        
+        /** Take back the prefix part after the split is found not possible (the rest is all in the tail). */
+        void unsplit(Source prefix) {
+            head        = prefix.head;
+            headIndex   = prefix.headIndex;
+            headMarks   = prefix.headMarks;
+            spliterator = prefix.spliterator;
+        }
+        
+        void setHead(double[] head) {
+            setHead(head, NO_MARKS);
+        }
+        
+        void setHead(double[] head, boolean[] marks) {
+            this.head      = head;
+            this.headIndex = 0;
+            this.headMarks = marks;
+        }
+        
+        void setTail(double[] tail) {
+            setTail(tail, NO_MARKS);
+        }
+        
+        void setTail(double[] tail, boolean[] marks) {
+            this.tail      = tail;
+            this.tailIndex = 0;
+            this.tailMarks = marks;
+        }
+    }
+    
+    //== Segments ==
+    
+    /** The segments of the fixed size -- split at multiples of the size when the size of the elements is known. */
+    static final class Chunks extends Spliterators.AbstractSpliterator<DoubleFuncList> {
+        
+        private final Source source;
+        private final int    count;
+        
+        Chunks(Source source, int count) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.source = source;
+            this.count  = count;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super DoubleFuncList> consumer) {
+            val builder = DoubleFuncList.newBuilder();
+            int i = 0;
+            while ((i < count) && source.tryAdvance((DoubleConsumer) builder::add)) {
+                i++;
+            }
+            if (i == 0)
+                return false;
+            
+            consumer.accept(builder.build());
+            return true;
+        }
+        
+        @Override
+        public Spliterator<DoubleFuncList> trySplit() {
+            // Without the exact sizes, the split point cannot be moved to a multiple of the count.
+            if ((source.characteristics() & Spliterator.SUBSIZED) == 0)
+                return super.trySplit();
+            
+            val prefix = source.splitPrefix();
+            if (prefix == null)
+                return null;
+            
+            int remainder = (int) (prefix.exactSize() % count);
+            val lookahead = source.take((remainder == 0) ? 0 : count - remainder);
+            if (lookahead == null) {
+                source.unsplit(prefix);
+                return null;
+            }
+            prefix.setTail(lookahead);
+            return new Chunks(prefix, count);
+        }
+        
+        @Override
+        public long estimateSize() {
+            long size = source.estimateSize();
+            return (size == Long.MAX_VALUE) ? size : (size + count - 1) / count;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | source.characteristics();
+        }
+    }
+    
+    /** The segments by the conditions -- see {@code functionalj.stream.SegmentSpliterators.Segments}. */
+    static final class Segments extends Spliterators.AbstractSpliterator<DoubleFuncList> {
+        
+        private final Source          source;
+        private final DoublePredicate startCondition;
+        private final DoublePredicate endCondition;
+        private final boolean         includeIncompletedSegment;
+        
+        private DoubleFuncListBuilder builder = null;
+        private DoubleFuncList        segment = null;
+        
+        Segments(Source source, DoublePredicate startCondition, DoublePredicate endCondition, boolean includeIncompletedSegment) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.source                    = source;
+            this.startCondition            = startCondition;
+            this.endCondition              = endCondition;
+            this.includeIncompletedSegment = includeIncompletedSegment;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super DoubleFuncList> consumer) {
+            while ((segment == null) && source.tryAdvance((DoubleConsumer) this::accept)) {}
+            if (segment == null) {
+                // The end of the elements.
+                val isIncluded = (endCondition == null) || (startCondition == null) || includeIncompletedSegment;
+                if ((builder == null) || !isIncluded)
+                    return false;
+                
+                segment = builder.build();
+                builder = null;
+                if (segment.isEmpty()) {
+                    segment = null;
+                    return false;
+                }
+            }
+            val each = segment;
+            segment = null;
+            consumer.accept(each);
+            return true;
+        }
+        
+        private void accept(double each) {
+            // The boundary result of the element may be known already from the split.
+            val known = source.mark();
+            if (endCondition == null) {
+                val isStart = (known != null) ? known : startCondition.test(each);
+                if (isStart && (builder != null)) {
+                    segment = builder.build();
+                    builder = null;
+                }
+                addToBuilder(each);
+                return;
+            }
+            
+            if ((startCondition == null) || (builder != null) || startCondition.test(each)) {
+                addToBuilder(each);
+            }
+            if ((builder != null) && ((known != null) ? known : endCondition.test(each))) {
+                segment = builder.build();
+                builder = null;
+            }
+        }
+        
+        private void addToBuilder(double each) {
+            if (builder == null) {
+                builder = DoubleFuncList.newBuilder();
+            }
+            builder.add(each);
+        }
+        
+        @Override
+        public Spliterator<DoubleFuncList> trySplit() {
+            val prefix = source.splitPrefix();
+            if (prefix == null)
+                return null;
+            
+            val isByStart = (endCondition == null);
+            val lookahead = source.takeUntil(isByStart ? startCondition : endCondition);
+            if (lookahead == null) {
+                source.unsplit(prefix);
+                return null;
+            }
+            if (isByStart) {
+                // The starting element stays with this part.
+                val last = lookahead.length - 1;
+                prefix.setTail(Arrays.copyOf(lookahead, last), new boolean[last]);
+                source.setHead(new double[] { lookahead[last] }, new boolean[] { true });
+            } else {
+                val marks = new boolean[lookahead.length];
+                marks[marks.length - 1] = true;
+                prefix.setTail(lookahead, marks);
+            }
+            return new Segments(prefix, startCondition, endCondition, includeIncompletedSegment);
+        }
+        
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED;
+        }
+    }
+    
+    //== Groups ==
+    
+    /**
+     * The sliding groups of the elements -- each group is passed to the processor with the buffer and its position.
+     * When splitting, the first count-1 elements of the rest is the tail of the prefix part and the head of this part.
+     * 
+     * @param <CONSUMER>  the type of the consumer of the result.
+     */
+    static final class Groups<CONSUMER> {
+        
+        private final Source source;
+        private final int    count;
+        private final Func4<double[], Integer, Integer, CONSUMER, Void> processNormal;
+        private final Func4<double[], Integer, Integer, CONSUMER, Void> processTail;
+        
+        private double[] array;
+        private int      start = 0;
+        private int      end   = 0;
+        private boolean  used  = false;
+        private boolean  done  = false;
+        private boolean  mayHaveTail;
+        
+        Groups(Source source, int count, Func4<double[], Integer, Integer, CONSUMER, Void> processNormal, Func4<double[], Integer, Integer, CONSUMER, Void> processTail) {
+            this(source, count, processNormal, processTail, processTail != null);
+        }
+        
+        private Groups(Source source, int count, Func4<double[], Integer, Integer, CONSUMER, Void> processNormal, Func4<double[], Integer, Integer, CONSUMER, Void> processTail, boolean mayHaveTail) {
+            this.source        = source;
+            this.count         = count;
+            this.processNormal = processNormal;
+            this.processTail   = processTail;
+            this.mayHaveTail   = mayHaveTail;
+            this.array         = new double[count * 10];
+        }
+        
+        boolean tryAdvance(CONSUMER consumer) {
+            if (done)
+                return false;
+            
+            DoubleConsumer action = elem -> {
+                array[end] = elem;
+                end++;
+                int length = end - start;
+                if (length >= count) {
+                    processNormal.apply(array, start, end, consumer);
+                    used = true;
+                    start++;
+                }
+                if (end >= array.length) {
+                    System.arraycopy(array, start, array, 0, length - 1);
+                    start = 0;
+                    end = length - 1;
+                }
+            };
+            boolean hasNext = source.tryAdvance(action);
+            if (!hasNext) {
+                done = true;
+                if (!used && mayHaveTail) {
+                    processTail.apply(array, start, end, consumer);
+                }
+            }
+            return hasNext;
+        }
+        
+        Groups<CONSUMER> trySplit() {
+            val prefix = source.splitPrefix();
+            if (prefix == null)
+                return null;
+            
+            val lookahead = source.take(count - 1);
+            if (lookahead == null) {
+                source.unsplit(prefix);
+                return null;
+            }
+            // Both parts now have at least count elements so there is no tail group.
+            prefix.setTail(lookahead);
+            source.setHead(lookahead);
+            mayHaveTail = false;
+            return new Groups<CONSUMER>(prefix, count, processNormal, processTail, false);
+        }
+        
+        long estimateSize() {
+            long size = source.estimateSize();
+            if (done || (size == Long.MAX_VALUE))
+                return done ? 0 : size;
+            
+            long total = size + (end - start);
+            return (total >= count) ? total - count + 1 : ((!used && mayHaveTail) ? 1 : 0);
+        }
+        
+        int characteristics() {
+            return Spliterator.ORDERED | source.characteristics();
+        }
+    }
+    
+    static final class GroupSpliterator<TARGET> implements Spliterator<TARGET> {
+        
+        private final Groups<Consumer<? super TARGET>> groups;
+        
+        GroupSpliterator(Groups<Consumer<? super TARGET>> groups) {
+            this.groups = groups;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super TARGET> consumer) {
+            return groups.tryAdvance(consumer);
+        }
+        
+        @Override
+        public Spliterator<TARGET> trySplit() {
+            val prefix = groups.trySplit();
+            return (prefix == null) ? null : new GroupSpliterator<TARGET>(prefix);
+        }
+        
+        @Override
+        public long estimateSize() {
+            return groups.estimateSize();
+        }
+        
+        @Override
+        public int characteristics() {
+            return groups.characteristics();
+        }
+    }
+    
+    static final class IntGroupSpliterator implements Spliterator.OfInt {
+        
+        private final Groups<IntConsumer> groups;
+        
+        IntGroupSpliterator(Groups<IntConsumer> groups) {
+            this.groups = groups;
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer consumer) {
+            return groups.tryAdvance(consumer);
+        }
+        
+        @Override
+        public Spliterator.OfInt trySplit() {
+            val prefix = groups.trySplit();
+            return (prefix == null) ? null : new IntGroupSpliterator(prefix);
+        }
+        
+        @Override
+        public long estimateSize() {
+            return groups.estimateSize();
+        }
+        
+        @Override
+        public int characteristics() {
+            return groups.characteristics();
+        }
+    }
+    
+    static final class DoubleGroupSpliterator implements Spliterator.OfDouble {
+        
+        private final Groups<DoubleConsumer> groups;
+        
+        DoubleGroupSpliterator(Groups<DoubleConsumer> groups) {
+            this.groups = groups;
+        }
+        
+        @Override
+        public boolean tryAdvance(DoubleConsumer consumer) {
+            return groups.tryAdvance(consumer);
+        }
+        
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            val prefix = groups.trySplit();
+            return (prefix == null) ? null : new DoubleGroupSpliterator(prefix);
+        }
+        
+        @Override
+        public long estimateSize() {
+            return groups.estimateSize();
+        }
+        
+        @Override
+        public int characteristics() {
+            return groups.characteristics();
+        }
+    }
+}
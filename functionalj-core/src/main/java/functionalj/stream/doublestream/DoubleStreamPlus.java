@@ -663,7 +663,16 @@ public interface DoubleStreamPlus extends DoubleStream, AsDoubleStreamPlus, Doub
     
     @Eager
     public default DoubleStreamPlus sorted(DoubleComparator comparator) {
-        return DoubleStreamPlus.from(doubleStream().boxed().sorted((a, b) -> comparator.compare(a, b)).mapToDouble(d -> d));
+        val stream = doubleStream();
+        // Sort only when the stream is used -- as the other intermediate operations.
+        Supplier<Spliterator.OfDouble> sortedSpliterator = () -> {
+            val values = stream.toArray();
+            DoubleStreamPlusHelper.sort(values, comparator);
+            return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        };
+        val characteristics = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE;
+        val sortedStream    = StreamSupport.doubleStream(sortedSpliterator, characteristics, stream.isParallel());
+        return DoubleStreamPlus.from(sortedStream.onClose(stream::close));
     }
     
     // -- Terminate --
@@ -29,9 +29,11 @@ import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 import java.util.function.Consumer;
 import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
 import java.util.stream.DoubleStream;
 import java.util.stream.StreamSupport;
+import functionalj.function.DoubleComparator;
 import functionalj.function.DoubleDoubleFunction;
 import functionalj.function.DoubleObjBiFunction;
 import functionalj.function.Func1;
@@ -506,4 +508,77 @@ public class DoubleStreamPlusHelper {
         });
         return targetStream;
     }
+    
+    // -- Sort --
+    
+    private static final int SORT_RUN = 32;
+    
+    /**
+     * Sort the values in place using the comparator -- without boxing them.
+     * Like the sort of the boxed values, the sort is stable: insertion-sorted runs are merged bottom-up.
+     */
+    static void sort(double[] values, DoubleComparator comparator) {
+        int length = values.length;
+        for (int start = 0; start < length; start += SORT_RUN) {
+            insertionSort(values, start, Math.min(start + SORT_RUN, length), comparator);
+        }
+        double[] source = values;
+        double[] target = (length > SORT_RUN) ? new double[length] : null;
+        int width = SORT_RUN;
+        while (width < length) {
+            for (int low = 0; low < length; ) {
+                int middle = (width >= length - low)    ? length : low + width;
+                int high   = (width >= length - middle) ? length : middle + width;
+                merge(source, target, low, middle, high, comparator);
+                low = high;
+            }
+            double[] swap = source;
+            source = target;
+            target = swap;
+            width  = (width >= length - width) ? length : (width << 1);
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, length);
+        }
+    }
+    
+    private static void insertionSort(double[] values, int low, int high, DoubleComparator comparator) {
+        for (int i = low + 1; i < high; i++) {
+            double value = values[i];
+            int j = i - 1;
+            while ((j >= low) && (comparator.compareDouble(values[j], value) > 0)) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+    
+    private static void merge(double[] source, double[] target, int low, int middle, int high, DoubleComparator comparator) {
+        if ((middle >= high) || (comparator.compareDouble(source[middle - 1], source[middle]) <= 0)) {
+            // Already in order.
+            System.arraycopy(source, low, target, low, high - low);
+            return;
+        }
+        int left  = low;
+        int right = middle;
+        for (int i = low; i < high; i++) {
+            if ((right >= high) || ((left < middle) && (comparator.compareDouble(source[left], source[right]) <= 0))) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+    
+    /** @return the streams of the partitions -- see {@link DoubleStreamPartitions}. */
+    static DoubleStreamPlus[] split(AsDoubleStreamPlus asStreamPlus, boolean[] isKept, DoublePredicate ... predicates) {
+        Function<DoubleStream, double[][]> partition = stream -> DoubleStreamPartitions.partition(stream.spliterator(), isKept, predicates);
+        val arrays  = terminate(asStreamPlus, partition);
+        val streams = new DoubleStreamPlus[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            streams[i] = ArrayBackedDoubleStreamPlus.from(arrays[i]);
+        }
+        return streams;
+    }
 }
@@ -241,7 +241,7 @@ public interface DoubleStreamPlusWithCombine {
                 if (hasNextB) {
                     return nextB;
                 }
-                throw new NoMoreResultException();
+                throw NoMoreResultException.signal();
             }
         };
         val iterable = new DoubleIterable() {
@@ -23,146 +23,17 @@
 // ============================================================================
 package functionalj.stream.doublestream;
 
-import java.util.Spliterators;
-import java.util.function.Consumer;
 import java.util.function.DoubleBinaryOperator;
-import java.util.function.DoubleConsumer;
-import java.util.function.IntConsumer;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
-import java.util.stream.StreamSupport;
 import functionalj.function.DoubleDoubleFunction;
 import functionalj.function.DoubleDoubleToIntFunctionPrimitive;
 import functionalj.function.Func1;
-import functionalj.function.Func4;
 import functionalj.stream.StreamPlus;
 import functionalj.stream.intstream.IntStreamPlus;
 import functionalj.tuple.DoubleDoubleTuple;
 import lombok.val;
 
-class DoubleStreamPlusWithMapGroupHelper {
-    
-    static <TARGET> StreamPlus<TARGET> mapGroup(DoubleStreamPlus streamPlus, int count, Func4<double[], Integer, Integer, Consumer<? super TARGET>, Void> processNormal, Func4<double[], Integer, Integer, Consumer<? super TARGET>, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractSpliterator<TARGET>(splitr.estimateSize(), 0) {
-        
-            double[] array = new double[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super TARGET> consumer) {
-                DoubleConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, false));
-    }
-    
-    static <TARGET> IntStreamPlus mapGroupToInt(DoubleStreamPlus streamPlus, int count, Func4<double[], Integer, Integer, IntConsumer, Void> processNormal, Func4<double[], Integer, Integer, IntConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractIntSpliterator(splitr.estimateSize(), 0) {
-        
-            double[] array = new double[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(IntConsumer consumer) {
-                DoubleConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return IntStreamPlus.from(StreamSupport.intStream(spliterator, false));
-    }
-    
-    static <DATA, TARGET> DoubleStreamPlus mapGroupToDouble(DoubleStreamPlus streamPlus, int count, Func4<double[], Integer, Integer, DoubleConsumer, Void> processNormal, Func4<double[], Integer, Integer, DoubleConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractDoubleSpliterator(splitr.estimateSize(), 0) {
-        
-            double[] array = new double[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(DoubleConsumer consumer) {
-                DoubleConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (hasNext && !used) {
-                    hasNext = splitr.tryAdvance(action);
-                }
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return DoubleStreamPlus.from(StreamSupport.doubleStream(spliterator, false));
-    }
-}
-
 public interface DoubleStreamPlusWithMapGroup {
     
     public DoubleStreamPlus doubleStreamPlus();
@@ -171,7 +42,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapTwo(DoubleBinaryOperator combinator) {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroupToDouble(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroupToDouble(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsDouble(prev, curr);
@@ -184,7 +55,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapGroup(int count, ToDoubleFunction<DoubleStreamPlus> combinator) {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroupToDouble(doubleStreamPlus(), count, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroupToDouble(doubleStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedDoubleIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedDoubleStreamPlus(iterator);
             val value = combinator.applyAsDouble(streamPlus);
@@ -204,7 +75,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * @return  the stream of  each previous value and each current value.
      */
     public default StreamPlus<DoubleDoubleTuple> mapTwoToObj() {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroup(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroup(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             consumer.accept(DoubleDoubleTuple.of(prev, curr));
@@ -216,7 +87,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default <TARGET> StreamPlus<TARGET> mapGroupToObj(DoubleDoubleFunction<TARGET> combinator) {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroup(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroup(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.apply(prev, curr);
@@ -229,7 +100,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * @return  the stream of  each previous value and each current value.
      */
     public default StreamPlus<DoubleStreamPlus> mapGroupToObj(int count) {
-        return DoubleStreamPlusWithMapGroupHelper.<DoubleStreamPlus>mapGroup(doubleStreamPlus(), count, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.<DoubleStreamPlus>mapGroup(doubleStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedDoubleIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedDoubleStreamPlus(iterator);
             consumer.accept(streamPlus);
@@ -254,7 +125,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapTwoToInt(DoubleDoubleToIntFunctionPrimitive combinator) {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroupToInt(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroupToInt(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsDoubleAndDouble(prev, curr);
@@ -267,7 +138,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapGroupToInt(int count, ToIntFunction<DoubleStreamPlus> combinator) {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroupToInt(doubleStreamPlus(), count, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroupToInt(doubleStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedDoubleIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedDoubleStreamPlus(iterator);
             val value = combinator.applyAsInt(streamPlus);
@@ -287,7 +158,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapTwoToDouble(DoubleBinaryOperator combinator) {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroupToDouble(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroupToDouble(doubleStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsDouble(prev, curr);
@@ -300,7 +171,7 @@ public interface DoubleStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapGroupToDouble(int count, ToDoubleFunction<DoubleStreamPlus> combinator) {
-        return DoubleStreamPlusWithMapGroupHelper.mapGroupToDouble(doubleStreamPlus(), count, (array, start, end, consumer) -> {
+        return DoubleSegmentSpliterators.mapGroupToDouble(doubleStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedDoubleIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedDoubleStreamPlus(iterator);
             val value = combinator.applyAsDouble(streamPlus);
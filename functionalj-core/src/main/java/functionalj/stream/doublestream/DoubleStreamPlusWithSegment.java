@@ -31,7 +31,6 @@ import java.util.function.DoublePredicate;
 import java.util.function.DoubleToIntFunction;
 import java.util.stream.StreamSupport;
 import functionalj.list.doublelist.DoubleFuncList;
-import functionalj.list.doublelist.DoubleFuncListBuilder;
 import functionalj.stream.IncompletedSegment;
 import functionalj.stream.StreamPlus;
 import functionalj.stream.markers.Sequential;
@@ -44,8 +43,9 @@ public interface DoubleStreamPlusWithSegment extends AsDoubleStreamPlus {
     /**
      * Segment the stream into sub stream with the fix length of count.
      * The last portion may be shorter.
+     * 
+     * A parallel stream of the known size is split at multiples of the count.
      */
-    @Sequential
     public default StreamPlus<DoubleFuncList> segment(int count) {
         if (count <= 0) {
             return StreamPlus.empty();
@@ -53,27 +53,7 @@ public interface DoubleStreamPlusWithSegment extends AsDoubleStreamPlus {
         if (count <= 1) {
             return doubleStreamPlus().mapToObj(each -> DoubleFuncList.of(each));
         }
-        val splitr = doubleStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<DoubleFuncList>(splitr.estimateSize(), 0) {
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super DoubleFuncList> consumer) {
-                val eachListBuilder = DoubleFuncList.newBuilder();
-                boolean hasThis;
-                int i = count;
-                do {
-                    hasThis = splitr.tryAdvance((DoubleConsumer) eachListBuilder::add);
-                } while (hasThis && (--i > 0));
-                val eachList = eachListBuilder.build();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return DoubleSegmentSpliterators.segment(doubleStreamPlus(), count);
     }
     
     /**
@@ -122,90 +102,15 @@ public interface DoubleStreamPlusWithSegment extends AsDoubleStreamPlus {
      */
     public default StreamPlus<DoubleFuncList> segmentWhen(DoublePredicate startCondition) {
         Objects.requireNonNull(startCondition);
-        val splitr = doubleStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<DoubleFuncList>(splitr.estimateSize(), 0) {
-        
-            DoubleFuncListBuilder eachListBuilder = DoubleFuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super DoubleFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((DoubleConsumer) (eachValue -> {
-                        if (startCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            eachListBuilder = DoubleFuncList.newBuilder();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                        }
-                        eachListBuilder.add(eachValue);
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = DoubleFuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return DoubleSegmentSpliterators.segment(doubleStreamPlus(), startCondition, null, true);
     }
     
     /**
      * Segment the stream into sub stream starting the element after the precondition is true.
      */
-    @Sequential
     public default StreamPlus<DoubleFuncList> segmentAfter(DoublePredicate endCondition) {
         Objects.requireNonNull(endCondition);
-        val splitr = doubleStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<DoubleFuncList>(splitr.estimateSize(), 0) {
-        
-            DoubleFuncListBuilder eachListBuilder = DoubleFuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super DoubleFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((DoubleConsumer) (eachValue -> {
-                        eachListBuilder.add(eachValue);
-                        if (endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = DoubleFuncList.newBuilder();
-                        }
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = DoubleFuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return DoubleSegmentSpliterators.segment(doubleStreamPlus(), null, endCondition, true);
     }
     
     /**
@@ -250,52 +155,8 @@ public interface DoubleStreamPlusWithSegment extends AsDoubleStreamPlus {
      * @param includeIncompletedSegment  specifying if the incomplete segment at the end should be included.
      */
     public default StreamPlus<DoubleFuncList> segmentBetween(DoublePredicate startCondition, DoublePredicate endCondition, boolean includeIncompletedSegment) {
+        Objects.requireNonNull(startCondition);
         Objects.requireNonNull(endCondition);
-        val splitr = doubleStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<DoubleFuncList>(splitr.estimateSize(), 0) {
-        
-            DoubleFuncListBuilder eachListBuilder = null;
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super DoubleFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((DoubleConsumer) (eachValue -> {
-                        if ((eachListBuilder == null) && startCondition.test(eachValue)) {
-                            eachListBuilder = DoubleFuncList.newBuilder();
-                        }
-                        if (eachListBuilder != null) {
-                            eachListBuilder.add(eachValue);
-                        }
-                        if ((eachListBuilder != null) && endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = null;
-                        }
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                if (includeIncompletedSegment && (eachListBuilder != null)) {
-                    val eachList = eachListBuilder.build();
-                    eachListBuilder = DoubleFuncList.newBuilder();
-                    val useThis = !eachList.isEmpty();
-                    if (useThis) {
-                        consumer.accept(eachList);
-                    }
-                    return hasThis || useThis;
-                }
-                return hasThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return DoubleSegmentSpliterators.segment(doubleStreamPlus(), startCondition, endCondition, includeIncompletedSegment);
     }
 }
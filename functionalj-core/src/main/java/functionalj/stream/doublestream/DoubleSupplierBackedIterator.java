@@ -23,8 +23,6 @@
 // ============================================================================
 package functionalj.stream.doublestream;
 
-import static functionalj.functions.ThrowFuncs.throwFrom;
-
 import java.util.function.DoubleSupplier;
 
 import functionalj.result.NoMoreResultException;
@@ -35,8 +33,7 @@ public class DoubleSupplierBackedIterator implements DoubleIteratorPlus {
      * Throw a no more element exception. This is used for generator.
      */
     public static <D> D noMoreElement() throws NoMoreResultException {
-    	throwFrom(() -> new NoMoreResultException());
-        return (D) null;
+        throw NoMoreResultException.signal();
     }
     
     private final DoubleSupplier supplier;
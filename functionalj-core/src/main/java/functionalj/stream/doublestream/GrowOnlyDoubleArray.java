@@ -23,56 +23,80 @@
 // ============================================================================
 package functionalj.stream.doublestream;
 
+import java.util.Arrays;
 import java.util.OptionalDouble;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.StreamSupport;
 import functionalj.list.doublelist.DoubleFuncList;
 import functionalj.list.doublelist.ImmutableDoubleFuncList;
-import functionalj.stream.StreamPlus;
+import lombok.val;
 
+/**
+ * A double array that can only grow -- the elements are kept in the chunks that double in size as the array grows
+ *   so adding never copies the elements already added.
+ * 
+ * The first chunk can be an existing array (see {@link #wrap(double[])}) and, as long as the elements fit in it,
+ *   the streams of this array are just the streams of that array.
+ * The added elements are never changed so the streams are IMMUTABLE, SIZED and split evenly for parallel processing.
+ */
 // TODO - This is NOT thread safe (not even try to be).
 public final class GrowOnlyDoubleArray {
     
-    private static int ARRAY_COUNT = 8;
+    private static final int FIRST_CHUNK_LENGTH = 16;
     
-    private static int ARRAY_LENGTH = 100;
+    private static final int MAX_CHUNK_LENGTH = Integer.MAX_VALUE - 8;
     
-    private double[][] arrays;
+    private static final double[] EMPTY_ARRAY = new double[0];
+    
+    /**
+     * Create an array that uses the given array as its first chunk -- without copying.
+     * The given array must not be changed afterward.
+     * 
+     * @param values  the values.
+     * @return        the array.
+     */
+    public static GrowOnlyDoubleArray wrap(double[] values) {
+        val array = new GrowOnlyDoubleArray();
+        array.useAsFirstChunk(values);
+        return array;
+    }
+    
+    // Chunk 0 has the length of 'firstLength' and each chunk after has the length of all the chunks before it.
+    private int firstLength = FIRST_CHUNK_LENGTH;
+    
+    // The shift for 'firstLength' when it is a power of two (always, unless a wrapped array is not) or -1 to divide.
+    private int firstShift = shiftOf(FIRST_CHUNK_LENGTH);
+    
+    private double[][] chunks = new double[8][];
+    
+    private int chunkCount = 0;
     
     private int length = 0;
     
     public GrowOnlyDoubleArray() {
-        arrays = new double[ARRAY_COUNT][];
     }
     
     public GrowOnlyDoubleArray(double... values) {
-        int actualCount = (int) Math.ceil(1.0 * values.length / ARRAY_LENGTH);
-        int arrayCount = Math.max(actualCount, ARRAY_COUNT);
-        arrays = new double[arrayCount][];
-        length = values.length;
-        int offset = 0;
-        for (int i = 0; i < actualCount; i++) {
-            arrays[i] = new double[ARRAY_LENGTH];
-            int eachLength = Math.min(ARRAY_LENGTH, length - offset);
-            System.arraycopy(values, offset, arrays[i], 0, eachLength);
-            offset = offset + ARRAY_LENGTH;
-        }
+        useAsFirstChunk(values.clone());
     }
     
     public void add(double i) {
-        int next = length;
-        int aIndex = next / ARRAY_LENGTH;
-        int residue = next % ARRAY_LENGTH;
-        if (aIndex >= arrays.length) {
-            double[][] newArrays = new double[arrays.length + ARRAY_COUNT][];
-            System.arraycopy(arrays, 0, newArrays, 0, arrays.length);
-            arrays = newArrays;
-        }
-        if (arrays[aIndex] == null) {
-            arrays[aIndex] = new double[ARRAY_LENGTH];
+        int chunkIndex = chunkIndexOf(length);
+        if (chunkIndex == chunkCount) {
+            newChunk();
         }
-        arrays[aIndex][residue] = i;
+        chunks[chunkIndex][length - chunkStartOf(chunkIndex)] = i;
         length++;
     }
     
+    public void addAll(GrowOnlyDoubleArray array) {
+        int count = array.length;
+        for (int i = 0; i < count; i++) {
+            add(array.get(i));
+        }
+    }
+    
     public int length() {
         return length;
     }
@@ -82,12 +106,36 @@ public final class GrowOnlyDoubleArray {
     }
     
     public DoubleStreamPlus stream() {
-        int aCount = length / ARRAY_LENGTH;
-        int residue = length % ARRAY_LENGTH;
-        DoubleStreamPlus head = StreamPlus.of(arrays).limit(aCount).flatMapToDouble(a -> DoubleStreamPlus.of(a));
-        DoubleStreamPlus tail = ((aCount >= arrays.length) || (arrays[aCount] == null)) ? DoubleStreamPlus.empty() : DoubleStreamPlus.of(arrays[aCount]).limit(residue);
-        DoubleStreamPlus total = head.appendWith(tail);
-        return total;
+        return stream(0, length);
+    }
+    
+    /**
+     * Returns the stream of the elements from the fromIndex (inclusive) to the toIndex (exclusive).
+     * 
+     * @param fromIndex  the index of the first element.
+     * @param toIndex    the index after the last element.
+     * @return           the stream.
+     */
+    public DoubleStreamPlus stream(int fromIndex, int toIndex) {
+        return DoubleStreamPlus.from(StreamSupport.doubleStream(spliterator(fromIndex, toIndex), false));
+    }
+    
+    /**
+     * Returns the spliterator of the elements from the fromIndex (inclusive) to the toIndex (exclusive).
+     * 
+     * @param fromIndex  the index of the first element.
+     * @param toIndex    the index after the last element.
+     * @return           the spliterator.
+     */
+    public Spliterator.OfDouble spliterator(int fromIndex, int toIndex) {
+        if ((fromIndex < 0) || (toIndex > length) || (fromIndex > toIndex))
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Length: " + length);
+        
+        if (toIndex <= firstLength) {
+            val first = (chunkCount == 0) ? EMPTY_ARRAY : chunks[0];
+            return Arrays.spliterator(first, fromIndex, toIndex);
+        }
+        return new ChunkSpliterator(chunks, firstLength, firstShift, fromIndex, toIndex);
     }
     
     public DoubleFuncList toFuncList() {
@@ -95,23 +143,29 @@ public final class GrowOnlyDoubleArray {
     }
     
     public double[] toArray() {
-        return stream().toArray();
+        val array = new double[length];
+        int offset = 0;
+        for (int c = 0; offset < length; c++) {
+            int count = Math.min(chunks[c].length, length - offset);
+            System.arraycopy(chunks[c], 0, array, offset, count);
+            offset += count;
+        }
+        return array;
     }
     
     public double get(int i) {
         if (i < 0 || i >= length)
             throw new ArrayIndexOutOfBoundsException(i);
-        int aIndex = i / ARRAY_LENGTH;
-        int residue = i % ARRAY_LENGTH;
-        return arrays[aIndex][residue];
+        if (i < firstLength)
+            return chunks[0][i];
+        int chunkIndex = chunkIndexOf(i);
+        return chunks[chunkIndex][i - chunkStartOf(chunkIndex)];
     }
     
     public OptionalDouble at(int i) {
         if (i < 0 || i >= length)
             return OptionalDouble.empty();
-        int aIndex = i / ARRAY_LENGTH;
-        int residue = i % ARRAY_LENGTH;
-        return OptionalDouble.of(arrays[aIndex][residue]);
+        return OptionalDouble.of(get(i));
     }
     
     public String toString() {
@@ -126,4 +180,119 @@ public final class GrowOnlyDoubleArray {
         int score = (int) stream().zipWith(array.stream(), (a, b) -> a == b ? 1 : 0).acceptUntil(i -> i == 0).sum();
         return score == length;
     }
+    
+    private void useAsFirstChunk(double[] values) {
+        if (values.length == 0)
+            return;
+        
+        firstLength = values.length;
+        firstShift  = shiftOf(values.length);
+        chunks[0]   = values;
+        chunkCount  = 1;
+        length      = values.length;
+    }
+    
+    private void newChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        long chunkLength = (chunkCount == 0) ? firstLength : ((long) firstLength << (chunkCount - 1));
+        chunks[chunkCount] = new double[(int) Math.min(chunkLength, MAX_CHUNK_LENGTH)];
+        chunkCount++;
+    }
+    
+    private int chunkIndexOf(int index) {
+        return chunkIndexOf(firstLength, firstShift, index);
+    }
+    
+    private int chunkStartOf(int chunkIndex) {
+        return chunkStartOf(firstLength, chunkIndex);
+    }
+    
+    static int chunkIndexOf(int firstLength, int firstShift, int index) {
+        if (index < firstLength)
+            return 0;
+        int quotient = (firstShift >= 0) ? (index >>> firstShift) : (index / firstLength);
+        return 32 - Integer.numberOfLeadingZeros(quotient);
+    }
+    
+    static int chunkStartOf(int firstLength, int chunkIndex) {
+        return (chunkIndex == 0) ? 0 : (firstLength << (chunkIndex - 1));
+    }
+    
+    static int shiftOf(int length) {
+        return (Integer.bitCount(length) == 1) ? Integer.numberOfTrailingZeros(length) : -1;
+    }
+    
+    /** The spliterator that walks the chunks directly and splits at the middle of its range. */
+    private static final class ChunkSpliterator implements Spliterator.OfDouble {
+        
+        private final double[][] chunks;
+        
+        private final int firstLength;
+        
+        private final int firstShift;
+        
+        private final int toIndex;
+        
+        private int index;
+        
+        ChunkSpliterator(double[][] chunks, int firstLength, int firstShift, int fromIndex, int toIndex) {
+            this.chunks      = chunks;
+            this.firstLength = firstLength;
+            this.firstShift  = firstShift;
+            this.index       = fromIndex;
+            this.toIndex     = toIndex;
+        }
+        
+        @Override
+        public OfDouble trySplit() {
+            int fromIndex = index;
+            int midIndex  = (fromIndex + toIndex) >>> 1;
+            if (midIndex <= fromIndex)
+                return null;
+            
+            index = midIndex;
+            if (midIndex <= firstLength)
+                return Arrays.spliterator(chunks[0], fromIndex, midIndex);
+            return new ChunkSpliterator(chunks, firstLength, firstShift, fromIndex, midIndex);
+        }
+        
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index >= toIndex)
+                return false;
+            
+            int chunkIndex = chunkIndexOf(firstLength, firstShift, index);
+            action.accept(chunks[chunkIndex][index - chunkStartOf(firstLength, chunkIndex)]);
+            index++;
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            int i = index;
+            index = toIndex;
+            while (i < toIndex) {
+                int chunkIndex = chunkIndexOf(firstLength, firstShift, i);
+                int chunkStart = chunkStartOf(firstLength, chunkIndex);
+                val chunk      = chunks[chunkIndex];
+                int end        = (int) Math.min(toIndex - (long) chunkStart, chunk.length);
+                for (int c = i - chunkStart; c < end; c++) {
+                    action.accept(chunk[c]);
+                }
+                i = chunkStart + end;
+            }
+        }
+        
+        @Override
+        public long estimateSize() {
+            return toIndex - index;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+    }
 }
@@ -182,7 +182,8 @@ public interface AsIntStreamPlusWithStatistic {
      */
     public default OptionalInt min(IntComparator comparator) {
         val streamPlus = intStreamPlus();
-        return streamPlus.sorted(comparator).findFirst();
+        // Keep the first of the equals -- as the first of the (stable) sorted values.
+        return streamPlus.reduce((a, b) -> (comparator.compareInt(a, b) <= 0) ? a : b);
     }
     
     /**
@@ -190,7 +191,8 @@ public interface AsIntStreamPlusWithStatistic {
      */
     public default OptionalInt max(IntComparator comparator) {
         val streamPlus = intStreamPlus();
-        return streamPlus.sorted(comparator.reverse()).findFirst();
+        // Keep the first of the equals -- as the first of the (stable) reverse sorted values.
+        return streamPlus.reduce((a, b) -> (comparator.compareInt(a, b) >= 0) ? a : b);
     }
     
     /**
@@ -338,15 +340,28 @@ public interface AsIntStreamPlusWithStatistic {
     @Terminal
     public default Optional<IntIntTuple> minMax(IntComparator comparator) {
         val streamPlus = intStreamPlus();
-        val minRef = new AtomicReference<Object>(dummy);
-        val maxRef = new AtomicReference<Object>(dummy);
-        streamPlus.sorted(comparator).forEach(each -> {
-            minRef.compareAndSet(dummy, each);
-            maxRef.set(each);
+        // [0]: 1 when there is a value, [1]: the min (the first of the equals), [2]: the max (the last of the equals).
+        val minMax = streamPlus.collect(() -> new int[3], (holder, each) -> {
+            if (holder[0] == 0) {
+                holder[0] = 1;
+                holder[1] = each;
+                holder[2] = each;
+                return;
+            }
+            if (comparator.compareInt(each, holder[1]) < 0)
+                holder[1] = each;
+            if (comparator.compareInt(each, holder[2]) >= 0)
+                holder[2] = each;
+        }, (left, right) -> {
+            if (right[0] == 0)
+                return;
+            if ((left[0] == 0) || (comparator.compareInt(right[1], left[1]) < 0))
+                left[1] = right[1];
+            if ((left[0] == 0) || (comparator.compareInt(right[2], left[2]) >= 0))
+                left[2] = right[2];
+            left[0] = 1;
         });
-        val min = minRef.get();
-        val max = maxRef.get();
-        return (dummy.equals(min) || dummy.equals(max)) ? Optional.empty() : Optional.of(IntIntTuple.of((int) min, (int) max));
+        return (minMax[0] == 0) ? Optional.empty() : Optional.of(IntIntTuple.of(minMax[1], minMax[2]));
     }
     
     /**
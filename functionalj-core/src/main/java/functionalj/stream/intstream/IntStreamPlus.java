@@ -668,7 +668,16 @@ public interface IntStreamPlus extends IntStream, AsIntStreamPlus, IntStreamPlus
     
     @Eager
     public default IntStreamPlus sorted(IntComparator comparator) {
-        return IntStreamPlus.from(intStream().boxed().sorted((a, b) -> comparator.compare(a, b)).mapToInt(i -> i));
+        val stream = intStream();
+        // Sort only when the stream is used -- as the other intermediate operations.
+        Supplier<Spliterator.OfInt> sortedSpliterator = () -> {
+            val values = stream.toArray();
+            IntStreamPlusHelper.sort(values, comparator);
+            return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        };
+        val characteristics = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE;
+        val sortedStream    = StreamSupport.intStream(sortedSpliterator, characteristics, stream.isParallel());
+        return IntStreamPlus.from(sortedStream.onClose(stream::close));
     }
     
     // -- Terminate --
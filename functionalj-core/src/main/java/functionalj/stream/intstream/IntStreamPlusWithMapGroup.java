@@ -23,18 +23,11 @@
 // ============================================================================
 package functionalj.stream.intstream;
 
-import java.util.Spliterators;
-import java.util.function.Consumer;
-import java.util.function.DoubleConsumer;
 import java.util.function.IntBinaryOperator;
-import java.util.function.IntConsumer;
-import java.util.function.LongConsumer;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
-import java.util.stream.StreamSupport;
 import functionalj.function.Func1;
-import functionalj.function.Func4;
 import functionalj.function.IntIntBiFunction;
 import functionalj.function.IntIntToDoubleFunctionPrimitive;
 import functionalj.function.IntIntToLongFunctionPrimitive;
@@ -44,171 +37,6 @@ import functionalj.stream.longstream.LongStreamPlus;
 import functionalj.tuple.IntIntTuple;
 import lombok.val;
 
-class IntStreamPlusWithMapGroupHelper {
-    
-    static <TARGET> StreamPlus<TARGET> mapGroup(IntStreamPlus streamPlus, int count, Func4<int[], Integer, Integer, Consumer<? super TARGET>, Void> processNormal, Func4<int[], Integer, Integer, Consumer<? super TARGET>, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractSpliterator<TARGET>(splitr.estimateSize(), 0) {
-        
-            int[] array = new int[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super TARGET> consumer) {
-                IntConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, false));
-    }
-    
-    static <TARGET> IntStreamPlus mapGroupToInt(IntStreamPlus streamPlus, int count, Func4<int[], Integer, Integer, IntConsumer, Void> processNormal, Func4<int[], Integer, Integer, IntConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractIntSpliterator(splitr.estimateSize(), 0) {
-        
-            int[] array = new int[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(IntConsumer consumer) {
-                IntConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return IntStreamPlus.from(StreamSupport.intStream(spliterator, false));
-    }
-    
-    static <DATA, TARGET> LongStreamPlus mapGroupToLong(IntStreamPlus streamPlus, int count, Func4<int[], Integer, Integer, LongConsumer, Void> processNormal, Func4<int[], Integer, Integer, LongConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractLongSpliterator(splitr.estimateSize(), 0) {
-        
-            int[] array = new int[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(LongConsumer consumer) {
-                IntConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (hasNext && !used) {
-                    hasNext = splitr.tryAdvance(action);
-                }
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return LongStreamPlus.from(StreamSupport.longStream(spliterator, false));
-    }
-    
-    static <DATA, TARGET> DoubleStreamPlus mapGroupToDouble(IntStreamPlus streamPlus, int count, Func4<int[], Integer, Integer, DoubleConsumer, Void> processNormal, Func4<int[], Integer, Integer, DoubleConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractDoubleSpliterator(splitr.estimateSize(), 0) {
-        
-            int[] array = new int[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(DoubleConsumer consumer) {
-                IntConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (hasNext && !used) {
-                    hasNext = splitr.tryAdvance(action);
-                }
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return DoubleStreamPlus.from(StreamSupport.doubleStream(spliterator, false));
-    }
-}
-
 public interface IntStreamPlusWithMapGroup {
     
     public IntStreamPlus intStreamPlus();
@@ -217,7 +45,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapTwo(IntBinaryOperator combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToInt(intStreamPlus(), 2, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToInt(intStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsInt(prev, curr);
@@ -230,7 +58,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapGroup(int count, ToIntFunction<IntStreamPlus> combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToInt(intStreamPlus(), count, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToInt(intStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIntIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedIntStreamPlus(iterator);
             val value = combinator.applyAsInt(streamPlus);
@@ -250,7 +78,7 @@ public interface IntStreamPlusWithMapGroup {
      * @return  the stream of  each previous value and each current value.
      */
     public default StreamPlus<IntIntTuple> mapTwoToObj() {
-        return IntStreamPlusWithMapGroupHelper.mapGroup(intStreamPlus(), 2, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroup(intStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             consumer.accept(IntIntTuple.of(prev, curr));
@@ -262,7 +90,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default <TARGET> StreamPlus<TARGET> mapTwoToObj(IntIntBiFunction<TARGET> combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroup(intStreamPlus(), 2, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroup(intStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.apply(prev, curr);
@@ -275,7 +103,7 @@ public interface IntStreamPlusWithMapGroup {
      * @return  the stream of  each previous value and each current value.
      */
     public default StreamPlus<IntStreamPlus> mapGroupToObj(int count) {
-        return IntStreamPlusWithMapGroupHelper.<IntStreamPlus>mapGroup(intStreamPlus(), count, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.<IntStreamPlus>mapGroup(intStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIntIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedIntStreamPlus(iterator);
             consumer.accept(streamPlus);
@@ -300,7 +128,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapTwoToInt(IntBinaryOperator combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToInt(intStreamPlus(), 2, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToInt(intStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsInt(prev, curr);
@@ -313,7 +141,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapGroupToInt(int count, ToIntFunction<IntStreamPlus> combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToInt(intStreamPlus(), count, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToInt(intStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIntIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedIntStreamPlus(iterator);
             val value = combinator.applyAsInt(streamPlus);
@@ -333,7 +161,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default LongStreamPlus mapTwoToLong(IntIntToLongFunctionPrimitive combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToLong(intStreamPlus(), 2, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToLong(intStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsIntAndInt(prev, curr);
@@ -346,7 +174,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default LongStreamPlus mapGroupToLong(int count, ToLongFunction<IntStreamPlus> combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToLong(intStreamPlus(), count, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToLong(intStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIntIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedIntStreamPlus(iterator);
             val value = combinator.applyAsLong(streamPlus);
@@ -366,7 +194,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapTwoToDouble(IntIntToDoubleFunctionPrimitive combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToDouble(intStreamPlus(), 2, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToDouble(intStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsDouble(prev, curr);
@@ -379,7 +207,7 @@ public interface IntStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapGroupToDouble(int count, ToDoubleFunction<IntStreamPlus> combinator) {
-        return IntStreamPlusWithMapGroupHelper.mapGroupToDouble(intStreamPlus(), count, (array, start, end, consumer) -> {
+        return IntSegmentSpliterators.mapGroupToDouble(intStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedIntIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedIntStreamPlus(iterator);
             val value = combinator.applyAsDouble(streamPlus);
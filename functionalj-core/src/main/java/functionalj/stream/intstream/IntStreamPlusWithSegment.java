@@ -31,7 +31,6 @@ import java.util.function.IntPredicate;
 import java.util.function.IntUnaryOperator;
 import java.util.stream.StreamSupport;
 import functionalj.list.intlist.IntFuncList;
-import functionalj.list.intlist.IntFuncListBuilder;
 import functionalj.stream.IncompletedSegment;
 import functionalj.stream.StreamPlus;
 import functionalj.stream.markers.Sequential;
@@ -44,8 +43,9 @@ public interface IntStreamPlusWithSegment {
     /**
      * Segment the stream into sub stream with the fix length of count.
      * The last portion may be shorter.
+     * 
+     * A parallel stream of the known size is split at multiples of the count.
      */
-    @Sequential
     public default StreamPlus<IntFuncList> segment(int count) {
         if (count <= 0) {
             return StreamPlus.empty();
@@ -53,27 +53,7 @@ public interface IntStreamPlusWithSegment {
         if (count <= 1) {
             return intStreamPlus().mapToObj(each -> IntFuncList.of(each));
         }
-        val splitr = intStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<IntFuncList>(splitr.estimateSize(), 0) {
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super IntFuncList> consumer) {
-                val eachListBuilder = IntFuncList.newBuilder();
-                boolean hasThis;
-                int i = count;
-                do {
-                    hasThis = splitr.tryAdvance((IntConsumer) eachListBuilder::add);
-                } while (hasThis && (--i > 0));
-                val eachList = eachListBuilder.build();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return IntSegmentSpliterators.segment(intStreamPlus(), count);
     }
     
     /**
@@ -122,90 +102,15 @@ public interface IntStreamPlusWithSegment {
      */
     public default StreamPlus<IntFuncList> segmentWhen(IntPredicate startCondition) {
         Objects.requireNonNull(startCondition);
-        val splitr = intStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<IntFuncList>(splitr.estimateSize(), 0) {
-        
-            IntFuncListBuilder eachListBuilder = IntFuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super IntFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((IntConsumer) (eachValue -> {
-                        if (startCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            eachListBuilder = IntFuncList.newBuilder();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                        }
-                        eachListBuilder.add(eachValue);
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = IntFuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return IntSegmentSpliterators.segment(intStreamPlus(), startCondition, null, true);
     }
     
     /**
      * Segment the stream into sub stream starting the element after the precondition is true.
      */
-    @Sequential
     public default StreamPlus<IntFuncList> segmentAfter(IntPredicate endCondition) {
         Objects.requireNonNull(endCondition);
-        val splitr = intStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<IntFuncList>(splitr.estimateSize(), 0) {
-        
-            IntFuncListBuilder eachListBuilder = IntFuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super IntFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((IntConsumer) (eachValue -> {
-                        eachListBuilder.add(eachValue);
-                        if (endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = IntFuncList.newBuilder();
-                        }
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = IntFuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return IntSegmentSpliterators.segment(intStreamPlus(), null, endCondition, true);
     }
     
     /**
@@ -250,52 +155,8 @@ public interface IntStreamPlusWithSegment {
      * @param includeIncompletedSegment  specifying if the incomplete segment at the end should be included.
      */
     public default StreamPlus<IntFuncList> segmentBetween(IntPredicate startCondition, IntPredicate endCondition, boolean includeIncompletedSegment) {
+        Objects.requireNonNull(startCondition);
         Objects.requireNonNull(endCondition);
-        val splitr = intStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<IntFuncList>(splitr.estimateSize(), 0) {
-        
-            IntFuncListBuilder eachListBuilder = null;
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super IntFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((IntConsumer) (eachValue -> {
-                        if ((eachListBuilder == null) && startCondition.test(eachValue)) {
-                            eachListBuilder = IntFuncList.newBuilder();
-                        }
-                        if (eachListBuilder != null) {
-                            eachListBuilder.add(eachValue);
-                        }
-                        if ((eachListBuilder != null) && endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = null;
-                        }
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                if (includeIncompletedSegment && (eachListBuilder != null)) {
-                    val eachList = eachListBuilder.build();
-                    eachListBuilder = IntFuncList.newBuilder();
-                    val useThis = !eachList.isEmpty();
-                    if (useThis) {
-                        consumer.accept(eachList);
-                    }
-                    return hasThis || useThis;
-                }
-                return hasThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return IntSegmentSpliterators.segment(intStreamPlus(), startCondition, endCondition, includeIncompletedSegment);
     }
 }
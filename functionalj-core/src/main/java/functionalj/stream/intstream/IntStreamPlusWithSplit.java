@@ -23,20 +23,17 @@
 // ============================================================================
 package functionalj.stream.intstream;
 
-import java.util.function.Function;
 import java.util.function.IntPredicate;
-import functionalj.list.intlist.IntFuncList;
 import functionalj.map.FuncMap;
+import functionalj.tuple.Tuple;
 import functionalj.tuple.Tuple2;
+import lombok.val;
 
 public interface IntStreamPlusWithSplit extends IntStreamPlusWithMapToTuple {
     
     // The most important thing here is to only evaluate the value once.
     // Everything else that contradict that must give. That because we can use regular filter if evaluating once is not important.
     // == split ==
-    // TODO - Try to make it lazy
-    // It is not easy as it seems as there has to be buffer for one branch when go through with another branch.
-    // We may need a dynamic collection of all branch as we goes along.
     /**
      * Split the stream using the predicate.
      * The result is a tuple of streams where the first stream is for those element that the predicate returns true.
@@ -44,8 +41,8 @@ public interface IntStreamPlusWithSplit extends IntStreamPlusWithMapToTuple {
      * The elements in this stream is guaranteed to be in one of the result stream.
      */
     public default Tuple2<IntStreamPlus, IntStreamPlus> split(IntPredicate predicate) {
-        Function<IntFuncList, IntStreamPlus> toStreamPlus = IntFuncList::intStreamPlus;
-        return IntFuncList.from(() -> intStreamPlus()).split(predicate).map(toStreamPlus, toStreamPlus);
+        val streams = IntStreamPlusHelper.split(intStreamPlus(), new boolean[] { true, true }, predicate);
+        return Tuple.of(streams[0], streams[1]);
     }
     
     /**
@@ -54,8 +51,8 @@ public interface IntStreamPlusWithSplit extends IntStreamPlusWithMapToTuple {
      * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, IntStreamPlus> split(KEY key1, IntPredicate predicate, KEY key2) {
-        Function<IntFuncList, IntStreamPlus> toStreamPlus = IntFuncList::intStreamPlus;
-        return IntFuncList.from(() -> intStreamPlus()).split(key1, predicate, key2).mapValue(toStreamPlus);
+        val streams = IntStreamPlusHelper.split(intStreamPlus(), new boolean[] { key1 != null, key2 != null }, predicate);
+        return FuncMap.of(key1, streams[0], key2, streams[1]);
     }
     
     /**
@@ -64,8 +61,8 @@ public interface IntStreamPlusWithSplit extends IntStreamPlusWithMapToTuple {
      * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, IntStreamPlus> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3) {
-        Function<IntFuncList, IntStreamPlus> toStreamPlus = IntFuncList::intStreamPlus;
-        return IntFuncList.from(() -> intStreamPlus()).split(key1, predicate1, key2, predicate2, key3).mapValue(toStreamPlus);
+        val streams = IntStreamPlusHelper.split(intStreamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null }, predicate1, predicate2);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2]);
     }
     
     /**
@@ -74,8 +71,8 @@ public interface IntStreamPlusWithSplit extends IntStreamPlusWithMapToTuple {
      * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, IntStreamPlus> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4) {
-        Function<IntFuncList, IntStreamPlus> toStreamPlus = IntFuncList::intStreamPlus;
-        return IntFuncList.from(() -> intStreamPlus()).split(key1, predicate1, key2, predicate2, key3, predicate3, key4).mapValue(toStreamPlus);
+        val streams = IntStreamPlusHelper.split(intStreamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null }, predicate1, predicate2, predicate3);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3]);
     }
     
     /**
@@ -84,8 +81,8 @@ public interface IntStreamPlusWithSplit extends IntStreamPlusWithMapToTuple {
      * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, IntStreamPlus> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4, IntPredicate predicate4, KEY key5) {
-        Function<IntFuncList, IntStreamPlus> toStreamPlus = IntFuncList::intStreamPlus;
-        return IntFuncList.from(() -> intStreamPlus()).split(key1, predicate1, key2, predicate2, key3, predicate3, key4, predicate4, key5).mapValue(toStreamPlus);
+        val streams = IntStreamPlusHelper.split(intStreamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null }, predicate1, predicate2, predicate3, predicate4);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4]);
     }
     
     /**
@@ -94,7 +91,86 @@ public interface IntStreamPlusWithSplit extends IntStreamPlusWithMapToTuple {
      * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
      */
     public default <KEY> FuncMap<KEY, IntStreamPlus> split(KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4, IntPredicate predicate4, KEY key5, IntPredicate predicate5, KEY key6) {
-        Function<IntFuncList, IntStreamPlus> toStreamPlus = IntFuncList::intStreamPlus;
-        return IntFuncList.from(() -> intStreamPlus()).split(key1, predicate1, key2, predicate2, key3, predicate3, key4, predicate4, key5, predicate5, key6).mapValue(toStreamPlus);
+        val streams = IntStreamPlusHelper.split(intStreamPlus(), new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, key6 != null }, predicate1, predicate2, predicate3, predicate4, predicate5);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4], key6, streams[5]);
+    }
+    
+    // == splitConcurrently ==
+    /**
+     * Split the stream using the predicate -- the result streams pull this stream as they are consumed so it is only run once
+     *   and it is not buffered as a whole.
+     * The result is a tuple of streams where the first stream is for those element that the predicate returns true.
+     *
+     * An element for the other stream waits in that stream's queue (of at most the buffer size)
+     *   so both streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default Tuple2<IntStreamPlus, IntStreamPlus> splitConcurrently(int bufferSize, IntPredicate predicate) {
+        val streams = IntStreamPartitions.partitionConcurrently(intStreamPlus(), bufferSize, new boolean[] { true, true }, predicate);
+        return Tuple.of(streams[0], streams[1]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, IntStreamPlus> splitConcurrently(int bufferSize, KEY key1, IntPredicate predicate, KEY key2) {
+        val streams = IntStreamPartitions.partitionConcurrently(intStreamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null }, predicate);
+        return FuncMap.of(key1, streams[0], key2, streams[1]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, IntStreamPlus> splitConcurrently(int bufferSize, KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3) {
+        val streams = IntStreamPartitions.partitionConcurrently(intStreamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null }, predicate1, predicate2);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, IntStreamPlus> splitConcurrently(int bufferSize, KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4) {
+        val streams = IntStreamPartitions.partitionConcurrently(intStreamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null }, predicate1, predicate2, predicate3);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, IntStreamPlus> splitConcurrently(int bufferSize, KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4, IntPredicate predicate4, KEY key5) {
+        val streams = IntStreamPartitions.partitionConcurrently(intStreamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null }, predicate1, predicate2, predicate3, predicate4);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4]);
+    }
+    
+    /**
+     * Split the stream using the predicate and return as part of a map -- the result streams pull this stream as they are consumed
+     *   so it is only run once and it is not buffered as a whole.
+     *
+     * The predicate will be checked one by one and when match the element will be used as part of the value with that associated key.
+     * An element for another stream waits in that stream's queue (of at most the buffer size)
+     *   so the streams must be consumed concurrently (or closed when not used) or the consumption will wait forever.
+     */
+    public default <KEY> FuncMap<KEY, IntStreamPlus> splitConcurrently(int bufferSize, KEY key1, IntPredicate predicate1, KEY key2, IntPredicate predicate2, KEY key3, IntPredicate predicate3, KEY key4, IntPredicate predicate4, KEY key5, IntPredicate predicate5, KEY key6) {
+        val streams = IntStreamPartitions.partitionConcurrently(intStreamPlus(), bufferSize, new boolean[] { key1 != null, key2 != null, key3 != null, key4 != null, key5 != null, key6 != null }, predicate1, predicate2, predicate3, predicate4, predicate5);
+        return FuncMap.of(key1, streams[0], key2, streams[1], key3, streams[2], key4, streams[3], key5, streams[4], key6, streams[5]);
     }
 }
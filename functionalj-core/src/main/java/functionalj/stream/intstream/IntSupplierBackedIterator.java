@@ -23,8 +23,6 @@
 // ============================================================================
 package functionalj.stream.intstream;
 
-import static functionalj.functions.ThrowFuncs.throwFrom;
-
 import java.util.function.IntSupplier;
 
 import functionalj.result.NoMoreResultException;
@@ -35,8 +33,7 @@ public class IntSupplierBackedIterator implements IntIteratorPlus {
      * Throw a no more element exception. This is used for generator.
      */
     public static <D> D noMoreElement() throws NoMoreResultException {
-    	throwFrom(() -> new NoMoreResultException());
-        return (D) null;
+        throw NoMoreResultException.signal();
     }
     
     private final IntSupplier supplier;
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
 import functionalj.function.aggregator.LongAggregation;
 import functionalj.list.longlist.LongFuncList;
@@ -46,24 +47,21 @@ public interface AsLongStreamPlusWithGroupingBy {
      */
     public default <KEY> FuncMap<KEY, LongFuncList> groupingBy(LongFunction<KEY> keyMapper) {
         val toFuncList = f((GrowOnlyLongArray array) -> array.toFuncList());
-        val newArray = f(() -> new GrowOnlyLongArray());
         val streamPlus = this.longStreamPlus();
         Supplier<Map<KEY, GrowOnlyLongArray>> supplier;
-        BiConsumer<Map<KEY, GrowOnlyLongArray>, Long> accumulator;
+        ObjLongConsumer<Map<KEY, GrowOnlyLongArray>> accumulator;
         BiConsumer<Map<KEY, GrowOnlyLongArray>, Map<KEY, GrowOnlyLongArray>> combiner;
         supplier = LinkedHashMap::new;
         accumulator = (map, each) -> {
             val key = keyMapper.apply(each);
-            map.compute(key, (k, a) -> {
-                if (a == null) {
-                    a = newArray.get();
-                }
-                a.add(each);
-                return a;
-            });
+            map.computeIfAbsent(key, __ -> new GrowOnlyLongArray()).add(each);
         };
-        combiner = (map1, map2) -> map1.putAll(map2);
-        val theMap = streamPlus.boxed().collect(supplier, accumulator, combiner);
+        // The second map holds the later values -- append them so none is lost when run in parallel.
+        combiner = (map1, map2) -> map2.forEach((key, array) -> map1.merge(key, array, (array1, array2) -> {
+            array1.addAll(array2);
+            return array1;
+        }));
+        val theMap = streamPlus.collect(supplier, accumulator, combiner);
         return ImmutableFuncMap.from(theMap).mapValue(toFuncList);
     }
     
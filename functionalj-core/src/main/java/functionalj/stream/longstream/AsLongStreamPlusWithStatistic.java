@@ -132,7 +132,8 @@ public interface AsLongStreamPlusWithStatistic {
      */
     public default OptionalLong min(LongComparator comparator) {
         val streamPlus = longStreamPlus();
-        return streamPlus.sorted(comparator).findFirst();
+        // Keep the first of the equals -- as the first of the (stable) sorted values.
+        return streamPlus.reduce((a, b) -> (comparator.compareLong(a, b) <= 0) ? a : b);
     }
     
     /**
@@ -140,7 +141,8 @@ public interface AsLongStreamPlusWithStatistic {
      */
     public default OptionalLong max(LongComparator comparator) {
         val streamPlus = longStreamPlus();
-        return streamPlus.sorted(comparator.reverse()).findFirst();
+        // Keep the first of the equals -- as the first of the (stable) reverse sorted values.
+        return streamPlus.reduce((a, b) -> (comparator.compareLong(a, b) >= 0) ? a : b);
     }
     
     /**
@@ -288,15 +290,28 @@ public interface AsLongStreamPlusWithStatistic {
     @Terminal
     public default Optional<LongLongTuple> minMax(LongComparator comparator) {
         val streamPlus = longStreamPlus();
-        val minRef = new AtomicReference<Object>(dummy);
-        val maxRef = new AtomicReference<Object>(dummy);
-        streamPlus.sorted(comparator).forEach(each -> {
-            minRef.compareAndSet(dummy, each);
-            maxRef.set(each);
+        // [0]: 1 when there is a value, [1]: the min (the first of the equals), [2]: the max (the last of the equals).
+        val minMax = streamPlus.collect(() -> new long[3], (holder, each) -> {
+            if (holder[0] == 0) {
+                holder[0] = 1;
+                holder[1] = each;
+                holder[2] = each;
+                return;
+            }
+            if (comparator.compareLong(each, holder[1]) < 0)
+                holder[1] = each;
+            if (comparator.compareLong(each, holder[2]) >= 0)
+                holder[2] = each;
+        }, (left, right) -> {
+            if (right[0] == 0)
+                return;
+            if ((left[0] == 0) || (comparator.compareLong(right[1], left[1]) < 0))
+                left[1] = right[1];
+            if ((left[0] == 0) || (comparator.compareLong(right[2], left[2]) >= 0))
+                left[2] = right[2];
+            left[0] = 1;
         });
-        val min = minRef.get();
-        val max = maxRef.get();
-        return (dummy.equals(min) || dummy.equals(max)) ? Optional.empty() : Optional.of(LongLongTuple.of((long) min, (long) max));
+        return (minMax[0] == 0) ? Optional.empty() : Optional.of(LongLongTuple.of(minMax[1], minMax[2]));
     }
     
     /**
@@ -0,0 +1,319 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.stream.longstream;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.StreamSupport;
+
+import functionalj.exception.Throwables;
+import functionalj.stream.StreamPartitions;
+import lombok.val;
+
+/**
+ * Partitioning of the long elements for the split methods -- see {@link StreamPartitions}.
+ */
+public final class LongStreamPartitions {
+    
+    private LongStreamPartitions() {
+    }
+    
+    /**
+     * Partition all the elements from the source.
+     *
+     * @param source      the source of the elements -- only pulled once.
+     * @param isKept      whether to keep each of the partitions -- the length is the number of partitions.
+     * @param predicates  the predicates of the partitions.
+     * @return  the exactly-sized arrays of the elements of each partition -- empty for the partition that is not kept.
+     */
+    public static long[][] partition(Spliterator.OfLong source, boolean[] isKept, LongPredicate ... predicates) {
+        val buffer = new Buffer(source.getExactSizeIfKnown(), isKept, predicates);
+        source.forEachRemaining(buffer);
+        return buffer.toArrays();
+    }
+    
+    /**
+     * Partition the elements from the source into the streams that pull the source as they are consumed.
+     *
+     * The stream pulling an element for another partition hands it over through that partition's queue
+     *   and waits when the queue is full -- so the streams must be consumed concurrently
+     *   (or closed when they are not used) to avoid waiting forever.
+     * The source is closed when all the streams are closed.
+     *
+     * @param source      the source stream -- only pulled once.
+     * @param bufferSize  the maximum number of the elements waiting in each partition's queue.
+     * @param isKept      whether to keep each of the partitions -- the length is the number of partitions.
+     * @param predicates  the predicates of the partitions.
+     * @return  the stream of each partition -- empty for the partition that is not kept.
+     */
+    public static LongStreamPlus[] partitionConcurrently(LongStreamPlus source, int bufferSize, boolean[] isKept, LongPredicate ... predicates) {
+        if (bufferSize <= 0)
+            throw new IllegalArgumentException("bufferSize: " + bufferSize);
+        
+        val hub     = new Hub(source, bufferSize, isKept, predicates);
+        val streams = new LongStreamPlus[isKept.length];
+        for (int i = 0; i < streams.length; i++) {
+            val partition = i;
+            val stream    = StreamSupport.longStream(new PartitionSpliterator(hub, partition), false);
+            streams[i] = LongStreamPlus.from(stream.onClose(() -> hub.close(partition)));
+        }
+        return streams;
+    }
+    
+    static int partitionOf(long data, LongPredicate[] predicates, int partitionCount) {
+        for (int i = 0; i < predicates.length; i++) {
+            if (predicates[i].test(data))
+                return i;
+        }
+        return (partitionCount > predicates.length) ? predicates.length : -1;
+    }
+    
+    /** Holds all the kept elements (with their partitions) and then scatters them to the exactly-sized arrays. */
+    private static final class Buffer implements LongConsumer {
+        
+        private final boolean[]       isKept;
+        private final LongPredicate[] predicates;
+        private final int[]           counts;
+        
+        private long[] elements;
+        private byte[] partitions;
+        private int    size = 0;
+        
+        Buffer(long exactSize, boolean[] isKept, LongPredicate[] predicates) {
+            int capacity = ((exactSize >= 0) && (exactSize < Integer.MAX_VALUE - 8)) ? (int) exactSize : 16;
+            this.isKept     = isKept;
+            this.predicates = predicates;
+            this.counts     = new int[isKept.length];
+            this.elements   = new long[capacity];
+            this.partitions = new byte[capacity];
+        }
+        
+        @Override
+        public void accept(long data) {
+            int partition = partitionOf(data, predicates, isKept.length);
+            if ((partition == -1) || !isKept[partition])
+                return;
+            
+            if (size == elements.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                elements   = Arrays.copyOf(elements,   capacity);
+                partitions = Arrays.copyOf(partitions, capacity);
+            }
+            elements[size]   = data;
+            partitions[size] = (byte) partition;
+            counts[partition]++;
+            size++;
+        }
+        
+        long[][] toArrays() {
+            val arrays  = new long[counts.length][];
+            val indexes = new int[counts.length];
+            for (int p = 0; p < counts.length; p++) {
+                arrays[p] = new long[counts[p]];
+            }
+            for (int i = 0; i < size; i++) {
+                int partition = partitions[i];
+                arrays[partition][indexes[partition]++] = elements[i];
+            }
+            return arrays;
+        }
+    }
+    
+    /**
+     * The shared state of the concurrent partitions.
+     *
+     * Only one partition pulls the source at a time and it does so outside of the lock
+     *   so the source and the predicates are never run while holding the lock.
+     * Each partition's queue is a ring that grows up to the buffer size.
+     */
+    private static final class Hub {
+        
+        private final ReentrantLock lock    = new ReentrantLock();
+        private final Condition     changed = lock.newCondition();
+        
+        private final LongStreamPlus     source;
+        private final Spliterator.OfLong spliterator;
+        private final int                bufferSize;
+        private final LongPredicate[]    predicates;
+        private final long[][]           queues;
+        private final int[]              heads;
+        private final int[]              sizes;
+        private final boolean[]          isClosed;
+        
+        private int     openCount = 0;
+        private boolean isPulling = false;
+        private boolean isDone    = false;
+        
+        Hub(LongStreamPlus source, int bufferSize, boolean[] isKept, LongPredicate[] predicates) {
+            this.source      = source;
+            this.spliterator = source.longStream().spliterator();
+            this.bufferSize  = bufferSize;
+            this.predicates  = predicates;
+            this.queues      = new long[isKept.length][];
+            this.heads       = new int[isKept.length];
+            this.sizes       = new int[isKept.length];
+            this.isClosed    = new boolean[isKept.length];
+            for (int i = 0; i < isKept.length; i++) {
+                queues[i]   = new long[Math.min(bufferSize, 16)];
+                isClosed[i] = !isKept[i];
+                openCount  += isKept[i] ? 1 : 0;
+            }
+        }
+        
+        /** Put the next element of the partition in the holder and return true -- or return false when there is no more. */
+        boolean next(int partition, long[] holder) {
+            LongConsumer pull = data -> holder[0] = data;
+            lock.lock();
+            try {
+                while (true) {
+                    if (sizes[partition] != 0) {
+                        holder[0] = poll(partition);
+                        changed.signalAll();
+                        return true;
+                    }
+                    if (isDone || isClosed[partition])
+                        return false;
+                    if (isPulling) {
+                        await();
+                        continue;
+                    }
+                    
+                    isPulling = true;
+                    lock.unlock();
+                    boolean hasNext = false;
+                    int     target  = -1;
+                    try {
+                        hasNext = spliterator.tryAdvance(pull);
+                        target  = hasNext ? partitionOf(holder[0], predicates, queues.length) : -1;
+                    } finally {
+                        lock.lock();
+                        isPulling = false;
+                        changed.signalAll();
+                    }
+                    
+                    if (!hasNext) {
+                        isDone = true;
+                        continue;
+                    }
+                    if ((target == -1) || isClosed[target])
+                        continue;
+                    if (target == partition)
+                        return true;
+                    
+                    isPulling = true;
+                    try {
+                        while ((sizes[target] >= bufferSize) && !isClosed[target]) {
+                            await();
+                        }
+                        if (!isClosed[target]) {
+                            offer(target, holder[0]);
+                        }
+                    } finally {
+                        isPulling = false;
+                        changed.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        void close(int partition) {
+            lock.lock();
+            try {
+                if (isClosed[partition])
+                    return;
+                
+                isClosed[partition] = true;
+                queues[partition]   = null;
+                sizes[partition]    = 0;
+                openCount--;
+                changed.signalAll();
+                if (openCount != 0)
+                    return;
+            } finally {
+                lock.unlock();
+            }
+            source.close();
+        }
+        
+        private long poll(int partition) {
+            val queue = queues[partition];
+            val data  = queue[heads[partition]];
+            heads[partition] = (heads[partition] + 1) % queue.length;
+            sizes[partition]--;
+            return data;
+        }
+        
+        private void offer(int partition, long data) {
+            val queue = queues[partition];
+            val size  = sizes[partition];
+            if (size == queue.length) {
+                val newQueue = new long[(int) Math.min(bufferSize, 2L * size)];
+                for (int i = 0; i < size; i++) {
+                    newQueue[i] = queue[(heads[partition] + i) % size];
+                }
+                queues[partition] = newQueue;
+                heads[partition]  = 0;
+            }
+            queues[partition][(heads[partition] + size) % queues[partition].length] = data;
+            sizes[partition]++;
+        }
+        
+        private void await() {
+            try {
+                changed.await();
+            } catch (InterruptedException exception) {
+                throw Throwables.exceptionTransformer.get().apply(exception);
+            }
+        }
+    }
+    
+    private static final class PartitionSpliterator extends Spliterators.AbstractLongSpliterator {
+        
+        private final Hub    hub;
+        private final int    partition;
+        private final long[] holder = new long[1];
+        
+        PartitionSpliterator(Hub hub, int partition) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.hub       = hub;
+            this.partition = partition;
+        }
+        
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (!hub.next(partition, holder))
+                return false;
+            
+            action.accept(holder[0]);
+            return true;
+        }
+    }
+}
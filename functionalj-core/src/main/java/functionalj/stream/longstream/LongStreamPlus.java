@@ -674,7 +674,16 @@ public interface LongStreamPlus extends LongStream, AsLongStreamPlus, LongStream
     
     @Eager
     public default LongStreamPlus sorted(LongComparator comparator) {
-        return LongStreamPlus.from(longStream().boxed().sorted((a, b) -> comparator.compare(a, b)).mapToLong(i -> i));
+        val stream = longStream();
+        // Sort only when the stream is used -- as the other intermediate operations.
+        Supplier<Spliterator.OfLong> sortedSpliterator = () -> {
+            val values = stream.toArray();
+            LongStreamPlusHelper.sort(values, comparator);
+            return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        };
+        val characteristics = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE;
+        val sortedStream    = StreamSupport.longStream(sortedSpliterator, characteristics, stream.isParallel());
+        return LongStreamPlus.from(sortedStream.onClose(stream::close));
     }
     
     // -- Terminate --
@@ -30,8 +30,10 @@ import java.util.PrimitiveIterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
+import functionalj.function.LongComparator;
 import functionalj.function.LongLongBiFunction;
 import functionalj.function.LongObjBiFunction;
 import functionalj.stream.IteratorPlus;
@@ -462,4 +464,77 @@ public class LongStreamPlusHelper {
         });
         return targetStream;
     }
+    
+    // -- Sort --
+    
+    private static final int SORT_RUN = 32;
+    
+    /**
+     * Sort the values in place using the comparator -- without boxing them.
+     * Like the sort of the boxed values, the sort is stable: insertion-sorted runs are merged bottom-up.
+     */
+    static void sort(long[] values, LongComparator comparator) {
+        int length = values.length;
+        for (int start = 0; start < length; start += SORT_RUN) {
+            insertionSort(values, start, Math.min(start + SORT_RUN, length), comparator);
+        }
+        long[] source = values;
+        long[] target = (length > SORT_RUN) ? new long[length] : null;
+        int width = SORT_RUN;
+        while (width < length) {
+            for (int low = 0; low < length; ) {
+                int middle = (width >= length - low)    ? length : low + width;
+                int high   = (width >= length - middle) ? length : middle + width;
+                merge(source, target, low, middle, high, comparator);
+                low = high;
+            }
+            long[] swap = source;
+            source = target;
+            target = swap;
+            width  = (width >= length - width) ? length : (width << 1);
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, length);
+        }
+    }
+    
+    private static void insertionSort(long[] values, int low, int high, LongComparator comparator) {
+        for (int i = low + 1; i < high; i++) {
+            long value = values[i];
+            int j = i - 1;
+            while ((j >= low) && (comparator.compareLong(values[j], value) > 0)) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+    
+    private static void merge(long[] source, long[] target, int low, int middle, int high, LongComparator comparator) {
+        if ((middle >= high) || (comparator.compareLong(source[middle - 1], source[middle]) <= 0)) {
+            // Already in order.
+            System.arraycopy(source, low, target, low, high - low);
+            return;
+        }
+        int left  = low;
+        int right = middle;
+        for (int i = low; i < high; i++) {
+            if ((right >= high) || ((left < middle) && (comparator.compareLong(source[left], source[right]) <= 0))) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+    
+    /** @return the streams of the partitions -- see {@link LongStreamPartitions}. */
+    static LongStreamPlus[] split(AsLongStreamPlus asStreamPlus, boolean[] isKept, LongPredicate ... predicates) {
+        Function<LongStream, long[][]> partition = stream -> LongStreamPartitions.partition(stream.spliterator(), isKept, predicates);
+        val arrays  = terminate(asStreamPlus, partition);
+        val streams = new LongStreamPlus[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            streams[i] = ArrayBackedLongStreamPlus.from(arrays[i]);
+        }
+        return streams;
+    }
 }
@@ -235,7 +235,7 @@ public interface LongStreamPlusWithCombine {
                 if (hasNextB) {
                     return nextB;
                 }
-                throw new NoMoreResultException();
+                throw NoMoreResultException.signal();
             }
         };
         val iterable = new LongIterable() {
@@ -23,18 +23,11 @@
 // ============================================================================
 package functionalj.stream.longstream;
 
-import java.util.Spliterators;
-import java.util.function.Consumer;
-import java.util.function.DoubleConsumer;
-import java.util.function.IntConsumer;
 import java.util.function.LongBinaryOperator;
-import java.util.function.LongConsumer;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
-import java.util.stream.StreamSupport;
 import functionalj.function.Func1;
-import functionalj.function.Func4;
 import functionalj.function.LongLongBiFunction;
 import functionalj.function.LongLongToDoubleFunctionPrimitive;
 import functionalj.function.LongLongToIntFunctionPrimitive;
@@ -44,171 +37,6 @@ import functionalj.stream.intstream.IntStreamPlus;
 import functionalj.tuple.LongLongTuple;
 import lombok.val;
 
-class LongStreamPlusWithMapGroupHelper {
-    
-    static <TARGET> StreamPlus<TARGET> mapGroup(LongStreamPlus streamPlus, int count, Func4<long[], Integer, Integer, Consumer<? super TARGET>, Void> processNormal, Func4<long[], Integer, Integer, Consumer<? super TARGET>, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractSpliterator<TARGET>(splitr.estimateSize(), 0) {
-        
-            long[] array = new long[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super TARGET> consumer) {
-                LongConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, false));
-    }
-    
-    static <TARGET> IntStreamPlus mapGroupToInt(LongStreamPlus streamPlus, int count, Func4<long[], Integer, Integer, IntConsumer, Void> processNormal, Func4<long[], Integer, Integer, IntConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractIntSpliterator(splitr.estimateSize(), 0) {
-        
-            long[] array = new long[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(IntConsumer consumer) {
-                LongConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return IntStreamPlus.from(StreamSupport.intStream(spliterator, false));
-    }
-    
-    static <DATA, TARGET> LongStreamPlus mapGroupToLong(LongStreamPlus streamPlus, int count, Func4<long[], Integer, Integer, LongConsumer, Void> processNormal, Func4<long[], Integer, Integer, LongConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractLongSpliterator(splitr.estimateSize(), 0) {
-        
-            long[] array = new long[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(LongConsumer consumer) {
-                LongConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (hasNext && !used) {
-                    hasNext = splitr.tryAdvance(action);
-                }
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return LongStreamPlus.from(StreamSupport.longStream(spliterator, false));
-    }
-    
-    static <DATA, TARGET> DoubleStreamPlus mapGroupToDouble(LongStreamPlus streamPlus, int count, Func4<long[], Integer, Integer, DoubleConsumer, Void> processNormal, Func4<long[], Integer, Integer, DoubleConsumer, Void> processTail) {
-        val splitr = streamPlus.spliterator();
-        val spliterator = new Spliterators.AbstractDoubleSpliterator(splitr.estimateSize(), 0) {
-        
-            long[] array = new long[count * 10];
-        
-            int start = 0;
-        
-            int end = 0;
-        
-            boolean used = false;
-        
-            @Override
-            public boolean tryAdvance(DoubleConsumer consumer) {
-                LongConsumer action = elem -> {
-                    array[end] = elem;
-                    end++;
-                    int length = end - start;
-                    if (length >= count) {
-                        processNormal.apply(array, start, end, consumer);
-                        used = true;
-                        start++;
-                    }
-                    if (end >= array.length) {
-                        System.arraycopy(array, start, array, 0, length - 1);
-                        start = 0;
-                        end = length - 1;
-                    }
-                };
-                boolean hasNext = splitr.tryAdvance(action);
-                if (hasNext && !used) {
-                    hasNext = splitr.tryAdvance(action);
-                }
-                if (!hasNext && !used && (processTail != null)) {
-                    processTail.apply(array, start, end, consumer);
-                }
-                return hasNext;
-            }
-        };
-        return DoubleStreamPlus.from(StreamSupport.doubleStream(spliterator, false));
-    }
-}
-
 public interface LongStreamPlusWithMapGroup {
     
     public LongStreamPlus longStreamPlus();
@@ -217,7 +45,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default LongStreamPlus mapTwo(LongBinaryOperator combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToLong(longStreamPlus(), 2, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToLong(longStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsLong(prev, curr);
@@ -230,7 +58,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default LongStreamPlus mapGroup(int count, ToLongFunction<LongStreamPlus> combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToLong(longStreamPlus(), count, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToLong(longStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedLongIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedLongStreamPlus(iterator);
             val value = combinator.applyAsLong(streamPlus);
@@ -250,7 +78,7 @@ public interface LongStreamPlusWithMapGroup {
      * @return  the stream of  each previous value and each current value.
      */
     public default StreamPlus<LongLongTuple> mapTwoToObj() {
-        return LongStreamPlusWithMapGroupHelper.mapGroup(longStreamPlus(), 2, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroup(longStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             consumer.accept(LongLongTuple.of(prev, curr));
@@ -262,7 +90,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default <TARGET> StreamPlus<TARGET> mapTwoToObj(LongLongBiFunction<TARGET> combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroup(longStreamPlus(), 2, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroup(longStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.apply(prev, curr);
@@ -275,7 +103,7 @@ public interface LongStreamPlusWithMapGroup {
      * @return  the stream of  each previous value and each current value.
      */
     public default StreamPlus<LongStreamPlus> mapGroupToObj(int count) {
-        return LongStreamPlusWithMapGroupHelper.<LongStreamPlus>mapGroup(longStreamPlus(), count, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.<LongStreamPlus>mapGroup(longStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedLongIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedLongStreamPlus(iterator);
             consumer.accept(streamPlus);
@@ -300,7 +128,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapTwoToInt(LongLongToIntFunctionPrimitive combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToInt(longStreamPlus(), 2, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToInt(longStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsLongAndLong(prev, curr);
@@ -313,7 +141,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default IntStreamPlus mapGroupToInt(int count, ToIntFunction<LongStreamPlus> combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToInt(longStreamPlus(), count, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToInt(longStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedLongIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedLongStreamPlus(iterator);
             val value = combinator.applyAsInt(streamPlus);
@@ -333,7 +161,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default LongStreamPlus mapTwoToLong(LongBinaryOperator combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToLong(longStreamPlus(), 2, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToLong(longStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsLong(prev, curr);
@@ -346,7 +174,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default LongStreamPlus mapGroupToLong(int count, ToLongFunction<LongStreamPlus> combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToLong(longStreamPlus(), count, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToLong(longStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedLongIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedLongStreamPlus(iterator);
             val value = combinator.applyAsLong(streamPlus);
@@ -366,7 +194,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapTwoToDouble(LongLongToDoubleFunctionPrimitive combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToDouble(longStreamPlus(), 2, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToDouble(longStreamPlus(), 2, (array, start, end, consumer) -> {
             val prev = array[start];
             val curr = array[start + 1];
             val value = combinator.applyAsDouble(prev, curr);
@@ -379,7 +207,7 @@ public interface LongStreamPlusWithMapGroup {
      * Create a stream whose value is the combination between the previous value and the current value of this stream.
      */
     public default DoubleStreamPlus mapGroupToDouble(int count, ToDoubleFunction<LongStreamPlus> combinator) {
-        return LongStreamPlusWithMapGroupHelper.mapGroupToDouble(longStreamPlus(), count, (array, start, end, consumer) -> {
+        return LongSegmentSpliterators.mapGroupToDouble(longStreamPlus(), count, (array, start, end, consumer) -> {
             val iterator = new ArrayBackedLongIteratorPlus(array, start, count);
             val streamPlus = new ArrayBackedLongStreamPlus(iterator);
             val value = combinator.applyAsDouble(streamPlus);
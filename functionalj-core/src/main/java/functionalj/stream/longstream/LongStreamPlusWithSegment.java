@@ -31,7 +31,6 @@ import java.util.function.LongPredicate;
 import java.util.function.LongToIntFunction;
 import java.util.stream.StreamSupport;
 import functionalj.list.longlist.LongFuncList;
-import functionalj.list.longlist.LongFuncListBuilder;
 import functionalj.stream.IncompletedSegment;
 import functionalj.stream.StreamPlus;
 import functionalj.stream.markers.Sequential;
@@ -44,8 +43,9 @@ public interface LongStreamPlusWithSegment {
     /**
      * Segment the stream into sub stream with the fix length of count.
      * The last portion may be shorter.
+     * 
+     * A parallel stream of the known size is split at multiples of the count.
      */
-    @Sequential
     public default StreamPlus<LongFuncList> segment(int count) {
         if (count <= 0) {
             return StreamPlus.empty();
@@ -53,27 +53,7 @@ public interface LongStreamPlusWithSegment {
         if (count <= 1) {
             return longStreamPlus().mapToObj(each -> LongFuncList.of(each));
         }
-        val splitr = longStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<LongFuncList>(splitr.estimateSize(), 0) {
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super LongFuncList> consumer) {
-                val eachListBuilder = LongFuncList.newBuilder();
-                boolean hasThis;
-                int i = count;
-                do {
-                    hasThis = splitr.tryAdvance((LongConsumer) eachListBuilder::add);
-                } while (hasThis && (--i > 0));
-                val eachList = eachListBuilder.build();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return LongSegmentSpliterators.segment(longStreamPlus(), count);
     }
     
     /**
@@ -122,90 +102,15 @@ public interface LongStreamPlusWithSegment {
      */
     public default StreamPlus<LongFuncList> segmentWhen(LongPredicate startCondition) {
         Objects.requireNonNull(startCondition);
-        val splitr = longStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<LongFuncList>(splitr.estimateSize(), 0) {
-        
-            LongFuncListBuilder eachListBuilder = LongFuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super LongFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((LongConsumer) (eachValue -> {
-                        if (startCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            eachListBuilder = LongFuncList.newBuilder();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                        }
-                        eachListBuilder.add(eachValue);
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = LongFuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return LongSegmentSpliterators.segment(longStreamPlus(), startCondition, null, true);
     }
     
     /**
      * Segment the stream into sub stream starting the element after the precondition is true.
      */
-    @Sequential
     public default StreamPlus<LongFuncList> segmentAfter(LongPredicate endCondition) {
         Objects.requireNonNull(endCondition);
-        val splitr = longStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<LongFuncList>(splitr.estimateSize(), 0) {
-        
-            LongFuncListBuilder eachListBuilder = LongFuncList.newBuilder();
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super LongFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((LongConsumer) (eachValue -> {
-                        eachListBuilder.add(eachValue);
-                        if (endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            val hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = LongFuncList.newBuilder();
-                        }
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                val eachList = eachListBuilder.build();
-                eachListBuilder = LongFuncList.newBuilder();
-                val useThis = !eachList.isEmpty();
-                if (useThis) {
-                    consumer.accept(eachList);
-                }
-                return hasThis || useThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return LongSegmentSpliterators.segment(longStreamPlus(), null, endCondition, true);
     }
     
     /**
@@ -250,52 +155,8 @@ public interface LongStreamPlusWithSegment {
      * @param includeIncompletedSegment  specifying if the incomplete segment at the end should be included.
      */
     public default StreamPlus<LongFuncList> segmentBetween(LongPredicate startCondition, LongPredicate endCondition, boolean includeIncompletedSegment) {
+        Objects.requireNonNull(startCondition);
         Objects.requireNonNull(endCondition);
-        val splitr = longStreamPlus().spliterator();
-        val isSequence = false;
-        val spliterator = new Spliterators.AbstractSpliterator<LongFuncList>(splitr.estimateSize(), 0) {
-        
-            LongFuncListBuilder eachListBuilder = null;
-        
-            boolean hasNewList = false;
-        
-            @Override
-            public boolean tryAdvance(Consumer<? super LongFuncList> consumer) {
-                boolean hasThis;
-                do {
-                    hasThis = splitr.tryAdvance((LongConsumer) (eachValue -> {
-                        if ((eachListBuilder == null) && startCondition.test(eachValue)) {
-                            eachListBuilder = LongFuncList.newBuilder();
-                        }
-                        if (eachListBuilder != null) {
-                            eachListBuilder.add(eachValue);
-                        }
-                        if ((eachListBuilder != null) && endCondition.test(eachValue)) {
-                            val eachList = eachListBuilder.build();
-                            hasNewList = !eachList.isEmpty();
-                            if (hasNewList) {
-                                consumer.accept(eachList);
-                            }
-                            eachListBuilder = null;
-                        }
-                    }));
-                } while (hasThis && !hasNewList);
-                if (hasNewList) {
-                    hasNewList = false;
-                    return true;
-                }
-                if (includeIncompletedSegment && (eachListBuilder != null)) {
-                    val eachList = eachListBuilder.build();
-                    eachListBuilder = LongFuncList.newBuilder();
-                    val useThis = !eachList.isEmpty();
-                    if (useThis) {
-                        consumer.accept(eachList);
-                    }
-                    return hasThis || useThis;
-                }
-                return hasThis;
-            }
-        };
-        return StreamPlus.from(StreamSupport.stream(spliterator, isSequence));
+        return LongSegmentSpliterators.segment(longStreamPlus(), startCondition, endCondition, includeIncompletedSegment);
     }
 }
@@ -23,8 +23,6 @@
 // ============================================================================
 package functionalj.stream.longstream;
 
-import static functionalj.functions.ThrowFuncs.throwFrom;
-
 import java.util.function.LongSupplier;
 
 import functionalj.result.NoMoreResultException;
@@ -35,8 +33,7 @@ public class LongSupplierBackedIterator implements LongIteratorPlus {
      * Throw a no more element exception. This is used for generator.
      */
     public static <D> D noMoreElement() throws NoMoreResultException {
-    	throwFrom(() -> new NoMoreResultException());
-        return (D) null;
+        throw NoMoreResultException.signal();
     }
     
     private final LongSupplier supplier;
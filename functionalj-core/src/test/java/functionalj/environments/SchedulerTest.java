@@ -0,0 +1,194 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.environments;
+
+import static functionalj.ref.Run.With;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import functionalj.exception.Throwables;
+import functionalj.promise.DeferAction;
+import functionalj.promise.Wait;
+import functionalj.ref.Ref;
+import lombok.val;
+
+public class SchedulerTest {
+    
+    private static class FakeTime implements Time.Instance {
+        private final AtomicLong now = new AtomicLong(1000);
+        @Override
+        public long currentMilliSecond() {
+            return now.get();
+        }
+        @Override
+        public void sleep(long millisecond) {
+            now.addAndGet(millisecond);
+        }
+    }
+    
+    @Test
+    public void testRunInOrder() {
+        val time  = new FakeTime();
+        val wheel = new Scheduler.TimerWheel(time);
+        val list  = new ArrayList<String>();
+        wheel.schedule(300, () -> list.add("300"));
+        wheel.schedule(10,  () -> list.add("10"));
+        wheel.schedule(100, () -> list.add("100"));
+        wheel.schedule(0,   () -> list.add("0"));
+        assertEquals("[0]", list.toString());
+        
+        time.sleep(9);
+        assertEquals(0, wheel.advance());
+        time.sleep(1);
+        assertEquals(1, wheel.advance());
+        time.sleep(500);
+        assertEquals(2, wheel.advance());
+        assertEquals("[0, 10, 100, 300]", list.toString());
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    public void testLongDelay_cascade() {
+        val time  = new FakeTime();
+        val wheel = new Scheduler.TimerWheel(time);
+        val list  = new ArrayList<Long>();
+        val delays = new long[] { 255, 256, 16_383, 16_384, 1_000_000, 10_000_000_000L };
+        for (val delay : delays) {
+            wheel.schedule(delay, () -> list.add(time.currentMilliSecond() - 1000));
+        }
+        for (val delay : delays) {
+            time.now.set(1000 + delay - 1);
+            wheel.advance();
+            assertFalse(list.contains(delay));
+            time.now.set(1000 + delay);
+            wheel.advance();
+            assertTrue(list.contains(delay));
+        }
+        assertEquals("[255, 256, 16383, 16384, 1000000, 10000000000]", list.toString());
+    }
+    
+    @Test
+    public void testCancel() {
+        val time   = new FakeTime();
+        val wheel  = new Scheduler.TimerWheel(time);
+        val list   = new ArrayList<String>();
+        val handle = wheel.schedule(50, () -> list.add("Cancelled"));
+        wheel.schedule(50, () -> list.add("Run"));
+        assertTrue(handle.cancel());
+        assertFalse(handle.cancel());
+        assertTrue(handle.isCancelled());
+        
+        time.sleep(50);
+        wheel.advance();
+        assertEquals("[Run]", list.toString());
+        assertFalse(handle.isExpired());
+    }
+    
+    @Test
+    public void testWait_virtualTime() {
+        val time  = new FakeTime();
+        val wheel = new Scheduler.TimerWheel(time);
+        val list  = new ArrayList<String>();
+        With(Env.refs.time.butWith(time))
+        .and(Env.refs.scheduler.butWith(wheel))
+        .run(() -> {
+            DeferAction.of(String.class).onCompleted(Wait.forMilliseconds(10_000).orDefaultTo("Not done."), r -> list.add(r.get()));
+            val completed = DeferAction.of(String.class).use(promise -> promise.onCompleted(Wait.forMilliseconds(10_000).orDefaultTo("Not done."), r -> list.add(r.get()))).start();
+            completed.complete("Done!");
+            
+            // The completed one no longer waits.
+            assertEquals(1, wheel.size());
+            
+            time.sleep(10_000);
+            wheel.advance();
+            assertEquals("[Done!, Not done.]", list.toString());
+        });
+    }
+    
+    @Test
+    public void testFailure_logged() {
+        val time   = new FakeTime();
+        val wheel  = new Scheduler.TimerWheel(time);
+        val logged = new ArrayList<String>();
+        val list   = new ArrayList<String>();
+        With(Throwables.noThrowLogger.butWith(e -> logged.add(e.getMessage())))
+        .run(() -> {
+            wheel.schedule(10, () -> { throw new IllegalStateException("Fail!"); });
+            wheel.schedule(10, () -> list.add("Run"));
+            time.sleep(10);
+            wheel.advance();
+        });
+        assertEquals("[Fail!]", logged.toString());
+        assertEquals("[Run]",   list.toString());
+    }
+    
+    @Test
+    public void testSystem_substitutedTime() throws InterruptedException {
+        val time  = new FakeTime();
+        val latch = new CountDownLatch(1);
+        val start = System.currentTimeMillis();
+        With(Env.refs.time.butWith(time))
+        .run(() -> {
+            Scheduler.schedule(60_000, latch::countDown);
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue((System.currentTimeMillis() - start) < 1000);
+        assertEquals(61_000, time.currentMilliSecond());
+    }
+    
+    @Test
+    public void testSystem_callerSubstitutions() throws InterruptedException {
+        val ref   = Ref.ofValue("Default");
+        val value = new AtomicReference<String>();
+        val latch = new CountDownLatch(1);
+        With(ref.butWith("Substituted"))
+        .run(() -> {
+            Scheduler.schedule(20, () -> {
+                value.set(ref.value());
+                latch.countDown();
+            });
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals("Substituted", value.get());
+    }
+    
+    @Test
+    public void testSystem() throws InterruptedException {
+        val latch = new CountDownLatch(2);
+        val start = System.currentTimeMillis();
+        Scheduler.schedule(50, latch::countDown);
+        Scheduler.schedule(20, latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue((System.currentTimeMillis() - start) >= 50);
+    }
+}
@@ -26,8 +26,15 @@ package functionalj.event;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
+import functionalj.promise.AsyncRunner;
 import lombok.val;
 
 public class PublishTest {
@@ -117,4 +124,225 @@ public class PublishTest {
         assertEquals("[3, 3]", logs.toString());
         assertEquals("[" + "Result:{ Value: 3 }, " + "Result:{ Value: 3 }, " + "Result:{ Value: 5 }, " + "Result:{ NoMoreResult }]", logResults.toString());
     }
+    
+    @Test
+    public void testRing_deliverInOrder() throws InterruptedException {
+        val logs = Collections.synchronizedList(new ArrayList<String>());
+        val lengths = Collections.synchronizedList(new ArrayList<Integer>());
+        val completed = new CountDownLatch(2);
+        val publisher = RingTopicSpec.newSpec().bufferSize(8).maxBatchSize(3).<String>newPublisher();
+        val topic = publisher.getTopic();
+        assertTrue(topic instanceof RingTopic);
+        topic.onNext(result -> {
+            logs.add(result.toString());
+            result.ifNoMore(completed::countDown);
+        });
+        topic.map(String::length).onNext(result -> {
+            result.ifPresent(lengths::add);
+            result.ifNoMore(completed::countDown);
+        });
+        for (int i = 0; i < 100; i++) {
+            publisher.publish("" + i);
+        }
+        publisher.done();
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(101, logs.size());
+        assertEquals("Result:{ Value: 0 }", logs.get(0));
+        assertEquals("Result:{ Value: 99 }", logs.get(99));
+        assertEquals("Result:{ NoMoreResult }", logs.get(100));
+        assertEquals(100, lengths.size());
+        assertEquals(10 + 2 * 90, lengths.stream().mapToInt(Integer::intValue).sum());
+        assertFalse(publisher.isActive());
+    }
+    
+    @Test
+    public void testRing_multiProducer() throws InterruptedException {
+        val counts = new int[4];
+        val isOrdered = new boolean[] { true };
+        val completed = new CountDownLatch(1);
+        val publisher = RingTopicSpec.newSpec().bufferSize(16).<int[]>newPublisher();
+        publisher.getTopic().onNext(result -> {
+            result.ifPresent(pair -> {
+                isOrdered[0] &= (counts[pair[0]]++ == pair[1]);
+            });
+            result.ifNoMore(completed::countDown);
+        });
+        val threads = new ArrayList<Thread>();
+        for (int p = 0; p < 4; p++) {
+            val producer = p;
+            val thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    publisher.publish(new int[] { producer, i });
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (val thread : threads) {
+            thread.join();
+        }
+        publisher.done();
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertTrue(isOrdered[0]);
+        assertEquals("[1000, 1000, 1000, 1000]", Arrays.toString(counts));
+    }
+    
+    @Test
+    public void testRing_dropOldest() throws InterruptedException {
+        val logs = Collections.synchronizedList(new ArrayList<Integer>());
+        val entered = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val completed = new CountDownLatch(1);
+        val publisher = RingTopicSpec.newSpec().bufferSize(4).dropOldest().<Integer>newPublisher();
+        publisher.getTopic().onNext(result -> {
+            result.ifPresent(value -> {
+                logs.add(value);
+                entered.countDown();
+                awaitLatch(release);
+            });
+            result.ifNoMore(completed::countDown);
+        });
+        publisher.publish(0);
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < 20; i++) {
+            publisher.publish(i);
+        }
+        release.countDown();
+        publisher.done();
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(0, logs.get(0).intValue());
+        assertEquals(19, logs.get(logs.size() - 1).intValue());
+        assertTrue(logs.size() <= 5);
+        for (int i = 1; i < logs.size(); i++) {
+            assertTrue(logs.get(i - 1) < logs.get(i));
+        }
+    }
+    
+    @Test
+    public void testRing_failWhenFull() throws InterruptedException {
+        val logs = Collections.synchronizedList(new ArrayList<Integer>());
+        val entered = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val completed = new CountDownLatch(1);
+        val publisher = RingTopicSpec.newSpec().bufferSize(2).failWhenFull().<Integer>newPublisher();
+        publisher.getTopic().onNext(result -> {
+            result.ifPresent(value -> {
+                logs.add(value);
+                entered.countDown();
+                awaitLatch(release);
+            });
+            result.ifNoMore(completed::countDown);
+        });
+        publisher.publish(0);
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        publisher.publish(1);
+        try {
+            publisher.publish(2);
+            fail();
+        } catch (IllegalStateException exception) {
+        }
+        release.countDown();
+        publisher.done();
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals("[0, 1]", logs.toString());
+    }
+    
+    @Test
+    public void testRing_unsubscribe() throws InterruptedException {
+        val logs = Collections.synchronizedList(new ArrayList<String>());
+        val received = new CountDownLatch(2);
+        val publisher = RingTopicSpec.newSpec().<String>newPublisher();
+        val subscription = publisher.getTopic().onNext(result -> {
+            logs.add(result.toString());
+            received.countDown();
+        });
+        publisher.publish("One");
+        publisher.publish("Two");
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        subscription.unsubcribe();
+        publisher.publish("Three");
+        assertFalse(subscription.isActive());
+        assertFalse(publisher.isActive());
+        assertEquals("[" + "Result:{ Value: One }, " + "Result:{ Value: Two }, " + "Result:{ NoMoreResult }" + "]", logs.toString());
+    }
+    
+    @Test
+    public void testRing_singleProducer_unsubscribeWhilePublishing() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            val logs = Collections.synchronizedList(new ArrayList<Integer>());
+            val received = new CountDownLatch(10);
+            val publisher = RingTopicSpec.newSpec().bufferSize(8).singleProducer().<Integer>newPublisher();
+            val subscription = publisher.getTopic().onNext(result -> {
+                result.ifPresent(logs::add);
+                received.countDown();
+            });
+            val thread = new Thread(() -> {
+                for (int i = 0; publisher.isActive(); i++) {
+                    publisher.publish(i);
+                }
+            });
+            thread.start();
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            // Completes the topic on this thread while the single publisher is still publishing.
+            subscription.unsubcribe();
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+            assertFalse(publisher.isActive());
+            synchronized (logs) {
+                for (int i = 0; i < logs.size(); i++) {
+                    assertEquals(i, logs.get(i).intValue());
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testRing_sharedRunner() throws InterruptedException {
+        // One thread is enough for many subscriptions as each only takes it for a batch.
+        val executor = Executors.newSingleThreadExecutor();
+        try {
+            val runner = AsyncRunner.of(executor::execute);
+            val spec = RingTopicSpec.newSpec().bufferSize(8).maxBatchSize(2).runner(runner);
+            val publishers = new ArrayList<Publisher<Integer>>();
+            val sums = new int[3];
+            val completed = new CountDownLatch(3 * 2);
+            for (int p = 0; p < 3; p++) {
+                val index = p;
+                val publisher = spec.<Integer>newPublisher();
+                for (int s = 0; s < 2; s++) {
+                    publisher.getTopic().onNext(result -> {
+                        result.ifPresent(value -> {
+                            synchronized (sums) {
+                                sums[index] += value;
+                            }
+                        });
+                        result.ifNoMore(completed::countDown);
+                    });
+                }
+                publishers.add(publisher);
+            }
+            for (int i = 1; i <= 100; i++) {
+                for (val publisher : publishers) {
+                    publisher.publish(i);
+                }
+            }
+            for (val publisher : publishers) {
+                publisher.done();
+            }
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+            synchronized (sums) {
+                assertEquals("[10100, 10100, 10100]", Arrays.toString(sums));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
 }
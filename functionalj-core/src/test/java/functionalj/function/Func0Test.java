@@ -28,6 +28,9 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -83,6 +86,62 @@ public class Func0Test {
         assertEquals("java.io.IOException", String.valueOf(exception));
     }
     
+    @Test
+    public void testMemoize_concurrent() throws Exception {
+        val counter  = new AtomicInteger();
+        val memoized = ((Func0<Integer>) () -> {
+            Thread.sleep(50);
+            return counter.incrementAndGet();
+        }).memoize();
+        
+        val results = new ConcurrentLinkedQueue<Integer>();
+        val threads = new ArrayList<Thread>();
+        for (int i = 0; i < 10; i++) {
+            val thread = new Thread(() -> results.add(memoized.get()));
+            threads.add(thread);
+            thread.start();
+        }
+        for (val thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, counter.get());
+        assertEquals("[1, 1, 1, 1, 1, 1, 1, 1, 1, 1]", results.toString());
+        assertEquals(1, memoized.get().intValue());
+    }
+    
+    @Test
+    public void testMemoize_exception() throws Exception {
+        val counter  = new AtomicInteger();
+        val memoized = ((Func0<Integer>) () -> {
+            counter.incrementAndGet();
+            throw new IOException("Not found!");
+        }).memoize();
+        
+        val exception1 = assertThrows(IOException.class, () -> memoized.getUnsafe());
+        val exception2 = assertThrows(IOException.class, () -> memoized.getUnsafe());
+        assertTrue(exception1 == exception2);
+        assertTrue(memoized.getSafely().isException());
+        assertEquals(1, counter.get());
+    }
+    
+    @Test
+    public void testMemoize_nullAndError() throws Exception {
+        val nullValue = ((Func0<String>) () -> null).memoize();
+        assertEquals(null, nullValue.get());
+        assertEquals("Once[null]", nullValue.toString());
+        
+        // An error is not kept so the next call computes again.
+        val counter = new AtomicInteger();
+        val memoized = ((Func0<Integer>) () -> {
+            if (counter.incrementAndGet() == 1)
+                throw new AssertionError("First!");
+            return counter.get();
+        }).memoize();
+        assertThrows(AssertionError.class, () -> memoized.get());
+        assertEquals(2, memoized.get().intValue());
+        assertEquals(2, memoized.get().intValue());
+    }
+    
     private Integer valueFrom(Supplier<Integer> supplier) throws Exception {
         return Func0.from(supplier).getUnsafe();
     }
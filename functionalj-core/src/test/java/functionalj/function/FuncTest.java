@@ -25,13 +25,18 @@ package functionalj.function;
 
 import static functionalj.function.Apply.$;
 import static functionalj.function.Func.f;
+import static functionalj.ref.Run.With;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.io.FileNotFoundException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Test;
 
+import functionalj.environments.Env;
+import functionalj.environments.Time;
 import functionalj.exception.FunctionInvocationException;
 import functionalj.promise.Promise;
 import functionalj.ref.Ref;
@@ -157,4 +162,22 @@ public class FuncTest {
         assertEquals(57, $($(func, ref, f0)).intValue());
     }
     
+    @Test
+    public void testCacheFor_expire() {
+        val now     = new AtomicLong(1000);
+        val time    = new Time.Instance() {
+            public long currentMilliSecond() { return now.get(); }
+            public void sleep(long millisecond) { now.addAndGet(millisecond); }
+        };
+        val counter = new AtomicInteger();
+        val cached  = Func.cacheFor(100, (String str) -> str + counter.incrementAndGet());
+        With(Env.refs.time.butWith(time)).run(() -> {
+            assertEquals("A1", cached.apply("A"));
+            now.addAndGet(50);
+            assertEquals("A1", cached.apply("A"));
+            now.addAndGet(50);
+            assertEquals("A2", cached.apply("A"));
+        });
+    }
+    
 }
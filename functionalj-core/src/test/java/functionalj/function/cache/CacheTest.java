@@ -0,0 +1,323 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.function.cache;
+
+import static functionalj.ref.Run.With;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import functionalj.environments.Env;
+import functionalj.environments.Time;
+import functionalj.function.Func;
+import functionalj.function.Func1;
+import lombok.val;
+
+public class CacheTest {
+    
+    private static class FakeTime implements Time.Instance {
+        private final AtomicLong now = new AtomicLong(1000);
+        @Override
+        public long currentMilliSecond() {
+            return now.get();
+        }
+        @Override
+        public void sleep(long millisecond) {
+            now.addAndGet(millisecond);
+        }
+    }
+    
+    @Test
+    public void testLoadOnce() {
+        val counter = new AtomicInteger();
+        val cache   = CacheSpec.newSpec().<String, Integer>build(str -> counter.incrementAndGet() * 100 + str.length());
+        assertEquals(103, cache.get("One").intValue());
+        assertEquals(103, cache.get("One").intValue());
+        assertEquals(205, cache.get("Three").intValue());
+        assertEquals(103, cache.apply("One").intValue());
+        assertEquals(2,   counter.get());
+    }
+    
+    @Test
+    public void testRecursiveLoad() {
+        // The loads of other keys happen outside of the map's locks so recursion is fine.
+        Func1<Integer, Long> fibonacci = Func.recusive((Func1<Integer, Long> self, Integer n) -> (n <= 1) ? (long) n : self.apply(n - 1) + self.apply(n - 2));
+        assertEquals(12586269025L, fibonacci.apply(50).longValue());
+    }
+    
+    @Test
+    public void testNullAndException_notCached() {
+        val counter = new AtomicInteger();
+        val cache   = CacheSpec.newSpec().withStats().<String, String>build(str -> {
+            counter.incrementAndGet();
+            if (str.isEmpty())
+                throw new IllegalArgumentException("Empty!");
+            return str.equals("null") ? null : str.toUpperCase();
+        });
+        assertNull(cache.get("null"));
+        assertNull(cache.get("null"));
+        try {
+            cache.get("");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Empty!", e.getMessage());
+        }
+        assertEquals("TEXT", cache.get("text"));
+        assertEquals(4, counter.get());
+        assertEquals(1, cache.estimatedSize());
+        assertEquals(3, cache.stats().loadFailureCount());
+        assertEquals(1, cache.stats().loadSuccessCount());
+    }
+    
+    @Test
+    public void testConcurrentLoad_once() throws InterruptedException {
+        val counter = new AtomicInteger();
+        val cache   = CacheSpec.newSpec().<String, String>build(str -> {
+            counter.incrementAndGet();
+            Time.sleep(50);
+            return str + "!";
+        });
+        val start   = new CountDownLatch(1);
+        val results = new ArrayList<String>();
+        val threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            val thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                val value = cache.get("Key");
+                synchronized (results) {
+                    results.add(value);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (val thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, counter.get());
+        assertEquals("[Key!, Key!, Key!, Key!, Key!, Key!, Key!, Key!]", results.toString());
+    }
+    
+    @Test
+    public void testConcurrentLoad_keysDependOnEachOther() throws InterruptedException {
+        // Each load waits for the other so they can only fail -- but they must not deadlock.
+        val inLoad = new CountDownLatch(2);
+        val cache  = CacheSpec.newSpec().<String, String>build();
+        val loader = new Func1<String, String>() {
+            @Override
+            public String applyUnsafe(String key) throws Exception {
+                inLoad.countDown();
+                inLoad.await(10, TimeUnit.SECONDS);
+                return key + cache.get(key.equals("A") ? "B" : "A", this);
+            }
+        };
+        val failures = new ArrayList<Throwable>();
+        val threads  = new ArrayList<Thread>();
+        for (val key : new String[] { "A", "B" }) {
+            val thread = new Thread(() -> {
+                try {
+                    cache.get(key, loader);
+                } catch (Throwable throwable) {
+                    synchronized (failures) {
+                        failures.add(throwable);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (val thread : threads) {
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+        }
+        assertEquals(2, failures.size());
+        for (val failure : failures) {
+            assertTrue(failure instanceof IllegalStateException);
+        }
+        assertEquals(0, cache.estimatedSize());
+        
+        // The keys can be loaded again once the loads no longer wait for each other.
+        assertEquals("AB", cache.get("A", key -> key + cache.get("B", other -> other)));
+    }
+    
+    @Test
+    public void testMaximumSize_lru() {
+        val cache = CacheSpec.newSpec().maximumSize(3).lru().withStats().<Integer, String>build(String::valueOf);
+        cache.get(1);
+        cache.get(2);
+        cache.get(3);
+        cache.get(1);
+        cache.get(4);
+        cache.cleanUp();
+        assertEquals(3, cache.estimatedSize());
+        assertNull(cache.getIfPresent(2));
+        assertEquals("1", cache.getIfPresent(1));
+        assertEquals("3", cache.getIfPresent(3));
+        assertEquals("4", cache.getIfPresent(4));
+        assertEquals(1, cache.stats().evictionCount());
+    }
+    
+    @Test
+    public void testMaximumSize_tinyLfu_resistScan() {
+        val tinyLfu = CacheSpec.newSpec().maximumSize(100).<Integer, String>build(String::valueOf);
+        val lru     = CacheSpec.newSpec().maximumSize(100).lru().<Integer, String>build(String::valueOf);
+        assertEquals(50, hotKeysAfterScan(tinyLfu));
+        assertEquals(0,  hotKeysAfterScan(lru));
+    }
+    
+    private static int hotKeysAfterScan(Cache<Integer, String> cache) {
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 50; key++) {
+                cache.get(key);
+            }
+        }
+        for (int key = 1000; key < 2000; key++) {
+            cache.get(key);
+        }
+        cache.cleanUp();
+        assertTrue(cache.estimatedSize() <= 100);
+        
+        int hotCount = 0;
+        for (int key = 0; key < 50; key++) {
+            hotCount += (cache.getIfPresent(key) != null) ? 1 : 0;
+        }
+        return hotCount;
+    }
+    
+    @Test
+    public void testExpireAfterWrite() {
+        val time    = new FakeTime();
+        val counter = new AtomicInteger();
+        val cache   = CacheSpec.newSpec().expireAfterWrite(100).<String, Integer>build(str -> counter.incrementAndGet());
+        With(Env.refs.time.butWith(time)).run(() -> {
+            assertEquals(1, cache.get("Key").intValue());
+            time.sleep(60);
+            assertEquals(1, cache.get("Key").intValue());
+            time.sleep(60);
+            assertEquals(2, cache.get("Key").intValue());
+            time.sleep(200);
+            cache.cleanUp();
+            assertEquals(0, cache.estimatedSize());
+        });
+    }
+    
+    @Test
+    public void testExpireAfterAccess() {
+        val time    = new FakeTime();
+        val counter = new AtomicInteger();
+        val cache   = CacheSpec.newSpec().expireAfterAccess(100).<String, Integer>build(str -> counter.incrementAndGet());
+        With(Env.refs.time.butWith(time)).run(() -> {
+            assertEquals(1, cache.get("Key").intValue());
+            time.sleep(60);
+            assertEquals(1, cache.get("Key").intValue());
+            time.sleep(60);
+            assertEquals(1, cache.get("Key").intValue());
+            time.sleep(120);
+            assertNull(cache.getIfPresent("Key"));
+            assertEquals(2, cache.get("Key").intValue());
+        });
+    }
+    
+    @Test
+    public void testWeakValues() {
+        val cache = CacheSpec.newSpec().weakValues().<String, String>build();
+        val value = new String("Value");
+        cache.put("Key", value);
+        assertTrue(cache.getIfPresent("Key") == value);
+        cache.invalidate("Key");
+        assertNull(cache.getIfPresent("Key"));
+    }
+    
+    @Test
+    public void testStats() {
+        val cache = CacheSpec.newSpec().maximumSize(2).withStats().<String, Integer>build(String::length);
+        cache.get("One");
+        cache.get("One");
+        cache.get("Two");
+        cache.get("Three");
+        cache.get("Four");
+        cache.cleanUp();
+        val stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(4, stats.missCount());
+        assertEquals(4, stats.loadSuccessCount());
+        assertEquals(0, stats.loadFailureCount());
+        assertEquals(2, stats.evictionCount());
+        assertEquals(0.2, stats.hitRate(), 0.0001);
+        assertTrue(stats.totalLoadTime() > 0);
+        
+        assertEquals(CacheStats.empty(), CacheSpec.newSpec().build().stats());
+    }
+    
+    @Test
+    public void testGetAsync() {
+        val counter = new AtomicInteger();
+        val cache   = CacheSpec.newSpec().<String, String>build(str -> {
+            counter.incrementAndGet();
+            Time.sleep(50);
+            return str + "!";
+        });
+        val promise1 = cache.getAsync("Key");
+        val promise2 = cache.getAsync("Key");
+        assertEquals("Key!", promise1.getResult().get());
+        assertEquals("Key!", promise2.getResult().get());
+        assertEquals("Key!", cache.getAsync("Key").getResult().get());
+        assertEquals(1, counter.get());
+    }
+    
+    @Test
+    public void testMemoize() {
+        val counter  = new AtomicInteger();
+        val function = Func.f((Integer i) -> counter.incrementAndGet());
+        val memoized = function.memoize(CacheSpec.newSpec().maximumSize(10));
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                memoized.apply(i);
+            }
+        }
+        assertEquals(10, counter.get());
+        
+        val list = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            list.add(memoized.apply(i));
+        }
+        assertTrue(((Cache<?, ?>) memoized).estimatedSize() <= 10);
+        assertEquals(100, list.size());
+    }
+}
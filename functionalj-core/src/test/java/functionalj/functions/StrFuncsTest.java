@@ -33,6 +33,8 @@ import static functionalj.functions.StrFuncs.template;
 import static functionalj.list.FuncList.listOf;
 import static functionalj.stream.StreamPlus.streamOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -111,4 +113,29 @@ public class StrFuncsTest {
         assertEquals("--hello--there-$${SS}-", template("--${Hello}--${There}-$$${SS}-", str -> str.toLowerCase()));
         assertEquals("--hello--there-${0S}-", template("--${Hello}--${There}-${0S}-", str -> str.toLowerCase()));
     }
+    
+    @Test
+    public void testRegex_cached() {
+        val before = StrFuncs.regexCacheStats();
+        assertSame(regex("[0-9]+-cached"), regex("[0-9]+-cached"));
+        assertSame(regex("[0-9]+-cached"), regex("[0-9]+-cached", -1));
+        assertTrue(regex("[0-9]+-cached") != regex("[0-9]+-cached", new RegExFlag().caseInsensitive()));
+        
+        val stats = StrFuncs.regexCacheStats().minus(before);
+        assertTrue(stats.hitCount()  >= 2);
+        assertTrue(stats.missCount() >= 1);
+    }
+    
+    @Test
+    public void testTemplate_precompiled() {
+        val template = template("--${Hello}--${There}-$${SS}-${Hello}");
+        assertEquals("[Hello, There, Hello]", template.names().toString());
+        assertEquals("--hello--there-${SS}-hello", template.render(str -> str.toLowerCase()));
+        
+        val builder = new StringBuilder();
+        template.renderTo(builder, str -> str.length());
+        builder.append("|");
+        template.renderTo(builder, str -> "$" + str);
+        assertEquals("--5--5-${SS}-5|--$Hello--$There-${SS}-$Hello", builder.toString());
+    }
 }
@@ -0,0 +1,140 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.lens;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import functionalj.lens.core.LensPath;
+import functionalj.lens.core.LensSpec;
+import functionalj.lens.core.LensUtils;
+import functionalj.lens.core.WriteLens;
+import lombok.val;
+
+public class LensPathTest {
+    
+    private static final AtomicInteger readCount = new AtomicInteger();
+    
+    public static class Node {
+        
+        private final String name;
+        
+        private final Node child;
+        
+        public Node(String name, Node child) {
+            this.name = name;
+            this.child = child;
+        }
+        
+        public String name() {
+            return name;
+        }
+        
+        public Node child() {
+            readCount.incrementAndGet();
+            return child;
+        }
+        
+        public Node withName(String name) {
+            return new Node(name, child);
+        }
+        
+        public Node withChild(Node child) {
+            return new Node(name, child);
+        }
+        
+        @Override
+        public String toString() {
+            return name + ((child == null) ? "" : ("/" + child));
+        }
+    }
+    
+    private static LensSpec<Node, Node> child(LensSpec<Node, Node> spec) {
+        return spec.then(LensSpec.of(Node::child, Node::withChild, spec.isNullSafe()));
+    }
+    
+    private static LensSpec<Node, String> name(LensSpec<Node, Node> spec) {
+        return spec.then(LensSpec.of(Node::name, Node::withName, spec.isNullSafe()));
+    }
+    
+    private static final LensSpec<Node, String> deepName = name(child(child(child(LensSpec.of(Node.class)))));
+    
+    private static Node nodes(String... names) {
+        Node node = null;
+        for (int i = names.length - 1; i >= 0; i--) {
+            node = new Node(names[i], node);
+        }
+        return node;
+    }
+    
+    @Test
+    public void testRead() {
+        val node = nodes("a", "b", "c", "d");
+        readCount.set(0);
+        assertEquals("d", deepName.apply(node));
+        assertEquals(3, readCount.get());
+    }
+    
+    @Test
+    public void testWrite_readEachLevelOnce() {
+        val node = nodes("a", "b", "c", "d");
+        readCount.set(0);
+        assertEquals("a/b/c/D", deepName.getWrite().apply(node, "D").toString());
+        assertEquals(3, readCount.get());
+    }
+    
+    @Test
+    public void testNullSafe() {
+        val node = nodes("a", "b");
+        assertNull(deepName.apply(node));
+        assertSame(node, deepName.getWrite().apply(node, "D"));
+    }
+    
+    @Test(expected = NullPointerException.class)
+    public void testNullUnsafe() {
+        val nullUnsafe = name(child(child(child(LensSpec.of(Node.class).toNullUnsafe()))));
+        nullUnsafe.apply(nodes("a", "b"));
+    }
+    
+    @Test
+    public void testSeparateReadAndWrite() {
+        // The read and write created separately (like the list lenses do) are still extended as one path.
+        val spec = child(child(LensSpec.of(Node.class)));
+        val read = LensUtils.createSubRead(spec.getRead(), Node::child, spec.getIsNullSafe());
+        val write = LensUtils.createSubWrite(spec.getRead(), spec.getWrite(), (WriteLens<Node, Node>) Node::withChild, spec.getIsNullSafe());
+        val deep = name(new LensSpec<>(read, write, spec.getIsNullSafe()));
+        assertEquals("d", deep.apply(nodes("a", "b", "c", "d")));
+        assertEquals("a/b/c/D", deep.getWrite().apply(nodes("a", "b", "c", "d"), "D").toString());
+        assertEquals(5, LensPath.of(deep.getRead(), deep.getWrite()).length());
+    }
+    
+    @Test
+    public void testFlat() {
+        assertTrue(deepName.getRead() == LensPath.of(deepName.getRead(), deepName.getWrite()).reader());
+        assertEquals(5, LensPath.of(deepName.getRead(), deepName.getWrite()).length());
+    }
+}
@@ -0,0 +1,179 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.lens;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import functionalj.lens.core.LensSpec;
+import functionalj.lens.core.TransientBuilder;
+import functionalj.lens.core.TransientSource;
+import functionalj.lens.lenses.IntegerLens;
+import functionalj.lens.lenses.ObjectLensImpl;
+import functionalj.lens.lenses.StringLens;
+import lombok.val;
+
+public class LensUpdateTest {
+    
+    private static final AtomicInteger buildCount = new AtomicInteger();
+    
+    public static class Node implements TransientSource<Node> {
+        
+        private final String name;
+        
+        private final int count;
+        
+        private final Node child;
+        
+        public Node(String name, int count, Node child) {
+            this.name = name;
+            this.count = count;
+            this.child = child;
+            buildCount.incrementAndGet();
+        }
+        
+        public String name() {
+            return name;
+        }
+        
+        public int count() {
+            return count;
+        }
+        
+        public Node child() {
+            return child;
+        }
+        
+        public Node withName(String name) {
+            return new Node(name, count, child);
+        }
+        
+        public Node withCount(int count) {
+            return new Node(name, count, child);
+        }
+        
+        public Node withChild(Node child) {
+            return new Node(name, count, child);
+        }
+        
+        @Override
+        public TransientBuilder<Node> __transientBuilder() {
+            val fields = new Object[] { name, count, child };
+            return new TransientBuilder<Node>() {
+                
+                @Override
+                public boolean set(String name, Object value) {
+                    switch (name) {
+                        case "name":  fields[0] = value; return true;
+                        case "count": fields[1] = value; return true;
+                        case "child": fields[2] = value; return true;
+                        default: return false;
+                    }
+                }
+                
+                @Override
+                public Node seal() {
+                    return new Node((String) fields[0], (Integer) fields[1], (Node) fields[2]);
+                }
+            };
+        }
+        
+        @Override
+        public String toString() {
+            return name + ":" + count + ((child == null) ? "" : ("/" + child));
+        }
+    }
+    
+    public static class NodeLens<HOST> extends ObjectLensImpl<HOST, Node> {
+        
+        public final StringLens<HOST> name = createSubLens("name", Node::name, Node::withName, StringLens::of);
+        
+        public final IntegerLens<HOST> count = createSubLensInt("count", Node::count, Node::withCount);
+        
+        public NodeLens(String name, LensSpec<HOST, Node> spec) {
+            super(name, spec);
+        }
+        
+        public NodeLens<HOST> child() {
+            return createSubLens("child", Node::child, Node::withChild, NodeLens::new);
+        }
+    }
+    
+    private static final NodeLens<Node> theNode = new NodeLens<>("theNode", LensSpec.of(Node.class));
+    
+    @Test
+    public void testUpdate_rebuildEachNodeOnce() {
+        val node  = new Node("a", 1, new Node("b", 2, new Node("c", 3, null)));
+        val child = theNode.child();
+        buildCount.set(0);
+        val updated = Lens.update(node)
+                .set(theNode.name, "A")
+                .change(child.count, count -> count * 10)
+                .set(child.name, "B")
+                .change(theNode.count, count -> count + 1)
+                .apply();
+        assertEquals("A:2/B:20/c:3", updated.toString());
+        assertEquals(2, buildCount.get());
+    }
+    
+    @Test
+    public void testUpdate_singleField() {
+        val node  = new Node("a", 1, new Node("b", 2, null));
+        val child = theNode.child();
+        buildCount.set(0);
+        assertEquals("a:1/B:2", Lens.update(node).set(child.name, "B").apply().toString());
+        assertEquals(2, buildCount.get());
+        
+        // The name is set to the same string so only the count changes (once).
+        buildCount.set(0);
+        assertEquals("a:1/b:3", Lens.update(node).set(child.name, "b").change(child.count, count -> count + 1).apply().toString());
+        assertEquals(2, buildCount.get());
+    }
+    
+    @Test
+    public void testUpdate_nullSafe() {
+        val node  = new Node("a", 1, null);
+        val child = theNode.child();
+        assertSame(node, Lens.update(node).set(child.name, "B").apply());
+    }
+    
+    @Test
+    public void testUpdate_sameShape() {
+        // The tree of the same lenses is reused -- only the values and the mappers differ.
+        val node = new Node("a", 1, new Node("b", 2, null));
+        for (int i = 0; i < 3; i++) {
+            val count   = i;
+            val updated = Lens.update(node)
+                    .set(theNode.name, "A" + i)
+                    .set(theNode.child().name, "B" + i)
+                    .change(theNode.child().count, c -> c + count)
+                    .apply();
+            assertEquals("A" + i + ":1/B" + i + ":" + (2 + i), updated.toString());
+        }
+        // The same lenses with a change in place of a set is another shape.
+        assertEquals("aa:1/B:2", Lens.update(node).change(theNode.name, name -> name + name).set(theNode.child().name, "B").apply().toString());
+        assertEquals("A:1/B:2",  Lens.update(node).set(theNode.name, "A").set(theNode.child().name, "B").apply().toString());
+    }
+}
@@ -27,6 +27,7 @@ import static functionalj.lens.LensTest.Car.theCar;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.List;
@@ -101,4 +102,18 @@ public class ListLensTest {
         val listLens = ListLens.of(WithCars::cars, WithCars::withCars, Car.CarLens::new);
         assertEquals("WithCars [cars=[Car(color=Red), Car(color=Green)]]", listLens.changeTo(theCar.color.thatIs("Blue"), theCar.color.changeTo("Red")).apply(withTwoCars).toString());
     }
+    
+    @Test
+    public void testListLensChangeTo_noChange() {
+        val withCars = new WithCars(asList(new Car("Blue"), new Car("Green"), new Car("Blue")));
+        val listLens = ListLens.of(WithCars::cars, WithCars::withCars, Car.CarLens::new);
+        assertSame(withCars, listLens.changeTo(theCar.color.thatIs("Blue"), car -> car).apply(withCars));
+        assertSame(withCars, listLens.first().changeTo(withCars.cars().get(0)).apply(withCars));
+        assertSame(withCars, listLens.last().changeTo(car -> car).apply(withCars));
+        
+        val changed = listLens.changeTo(theCar.color.thatIs("Green"), theCar.color.changeTo("Red")).apply(withCars);
+        assertEquals("WithCars [cars=[Car(color=Blue), Car(color=Red), Car(color=Blue)]]", changed.toString());
+        assertSame(withCars.cars().get(0), changed.cars().get(0));
+        assertSame(withCars.cars().get(2), changed.cars().get(2));
+    }
 }
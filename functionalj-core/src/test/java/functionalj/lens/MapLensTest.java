@@ -25,6 +25,7 @@ package functionalj.lens;
 
 import static functionalj.lens.Access.theString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -46,4 +47,16 @@ public class MapLensTest {
         assertEquals("{name1=5, name2=42}", mapLens.get("name1").changeTo("5").apply(map) + "");
         assertEquals("{name1=2, name2=24}", mapLens.changeEach(theString.thatEndsWith("2"), __ -> "24").apply(map) + "");
     }
+    
+    @Test
+    public void testMapLens_noChange() {
+        val mapLens = MapLens.<Map<String, String>, String, String, StringLens<Map<String, String>>, StringLens<Map<String, String>>>of(map -> map, (map, newMap) -> newMap, spec -> () -> spec, spec -> () -> spec);
+        val map = new LinkedHashMap<String, String>();
+        map.put("name1", "2");
+        map.put("name2", "42");
+        assertSame(map, mapLens.get("name1").changeTo(map.get("name1")).apply(map));
+        assertSame(map, mapLens.changeEach(theString.thatEndsWith("2"), value -> value).apply(map));
+        assertEquals("{name1=2, name2=24}", mapLens.changeEach((key, value) -> key.equals("name2"), __ -> "24").apply(map) + "");
+        assertEquals("{name1=3, name2=42}", mapLens.changeEach((key, value) -> true, value -> value.equals("2") ? "3" : value).apply(map) + "");
+    }
 }
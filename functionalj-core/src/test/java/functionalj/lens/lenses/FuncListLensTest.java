@@ -26,6 +26,7 @@ package functionalj.lens.lenses;
 import static functionalj.function.Func.f;
 import static functionalj.lens.Access.theString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 import functionalj.lens.core.LensSpec;
 import functionalj.lens.core.WriteLens;
@@ -61,4 +62,14 @@ public class FuncListLensTest {
         val addTail = listLens.eachOf(theString.length().thatLessThan(4)).changeTo(str -> (str + "~~~~").substring(0, 4));
         assertEquals("[Zero, One~, Two~, Three, Four]", addTail.apply(list).toString());
     }
+    
+    @Test
+    public void testNoChange() {
+        val list = FuncList.of("Zero", "One", "Two", "Three", "Four");
+        assertSame(list, listLens.at(3).changeTo(list.get(3)).apply(list));
+        assertSame(list, listLens.first().changeTo(str -> str).apply(list));
+        assertSame(list, listLens.last().changeTo(list.get(4)).apply(list));
+        assertSame(list, listLens.each().changeTo(str -> str).apply(list));
+        assertSame(list, listLens.eachOf(theString.length().thatLessThan(4)).changeTo(str -> str).apply(list));
+    }
 }
@@ -24,6 +24,11 @@
 package functionalj.list;
 
 import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 import lombok.val;
 
@@ -50,6 +55,30 @@ public class ImmutableFuncListTest {
         assertEquals("[One, Two, Three, Four.point.two, B]", listTwoB.toString());
     }
     
+    @Test
+    public void testWith_sameValue() {
+        val orgList = ImmutableFuncList.of("One", "Two", "Three");
+        assertSame(orgList, orgList.with(1, orgList.get(1)));
+        assertSame(orgList, orgList.with(1, (String value) -> value));
+        assertSame(orgList, orgList.with(1, (int index, String value) -> value));
+        assertEquals("[One, 2, Three]", orgList.with(1, "2").toString());
+    }
+    
+    @Test
+    public void testWith_mapperRunsOnce() {
+        val orgList = ImmutableFuncList.of("One", "Two", "Three");
+        val counter = new AtomicInteger(0);
+        val newList = orgList.with(1, (String value) -> counter.incrementAndGet() + value);
+        assertEquals("[One, 1Two, Three]", newList.toString());
+        assertEquals("[One, 1Two, Three]", newList.toString());
+        assertEquals(1, counter.get());
+        
+        val indexed = orgList.with(1, (int index, String value) -> index + value + counter.incrementAndGet());
+        assertEquals("[One, 1Two2, Three]", indexed.toString());
+        assertEquals("[One, 1Two2, Three]", indexed.toString());
+        assertEquals(2, counter.get());
+    }
+    
     @Test
     public void testAppend_fromEmpty() {
         val orgList = ImmutableFuncList.empty();
@@ -59,4 +88,54 @@ public class ImmutableFuncListTest {
         assertEquals("[Four.point.one-A, Four.point.one-B]", listOne.toString());
         assertEquals("[Four.point.two-A, Four.point.two-B, Four.point.two-C]", listTwo.toString());
     }
+    
+    @Test
+    public void testPersistentModification() {
+        val orgList = ImmutableFuncList.of("One", "Two", "Three");
+        assertEquals("[Zero, One, Two, Three]",        orgList.prepend("Zero").toString());
+        assertEquals("[One, 2, Three]",                orgList.with(1, "2").toString());
+        assertEquals("[One, TWO, Three]",              orgList.with(1, value -> value.toUpperCase()).toString());
+        assertEquals("[One, A, B, Two, Three]",        orgList.insertAt(1, "A", "B").toString());
+        assertEquals("[One, Three]",                   orgList.excludeAt(1).toString());
+        assertEquals("[One]",                          orgList.excludeFrom(1, 5).toString());
+        assertEquals("[Three]",                        orgList.excludeBetween(0, 2).toString());
+        assertEquals("[Two, Three]",                   orgList.subList(1, 10).toString());
+        assertEquals("[One, Two, Three, One, Two, Three]", FuncList.concat(orgList, orgList).toString());
+        assertEquals("[One, Two, Three]",              orgList.toString());
+        assertTrue(orgList.with(1, "2").excludeAt(0).prepend("0") instanceof ImmutableFuncList);
+    }
+    
+    @Test
+    public void testPersistentModification_longChain() {
+        FuncList<Integer> list     = ImmutableFuncList.empty();
+        val               expected = new ArrayList<Integer>();
+        val               random   = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            val index = random.nextInt(expected.size() + 1);
+            switch (i % 4) {
+                case 0: list = list.insertAt(index, i);    expected.add(index, i); break;
+                case 1: list = list.prepend(i);            expected.add(0, i);     break;
+                case 2: list = list.append(i);             expected.add(i);        break;
+                default:
+                    if (index < expected.size()) {
+                        list = list.with(index, -i);
+                        expected.set(index, -i);
+                    } else {
+                        list = list.excludeAt(0);
+                        expected.remove(0);
+                    }
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected, list.toJavaList());
+        
+        val sliced = list.subList(100, 5000).excludeBetween(10, 2000).appendAll(list.subList(0, 300));
+        val slicedExpected = new ArrayList<Integer>(expected.subList(100, 5000));
+        slicedExpected.subList(10, 2000).clear();
+        slicedExpected.addAll(expected.subList(0, 300));
+        assertEquals(slicedExpected, sliced.toJavaList());
+    }
 }
@@ -70,6 +70,7 @@ import org.junit.Test;
 
 import functionalj.function.FuncUnit1;
 import functionalj.function.FuncUnit2;
+import functionalj.function.IntComparator;
 import functionalj.function.aggregator.IntAggregation;
 import functionalj.function.aggregator.IntAggregationToInt;
 import functionalj.functions.TimeFuncs;
@@ -955,6 +956,21 @@ public class IntFuncListTest {
         });
     }
     
+    @Test
+    public void testMinMax_comparator() {
+        IntComparator byLastDigit = (a, b) -> Integer.compare(a % 10, b % 10);
+        run(IntFuncList.of(15, 2, 33, 4, 12, 35), list -> {
+            // The min is the first of the equals; the max is the first of the equals but the last one for minMax -- as when sorted.
+            assertAsString("OptionalInt[2]",   list.min(byLastDigit));
+            assertAsString("OptionalInt[15]",  list.max(byLastDigit));
+            assertAsString("Optional[(2,35)]", list.minMax(byLastDigit));
+        });
+        run(IntFuncList.empty(), list -> {
+            assertAsString("OptionalInt.empty", list.min(byLastDigit));
+            assertAsString("Optional.empty",    list.minMax(byLastDigit));
+        });
+    }
+    
     @Test
     public void testMinByMaxBy() {
         run(IntFuncList.of(One, Two, Three, Four), list -> {
@@ -1141,6 +1157,16 @@ public class IntFuncListTest {
         });
     }
     
+    @Test
+    public void testGroupingBy_parallel() {
+        val map = IntStreamPlus.range(0, 10000).parallel().groupingBy(i -> i % 10);
+        assertEquals(10, map.size());
+        for (int key = 0; key < 10; key++) {
+            val digit = key;
+            assertAsString(IntFuncList.loop(1000).map(i -> i * 10 + digit).toString(), map.get(key));
+        }
+    }
+    
     // 
     // @Test
     // public void testGroupingBy_collect() {
@@ -1279,6 +1305,16 @@ public class IntFuncListTest {
         });
     }
     
+    @Test
+    public void testSorted_comparator_stable() {
+        // Long enough to merge the sorted runs -- the equal values must keep their order as when sorting the boxed values.
+        IntComparator byLastDigit = (a, b) -> Integer.compare(a % 10, b % 10);
+        val values   = IntFuncList.loop(500).map(i -> (i * 37) % 500);
+        val expected = values.boxed().sorted(byLastDigit).mapToInt(i -> i);
+        assertAsString(expected.toString(), values.sorted(byLastDigit));
+        assertAsString(expected.toString(), IntStreamPlus.of(values.toArray()).parallel().sorted(byLastDigit).toListString());
+    }
+    
     @Test
     public void testBoxed() {
         run(IntFuncList.of(One, Two, Three), list -> {
@@ -2850,6 +2886,18 @@ public class IntFuncListTest {
         });
     }
     
+    @Test
+    public void testSegment_parallel() {
+        run(IntFuncList.wholeNumbers(1000), list -> {
+            assertEquals(list.segment(6).toList(), list.intStreamPlus().parallel().segment(6).toList());
+            assertEquals(list.segmentWhen(theInteger.thatIsDivisibleBy(7)).toList(), list.intStreamPlus().parallel().segmentWhen(theInteger.thatIsDivisibleBy(7)).toList());
+            assertEquals(list.segmentAfter(theInteger.thatIsDivisibleBy(7)).toList(), list.intStreamPlus().parallel().segmentAfter(theInteger.thatIsDivisibleBy(7)).toList());
+            assertEquals(list.segmentBetween(i -> i % 10 == 3, i -> i % 10 == 6).toList(), list.intStreamPlus().parallel().segmentBetween(i -> i % 10 == 3, i -> i % 10 == 6).toList());
+            assertEquals(list.mapTwo((a, b) -> a * 10 + b).toList(), list.intStreamPlus().parallel().mapTwo((a, b) -> a * 10 + b).toList());
+            assertEquals(list.mapGroup(3, ints -> ints.sum()).toList(), list.intStreamPlus().parallel().mapGroup(3, ints -> ints.sum()).toList());
+        });
+    }
+    
     @Test
     public void testSegment_sizeFunction() {
         run(IntFuncList.wholeNumbers(20), list -> {
@@ -3014,6 +3062,30 @@ public class IntFuncListTest {
         });
     }
     
+    @Test
+    public void testSplit_evaluateOnce() {
+        val testCount = new AtomicInteger();
+        IntPredicate isTwo   = i -> testCount.incrementAndGet() > 0 && i % 2 == 0;
+        IntPredicate isThree = i -> testCount.incrementAndGet() > 0 && i % 3 == 0;
+        val splitted = IntFuncList.wholeNumbers(20).split("Two", isTwo, "Three", isThree, "Other");
+        assertAsString("{" + "Other:[1, 5, 7, 11, 13, 17, 19], " + "Three:[3, 9, 15], " + "Two:[0, 2, 4, 6, 8, 10, 12, 14, 16, 18]" + "}", splitted.sorted().toString());
+        assertEquals(20 + 10, testCount.get());
+    }
+    
+    @Test
+    public void testSplitConcurrently() throws InterruptedException {
+        val splitted = IntFuncList.wholeNumbers(1000).intStreamPlus().splitConcurrently(2, "Three", i -> i % 3 == 0, "Other");
+        val threes   = new ArrayList<Integer>();
+        val thread   = new Thread(() -> splitted.get("Three").forEach(threes::add));
+        thread.start();
+        val others = splitted.get("Other").toImmutableList();
+        thread.join();
+        assertEquals(334, threes.size());
+        assertEquals(666, others.size());
+        assertAsString("[0, 3, 6, 9, 12]", IntFuncList.from(threes.stream().mapToInt(i -> i)).limit(5));
+        assertAsString("[1, 2, 4, 5, 7]",  others.limit(5));
+    }
+    
     @Test
     public void testFizzBuzz() {
         Function<IntFuncList, IntFuncList> listToList = s -> s.toImmutableList();
@@ -0,0 +1,112 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.list;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RrbVectorTest {
+    
+    @Test
+    public void testRandomEdits_matchReferenceList() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            RrbVector<Integer> vector = RrbVector.empty();
+            List<Integer> expected = new ArrayList<>();
+            int next = 0;
+            for (int step = 0; step < 400; step++) {
+                String message = "seed=" + seed + ", step=" + step;
+                int size = expected.size();
+                switch (random.nextInt(6)) {
+                    case 0: {
+                        List<Integer> more = new ArrayList<>();
+                        int count = random.nextInt(1200);
+                        for (int i = 0; i < count; i++) {
+                            more.add(next++);
+                        }
+                        RrbVector<Integer> other = RrbVector.fromArray(more.toArray());
+                        if (random.nextBoolean()) {
+                            vector = vector.concat(other);
+                            expected.addAll(more);
+                        } else {
+                            vector = other.concat(vector);
+                            expected.addAll(0, more);
+                        }
+                        break;
+                    }
+                    case 1: {
+                        if (size == 0)
+                            break;
+                        int from = random.nextInt(size);
+                        int to   = from + random.nextInt(size - from + 1);
+                        vector   = vector.slice(from, to);
+                        expected = new ArrayList<>(expected.subList(from, to));
+                        break;
+                    }
+                    case 2: {
+                        if (size == 0)
+                            break;
+                        int index = random.nextInt(size);
+                        vector = vector.with(index, -index);
+                        expected.set(index, -index);
+                        break;
+                    }
+                    case 3: {
+                        vector = vector.append(next);
+                        expected.add(next++);
+                        break;
+                    }
+                    case 4: {
+                        vector = vector.prepend(next);
+                        expected.add(0, next++);
+                        break;
+                    }
+                    default: {
+                        // Concat with itself to build up relaxed (unbalanced) nodes.
+                        if (size > 5000)
+                            break;
+                        vector = vector.concat(vector);
+                        expected.addAll(new ArrayList<>(expected));
+                        break;
+                    }
+                }
+                assertEquals(message, expected.size(), vector.size());
+                if (!expected.isEmpty()) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(message, expected.get(index), vector.get(index));
+                }
+            }
+            assertEquals("seed=" + seed, expected, new ArrayList<>(vector));
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals("seed=" + seed + ", index=" + i, expected.get(i), vector.get(i));
+            }
+        }
+    }
+    
+}
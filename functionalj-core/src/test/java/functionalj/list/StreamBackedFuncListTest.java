@@ -25,9 +25,13 @@ package functionalj.list;
 
 import static functionalj.stream.intstream.IntStreamPlus.infiniteInt;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
+import java.util.Spliterator;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import functionalj.stream.StreamPlus;
 import functionalj.stream.intstream.IntStreamPlus;
@@ -96,4 +100,47 @@ public class StreamBackedFuncListTest {
         }
         executor.shutdown();
     }
+    
+    @Test
+    public void testMaterializeOnce_concurrentAndParallel() throws InterruptedException {
+        val pulled   = new AtomicInteger();
+        val stream   = IntStreamPlus.range(0, 10000).boxed().peek(i -> pulled.incrementAndGet());
+        val list     = new StreamBackedFuncList<Integer>(stream);
+        val executor = Executors.newFixedThreadPool(8);
+        val threads  = 32;
+        val endLatch = new CountDownLatch(threads);
+        val errors   = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            val offset = t;
+            executor.submit(() -> {
+                for (int i = offset; i < 10000; i += threads) {
+                    if (list.get(i) != i)
+                        errors.incrementAndGet();
+                }
+                endLatch.countDown();
+            });
+        }
+        endLatch.await();
+        executor.shutdown();
+        assertEquals(0, errors.get());
+        assertEquals(10000, pulled.get());
+        assertEquals(10000, list.size());
+        assertEquals(49995000L, list.stream().parallel().mapToLong(Integer::longValue).sum());
+        assertEquals(10000, pulled.get());
+    }
+    
+    @Test
+    public void testSpliterator_characteristicsDoNotChange() {
+        val cache       = new FuncListCache<String>(StreamPlus.of("One", "Two", "Three").spliterator());
+        val spliterator = cache.spliterator();
+        val before      = spliterator.characteristics();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        spliterator.forEachRemaining(value -> {});
+        assertTrue(cache.isComplete());
+        assertEquals(before, spliterator.characteristics());
+        
+        // Created after the source completes -- sized from the start.
+        assertTrue(cache.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(3, cache.spliterator().estimateSize());
+    }
 }
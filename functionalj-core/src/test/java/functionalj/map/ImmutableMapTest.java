@@ -28,9 +28,12 @@ import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import org.junit.Test;
 import functionalj.list.FuncList;
 import lombok.val;
@@ -445,4 +448,44 @@ public class ImmutableMapTest {
         assertEquals("{3:Three, 2:Two, 1:One}", "" + orgMap.sortedByKey(reverseOrder()));
         assertEquals("{2:Du}", "" + newMap.sortedByKey(reverseOrder()));
     }
+    
+    @Test
+    public void testPersistentModification() {
+        val orgMap = ImmutableFuncMap.of("1", "One", "2", "Two", "3", "Three");
+        val newMap = orgMap.with("4", "Four").exclude("2").with("1", "Un");
+        assertEquals("{1:One, 2:Two, 3:Three}", orgMap.toString());
+        assertEquals("{1:Un, 3:Three, 4:Four}", newMap.toString());
+        assertTrue(newMap instanceof ImmutableFuncMap);
+        assertTrue(orgMap.with("1", "One") == orgMap);
+        assertTrue(orgMap.exclude("5") == orgMap);
+        assertEquals("{1:One, 3:Three}", orgMap.filter(key -> !"2".equals(key)).toString());
+        assertEquals("{2:Two}", orgMap.filter((key, value) -> value.startsWith("T") && !value.endsWith("e")).toString());
+        assertEquals("{1:One, 2:Two, 3:Three, 0:Zero}", orgMap.withAll(FuncMap.of("0", "Zero", "3", "Three")).toString());
+    }
+    
+    @Test
+    public void testPersistentModification_longChain() {
+        val random   = new Random(42);
+        val expected = new LinkedHashMap<Integer, Integer>();
+        FuncMap<Integer, Integer> map = ImmutableFuncMap.empty();
+        for (int i = 0; i < 10000; i++) {
+            int key   = random.nextInt(500);
+            int value = random.nextInt();
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.exclude(key);
+            } else {
+                expected.put(key, value);
+                map = map.with(key, value);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.keySet()), map.keys().toJavaList());
+        assertEquals(expected, map);
+        assertEquals(ImmutableFuncMap.from(expected).hashCode(), map.hashCode());
+        
+        val unordered = ImmutableFuncMap.fromUnordered(expected);
+        assertEquals(expected, unordered);
+        assertEquals(expected.get(7), unordered.get(7));
+    }
 }
@@ -0,0 +1,92 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.promise;
+
+import static functionalj.TestHelper.assertAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import functionalj.ref.ComputeBody;
+import functionalj.ref.Run;
+import lombok.val;
+
+public class AsyncRunnerTest {
+    
+    private static ComputeBody<String, RuntimeException> body(List<String> logs, RuntimeException prepareException) {
+        return new ComputeBody<String, RuntimeException>() {
+            
+            @Override
+            public void prepare() {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException exception) {
+                }
+                if (prepareException != null)
+                    throw prepareException;
+                logs.add("Prepare");
+            }
+            
+            @Override
+            public String compute() {
+                logs.add("Compute");
+                return "Hello";
+            }
+        };
+    }
+    
+    @Test
+    public void testRun_noWaitForPrepare() {
+        val tasks   = new ArrayList<Runnable>();
+        val logs    = Collections.synchronizedList(new ArrayList<String>());
+        val runner  = (AsyncRunner) tasks::add;
+        val promise = Run.with(AsyncRunner.awaitPrepare.butWith(false)).run(() -> AsyncRunner.run(runner, body(logs, null)));
+        assertEquals(1, tasks.size());
+        assertTrue(promise.isNotDone());
+        assertAsString("[]", logs);
+        
+        tasks.get(0).run();
+        assertAsString("Result:{ Value: Hello }", promise.getResult());
+        assertAsString("[Prepare, Compute]", logs);
+    }
+    
+    @Test
+    public void testRun_awaitPrepare() {
+        val logs    = Collections.synchronizedList(new ArrayList<String>());
+        val promise = AsyncRunner.run(AsyncRunner.onNewThread, body(logs, null));
+        assertTrue(logs.contains("Prepare"));
+        assertAsString("Result:{ Value: Hello }", promise.getResult());
+    }
+    
+    @Test
+    public void testRun_awaitPrepare_failed() {
+        val logs    = Collections.synchronizedList(new ArrayList<String>());
+        val failed  = new IllegalStateException("Not ready");
+        val promise = AsyncRunner.run(AsyncRunner.onNewThread, body(logs, failed));
+        assertAsString("Result:{ Exception: java.lang.IllegalStateException: Not ready }", promise.getResult());
+        assertAsString("[]", logs);
+    }
+}
@@ -30,8 +30,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
@@ -481,4 +484,79 @@ public class PromiseTest {
         assertAsString("1",  period);
     }
     
+    @Test
+    public void testSubscriptionOrder() {
+        val deferValue = DeferValue.deferString();
+        val list       = new ArrayList<String>();
+        deferValue.onCompleted(r -> list.add("1: " + r.get()));
+        deferValue.eavesdrop  (r -> list.add("e: " + r.get()));
+        deferValue.onCompleted(r -> list.add("2: " + r.get()));
+        deferValue.onCompleted(r -> list.add("3: " + r.get()));
+        deferValue.assign("Hello!");
+        deferValue.onCompleted(r -> list.add("4: " + r.get()));
+        // Eavesdroppers are notified first, then the subscribers in the order they subscribe.
+        assertAsString("[e: Hello!, 1: Hello!, 2: Hello!, 3: Hello!, 4: Hello!]", list);
+    }
+    
+    @Test
+    public void testConcurrentSubscribe_notifiedOnce() throws InterruptedException {
+        val deferValue = DeferValue.deferInt();
+        val counter    = new AtomicInteger();
+        val start      = new CountDownLatch(1);
+        val threads    = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            val thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    deferValue.onCompleted(r -> counter.addAndGet(r.get()));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        deferValue.assign(1);
+        for (val thread : threads) {
+            thread.join();
+        }
+        assertAsString("8000", counter);
+    }
+    
+    @Test
+    public void testUnsubscribe_releasesRemoved() throws InterruptedException {
+        val deferValue = DeferValue.deferString();
+        val list       = new ArrayList<String>();
+        deferValue.onCompleted(r -> list.add("1: " + r.get()));
+        
+        // Each removed record is below the top one so it has to be unlinked, not just popped.
+        val released = new ArrayList<WeakReference<Object>>();
+        for (int i = 0; i < 10; i++) {
+            subscribeThenUnsubscribe(deferValue, released);
+        }
+        deferValue.onCompleted(r -> list.add("2: " + r.get()));
+        
+        for (int i = 0; (i < 100) && released.stream().anyMatch(ref -> ref.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(released.stream().allMatch(ref -> ref.get() == null));
+        
+        deferValue.assign("Hello!");
+        assertAsString("[1: Hello!, 2: Hello!]", list);
+    }
+    
+    private static void subscribeThenUnsubscribe(DeferValue<String> deferValue, ArrayList<WeakReference<Object>> released) {
+        val payload = new Object();
+        val record  = deferValue.onCompleted(r -> payload.toString());
+        deferValue.onCompleted(r -> {}).unsubscribe();
+        deferValue.onCompleted(r -> {});
+        record.unsubscribe();
+        released.add(new WeakReference<>(payload));
+        released.add(new WeakReference<>(record));
+    }
+    
 }
@@ -4,6 +4,7 @@ import static functionalj.TestHelper.assertAsString;
 import static functionalj.function.Func.f;
 import static functionalj.functions.TimeFuncs.Sleep;
 import static functionalj.promise.DeferAction.race;
+import static functionalj.ref.Run.With;
 import static java.lang.Thread.sleep;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -16,6 +17,8 @@ import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import functionalj.environments.Env;
+import functionalj.environments.Time;
 import functionalj.function.FuncUnit1;
 import functionalj.functions.TimeFuncs;
 import functionalj.list.FuncList;
@@ -381,6 +384,38 @@ public class StructuredConcurrenctTest {
         assertTrue(diff2 >= 2);
     }
     
+    @Test
+    public void testRetry_waitTime_substitutedTime() {
+        val slept = new AtomicLong(0);
+        val time  = new Time.Instance() {
+            @Override
+            public long currentMilliSecond() {
+                return slept.get();
+            }
+            @Override
+            public void sleep(long millisecond) {
+                slept.addAndGet(millisecond);
+            }
+        };
+        val counter = new AtomicInteger(0);
+        val result  = With(Env.refs.time.butWith(time)).run(() -> {
+            return DeferActionBuilder.from(() -> {
+                counter.incrementAndGet();
+                return null;
+            })
+            .retry(5).times()
+            .waitFor(60_000L).milliseconds()
+            .build()
+            .start()
+            .getResult();
+        });
+        
+        // The back-off waits are on the substituted time -- so no real wait.
+        assertAsString("Result:{ Cancelled: Retry exceed: 5 }", result);
+        assertEquals(5,          counter.get());
+        assertEquals(4 * 60_000, slept.get());
+    }
+    
     @Test
     public void testRetry_cancel() throws InterruptedException {
     	val latch   = new CountDownLatch(1);
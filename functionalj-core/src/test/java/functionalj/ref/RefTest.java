@@ -28,11 +28,13 @@ import static functionalj.list.FuncList.listOf;
 import static functionalj.ref.Run.With;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import org.junit.Assume;
 import org.junit.Test;
 
 import functionalj.environments.Time;
@@ -373,4 +375,75 @@ public class RefTest {
                 "MyRef",
                 Ref.of("MyRef", String.class).defaultToNull().toString());
     }
+    
+    @Test
+    public void testNestedSubstitution() {
+        val ref1 = Ref.ofValue("One");
+        val ref2 = Ref.ofValue("Two");
+        val value = With(ref1.butWith("1")).run(() -> {
+            val inner = With(ref2.butWith("2"), ref1.butWith("I")).run(() -> ref1.value() + ref2.value() + Ref.getCurrentRefs().size());
+            return inner + ":" + ref1.value() + ref2.value() + Ref.getCurrentRefs().size();
+        });
+        assertEquals("I22:1Two1", value);
+        assertEquals("OneTwo", ref1.value() + ref2.value());
+    }
+    
+    @Test
+    public void testCaptureSubstitutions() throws InterruptedException {
+        val ref1  = Ref.ofValue("One");
+        val ref2  = Ref.ofValue("Two");
+        val with  = With(ref1.butWith("1")).and(ref2.butWith("2").withinThisThread()).run(() -> {
+            return Run.WithAllGlobalSubstitutions();
+        });
+        val value = new AtomicReference<String>();
+        val thread = new Thread(() -> {
+            value.set(with.run(() -> ref1.value() + ref2.value()));
+        });
+        thread.start();
+        thread.join();
+        assertEquals("1Two", value.get());
+    }
+    
+    @Test
+    public void testOrdinalReused() throws InterruptedException {
+        val inUse      = RefOrdinals.inUse();
+        int maxOrdinal = 0;
+        for (int i = 0; i < 100; i++) {
+            val ref = Ref.ofValue("One");
+            With(ref.butWith("1")).run(() -> ref.value());
+            maxOrdinal = Math.max(maxOrdinal, ref.ordinal());
+        }
+        for (int i = 0; (i < 100) && (RefOrdinals.inUse() > inUse); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(RefOrdinals.inUse() <= inUse);
+        
+        // The freed ordinals are given out again -- smallest first.
+        val ref = Ref.ofValue("Two");
+        With(ref.butWith("2")).run(() -> ref.value());
+        assertTrue(ref.ordinal() < maxOrdinal);
+    }
+    
+    @Test
+    public void testScopedValueContext() throws Throwable {
+        SubstitutionContext context;
+        try {
+            context = new SubstitutionContext.WithScopedValue();
+        } catch (Throwable exception) {
+            // ScopedValue is not available in this JVM.
+            context = null;
+        }
+        Assume.assumeTrue(context != null);
+        
+        val ref   = Ref.ofValue("One");
+        val frame = SubstitutionFrame.EMPTY.with(listOf(ref.butWith("1")));
+        val scope = context;
+        val value = context.compute(frame, () -> {
+            val found = scope.current().find(ref.ordinal()).supplier().get();
+            return found + ":" + scope.compute(SubstitutionFrame.EMPTY, () -> scope.current().isEmpty());
+        });
+        assertEquals("1:true", value);
+        assertTrue(context.current().isEmpty());
+    }
 }
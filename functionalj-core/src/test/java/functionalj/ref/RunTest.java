@@ -27,6 +27,10 @@ import static functionalj.ref.Run.With;
 import static functionalj.ref.Substitution.Scope.allThread;
 import static functionalj.ref.Substitution.Scope.localThread;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import org.junit.Test;
 
 import lombok.val;
@@ -42,6 +46,39 @@ public class RunTest {
         assertEquals(45, newValue.intValue());
     }
     
+    @Test
+    public void testWithAllGlobalSubstitutions() {
+        val refA = Ref.ofValue("A");
+        val refB = Ref.ofValue("B");
+        val refC = Ref.ofValue("C");
+        val subC = refC.butWith("c");
+        val run  = With(refA.butWith("a"), refB.butWith("b").withinThisThread(localThread)).run(() -> {
+            return Run.WithAllGlobalSubstitutions(subC);
+        });
+        assertEquals("aBc", run.run(() -> refA.get() + refB.get() + refC.get()));
+        
+        // The substitution already in place adds nothing.
+        With(subC).run(() -> {
+            assertSame(Ref.currentFrame(), Run.WithAllGlobalSubstitutions(subC).base());
+        });
+    }
+    
+    @Test
+    public void testWithAllGlobalSubstitutions_notRetained() throws InterruptedException {
+        val ref      = Ref.ofValue((Object) "A");
+        val released = new ArrayList<WeakReference<Object>>();
+        for (int i = 0; i < 10; i++) {
+            val value = new Object();
+            released.add(new WeakReference<>(value));
+            Run.WithAllGlobalSubstitutions(ref.butWith("Value", value));
+        }
+        for (int i = 0; (i < 100) && released.stream().anyMatch(weak -> weak.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(released.stream().allMatch(weak -> weak.get() == null));
+    }
+    
     @Test
     public void testSubstitutions() {
         val refA = Ref.ofValue("A");
@@ -25,15 +25,18 @@ package functionalj.result;
 
 import static functionalj.TestHelper.assertAsString;
 import static functionalj.function.Func.f;
+import static functionalj.ref.Run.With;
 import static functionalj.result.Result.Do;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import java.io.IOException;
 import java.util.ArrayList;
 import org.junit.Test;
 import functionalj.function.Func;
+import functionalj.list.FuncList;
 import functionalj.list.intlist.IntFuncList;
 import functionalj.validator.Validator;
 import lombok.val;
@@ -254,4 +257,26 @@ public class ResultTest {
         });
         assertEquals("Result:{ Exception: java.lang.IndexOutOfBoundsException }", "" + result);
     }
+    
+    @Test
+    public void testNotAvailable_sharedAndStackless() {
+        assertSame(Result.ofNotExist(), Result.ofNotExist());
+        assertSame(Result.ofNoMore(),   Result.ofNoMore());
+        assertAsString("Result:{ NotExist }",  Result.ofNotExist());
+        assertAsString("Result:{ Cancelled }", Result.ofCancelled());
+        assertEquals(ResultStatus.NOMORE, Result.ofNoMore().getStatus());
+        assertEquals(0, Result.ofNotReady().getException().getStackTrace().length);
+        
+        val list = FuncList.generate(() -> {
+            val counter = new int[] { 0 };
+            return () -> (counter[0] < 3) ? (Integer) counter[0]++ : FuncList.noMoreElement();
+        });
+        assertEquals("[0, 1, 2]", list.toString());
+        assertEquals("[0, 1, 2]", list.toString());
+        
+        With(Result.captureNotAvailableStackTrace.butWith(true)).run(() -> {
+            assertTrue(Result.ofNotExist() != Result.ofNotExist());
+            assertTrue(Result.ofNotExist().getException().getStackTrace().length > 0);
+        });
+    }
 }
@@ -26,7 +26,10 @@ package functionalj.stream;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 import org.junit.Test;
+import functionalj.list.intlist.IntFuncList;
 import functionalj.stream.intstream.GrowOnlyIntArray;
 import lombok.val;
 
@@ -51,4 +54,50 @@ public class GrowOnlyIntArrayTest {
         val newArray = new GrowOnlyIntArray(orgArray.stream().toArray());
         assertTrue(Arrays.equals(orgArray.stream().toArray(), newArray.stream().toArray()));
     }
+    
+    @Test
+    public void testStream_sizedAndSplittable() {
+        val array = new GrowOnlyIntArray(1, 2, 3);
+        for (int i = 4; i <= 100000; i++) {
+            array.add(i);
+        }
+        val spliterator = array.spliterator(0, array.length());
+        assertEquals(100000, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+        assertEquals(5000050000L, array.stream().parallel().asLongStream().sum());
+        assertEquals(100000, array.stream().parallel().toArray().length);
+        assertEquals("[999, 1000, 1001]", array.stream(998, 1001).toListString());
+        assertTrue(Arrays.equals(IntStream.rangeClosed(1, 100000).toArray(), array.toArray()));
+        assertEquals(77777, array.get(77776));
+    }
+    
+    @Test
+    public void testWrap() {
+        val values = new int[] { 1, 2, 3 };
+        val array = GrowOnlyIntArray.wrap(values);
+        array.add(4);
+        assertEquals("[1, 2, 3, 4]", array.toString());
+        assertEquals("[1, 2]", array.stream(0, 2).toListString());
+        
+        val list = IntFuncList.of(values);
+        values[0] = 10;
+        assertEquals("[1, 2, 3]", list.toString());
+        assertEquals(6, list.intStream().parallel().sum());
+    }
+    
+    @Test
+    public void testWrap_grow() {
+        // A power-of-two first chunk finds the chunks by shifting, any other length by dividing.
+        for (val firstLength : new int[] { 1, 5, 8, 12, 16 }) {
+            val array = GrowOnlyIntArray.wrap(IntStream.range(0, firstLength).toArray());
+            for (int i = firstLength; i < 5000; i++) {
+                array.add(i);
+            }
+            for (int i = 0; i < 5000; i++) {
+                assertEquals(i, array.get(i));
+            }
+            assertTrue(Arrays.equals(IntStream.range(0, 5000).toArray(), array.stream().toArray()));
+            assertEquals(12497500L, array.stream().parallel().asLongStream().sum());
+        }
+    }
 }
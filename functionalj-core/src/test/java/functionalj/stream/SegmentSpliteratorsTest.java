@@ -0,0 +1,222 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+import functionalj.list.FuncList;
+import functionalj.list.doublelist.DoubleFuncList;
+import functionalj.list.intlist.IntFuncList;
+import functionalj.list.longlist.LongFuncList;
+import functionalj.stream.doublestream.DoubleStreamPlus;
+import functionalj.stream.intstream.IntStreamPlus;
+import functionalj.stream.longstream.LongStreamPlus;
+import lombok.val;
+
+public class SegmentSpliteratorsTest {
+    
+    private static final int SIZE = 1000;
+    
+    //== Object ==
+    
+    @Test
+    public void testSegment_parallel() {
+        Function<Boolean, StreamPlus<Integer>> source = SegmentSpliteratorsTest::objects;
+        assertParallel(source, stream -> stream.segment(7));
+        assertParallel(source, stream -> stream.segmentWhen(i -> i % 7 == 0));
+        assertParallel(source, stream -> stream.segmentAfter(i -> i % 7 == 0));
+        assertParallel(source, stream -> stream.segmentBetween(i -> i % 10 == 3, i -> i % 10 == 6));
+        assertParallel(source, stream -> stream.mapTwo().map(String::valueOf));
+        assertParallel(source, stream -> stream.mapGroup(3, group -> group.mapToInt(Integer::intValue).sum()));
+    }
+    
+    @Test
+    public void testSegment_parallel_predicateOncePerElement() {
+        for (val isByStart : new boolean[] { true, false }) {
+            val counts = new AtomicIntegerArray(SIZE);
+            Predicate<Integer> boundary = i -> counted(counts, i) % 7 == 0;
+            val stream = objects(true);
+            val segments = isByStart ? stream.segmentWhen(boundary) : stream.segmentAfter(boundary);
+            assertEquals(SIZE, splitAll(segments.stream().spliterator()).stream().mapToInt(FuncList::size).sum());
+            assertCalledOnce(counts);
+        }
+    }
+    
+    //== Int ==
+    
+    @Test
+    public void testIntSegment_parallel() {
+        Function<Boolean, IntStreamPlus> source = SegmentSpliteratorsTest::ints;
+        assertParallel(source, stream -> stream.segment(7));
+        assertParallel(source, stream -> stream.segmentWhen(i -> i % 7 == 0));
+        assertParallel(source, stream -> stream.segmentAfter(i -> i % 7 == 0));
+        assertParallel(source, stream -> stream.segmentBetween(i -> i % 10 == 3, i -> i % 10 == 6));
+        assertParallel(source, stream -> stream.mapTwo((a, b) -> a * 10 + b).boxed());
+        assertParallel(source, stream -> stream.mapGroup(3, group -> group.sum()).boxed());
+    }
+    
+    @Test
+    public void testIntSegment_parallel_predicateOncePerElement() {
+        for (val isByStart : new boolean[] { true, false }) {
+            val counts = new AtomicIntegerArray(SIZE);
+            IntPredicate boundary = i -> counted(counts, i) % 7 == 0;
+            val stream = ints(true);
+            val segments = isByStart ? stream.segmentWhen(boundary) : stream.segmentAfter(boundary);
+            assertEquals(SIZE, splitAll(segments.stream().spliterator()).stream().mapToInt(IntFuncList::size).sum());
+            assertCalledOnce(counts);
+        }
+    }
+    
+    //== Long ==
+    
+    @Test
+    public void testLongSegment_parallel() {
+        Function<Boolean, LongStreamPlus> source = SegmentSpliteratorsTest::longs;
+        assertParallel(source, stream -> stream.segment(7));
+        assertParallel(source, stream -> stream.segmentWhen(i -> i % 7 == 0));
+        assertParallel(source, stream -> stream.segmentAfter(i -> i % 7 == 0));
+        assertParallel(source, stream -> stream.segmentBetween(i -> i % 10 == 3, i -> i % 10 == 6));
+        assertParallel(source, stream -> stream.mapTwo((a, b) -> a * 10 + b).boxed());
+        assertParallel(source, stream -> stream.mapGroup(3, group -> group.sum()).boxed());
+    }
+    
+    @Test
+    public void testLongSegment_parallel_predicateOncePerElement() {
+        for (val isByStart : new boolean[] { true, false }) {
+            val counts = new AtomicIntegerArray(SIZE);
+            LongPredicate boundary = i -> counted(counts, (int) i) % 7 == 0;
+            val stream = longs(true);
+            val segments = isByStart ? stream.segmentWhen(boundary) : stream.segmentAfter(boundary);
+            assertEquals(SIZE, splitAll(segments.stream().spliterator()).stream().mapToInt(LongFuncList::size).sum());
+            assertCalledOnce(counts);
+        }
+    }
+    
+    //== Double ==
+    
+    @Test
+    public void testDoubleSegment_parallel() {
+        Function<Boolean, DoubleStreamPlus> source = SegmentSpliteratorsTest::doubles;
+        assertParallel(source, stream -> stream.segment(7));
+        assertParallel(source, stream -> stream.segmentWhen(d -> (int) d % 7 == 0));
+        assertParallel(source, stream -> stream.segmentAfter(d -> (int) d % 7 == 0));
+        assertParallel(source, stream -> stream.segmentBetween(d -> (int) d % 10 == 3, d -> (int) d % 10 == 6));
+        assertParallel(source, stream -> stream.mapTwo((a, b) -> a * 10 + b).boxed());
+        assertParallel(source, stream -> stream.mapGroup(3, group -> group.sum()).boxed());
+    }
+    
+    @Test
+    public void testDoubleSegment_parallel_predicateOncePerElement() {
+        for (val isByStart : new boolean[] { true, false }) {
+            val counts = new AtomicIntegerArray(SIZE);
+            DoublePredicate boundary = d -> counted(counts, (int) d) % 7 == 0;
+            val stream = doubles(true);
+            val segments = isByStart ? stream.segmentWhen(boundary) : stream.segmentAfter(boundary);
+            assertEquals(SIZE, splitAll(segments.stream().spliterator()).stream().mapToInt(DoubleFuncList::size).sum());
+            assertCalledOnce(counts);
+        }
+    }
+    
+    //== Helpers ==
+    
+    /** @return the stream of 0, 1, 2, ... from a list. */
+    private static StreamPlus<Integer> objects(boolean isParallel) {
+        val stream = StreamPlus.from(IntStream.range(0, SIZE).boxed().collect(Collectors.toList()).stream());
+        return isParallel ? stream.parallel() : stream;
+    }
+    
+    /** @return the stream of 0, 1, 2, ... */
+    private static IntStreamPlus ints(boolean isParallel) {
+        val stream = IntStreamPlus.from(IntStream.range(0, SIZE));
+        return isParallel ? stream.parallel() : stream;
+    }
+    
+    /** @return the stream of 0, 1, 2, ... */
+    private static LongStreamPlus longs(boolean isParallel) {
+        val stream = LongStreamPlus.from(LongStream.range(0, SIZE));
+        return isParallel ? stream.parallel() : stream;
+    }
+    
+    /** @return the stream of 0.5, 1.5, 2.5, ... from an array. */
+    private static DoubleStreamPlus doubles(boolean isParallel) {
+        val stream = DoubleStreamPlus.from(DoubleStream.of(IntStream.range(0, SIZE).mapToDouble(i -> i + 0.5).toArray()));
+        return isParallel ? stream.parallel() : stream;
+    }
+    
+    /** Record the call for the element and return it. */
+    private static int counted(AtomicIntegerArray counts, int each) {
+        counts.incrementAndGet(each);
+        return each;
+    }
+    
+    private static void assertCalledOnce(AtomicIntegerArray counts) {
+        for (int i = 0; i < counts.length(); i++) {
+            assertEquals("Element: " + i, 1, counts.get(i));
+        }
+    }
+    
+    /**
+     * Assert that the sequential stream, the parallel stream and the spliterator split as far as possible
+     *   all give the same results.
+     */
+    private static <SOURCE, TARGET> void assertParallel(Function<Boolean, SOURCE> source, Function<SOURCE, StreamPlus<TARGET>> operation) {
+        val expected = operation.apply(source.apply(false)).toJavaList();
+        assertEquals(expected, operation.apply(source.apply(true)).toJavaList());
+        assertEquals(expected, splitAll(operation.apply(source.apply(true)).stream().spliterator()));
+    }
+    
+    /** @return the elements of all the parts -- each part is split again until it can no longer be split. */
+    private static <DATA> List<DATA> splitAll(Spliterator<DATA> spliterator) {
+        val results = new ArrayList<DATA>();
+        val splits  = splitAll(spliterator, results);
+        assertTrue(splits > 0);
+        return results;
+    }
+    
+    private static <DATA> int splitAll(Spliterator<DATA> spliterator, List<DATA> results) {
+        val prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(results::add);
+            return 0;
+        }
+        return 1 + splitAll(prefix, results) + splitAll(spliterator, results);
+    }
+}
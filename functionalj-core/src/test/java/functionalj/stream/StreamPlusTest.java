@@ -1553,6 +1553,16 @@ public class StreamPlusTest {
         assertAsString("[One, Two]", stream.mapGroup(3).map(s -> s.toListString()).join(", "));
     }
     
+    @Test
+    public void testMapGroup_parallel() {
+        val list = IntFuncList.wholeNumbers(1000).boxed().toImmutableList();
+        assertEquals(list.streamPlus().mapTwo().toListString(), list.streamPlus().parallel().mapTwo().toListString());
+        assertEquals(
+                list.streamPlus().mapGroup(5).map(s -> s.toList()).toList(),
+                list.streamPlus().parallel().mapGroup(5).map(s -> s.toList()).toList());
+        assertAsString("[[One, Two]]", StreamPlus.of("One", "Two").parallel().mapGroup(3).map(s -> s.toList()).toList());
+    }
+    
     // -- StreamPlusWithModify --
     @Test
     public void testAccumulate1() {
@@ -1681,6 +1691,22 @@ public class StreamPlusTest {
                 .toListString());
     }
     
+    @Test
+    public void testSegment_parallel() {
+        val list = IntFuncList.wholeNumbers(1000).boxed().toImmutableList();
+        assertEquals(list.streamPlus().segment(7).toList(), list.streamPlus().parallel().segment(7).toList());
+        assertEquals(list.streamPlus().segmentWhen(theInteger.thatIsDivisibleBy(7)).toList(), list.streamPlus().parallel().segmentWhen(theInteger.thatIsDivisibleBy(7)).toList());
+        assertEquals(list.streamPlus().segmentAfter(theInteger.thatIsDivisibleBy(7)).toList(), list.streamPlus().parallel().segmentAfter(theInteger.thatIsDivisibleBy(7)).toList());
+        assertEquals(
+                list.streamPlus().segmentBetween(i -> i % 10 == 3, i -> i % 10 == 6).toList(),
+                list.streamPlus().parallel().segmentBetween(i -> i % 10 == 3, i -> i % 10 == 6).toList());
+        
+        // The parallel stream stays parallel and the count of the segments is known.
+        val segments = list.streamPlus().parallel().segment(7);
+        assertTrue(segments.isParallel());
+        assertEquals(143L, segments.stream().spliterator().getExactSizeIfKnown());
+    }
+    
     // -- StreamPlusWithPeek --
     @Test
     public void testPeekClass() {
@@ -1795,6 +1821,49 @@ public class StreamPlusTest {
         assertAsString("{" + "Eleven:[11], " + "Five:[5], " + "Others:[1, 13], " + "Seven:[7], " + "Three:[3, 9, 15], " + "Two:[0, 2, 4, 6, 8, 10, 12, 14]" + "}", stream.split("Two", i -> i % 2 == 0, "Three", i -> i % 3 == 0, "Five", i -> i % 5 == 0, "Seven", i -> i % 7 == 0, "Eleven", i -> i % 11 == 0, "Others").sorted().mapValue(streamPlusToList).toString());
     }
     
+    @Test
+    public void testSplit_pullOnce() {
+        Function<StreamPlus<Integer>, FuncList<String>> streamPlusToList = s -> s.mapToObj(String::valueOf).toImmutableList();
+        val pullCount = new AtomicInteger();
+        val testCount = new AtomicInteger();
+        val stream    = StreamPlus.from(IntStream.range(0, 16).boxed().iterator()).peek(i -> pullCount.incrementAndGet());
+        val splitted  = stream.split("Two", i -> testCount.incrementAndGet() > 0 && i % 2 == 0, "Three", i -> testCount.incrementAndGet() > 0 && i % 3 == 0, "Others");
+        assertAsString("{" + "Others:[1, 5, 7, 11, 13], " + "Three:[3, 9, 15], " + "Two:[0, 2, 4, 6, 8, 10, 12, 14]" + "}", splitted.sorted().mapValue(streamPlusToList).toString());
+        assertEquals(16, pullCount.get());
+        assertEquals(16 + 8, testCount.get());
+    }
+    
+    @Test
+    public void testSplitConcurrently() throws InterruptedException {
+        val pullCount = new AtomicInteger();
+        val stream    = StreamPlus.from(IntStream.range(0, 1000).boxed()).peek(i -> pullCount.incrementAndGet());
+        val splitted  = stream.splitConcurrently(4, i -> i % 3 == 0);
+        val threes    = new ArrayList<Integer>();
+        val thread    = new Thread(() -> splitted._1().forEach(threes::add));
+        thread.start();
+        val others = splitted._2().toImmutableList();
+        thread.join();
+        assertEquals(334, threes.size());
+        assertEquals(666, others.size());
+        assertAsString("[0, 3, 6, 9, 12]", FuncList.from(threes).limit(5));
+        assertAsString("[1, 2, 4, 5, 7]",  others.limit(5));
+        assertEquals(1000, pullCount.get());
+    }
+    
+    @Test
+    public void testSplitConcurrently_closed() {
+        val isClosed = new AtomicBoolean(false);
+        val stream   = StreamPlus.of("One", "Two", "Three", "Four", "Five", "Six").onClose(() -> isClosed.set(true));
+        val splitted = stream.splitConcurrently(1, "Three", s -> s.length() == 3, null, s -> s.length() == 4, "Others");
+        assertAsString("[Others, Three]", splitted.keys().sorted());
+        // The closed stream no longer holds back the others.
+        splitted.get("Others").close();
+        assertFalse(isClosed.get());
+        assertAsString("[One, Two, Six]", splitted.get("Three").toListString());
+        splitted.get("Three").close();
+        assertTrue(isClosed.get());
+    }
+    
     @Test
     public void testMapMulti() {
         assertAsString("[1, 2, 2, 3, 3, 3, 4, 4, 4, 4]", StreamPlus.of(0, 1, 2, 3, 4).mapMulti((number, consumer) -> {
@@ -0,0 +1,117 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.store;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a {@link Store} retries a change that loses the race with another change -- with bounded exponential back-off.
+ * 
+ * The n-th retry waits for a random time between half and all of {@code min(maxBackoff, initialBackoff * 2^n)} nanoseconds.
+ */
+public final class ChangeRetry {
+    
+    private static final ChangeRetry NO_RETRY = new ChangeRetry(1, 0, 0);
+    
+    /** @return the retry that does not retry -- the conflicting change fails. */
+    public static ChangeRetry noRetry() {
+        return NO_RETRY;
+    }
+    
+    /**
+     * Create a retry that tries a change up to the given number of times -- backing off from 1 microsecond up to 1 millisecond.
+     * 
+     * @param maxAttempts  the maximum number of the attempts (including the first one).
+     * @return             the retry.
+     */
+    public static ChangeRetry upTo(int maxAttempts) {
+        if (maxAttempts <= 0)
+            throw new IllegalArgumentException("Maximum attempts must be positive: " + maxAttempts);
+        return new ChangeRetry(maxAttempts, 1_000L, 1_000_000L);
+    }
+    
+    private final int  maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    
+    private ChangeRetry(int maxAttempts, long initialBackoff, long maxBackoff) {
+        this.maxAttempts    = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff     = maxBackoff;
+    }
+    
+    /** @return the maximum number of the attempts (including the first one). */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+    
+    /** @return the back-off before the first retry in nanoseconds. */
+    public long initialBackoff() {
+        return initialBackoff;
+    }
+    
+    /** @return the maximum back-off in nanoseconds. */
+    public long maxBackoff() {
+        return maxBackoff;
+    }
+    
+    /**
+     * Create a retry with the given back-off.
+     * 
+     * @param initialBackoff  the back-off before the first retry in nanoseconds -- zero to retry right away.
+     * @param maxBackoff      the maximum back-off in nanoseconds.
+     * @return                the retry.
+     */
+    public ChangeRetry backoff(long initialBackoff, long maxBackoff) {
+        if ((initialBackoff < 0) || (maxBackoff < initialBackoff))
+            throw new IllegalArgumentException("Invalid back-off: initialBackoff=" + initialBackoff + ", maxBackoff=" + maxBackoff);
+        return new ChangeRetry(maxAttempts, initialBackoff, maxBackoff);
+    }
+    
+    /**
+     * Back off after the failed attempt.
+     * 
+     * @param attempt  the number of the attempts so far.
+     * @return         false if no more attempt should be made.
+     */
+    boolean backOff(int attempt) {
+        if (attempt >= maxAttempts)
+            return false;
+        
+        int  shift   = attempt - 1;
+        long backoff = (shift >= Long.numberOfLeadingZeros(initialBackoff) - 1) ? maxBackoff : Math.min(maxBackoff, initialBackoff << shift);
+        if (backoff > 0) {
+            LockSupport.parkNanos(this, ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+        } else {
+            Thread.yield();
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return "ChangeRetry[maxAttempts: " + maxAttempts + ", initialBackoff: " + initialBackoff + ", maxBackoff: " + maxBackoff + "]";
+    }
+}
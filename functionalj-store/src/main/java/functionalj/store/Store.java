@@ -26,38 +26,82 @@ package functionalj.store;
 import static functionalj.store.ResultStatus.Accepted;
 import static functionalj.store.ResultStatus.Failed;
 import static functionalj.store.ResultStatus.NotAllowed;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import functionalj.exception.Throwables;
 import functionalj.function.Func0;
 import functionalj.function.Func1;
 import functionalj.function.Func2;
 import functionalj.function.FuncUnit1;
+import functionalj.function.FuncUnit2;
 import functionalj.result.Result;
-import functionalj.stream.StreamPlus;
 import lombok.val;
 
 // TODO - Generate Store that imitate an immutable type and have the changes store inside.
-// TODO - Must mention that this is not thread safe.
+/**
+ * A store holds a value that is changed by the changers -- each change is approved, applied, accepted and then committed
+ *   with a compare-and-set so the concurrent changes never overwrite each other.
+ * 
+ * A change that loses the race is retried as specified by the {@link ChangeRetry} of the store (by default, it fails).
+ * The changers may be run more than once so they should not have side effects.
+ * The listeners (see {@link #onChange(FuncUnit2)}) get the old and new values of each commit in the commit order.
+ *
+ * @param <DATA>  the data type.
+ */
 public class Store<DATA> implements Func0<DATA> {
     
-    private final AtomicReference<DATA> dataRef = new AtomicReference<DATA>();
+    @SuppressWarnings("rawtypes")
+    private static final FuncUnit2[] NO_LISTENERS = new FuncUnit2[0];
+    
+    private final AtomicReference<Snapshot<DATA>> snapshotRef;
     
     private final Func2<DATA, Func1<DATA, DATA>, ChangeNotAllowedException> approver;
     
     private final Func2<DATA, Result<DATA>, ChangeResult<DATA>> accepter;
     
-    // Add onChange?, lock?
+    private final ChangeRetry retry;
+    
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<FuncUnit2<DATA, DATA>[]> listeners = new AtomicReference<>(NO_LISTENERS);
+    
+    /** The number of the commits to notify -- the thread that increases it from zero notifies. */
+    private final AtomicInteger notifyCount = new AtomicInteger();
+    
+    /** Only accessed by the notifying thread. */
+    private Snapshot<DATA> lastNotified;
+    
+    private final ConcurrentLinkedQueue<CombinedChange<DATA>> combinedChanges = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean isCombining = new AtomicBoolean(false);
+    
     public Store(DATA data) {
         this(data, null, null);
     }
     
+    public Store(DATA data, ChangeRetry retry) {
+        this(data, null, null, retry);
+    }
+    
     public Store(DATA data, Func2<DATA, Result<DATA>, ChangeResult<DATA>> accepter) {
         this(data, accepter, null);
     }
     
     public Store(DATA data, Func2<DATA, Result<DATA>, ChangeResult<DATA>> accepter, Func2<DATA, Func1<DATA, DATA>, ChangeNotAllowedException> approver) {
-        this.dataRef.set(data);
+        this(data, accepter, approver, null);
+    }
+    
+    public Store(DATA data, Func2<DATA, Result<DATA>, ChangeResult<DATA>> accepter, Func2<DATA, Func1<DATA, DATA>, ChangeNotAllowedException> approver, ChangeRetry retry) {
+        val snapshot = new Snapshot<DATA>(data);
+        this.snapshotRef  = new AtomicReference<>(snapshot);
+        this.lastNotified = snapshot;
         this.approver = (approver != null) ? approver : this::defaultApprover;
         this.accepter = (accepter != null) ? accepter : this::defaultAcceptor;
+        this.retry    = (retry    != null) ? retry    : ChangeRetry.noRetry();
     }
     
     private ChangeNotAllowedException defaultApprover(DATA oldData, Func1<DATA, DATA> changer) {
@@ -80,59 +124,279 @@ public class Store<DATA> implements Func0<DATA> {
         return new ChangeResult<DATA>(this, changeResult.originalData(), changeResult.status());
     }
     
+    /** @return the retry of the conflicting changes. */
+    public ChangeRetry retry() {
+        return retry;
+    }
+    
     public ChangeResult<DATA> change(Func1<DATA, DATA> changer) {
-        val originalData = dataRef.get();
+        return doChange(changer, null);
+    }
+    
+    /**
+     * Change the data with all the changers in one commit -- the changers are applied one after another (each approved and accepted)
+     *   and the data is only changed if all of them are.
+     * Otherwise, the result of the first changer that does not change the data is returned.
+     * 
+     * @param changer       the first changer.
+     * @param moreChangers  the other changers.
+     * @return              the change result.
+     */
+    @SafeVarargs
+    public final ChangeResult<DATA> change(Func1<DATA, DATA> changer, Func1<DATA, DATA>... moreChangers) {
+        return doChange(changer, moreChangers);
+    }
+    
+    private ChangeResult<DATA> doChange(Func1<DATA, DATA> changer, Func1<DATA, DATA>[] moreChangers) {
+        for (int attempt = 1; ; attempt++) {
+            val snapshot     = snapshotRef.get();
+            val originalData = snapshot.data;
+            val changeResult = tryChanges(originalData, changer, moreChangers);
+            val result       = changeResult.result();
+            if (!result.isValue())
+                return changeResult;
+            
+            val newValue = result.value();
+            if (commit(snapshot, newValue))
+                return changeResult;
+            
+            if (!retry.backOff(attempt)) {
+                val dataAlreadyChanged = new IllegalStateException("The data in the store has already changed: " + "originalData=" + originalData + ", " + "currentData=" + value() + ", " + "proposedData=" + newValue);
+                return new ChangeResult<DATA>(this, originalData, Failed(new ChangeFailException(dataAlreadyChanged)));
+            }
+        }
+    }
+    
+    private ChangeResult<DATA> tryChanges(DATA originalData, Func1<DATA, DATA> changer, Func1<DATA, DATA>[] moreChangers) {
+        val changeResult = tryChange(originalData, changer);
+        if ((moreChangers == null) || (moreChangers.length == 0))
+            return changeResult;
+        
+        ChangeResult<DATA> lastResult = changeResult;
+        for (val moreChanger : moreChangers) {
+            val result = lastResult.result();
+            if (!result.isValue())
+                return new ChangeResult<DATA>(this, originalData, lastResult.status());
+            if (moreChanger != null) {
+                lastResult = tryChange(result.value(), moreChanger);
+            }
+        }
+        return new ChangeResult<DATA>(this, originalData, lastResult.status());
+    }
+    
+    private ChangeResult<DATA> tryChange(DATA originalData, Func1<DATA, DATA> changer) {
         val approveResult = approver.applySafely(originalData, changer);
         if (approveResult.isPresent()) {
             return new ChangeResult<DATA>(this, originalData, NotAllowed(approveResult.get()));
         }
-        val newResult = changer.applySafely(originalData).pipeTo(accepter.apply(originalData), this::ensureStore);
-        val result = newResult.result();
-        if (result.isValue()) {
-            val newValue = result.value();
-            val isSuccess = dataRef.compareAndSet(originalData, newValue);
-            if (!isSuccess) {
-                val dataAlreadyChanged = new IllegalStateException("The data in the store has already changed: " + "originalData=" + originalData + ", " + "currentData=" + dataRef.get() + ", " + "proposedData=" + newValue);
-                return new ChangeResult<DATA>(this, originalData, Failed(new ChangeFailException(dataAlreadyChanged)));
+        return changer.applySafely(originalData).pipeTo(accepter.apply(originalData), this::ensureStore);
+    }
+    
+    private boolean commit(Snapshot<DATA> snapshot, DATA newValue) {
+        val newSnapshot = new Snapshot<DATA>(newValue);
+        if (!snapshotRef.compareAndSet(snapshot, newSnapshot))
+            return false;
+        
+        snapshot.next = newSnapshot;
+        notifyListeners();
+        return true;
+    }
+    
+    //== Write combining ==
+    
+    /**
+     * Change the data together with the changes of other threads -- the queued changers are applied one after another
+     *   by a single thread and committed at once which avoids the conflicts when many threads change the store.
+     * Each changer is approved and accepted on its own so a changer that does not change the data does not affect the others.
+     * The call returns when the change is committed (or failed) -- an interruption does not stop the waiting
+     *   as the change may already be applied but the interrupted status is kept.
+     * 
+     * @param changer  the changer.
+     * @return         the change result -- the original data is the data just before this changer.
+     */
+    public ChangeResult<DATA> changeCombined(Func1<DATA, DATA> changer) {
+        val change = new CombinedChange<DATA>(changer);
+        combinedChanges.offer(change);
+        boolean isInterrupted = false;
+        while (change.result == null) {
+            applyCombinedChanges();
+            if (change.result == null) {
+                LockSupport.park(this);
+                // Clear the status or the next park returns right away.
+                isInterrupted |= Thread.interrupted();
             }
         }
-        return newResult;
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return change.result;
     }
     
-    @SafeVarargs
-    public final ChangeResult<DATA> change(Func1<DATA, DATA> changer, Func1<DATA, DATA>... moreChangers) {
-        val result = new AtomicReference<>(this.change(changer));
-        StreamPlus.of(moreChangers).filterNonNull().forEach(c -> {
-            val prevResult = result.get();
-            val newResult = prevResult.change(c);
-            result.set(newResult);
-        });
-        return result.get();
+    private void applyCombinedChanges() {
+        do {
+            if (!isCombining.compareAndSet(false, true))
+                return;
+            try {
+                val changes = new ArrayList<CombinedChange<DATA>>();
+                for (CombinedChange<DATA> change; (change = combinedChanges.poll()) != null; ) {
+                    changes.add(change);
+                }
+                applyCombinedChanges(changes);
+            } finally {
+                isCombining.set(false);
+            }
+        } while (!combinedChanges.isEmpty());
+    }
+    
+    /** Apply and complete the changes -- every change is completed (failed if need be) so no caller is left waiting. */
+    @SuppressWarnings("unchecked")
+    private void applyCombinedChanges(ArrayList<CombinedChange<DATA>> changes) {
+        if (changes.isEmpty())
+            return;
+        
+        Throwable failure = null;
+        try {
+            val results = new ChangeResult[changes.size()];
+            while (true) {
+                val snapshot   = snapshotRef.get();
+                DATA    data       = snapshot.data;
+                boolean hasChanged = false;
+                for (int i = 0; i < results.length; i++) {
+                    val changeResult = tryCombinedChange(data, changes.get(i).changer);
+                    val result       = changeResult.result();
+                    results[i] = changeResult;
+                    if (result.isValue()) {
+                        data       = result.value();
+                        hasChanged = true;
+                    }
+                }
+                if (!hasChanged || commit(snapshot, data))
+                    break;
+            }
+            for (int i = 0; i < results.length; i++) {
+                changes.get(i).complete((ChangeResult<DATA>) results[i]);
+            }
+        } catch (Throwable throwable) {
+            failure = throwable;
+        } finally {
+            for (val change : changes) {
+                if (change.result == null) {
+                    val cause = (failure != null) ? failure : new IllegalStateException("The change was not applied.");
+                    change.complete(new ChangeResult<DATA>(this, value(), Failed(new ChangeFailException(cause))));
+                }
+            }
+        }
+    }
+    
+    /** Try the change -- an exception (from the accepter for one) fails only this change. */
+    private ChangeResult<DATA> tryCombinedChange(DATA originalData, Func1<DATA, DATA> changer) {
+        try {
+            return tryChange(originalData, changer);
+        } catch (Throwable throwable) {
+            return new ChangeResult<DATA>(this, originalData, Failed(new ChangeFailException(throwable)));
+        }
     }
     
+    //== Listeners ==
+    
+    /**
+     * Add the listener that gets the old and the new data of each commit -- in the commit order.
+     * The listener is called on one of the committing threads (one at a time) and its exception is logged.
+     * 
+     * @param listener  the listener.
+     * @return          this store.
+     */
+    public Store<DATA> onChange(FuncUnit2<DATA, DATA> listener) {
+        if (listener == null)
+            return this;
+        while (true) {
+            val current = listeners.get();
+            val updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = listener;
+            if (listeners.compareAndSet(current, updated))
+                return this;
+        }
+    }
+    
+    private void notifyListeners() {
+        if (notifyCount.getAndIncrement() != 0)
+            return;
+        
+        int missed = 1;
+        do {
+            val current  = listeners.get();
+            val previous = lastNotified;
+            Snapshot<DATA> last = previous;
+            for (Snapshot<DATA> next = last.next; next != null; next = next.next) {
+                for (int i = 0; i < current.length; i++) {
+                    try {
+                        current[i].accept(last.data, next.data);
+                    } catch (Throwable throwable) {
+                        Throwables.noThrowLogger.get().accept(throwable);
+                    }
+                }
+                last = next;
+            }
+            lastNotified = last;
+            missed = notifyCount.addAndGet(-missed);
+        } while (missed != 0);
+    }
+    
+    //== Access ==
+    
     public Store<DATA> use(FuncUnit1<DATA> consumer) {
         if (consumer == null)
             return this;
-        val value = dataRef.get();
+        val value = value();
         consumer.accept(value);
         return this;
     }
     
     @Override
     public DATA applyUnsafe() throws Exception {
-        return dataRef.get();
+        return value();
     }
     
     public DATA value() {
-        return dataRef.get();
+        return snapshotRef.get().data;
     }
     
     public Result<DATA> extract() {
-        return Result.valueOf(dataRef.get());
+        return Result.valueOf(value());
     }
     
     @Override
     public String toString() {
-        return "Store [data=" + dataRef + "]";
+        return "Store [data=" + value() + "]";
+    }
+    
+    /** A committed data -- linked to the next one in the commit order. */
+    private static final class Snapshot<DATA> {
+        
+        final DATA data;
+        
+        volatile Snapshot<DATA> next;
+        
+        Snapshot(DATA data) {
+            this.data = data;
+        }
+    }
+    
+    private static final class CombinedChange<DATA> {
+        
+        final Func1<DATA, DATA> changer;
+        
+        final Thread thread = Thread.currentThread();
+        
+        volatile ChangeResult<DATA> result;
+        
+        CombinedChange(Func1<DATA, DATA> changer) {
+            this.changer = changer;
+        }
+        
+        void complete(ChangeResult<DATA> result) {
+            this.result = result;
+            LockSupport.unpark(thread);
+        }
     }
 }
@@ -25,7 +25,13 @@ package functionalj.store;
 
 import static functionalj.lens.Access.theInteger;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import functionalj.function.Func2;
 import functionalj.result.Result;
@@ -88,4 +94,131 @@ public class StoreTest {
         store.change(theInteger.plus(1)).store().use(value -> log.add("" + value));
         assertEquals("Store [data=1]", store.toString());
     }
+    
+    @Test
+    public void testChangeAll_oneCommit() {
+        val positiveNumberAcceptor = (Func2<Integer, Result<Integer>, ChangeResult<Integer>>) ((org, res) -> {
+            return res.map(newValue -> rejectNegative(org, newValue)).get();
+        });
+        val logs = new ArrayList<String>();
+        val store = new Store<>(0, positiveNumberAcceptor);
+        store.onChange((oldValue, newValue) -> logs.add(oldValue + "->" + newValue));
+        store.change(theInteger.plus(1), theInteger.plus(2), theInteger.plus(3));
+        assertEquals("Store [data=6]", store.toString());
+        val result = store.change(theInteger.plus(1), theInteger.plus(-10), theInteger.plus(20));
+        assertEquals("Store [data=6]", store.toString());
+        assertTrue(result.status().isRejected());
+        assertEquals(6, result.originalData().intValue());
+        assertEquals("[0->6]", logs.toString());
+    }
+    
+    @Test
+    public void testRetry() throws InterruptedException {
+        val store = new Store<>(0, ChangeRetry.upTo(1000));
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            val thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    assertTrue(store.change(theInteger.plus(1)).hasChanged());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (val thread : threads) {
+            thread.join();
+        }
+        assertEquals(4000, store.value().intValue());
+    }
+    
+    @Test
+    public void testChangeCombined_listenersInCommitOrder() throws InterruptedException {
+        val logs = Collections.synchronizedList(new ArrayList<int[]>());
+        val store = new Store<>(0);
+        store.onChange((oldValue, newValue) -> logs.add(new int[] { oldValue, newValue }));
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            val thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    assertTrue(store.changeCombined(theInteger.plus(1)).hasChanged());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (val thread : threads) {
+            thread.join();
+        }
+        assertEquals(4000, store.value().intValue());
+        int last = 0;
+        for (val change : logs) {
+            assertEquals(last, change[0]);
+            assertTrue(change[1] > change[0]);
+            last = change[1];
+        }
+        assertEquals(4000, last);
+    }
+    
+    @Test
+    public void testChangeCombined_accepterThrows() throws InterruptedException {
+        // The accepter throws on every odd value -- those changes fail, the others still commit and no caller waits forever.
+        val accepter = (Func2<Integer, Result<Integer>, ChangeResult<Integer>>) ((org, res) -> {
+            if (res.get() % 2 != 0)
+                throw new IllegalArgumentException("Odd: " + res.get());
+            return new ChangeResult<Integer>(null, org, ResultStatus.Accepted(res.get()));
+        });
+        val store = new Store<>(0, accepter);
+        val failed = new AtomicInteger();
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            val thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    val result = store.changeCombined(theInteger.plus(2 - (i % 2)));
+                    if (!result.hasChanged()) {
+                        assertTrue(result.status().isFailed());
+                        failed.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (val thread : threads) {
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+        }
+        assertEquals(2000, failed.get());
+        assertEquals(4000, store.value().intValue());
+    }
+    
+    @Test
+    public void testChangeCombined_interrupted() throws InterruptedException {
+        val store = new Store<>(0);
+        val entered = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val combiner = new Thread(() -> {
+            store.changeCombined(value -> {
+                entered.countDown();
+                release.await();
+                return value + 1;
+            });
+        });
+        combiner.start();
+        entered.await();
+        // Queued behind the blocked combiner -- it waits with the interrupted status set then keeps it.
+        val isInterrupted = new AtomicBoolean();
+        val waiter = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            assertTrue(store.changeCombined(theInteger.plus(1)).hasChanged());
+            isInterrupted.set(Thread.interrupted());
+        });
+        waiter.start();
+        Thread.sleep(50);
+        release.countDown();
+        combiner.join(10000);
+        waiter.join(10000);
+        assertFalse(waiter.isAlive());
+        assertTrue(isInterrupted.get());
+        assertEquals(2, store.value().intValue());
+    }
 }
@@ -122,4 +122,17 @@ public class GenerateBasicChoiceTypeTest {
         assertEquals(null, Color.theColor.asBlack.get().asString().apply(Color.white));
         assertEquals("Black", Color.theColor.asBlack.get().asString().apply(Color.black));
     }
+    
+    @Test
+    public void testCaseIndexMatch() {
+        assertEquals(0, Color.White().__caseIndex());
+        assertEquals(1, Color.Black().__caseIndex());
+        assertEquals(2, Color.RGB(1, 2, 3).__caseIndex());
+        
+        val toName = (Function<Color, String>) (color -> color.match(white -> "White", black -> "Black", rgb -> "RGB:" + rgb.r()));
+        assertEquals("White", toName.apply(Color.White()));
+        assertEquals("Black", toName.apply(Color.Black()));
+        assertEquals("RGB:1", toName.apply(Color.RGB(1, 2, 3)));
+        assertEquals("RGB(1,2,3)", Color.fromMap(Color.RGB(1, 2, 3).__toMap()).toString());
+    }
 }
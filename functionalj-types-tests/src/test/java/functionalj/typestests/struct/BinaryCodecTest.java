@@ -0,0 +1,241 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.typestests.struct;
+
+import static functionalj.typestests.struct.Shape.Circle;
+import static functionalj.typestests.struct.Shape.Nothing;
+import static functionalj.typestests.struct.Shape.Polygon;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import functionalj.list.FuncList;
+import functionalj.map.FuncMap;
+import functionalj.types.BinaryCodec;
+import functionalj.types.Choice;
+import functionalj.types.IBinaryData;
+import functionalj.types.Nullable;
+import functionalj.types.Serialize;
+import functionalj.types.Struct;
+import lombok.val;
+
+public class BinaryCodecTest {
+    
+    public static enum Level { LOW, HIGH }
+    
+    @Struct(serialize = Serialize.To.BINARY)
+    void Point(int x, long y, double weight, boolean visible, char mark) {
+    }
+    
+    @Choice(serialize = Serialize.To.BINARY)
+    interface ShapeSpec {
+        void Circle(Point center, int radius);
+        void Polygon(String name, int sides);
+        void Nothing();
+    }
+    
+    @Struct(serialize = Serialize.To.BINARY)
+    void Drawing(
+            String                        name,
+            @Nullable String              note,
+            @Nullable Level               level,
+            LocalDate                     date,
+            FuncList<Shape>               shapes,
+            FuncList<Point>               points,
+            FuncMap<String, Integer>      counts,
+            Optional<Point>               origin,
+            nullablej.nullable.Nullable<String> label) {
+    }
+    
+    @Choice(serialize = Serialize.To.BINARY)
+    interface BinaryTreeSpec {
+        void Leaf(int value);
+        void Branch(BinaryTree left, BinaryTree right);
+    }
+    
+    @Struct(serialize = Serialize.To.BINARY)
+    void Tagged(String name, FuncList<String> tags, FuncMap<String, Integer> counts) {
+    }
+    
+    private Drawing drawing() {
+        return new Drawing(
+                "Drawing ✓",
+                null,
+                Level.HIGH,
+                LocalDate.of(2020, 2, 29),
+                FuncList.of(Circle(new Point(1, -2L, 0.5, true, 'A'), 10), Polygon("Hexagon", 6), Nothing()),
+                FuncList.of(new Point(0, 0, 0, false, 'B'), new Point(-300, Long.MIN_VALUE, -1.5, true, 'Z')),
+                FuncMap.of("one", 1, "minus", -1),
+                Optional.empty(),
+                nullablej.nullable.Nullable.of("Label"));
+    }
+    
+    @Test
+    public void testBytes() throws IOException {
+        val drawing = drawing();
+        val bytes   = IBinaryData.toBytes(drawing);
+        val read    = IBinaryData.fromBytes(bytes, Drawing.class);
+        assertEquals(drawing.toString(), read.toString());
+        assertEquals(drawing, read);
+    }
+    
+    @Test
+    public void testByteBuffer() throws IOException {
+        val point  = new Point(-1, 1L, 2.5, true, 'x');
+        val buffer = ByteBuffer.allocate(64);
+        IBinaryData.write(buffer, point);
+        IBinaryData.write(buffer, point.withX(300));
+        // 8-byte fingerprint, 1-byte zig-zag varint -1, 1-byte varint 1, 8-byte double, 1-byte boolean and 2-byte char.
+        assertEquals(2 * 21 + 1, buffer.position());
+        
+        buffer.flip();
+        assertEquals(point,             IBinaryData.read(buffer, Point.class));
+        assertEquals(point.withX(300),  IBinaryData.read(buffer, Point.class));
+        assertEquals(0, buffer.remaining());
+    }
+    
+    @Test
+    public void testChoice() throws IOException {
+        val shapes = FuncList.of(Circle(new Point(1, 2, 3, false, 'C'), 4), Polygon("", -3), Nothing());
+        for (val shape : shapes) {
+            assertEquals(shape, IBinaryData.fromBytes(IBinaryData.toBytes(shape), Shape.class));
+        }
+    }
+    
+    @Test
+    public void testFingerprint() throws IOException {
+        assertTrue(Point.__binaryFingerprint != Drawing.__binaryFingerprint);
+        val bytes = IBinaryData.toBytes(new Point(1, 2, 3, false, 'C'));
+        try {
+            IBinaryData.fromBytes(bytes, Drawing.class);
+            fail();
+        } catch (StreamCorruptedException exception) {
+            assertTrue(exception.getMessage().startsWith("Incompatible schema for "));
+        }
+    }
+    
+    @Test
+    public void testFingerprint_nestedSchema() throws IOException {
+        // The fingerprints of Point (in the shapes, the points and the origin) and Shape are folded in.
+        assertTrue(BinaryCodec.fingerprintOf(Drawing.class) != Drawing.__binaryFingerprint);
+        assertTrue(BinaryCodec.fingerprintOf(Shape.class)   != Shape.__binaryFingerprint);
+        assertEquals(Tagged.__binaryFingerprint,            BinaryCodec.fingerprintOf(Tagged.class));
+        assertEquals(BinaryCodec.fingerprintOf(Drawing.class), drawing().__binaryFingerprint());
+        
+        // A change in a nested class leaves the fingerprint of the fields of Drawing alone -- the header without the nested ones.
+        val bytes = IBinaryData.toBytes(drawing());
+        ByteBuffer.wrap(bytes).putLong(0, Drawing.__binaryFingerprint);
+        try {
+            IBinaryData.fromBytes(bytes, Drawing.class);
+            fail();
+        } catch (StreamCorruptedException exception) {
+            assertTrue(exception.getMessage().startsWith("Incompatible schema for "));
+        }
+    }
+    
+    @Test
+    public void testFingerprint_recursive() throws IOException {
+        val tree = BinaryTree.Branch(BinaryTree.Leaf(1), BinaryTree.Branch(BinaryTree.Leaf(2), BinaryTree.Leaf(3)));
+        assertEquals(tree, IBinaryData.fromBytes(IBinaryData.toBytes(tree), BinaryTree.class));
+        assertTrue(BinaryCodec.fingerprintOf(BinaryTree.class) != BinaryTree.__binaryFingerprint);
+    }
+    
+    @Test
+    public void testCorrupted_stringLength() throws IOException {
+        // -1 as the unsigned varint, longer than an int and longer than the remaining bytes.
+        for (long length : new long[] { -1L, 1L << 40, 100 }) {
+            assertCorrupted(tagged(output -> BinaryCodec.writeUnsignedVarLong(output, length)));
+        }
+    }
+    
+    @Test
+    public void testCorrupted_listSize() throws IOException {
+        // Longer than an int and too many nulls (the bitmap) for the remaining bytes.
+        for (long header : new long[] { (1L << 40) << 1, (1000L << 1) | 1 }) {
+            assertCorrupted(tagged(output -> {
+                BinaryCodec.writeString(output, "");
+                BinaryCodec.writeUnsignedVarLong(output, header);
+            }));
+        }
+    }
+    
+    @Test
+    public void testCorrupted_mapSize() throws IOException {
+        for (long size : new long[] { -1L, 1L << 40, 100 }) {
+            assertCorrupted(tagged(output -> {
+                BinaryCodec.writeString(output, "");
+                BinaryCodec.writeUnsignedVarLong(output, 0);
+                BinaryCodec.writeUnsignedVarLong(output, size);
+            }));
+        }
+    }
+    
+    @Test
+    public void testCorrupted_streamStringLength() throws IOException {
+        // Not a byte buffer so the length cannot be checked up front -- the input ends before the string is allocated.
+        val bytes = tagged(output -> BinaryCodec.writeUnsignedVarLong(output, Integer.MAX_VALUE));
+        try {
+            IBinaryData.read(new DataInputStream(new ByteArrayInputStream(bytes)), Tagged.class);
+            fail();
+        } catch (EOFException exception) {
+        }
+    }
+    
+    private static interface BinaryWriter {
+        void write(DataOutput output) throws IOException;
+    }
+    
+    /** The bytes of {@link Tagged} (with no null field) from the writer followed by a few zero bytes. */
+    private static byte[] tagged(BinaryWriter writer) throws IOException {
+        val bytes  = new ByteArrayOutputStream();
+        val output = new DataOutputStream(bytes);
+        output.writeLong(Tagged.__binaryFingerprint);
+        BinaryCodec.writeUnsignedVarLong(output, 0);
+        writer.write(output);
+        output.write(new byte[3]);
+        return bytes.toByteArray();
+    }
+    
+    private static void assertCorrupted(byte[] bytes) throws IOException {
+        try {
+            IBinaryData.fromBytes(bytes, Tagged.class);
+            fail();
+        } catch (StreamCorruptedException exception) {
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package functionalj.typestests.struct;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -33,6 +34,8 @@ import java.util.stream.Stream;
 
 import org.junit.Test;
 
+import functionalj.list.FuncList;
+import functionalj.types.IStruct;
 import functionalj.types.Struct;
 import lombok.val;
 
@@ -42,6 +45,10 @@ public class FromMapTest {
     void Birthday(String name, LocalDate date) {
     }
     
+    @Struct
+    void Garage(String name, FuncList<Car> cars) {
+    }
+    
     @Test
     public void testToMap() {
         val car = new Car("Subaru", 2010, "Silver");
@@ -80,6 +87,16 @@ public class FromMapTest {
         assertEquals(bd1, bd3);
     }
     
+    @Test
+    public void testFromMap_funcList() {
+        val garage1 = new Garage("Home", FuncList.of(new Car("Subaru", 2010, "Silver"), new Car("BMW", 2012, "Black")));
+        val garage2 = IStruct.fromMap(garage1.__toMap(), Garage.class);
+        assertEquals(garage1, garage2);
+        assertTrue(garage2.cars() instanceof FuncList);
+        // The schema is created once.
+        assertTrue(Garage.getStructSchema() == garage1.__getSchema());
+    }
+    
     @Test
     public void testReadCsv() {
         val csvString = "Mazda,2008,Black\nBMW,2010,Black\nToyota,2012,White";
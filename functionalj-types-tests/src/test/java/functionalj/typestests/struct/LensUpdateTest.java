@@ -0,0 +1,118 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.typestests.struct;
+
+import static functionalj.typestests.TestHelper.assertAsString;
+import static functionalj.typestests.struct.UpdateBook.theUpdateBook;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import functionalj.lens.Lens;
+import functionalj.lens.core.TransientBuilder;
+import functionalj.types.Struct;
+
+public class LensUpdateTest {
+    
+    @Struct
+    void UpdateBuyer(String name, int rank) {
+    }
+    
+    @Struct
+    void UpdateDeal(String id, UpdateBuyer buyer, double price) {
+    }
+    
+    @Struct
+    void UpdateBook(String owner, UpdateDeal deal) {
+    }
+    
+    private final UpdateBook book = new UpdateBook("Ann", new UpdateDeal("D1", new UpdateBuyer("Bob", 1), 10.0));
+    
+    @Test
+    public void testUpdate() {
+        UpdateBook updated = Lens.update(book)
+                .set(theUpdateBook.deal.price, 20.0)
+                .set(theUpdateBook.deal.id, "D2")
+                .set(theUpdateBook.owner, "Amy")
+                .apply();
+        assertAsString("UpdateBook[owner: Amy, deal: UpdateDeal[id: D2, buyer: UpdateBuyer[name: Bob, rank: 1], price: 20.0]]", updated);
+        assertSame(book.deal().buyer(), updated.deal().buyer());
+        
+        UpdateBook oneByOne = theUpdateBook.owner.changeTo("Amy")
+                .andThen(theUpdateBook.deal.id.changeTo("D2"))
+                .andThen(theUpdateBook.deal.price.changeTo(20.0))
+                .apply(book);
+        assertEquals(oneByOne, updated);
+    }
+    
+    @Test
+    public void testUpdate_inOrder() {
+        assertAsString("UpdateBook[owner: Ann, deal: UpdateDeal[id: D1, buyer: UpdateBuyer[name: Bob, rank: 2], price: 40.0]]",
+                Lens.update(book)
+                .set(theUpdateBook.deal.price, 20.0)
+                .change(theUpdateBook.deal.buyer.rank, rank -> rank + 1)
+                .change(theUpdateBook.deal.price, price -> price * 2)
+                .apply());
+        
+        UpdateDeal deal = new UpdateDeal("D3", new UpdateBuyer("Cat", 3), 30.0);
+        assertAsString("UpdateBook[owner: Ann, deal: UpdateDeal[id: D3, buyer: UpdateBuyer[name: Cat, rank: 3], price: 5.0]]",
+                Lens.update(book)
+                .set(theUpdateBook.deal, deal)
+                .set(theUpdateBook.deal.price, 5.0)
+                .apply());
+    }
+    
+    @Test
+    public void testUpdate_noChange() {
+        assertSame(book, Lens.update(book).apply());
+        assertSame(book, Lens.update(book).set(theUpdateBook.deal.buyer, book.deal().buyer()).apply());
+    }
+    
+    @Test
+    public void testSameValue() {
+        UpdateDeal deal = book.deal();
+        assertSame(deal, deal.withId(deal.id()));
+        assertSame(deal, deal.withPrice(10.0));
+        assertSame(deal, deal.withPrice(price -> price));
+        assertSame(deal, deal.withBuyer(() -> deal.buyer()));
+        assertEquals("-0.0", "" + deal.withPrice(0.0).withPrice(-0.0).price());
+        
+        assertSame(book, theUpdateBook.deal.buyer.name.changeTo(book.deal().buyer().name()).apply(book));
+        assertSame(book, theUpdateBook.deal.buyer.rank.changeTo(1).apply(book));
+        assertSame(book, theUpdateBook.deal.price.changeTo(10.0).apply(book));
+        assertSame(book, theUpdateBook.deal.price.changeTo(price -> price).apply(book));
+    }
+    
+    @Test
+    public void testTransientBuilder() {
+        UpdateDeal                   deal    = book.deal();
+        TransientBuilder<UpdateDeal> builder = deal.__transientBuilder();
+        assertTrue(builder.set("price", 5.0));
+        assertTrue(builder.set("id", "D5"));
+        assertFalse(builder.set("unknown", "-"));
+        assertAsString("UpdateDeal[id: D5, buyer: UpdateBuyer[name: Bob, rank: 1], price: 5.0]", builder.seal());
+        assertAsString("UpdateDeal[id: D1, buyer: UpdateBuyer[name: Bob, rank: 1], price: 10.0]", deal);
+    }
+}
@@ -27,6 +27,8 @@ import static functionalj.types.DefaultValue.NULL;
 import static functionalj.typestests.struct.SimpleFromInteface.theSimpleFromInteface;
 import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import java.util.Arrays;
 import org.junit.Test;
 import functionalj.types.DefaultTo;
@@ -73,4 +75,27 @@ public class SimpleStructTest {
     public void testDefaultMethod_callNormally() {
         assertEquals("OBJ1", new SimpleFromInteface("Obj1").nameUpperCase());
     }
+    
+    @functionalj.types.Struct
+    void Measure(double value, float ratio) {
+    }
+    
+    @Test
+    public void testEquals_notANumber() {
+        val measure = new Measure(Double.NaN, Float.NaN);
+        val copy    = Measure.fromMap(measure.__toMap());
+        assertNotSame(measure, copy);
+        assertEquals(measure, copy);
+        assertEquals(measure.hashCode(), copy.hashCode());
+    }
+    
+    @Test
+    public void testEquals_negativeZero() {
+        // Equals and hashCode agree -- -0.0 is not 0.0 (like Double.equals).
+        val zero         = new Measure(0.0, 0.0f);
+        val negativeZero = new Measure(-0.0, -0.0f);
+        assertNotEquals(zero, negativeZero);
+        assertEquals(zero, new Measure(0.0, 0.0f));
+        assertEquals(zero.hashCode(), new Measure(0.0, 0.0f).hashCode());
+    }
 }
@@ -0,0 +1,811 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.types;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import functionalj.list.FuncList;
+import functionalj.map.FuncMap;
+import nullablej.nullable.Nullable;
+
+/**
+ * Codec of the values in the compact binary form of the data types generated with {@link Serialize.To#BINARY}.
+ *
+ * The integer values are written as zig-zag varints and the strings as the varint byte length and the UTF-8 bytes.
+ * The lists are written with a null bitmap while the optional values and the map values are written with a presence byte.
+ * The generated classes write their primitive and string fields with the static methods here
+ *   and keep a codec (resolved once from the field {@link Type}) for each of the other fields.
+ */
+public abstract class BinaryCodec {
+    
+    /**
+     * Write the non-null value.
+     *
+     * @param output  the output.
+     * @param value   the value.
+     * @throws IOException  when the output fails.
+     */
+    public abstract void write(DataOutput output, Object value) throws IOException;
+    
+    /**
+     * Read the value.
+     *
+     * @param input  the input.
+     * @return       the value.
+     * @throws IOException  when the input fails or does not fit the type.
+     */
+    protected abstract Object readValue(DataInput input) throws IOException;
+    
+    /**
+     * Read the value as the expected type.
+     *
+     * @param <T>    the value type.
+     * @param input  the input.
+     * @return       the value.
+     * @throws IOException  when the input fails or does not fit the type.
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> T read(DataInput input) throws IOException {
+        return (T) readValue(input);
+    }
+    
+    /**
+     * Add the data classes written by this codec -- to be folded into the fingerprint of the data class using it.
+     *
+     * @param classes  the list to add to.
+     */
+    void collectDataClasses(List<Class<?>> classes) {
+    }
+    
+    //== Codec of the type ==
+    
+    /**
+     * Returns the codec of the given type.
+     * The type that cannot be written (such as a generic variable) results in a codec that fails when used
+     *   so the class holding it can still be initialized.
+     *
+     * @param type  the type.
+     * @return      the codec.
+     */
+    public static BinaryCodec of(Type type) {
+        try {
+            return codecOf(type);
+        } catch (RuntimeException exception) {
+            return new Unsupported(type, exception);
+        }
+    }
+    
+    private static BinaryCodec codecOf(Type type) {
+        if (type.isList() || type.isFuncList())
+            return new ListCodec(of(genericType(type, 0)), type.isFuncList());
+        if (type.isMap() || type.isFuncMap())
+            return new MapCodec(of(genericType(type, 0)), of(genericType(type, 1)), type.isFuncMap());
+        if (type.isOptional() || type.isNullable())
+            return new OptionalCodec(of(genericType(type, 0)), type.isNullable());
+        
+        Class<?>    clazz = classOf(type);
+        BinaryCodec codec = basicCodecs.get(clazz);
+        if (codec != null)
+            return codec;
+        if (CharSequence.class.isAssignableFrom(clazz))
+            return STRING;
+        if (clazz.isEnum())
+            return new EnumCodec(clazz);
+        if (IBinaryData.class.isAssignableFrom(clazz))
+            return new DataCodec(clazz);
+        if (IData.class.isAssignableFrom(clazz))
+            throw new IllegalArgumentException("The data type is not generated with the binary codec (Serialize.To.BINARY): " + type);
+        if (clazz == Object.class)
+            throw new IllegalArgumentException("The type is not specific enough: " + type);
+        return new TextCodec(clazz);
+    }
+    
+    private static Class<?> classOf(Type type) {
+        try {
+            return type.toClass();
+        } catch (RuntimeException exception) {
+            // The nested class (such as an enum declared in a class) has the binary name with '$'.
+            if (type.encloseName() == null)
+                throw exception;
+            try {
+                String prefix = (type.packageName() != null) ? type.packageName() + "." : "";
+                return Class.forName(prefix + type.encloseName().replace('.', '$') + "$" + type.simpleName());
+            } catch (ClassNotFoundException notFound) {
+                throw exception;
+            }
+        }
+    }
+    
+    private static Type genericType(Type type, int index) {
+        return (type.generics().size() > index) ? type.generics().get(index).toType() : Type.OBJECT;
+    }
+    
+    //== Primitives and strings ==
+    
+    public static void writeVarInt(DataOutput output, int value) throws IOException {
+        writeVarLong(output, value);
+    }
+    
+    public static int readVarInt(DataInput input) throws IOException {
+        return (int) readVarLong(input);
+    }
+    
+    public static void writeVarLong(DataOutput output, long value) throws IOException {
+        writeUnsignedVarLong(output, (value << 1) ^ (value >> 63));
+    }
+    
+    public static long readVarLong(DataInput input) throws IOException {
+        long raw = readUnsignedVarLong(input);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+    
+    /**
+     * Write the value (such as a size or a null bitmap) in 7-bit groups -- the high bit marks that more groups follow.
+     *
+     * @param output  the output.
+     * @param value   the value.
+     * @throws IOException  when the output fails.
+     */
+    public static void writeUnsignedVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+    
+    public static long readUnsignedVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Malformed varint.");
+    }
+    
+    public static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeUnsignedVarLong(output, bytes.length);
+        output.write(bytes);
+    }
+    
+    /** The most elements (or bytes) allocated up front for a length read from the input. */
+    private static final int MAX_PREALLOCATED = 1 << 16;
+    
+    /**
+     * Read the string -- decoded straight from the backing array when reading from a heap byte buffer.
+     *
+     * @param input  the input.
+     * @return       the string.
+     * @throws IOException  when the input fails or the length is corrupted.
+     */
+    public static String readString(DataInput input) throws IOException {
+        int length = checkLength(input, readUnsignedVarLong(input), 1);
+        if (input instanceof BufferInput) {
+            ByteBuffer buffer = ((BufferInput) input).buffer;
+            if (buffer.hasArray()) {
+                String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+                buffer.position(buffer.position() + length);
+                return string;
+            }
+        }
+        if (length <= MAX_PREALLOCATED) {
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return new String(bytes, UTF_8);
+        }
+        
+        // The length is not known to be there -- read it in chunks so a corrupted length ends the input before a large allocation.
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(MAX_PREALLOCATED);
+        byte[]                chunk = new byte[MAX_PREALLOCATED];
+        for (int left = length; left > 0; left -= chunk.length) {
+            int count = Math.min(left, chunk.length);
+            input.readFully(chunk, 0, count);
+            bytes.write(chunk, 0, count);
+        }
+        return new String(bytes.toByteArray(), UTF_8);
+    }
+    
+    /**
+     * Check the length (of a string, a list or a map) read from the input -- a byte buffer input must have its bytes remaining.
+     *
+     * @param input         the input.
+     * @param length        the length read as an unsigned varint.
+     * @param bytesPerItem  the fewest bytes each item takes in the input (zero if an item may take none).
+     * @return              the length.
+     * @throws StreamCorruptedException  when the length cannot be right.
+     */
+    private static int checkLength(DataInput input, long length, int bytesPerItem) throws IOException {
+        if ((length < 0) || (length > Integer.MAX_VALUE))
+            throw new StreamCorruptedException("Invalid length: " + Long.toUnsignedString(length));
+        
+        if (input instanceof BufferInput) {
+            int remaining = ((BufferInput) input).buffer.remaining();
+            if (length * bytesPerItem > remaining)
+                throw new StreamCorruptedException("The length exceeds the remaining bytes: " + length + " (remaining " + remaining + ")");
+        }
+        return (int) length;
+    }
+    
+    //== Byte buffers ==
+    
+    static DataOutput outputOf(ByteBuffer buffer) {
+        return new DataOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                buffer.put((byte) b);
+            }
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                buffer.put(bytes, offset, length);
+            }
+        });
+    }
+    
+    static DataInput inputOf(ByteBuffer buffer) {
+        return new BufferInput(buffer);
+    }
+    
+    /** The input of a byte buffer -- reads straight from the buffer (no read-ahead) so the buffer position is always exact. */
+    private static final class BufferInput extends DataInputStream {
+        
+        private final ByteBuffer buffer;
+        
+        BufferInput(ByteBuffer buffer) {
+            super(new InputStream() {
+                @Override
+                public int read() {
+                    return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+                }
+                @Override
+                public int read(byte[] bytes, int offset, int length) {
+                    if (length == 0)
+                        return 0;
+                    if (!buffer.hasRemaining())
+                        return -1;
+                    
+                    int count = Math.min(length, buffer.remaining());
+                    buffer.get(bytes, offset, count);
+                    return count;
+                }
+                @Override
+                public int available() {
+                    return buffer.remaining();
+                }
+            });
+            this.buffer = buffer;
+        }
+    }
+    
+    //== Data classes ==
+    
+    /** The static {@code __readBinary(DataInput)} of each data class -- resolved once per class. */
+    private static final ClassValue<MethodHandle> readHandles = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> clazz) {
+            try {
+                return MethodHandles.publicLookup().unreflect(clazz.getMethod("__readBinary", DataInput.class));
+            } catch (NoSuchMethodException | IllegalAccessException exception) {
+                throw new IllegalArgumentException("The data type is not generated with the binary codec (Serialize.To.BINARY): " + clazz, exception);
+            }
+        }
+    };
+    
+    /** The fingerprint of the fields of each data class alone -- resolved once per class. */
+    private static final ClassValue<Long> fieldFingerprints = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> clazz) {
+            try {
+                return clazz.getField("__binaryFingerprint").getLong(null);
+            } catch (NoSuchFieldException | IllegalAccessException exception) {
+                throw new IllegalArgumentException("The data type is not generated with the binary codec (Serialize.To.BINARY): " + clazz, exception);
+            }
+        }
+    };
+    
+    /** The codecs of the fields of each data class (from its static {@code __binaryCodecs()}) -- resolved once per class. */
+    private static final ClassValue<BinaryCodec[]> fieldCodecs = new ClassValue<BinaryCodec[]>() {
+        @Override
+        protected BinaryCodec[] computeValue(Class<?> clazz) {
+            try {
+                return (BinaryCodec[]) MethodHandles.publicLookup().unreflect(clazz.getMethod("__binaryCodecs")).invoke();
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                throw new IllegalArgumentException("The data type is not generated with the binary codec (Serialize.To.BINARY): " + clazz, exception);
+            }
+        }
+    };
+    
+    /** The schema fingerprint of each data class -- resolved once per class. */
+    private static final ClassValue<Long> fingerprints = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> clazz) {
+            return foldFingerprint(clazz, new ArrayList<Class<?>>());
+        }
+    };
+    
+    /**
+     * Returns the schema fingerprint of the data class -- the fingerprint of its fields
+     *   with the fingerprints of the data classes nested in them folded in (so a change in a nested class is detected).
+     *
+     * @param clazz  the data class.
+     * @return       the fingerprint.
+     */
+    public static long fingerprintOf(Class<?> clazz) {
+        return fingerprints.get(clazz);
+    }
+    
+    /** Fold the nested data classes in the order of the fields -- a class already on the path only adds its own fields. */
+    private static long foldFingerprint(Class<?> clazz, List<Class<?>> path) {
+        long fingerprint = fieldFingerprints.get(clazz);
+        if (path.contains(clazz))
+            return fingerprint;
+        
+        path.add(clazz);
+        List<Class<?>> nestedClasses = new ArrayList<>();
+        for (BinaryCodec codec : fieldCodecs.get(clazz)) {
+            codec.collectDataClasses(nestedClasses);
+        }
+        for (Class<?> nestedClass : nestedClasses) {
+            // The same FNV-1a step as the fingerprint of the fields -- with the nested fingerprint as the next "character".
+            fingerprint ^= foldFingerprint(nestedClass, path);
+            fingerprint *= 0x100000001b3L;
+        }
+        path.remove(path.size() - 1);
+        return fingerprint;
+    }
+    
+    static Object readData(DataInput input, Class<?> clazz) throws IOException {
+        try {
+            return readHandles.get(clazz).invoke(input);
+        } catch (IOException | RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            throw new IOException(exception);
+        }
+    }
+    
+    //== Codecs ==
+    
+    private static final BinaryCodec BOOLEAN = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            output.writeBoolean((Boolean) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readBoolean();
+        }
+    };
+    
+    private static final BinaryCodec BYTE = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            output.writeByte((Byte) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readByte();
+        }
+    };
+    
+    private static final BinaryCodec CHAR = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            output.writeChar((Character) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readChar();
+        }
+    };
+    
+    private static final BinaryCodec SHORT = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            writeVarInt(output, (Short) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return (short) readVarInt(input);
+        }
+    };
+    
+    private static final BinaryCodec INT = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            writeVarInt(output, (Integer) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return readVarInt(input);
+        }
+    };
+    
+    private static final BinaryCodec LONG = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            writeVarLong(output, (Long) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return readVarLong(input);
+        }
+    };
+    
+    private static final BinaryCodec FLOAT = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            output.writeFloat((Float) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readFloat();
+        }
+    };
+    
+    private static final BinaryCodec DOUBLE = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            output.writeDouble((Double) value);
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readDouble();
+        }
+    };
+    
+    private static final BinaryCodec STRING = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            writeString(output, value.toString());
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return readString(input);
+        }
+    };
+    
+    private static final BinaryCodec OPTIONAL_INT = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            OptionalInt optional = (OptionalInt) value;
+            output.writeBoolean(optional.isPresent());
+            if (optional.isPresent())
+                writeVarInt(output, optional.getAsInt());
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readBoolean() ? OptionalInt.of(readVarInt(input)) : OptionalInt.empty();
+        }
+    };
+    
+    private static final BinaryCodec OPTIONAL_LONG = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            OptionalLong optional = (OptionalLong) value;
+            output.writeBoolean(optional.isPresent());
+            if (optional.isPresent())
+                writeVarLong(output, optional.getAsLong());
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readBoolean() ? OptionalLong.of(readVarLong(input)) : OptionalLong.empty();
+        }
+    };
+    
+    private static final BinaryCodec OPTIONAL_DOUBLE = new BinaryCodec() {
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            OptionalDouble optional = (OptionalDouble) value;
+            output.writeBoolean(optional.isPresent());
+            if (optional.isPresent())
+                output.writeDouble(optional.getAsDouble());
+        }
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return input.readBoolean() ? OptionalDouble.of(input.readDouble()) : OptionalDouble.empty();
+        }
+    };
+    
+    private static final Map<Class<?>, BinaryCodec> basicCodecs;
+    
+    static {
+        Map<Class<?>, BinaryCodec> map = new HashMap<>();
+        map.put(boolean.class,        BOOLEAN);
+        map.put(Boolean.class,        BOOLEAN);
+        map.put(byte.class,           BYTE);
+        map.put(Byte.class,           BYTE);
+        map.put(char.class,           CHAR);
+        map.put(Character.class,      CHAR);
+        map.put(short.class,          SHORT);
+        map.put(Short.class,          SHORT);
+        map.put(int.class,            INT);
+        map.put(Integer.class,        INT);
+        map.put(long.class,           LONG);
+        map.put(Long.class,           LONG);
+        map.put(float.class,          FLOAT);
+        map.put(Float.class,          FLOAT);
+        map.put(double.class,         DOUBLE);
+        map.put(Double.class,         DOUBLE);
+        map.put(String.class,         STRING);
+        map.put(OptionalInt.class,    OPTIONAL_INT);
+        map.put(OptionalLong.class,   OPTIONAL_LONG);
+        map.put(OptionalDouble.class, OPTIONAL_DOUBLE);
+        basicCodecs = unmodifiableMap(map);
+    }
+    
+    /** The list -- the size (with a flag for the null elements), the null bitmap when flagged and then the non-null elements. */
+    private static final class ListCodec extends BinaryCodec {
+        
+        private final BinaryCodec elementCodec;
+        
+        private final boolean isFuncList;
+        
+        ListCodec(BinaryCodec elementCodec, boolean isFuncList) {
+            this.elementCodec = elementCodec;
+            this.isFuncList   = isFuncList;
+        }
+        
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            List<?> list  = (List<?>) value;
+            int     size  = list.size();
+            byte[]  nulls = null;
+            for (int i = 0; i < size; i++) {
+                if (list.get(i) == null) {
+                    if (nulls == null)
+                        nulls = new byte[(size + 7) >>> 3];
+                    nulls[i >>> 3] |= (1 << (i & 7));
+                }
+            }
+            writeUnsignedVarLong(output, ((long) size << 1) | ((nulls != null) ? 1 : 0));
+            if (nulls != null)
+                output.write(nulls);
+            
+            for (int i = 0; i < size; i++) {
+                Object element = list.get(i);
+                if (element != null)
+                    elementCodec.write(output, element);
+            }
+        }
+        
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            long   header = readUnsignedVarLong(input);
+            int    size   = checkLength(input, header >>> 1, 0);
+            byte[] nulls  = null;
+            if ((header & 1) != 0) {
+                nulls = new byte[checkLength(input, (size + 7L) >>> 3, 1)];
+                input.readFully(nulls);
+            }
+            List<Object> list = new ArrayList<>(Math.min(size, MAX_PREALLOCATED));
+            for (int i = 0; i < size; i++) {
+                boolean isNull = (nulls != null) && ((nulls[i >>> 3] & (1 << (i & 7))) != 0);
+                list.add(isNull ? null : elementCodec.readValue(input));
+            }
+            return isFuncList ? FuncList.from(list) : list;
+        }
+        
+        @Override
+        void collectDataClasses(List<Class<?>> classes) {
+            elementCodec.collectDataClasses(classes);
+        }
+    }
+    
+    /** The map -- the size and then each key followed by the presence byte and the value. */
+    private static final class MapCodec extends BinaryCodec {
+        
+        private final BinaryCodec keyCodec;
+        
+        private final BinaryCodec valueCodec;
+        
+        private final boolean isFuncMap;
+        
+        MapCodec(BinaryCodec keyCodec, BinaryCodec valueCodec, boolean isFuncMap) {
+            this.keyCodec   = keyCodec;
+            this.valueCodec = valueCodec;
+            this.isFuncMap  = isFuncMap;
+        }
+        
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeUnsignedVarLong(output, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() == null)
+                    throw new IllegalArgumentException("Null map key cannot be written.");
+                
+                keyCodec.write(output, entry.getKey());
+                output.writeBoolean(entry.getValue() != null);
+                if (entry.getValue() != null)
+                    valueCodec.write(output, entry.getValue());
+            }
+        }
+        
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            // Each entry has at least its presence byte.
+            int                 size = checkLength(input, readUnsignedVarLong(input), 1);
+            Map<Object, Object> map  = new LinkedHashMap<>(Math.min(size, MAX_PREALLOCATED) * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                Object key   = keyCodec.readValue(input);
+                Object value = input.readBoolean() ? valueCodec.readValue(input) : null;
+                map.put(key, value);
+            }
+            return isFuncMap ? FuncMap.from(map) : map;
+        }
+        
+        @Override
+        void collectDataClasses(List<Class<?>> classes) {
+            keyCodec.collectDataClasses(classes);
+            valueCodec.collectDataClasses(classes);
+        }
+    }
+    
+    /** The optional or the nullable -- the presence byte and then the value. */
+    private static final class OptionalCodec extends BinaryCodec {
+        
+        private final BinaryCodec valueCodec;
+        
+        private final boolean isNullable;
+        
+        OptionalCodec(BinaryCodec valueCodec, boolean isNullable) {
+            this.valueCodec = valueCodec;
+            this.isNullable = isNullable;
+        }
+        
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            Object content = isNullable ? ((Nullable<?>) value).orElse(null) : ((Optional<?>) value).orElse(null);
+            output.writeBoolean(content != null);
+            if (content != null)
+                valueCodec.write(output, content);
+        }
+        
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            Object content = input.readBoolean() ? valueCodec.readValue(input) : null;
+            return isNullable ? Nullable.of(content) : Optional.ofNullable(content);
+        }
+        
+        @Override
+        void collectDataClasses(List<Class<?>> classes) {
+            valueCodec.collectDataClasses(classes);
+        }
+    }
+    
+    /** The enum -- by the name so reordering the constants does not change the meaning. */
+    private static final class EnumCodec extends BinaryCodec {
+        
+        private final Class<?> enumClass;
+        
+        EnumCodec(Class<?> enumClass) {
+            this.enumClass = enumClass;
+        }
+        
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            writeString(output, ((Enum<?>) value).name());
+        }
+        
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return Enum.valueOf((Class) enumClass, readString(input));
+        }
+    }
+    
+    /** The generated data class -- written by its own generated code. */
+    private static final class DataCodec extends BinaryCodec {
+        
+        private final Class<?> dataClass;
+        
+        DataCodec(Class<?> dataClass) {
+            this.dataClass = dataClass;
+        }
+        
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            ((IBinaryData) value).__writeBinary(output);
+        }
+        
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return readData(input, dataClass);
+        }
+        
+        @Override
+        void collectDataClasses(List<Class<?>> classes) {
+            classes.add(dataClass);
+        }
+    }
+    
+    /** Any other type -- as the text of its map value and parsed back the same way as from a map. */
+    private static final class TextCodec extends BinaryCodec {
+        
+        private final Class<?> valueClass;
+        
+        TextCodec(Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+        
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            writeString(output, String.valueOf(IData.$utils.toMapValueObject(value)));
+        }
+        
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            return IData.$utils.fromMapValue(readString(input), valueClass, DefaultValue.REQUIRED, null);
+        }
+    }
+    
+    private static final class Unsupported extends BinaryCodec {
+        
+        private final Type type;
+        
+        private final RuntimeException cause;
+        
+        Unsupported(Type type, RuntimeException cause) {
+            this.type  = type;
+            this.cause = cause;
+        }
+        
+        @Override
+        public void write(DataOutput output, Object value) throws IOException {
+            throw new IllegalArgumentException("The type cannot be written in binary: " + type, cause);
+        }
+        
+        @Override
+        protected Object readValue(DataInput input) throws IOException {
+            throw new IllegalArgumentException("The type cannot be read from binary: " + type, cause);
+        }
+    }
+}
@@ -64,6 +64,8 @@ public enum Core {
     StringLens("StringLens"),
     Generated("Generated", "functionalj.types"),
     LensSpec("LensSpec", "functionalj.lens.core"),
+    TransientBuilder("TransientBuilder", "functionalj.lens.core"),
+    TransientSource("TransientSource", "functionalj.lens.core"),
     FuncList("FuncList", "functionalj.list"),
     FuncMap("FuncMap", "functionalj.map"),
     ImmutableFuncList("ImmutableFuncList", "functionalj.list"),
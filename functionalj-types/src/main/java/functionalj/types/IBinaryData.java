@@ -0,0 +1,108 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.types;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Data with the generated compact binary codec -- see {@link Serialize.To#BINARY}.
+ *
+ * The written data starts with the schema fingerprint of the data class (8 bytes)
+ *   so reading with an incompatible class fails up front.
+ * The nested data is written without the fingerprint -- the fingerprints of the nested data classes
+ *   are folded into the one of the data class instead (see {@link BinaryCodec#fingerprintOf(Class)}).
+ */
+public interface IBinaryData extends IData {
+    
+    /** @return the schema fingerprint of this data class -- including the data classes nested in its fields. */
+    public long __binaryFingerprint();
+    
+    /**
+     * Write the fields of this data (without the fingerprint).
+     *
+     * @param output  the output.
+     * @throws IOException  when the output fails.
+     */
+    public void __writeBinary(DataOutput output) throws IOException;
+    
+    public static byte[] toBytes(IBinaryData data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(new DataOutputStream(bytes), data);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return bytes.toByteArray();
+    }
+    
+    public static void write(DataOutput output, IBinaryData data) throws IOException {
+        output.writeLong(data.__binaryFingerprint());
+        data.__writeBinary(output);
+    }
+    
+    /**
+     * Write the data to the buffer from its position.
+     *
+     * @param buffer  the buffer.
+     * @param data    the data.
+     * @throws IOException  when the data cannot be written.
+     * @throws java.nio.BufferOverflowException  when the buffer is too small.
+     */
+    public static void write(ByteBuffer buffer, IBinaryData data) throws IOException {
+        write(BinaryCodec.outputOf(buffer), data);
+    }
+    
+    public static <D extends IBinaryData> D fromBytes(byte[] bytes, Class<D> clazz) throws IOException {
+        return read(ByteBuffer.wrap(bytes), clazz);
+    }
+    
+    public static <D extends IBinaryData> D read(DataInput input, Class<D> clazz) throws IOException {
+        long fingerprint = input.readLong();
+        long expected    = BinaryCodec.fingerprintOf(clazz);
+        if (fingerprint != expected)
+            throw new StreamCorruptedException(String.format("Incompatible schema for %s: %016x (expected %016x)", clazz.getName(), fingerprint, expected));
+        
+        return clazz.cast(BinaryCodec.readData(input, clazz));
+    }
+    
+    /**
+     * Read the data from the buffer position -- the strings are decoded straight from the buffer when it has a backing array.
+     *
+     * @param <D>     the data type.
+     * @param buffer  the buffer.
+     * @param clazz   the data class.
+     * @return        the data.
+     * @throws IOException  when the data cannot be read.
+     */
+    public static <D extends IBinaryData> D read(ByteBuffer buffer, Class<D> clazz) throws IOException {
+        return read(BinaryCodec.inputOf(buffer), clazz);
+    }
+}
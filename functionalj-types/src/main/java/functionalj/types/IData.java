@@ -29,6 +29,8 @@ import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -51,6 +53,7 @@ import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalAmount;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -63,6 +66,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import functionalj.list.FuncList;
+import functionalj.map.FuncMap;
 import functionalj.promise.Promise;
 import functionalj.ref.Ref;
 import functionalj.result.Acceptable;
@@ -72,6 +77,7 @@ import functionalj.result.Value;
 import functionalj.types.choice.ChoiceTypes;
 import functionalj.types.choice.IChoice;
 import functionalj.types.choice.generator.model.CaseParam;
+import functionalj.types.struct.generator.Getter;
 import nullablej.nullable.IAsNullable;
 import nullablej.nullable.LiveNullable;
 import nullablej.nullable.Nullable;
@@ -218,6 +224,62 @@ public interface IData {
             wrappedTypes = unmodifiableMap(map);
         }
         
+        /** The static {@code fromMap(Map)} of each data class -- resolved once per class. */
+        private static final ClassValue<MethodHandle> fromMapHandles = new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> clazz) {
+                return staticHandle(clazz, "fromMap", Map.class);
+            }
+        };
+        
+        /** The static {@code from(...)} of each rule class (taking its {@code ___dataType()}) -- resolved once per class. */
+        private static final ClassValue<MethodHandle> ruleFromHandles = new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> clazz) {
+                try {
+                    Class<?> baseClass = (Class<?>) staticHandle(clazz, "___dataType").invoke();
+                    return staticHandle(clazz, "from", baseClass);
+                } catch (RuntimeException | Error exception) {
+                    throw exception;
+                } catch (Throwable exception) {
+                    throw new IllegalArgumentException("Fail to find the data type of the rule class: " + clazz, exception);
+                }
+            }
+        };
+        
+        private static MethodHandle staticHandle(Class<?> clazz, String name, Class<?> ... paramTypes) {
+            try {
+                Method method = clazz.getMethod(name, paramTypes);
+                return MethodHandles.publicLookup().unreflect(method);
+            } catch (NoSuchMethodException | IllegalAccessException exception) {
+                throw new IllegalArgumentException("Fail to find the method: " + clazz.getName() + "." + name, exception);
+            }
+        }
+        
+        /**
+         * Returns the method handle of the static {@code fromMap(Map)} of the given data class.
+         * 
+         * @param clazz  the data class.
+         * @return       the method handle.
+         */
+        public static MethodHandle fromMapHandle(Class<?> clazz) {
+            return fromMapHandles.get(clazz);
+        }
+        
+        /**
+         * Returns the immutable schema (ordered as given) of a struct -- used by the generated struct to create it once.
+         * 
+         * @param getters  the getters of the struct.
+         * @return         the schema.
+         */
+        public static Map<String, Getter> structSchemaOf(Getter ... getters) {
+            Map<String, Getter> schema = new LinkedHashMap<>(getters.length * 4 / 3 + 1);
+            for (Getter getter : getters) {
+                schema.put(getter.name(), getter);
+            }
+            return unmodifiableMap(schema);
+        }
+        
         public static Supplier<Object> defaultValueOf(Type type, DefaultValue defaultValue) {
             return () -> DefaultValue.defaultValue(type, defaultValue);
         }
@@ -256,13 +318,13 @@ public interface IData {
                     return (D) wrapperCreator.apply(unwrappedRxtractedValue);
                 }
                 if (Acceptable.class.isAssignableFrom(valueClzz) && IRule.class.isAssignableFrom(valueClzz)) {
-                    // TODO - This should be cached
-                    Class  baseClass  = (Class) valueClzz.getMethod("___dataType").invoke(null);
-                    Object acceptable = valueClzz.getMethod("from", baseClass).invoke(null, extractedValue);
+                    Object acceptable = ruleFromHandles.get(valueClzz).invoke(extractedValue);
                     return (D) acceptable;
                 }
                 return valueClzz.cast(extractedValue);
-            } catch (Exception exception) {
+            } catch (Error error) {
+                throw error;
+            } catch (Throwable exception) {
                 String errMsg = prepareExtractValueErrMsg(objClzz, fieldName, valueFromMap, getterSpec, extractedValue);
                 throw new IllegalArgumentException(errMsg, exception);
             }
@@ -556,14 +618,7 @@ public interface IData {
                 map.put(key, value);
             });
             if (type.isFuncMap()) {
-                try {
-                    String funcListName = Core.FuncMap.type().fullName();
-                    Class  funcListClass = Class.forName(funcListName);
-                    Method funcListFrom = funcListClass.getMethod("from", Map.class);
-                    return (Map) funcListFrom.invoke(funcListClass, map);
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("Object does not fit the data specfication for type (" + type + "): " + obj);
-                }
+                return FuncMap.from(map);
             }
             return map;
         }
@@ -600,14 +655,7 @@ public interface IData {
             Type elementType = ((type.generics().size() > 0) ? type.generics().get(0).toType() : Type.OBJECT);
             List list        = (List) (obj).stream().map(each -> fromValue(each, elementType)).collect(toList());
             if (type.isFuncList()) {
-                try {
-                    String funcListName  = Core.FuncList.type().fullName();
-                    Class  funcListClass = Class.forName(funcListName);
-                    Method funcListFrom  = funcListClass.getMethod("from", List.class);
-                    return (List) funcListFrom.invoke(funcListClass, list);
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("Object does not fit the data specfication for type (" + type + "): " + obj);
-                }
+                return FuncList.from(list);
             }
             return list;
         }
@@ -633,12 +681,14 @@ public interface IData {
             return a == b;
         }
         
+        // The floating points compare by their bits (like their equals and hashOf)
+        //   -- so NaN equals NaN (a struct with NaN equals its copy) but -0.0 does not equal 0.0.
         public static boolean checkEquals(float a, float b) {
-            return a == b;
+            return Float.floatToIntBits(a) == Float.floatToIntBits(b);
         }
         
         public static boolean checkEquals(double a, double b) {
-            return a == b;
+            return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
         }
         
         public static boolean checkEquals(boolean a, boolean b) {
@@ -648,5 +698,29 @@ public interface IData {
         public static boolean checkEquals(Object a, Object b) {
             return ((a == null) && (b == null)) || Objects.equals(a, b);
         }
+        
+        public static int hashOf(int value) {
+            return Integer.hashCode(value);
+        }
+        
+        public static int hashOf(long value) {
+            return Long.hashCode(value);
+        }
+        
+        public static int hashOf(float value) {
+            return Float.hashCode(value);
+        }
+        
+        public static int hashOf(double value) {
+            return Double.hashCode(value);
+        }
+        
+        public static int hashOf(boolean value) {
+            return Boolean.hashCode(value);
+        }
+        
+        public static int hashOf(Object value) {
+            return Objects.hashCode(value);
+        }
     }
 }
@@ -23,7 +23,6 @@
 // ============================================================================
 package functionalj.types;
 
-import java.lang.reflect.Method;
 import java.util.Map;
 import functionalj.types.struct.generator.Getter;
 
@@ -35,10 +34,11 @@ public interface IStruct extends IData {
     
     public static <S extends IStruct> S fromMap(Map<String, Object> map, Class<S> clazz) {
         try {
-            Method method = clazz.getMethod("fromMap", Map.class);
-            Object struct = method.invoke(clazz, map);
+            Object struct = $utils.fromMapHandle(clazz).invoke(map);
             return clazz.cast(struct);
-        } catch (Exception cause) {
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable cause) {
             throw new StructConversionException(cause);
         }
     }
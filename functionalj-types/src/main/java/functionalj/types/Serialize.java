@@ -33,7 +33,9 @@ public interface Serialize<T> {
         DOUBLE,
         STRING,
         LIST,
-        MAP
+        MAP,
+        /** The compact binary form -- the generated class implements {@link IBinaryData}. */
+        BINARY
     }
     
     public T serialize();
@@ -111,4 +111,9 @@ public @interface Struct {
      */
     public String toStringTemplate() default "";
     
+    /**
+     * @return the flag indicating that the hash code should be cached once calculated - default to true.
+     */
+    public boolean cacheHashCode() default true;
+    
 }
@@ -24,6 +24,7 @@
 package functionalj.types.choice;
 
 import static functionalj.types.choice.generator.Lines.string;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.unsupportedReason;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
@@ -47,8 +48,11 @@ import javax.lang.model.util.Types;
 
 import functionalj.types.Choice;
 import functionalj.types.JavaVersionInfo;
+import functionalj.types.Serialize;
 import functionalj.types.VersionUtils;
 import functionalj.types.choice.generator.Generator;
+import functionalj.types.choice.generator.model.Case;
+import functionalj.types.choice.generator.model.CaseParam;
 import functionalj.types.choice.generator.model.SourceSpec;
 import functionalj.types.input.Environment;
 import functionalj.types.input.InputDeclaredType;
@@ -109,6 +113,9 @@ public class ChoiceAnnotationProcessor extends AbstractProcessor {
                 element.error(errMsg);
                 continue;
             }
+            if (!validateBinaryTypes(element, sourceSpec))
+                continue;
+            
             Generator generator = new Generator(sourceSpec);
             try {
                 String content = string(generator.lines());
@@ -130,6 +137,24 @@ public class ChoiceAnnotationProcessor extends AbstractProcessor {
         return hasError;
     }
     
+    private boolean validateBinaryTypes(InputElement element, SourceSpec sourceSpec) {
+        if (sourceSpec.serialize != Serialize.To.BINARY)
+            return true;
+        
+        boolean isValid = true;
+        for (Case choice : sourceSpec.choices) {
+            for (CaseParam param : choice.params) {
+                String reason = unsupportedReason(param.type());
+                if (reason != null) {
+                    String template = "The type of the parameter %s.%s cannot be written by the binary codec (%s): %s";
+                    element.error(format(template, choice.name, param.name(), reason, param.type()));
+                    isValid = false;
+                }
+            }
+        }
+        return isValid;
+    }
+    
     @SuppressWarnings("unused")
     private void prepareLogs(InputElement element) {
         if (element.isTypeElement()) {
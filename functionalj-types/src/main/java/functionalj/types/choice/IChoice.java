@@ -23,7 +23,6 @@
 // ============================================================================
 package functionalj.types.choice;
 
-import java.lang.reflect.Method;
 import java.util.Map;
 
 import functionalj.types.ChoiceConversionException;
@@ -40,10 +39,11 @@ public interface IChoice<S> extends IData {
     
     public static <S extends IChoice<S>> S fromMap(Map<String, Object> map, Class<S> clazz) {
         try {
-            Method method = clazz.getMethod("fromMap", Map.class);
-            Object struct = method.invoke(clazz, map);
+            Object struct = $utils.fromMapHandle(clazz).invoke(map);
             return clazz.cast(struct);
-        } catch (Exception cause) {
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable cause) {
             throw new ChoiceConversionException(cause);
         }
     }
@@ -0,0 +1,137 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.types.choice.generator;
+
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.CODEC_FIELD_PREFIX;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.FINGERPRINT_FIELD;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.codecFieldCode;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.codecsCode;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.describe;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.fingerprintCode;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.fingerprintLiteral;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.isDirect;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.readExpressions;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.readNullLines;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.writeLines;
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import functionalj.types.Serialize;
+import functionalj.types.choice.generator.model.Case;
+import functionalj.types.choice.generator.model.CaseParam;
+
+/**
+ * Generator for the binary codec of the choice type -- the case index as the tag byte followed by the case parameters.
+ */
+public class BinaryCodecBuilder implements Lines {
+    
+    private final TargetClass targetClass;
+    
+    private final List<Case> choices;
+    
+    public BinaryCodecBuilder(TargetClass targetClass) {
+        this.targetClass = targetClass;
+        this.choices     = targetClass.spec.choices;
+    }
+    
+    public static boolean isBinary(TargetClass targetClass) {
+        return targetClass.spec.serialize == Serialize.To.BINARY;
+    }
+    
+    private static String codecField(Case choice, CaseParam param) {
+        return CODEC_FIELD_PREFIX + choice.name + "_" + param.name();
+    }
+    
+    private Stream<String> fields() {
+        String description = targetClass.spec.targetName + choices.stream().map(choice -> choice.name + describe(choice.params)).collect(joining("|", "{", "}"));
+        return Stream.concat(
+                Stream.of(format("public static final long %1$s = %2$s;", FINGERPRINT_FIELD, fingerprintLiteral(description))),
+                choices.stream().flatMap(choice -> choice.params.stream().filter(param -> !isDirect(param.type())).map(param -> codecFieldCode(codecField(choice, param), param.type()))));
+    }
+    
+    private List<String> codecFields() {
+        return choices.stream().flatMap(choice -> choice.params.stream().filter(param -> !isDirect(param.type())).map(param -> codecField(choice, param))).collect(toList());
+    }
+    
+    private Stream<String> writeCase(int index) {
+        Case         choice   = choices.get(index);
+        String       caseType = choice.name + targetClass.getType().genericsString();
+        List<String> lines    = writeLines(choice.params, param -> "$case." + param.name(), param -> codecField(choice, param));
+        return Stream.of(
+                Stream.of(format("        case %1$d: {", index)),
+                lines.isEmpty() ? Stream.<String>empty() : Stream.of(format("            %1$s $case = (%1$s)this;", caseType)),
+                lines.stream().map("            "::concat),
+                Stream.of("            return;"),
+                Stream.of("        }")
+            ).flatMap(allLines -> allLines);
+    }
+    
+    private Stream<String> readCase(int index) {
+        Case         choice      = choices.get(index);
+        List<String> expressions = readExpressions(choice.params, param -> codecField(choice, param));
+        return Stream.of(
+                Stream.of(format("        case %1$d: {", index)),
+                readNullLines(choice.params).stream().map("            "::concat),
+                Stream.of(format("            return (T)%1$s(%2$s);", choice.name, expressions.stream().collect(joining(", ")))),
+                Stream.of("        }")
+            ).flatMap(allLines -> allLines);
+    }
+    
+    @Override
+    public List<String> lines() {
+        if (!isBinary(targetClass))
+            return emptyList();
+        
+        String targetName = targetClass.getType().simpleName();
+        return Stream.of(
+                fields(),
+                Stream.of(format("public long %1$s() {", FINGERPRINT_FIELD)),
+                Stream.of(format("    return %1$s;", fingerprintCode(targetName))),
+                Stream.of("}"),
+                Stream.of("public static BinaryCodec[] __binaryCodecs() {"),
+                Stream.of(format("    return %1$s;", codecsCode(codecFields()))),
+                Stream.of("}"),
+                Stream.of("public void __writeBinary(DataOutput output) throws IOException {"),
+                Stream.of("    output.writeByte(__caseIndex());"),
+                Stream.of("    switch (__caseIndex()) {"),
+                range(0, choices.size()).boxed().flatMap(this::writeCase),
+                Stream.of("        default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());"),
+                Stream.of("    }"),
+                Stream.of("}"),
+                Stream.of(format("public static <T extends %1$s> T __readBinary(DataInput input) throws IOException {", targetName)),
+                Stream.of("    int $tag = input.readUnsignedByte();"),
+                Stream.of("    switch ($tag) {"),
+                range(0, choices.size()).boxed().flatMap(this::readCase),
+                Stream.of("        default: throw new IOException(\"Unknown case: \" + $tag);"),
+                Stream.of("    }"),
+                Stream.of("}")
+            ).flatMap(allLines -> allLines).collect(toList());
+    }
+}
@@ -0,0 +1,71 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.types.choice.generator;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import java.util.List;
+import java.util.stream.Stream;
+import functionalj.types.choice.generator.model.Case;
+
+/**
+ * Generator for the case index and the allocation-free match method that dispatches on it with a switch.
+ */
+public class CaseMatchBuilder implements Lines {
+    
+    private final TargetClass targetClass;
+    
+    private final List<Case> choices;
+    
+    public CaseMatchBuilder(TargetClass targetClass) {
+        this.targetClass = targetClass;
+        this.choices     = targetClass.spec.choices;
+    }
+    
+    private String caseType(Case choice) {
+        return choice.name + targetClass.getType().genericsString();
+    }
+    
+    private Stream<String> body() {
+        return Stream.of(
+                Stream.of("    switch (__caseIndex()) {"),
+                range(0, choices.size()).mapToObj(index -> format("        case %1$d: return %2$s.apply((%3$s)this);", index, Utils.toCamelCase(choices.get(index).name), caseType(choices.get(index)))),
+                Stream.of("        default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());"),
+                Stream.of("    }")
+            ).flatMap(allLines -> allLines);
+    }
+    
+    @Override
+    public List<String> lines() {
+        String params = choices.stream().map(choice -> format("Function<? super %1$s, ? extends TARGET> %2$s", caseType(choice), Utils.toCamelCase(choice.name))).collect(joining(", "));
+        return Stream.of(
+                Stream.of("public abstract int __caseIndex();"),
+                Stream.of("public <TARGET> TARGET match(" + params + ") {"),
+                body(),
+                Stream.of("}")
+            ).flatMap(allLines -> allLines).collect(toList());
+    }
+}
@@ -36,7 +36,7 @@ public class FromMapBuilder implements Lines {
     }
     
     private Stream<String> body() {
-        return Stream.of(Stream.of("    if (map == null)", "        return null;"), Stream.of("    String __tagged = (String)map.get(\"" + targetClass.spec.tagMapKeyName + "\");"), targetClass.spec.choices.stream().flatMap(choice -> Stream.of("    if (\"" + choice.name + "\".equals(__tagged))", "        return (T)" + choice.name + ".caseFromMap(map);")), Stream.of("    throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);")).flatMap(allLines -> allLines);
+        return Stream.of(Stream.of("    if (map == null)", "        return null;"), Stream.of("    String __tagged = (String)map.get(\"" + targetClass.spec.tagMapKeyName + "\");"), Stream.of("    if (__tagged != null) {", "        switch (__tagged) {"), targetClass.spec.choices.stream().map(choice -> "            case \"" + choice.name + "\": return (T)" + choice.name + ".caseFromMap(map);"), Stream.of("        }", "    }"), Stream.of("    throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);")).flatMap(allLines -> allLines);
     }
     
     @Override
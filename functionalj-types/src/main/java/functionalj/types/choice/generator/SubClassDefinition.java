@@ -24,9 +24,12 @@
 package functionalj.types.choice.generator;
 
 import static functionalj.types.choice.generator.Utils.toTitleCase;
+import static functionalj.types.choice.generator.model.Method.Kind.DEFAULT;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import functionalj.types.choice.generator.model.Case;
@@ -51,12 +54,70 @@ public class SubClassDefinition implements Lines {
         String          lensEachInstance = lens.generateEachLensField().toDefinition(targetClass.type.packageName()).lines().findFirst().get();
         ToMapBuilder    toMapMethod = new ToMapBuilder(targetClass, this.choice);
         if (!choice.isParameterized()) {
-            return asList(asList(format("public static final class %1$s%2$s extends %3$s {", name, targetClass.getType().genericDef(), targetClass.getType().typeWithGenerics())), asList(format("    " + lensTheInstance)), asList(format("    " + lensEachInstance)), asList(format("    private static final %1$s instance = new %1$s();", name)), asList(format("    private %1$s() {}", name)), lens.build().stream().map(l -> "    " + l).collect(Collectors.toList()), toMapMethod.lines().stream().map(line -> "    " + line).collect(toList()), new SubSchemaBuilder(choice).lines().stream().map(line -> "    " + line).collect(toList()), new SubFromMapBuilder(targetClass, choice).lines().stream().map(line -> "    " + line).collect(toList()), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
+            return asList(asList(format("public static final class %1$s%2$s extends %3$s {", name, targetClass.getType().genericDef(), targetClass.getType().typeWithGenerics())), asList(format("    " + lensTheInstance)), asList(format("    " + lensEachInstance)), asList(format("    private static final %1$s instance = new %1$s();", name)), asList(format("    private %1$s() {}", name)), asList(caseIndexMethod()), lens.build().stream().map(l -> "    " + l).collect(Collectors.toList()), toMapMethod.lines().stream().map(line -> "    " + line).collect(toList()), new SubSchemaBuilder(choice).lines().stream().map(line -> "    " + line).collect(toList()), new SubFromMapBuilder(targetClass, choice).lines().stream().map(line -> "    " + line).collect(toList()), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
         }
         String paramDefs  = choice.mapJoinParams(p -> p.type().typeWithGenerics() + " " + p.name(), ", ");
         String paramCalls = choice.mapJoinParams(p -> p.name(), ", ");
         String fieldAccss = targetClass.spec.publicFields ? "public" : "private";
-        return asList(asList(format("public static final class %1$s%2$s extends %3$s {", name, targetClass.getType().genericDef(), targetClass.getType().typeWithGenerics())), asList(format("    " + lensTheInstance)), asList(format("    " + lensEachInstance)), choice.mapParams(p -> format("    %1$s %2$s %3$s;", fieldAccss, p.type().typeWithGenerics(), p.name())), asList(format("    private %1$s(%2$s) {", name, paramDefs)), choice.mapParams(this::fieldAssignment), asList(format("    }")), choice.mapParams(p -> format("    public %1$s %2$s() { return %2$s; }", p.type().typeWithGenerics(), p.name())), choice.mapParams(p -> format("    public %1$s with%2$s(%3$s %4$s) { return new %5$s(%6$s); }", name + targetClass.getType().genericsString(), toTitleCase(p.name()), p.type().typeWithGenerics(), p.name(), name + targetClass.getType().genericsString(), paramCalls)), lens.build().stream().map(line -> "    " + line).collect(toList()), toMapMethod.lines().stream().map(line -> "    " + line).collect(toList()), new SubSchemaBuilder(choice).lines().stream().map(line -> "    " + line).collect(toList()), new SubFromMapBuilder(targetClass, choice).lines().stream().map(line -> "    " + line).collect(toList()), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
+        return asList(asList(format("public static final class %1$s%2$s extends %3$s {", name, targetClass.getType().genericDef(), targetClass.getType().typeWithGenerics())), asList(format("    " + lensTheInstance)), asList(format("    " + lensEachInstance)), choice.mapParams(p -> format("    %1$s %2$s %3$s;", fieldAccss, p.type().typeWithGenerics(), p.name())), asList(format("    private %1$s(%2$s) {", name, paramDefs)), choice.mapParams(this::fieldAssignment), asList(format("    }")), asList(caseIndexMethod()), choice.mapParams(p -> format("    public %1$s %2$s() { return %2$s; }", p.type().typeWithGenerics(), p.name())), choice.mapParams(p -> format("    public %1$s with%2$s(%3$s %4$s) { return new %5$s(%6$s); }", name + targetClass.getType().genericsString(), toTitleCase(p.name()), p.type().typeWithGenerics(), p.name(), name + targetClass.getType().genericsString(), paramCalls)), objectMethods(name), lens.build().stream().map(line -> "    " + line).collect(toList()), toMapMethod.lines().stream().map(line -> "    " + line).collect(toList()), new SubSchemaBuilder(choice).lines().stream().map(line -> "    " + line).collect(toList()), new SubFromMapBuilder(targetClass, choice).lines().stream().map(line -> "    " + line).collect(toList()), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
+    }
+    
+    private String caseIndexMethod() {
+        return format("    @Override public int __caseIndex() { return %d; }", targetClass.spec.choices.indexOf(choice));
+    }
+    
+    private List<String> objectMethods(String name) {
+        // Custom equals or hashCode of the choice type is used as is.
+        if (hasMethod(format("int hashCode(%s)", targetClass.type.toString()))
+         || hasMethod(format("boolean equals(%s, Object)", targetClass.type.toString()))
+         || hasMethod(format("boolean equals(%s, java.lang.Object)", targetClass.type.toString())))
+            return Collections.emptyList();
+        
+        // Only private fields are known not to change so the hash code can be cached.
+        boolean      cacheHashCode = !targetClass.spec.publicFields;
+        String       wildcards     = targetClass.getType().generics().isEmpty() ? "" : targetClass.getType().generics().stream().map(g -> "?").collect(Collectors.joining(", ", "<", ">"));
+        List<String> lines         = new ArrayList<String>();
+        if (cacheHashCode) {
+            lines.add("    private transient int __hashCode;");
+        }
+        lines.add("    @Override");
+        lines.add("    public int hashCode() {");
+        if (cacheHashCode) {
+            lines.add("        int hashCode = __hashCode;");
+            lines.add("        if (hashCode != 0)");
+            lines.add("            return hashCode;");
+            lines.add(format("        hashCode = %d;", name.hashCode()));
+        } else {
+            lines.add(format("        int hashCode = %d;", name.hashCode()));
+        }
+        lines.addAll(choice.mapParams(p -> format("        hashCode = 31*hashCode + $utils.hashOf(this.%1$s);", p.name())));
+        if (cacheHashCode) {
+            lines.add("        __hashCode = hashCode;");
+        }
+        lines.add("        return hashCode;");
+        lines.add("    }");
+        lines.add("    @Override");
+        lines.add("    public boolean equals(Object obj) {");
+        lines.add("        if (obj == this)");
+        lines.add("            return true;");
+        lines.add(format("        if (!(obj instanceof %1$s))", name));
+        lines.add("            return false;");
+        lines.add(format("        %1$s%2$s that = (%1$s%2$s)obj;", name, wildcards));
+        List<String> checks = choice.mapParams(p -> format("$utils.checkEquals(this.%1$s, that.%1$s)", p.name()));
+        if (checks.isEmpty()) {
+            lines.add("        return true;");
+        }
+        for (int i = 0; i < checks.size(); i++) {
+            String prefix = (i == 0) ? "        return " : "            && ";
+            String suffix = (i == checks.size() - 1) ? ";" : "";
+            lines.add(prefix + checks.get(i) + suffix);
+        }
+        lines.add("    }");
+        return lines;
+    }
+    
+    private boolean hasMethod(String mthdSignature) {
+        return targetClass.spec.methods.stream().filter(m -> DEFAULT.equals(m.kind)).anyMatch(m -> mthdSignature.equals(m.signature));
     }
     
     private String fieldAssignment(CaseParam p) {
@@ -68,9 +68,9 @@ public class SwitchClass implements Lines {
         String thisName        = thisChoice.name;
         String camelName       = Utils.toCamelCase(thisChoice.name);
         
-        List<String> firstSwitchLines     = !isFirst ? (List<String>) new ArrayList<String>() : asList(asList(format("public static class %1$sFirstSwitch%2$s {", targetName, targetClass.getType().genericDef())), asList(format("    private %s $value;", targetClass.getType().typeWithGenerics())), asList(format("    private %sFirstSwitch(%s theValue) { this.$value = theValue; }", targetName, targetClass.getType().typeWithGenerics())), asList(format("    public <%2$s> %1$sFirstSwitchTyped<%2$s%3$s> toA(Class<%2$s> clzz) {", targetName, mapTargetType, (targetClass.getType().genericParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()))), asList(format("        return new %1$sFirstSwitchTyped<%2$s%3$s>($value);", targetName, mapTargetType, (targetClass.getType().genericParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()))), asList(format("    }")), asList(format("    ")), createCasesComplete(true, false, thisName, camelName, targetName, retType, retStmt, mapTargetType), createCasesPartial(true, false, thisChoice, thisName, camelName, switchClassName, targetName, mapTargetType), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
-        List<String> firstSwitchTypeLines = !isFirst ? (List<String>) new ArrayList<String>() : asList(asList(format("public static class %1$sFirstSwitchTyped<%2$s> {", targetName, mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericDefParams()))), asList(format("    private %s $value;", targetClass.getType().typeWithGenerics())), asList(format("    private %sFirstSwitchTyped(%s theValue) { this.$value = theValue; }", targetName, targetClass.getType().typeWithGenerics())), asList(format("    ")), createCasesComplete(true, true, thisName, camelName, targetName, retType, retStmt, mapTargetType), createCasesPartial(true, true, thisChoice, thisName, camelName, switchClassName, targetName, mapTargetType), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
-        List<String> casesComplete        = createCasesComplete(false, true, thisName, camelName, targetName, retType, retStmt, mapTargetType);
+        List<String> firstSwitchLines     = !isFirst ? (List<String>) new ArrayList<String>() : asList(asList(format("public static class %1$sFirstSwitch%2$s {", targetName, targetClass.getType().genericDef())), asList(format("    private %s $value;", targetClass.getType().typeWithGenerics())), asList(format("    private %sFirstSwitch(%s theValue) { this.$value = theValue; }", targetName, targetClass.getType().typeWithGenerics())), asList(format("    public <%2$s> %1$sFirstSwitchTyped<%2$s%3$s> toA(Class<%2$s> clzz) {", targetName, mapTargetType, (targetClass.getType().genericParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()))), asList(format("        return new %1$sFirstSwitchTyped<%2$s%3$s>($value);", targetName, mapTargetType, (targetClass.getType().genericParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()))), asList(format("    }")), asList(format("    ")), createCasesComplete(true, false, thisChoice, thisName, camelName, targetName, retType, retStmt, mapTargetType), createCasesPartial(true, false, thisChoice, thisName, camelName, switchClassName, targetName, mapTargetType), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
+        List<String> firstSwitchTypeLines = !isFirst ? (List<String>) new ArrayList<String>() : asList(asList(format("public static class %1$sFirstSwitchTyped<%2$s> {", targetName, mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericDefParams()))), asList(format("    private %s $value;", targetClass.getType().typeWithGenerics())), asList(format("    private %sFirstSwitchTyped(%s theValue) { this.$value = theValue; }", targetName, targetClass.getType().typeWithGenerics())), asList(format("    ")), createCasesComplete(true, true, thisChoice, thisName, camelName, targetName, retType, retStmt, mapTargetType), createCasesPartial(true, true, thisChoice, thisName, camelName, switchClassName, targetName, mapTargetType), asList(format("}"))).stream().flatMap(List::stream).collect(toList());
+        List<String> casesComplete        = createCasesComplete(false, true, thisChoice, thisName, camelName, targetName, retType, retStmt, mapTargetType);
         List<String> casesPartial         = createCasesPartial(false, true, thisChoice, thisName, camelName, switchClassName, targetName, mapTargetType);
         
         List<List<String>> switchLinesList = new ArrayList<List<String>>();
@@ -89,15 +89,19 @@ public class SwitchClass implements Lines {
         return lines;
     }
     
-    private List<String> createCasesComplete(boolean isFirst, boolean typed, String thisName, String camelName, String targetName, String retType, String retStmt, String mapTargetType) {
+    private int caseIndex(Case choice) {
+        return targetClass.spec.choices.indexOf(choice);
+    }
+    
+    private List<String> createCasesComplete(boolean isFirst, boolean typed, Case thisChoice, String thisName, String camelName, String targetName, String retType, String retStmt, String mapTargetType) {
         String methodGeneric = typed   ? "" : (isFirst ? "<" + mapTargetType + "> " : "");
         String lineBF        = isFirst ? "    Function<" + targetName + targetClass.getType().genericsString() + ", " + mapTargetType + "> $action = null;" : null;
-        return asList(format("public %1$s%2$s %3$s(Function<? super %4$s, ? extends %5$s> theAction) {", methodGeneric, retType, camelName, thisName + targetClass.getType().genericsString(), mapTargetType), lineBF, format("    Function<%1$s, %2$s> oldAction = (Function<%1$s, %2$s>)$action;", targetName + targetClass.getType().genericsString(), mapTargetType), format("    Function<%1$s, %2$s> newAction =", targetName + targetClass.getType().genericsString(), mapTargetType), format("        ($action != null)"), format("        ? oldAction : "), format("            ($value instanceof %1$s)", thisName), format("            ? (Function<%1$s, %3$s>)(d -> theAction.apply((%2$s)d))", targetName + targetClass.getType().genericsString(), thisName + targetClass.getType().genericsString(), mapTargetType), format("            : oldAction;"), format("    "), format("    " + retStmt), format("}"), format("public %1$s%2$s %3$s(Supplier<? extends %4$s> theSupplier) {", methodGeneric, retType, camelName, mapTargetType), format("    return %1$s(d->theSupplier.get());", camelName), format("}"), format("public %1$s%2$s %3$s(%4$s theValue) {", methodGeneric, retType, camelName, mapTargetType), format("    return %1$s(d->theValue);", camelName), format("}")).stream().filter(Objects::nonNull).map("    "::concat).collect(toList());
+        return asList(format("public %1$s%2$s %3$s(Function<? super %4$s, ? extends %5$s> theAction) {", methodGeneric, retType, camelName, thisName + targetClass.getType().genericsString(), mapTargetType), lineBF, format("    Function<%1$s, %2$s> oldAction = (Function<%1$s, %2$s>)$action;", targetName + targetClass.getType().genericsString(), mapTargetType), format("    Function<%1$s, %2$s> newAction =", targetName + targetClass.getType().genericsString(), mapTargetType), format("        ($action != null)"), format("        ? oldAction : "), format("            ($value.__caseIndex() == %1$d)", caseIndex(thisChoice)), format("            ? (Function<%1$s, %3$s>)(d -> theAction.apply((%2$s)d))", targetName + targetClass.getType().genericsString(), thisName + targetClass.getType().genericsString(), mapTargetType), format("            : oldAction;"), format("    "), format("    " + retStmt), format("}"), format("public %1$s%2$s %3$s(Supplier<? extends %4$s> theSupplier) {", methodGeneric, retType, camelName, mapTargetType), format("    return %1$s(d->theSupplier.get());", camelName), format("}"), format("public %1$s%2$s %3$s(%4$s theValue) {", methodGeneric, retType, camelName, mapTargetType), format("    return %1$s(d->theValue);", camelName), format("}")).stream().filter(Objects::nonNull).map("    "::concat).collect(toList());
     }
     
     private List<String> createCasesPartial(boolean isFirst, boolean typed, Case thisChoice, String thisName, String camelName, String switchClassName, String targetName, String mapTargetType) {
         String methodGeneric = typed   ? "" : (isFirst ? "<" + mapTargetType + "> " : "");
         String lineBF        = isFirst ? "    Function<" + targetName + targetClass.getType().genericsString() + ", " + mapTargetType + "> $action = null;" : null;
-        return !thisChoice.isParameterized() ? new ArrayList<String>() : asList(format(""), format("public %1$s%2$s<%5$s> %3$s(java.util.function.Predicate<%4$s> check, Function<? super %4$s, ? extends %6$s> theAction) {", methodGeneric, switchClassName, camelName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()), mapTargetType), lineBF, format("    Function<%1$s, %2$s> oldAction = (Function<%1$s, %2$s>)$action;", targetName + targetClass.getType().genericsString(), mapTargetType), format("    Function<%1$s, %2$s> newAction =", targetName + targetClass.getType().genericsString(), mapTargetType), format("        ($action != null)"), format("        ? oldAction : "), format("            (($value instanceof %1$s) && check.test((%2$s)$value))", thisName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString())), format("            ? (Function<%1$s, %3$s>)(d -> theAction.apply((%2$s)d))", targetName + targetClass.getType().genericsString(), thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType), format("            : oldAction;"), format("    "), format("    return new %1$s<%2$s>($value, newAction);", switchClassName, mapTargetType + (targetClass.getType().genericParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams())), format("}"), format("public %1$s%2$s<%5$s> %3$s(java.util.function.Predicate<%4$s> check, Supplier<? extends %6$s> theSupplier) {", methodGeneric, switchClassName, camelName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()), mapTargetType), format("    return %1$s(check, d->theSupplier.get());", camelName), format("}"), format("public %1$s%2$s<%5$s> %3$s(java.util.function.Predicate<%4$s> check, %6$s theValue) {", methodGeneric, switchClassName, camelName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()), mapTargetType), format("    return %1$s(check, d->theValue);", camelName), format("}")).stream().filter(Objects::nonNull).map("    "::concat).collect(toList());
+        return !thisChoice.isParameterized() ? new ArrayList<String>() : asList(format(""), format("public %1$s%2$s<%5$s> %3$s(java.util.function.Predicate<%4$s> check, Function<? super %4$s, ? extends %6$s> theAction) {", methodGeneric, switchClassName, camelName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()), mapTargetType), lineBF, format("    Function<%1$s, %2$s> oldAction = (Function<%1$s, %2$s>)$action;", targetName + targetClass.getType().genericsString(), mapTargetType), format("    Function<%1$s, %2$s> newAction =", targetName + targetClass.getType().genericsString(), mapTargetType), format("        ($action != null)"), format("        ? oldAction : "), format("            (($value.__caseIndex() == %3$d) && check.test((%2$s)$value))", thisName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), caseIndex(thisChoice)), format("            ? (Function<%1$s, %3$s>)(d -> theAction.apply((%2$s)d))", targetName + targetClass.getType().genericsString(), thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType), format("            : oldAction;"), format("    "), format("    return new %1$s<%2$s>($value, newAction);", switchClassName, mapTargetType + (targetClass.getType().genericParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams())), format("}"), format("public %1$s%2$s<%5$s> %3$s(java.util.function.Predicate<%4$s> check, Supplier<? extends %6$s> theSupplier) {", methodGeneric, switchClassName, camelName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()), mapTargetType), format("    return %1$s(check, d->theSupplier.get());", camelName), format("}"), format("public %1$s%2$s<%5$s> %3$s(java.util.function.Predicate<%4$s> check, %6$s theValue) {", methodGeneric, switchClassName, camelName, thisName + (targetClass.getType().genericsString().isEmpty() ? "" : targetClass.getType().genericsString()), mapTargetType + (targetClass.getType().genericDefParams().isEmpty() ? "" : ", " + targetClass.getType().genericParams()), mapTargetType), format("    return %1$s(check, d->theValue);", camelName), format("}")).stream().filter(Objects::nonNull).map("    "::concat).collect(toList());
     }
 }
@@ -36,7 +36,9 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+import functionalj.types.BinaryCodec;
 import functionalj.types.Core;
+import functionalj.types.IBinaryData;
 import functionalj.types.Self;
 import functionalj.types.Type;
 import functionalj.types.choice.ChoiceTypeSwitch;
@@ -92,6 +94,13 @@ public class TargetClass implements Lines {
             else
                 imports.add(Self.class.getCanonicalName() + spec.sourceType.generics().size());
         }
+        if (BinaryCodecBuilder.isBinary(this)) {
+            imports.add(BinaryCodec.class.getCanonicalName());
+            imports.add(IBinaryData.class.getCanonicalName());
+            imports.add("java.io.DataInput");
+            imports.add("java.io.DataOutput");
+            imports.add("java.io.IOException");
+        }
         spec.choices.stream().map(c -> c.validationMethod).filter(m -> m != null).findAny().ifPresent(s -> {
             imports.add(spec.sourceType.packageName() + "." + spec.sourceType.encloseName() + "." + spec.sourceType.simpleName());
         });
@@ -104,6 +113,8 @@ public class TargetClass implements Lines {
         List<String>  targetGeneral        = new TargetTypeGeneral(this, spec.choices).lines().stream().map("    "::concat).collect(toList());
         List<String>  targetCheckMethods   = new SubCheckMethod(this, spec.choices).lines().stream().map("    "::concat).collect(toList());
         List<String>  fromMapMethod        = new FromMapBuilder(this).lines().stream().map("    "::concat).collect(toList());
+        List<String>  caseMatchMethods     = new CaseMatchBuilder(this).lines().stream().map("    "::concat).collect(toList());
+        List<String>  binaryCodecMethods   = new BinaryCodecBuilder(this).lines().stream().map("    "::concat).collect(toList());
         List<String>  schemaMethod         = new SchemaBuilder(this).lines().stream().map("    "::concat).collect(toList());
         List<String>  switchClasses        = range(0, spec.choices.size()).mapToObj(index -> spec.choices.stream().skip(index).collect(toList())).flatMap(choices -> new SwitchClass(this, (choices.size() == spec.choices.size()), choices).lines().stream()).filter(Objects::nonNull).map("    "::concat).collect(toList());
         List<String>  choiceLens           = new ChoiceLensBuilder(spec).build();
@@ -116,10 +127,13 @@ public class TargetClass implements Lines {
         List<String>  importLines          = imports.stream().filter(importName -> !samePackage(pckgName, importName)).map(importName -> "import " + importName + ";").collect(toList());
         String        specConstant         = (spec.specObjName == null) ? "    " : "    public static final " + SourceSpec.class.getCanonicalName() + " " + spec.specObjName + " = " + spec.toCode() + ";";
         String        firstLine            = firstLine(selfDef);
-        return asList(asList(format("package %s;", pckgName)), asList(format("")), importLines, asList(format("")), asList(generated), asList(suppress), asList(firstLine), asList(format("    ")), subClassConstructors, asList(format("    ")), specObj, asList(format("    ")), choiceLens, asList(format("    ")), asList(format("    private %s() {}", type.simpleName())), asList(format("    public %1$s __data() throws Exception { return this; }", typeName)), asList(format("    public Result<%1$s> toResult() { return Result.valueOf(this); }", typeName)), asList(format("    ")), fromMapMethod, asList(format("    ")), schemaMethod, asList(format("    ")), subClassDefinitions, asList(format("    ")), targetGeneral, asList(format("    ")), sourceMethods, asList(format("    ")), targetCheckMethods, asList(format("    ")), switchClasses, asList(format("    ")), asList(specConstant), asList(format("    ")), asList(format("}"))).stream().filter(Objects::nonNull).flatMap(List::stream).collect(toList());
+        return asList(asList(format("package %s;", pckgName)), asList(format("")), importLines, asList(format("")), asList(generated), asList(suppress), asList(firstLine), asList(format("    ")), subClassConstructors, asList(format("    ")), specObj, asList(format("    ")), choiceLens, asList(format("    ")), asList(format("    private %s() {}", type.simpleName())), asList(format("    public %1$s __data() throws Exception { return this; }", typeName)), asList(format("    public Result<%1$s> toResult() { return Result.valueOf(this); }", typeName)), asList(format("    ")), fromMapMethod, asList(format("    ")), schemaMethod, asList(format("    ")), subClassDefinitions, asList(format("    ")), targetGeneral, asList(format("    ")), sourceMethods, asList(format("    ")), targetCheckMethods, asList(format("    ")), caseMatchMethods, asList(format("    ")), binaryCodecMethods, binaryCodecMethods.isEmpty() ? null : asList(format("    ")), switchClasses, asList(format("    ")), asList(specConstant), asList(format("    ")), asList(format("}"))).stream().filter(Objects::nonNull).flatMap(List::stream).collect(toList());
     }
     
     private String firstLine(String selfDef) {
+        if (BinaryCodecBuilder.isBinary(this)) {
+            selfDef = ", " + IBinaryData.class.getSimpleName() + selfDef;
+        }
         if (spec.generateSealed) {
             String simpleName = type.simpleName();
             String permitList = spec.choices.stream().map(choice -> simpleName + "." + choice.name).collect(Collectors.joining(", "));
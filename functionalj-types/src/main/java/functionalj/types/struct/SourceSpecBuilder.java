@@ -368,6 +368,7 @@ public class SourceSpecBuilder {
         configures.serialize                       = (struct.serialize() != null) ? struct.serialize() : Serialize.To.NOTHING;
         configures.toStringMethod                  = struct.toStringMethod();
         configures.toStringTemplate                = (struct.toStringTemplate() != null) ? struct.toStringTemplate() : "";
+        configures.cacheHashCode                   = struct.cacheHashCode();
         
         if (!configures.generateNoArgConstructor && !configures.generateAllArgConstructor) {
             element.error("generateNoArgConstructor and generateAllArgConstructor must be be false at the same time.");
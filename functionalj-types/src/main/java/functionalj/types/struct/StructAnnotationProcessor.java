@@ -24,6 +24,7 @@
 package functionalj.types.struct;
 
 import static functionalj.types.choice.generator.Lines.string;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.unsupportedReason;
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
@@ -44,6 +45,7 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
 import functionalj.types.JavaVersionInfo;
+import functionalj.types.Serialize;
 import functionalj.types.Struct;
 import functionalj.types.VersionUtils;
 import functionalj.types.input.Environment;
@@ -52,6 +54,7 @@ import functionalj.types.input.InputElement;
 import functionalj.types.input.InputMethodElement;
 import functionalj.types.input.InputType;
 import functionalj.types.input.InputTypeArgument;
+import functionalj.types.struct.generator.Getter;
 import functionalj.types.struct.generator.SourceSpec;
 import functionalj.types.struct.generator.StructClassSpec;
 import functionalj.types.struct.generator.StructClassSpecBuilder;
@@ -159,6 +162,16 @@ public class StructAnnotationProcessor extends AbstractProcessor {
             String message = "An All-Arg constructor is need when generate a record.";
             element.error(message);
         }
+        
+        if (sourceSpec.getConfigures().serialize == Serialize.To.BINARY) {
+            for (Getter getter : sourceSpec.getGetters()) {
+                String reason = unsupportedReason(getter.type());
+                if (reason != null) {
+                    String template = "The type of the field %s cannot be written by the binary codec (%s): %s";
+                    element.error(format(template, getter.name(), reason, getter.type()));
+                }
+            }
+        }
     }
     
     @SuppressWarnings("unused")
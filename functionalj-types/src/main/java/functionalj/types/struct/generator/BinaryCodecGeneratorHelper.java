@@ -0,0 +1,313 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.types.struct.generator;
+
+import static functionalj.types.struct.generator.ILines.line;
+import static functionalj.types.struct.generator.model.Accessibility.PRIVATE;
+import static functionalj.types.struct.generator.model.Accessibility.PUBLIC;
+import static functionalj.types.struct.generator.model.Modifiability.FINAL;
+import static functionalj.types.struct.generator.model.Modifiability.MODIFIABLE;
+import static functionalj.types.struct.generator.model.Scope.INSTANCE;
+import static functionalj.types.struct.generator.model.Scope.STATIC;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import functionalj.types.BinaryCodec;
+import functionalj.types.Property;
+import functionalj.types.Serialize;
+import functionalj.types.Type;
+import functionalj.types.struct.generator.model.GenField;
+import functionalj.types.struct.generator.model.GenMethod;
+import functionalj.types.struct.generator.model.GenParam;
+
+/**
+ * Generator of the binary codec of the data types with {@link Serialize.To#BINARY}.
+ *
+ * The primitive and string fields are written and read directly while each other field gets a static codec field.
+ * The nullable fields are preceded by null bitmaps (a varint of each 64 of them).
+ */
+public class BinaryCodecGeneratorHelper {
+    
+    public static final String FINGERPRINT_FIELD = "__binaryFingerprint";
+    
+    public static final String CODEC_FIELD_PREFIX = "__binaryCodec_";
+    
+    /**
+     * Returns the fingerprint (64-bit FNV-1a hash) of the given schema description.
+     *
+     * @param description  the schema description.
+     * @return             the fingerprint.
+     */
+    public static long fingerprintOf(String description) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < description.length(); i++) {
+            hash ^= description.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+    
+    public static String describe(List<? extends Property> properties) {
+        return properties.stream().map(property -> property.name() + ":" + property.type() + (property.isNullable() ? "?" : "")).collect(joining(",", "(", ")"));
+    }
+    
+    public static String fingerprintLiteral(String description) {
+        return format("0x%016xL", fingerprintOf(description));
+    }
+    
+    public static boolean isDirect(Type type) {
+        return type.isPrimitive() || Type.STRING.equals(type) || Type.STR.equals(type);
+    }
+    
+    /**
+     * Returns the code of the instance fingerprint -- the one of the fields with the nested data classes folded in
+     *   (resolved at runtime as the nested classes may be compiled separately).
+     *
+     * @param targetName  the (raw) name of the data class.
+     * @return            the expression.
+     */
+    public static String fingerprintCode(String targetName) {
+        return "BinaryCodec.fingerprintOf(" + targetName + ".class)";
+    }
+    
+    /**
+     * Returns the code of the array of the codec fields -- for the nested data classes to be found from.
+     *
+     * @param codecFields  the codec fields.
+     * @return             the expression.
+     */
+    public static String codecsCode(List<String> codecFields) {
+        return codecFields.stream().collect(joining(", ", "new BinaryCodec[] { ", " }"));
+    }
+    
+    /**
+     * Returns the reason the type cannot be written by the binary codec or null if it can.
+     *
+     * @param type  the type.
+     * @return      the reason or null.
+     */
+    public static String unsupportedReason(Type type) {
+        if (isDirect(type))
+            return null;
+        if (type.isVirtual())
+            return "not a concrete type";
+        if (type.isObject())
+            return "not specific enough";
+        
+        int generics = (type.isList() || type.isFuncList() || type.isOptional() || type.isNullable()) ? 1
+                     : (type.isMap()  || type.isFuncMap())                                           ? 2
+                     : 0;
+        if (generics == 0)
+            return null;
+        if (type.generics().size() != generics)
+            return "missing the type parameter";
+        return type.generics().stream()
+                .map(generic -> unsupportedReason(generic.toType()))
+                .filter(reason -> reason != null)
+                .findFirst()
+                .orElse(null);
+    }
+    
+    public static String codecFieldCode(String fieldName, Type type) {
+        return "private static final " + BinaryCodec.class.getCanonicalName() + " " + fieldName + " = " + BinaryCodec.class.getCanonicalName() + ".of(" + type.toCode() + ");";
+    }
+    
+    static String writeCode(Type type, String value, String codecField) {
+        switch (type.isPrimitive() ? type.simpleName() : "") {
+            case "boolean": return "output.writeBoolean(" + value + ");";
+            case "byte":    return "output.writeByte(" + value + ");";
+            case "char":    return "output.writeChar(" + value + ");";
+            case "short":   return "BinaryCodec.writeVarInt(output, " + value + ");";
+            case "int":     return "BinaryCodec.writeVarInt(output, " + value + ");";
+            case "long":    return "BinaryCodec.writeVarLong(output, " + value + ");";
+            case "float":   return "output.writeFloat(" + value + ");";
+            case "double":  return "output.writeDouble(" + value + ");";
+        }
+        if (isDirect(type))
+            return "BinaryCodec.writeString(output, " + value + ");";
+        return codecField + ".write(output, " + value + ");";
+    }
+    
+    static String readCode(Type type, String codecField) {
+        switch (type.isPrimitive() ? type.simpleName() : "") {
+            case "boolean": return "input.readBoolean()";
+            case "byte":    return "input.readByte()";
+            case "char":    return "input.readChar()";
+            case "short":   return "(short)BinaryCodec.readVarInt(input)";
+            case "int":     return "BinaryCodec.readVarInt(input)";
+            case "long":    return "BinaryCodec.readVarLong(input)";
+            case "float":   return "input.readFloat()";
+            case "double":  return "input.readDouble()";
+        }
+        if (isDirect(type))
+            return "BinaryCodec.readString(input)";
+        return codecField + ".read(input)";
+    }
+    
+    private static String nullsName(int index) {
+        return "$nulls" + (index / 64);
+    }
+    
+    private static String nullMask(int index) {
+        return "(1L << " + (index % 64) + ")";
+    }
+    
+    /**
+     * Returns the lines writing the properties -- the null bitmaps and then the non-null values.
+     *
+     * @param <P>         the property type.
+     * @param properties  the properties.
+     * @param valueOf     the expression of the value of each property.
+     * @param codecOf     the codec field of each property.
+     * @return            the lines.
+     */
+    public static <P extends Property> List<String> writeLines(List<P> properties, Function<P, String> valueOf, Function<P, String> codecOf) {
+        List<String> nullLines  = new ArrayList<String>();
+        List<String> valueLines = new ArrayList<String>();
+        int          nullCount  = 0;
+        for (P property : properties) {
+            Type   type  = property.type();
+            String value = valueOf.apply(property);
+            String write = writeCode(type, value, codecOf.apply(property));
+            if (type.isPrimitive()) {
+                valueLines.add(write);
+                continue;
+            }
+            nullLines.add(format("if (%s == null) %s |= %s;", value, nullsName(nullCount), nullMask(nullCount)));
+            nullCount++;
+            valueLines.add(format("if (%s != null) %s", value, write));
+        }
+        List<String> lines = new ArrayList<String>();
+        for (int group = 0; group < (nullCount + 63) / 64; group++) {
+            lines.add("long $nulls" + group + " = 0L;");
+        }
+        lines.addAll(nullLines);
+        for (int group = 0; group < (nullCount + 63) / 64; group++) {
+            lines.add("BinaryCodec.writeUnsignedVarLong(output, $nulls" + group + ");");
+        }
+        lines.addAll(valueLines);
+        return lines;
+    }
+    
+    /**
+     * Returns the lines reading the null bitmaps of the properties.
+     *
+     * @param properties  the properties.
+     * @return            the lines.
+     */
+    public static List<String> readNullLines(List<? extends Property> properties) {
+        long nullCount = properties.stream().filter(property -> !property.type().isPrimitive()).count();
+        List<String> lines = new ArrayList<String>();
+        for (int group = 0; group < (nullCount + 63) / 64; group++) {
+            lines.add("long $nulls" + group + " = BinaryCodec.readUnsignedVarLong(input);");
+        }
+        return lines;
+    }
+    
+    /**
+     * Returns the expressions reading the properties in order -- to be used as the arguments of the constructor.
+     *
+     * @param <P>         the property type.
+     * @param properties  the properties.
+     * @param codecOf     the codec field of each property.
+     * @return            the expressions.
+     */
+    public static <P extends Property> List<String> readExpressions(List<P> properties, Function<P, String> codecOf) {
+        List<String> expressions = new ArrayList<String>();
+        int          nullCount   = 0;
+        for (P property : properties) {
+            Type   type = property.type();
+            String read = readCode(type, codecOf.apply(property));
+            if (type.isPrimitive()) {
+                expressions.add(read);
+                continue;
+            }
+            expressions.add(format("((%s & %s) != 0) ? null : %s", nullsName(nullCount), nullMask(nullCount), read));
+            nullCount++;
+        }
+        return expressions;
+    }
+    
+    //== Struct ==
+    
+    static boolean isBinary(SourceSpec sourceSpec) {
+        return sourceSpec.getConfigures().serialize == Serialize.To.BINARY;
+    }
+    
+    static String codecField(Getter getter) {
+        return CODEC_FIELD_PREFIX + getter.name();
+    }
+    
+    static Stream<GenField> generateBinaryFields(SourceSpec sourceSpec) {
+        if (!isBinary(sourceSpec))
+            return Stream.empty();
+        
+        String   fingerprint      = fingerprintLiteral(sourceSpec.getTargetClassName() + describe(sourceSpec.getGetters()));
+        GenField fingerprintField = new GenField(PUBLIC, FINAL, STATIC, FINGERPRINT_FIELD, Type.LNG, fingerprint);
+        Stream<GenField> codecFields = sourceSpec.getGetters().stream()
+                .filter(getter -> !isDirect(getter.type()))
+                .map(getter -> new GenField(PRIVATE, FINAL, STATIC, codecField(getter), Type.of(BinaryCodec.class), "BinaryCodec.of(" + getter.type().toCode() + ")"));
+        return Stream.concat(Stream.of(fingerprintField), codecFields);
+    }
+    
+    static Stream<GenMethod> generateBinaryMethods(SourceSpec sourceSpec) {
+        if (!isBinary(sourceSpec))
+            return Stream.empty();
+        
+        Type         targetType  = sourceSpec.getTargetType();
+        List<Getter> getters     = sourceSpec.getGetters();
+        List<Type>   exceptions  = asList(Type.of(IOException.class));
+        List<String> writeLines  = writeLines(getters, getter -> "this." + getter.name(), BinaryCodecGeneratorHelper::codecField);
+        List<String> readLines   = new ArrayList<String>(readNullLines(getters));
+        List<String> expressions = readExpressions(getters, BinaryCodecGeneratorHelper::codecField);
+        if (expressions.isEmpty()) {
+            readLines.add("return new " + targetType.simpleName() + "();");
+        } else {
+            readLines.add("return new " + targetType.simpleName() + "(");
+            for (int i = 0; i < expressions.size(); i++) {
+                readLines.add("        " + expressions.get(i) + ((i < expressions.size() - 1) ? "," : ""));
+            }
+            readLines.add("    );");
+        }
+        
+        List<String> codecFields = getters.stream().filter(getter -> !isDirect(getter.type())).map(BinaryCodecGeneratorHelper::codecField).collect(toList());
+        
+        GenMethod fingerprint = new GenMethod(FINGERPRINT_FIELD, Type.LNG, PUBLIC, INSTANCE, MODIFIABLE, emptyList(), emptyList(), false, false, line("return " + fingerprintCode(targetType.simpleName()) + ";"), asList(Type.of(BinaryCodec.class)), emptyList());
+        GenMethod codecs      = new GenMethod("__binaryCodecs", Type.newVirtualType("BinaryCodec[]"), PUBLIC, STATIC, MODIFIABLE, emptyList(), emptyList(), false, false, line("return " + codecsCode(codecFields) + ";"), asList(Type.of(BinaryCodec.class)), emptyList());
+        GenMethod write       = new GenMethod("__writeBinary", Type.newVirtualType("void"), PUBLIC, INSTANCE, MODIFIABLE, asList(new GenParam("output", Type.of(DataOutput.class))), emptyList(), false, false, line(writeLines), asList(Type.of(BinaryCodec.class)), exceptions);
+        GenMethod read        = new GenMethod("__readBinary", targetType, PUBLIC, STATIC, MODIFIABLE, asList(new GenParam("input", Type.of(DataInput.class))), emptyList(), false, false, line(readLines), asList(Type.of(BinaryCodec.class)), exceptions);
+        return Stream.of(fingerprint, codecs, write, read);
+    }
+}
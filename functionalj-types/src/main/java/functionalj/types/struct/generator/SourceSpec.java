@@ -276,6 +276,11 @@ public class SourceSpec {
          */
         public String toStringTemplate = "";
         
+        /**
+         * Should the hash code be cached (computed once on the first call to hashCode()).
+         */
+        public boolean cacheHashCode = true;
+        
         public Configurations() {
         }
         
@@ -292,6 +297,23 @@ public class SourceSpec {
                 Serialize.To   serialize,
                 StructToString toStringMethod, 
                 String         toStringTemplate) {
+            this(coupleWithDefinition, generateRecord, generateNoArgConstructor, generateRequiredOnlyConstructor, generateAllArgConstructor, generateLensClass, generateBuilderClass, publicFields, publicConstructor, serialize, toStringMethod, toStringTemplate, true);
+        }
+        
+        public Configurations(
+                boolean        coupleWithDefinition,
+                Boolean        generateRecord,
+                boolean        generateNoArgConstructor,
+                boolean        generateRequiredOnlyConstructor,
+                boolean        generateAllArgConstructor,
+                boolean        generateLensClass,
+                boolean        generateBuilderClass,
+                boolean        publicFields,
+                boolean        publicConstructor,
+                Serialize.To   serialize,
+                StructToString toStringMethod,
+                String         toStringTemplate,
+                boolean        cacheHashCode) {
             this.coupleWithDefinition            = coupleWithDefinition;
             this.generateRecord                  = generateRecord;
             this.generateNoArgConstructor        = generateNoArgConstructor;
@@ -304,6 +326,7 @@ public class SourceSpec {
             this.serialize                       = (serialize != null) ? serialize : To.NOTHING;
             this.toStringMethod                  = toStringMethod;
             this.toStringTemplate                = toStringTemplate;
+            this.cacheHashCode                   = cacheHashCode;
         }
         
         @Override
@@ -320,7 +343,8 @@ public class SourceSpec {
                     + "publicConstructor="               + publicConstructor               + ", "
                     + "serialize="                       + serialize                       + ", "
                     + "toStringMethod="                  + toStringMethod                  + ", "
-                    + "toStringTemplate="                + toStringTemplate
+                    + "toStringTemplate="                + toStringTemplate                + ", "
+                    + "cacheHashCode="                   + cacheHashCode
                     + "]";
         }
         
@@ -338,7 +362,8 @@ public class SourceSpec {
                     publicConstructor, 
                     serializeCode, 
                     StructToString.class.getCanonicalName() + "." + toStringMethod, 
-                    Utils.toStringLiteral(toStringTemplate)
+                    Utils.toStringLiteral(toStringTemplate),
+                    cacheHashCode
             );
             return "new " + Configurations.class.getCanonicalName() + "(" 
                     + params.stream().map(String::valueOf).collect(joining(", ")) 
@@ -23,11 +23,15 @@
 // ============================================================================
 package functionalj.types.struct.generator;
 
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.generateBinaryFields;
+import static functionalj.types.struct.generator.BinaryCodecGeneratorHelper.generateBinaryMethods;
 import static functionalj.types.struct.generator.StructGeneratorHelper.allArgConstructor;
 import static functionalj.types.struct.generator.StructGeneratorHelper.generateEquals;
 import static functionalj.types.struct.generator.StructGeneratorHelper.generateGetSchema;
+import static functionalj.types.struct.generator.StructGeneratorHelper.generateStructSchemaField;
 import static functionalj.types.struct.generator.StructGeneratorHelper.generateGetStructScheme;
 import static functionalj.types.struct.generator.StructGeneratorHelper.generateHashCode;
+import static functionalj.types.struct.generator.StructGeneratorHelper.generateHashCodeField;
 import static functionalj.types.struct.generator.StructGeneratorHelper.generatePipeMethods;
 import static functionalj.types.struct.generator.StructGeneratorHelper.generateSpecField;
 import static functionalj.types.struct.generator.StructGeneratorHelper.generateToString;
@@ -53,6 +57,7 @@ import java.util.stream.Stream;
 
 import functionalj.types.Core;
 import functionalj.types.Generic;
+import functionalj.types.IBinaryData;
 import functionalj.types.IStruct;
 import functionalj.types.StructToString;
 import functionalj.types.Type;
@@ -101,11 +106,17 @@ public class StructClassSpecBuilder {
         
         Type istruct = Type.of(IStruct.class);
         implementeds.add(istruct);
+        if (BinaryCodecGeneratorHelper.isBinary(sourceSpec)) {
+            implementeds.add(Type.of(IBinaryData.class));
+        }
         
         Type    targetType    = new Type(sourceSpec.getTargetPackageName(), sourceSpec.getTargetClassName());
         Generic targetGeneric = new Generic(targetType);
         Type    pipeable      = Core.Pipeable.type().withGenerics(asList(targetGeneric));
         implementeds.add(pipeable);
+        if (TransientBuilderGeneratorHelper.isTransient(sourceSpec)) {
+            implementeds.add(TransientBuilderGeneratorHelper.transientSourceType(sourceSpec));
+        }
         
         // val serialize = FeatureSerialization.serializeType(input, type, configures);
         // implementeds.add(serialize);
@@ -122,11 +133,15 @@ public class StructClassSpecBuilder {
         if (sourceSpec.getConfigures().generateBuilderClass) {
             builderClass = new BuilderGenerator(sourceSpec).build();
         }
+        GenClass transientClass = null;
+        if (TransientBuilderGeneratorHelper.isTransient(sourceSpec)) {
+            transientClass = TransientBuilderGeneratorHelper.generateTransientClass(sourceSpec);
+        }
         
         List<GenField>       fields       = fields(getters, lensClassBuilder);
         List<GenMethod>      methods      = generateMethods(targetType);
         List<GenConstructor> constructors = constructors();
-        List<GenClass>       innerClasses = listOf(lensClass, builderClass);
+        List<GenClass>       innerClasses = listOf(lensClass, builderClass, transientClass);
         StructClassSpec      dataObjSpec  = createSpec(extendeds, implementeds, fields, methods, constructors, innerClasses);
         return dataObjSpec;
     }
@@ -148,7 +163,9 @@ public class StructClassSpecBuilder {
             theField  = lensClassBuilder.generateTheLensField();
             eachField = lensClassBuilder.generateEachLensField();
         }
-        List<GenField> fields = listOf(Stream.of(theField, eachField), getterFields, specField);
+        GenField       hashField   = sourceSpec.generateRecord() ? null : generateHashCodeField(sourceSpec);
+        GenField       schemaField = generateStructSchemaField(sourceSpec);
+        List<GenField> fields      = listOf(Stream.of(theField, eachField), getterFields, specField, Stream.of(hashField, schemaField), generateBinaryFields(sourceSpec));
         return fields;
     }
     
@@ -201,7 +218,10 @@ public class StructClassSpecBuilder {
         GenMethod         toMap           = generateToMap(sourceSpec);
         GenMethod         getStructSchema = generateGetStructScheme(sourceSpec);
         GenMethod         getSchema       = generateGetSchema(sourceSpec);
-        Stream<GenMethod> schemaMethods   = Stream.of(fromMap, toMap, getSchema, getStructSchema);
+        Stream<GenMethod> schemaMethods   = Stream.concat(Stream.of(fromMap, toMap, getSchema, getStructSchema), generateBinaryMethods(sourceSpec));
+        if (TransientBuilderGeneratorHelper.isTransient(sourceSpec)) {
+            schemaMethods = Stream.concat(schemaMethods, Stream.of(TransientBuilderGeneratorHelper.generateTransientMethod(sourceSpec)));
+        }
         return schemaMethods;
     }
     
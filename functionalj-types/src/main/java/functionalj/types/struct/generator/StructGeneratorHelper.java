@@ -112,24 +112,74 @@ public class StructGeneratorHelper {
         return new GenMethod("toString", Type.STRING, Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, Collections.emptyList(), line(toStringBody));
     }
     
+    static final String HASH_CODE_FIELD = "__hashCode";
+    
+    static GenField generateHashCodeField(SourceSpec sourceSpec) {
+        if (!sourceSpec.getConfigures().cacheHashCode)
+            return null;
+        
+        return new GenField(PRIVATE, Modifiability.TRANSIENT, INSTANCE, HASH_CODE_FIELD, Type.INT, null);
+    }
+    
     static GenMethod generateHashCode(SourceSpec sourceSpec) {
-        GenMethod hashCode = new GenMethod("hashCode", Type.INT, Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, Collections.emptyList(), line("return toString().hashCode();"));
+        boolean      cacheHashCode = sourceSpec.getConfigures().cacheHashCode;
+        List<String> combineFields = sourceSpec.getGetters().stream().map(getter -> format("hashCode = 31*hashCode + $utils.hashOf(this.%1$s);", getter.name())).collect(toList());
+        List<String> body          = new ArrayList<String>();
+        if (cacheHashCode) {
+            body.add("int hashCode = " + HASH_CODE_FIELD + ";");
+            body.add("if (hashCode != 0)");
+            body.add("    return hashCode;");
+            body.add("hashCode = 1;");
+            body.addAll(combineFields);
+            body.add(HASH_CODE_FIELD + " = hashCode;");
+        } else {
+            body.add("int hashCode = 1;");
+            body.addAll(combineFields);
+        }
+        body.add("return hashCode;");
+        GenMethod hashCode = new GenMethod("hashCode", Type.INT, Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, Collections.emptyList(), line(body));
         return hashCode;
     }
     
     static GenMethod generateEquals(SourceSpec sourceSpec) {
-        GenMethod equals = new GenMethod("equals", Type.BOOL, Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, asList(new GenParam("another", Type.of(Object.class))), line("return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));"));
+        String        targetName = sourceSpec.getTargetClassName();
+        List<String>  getters    = sourceSpec.getGetters().stream().map(Getter::name).collect(toList());
+        List<Generic> generics   = sourceSpec.getTargetType().generics();
+        String        wildcards  = generics.isEmpty() ? "" : generics.stream().map(g -> "?").collect(joining(", ", "<", ">"));
+        List<String>  body       = new ArrayList<String>();
+        body.add("if (another == this)");
+        body.add("    return true;");
+        body.add("if ((another == null) || !getClass().equals(another.getClass()))");
+        body.add("    return false;");
+        if (getters.isEmpty()) {
+            body.add("return true;");
+        } else {
+            body.add(format("%1$s%2$s that = (%1$s%2$s)another;", targetName, wildcards));
+            for (int i = 0; i < getters.size(); i++) {
+                String prefix = (i == 0) ? "return " : "    && ";
+                String suffix = (i == getters.size() - 1) ? ";" : "";
+                body.add(format("%1$s$utils.checkEquals(this.%2$s, that.%2$s)%3$s", prefix, getters.get(i), suffix));
+            }
+        }
+        GenMethod equals = new GenMethod("equals", Type.BOOL, Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, asList(new GenParam("another", Type.of(Object.class))), line(body));
         return equals;
     }
     
+    static final String STRUCT_SCHEMA_FIELD = "__structSchema";
+    
+    static GenField generateStructSchemaField(SourceSpec sourceSpec) {
+        String getters = sourceSpec.getGetters().stream().map(g -> g.toCode()).collect(joining(", "));
+        Type   type    = Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic(Type.of(Getter.class))));
+        return new GenField(PRIVATE, FINAL, STATIC, STRUCT_SCHEMA_FIELD, type, "$utils.structSchemaOf(" + getters + ")");
+    }
+    
     static GenMethod generateGetStructScheme(SourceSpec sourceSpec) {
-        ILines    getStructSchemaBody = ILines.line(sourceSpec.getGetters().stream().map(g -> "map.put(\"" + g.name() + "\", " + g.toCode() + ");").collect(toList()));
-        GenMethod getStructSchema     = new GenMethod("getStructSchema", Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic(Type.of(Getter.class)))), Accessibility.PUBLIC, Scope.STATIC, Modifiability.MODIFIABLE, emptyList(), emptyList(), false, false, ILines.linesOf(line("java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();"), getStructSchemaBody, line("return map;")), emptyList(), emptyList());
+        GenMethod getStructSchema = new GenMethod("getStructSchema", Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic(Type.of(Getter.class)))), Accessibility.PUBLIC, Scope.STATIC, Modifiability.MODIFIABLE, emptyList(), emptyList(), false, false, ILines.linesOf(line("return " + STRUCT_SCHEMA_FIELD + ";")), emptyList(), emptyList());
         return getStructSchema;
     }
     
     static GenMethod generateGetSchema(SourceSpec sourceSpec) {
-        GenMethod getSchema = new GenMethod("__getSchema", Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic(Type.of(Getter.class)))), Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, emptyList(), emptyList(), false, false, ILines.linesOf(line("return getStructSchema();")), asList(Type.of(Map.class), Type.of(HashMap.class), Type.of(Getter.class)), emptyList());
+        GenMethod getSchema = new GenMethod("__getSchema", Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic(Type.of(Getter.class)))), Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, emptyList(), emptyList(), false, false, ILines.linesOf(line("return " + STRUCT_SCHEMA_FIELD + ";")), asList(Type.of(Map.class), Type.of(HashMap.class), Type.of(Getter.class)), emptyList());
         return getSchema;
     }
     
@@ -347,8 +397,20 @@ public class StructGeneratorHelper {
         Type           type       = sourceSpec.getTargetType();
         List<GenParam> params     = asList(new GenParam(getter.name(), getter.type()));
         String         paramCall  = sourceSpec.getGetters().stream().map(Getter::name).collect(joining(", "));
+        String         sameLine   = "if (" + sameValueCheck(getter) + ") return this;";
         String         returnLine = "return new " + sourceSpec.getTargetClassName() + "(" + paramCall + ");";
-        return new GenMethod(name, type, PUBLIC, INSTANCE, MODIFIABLE, params, line(returnLine));
+        return new GenMethod(name, type, PUBLIC, INSTANCE, MODIFIABLE, params, line(sameLine, returnLine));
+    }
+    
+    /** The check if the new value is the same as the current one -- so the wither can return this instance. */
+    static String sameValueCheck(Getter getter) {
+        String getterName = getter.name();
+        Type   getterType = getter.type();
+        if (Type.DBL.equals(getterType))
+            return "Double.compare(this." + getterName + ", " + getterName + ") == 0";
+        if (Type.FLT.equals(getterType))
+            return "Float.compare(this." + getterName + ", " + getterName + ") == 0";
+        return "this." + getterName + " == " + getterName;
     }
     
     static GenMethod getterToWitherMethodSupplier(SourceSpec sourceSpec, Function<Getter, String> withMethodName, Getter getter) {
@@ -357,8 +419,7 @@ public class StructGeneratorHelper {
         String         getterName = getter.name();
         Type           getterType = getter.type().declaredType();
         List<GenParam> params     = asList(new GenParam(getter.name(), Type.of(Supplier.class, new Generic(getterType))));
-        String         paramCall  = sourceSpec.getGetters().stream().map(Getter::name).map(gName -> gName.equals(getterName) ? gName + ".get()" : gName).collect(joining(", "));
-        String         returnLine = "return new " + sourceSpec.getTargetClassName() + "(" + paramCall + ");";
+        String         returnLine = "return " + name + "(" + getterName + ".get());";
         return new GenMethod(name, type, PUBLIC, INSTANCE, MODIFIABLE, params, line(returnLine));
     }
     
@@ -368,8 +429,7 @@ public class StructGeneratorHelper {
         String         getterName = getter.name();
         Type           getterType = getter.type().declaredType();
         List<GenParam> params     = asList(new GenParam(getterName, Type.of(Function.class, new Generic(getterType), new Generic(getterType))));
-        String         paramCall  = sourceSpec.getGetters().stream().map(Getter::name).map(gName -> gName.equals(getterName) ? gName + ".apply(this." + gName + ")" : gName).collect(joining(", "));
-        String         returnLine = "return new " + sourceSpec.getTargetClassName() + "(" + paramCall + ");";
+        String         returnLine = "return " + name + "(" + getterName + ".apply(this." + getterName + "));";
         return new GenMethod(name, type, PUBLIC, INSTANCE, MODIFIABLE, params, line(returnLine));
     }
     
@@ -379,8 +439,7 @@ public class StructGeneratorHelper {
         String         getterName = getter.name();
         Type           getterType = getter.type().declaredType();
         List<GenParam> params     = asList(new GenParam(getterName, Type.of(BiFunction.class, new Generic(type), new Generic(getterType), new Generic(getterType))));
-        String         paramCall  = sourceSpec.getGetters().stream().map(Getter::name).map(gName -> gName.equals(getterName) ? gName + ".apply(this, this." + gName + ")" : gName).collect(joining(", "));
-        String         returnLine = "return new " + sourceSpec.getTargetClassName() + "(" + paramCall + ");";
+        String         returnLine = "return " + name + "(" + getterName + ".apply(this, this." + getterName + "));";
         return new GenMethod(name, type, PUBLIC, INSTANCE, MODIFIABLE, params, line(returnLine));
     }
     
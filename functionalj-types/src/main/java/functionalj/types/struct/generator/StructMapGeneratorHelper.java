@@ -58,13 +58,15 @@ public class StructMapGeneratorHelper {
             .collect(joining(",\n"))
             .split("\n")
         );
-        GenMethod fromMap = new GenMethod("fromMap", targetType, Accessibility.PUBLIC, Scope.STATIC, Modifiability.MODIFIABLE, asList(new GenParam("map", Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic("? extends Object", "? extends Object", null))))), ILines.linesOf(line("Map<String, Getter> $schema = getStructSchema();"), line(targetType.simpleName() + " obj = new " + targetType.simpleName() + "("), fromMapBody, line("        );"), line("return obj;")));
+        GenMethod fromMap = new GenMethod("fromMap", targetType, Accessibility.PUBLIC, Scope.STATIC, Modifiability.MODIFIABLE, asList(new GenParam("map", Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic("? extends Object", "? extends Object", null))))), ILines.linesOf(line("Map<String, Getter> $schema = " + StructGeneratorHelper.STRUCT_SCHEMA_FIELD + ";"), line(targetType.simpleName() + " obj = new " + targetType.simpleName() + "("), fromMapBody, line("        );"), line("return obj;")));
         return fromMap;
     }
     
     static GenMethod generateToMap(SourceSpec sourceSpec) {
+        // Sized so the map of all the fields never rehashes -- never smaller than the default so the entry order stays the same.
+        int       capacity  = Math.max(16, (sourceSpec.getGetters().size() * 4 + 2) / 3);
         ILines    toMapBody = ILines.line(sourceSpec.getGetters().stream().map(g -> "map.put(\"" + g.name() + "\", $utils.toMapValueObject(" + g.name() + "));").collect(toList()));
-        GenMethod toMap     = new GenMethod(METHOD_TO_MAP, Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic(Type.OBJECT))), Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, emptyList(), emptyList(), false, false, ILines.linesOf(line("Map<String, Object> map = new HashMap<>();"), toMapBody, line("return map;")), asList(Type.of(Map.class), Type.of(HashMap.class)), emptyList());
+        GenMethod toMap     = new GenMethod(METHOD_TO_MAP, Type.MAP.withGenerics(asList(new Generic(Type.STRING), new Generic(Type.OBJECT))), Accessibility.PUBLIC, Scope.INSTANCE, Modifiability.MODIFIABLE, emptyList(), emptyList(), false, false, ILines.linesOf(line("Map<String, Object> map = new HashMap<>(" + capacity + ");"), toMapBody, line("return map;")), asList(Type.of(Map.class), Type.of(HashMap.class)), emptyList());
         return toMap;
     }
 }
@@ -0,0 +1,105 @@
+// ============================================================================
+// Copyright (c) 2017-2025 Nawapunth Manusitthipol (NawaMan - http://nawaman.net).
+// ----------------------------------------------------------------------------
+// MIT License
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+// ============================================================================
+package functionalj.types.struct.generator;
+
+import static functionalj.types.struct.generator.ILines.line;
+import static functionalj.types.struct.generator.model.Accessibility.PACKAGE;
+import static functionalj.types.struct.generator.model.Accessibility.PRIVATE;
+import static functionalj.types.struct.generator.model.Accessibility.PUBLIC;
+import static functionalj.types.struct.generator.model.Modifiability.FINAL;
+import static functionalj.types.struct.generator.model.Modifiability.MODIFIABLE;
+import static functionalj.types.struct.generator.model.Scope.INSTANCE;
+import static functionalj.types.struct.generator.model.Scope.STATIC;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import functionalj.types.Core;
+import functionalj.types.Generic;
+import functionalj.types.Type;
+import functionalj.types.struct.generator.model.GenClass;
+import functionalj.types.struct.generator.model.GenConstructor;
+import functionalj.types.struct.generator.model.GenField;
+import functionalj.types.struct.generator.model.GenMethod;
+import functionalj.types.struct.generator.model.GenParam;
+
+/**
+ * Generator of the transient builder of the struct -- the mutable copy used by the batch lens update to rebuild the struct once.
+ */
+public class TransientBuilderGeneratorHelper {
+    
+    public static final String TRANSIENT_CLASS = "__Transient";
+    
+    public static final String TRANSIENT_METHOD = "__transientBuilder";
+    
+    static boolean isTransient(SourceSpec sourceSpec) {
+        return sourceSpec.getConfigures().generateLensClass;
+    }
+    
+    static Type transientSourceType(SourceSpec sourceSpec) {
+        return Core.TransientSource.type().withGenerics(asList(new Generic(sourceSpec.getTargetType())));
+    }
+    
+    static GenMethod generateTransientMethod(SourceSpec sourceSpec) {
+        Type builderType = Core.TransientBuilder.type().withGenerics(asList(new Generic(sourceSpec.getTargetType())));
+        return new GenMethod(TRANSIENT_METHOD, builderType, PUBLIC, INSTANCE, MODIFIABLE, emptyList(), line("return new " + TRANSIENT_CLASS + "(this);"));
+    }
+    
+    static GenClass generateTransientClass(SourceSpec sourceSpec) {
+        Type         targetType = sourceSpec.getTargetType();
+        String       targetName = targetType.simpleName();
+        List<Getter> getters    = sourceSpec.getGetters();
+        
+        List<GenField> fields = getters.stream()
+                .map(getter -> new GenField(PRIVATE, MODIFIABLE, INSTANCE, getter.name(), getter.type(), null))
+                .collect(toList());
+        
+        List<String> copyLines = getters.stream()
+                .map(getter -> "this." + getter.name() + " = source." + getter.name() + ";")
+                .collect(toList());
+        GenConstructor constructor = new GenConstructor(PACKAGE, TRANSIENT_CLASS, asList(new GenParam("source", targetType)), line(copyLines));
+        
+        List<String> setLines = new ArrayList<String>();
+        setLines.add("switch (name) {");
+        for (Getter getter : getters) {
+            String name = getter.name();
+            setLines.add("    case \"" + name + "\": this." + name + " = (" + getter.type().simpleNameWithGeneric() + ")value; return true;");
+        }
+        setLines.add("    default: return false;");
+        setLines.add("}");
+        List<GenParam> setParams = asList(new GenParam("name", Type.STRING), new GenParam("value", Type.OBJECT));
+        GenMethod      set       = new GenMethod("set", Type.BOOL, PUBLIC, INSTANCE, MODIFIABLE, setParams, line(setLines));
+        
+        String    paramCall = getters.stream().map(Getter::name).collect(joining(", "));
+        GenMethod seal      = new GenMethod("seal", targetType, PUBLIC, INSTANCE, MODIFIABLE, emptyList(), line("return new " + targetName + "(" + paramCall + ");"));
+        
+        Type builderType = Core.TransientBuilder.type().withGenerics(asList(new Generic(targetType)));
+        Type classType   = new Type(sourceSpec.getTargetPackageName(), targetName, TRANSIENT_CLASS, emptyList());
+        return new GenClass(null, PACKAGE, STATIC, FINAL, classType, null, emptyList(), asList(builderType), asList(constructor), fields, asList(set, seal), emptyList(), emptyList());
+    }
+}
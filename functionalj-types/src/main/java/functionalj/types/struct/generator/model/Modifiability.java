@@ -32,7 +32,7 @@ import functionalj.types.struct.generator.IGenerateTerm;
  */
 public enum Modifiability implements IGenerateTerm {
     
-    FINAL, MODIFIABLE;
+    FINAL, MODIFIABLE, TRANSIENT;
     
     @Override
     public String toTerm(String currentPackage) {
@@ -111,10 +111,12 @@ public class ChoiceWtihOptionalParameterTest {
                   + "        if (map == null)\n" 
                   + "            return null;\n" 
                   + "        String __tagged = (String)map.get(\"__tagged\");\n" 
-                  + "        if (\"Loggined\".equals(__tagged))\n" 
-                  + "            return (T)Loggined.caseFromMap(map);\n" 
-                  + "        if (\"LoggedOut\".equals(__tagged))\n" 
-                  + "            return (T)LoggedOut.caseFromMap(map);\n" 
+                  + "        if (__tagged != null) {\n"
+                  + "            switch (__tagged) {\n"
+                  + "                case \"Loggined\": return (T)Loggined.caseFromMap(map);\n"
+                  + "                case \"LoggedOut\": return (T)LoggedOut.caseFromMap(map);\n"
+                  + "            }\n"
+                  + "        }\n"
                   + "        throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);\n" 
                   + "    }\n" 
                   + "    \n" 
@@ -133,8 +135,29 @@ public class ChoiceWtihOptionalParameterTest {
                   + "        private Loggined(Optional<java.lang.Double> wealth) {\n" 
                   + "            this.wealth = wealth;\n" 
                   + "        }\n" 
+                  + "        @Override public int __caseIndex() { return 0; }\n"
                   + "        public Optional<java.lang.Double> wealth() { return wealth; }\n" 
                   + "        public Loggined withWealth(Optional<java.lang.Double> wealth) { return new Loggined(wealth); }\n" 
+                  + "        private transient int __hashCode;\n"
+                  + "        @Override\n"
+                  + "        public int hashCode() {\n"
+                  + "            int hashCode = __hashCode;\n"
+                  + "            if (hashCode != 0)\n"
+                  + "                return hashCode;\n"
+                  + "            hashCode = 2085422279;\n"
+                  + "            hashCode = 31*hashCode + $utils.hashOf(this.wealth);\n"
+                  + "            __hashCode = hashCode;\n"
+                  + "            return hashCode;\n"
+                  + "        }\n"
+                  + "        @Override\n"
+                  + "        public boolean equals(Object obj) {\n"
+                  + "            if (obj == this)\n"
+                  + "                return true;\n"
+                  + "            if (!(obj instanceof Loggined))\n"
+                  + "                return false;\n"
+                  + "            Loggined that = (Loggined)obj;\n"
+                  + "            return $utils.checkEquals(this.wealth, that.wealth);\n"
+                  + "        }\n"
                   + "        public static class LogginedLens<HOST> extends ObjectLensImpl<HOST, LoginStatus.Loggined> {\n" 
                   + "            \n" 
                   + "            public final OptionalLens<HOST, java.lang.Double, DoubleLens<HOST>> wealth = createSubOptionalLens(\"wealth\", LoginStatus.Loggined::wealth, LoginStatus.Loggined::withWealth, DoubleLens::of);\n" 
@@ -167,6 +190,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "        public static final LoggedOut.LoggedOutLens<LoggedOut> eachLoggedOut = theLoggedOut;\n" 
                   + "        private static final LoggedOut instance = new LoggedOut();\n" 
                   + "        private LoggedOut() {}\n" 
+                  + "        @Override public int __caseIndex() { return 1; }\n"
                   + "        public static class LoggedOutLens<HOST> extends ObjectLensImpl<HOST, LoginStatus.LoggedOut> {\n" 
                   + "            \n" 
                   + "            public LoggedOutLens(String name, LensSpec<HOST, LoginStatus.LoggedOut> spec) {\n" 
@@ -240,6 +264,15 @@ public class ChoiceWtihOptionalParameterTest {
                   + "    public LoginStatus ifLoggedOut(Consumer<LoggedOut> action) { if (isLoggedOut()) action.accept((LoggedOut)this); return this; }\n" 
                   + "    public LoginStatus ifLoggedOut(Runnable action) { if (isLoggedOut()) action.run(); return this; }\n" 
                   + "    \n" 
+                  + "    public abstract int __caseIndex();\n"
+                  + "    public <TARGET> TARGET match(Function<? super Loggined, ? extends TARGET> loggined, Function<? super LoggedOut, ? extends TARGET> loggedOut) {\n"
+                  + "        switch (__caseIndex()) {\n"
+                  + "            case 0: return loggined.apply((Loggined)this);\n"
+                  + "            case 1: return loggedOut.apply((LoggedOut)this);\n"
+                  + "            default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());\n"
+                  + "        }\n"
+                  + "    }\n"
+                  + "    \n"
                   + "    public static class LoginStatusFirstSwitch {\n" 
                   + "        private LoginStatus $value;\n" 
                   + "        private LoginStatusFirstSwitch(LoginStatus theValue) { this.$value = theValue; }\n" 
@@ -253,7 +286,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "            Function<LoginStatus, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Loggined)\n" 
+                  + "                    ($value.__caseIndex() == 0)\n"
                   + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -272,7 +305,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "            Function<LoginStatus, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Loggined) && check.test((Loggined)$value))\n" 
+                  + "                    (($value.__caseIndex() == 0) && check.test((Loggined)$value))\n"
                   + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -295,7 +328,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "            Function<LoginStatus, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Loggined)\n" 
+                  + "                    ($value.__caseIndex() == 0)\n"
                   + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -314,7 +347,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "            Function<LoginStatus, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Loggined) && check.test((Loggined)$value))\n" 
+                  + "                    (($value.__caseIndex() == 0) && check.test((Loggined)$value))\n"
                   + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -335,7 +368,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "            Function<LoginStatus, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Loggined)\n" 
+                  + "                    ($value.__caseIndex() == 0)\n"
                   + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -353,7 +386,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "            Function<LoginStatus, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Loggined) && check.test((Loggined)$value))\n" 
+                  + "                    (($value.__caseIndex() == 0) && check.test((Loggined)$value))\n"
                   + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -374,7 +407,7 @@ public class ChoiceWtihOptionalParameterTest {
                   + "            Function<LoginStatus, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof LoggedOut)\n" 
+                  + "                    ($value.__caseIndex() == 1)\n"
                   + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((LoggedOut)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
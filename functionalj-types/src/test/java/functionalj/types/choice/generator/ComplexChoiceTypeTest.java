@@ -116,10 +116,12 @@ public class ComplexChoiceTypeTest {
               + "        if (map == null)\n"
               + "            return null;\n"
               + "        String __tagged = (String)map.get(\"__tagged\");\n"
-              + "        if (\"Loggined\".equals(__tagged))\n"
-              + "            return (T)Loggined.caseFromMap(map);\n"
-              + "        if (\"LoggedOut\".equals(__tagged))\n"
-              + "            return (T)LoggedOut.caseFromMap(map);\n"
+              + "        if (__tagged != null) {\n"
+              + "            switch (__tagged) {\n"
+              + "                case \"Loggined\": return (T)Loggined.caseFromMap(map);\n"
+              + "                case \"LoggedOut\": return (T)LoggedOut.caseFromMap(map);\n"
+              + "            }\n"
+              + "        }\n"
               + "        throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);\n"
               + "    }\n"
               + "    \n"
@@ -144,6 +146,7 @@ public class ComplexChoiceTypeTest {
               + "            this.wealth = wealth;\n"
               + "            this.user = user;\n"
               + "        }\n"
+              + "        @Override public int __caseIndex() { return 0; }\n"
               + "        public String name() { return name; }\n"
               + "        public int age() { return age; }\n"
               + "        public Optional<java.lang.Double> wealth() { return wealth; }\n"
@@ -152,6 +155,32 @@ public class ComplexChoiceTypeTest {
               + "        public Loggined withAge(int age) { return new Loggined(name, age, wealth, user); }\n"
               + "        public Loggined withWealth(Optional<java.lang.Double> wealth) { return new Loggined(name, age, wealth, user); }\n"
               + "        public Loggined withUser(User user) { return new Loggined(name, age, wealth, user); }\n"
+              + "        private transient int __hashCode;\n"
+              + "        @Override\n"
+              + "        public int hashCode() {\n"
+              + "            int hashCode = __hashCode;\n"
+              + "            if (hashCode != 0)\n"
+              + "                return hashCode;\n"
+              + "            hashCode = 2085422279;\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.name);\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.age);\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.wealth);\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.user);\n"
+              + "            __hashCode = hashCode;\n"
+              + "            return hashCode;\n"
+              + "        }\n"
+              + "        @Override\n"
+              + "        public boolean equals(Object obj) {\n"
+              + "            if (obj == this)\n"
+              + "                return true;\n"
+              + "            if (!(obj instanceof Loggined))\n"
+              + "                return false;\n"
+              + "            Loggined that = (Loggined)obj;\n"
+              + "            return $utils.checkEquals(this.name, that.name)\n"
+              + "                && $utils.checkEquals(this.age, that.age)\n"
+              + "                && $utils.checkEquals(this.wealth, that.wealth)\n"
+              + "                && $utils.checkEquals(this.user, that.user);\n"
+              + "        }\n"
               + "        public static class LogginedLens<HOST> extends ObjectLensImpl<HOST, LoginStatus.Loggined> {\n"
               + "            \n"
               + "            public final StringLens<HOST> name = (StringLens<HOST>)createSubLens(\"name\", LoginStatus.Loggined::name, LoginStatus.Loggined::withName, StringLens::of);\n"
@@ -196,6 +225,7 @@ public class ComplexChoiceTypeTest {
               + "        public static final LoggedOut.LoggedOutLens<LoggedOut> eachLoggedOut = theLoggedOut;\n"
               + "        private static final LoggedOut instance = new LoggedOut();\n"
               + "        private LoggedOut() {}\n"
+              + "        @Override public int __caseIndex() { return 1; }\n"
               + "        public static class LoggedOutLens<HOST> extends ObjectLensImpl<HOST, LoginStatus.LoggedOut> {\n"
               + "            \n"
               + "            public LoggedOutLens(String name, LensSpec<HOST, LoginStatus.LoggedOut> spec) {\n"
@@ -269,6 +299,15 @@ public class ComplexChoiceTypeTest {
               + "    public LoginStatus ifLoggedOut(Consumer<LoggedOut> action) { if (isLoggedOut()) action.accept((LoggedOut)this); return this; }\n"
               + "    public LoginStatus ifLoggedOut(Runnable action) { if (isLoggedOut()) action.run(); return this; }\n"
               + "    \n"
+              + "    public abstract int __caseIndex();\n"
+              + "    public <TARGET> TARGET match(Function<? super Loggined, ? extends TARGET> loggined, Function<? super LoggedOut, ? extends TARGET> loggedOut) {\n"
+              + "        switch (__caseIndex()) {\n"
+              + "            case 0: return loggined.apply((Loggined)this);\n"
+              + "            case 1: return loggedOut.apply((LoggedOut)this);\n"
+              + "            default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());\n"
+              + "        }\n"
+              + "    }\n"
+              + "    \n"
               + "    public static class LoginStatusFirstSwitch {\n"
               + "        private LoginStatus $value;\n"
               + "        private LoginStatusFirstSwitch(LoginStatus theValue) { this.$value = theValue; }\n"
@@ -282,7 +321,7 @@ public class ComplexChoiceTypeTest {
               + "            Function<LoginStatus, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Loggined)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -301,7 +340,7 @@ public class ComplexChoiceTypeTest {
               + "            Function<LoginStatus, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    (($value instanceof Loggined) && check.test((Loggined)$value))\n"
+              + "                    (($value.__caseIndex() == 0) && check.test((Loggined)$value))\n"
               + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -324,7 +363,7 @@ public class ComplexChoiceTypeTest {
               + "            Function<LoginStatus, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Loggined)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -343,7 +382,7 @@ public class ComplexChoiceTypeTest {
               + "            Function<LoginStatus, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    (($value instanceof Loggined) && check.test((Loggined)$value))\n"
+              + "                    (($value.__caseIndex() == 0) && check.test((Loggined)$value))\n"
               + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -364,7 +403,7 @@ public class ComplexChoiceTypeTest {
               + "            Function<LoginStatus, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Loggined)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -382,7 +421,7 @@ public class ComplexChoiceTypeTest {
               + "            Function<LoginStatus, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    (($value instanceof Loggined) && check.test((Loggined)$value))\n"
+              + "                    (($value.__caseIndex() == 0) && check.test((Loggined)$value))\n"
               + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((Loggined)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -403,7 +442,7 @@ public class ComplexChoiceTypeTest {
               + "            Function<LoginStatus, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof LoggedOut)\n"
+              + "                    ($value.__caseIndex() == 1)\n"
               + "                    ? (Function<LoginStatus, TARGET>)(d -> theAction.apply((LoggedOut)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
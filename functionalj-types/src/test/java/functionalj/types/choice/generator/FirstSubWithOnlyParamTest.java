@@ -46,6 +46,6 @@ public class FirstSubWithOnlyParamTest {
         val targetClass = new TargetClass(spec);
         val switchClass = new SwitchClass(targetClass, true, spec.choices);
         val lines = switchClass.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
-        assertAsString("public static class BasicColorFirstSwitch {\n" + "    private BasicColor $value;\n" + "    private BasicColorFirstSwitch(BasicColor theValue) { this.$value = theValue; }\n" + "    public <TARGET> BasicColorFirstSwitchTyped<TARGET> toA(Class<TARGET> clzz) {\n" + "        return new BasicColorFirstSwitchTyped<TARGET>($value);\n" + "    }\n" + "    \n" + "    public <TARGET> BasicColorSwitchWhite<TARGET> rgb(Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                ($value instanceof RGB)\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public <TARGET> BasicColorSwitchWhite<TARGET> rgb(Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(d->theSupplier.get());\n" + "    }\n" + "    public <TARGET> BasicColorSwitchWhite<TARGET> rgb(TARGET theValue) {\n" + "        return rgb(d->theValue);\n" + "    }\n" + "    \n" + "    public <TARGET> BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                (($value instanceof RGB) && check.test((RGB)$value))\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchRGBWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public <TARGET> BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(check, d->theSupplier.get());\n" + "    }\n" + "    public <TARGET> BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, TARGET theValue) {\n" + "        return rgb(check, d->theValue);\n" + "    }\n" + "}\n" + "public static class BasicColorFirstSwitchTyped<TARGET> {\n" + "    private BasicColor $value;\n" + "    private BasicColorFirstSwitchTyped(BasicColor theValue) { this.$value = theValue; }\n" + "    \n" + "    public BasicColorSwitchWhite<TARGET> rgb(Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                ($value instanceof RGB)\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(TARGET theValue) {\n" + "        return rgb(d->theValue);\n" + "    }\n" + "    \n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                (($value instanceof RGB) && check.test((RGB)$value))\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchRGBWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(check, d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, TARGET theValue) {\n" + "        return rgb(check, d->theValue);\n" + "    }\n" + "}\n" + "public static class BasicColorSwitchRGBWhite<TARGET> extends ChoiceTypeSwitch<BasicColor, TARGET> {\n" + "    private BasicColorSwitchRGBWhite(BasicColor theValue, Function<BasicColor, ? extends TARGET> theAction) { super(theValue, theAction); }\n" + "    \n" + "    public BasicColorSwitchWhite<TARGET> rgb(Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                ($value instanceof RGB)\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(TARGET theValue) {\n" + "        return rgb(d->theValue);\n" + "    }\n" + "    \n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                (($value instanceof RGB) && check.test((RGB)$value))\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchRGBWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(check, d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, TARGET theValue) {\n" + "        return rgb(check, d->theValue);\n" + "    }\n" + "}", lines);
+        assertAsString("public static class BasicColorFirstSwitch {\n" + "    private BasicColor $value;\n" + "    private BasicColorFirstSwitch(BasicColor theValue) { this.$value = theValue; }\n" + "    public <TARGET> BasicColorFirstSwitchTyped<TARGET> toA(Class<TARGET> clzz) {\n" + "        return new BasicColorFirstSwitchTyped<TARGET>($value);\n" + "    }\n" + "    \n" + "    public <TARGET> BasicColorSwitchWhite<TARGET> rgb(Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                ($value.__caseIndex() == 0)\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public <TARGET> BasicColorSwitchWhite<TARGET> rgb(Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(d->theSupplier.get());\n" + "    }\n" + "    public <TARGET> BasicColorSwitchWhite<TARGET> rgb(TARGET theValue) {\n" + "        return rgb(d->theValue);\n" + "    }\n" + "    \n" + "    public <TARGET> BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                (($value.__caseIndex() == 0) && check.test((RGB)$value))\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchRGBWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public <TARGET> BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(check, d->theSupplier.get());\n" + "    }\n" + "    public <TARGET> BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, TARGET theValue) {\n" + "        return rgb(check, d->theValue);\n" + "    }\n" + "}\n" + "public static class BasicColorFirstSwitchTyped<TARGET> {\n" + "    private BasicColor $value;\n" + "    private BasicColorFirstSwitchTyped(BasicColor theValue) { this.$value = theValue; }\n" + "    \n" + "    public BasicColorSwitchWhite<TARGET> rgb(Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                ($value.__caseIndex() == 0)\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(TARGET theValue) {\n" + "        return rgb(d->theValue);\n" + "    }\n" + "    \n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> $action = null;\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                (($value.__caseIndex() == 0) && check.test((RGB)$value))\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchRGBWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(check, d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, TARGET theValue) {\n" + "        return rgb(check, d->theValue);\n" + "    }\n" + "}\n" + "public static class BasicColorSwitchRGBWhite<TARGET> extends ChoiceTypeSwitch<BasicColor, TARGET> {\n" + "    private BasicColorSwitchRGBWhite(BasicColor theValue, Function<BasicColor, ? extends TARGET> theAction) { super(theValue, theAction); }\n" + "    \n" + "    public BasicColorSwitchWhite<TARGET> rgb(Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                ($value.__caseIndex() == 0)\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchWhite<TARGET> rgb(TARGET theValue) {\n" + "        return rgb(d->theValue);\n" + "    }\n" + "    \n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Function<? super RGB, ? extends TARGET> theAction) {\n" + "        Function<BasicColor, TARGET> oldAction = (Function<BasicColor, TARGET>)$action;\n" + "        Function<BasicColor, TARGET> newAction =\n" + "            ($action != null)\n" + "            ? oldAction : \n" + "                (($value.__caseIndex() == 0) && check.test((RGB)$value))\n" + "                ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n" + "                : oldAction;\n" + "        \n" + "        return new BasicColorSwitchRGBWhite<TARGET>($value, newAction);\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, Supplier<? extends TARGET> theSupplier) {\n" + "        return rgb(check, d->theSupplier.get());\n" + "    }\n" + "    public BasicColorSwitchRGBWhite<TARGET> rgb(java.util.function.Predicate<RGB> check, TARGET theValue) {\n" + "        return rgb(check, d->theValue);\n" + "    }\n" + "}", lines);
     }
 }
@@ -107,12 +107,13 @@ public class GeneratorSealedClassTest {
               + "        if (map == null)\n"
               + "            return null;\n"
               + "        String __tagged = (String)map.get(\"__tagged\");\n"
-              + "        if (\"White\".equals(__tagged))\n"
-              + "            return (T)White.caseFromMap(map);\n"
-              + "        if (\"Black\".equals(__tagged))\n"
-              + "            return (T)Black.caseFromMap(map);\n"
-              + "        if (\"RGB\".equals(__tagged))\n"
-              + "            return (T)RGB.caseFromMap(map);\n"
+              + "        if (__tagged != null) {\n"
+              + "            switch (__tagged) {\n"
+              + "                case \"White\": return (T)White.caseFromMap(map);\n"
+              + "                case \"Black\": return (T)Black.caseFromMap(map);\n"
+              + "                case \"RGB\": return (T)RGB.caseFromMap(map);\n"
+              + "            }\n"
+              + "        }\n"
               + "        throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);\n"
               + "    }\n"
               + "    \n"
@@ -130,6 +131,7 @@ public class GeneratorSealedClassTest {
               + "        public static final White.WhiteLens<White> eachWhite = theWhite;\n"
               + "        private static final White instance = new White();\n"
               + "        private White() {}\n"
+              + "        @Override public int __caseIndex() { return 0; }\n"
               + "        public static class WhiteLens<HOST> extends ObjectLensImpl<HOST, BasicColor.White> {\n"
               + "            \n"
               + "            public WhiteLens(String name, LensSpec<HOST, BasicColor.White> spec) {\n"
@@ -154,6 +156,7 @@ public class GeneratorSealedClassTest {
               + "        public static final Black.BlackLens<Black> eachBlack = theBlack;\n"
               + "        private static final Black instance = new Black();\n"
               + "        private Black() {}\n"
+              + "        @Override public int __caseIndex() { return 1; }\n"
               + "        public static class BlackLens<HOST> extends ObjectLensImpl<HOST, BasicColor.Black> {\n"
               + "            \n"
               + "            public BlackLens(String name, LensSpec<HOST, BasicColor.Black> spec) {\n"
@@ -184,12 +187,37 @@ public class GeneratorSealedClassTest {
               + "            this.g = g;\n"
               + "            this.b = b;\n"
               + "        }\n"
+              + "        @Override public int __caseIndex() { return 2; }\n"
               + "        public int r() { return r; }\n"
               + "        public int g() { return g; }\n"
               + "        public int b() { return b; }\n"
               + "        public RGB withR(int r) { return new RGB(r, g, b); }\n"
               + "        public RGB withG(int g) { return new RGB(r, g, b); }\n"
               + "        public RGB withB(int b) { return new RGB(r, g, b); }\n"
+              + "        private transient int __hashCode;\n"
+              + "        @Override\n"
+              + "        public int hashCode() {\n"
+              + "            int hashCode = __hashCode;\n"
+              + "            if (hashCode != 0)\n"
+              + "                return hashCode;\n"
+              + "            hashCode = 81069;\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.r);\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.g);\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.b);\n"
+              + "            __hashCode = hashCode;\n"
+              + "            return hashCode;\n"
+              + "        }\n"
+              + "        @Override\n"
+              + "        public boolean equals(Object obj) {\n"
+              + "            if (obj == this)\n"
+              + "                return true;\n"
+              + "            if (!(obj instanceof RGB))\n"
+              + "                return false;\n"
+              + "            RGB that = (RGB)obj;\n"
+              + "            return $utils.checkEquals(this.r, that.r)\n"
+              + "                && $utils.checkEquals(this.g, that.g)\n"
+              + "                && $utils.checkEquals(this.b, that.b);\n"
+              + "        }\n"
               + "        public static class RGBLens<HOST> extends ObjectLensImpl<HOST, BasicColor.RGB> {\n"
               + "            \n"
               + "            public final IntegerLens<HOST> r = createSubLensInt(\"r\", BasicColor.RGB::r, BasicColor.RGB::withR);\n"
@@ -284,6 +312,16 @@ public class GeneratorSealedClassTest {
               + "    public BasicColor ifRGB(Consumer<RGB> action) { if (isRGB()) action.accept((RGB)this); return this; }\n"
               + "    public BasicColor ifRGB(Runnable action) { if (isRGB()) action.run(); return this; }\n"
               + "    \n"
+              + "    public abstract int __caseIndex();\n"
+              + "    public <TARGET> TARGET match(Function<? super White, ? extends TARGET> white, Function<? super Black, ? extends TARGET> black, Function<? super RGB, ? extends TARGET> rgb) {\n"
+              + "        switch (__caseIndex()) {\n"
+              + "            case 0: return white.apply((White)this);\n"
+              + "            case 1: return black.apply((Black)this);\n"
+              + "            case 2: return rgb.apply((RGB)this);\n"
+              + "            default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());\n"
+              + "        }\n"
+              + "    }\n"
+              + "    \n"
               + "    public static class BasicColorFirstSwitch {\n"
               + "        private BasicColor $value;\n"
               + "        private BasicColorFirstSwitch(BasicColor theValue) { this.$value = theValue; }\n"
@@ -297,7 +335,7 @@ public class GeneratorSealedClassTest {
               + "            Function<BasicColor, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof White)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<BasicColor, TARGET>)(d -> theAction.apply((White)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -320,7 +358,7 @@ public class GeneratorSealedClassTest {
               + "            Function<BasicColor, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof White)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<BasicColor, TARGET>)(d -> theAction.apply((White)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -341,7 +379,7 @@ public class GeneratorSealedClassTest {
               + "            Function<BasicColor, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof White)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<BasicColor, TARGET>)(d -> theAction.apply((White)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -362,7 +400,7 @@ public class GeneratorSealedClassTest {
               + "            Function<BasicColor, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Black)\n"
+              + "                    ($value.__caseIndex() == 1)\n"
               + "                    ? (Function<BasicColor, TARGET>)(d -> theAction.apply((Black)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -383,7 +421,7 @@ public class GeneratorSealedClassTest {
               + "            Function<BasicColor, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof RGB)\n"
+              + "                    ($value.__caseIndex() == 2)\n"
               + "                    ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -401,7 +439,7 @@ public class GeneratorSealedClassTest {
               + "            Function<BasicColor, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    (($value instanceof RGB) && check.test((RGB)$value))\n"
+              + "                    (($value.__caseIndex() == 2) && check.test((RGB)$value))\n"
               + "                    ? (Function<BasicColor, TARGET>)(d -> theAction.apply((RGB)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
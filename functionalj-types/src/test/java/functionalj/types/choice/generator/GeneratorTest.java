@@ -90,9 +90,10 @@ public class GeneratorTest {
     @Test
     public void testSubClassConstructor_withParams_withGeneric() {
         val sourceType = new Type("p1.p2", null, "Next", asList(new Generic("D")));
-        val sourceSpec = new SourceSpec("Coroutine", sourceType, "spec", false, null, false, Serialize.To.NOTHING, asList(new Generic("D")), emptyList(), emptyList(), emptyList());
+        val next = new Case("Next", asList(new CaseParam("next", new Type("functionalj.function", null, "Func1", asList(new Generic("D"), new Generic("Coroutine<D>"))), false)));
+        val sourceSpec = new SourceSpec("Coroutine", sourceType, "spec", false, null, false, Serialize.To.NOTHING, asList(new Generic("D")), asList(next), emptyList(), emptyList());
         val target = new TargetClass(sourceSpec);
-        val sub = new SubClassDefinition(target, new Case("Next", asList(new CaseParam("next", new Type("functionalj.function", null, "Func1", asList(new Generic("D"), new Generic("Coroutine<D>"))), false))));
+        val sub = new SubClassDefinition(target, next);
         val lines = sub.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
         assertEquals(
                   "public static final class Next<D> extends Coroutine<D> {\n"
@@ -102,8 +103,29 @@ public class GeneratorTest {
                 + "    private Next(Func1<D,Coroutine<D>> next) {\n"
                 + "        this.next = $utils.notNull(next);\n"
                 + "    }\n"
+                + "    @Override public int __caseIndex() { return 0; }\n"
                 + "    public Func1<D,Coroutine<D>> next() { return next; }\n"
                 + "    public Next<D> withNext(Func1<D,Coroutine<D>> next) { return new Next<D>(next); }\n"
+                + "    private transient int __hashCode;\n"
+                + "    @Override\n"
+                + "    public int hashCode() {\n"
+                + "        int hashCode = __hashCode;\n"
+                + "        if (hashCode != 0)\n"
+                + "            return hashCode;\n"
+                + "        hashCode = 2424595;\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.next);\n"
+                + "        __hashCode = hashCode;\n"
+                + "        return hashCode;\n"
+                + "    }\n"
+                + "    @Override\n"
+                + "    public boolean equals(Object obj) {\n"
+                + "        if (obj == this)\n"
+                + "            return true;\n"
+                + "        if (!(obj instanceof Next))\n"
+                + "            return false;\n"
+                + "        Next<?> that = (Next<?>)obj;\n"
+                + "        return $utils.checkEquals(this.next, that.next);\n"
+                + "    }\n"
                 + "    public static class NextLens<HOST> extends ObjectLensImpl<HOST, Coroutine.Next> {\n"
                 + "        \n"
                 + "        public final ObjectLens<HOST, Object> next = (ObjectLens)createSubLens(\"next\", Coroutine.Next::next, Coroutine.Next::withNext, ObjectLens::of);\n"
@@ -132,13 +154,14 @@ public class GeneratorTest {
                 + "    }\n"
                 + "}",
                 lines);
-        assertEquals("new functionalj.types.choice.generator.model.SourceSpec(\"Coroutine\", new functionalj.types.Type(\"p1.p2\", null, \"Next\", java.util.Arrays.asList(new functionalj.types.Generic(\"D\", \"D\", java.util.Arrays.asList(new functionalj.types.Type(null, null, \"D\", java.util.Collections.emptyList()))))), \"spec\", false, \"__tagged\", false, functionalj.types.Serialize.To.NOTHING, java.util.Arrays.asList(new functionalj.types.Generic(\"D\", \"D\", java.util.Arrays.asList(new functionalj.types.Type(null, null, \"D\", java.util.Collections.emptyList())))), java.util.Collections.emptyList(), java.util.Collections.emptyList(), java.util.Collections.emptyList())", sourceSpec.toCode());
+        assertEquals("new functionalj.types.choice.generator.model.SourceSpec(\"Coroutine\", new functionalj.types.Type(\"p1.p2\", null, \"Next\", java.util.Arrays.asList(new functionalj.types.Generic(\"D\", \"D\", java.util.Arrays.asList(new functionalj.types.Type(null, null, \"D\", java.util.Collections.emptyList()))))), \"spec\", false, \"__tagged\", false, functionalj.types.Serialize.To.NOTHING, java.util.Arrays.asList(new functionalj.types.Generic(\"D\", \"D\", java.util.Arrays.asList(new functionalj.types.Type(null, null, \"D\", java.util.Collections.emptyList())))), java.util.Arrays.asList(new functionalj.types.choice.generator.model.Case(\"Next\", null, java.util.Arrays.asList(new functionalj.types.choice.generator.model.CaseParam(\"next\", new functionalj.types.Type(\"functionalj.function\", null, \"Func1\", java.util.Arrays.asList(new functionalj.types.Generic(\"D\", \"D\", java.util.Arrays.asList(new functionalj.types.Type(null, null, \"D\", java.util.Collections.emptyList()))), new functionalj.types.Generic(\"Coroutine<D>\", \"Coroutine<D>\", java.util.Arrays.asList(new functionalj.types.Type(null, null, \"Coroutine<D>\", java.util.Collections.emptyList()))))), false, null)))), java.util.Collections.emptyList(), java.util.Collections.emptyList())", sourceSpec.toCode());
     }
     
     @Test
     public void testSubClassDefinition_noParams() {
-        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, emptyList()));
-        val sub = new SubClassDefinition(target, new Case("White"));
+        val white = new Case("White");
+        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, asList(white)));
+        val sub = new SubClassDefinition(target, white);
         val lines = sub.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
         assertEquals(
                   "public static final class White extends Color {\n"
@@ -146,6 +169,7 @@ public class GeneratorTest {
                 + "    public static final White.WhiteLens<White> eachWhite = theWhite;\n"
                 + "    private static final White instance = new White();\n"
                 + "    private White() {}\n"
+                + "    @Override public int __caseIndex() { return 0; }\n"
                 + "    public static class WhiteLens<HOST> extends ObjectLensImpl<HOST, Color.White> {\n"
                 + "        \n"
                 + "        public WhiteLens(String name, LensSpec<HOST, Color.White> spec) {\n"
@@ -170,8 +194,9 @@ public class GeneratorTest {
     
     @Test
     public void testSubClassDefinition_withParams() {
-        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, emptyList()));
-        val sub = new SubClassDefinition(target, new Case("RGB", "__validateRGB", asList(new CaseParam("r", new Type("int"), false), new CaseParam("g", new Type("int"), false), new CaseParam("b", new Type("int"), false))));
+        val rgb = new Case("RGB", "__validateRGB", asList(new CaseParam("r", new Type("int"), false), new CaseParam("g", new Type("int"), false), new CaseParam("b", new Type("int"), false)));
+        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, asList(rgb)));
+        val sub = new SubClassDefinition(target, rgb);
         val lines = sub.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
         assertEquals(
                   "public static final class RGB extends Color {\n"
@@ -185,12 +210,37 @@ public class GeneratorTest {
                 + "        this.g = g;\n"
                 + "        this.b = b;\n"
                 + "    }\n"
+                + "    @Override public int __caseIndex() { return 0; }\n"
                 + "    public int r() { return r; }\n"
                 + "    public int g() { return g; }\n"
                 + "    public int b() { return b; }\n"
                 + "    public RGB withR(int r) { return new RGB(r, g, b); }\n"
                 + "    public RGB withG(int g) { return new RGB(r, g, b); }\n"
                 + "    public RGB withB(int b) { return new RGB(r, g, b); }\n"
+                + "    private transient int __hashCode;\n"
+                + "    @Override\n"
+                + "    public int hashCode() {\n"
+                + "        int hashCode = __hashCode;\n"
+                + "        if (hashCode != 0)\n"
+                + "            return hashCode;\n"
+                + "        hashCode = 81069;\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.r);\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.g);\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.b);\n"
+                + "        __hashCode = hashCode;\n"
+                + "        return hashCode;\n"
+                + "    }\n"
+                + "    @Override\n"
+                + "    public boolean equals(Object obj) {\n"
+                + "        if (obj == this)\n"
+                + "            return true;\n"
+                + "        if (!(obj instanceof RGB))\n"
+                + "            return false;\n"
+                + "        RGB that = (RGB)obj;\n"
+                + "        return $utils.checkEquals(this.r, that.r)\n"
+                + "            && $utils.checkEquals(this.g, that.g)\n"
+                + "            && $utils.checkEquals(this.b, that.b);\n"
+                + "    }\n"
                 + "    public static class RGBLens<HOST> extends ObjectLensImpl<HOST, Color.RGB> {\n"
                 + "        \n"
                 + "        public final IntegerLens<HOST> r = createSubLensInt(\"r\", Color.RGB::r, Color.RGB::withR);\n"
@@ -232,8 +282,9 @@ public class GeneratorTest {
     @Test
     public void testSubClassDefinition_withParams_withGeneric() {
         val sourceType = new Type("p1.p2", null, "Next", asList(new Generic("D")));
-        val target = new TargetClass(new SourceSpec("Coroutine", sourceType, "spec", false, null, false, Serialize.To.NOTHING, asList(new Generic("D")), emptyList(), emptyList(), emptyList()));
-        val sub = new SubClassDefinition(target, new Case("Next", asList(new CaseParam("next", new Type("functionalj.function", null, "Func1", asList(new Generic("D"), new Generic("Coroutine<D>"))), false))));
+        val next = new Case("Next", asList(new CaseParam("next", new Type("functionalj.function", null, "Func1", asList(new Generic("D"), new Generic("Coroutine<D>"))), false)));
+        val target = new TargetClass(new SourceSpec("Coroutine", sourceType, "spec", false, null, false, Serialize.To.NOTHING, asList(new Generic("D")), asList(next), emptyList(), emptyList()));
+        val sub = new SubClassDefinition(target, next);
         val lines = sub.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
         assertEquals(
                   "public static final class Next<D> extends Coroutine<D> {\n"
@@ -243,8 +294,29 @@ public class GeneratorTest {
                 + "    private Next(Func1<D,Coroutine<D>> next) {\n"
                 + "        this.next = $utils.notNull(next);\n"
                 + "    }\n"
+                + "    @Override public int __caseIndex() { return 0; }\n"
                 + "    public Func1<D,Coroutine<D>> next() { return next; }\n"
                 + "    public Next<D> withNext(Func1<D,Coroutine<D>> next) { return new Next<D>(next); }\n"
+                + "    private transient int __hashCode;\n"
+                + "    @Override\n"
+                + "    public int hashCode() {\n"
+                + "        int hashCode = __hashCode;\n"
+                + "        if (hashCode != 0)\n"
+                + "            return hashCode;\n"
+                + "        hashCode = 2424595;\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.next);\n"
+                + "        __hashCode = hashCode;\n"
+                + "        return hashCode;\n"
+                + "    }\n"
+                + "    @Override\n"
+                + "    public boolean equals(Object obj) {\n"
+                + "        if (obj == this)\n"
+                + "            return true;\n"
+                + "        if (!(obj instanceof Next))\n"
+                + "            return false;\n"
+                + "        Next<?> that = (Next<?>)obj;\n"
+                + "        return $utils.checkEquals(this.next, that.next);\n"
+                + "    }\n"
                 + "    public static class NextLens<HOST> extends ObjectLensImpl<HOST, Coroutine.Next> {\n"
                 + "        \n"
                 + "        public final ObjectLens<HOST, Object> next = (ObjectLens)createSubLens(\"next\", Coroutine.Next::next, Coroutine.Next::withNext, ObjectLens::of);\n"
@@ -277,8 +349,9 @@ public class GeneratorTest {
     
     @Test
     public void testSwitchClass_simple_notLast() {
-        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, emptyList()));
-        val sub = new SwitchClass(target, false, asList(new Case("White"), new Case("Black"), new Case("RGB", "__validateRGB", asList(new CaseParam("r", new Type("int"), false), new CaseParam("g", new Type("int"), false), new CaseParam("b", new Type("int"), false)))));
+        val choices = asList(new Case("White"), new Case("Black"), new Case("RGB", "__validateRGB", asList(new CaseParam("r", new Type("int"), false), new CaseParam("g", new Type("int"), false), new CaseParam("b", new Type("int"), false))));
+        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, choices));
+        val sub = new SwitchClass(target, false, choices);
         val lines = sub.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
         assertEquals("public static class ColorSwitchWhiteBlackRGB<TARGET> extends ChoiceTypeSwitch<Color, TARGET> {\n"
                 + "    private ColorSwitchWhiteBlackRGB(Color theValue, Function<Color, ? extends TARGET> theAction) { super(theValue, theAction); }\n"
@@ -288,7 +361,7 @@ public class GeneratorTest {
                 + "        Function<Color, TARGET> newAction =\n"
                 + "            ($action != null)\n"
                 + "            ? oldAction : \n"
-                + "                ($value instanceof White)\n"
+                + "                ($value.__caseIndex() == 0)\n"
                 + "                ? (Function<Color, TARGET>)(d -> theAction.apply((White)d))\n"
                 + "                : oldAction;\n"
                 + "        \n"
@@ -306,8 +379,9 @@ public class GeneratorTest {
     
     @Test
     public void testSwitchClass_simple_last() {
-        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, emptyList()));
-        val sub = new SwitchClass(target, false, asList(new Case("White")));
+        val white = new Case("White");
+        val target = new TargetClass(new SourceSpec("Color", new Type("p1.p2", "ColorSpec"), false, asList(white)));
+        val sub = new SwitchClass(target, false, asList(white));
         val lines = sub.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
         assertEquals("public static class ColorSwitchWhite<TARGET> extends ChoiceTypeSwitch<Color, TARGET> {\n"
                 + "    private ColorSwitchWhite(Color theValue, Function<Color, ? extends TARGET> theAction) { super(theValue, theAction); }\n"
@@ -317,7 +391,7 @@ public class GeneratorTest {
                 + "        Function<Color, TARGET> newAction =\n"
                 + "            ($action != null)\n"
                 + "            ? oldAction : \n"
-                + "                ($value instanceof White)\n"
+                + "                ($value.__caseIndex() == 0)\n"
                 + "                ? (Function<Color, TARGET>)(d -> theAction.apply((White)d))\n"
                 + "                : oldAction;\n"
                 + "        \n"
@@ -470,8 +544,9 @@ public class GeneratorTest {
     @Test
     public void testSubClassDefinition_withPublicField() {
         val sourceType = new Type("p1.p2", null, "Next", asList(new Generic("D")));
-        val target = new TargetClass(new SourceSpec("Coroutine", sourceType, "spec", true, null, false, Serialize.To.NOTHING, asList(new Generic("D")), emptyList(), emptyList(), emptyList()));
-        val sub = new SubClassDefinition(target, new Case("Next", asList(new CaseParam("next", new Type("functionalj.function", null, "Func1", asList(new Generic("D"), new Generic("Coroutine<D>"))), false))));
+        val next = new Case("Next", asList(new CaseParam("next", new Type("functionalj.function", null, "Func1", asList(new Generic("D"), new Generic("Coroutine<D>"))), false)));
+        val target = new TargetClass(new SourceSpec("Coroutine", sourceType, "spec", true, null, false, Serialize.To.NOTHING, asList(new Generic("D")), asList(next), emptyList(), emptyList()));
+        val sub = new SubClassDefinition(target, next);
         val lines = sub.lines().stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
         assertEquals("public static final class Next<D> extends Coroutine<D> {\n"
                 + "    public static final Next.NextLens<Next> theNext = new Next.NextLens<>(\"theNext\", LensSpec.of(Next.class));\n"
@@ -480,8 +555,24 @@ public class GeneratorTest {
                 + "    private Next(Func1<D,Coroutine<D>> next) {\n"
                 + "        this.next = $utils.notNull(next);\n"
                 + "    }\n"
+                + "    @Override public int __caseIndex() { return 0; }\n"
                 + "    public Func1<D,Coroutine<D>> next() { return next; }\n"
                 + "    public Next<D> withNext(Func1<D,Coroutine<D>> next) { return new Next<D>(next); }\n"
+                + "    @Override\n"
+                + "    public int hashCode() {\n"
+                + "        int hashCode = 2424595;\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.next);\n"
+                + "        return hashCode;\n"
+                + "    }\n"
+                + "    @Override\n"
+                + "    public boolean equals(Object obj) {\n"
+                + "        if (obj == this)\n"
+                + "            return true;\n"
+                + "        if (!(obj instanceof Next))\n"
+                + "            return false;\n"
+                + "        Next<?> that = (Next<?>)obj;\n"
+                + "        return $utils.checkEquals(this.next, that.next);\n"
+                + "    }\n"
                 + "    public static class NextLens<HOST> extends ObjectLensImpl<HOST, Coroutine.Next> {\n"
                 + "        \n"
                 + "        public final ObjectLens<HOST, Object> next = (ObjectLens)createSubLens(\"next\", Coroutine.Next::next, Coroutine.Next::withNext, ObjectLens::of);\n"
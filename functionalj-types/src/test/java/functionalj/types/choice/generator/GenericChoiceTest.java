@@ -93,10 +93,12 @@ public class GenericChoiceTest {
               + "        if (map == null)\n"
               + "            return null;\n"
               + "        String __tagged = (String)map.get(\"__tagged\");\n"
-              + "        if (\"Nill\".equals(__tagged))\n"
-              + "            return (T)Nill.caseFromMap(map);\n"
-              + "        if (\"Just\".equals(__tagged))\n"
-              + "            return (T)Just.caseFromMap(map);\n"
+              + "        if (__tagged != null) {\n"
+              + "            switch (__tagged) {\n"
+              + "                case \"Nill\": return (T)Nill.caseFromMap(map);\n"
+              + "                case \"Just\": return (T)Just.caseFromMap(map);\n"
+              + "            }\n"
+              + "        }\n"
               + "        throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);\n"
               + "    }\n"
               + "    \n"
@@ -113,6 +115,7 @@ public class GenericChoiceTest {
               + "        public static final Nill.NillLens<Nill> eachNill = theNill;\n"
               + "        private static final Nill instance = new Nill();\n"
               + "        private Nill() {}\n"
+              + "        @Override public int __caseIndex() { return 0; }\n"
               + "        public static class NillLens<HOST> extends ObjectLensImpl<HOST, MayBe.Nill> {\n"
               + "            \n"
               + "            public NillLens(String name, LensSpec<HOST, MayBe.Nill> spec) {\n"
@@ -139,8 +142,29 @@ public class GenericChoiceTest {
               + "        private Just(T data) {\n"
               + "            this.data = $utils.notNull(data);\n"
               + "        }\n"
+              + "        @Override public int __caseIndex() { return 1; }\n"
               + "        public T data() { return data; }\n"
               + "        public Just withData(T data) { return new Just(data); }\n"
+              + "        private transient int __hashCode;\n"
+              + "        @Override\n"
+              + "        public int hashCode() {\n"
+              + "            int hashCode = __hashCode;\n"
+              + "            if (hashCode != 0)\n"
+              + "                return hashCode;\n"
+              + "            hashCode = 2320652;\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.data);\n"
+              + "            __hashCode = hashCode;\n"
+              + "            return hashCode;\n"
+              + "        }\n"
+              + "        @Override\n"
+              + "        public boolean equals(Object obj) {\n"
+              + "            if (obj == this)\n"
+              + "                return true;\n"
+              + "            if (!(obj instanceof Just))\n"
+              + "                return false;\n"
+              + "            Just that = (Just)obj;\n"
+              + "            return $utils.checkEquals(this.data, that.data);\n"
+              + "        }\n"
               + "        public static class JustLens<HOST> extends ObjectLensImpl<HOST, MayBe.Just> {\n"
               + "            \n"
               + "            public final ObjectLens<HOST, Object> data = (ObjectLens)createSubLens(\"data\", MayBe.Just::data, MayBe.Just::withData, ObjectLens::of);\n"
@@ -222,6 +246,15 @@ public class GenericChoiceTest {
               + "    public MayBe ifJust(Consumer<Just> action) { if (isJust()) action.accept((Just)this); return this; }\n"
               + "    public MayBe ifJust(Runnable action) { if (isJust()) action.run(); return this; }\n"
               + "    \n"
+              + "    public abstract int __caseIndex();\n"
+              + "    public <TARGET> TARGET match(Function<? super Nill, ? extends TARGET> nill, Function<? super Just, ? extends TARGET> just) {\n"
+              + "        switch (__caseIndex()) {\n"
+              + "            case 0: return nill.apply((Nill)this);\n"
+              + "            case 1: return just.apply((Just)this);\n"
+              + "            default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());\n"
+              + "        }\n"
+              + "    }\n"
+              + "    \n"
               + "    public static class MayBeFirstSwitch {\n"
               + "        private MayBe $value;\n"
               + "        private MayBeFirstSwitch(MayBe theValue) { this.$value = theValue; }\n"
@@ -235,7 +268,7 @@ public class GenericChoiceTest {
               + "            Function<MayBe, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Nill)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<MayBe, TARGET>)(d -> theAction.apply((Nill)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -258,7 +291,7 @@ public class GenericChoiceTest {
               + "            Function<MayBe, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Nill)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<MayBe, TARGET>)(d -> theAction.apply((Nill)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -279,7 +312,7 @@ public class GenericChoiceTest {
               + "            Function<MayBe, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Nill)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<MayBe, TARGET>)(d -> theAction.apply((Nill)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -300,7 +333,7 @@ public class GenericChoiceTest {
               + "            Function<MayBe, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Just)\n"
+              + "                    ($value.__caseIndex() == 1)\n"
               + "                    ? (Function<MayBe, TARGET>)(d -> theAction.apply((Just)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -318,7 +351,7 @@ public class GenericChoiceTest {
               + "            Function<MayBe, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    (($value instanceof Just) && check.test((Just)$value))\n"
+              + "                    (($value.__caseIndex() == 1) && check.test((Just)$value))\n"
               + "                    ? (Function<MayBe, TARGET>)(d -> theAction.apply((Just)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
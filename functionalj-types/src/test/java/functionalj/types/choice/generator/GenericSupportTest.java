@@ -95,10 +95,12 @@ public class GenericSupportTest {
               + "        if (map == null)\n"
               + "            return null;\n"
               + "        String __tagged = (String)map.get(\"__tagged\");\n"
-              + "        if (\"None\".equals(__tagged))\n"
-              + "            return (T)None.caseFromMap(map);\n"
-              + "        if (\"Some\".equals(__tagged))\n"
-              + "            return (T)Some.caseFromMap(map);\n"
+              + "        if (__tagged != null) {\n"
+              + "            switch (__tagged) {\n"
+              + "                case \"None\": return (T)None.caseFromMap(map);\n"
+              + "                case \"Some\": return (T)Some.caseFromMap(map);\n"
+              + "            }\n"
+              + "        }\n"
               + "        throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);\n"
               + "    }\n"
               + "    \n"
@@ -115,6 +117,7 @@ public class GenericSupportTest {
               + "        public static final None.NoneLens<None> eachNone = theNone;\n"
               + "        private static final None instance = new None();\n"
               + "        private None() {}\n"
+              + "        @Override public int __caseIndex() { return 0; }\n"
               + "        public static class NoneLens<HOST> extends ObjectLensImpl<HOST, Option.None> {\n"
               + "            \n"
               + "            public NoneLens(String name, LensSpec<HOST, Option.None> spec) {\n"
@@ -141,8 +144,29 @@ public class GenericSupportTest {
               + "        private Some(T value) {\n"
               + "            this.value = $utils.notNull(value);\n"
               + "        }\n"
+              + "        @Override public int __caseIndex() { return 1; }\n"
               + "        public T value() { return value; }\n"
               + "        public Some<T> withValue(T value) { return new Some<T>(value); }\n"
+              + "        private transient int __hashCode;\n"
+              + "        @Override\n"
+              + "        public int hashCode() {\n"
+              + "            int hashCode = __hashCode;\n"
+              + "            if (hashCode != 0)\n"
+              + "                return hashCode;\n"
+              + "            hashCode = 2582804;\n"
+              + "            hashCode = 31*hashCode + $utils.hashOf(this.value);\n"
+              + "            __hashCode = hashCode;\n"
+              + "            return hashCode;\n"
+              + "        }\n"
+              + "        @Override\n"
+              + "        public boolean equals(Object obj) {\n"
+              + "            if (obj == this)\n"
+              + "                return true;\n"
+              + "            if (!(obj instanceof Some))\n"
+              + "                return false;\n"
+              + "            Some<?> that = (Some<?>)obj;\n"
+              + "            return $utils.checkEquals(this.value, that.value);\n"
+              + "        }\n"
               + "        public static class SomeLens<HOST> extends ObjectLensImpl<HOST, Option.Some> {\n"
               + "            \n"
               + "            public final ObjectLens<HOST, Object> value = (ObjectLens)createSubLens(\"value\", Option.Some::value, Option.Some::withValue, ObjectLens::of);\n"
@@ -224,6 +248,15 @@ public class GenericSupportTest {
               + "    public Option<T> ifSome(Consumer<Some<T>> action) { if (isSome()) action.accept((Some<T>)this); return this; }\n"
               + "    public Option<T> ifSome(Runnable action) { if (isSome()) action.run(); return this; }\n"
               + "    \n"
+              + "    public abstract int __caseIndex();\n"
+              + "    public <TARGET> TARGET match(Function<? super None<T>, ? extends TARGET> none, Function<? super Some<T>, ? extends TARGET> some) {\n"
+              + "        switch (__caseIndex()) {\n"
+              + "            case 0: return none.apply((None<T>)this);\n"
+              + "            case 1: return some.apply((Some<T>)this);\n"
+              + "            default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());\n"
+              + "        }\n"
+              + "    }\n"
+              + "    \n"
               + "    public static class OptionFirstSwitch<T extends Number> {\n"
               + "        private Option<T> $value;\n"
               + "        private OptionFirstSwitch(Option<T> theValue) { this.$value = theValue; }\n"
@@ -237,7 +270,7 @@ public class GenericSupportTest {
               + "            Function<Option<T>, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof None)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<Option<T>, TARGET>)(d -> theAction.apply((None<T>)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -260,7 +293,7 @@ public class GenericSupportTest {
               + "            Function<Option<T>, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof None)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<Option<T>, TARGET>)(d -> theAction.apply((None<T>)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -281,7 +314,7 @@ public class GenericSupportTest {
               + "            Function<Option<T>, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof None)\n"
+              + "                    ($value.__caseIndex() == 0)\n"
               + "                    ? (Function<Option<T>, TARGET>)(d -> theAction.apply((None<T>)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -302,7 +335,7 @@ public class GenericSupportTest {
               + "            Function<Option<T>, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    ($value instanceof Some)\n"
+              + "                    ($value.__caseIndex() == 1)\n"
               + "                    ? (Function<Option<T>, TARGET>)(d -> theAction.apply((Some<T>)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
@@ -320,7 +353,7 @@ public class GenericSupportTest {
               + "            Function<Option<T>, TARGET> newAction =\n"
               + "                ($action != null)\n"
               + "                ? oldAction : \n"
-              + "                    (($value instanceof Some) && check.test((Some<T>)$value))\n"
+              + "                    (($value.__caseIndex() == 1) && check.test((Some<T>)$value))\n"
               + "                    ? (Function<Option<T>, TARGET>)(d -> theAction.apply((Some<T>)d))\n"
               + "                    : oldAction;\n"
               + "            \n"
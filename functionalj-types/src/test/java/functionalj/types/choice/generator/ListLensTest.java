@@ -98,12 +98,13 @@ public class ListLensTest {
                   + "        if (map == null)\n" 
                   + "            return null;\n" 
                   + "        String __tagged = (String)map.get(\"__tagged\");\n" 
-                  + "        if (\"Rotate\".equals(__tagged))\n" 
-                  + "            return (T)Rotate.caseFromMap(map);\n" 
-                  + "        if (\"Move\".equals(__tagged))\n" 
-                  + "            return (T)Move.caseFromMap(map);\n" 
-                  + "        if (\"Commands\".equals(__tagged))\n" 
-                  + "            return (T)Commands.caseFromMap(map);\n" 
+                  + "        if (__tagged != null) {\n"
+                  + "            switch (__tagged) {\n"
+                  + "                case \"Rotate\": return (T)Rotate.caseFromMap(map);\n"
+                  + "                case \"Move\": return (T)Move.caseFromMap(map);\n"
+                  + "                case \"Commands\": return (T)Commands.caseFromMap(map);\n"
+                  + "            }\n"
+                  + "        }\n"
                   + "        throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);\n" 
                   + "    }\n" 
                   + "    \n" 
@@ -123,8 +124,29 @@ public class ListLensTest {
                   + "        private Rotate(int degree) {\n" 
                   + "            this.degree = degree;\n" 
                   + "        }\n" 
+                  + "        @Override public int __caseIndex() { return 0; }\n"
                   + "        public int degree() { return degree; }\n" 
                   + "        public Rotate withDegree(int degree) { return new Rotate(degree); }\n" 
+                  + "        private transient int __hashCode;\n"
+                  + "        @Override\n"
+                  + "        public int hashCode() {\n"
+                  + "            int hashCode = __hashCode;\n"
+                  + "            if (hashCode != 0)\n"
+                  + "                return hashCode;\n"
+                  + "            hashCode = -1841313413;\n"
+                  + "            hashCode = 31*hashCode + $utils.hashOf(this.degree);\n"
+                  + "            __hashCode = hashCode;\n"
+                  + "            return hashCode;\n"
+                  + "        }\n"
+                  + "        @Override\n"
+                  + "        public boolean equals(Object obj) {\n"
+                  + "            if (obj == this)\n"
+                  + "                return true;\n"
+                  + "            if (!(obj instanceof Rotate))\n"
+                  + "                return false;\n"
+                  + "            Rotate that = (Rotate)obj;\n"
+                  + "            return $utils.checkEquals(this.degree, that.degree);\n"
+                  + "        }\n"
                   + "        public static class RotateLens<HOST> extends ObjectLensImpl<HOST, NestedCommand.Rotate> {\n" 
                   + "            \n" 
                   + "            public final IntegerLens<HOST> degree = createSubLensInt(\"degree\", NestedCommand.Rotate::degree, NestedCommand.Rotate::withDegree);\n" 
@@ -159,8 +181,29 @@ public class ListLensTest {
                   + "        private Move(int distance) {\n" 
                   + "            this.distance = distance;\n" 
                   + "        }\n" 
+                  + "        @Override public int __caseIndex() { return 1; }\n"
                   + "        public int distance() { return distance; }\n" 
                   + "        public Move withDistance(int distance) { return new Move(distance); }\n" 
+                  + "        private transient int __hashCode;\n"
+                  + "        @Override\n"
+                  + "        public int hashCode() {\n"
+                  + "            int hashCode = __hashCode;\n"
+                  + "            if (hashCode != 0)\n"
+                  + "                return hashCode;\n"
+                  + "            hashCode = 2404337;\n"
+                  + "            hashCode = 31*hashCode + $utils.hashOf(this.distance);\n"
+                  + "            __hashCode = hashCode;\n"
+                  + "            return hashCode;\n"
+                  + "        }\n"
+                  + "        @Override\n"
+                  + "        public boolean equals(Object obj) {\n"
+                  + "            if (obj == this)\n"
+                  + "                return true;\n"
+                  + "            if (!(obj instanceof Move))\n"
+                  + "                return false;\n"
+                  + "            Move that = (Move)obj;\n"
+                  + "            return $utils.checkEquals(this.distance, that.distance);\n"
+                  + "        }\n"
                   + "        public static class MoveLens<HOST> extends ObjectLensImpl<HOST, NestedCommand.Move> {\n" 
                   + "            \n" 
                   + "            public final IntegerLens<HOST> distance = createSubLensInt(\"distance\", NestedCommand.Move::distance, NestedCommand.Move::withDistance);\n" 
@@ -195,8 +238,29 @@ public class ListLensTest {
                   + "        private Commands(List<NestedCommand> commands) {\n" 
                   + "            this.commands = $utils.notNull(commands);\n" 
                   + "        }\n" 
+                  + "        @Override public int __caseIndex() { return 2; }\n"
                   + "        public List<NestedCommand> commands() { return commands; }\n" 
                   + "        public Commands withCommands(List<NestedCommand> commands) { return new Commands(commands); }\n" 
+                  + "        private transient int __hashCode;\n"
+                  + "        @Override\n"
+                  + "        public int hashCode() {\n"
+                  + "            int hashCode = __hashCode;\n"
+                  + "            if (hashCode != 0)\n"
+                  + "                return hashCode;\n"
+                  + "            hashCode = -537891160;\n"
+                  + "            hashCode = 31*hashCode + $utils.hashOf(this.commands);\n"
+                  + "            __hashCode = hashCode;\n"
+                  + "            return hashCode;\n"
+                  + "        }\n"
+                  + "        @Override\n"
+                  + "        public boolean equals(Object obj) {\n"
+                  + "            if (obj == this)\n"
+                  + "                return true;\n"
+                  + "            if (!(obj instanceof Commands))\n"
+                  + "                return false;\n"
+                  + "            Commands that = (Commands)obj;\n"
+                  + "            return $utils.checkEquals(this.commands, that.commands);\n"
+                  + "        }\n"
                   + "        public static class CommandsLens<HOST> extends ObjectLensImpl<HOST, NestedCommand.Commands> {\n" 
                   + "            \n" 
                   + "            public final ListLens<HOST, NestedCommand, NestedCommand.NestedCommandLens<HOST>> commands = createSubListLens(NestedCommand.Commands::commands, NestedCommand.Commands::withCommands, NestedCommand.NestedCommandLens::new);\n" 
@@ -283,6 +347,16 @@ public class ListLensTest {
                   + "    public NestedCommand ifCommands(Consumer<Commands> action) { if (isCommands()) action.accept((Commands)this); return this; }\n" 
                   + "    public NestedCommand ifCommands(Runnable action) { if (isCommands()) action.run(); return this; }\n" 
                   + "    \n" 
+                  + "    public abstract int __caseIndex();\n"
+                  + "    public <TARGET> TARGET match(Function<? super Rotate, ? extends TARGET> rotate, Function<? super Move, ? extends TARGET> move, Function<? super Commands, ? extends TARGET> commands) {\n"
+                  + "        switch (__caseIndex()) {\n"
+                  + "            case 0: return rotate.apply((Rotate)this);\n"
+                  + "            case 1: return move.apply((Move)this);\n"
+                  + "            case 2: return commands.apply((Commands)this);\n"
+                  + "            default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());\n"
+                  + "        }\n"
+                  + "    }\n"
+                  + "    \n"
                   + "    public static class NestedCommandFirstSwitch {\n" 
                   + "        private NestedCommand $value;\n" 
                   + "        private NestedCommandFirstSwitch(NestedCommand theValue) { this.$value = theValue; }\n" 
@@ -296,7 +370,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Rotate)\n" 
+                  + "                    ($value.__caseIndex() == 0)\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Rotate)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -315,7 +389,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Rotate) && check.test((Rotate)$value))\n" 
+                  + "                    (($value.__caseIndex() == 0) && check.test((Rotate)$value))\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Rotate)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -338,7 +412,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Rotate)\n" 
+                  + "                    ($value.__caseIndex() == 0)\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Rotate)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -357,7 +431,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Rotate) && check.test((Rotate)$value))\n" 
+                  + "                    (($value.__caseIndex() == 0) && check.test((Rotate)$value))\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Rotate)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -378,7 +452,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Rotate)\n" 
+                  + "                    ($value.__caseIndex() == 0)\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Rotate)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -396,7 +470,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Rotate) && check.test((Rotate)$value))\n" 
+                  + "                    (($value.__caseIndex() == 0) && check.test((Rotate)$value))\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Rotate)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -417,7 +491,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Move)\n" 
+                  + "                    ($value.__caseIndex() == 1)\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Move)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -435,7 +509,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Move) && check.test((Move)$value))\n" 
+                  + "                    (($value.__caseIndex() == 1) && check.test((Move)$value))\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Move)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -456,7 +530,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    ($value instanceof Commands)\n" 
+                  + "                    ($value.__caseIndex() == 2)\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Commands)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
@@ -474,7 +548,7 @@ public class ListLensTest {
                   + "            Function<NestedCommand, TARGET> newAction =\n" 
                   + "                ($action != null)\n" 
                   + "                ? oldAction : \n" 
-                  + "                    (($value instanceof Commands) && check.test((Commands)$value))\n" 
+                  + "                    (($value.__caseIndex() == 2) && check.test((Commands)$value))\n"
                   + "                    ? (Function<NestedCommand, TARGET>)(d -> theAction.apply((Commands)d))\n" 
                   + "                    : oldAction;\n" 
                   + "            \n" 
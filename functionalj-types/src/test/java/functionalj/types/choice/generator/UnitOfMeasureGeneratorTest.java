@@ -92,10 +92,12 @@ public class UnitOfMeasureGeneratorTest {
                 + "        if (map == null)\n"
                 + "            return null;\n"
                 + "        String __tagged = (String)map.get(\"__tagged\");\n"
-                + "        if (\"Celsius\".equals(__tagged))\n"
-                + "            return (T)Celsius.caseFromMap(map);\n"
-                + "        if (\"Fahrenheit\".equals(__tagged))\n"
-                + "            return (T)Fahrenheit.caseFromMap(map);\n"
+                + "        if (__tagged != null) {\n"
+                + "            switch (__tagged) {\n"
+                + "                case \"Celsius\": return (T)Celsius.caseFromMap(map);\n"
+                + "                case \"Fahrenheit\": return (T)Fahrenheit.caseFromMap(map);\n"
+                + "            }\n"
+                + "        }\n"
                 + "        throw new IllegalArgumentException(\"Tagged value does not represent a valid type: \" + __tagged);\n"
                 + "    }\n"
                 + "    \n"
@@ -114,8 +116,29 @@ public class UnitOfMeasureGeneratorTest {
                 + "        private Celsius(double celsius) {\n"
                 + "            this.celsius = celsius;\n"
                 + "        }\n"
+                + "        @Override public int __caseIndex() { return 0; }\n"
                 + "        public double celsius() { return celsius; }\n"
                 + "        public Celsius withCelsius(double celsius) { return new Celsius(celsius); }\n"
+                + "        private transient int __hashCode;\n"
+                + "        @Override\n"
+                + "        public int hashCode() {\n"
+                + "            int hashCode = __hashCode;\n"
+                + "            if (hashCode != 0)\n"
+                + "                return hashCode;\n"
+                + "            hashCode = -1966947682;\n"
+                + "            hashCode = 31*hashCode + $utils.hashOf(this.celsius);\n"
+                + "            __hashCode = hashCode;\n"
+                + "            return hashCode;\n"
+                + "        }\n"
+                + "        @Override\n"
+                + "        public boolean equals(Object obj) {\n"
+                + "            if (obj == this)\n"
+                + "                return true;\n"
+                + "            if (!(obj instanceof Celsius))\n"
+                + "                return false;\n"
+                + "            Celsius that = (Celsius)obj;\n"
+                + "            return $utils.checkEquals(this.celsius, that.celsius);\n"
+                + "        }\n"
                 + "        public static class CelsiusLens<HOST> extends ObjectLensImpl<HOST, Temperature.Celsius> {\n"
                 + "            \n"
                 + "            public final DoubleLens<HOST> celsius = createSubLensDouble(\"celsius\", Temperature.Celsius::celsius, Temperature.Celsius::withCelsius);\n"
@@ -150,8 +173,29 @@ public class UnitOfMeasureGeneratorTest {
                 + "        private Fahrenheit(double fahrenheit) {\n"
                 + "            this.fahrenheit = fahrenheit;\n"
                 + "        }\n"
+                + "        @Override public int __caseIndex() { return 1; }\n"
                 + "        public double fahrenheit() { return fahrenheit; }\n"
                 + "        public Fahrenheit withFahrenheit(double fahrenheit) { return new Fahrenheit(fahrenheit); }\n"
+                + "        private transient int __hashCode;\n"
+                + "        @Override\n"
+                + "        public int hashCode() {\n"
+                + "            int hashCode = __hashCode;\n"
+                + "            if (hashCode != 0)\n"
+                + "                return hashCode;\n"
+                + "            hashCode = 1855715958;\n"
+                + "            hashCode = 31*hashCode + $utils.hashOf(this.fahrenheit);\n"
+                + "            __hashCode = hashCode;\n"
+                + "            return hashCode;\n"
+                + "        }\n"
+                + "        @Override\n"
+                + "        public boolean equals(Object obj) {\n"
+                + "            if (obj == this)\n"
+                + "                return true;\n"
+                + "            if (!(obj instanceof Fahrenheit))\n"
+                + "                return false;\n"
+                + "            Fahrenheit that = (Fahrenheit)obj;\n"
+                + "            return $utils.checkEquals(this.fahrenheit, that.fahrenheit);\n"
+                + "        }\n"
                 + "        public static class FahrenheitLens<HOST> extends ObjectLensImpl<HOST, Temperature.Fahrenheit> {\n"
                 + "            \n"
                 + "            public final DoubleLens<HOST> fahrenheit = createSubLensDouble(\"fahrenheit\", Temperature.Fahrenheit::fahrenheit, Temperature.Fahrenheit::withFahrenheit);\n"
@@ -239,6 +283,15 @@ public class UnitOfMeasureGeneratorTest {
                 + "    public Temperature ifFahrenheit(Consumer<Fahrenheit> action) { if (isFahrenheit()) action.accept((Fahrenheit)this); return this; }\n"
                 + "    public Temperature ifFahrenheit(Runnable action) { if (isFahrenheit()) action.run(); return this; }\n"
                 + "    \n"
+                + "    public abstract int __caseIndex();\n"
+                + "    public <TARGET> TARGET match(Function<? super Celsius, ? extends TARGET> celsius, Function<? super Fahrenheit, ? extends TARGET> fahrenheit) {\n"
+                + "        switch (__caseIndex()) {\n"
+                + "            case 0: return celsius.apply((Celsius)this);\n"
+                + "            case 1: return fahrenheit.apply((Fahrenheit)this);\n"
+                + "            default: throw new IllegalStateException(\"Unknown case: \" + __caseIndex());\n"
+                + "        }\n"
+                + "    }\n"
+                + "    \n"
                 + "    public static class TemperatureFirstSwitch {\n"
                 + "        private Temperature $value;\n"
                 + "        private TemperatureFirstSwitch(Temperature theValue) { this.$value = theValue; }\n"
@@ -252,7 +305,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    ($value instanceof Celsius)\n"
+                + "                    ($value.__caseIndex() == 0)\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Celsius)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -271,7 +324,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    (($value instanceof Celsius) && check.test((Celsius)$value))\n"
+                + "                    (($value.__caseIndex() == 0) && check.test((Celsius)$value))\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Celsius)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -294,7 +347,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    ($value instanceof Celsius)\n"
+                + "                    ($value.__caseIndex() == 0)\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Celsius)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -313,7 +366,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    (($value instanceof Celsius) && check.test((Celsius)$value))\n"
+                + "                    (($value.__caseIndex() == 0) && check.test((Celsius)$value))\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Celsius)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -334,7 +387,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    ($value instanceof Celsius)\n"
+                + "                    ($value.__caseIndex() == 0)\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Celsius)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -352,7 +405,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    (($value instanceof Celsius) && check.test((Celsius)$value))\n"
+                + "                    (($value.__caseIndex() == 0) && check.test((Celsius)$value))\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Celsius)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -373,7 +426,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    ($value instanceof Fahrenheit)\n"
+                + "                    ($value.__caseIndex() == 1)\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Fahrenheit)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -391,7 +444,7 @@ public class UnitOfMeasureGeneratorTest {
                 + "            Function<Temperature, TARGET> newAction =\n"
                 + "                ($action != null)\n"
                 + "                ? oldAction : \n"
-                + "                    (($value instanceof Fahrenheit) && check.test((Fahrenheit)$value))\n"
+                + "                    (($value.__caseIndex() == 1) && check.test((Fahrenheit)$value))\n"
                 + "                    ? (Function<Temperature, TARGET>)(d -> theAction.apply((Fahrenheit)d))\n"
                 + "                    : oldAction;\n"
                 + "            \n"
@@ -69,6 +69,8 @@ public class DateTimeLensTest {
                 "package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.lens.lenses.java.time.LocalDateLens;\n"
               + "import functionalj.pipeable.Pipeable;\n"
@@ -88,11 +90,13 @@ public class DateTimeLensTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"me.test.null.Definitions.PersonDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person> {\n"
+              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person>,TransientSource<Person> {\n"
               + "    \n"
               + "    public static final Person.PersonLens<Person> thePerson = new Person.PersonLens<>(\"thePerson\", LensSpec.of(Person.class));\n"
               + "    public static final Person.PersonLens<Person> eachPerson = thePerson;\n"
               + "    private final LocalDate child;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"child\", new functionalj.types.Type(\"java.time\", null, \"LocalDate\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Person() {\n"
               + "        this(null);\n"
@@ -109,45 +113,58 @@ public class DateTimeLensTest {
               + "        return child;\n"
               + "    }\n"
               + "    public Person withChild(LocalDate child) {\n"
+              + "        if (this.child == child) return this;\n"
               + "        return new Person(child);\n"
               + "    }\n"
               + "    public Person withChild(Supplier<LocalDate> child) {\n"
-              + "        return new Person(child.get());\n"
+              + "        return withChild(child.get());\n"
               + "    }\n"
               + "    public Person withChild(Function<LocalDate, LocalDate> child) {\n"
-              + "        return new Person(child.apply(this.child));\n"
+              + "        return withChild(child.apply(this.child));\n"
               + "    }\n"
               + "    public Person withChild(BiFunction<Person, LocalDate, LocalDate> child) {\n"
-              + "        return new Person(child.apply(this, this.child));\n"
+              + "        return withChild(child.apply(this, this.child));\n"
               + "    }\n"
               + "    public static Person fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Person obj = new Person(\n"
               + "                    (LocalDate)$utils.extractPropertyFromMap(Person.class, LocalDate.class, map, $schema, \"child\")\n"
               + "                );\n"
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"child\", $utils.toMapValueObject(child));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"child\", new functionalj.types.struct.generator.Getter(\"child\", new functionalj.types.Type(\"java.time\", null, \"LocalDate\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Person> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Person[\" + \"child: \" + child() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.child);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Person that = (Person)another;\n"
+              + "        return $utils.checkEquals(this.child, that.child);\n"
               + "    }\n"
               + "    \n"
               + "    public static class PersonLens<HOST> extends ObjectLensImpl<HOST, Person> {\n"
@@ -179,6 +196,25 @@ public class DateTimeLensTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Person> {\n"
+              + "        \n"
+              + "        private LocalDate child;\n"
+              + "        \n"
+              + "        __Transient(Person source) {\n"
+              + "            this.child = source.child;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"child\": this.child = (LocalDate)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Person seal() {\n"
+              + "            return new Person(child);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);
@@ -65,6 +65,8 @@ public class GenerateParentChildTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.pipeable.Pipeable;\n"
               + "import functionalj.types.Generated;\n"
@@ -82,11 +84,13 @@ public class GenerateParentChildTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"$]+\\Q\", comments = \"me.test.null.Definitions.ParentDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent> {\n"
+              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent>,TransientSource<Parent> {\n"
               + "    \n"
               + "    public static final Parent.ParentLens<Parent> theParent = new Parent.ParentLens<>(\"theParent\", LensSpec.of(Parent.class));\n"
               + "    public static final Parent.ParentLens<Parent> eachParent = theParent;\n"
               + "    private final Child child;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"child\", new functionalj.types.Type(\"me.test\", null, \"Child\", null), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Parent() {\n"
               + "        this(null);\n"
@@ -103,45 +107,58 @@ public class GenerateParentChildTest {
               + "        return child;\n"
               + "    }\n"
               + "    public Parent withChild(Child child) {\n"
+              + "        if (this.child == child) return this;\n"
               + "        return new Parent(child);\n"
               + "    }\n"
               + "    public Parent withChild(Supplier<Child> child) {\n"
-              + "        return new Parent(child.get());\n"
+              + "        return withChild(child.get());\n"
               + "    }\n"
               + "    public Parent withChild(Function<Child, Child> child) {\n"
-              + "        return new Parent(child.apply(this.child));\n"
+              + "        return withChild(child.apply(this.child));\n"
               + "    }\n"
               + "    public Parent withChild(BiFunction<Parent, Child, Child> child) {\n"
-              + "        return new Parent(child.apply(this, this.child));\n"
+              + "        return withChild(child.apply(this, this.child));\n"
               + "    }\n"
               + "    public static Parent fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Parent obj = new Parent(\n"
               + "                    (Child)$utils.extractPropertyFromMap(Parent.class, Child.class, map, $schema, \"child\")\n"
               + "                );\n"
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"child\", $utils.toMapValueObject(child));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"child\", new functionalj.types.struct.generator.Getter(\"child\", new functionalj.types.Type(\"me.test\", null, \"Child\", null), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Parent> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Parent[\" + \"child: \" + child() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.child);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Parent that = (Parent)another;\n"
+              + "        return $utils.checkEquals(this.child, that.child);\n"
               + "    }\n"
               + "    \n"
               + "    public static class ParentLens<HOST> extends ObjectLensImpl<HOST, Parent> {\n"
@@ -173,6 +190,25 @@ public class GenerateParentChildTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Parent> {\n"
+              + "        \n"
+              + "        private Child child;\n"
+              + "        \n"
+              + "        __Transient(Parent source) {\n"
+              + "            this.child = source.child;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"child\": this.child = (Child)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Parent seal() {\n"
+              + "            return new Parent(child);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);
@@ -72,6 +72,8 @@ public class GenerateParentFuncListChildTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.FuncListLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.lens.lenses.StringLens;\n"
@@ -92,12 +94,14 @@ public class GenerateParentFuncListChildTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"me.test.null.Definitions.ParentDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent> {\n"
+              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent>,TransientSource<Parent> {\n"
               + "    \n"
               + "    public static final Parent.ParentLens<Parent> theParent = new Parent.ParentLens<>(\"theParent\", LensSpec.of(Parent.class));\n"
               + "    public static final Parent.ParentLens<Parent> eachParent = theParent;\n"
               + "    private final FuncList<String> names;\n"
               + "    private final FuncList<Child> children;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"names\", new functionalj.types.Type(\"functionalj.list\", null, \"FuncList\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"functionalj.list\", null, \"FuncList\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Parent() {\n"
               + "        this(functionalj.list.FuncList.empty(), functionalj.list.FuncList.empty());\n"
@@ -121,34 +125,36 @@ public class GenerateParentFuncListChildTest {
               + "        return new Parent(functionalj.list.ImmutableFuncList.of(names), children);\n"
               + "    }\n"
               + "    public Parent withNames(FuncList<String> names) {\n"
+              + "        if (this.names == names) return this;\n"
               + "        return new Parent(names, children);\n"
               + "    }\n"
               + "    public Parent withNames(Supplier<FuncList<String>> names) {\n"
-              + "        return new Parent(names.get(), children);\n"
+              + "        return withNames(names.get());\n"
               + "    }\n"
               + "    public Parent withNames(Function<FuncList<String>, FuncList<String>> names) {\n"
-              + "        return new Parent(names.apply(this.names), children);\n"
+              + "        return withNames(names.apply(this.names));\n"
               + "    }\n"
               + "    public Parent withNames(BiFunction<Parent, FuncList<String>, FuncList<String>> names) {\n"
-              + "        return new Parent(names.apply(this, this.names), children);\n"
+              + "        return withNames(names.apply(this, this.names));\n"
               + "    }\n"
               + "    public Parent withChildren(Child ... children) {\n"
               + "        return new Parent(names, functionalj.list.ImmutableFuncList.of(children));\n"
               + "    }\n"
               + "    public Parent withChildren(FuncList<Child> children) {\n"
+              + "        if (this.children == children) return this;\n"
               + "        return new Parent(names, children);\n"
               + "    }\n"
               + "    public Parent withChildren(Supplier<FuncList<Child>> children) {\n"
-              + "        return new Parent(names, children.get());\n"
+              + "        return withChildren(children.get());\n"
               + "    }\n"
               + "    public Parent withChildren(Function<FuncList<Child>, FuncList<Child>> children) {\n"
-              + "        return new Parent(names, children.apply(this.children));\n"
+              + "        return withChildren(children.apply(this.children));\n"
               + "    }\n"
               + "    public Parent withChildren(BiFunction<Parent, FuncList<Child>, FuncList<Child>> children) {\n"
-              + "        return new Parent(names, children.apply(this, this.children));\n"
+              + "        return withChildren(children.apply(this, this.children));\n"
               + "    }\n"
               + "    public static Parent fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Parent obj = new Parent(\n"
               + "                    (FuncList<String>)$utils.extractPropertyFromMap(Parent.class, FuncList.class, map, $schema, \"names\"),\n"
               + "                    (FuncList<Child>)$utils.extractPropertyFromMap(Parent.class, FuncList.class, map, $schema, \"children\")\n"
@@ -156,28 +162,41 @@ public class GenerateParentFuncListChildTest {
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"names\", $utils.toMapValueObject(names));\n"
               + "        map.put(\"children\", $utils.toMapValueObject(children));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"names\", new functionalj.types.struct.generator.Getter(\"names\", new functionalj.types.Type(\"functionalj.list\", null, \"FuncList\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"children\", new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"functionalj.list\", null, \"FuncList\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Parent> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Parent[\" + \"names: \" + names() + \", \" + \"children: \" + children() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.names);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.children);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Parent that = (Parent)another;\n"
+              + "        return $utils.checkEquals(this.names, that.names)\n"
+              + "            && $utils.checkEquals(this.children, that.children);\n"
               + "    }\n"
               + "    public String name1(String param1, java.lang.String ... param2) {\n"
               + "        return Definitions.ParentDef.super.name1(param1, param2);\n"
@@ -221,6 +240,28 @@ public class GenerateParentFuncListChildTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Parent> {\n"
+              + "        \n"
+              + "        private FuncList<String> names;\n"
+              + "        private FuncList<Child> children;\n"
+              + "        \n"
+              + "        __Transient(Parent source) {\n"
+              + "            this.names = source.names;\n"
+              + "            this.children = source.children;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"names\": this.names = (FuncList<String>)value; return true;\n"
+              + "                case \"children\": this.children = (FuncList<Child>)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Parent seal() {\n"
+              + "            return new Parent(names, children);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);
@@ -68,6 +68,8 @@ public class GenerateParentListChildTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.ListLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.lens.lenses.StringLens;\n"
@@ -88,12 +90,14 @@ public class GenerateParentListChildTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"me.test.null.Definitions.ParentDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent> {\n"
+              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent>,TransientSource<Parent> {\n"
               + "    \n"
               + "    public static final Parent.ParentLens<Parent> theParent = new Parent.ParentLens<>(\"theParent\", LensSpec.of(Parent.class));\n"
               + "    public static final Parent.ParentLens<Parent> eachParent = theParent;\n"
               + "    private final List<String> names;\n"
               + "    private final List<Child> children;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"names\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Parent() {\n"
               + "        this(null, null);\n"
@@ -117,34 +121,36 @@ public class GenerateParentListChildTest {
               + "        return new Parent(java.util.Arrays.asList(names), children);\n"
               + "    }\n"
               + "    public Parent withNames(List<String> names) {\n"
+              + "        if (this.names == names) return this;\n"
               + "        return new Parent(names, children);\n"
               + "    }\n"
               + "    public Parent withNames(Supplier<List<String>> names) {\n"
-              + "        return new Parent(names.get(), children);\n"
+              + "        return withNames(names.get());\n"
               + "    }\n"
               + "    public Parent withNames(Function<List<String>, List<String>> names) {\n"
-              + "        return new Parent(names.apply(this.names), children);\n"
+              + "        return withNames(names.apply(this.names));\n"
               + "    }\n"
               + "    public Parent withNames(BiFunction<Parent, List<String>, List<String>> names) {\n"
-              + "        return new Parent(names.apply(this, this.names), children);\n"
+              + "        return withNames(names.apply(this, this.names));\n"
               + "    }\n"
               + "    public Parent withChildren(Child ... children) {\n"
               + "        return new Parent(names, java.util.Arrays.asList(children));\n"
               + "    }\n"
               + "    public Parent withChildren(List<Child> children) {\n"
+              + "        if (this.children == children) return this;\n"
               + "        return new Parent(names, children);\n"
               + "    }\n"
               + "    public Parent withChildren(Supplier<List<Child>> children) {\n"
-              + "        return new Parent(names, children.get());\n"
+              + "        return withChildren(children.get());\n"
               + "    }\n"
               + "    public Parent withChildren(Function<List<Child>, List<Child>> children) {\n"
-              + "        return new Parent(names, children.apply(this.children));\n"
+              + "        return withChildren(children.apply(this.children));\n"
               + "    }\n"
               + "    public Parent withChildren(BiFunction<Parent, List<Child>, List<Child>> children) {\n"
-              + "        return new Parent(names, children.apply(this, this.children));\n"
+              + "        return withChildren(children.apply(this, this.children));\n"
               + "    }\n"
               + "    public static Parent fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Parent obj = new Parent(\n"
               + "                    (List<String>)$utils.extractPropertyFromMap(Parent.class, List.class, map, $schema, \"names\"),\n"
               + "                    (List<Child>)$utils.extractPropertyFromMap(Parent.class, List.class, map, $schema, \"children\")\n"
@@ -152,28 +158,41 @@ public class GenerateParentListChildTest {
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"names\", $utils.toMapValueObject(names));\n"
               + "        map.put(\"children\", $utils.toMapValueObject(children));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"names\", new functionalj.types.struct.generator.Getter(\"names\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"children\", new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Parent> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Parent[\" + \"names: \" + names() + \", \" + \"children: \" + children() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.names);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.children);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Parent that = (Parent)another;\n"
+              + "        return $utils.checkEquals(this.names, that.names)\n"
+              + "            && $utils.checkEquals(this.children, that.children);\n"
               + "    }\n"
               + "    \n"
               + "    public static class ParentLens<HOST> extends ObjectLensImpl<HOST, Parent> {\n"
@@ -214,6 +233,28 @@ public class GenerateParentListChildTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Parent> {\n"
+              + "        \n"
+              + "        private List<String> names;\n"
+              + "        private List<Child> children;\n"
+              + "        \n"
+              + "        __Transient(Parent source) {\n"
+              + "            this.names = source.names;\n"
+              + "            this.children = source.children;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"names\": this.names = (List<String>)value; return true;\n"
+              + "                case \"children\": this.children = (List<Child>)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Parent seal() {\n"
+              + "            return new Parent(names, children);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);
@@ -68,6 +68,8 @@ public class GenerateParentNullableChildTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.NullableLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.lens.lenses.StringLens;\n"
@@ -88,12 +90,14 @@ public class GenerateParentNullableChildTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"me.test.null.Definitions.ParentDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent> {\n"
+              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent>,TransientSource<Parent> {\n"
               + "    \n"
               + "    public static final Parent.ParentLens<Parent> theParent = new Parent.ParentLens<>(\"theParent\", LensSpec.of(Parent.class));\n"
               + "    public static final Parent.ParentLens<Parent> eachParent = theParent;\n"
               + "    private final Nullable<String> nullableName;\n"
               + "    private final Nullable<Child> nullableChild;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"nullableName\", new functionalj.types.Type(\"nullablej.nullable\", null, \"Nullable\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"nullableChild\", new functionalj.types.Type(\"nullablej.nullable\", null, \"Nullable\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Parent() {\n"
               + "        this(nullablej.nullable.Nullable.empty(), nullablej.nullable.Nullable.empty());\n"
@@ -114,31 +118,33 @@ public class GenerateParentNullableChildTest {
               + "        return nullableChild;\n"
               + "    }\n"
               + "    public Parent withNullableName(Nullable<String> nullableName) {\n"
+              + "        if (this.nullableName == nullableName) return this;\n"
               + "        return new Parent(nullableName, nullableChild);\n"
               + "    }\n"
               + "    public Parent withNullableName(Supplier<Nullable<String>> nullableName) {\n"
-              + "        return new Parent(nullableName.get(), nullableChild);\n"
+              + "        return withNullableName(nullableName.get());\n"
               + "    }\n"
               + "    public Parent withNullableName(Function<Nullable<String>, Nullable<String>> nullableName) {\n"
-              + "        return new Parent(nullableName.apply(this.nullableName), nullableChild);\n"
+              + "        return withNullableName(nullableName.apply(this.nullableName));\n"
               + "    }\n"
               + "    public Parent withNullableName(BiFunction<Parent, Nullable<String>, Nullable<String>> nullableName) {\n"
-              + "        return new Parent(nullableName.apply(this, this.nullableName), nullableChild);\n"
+              + "        return withNullableName(nullableName.apply(this, this.nullableName));\n"
               + "    }\n"
               + "    public Parent withNullableChild(Nullable<Child> nullableChild) {\n"
+              + "        if (this.nullableChild == nullableChild) return this;\n"
               + "        return new Parent(nullableName, nullableChild);\n"
               + "    }\n"
               + "    public Parent withNullableChild(Supplier<Nullable<Child>> nullableChild) {\n"
-              + "        return new Parent(nullableName, nullableChild.get());\n"
+              + "        return withNullableChild(nullableChild.get());\n"
               + "    }\n"
               + "    public Parent withNullableChild(Function<Nullable<Child>, Nullable<Child>> nullableChild) {\n"
-              + "        return new Parent(nullableName, nullableChild.apply(this.nullableChild));\n"
+              + "        return withNullableChild(nullableChild.apply(this.nullableChild));\n"
               + "    }\n"
               + "    public Parent withNullableChild(BiFunction<Parent, Nullable<Child>, Nullable<Child>> nullableChild) {\n"
-              + "        return new Parent(nullableName, nullableChild.apply(this, this.nullableChild));\n"
+              + "        return withNullableChild(nullableChild.apply(this, this.nullableChild));\n"
               + "    }\n"
               + "    public static Parent fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Parent obj = new Parent(\n"
               + "                    (Nullable<String>)$utils.extractPropertyFromMap(Parent.class, Nullable.class, map, $schema, \"nullableName\"),\n"
               + "                    (Nullable<Child>)$utils.extractPropertyFromMap(Parent.class, Nullable.class, map, $schema, \"nullableChild\")\n"
@@ -146,28 +152,41 @@ public class GenerateParentNullableChildTest {
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"nullableName\", $utils.toMapValueObject(nullableName));\n"
               + "        map.put(\"nullableChild\", $utils.toMapValueObject(nullableChild));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"nullableName\", new functionalj.types.struct.generator.Getter(\"nullableName\", new functionalj.types.Type(\"nullablej.nullable\", null, \"Nullable\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"nullableChild\", new functionalj.types.struct.generator.Getter(\"nullableChild\", new functionalj.types.Type(\"nullablej.nullable\", null, \"Nullable\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Parent> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Parent[\" + \"nullableName: \" + nullableName() + \", \" + \"nullableChild: \" + nullableChild() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.nullableName);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.nullableChild);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Parent that = (Parent)another;\n"
+              + "        return $utils.checkEquals(this.nullableName, that.nullableName)\n"
+              + "            && $utils.checkEquals(this.nullableChild, that.nullableChild);\n"
               + "    }\n"
               + "    \n"
               + "    public static class ParentLens<HOST> extends ObjectLensImpl<HOST, Parent> {\n"
@@ -208,6 +227,28 @@ public class GenerateParentNullableChildTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Parent> {\n"
+              + "        \n"
+              + "        private Nullable<String> nullableName;\n"
+              + "        private Nullable<Child> nullableChild;\n"
+              + "        \n"
+              + "        __Transient(Parent source) {\n"
+              + "            this.nullableName = source.nullableName;\n"
+              + "            this.nullableChild = source.nullableChild;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"nullableName\": this.nullableName = (Nullable<String>)value; return true;\n"
+              + "                case \"nullableChild\": this.nullableChild = (Nullable<Child>)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Parent seal() {\n"
+              + "            return new Parent(nullableName, nullableChild);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);
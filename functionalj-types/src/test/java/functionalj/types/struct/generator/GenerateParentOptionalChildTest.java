@@ -69,6 +69,8 @@ public class GenerateParentOptionalChildTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.lens.lenses.OptionalLens;\n"
               + "import functionalj.lens.lenses.StringLens;\n"
@@ -89,12 +91,14 @@ public class GenerateParentOptionalChildTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"me.test.null.Definitions.ParentDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent> {\n"
+              + "public class Parent implements Definitions.ParentDef,IStruct,Pipeable<Parent>,TransientSource<Parent> {\n"
               + "    \n"
               + "    public static final Parent.ParentLens<Parent> theParent = new Parent.ParentLens<>(\"theParent\", LensSpec.of(Parent.class));\n"
               + "    public static final Parent.ParentLens<Parent> eachParent = theParent;\n"
               + "    private final Optional<String> optionalName;\n"
               + "    private final Optional<Child> optionalChild;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"optionalName\", new functionalj.types.Type(\"java.util\", null, \"Optional\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"optionalChild\", new functionalj.types.Type(\"java.util\", null, \"Optional\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Parent() {\n"
               + "        this(java.util.Optional.empty(), java.util.Optional.empty());\n"
@@ -115,31 +119,33 @@ public class GenerateParentOptionalChildTest {
               + "        return optionalChild;\n"
               + "    }\n"
               + "    public Parent withOptionalName(Optional<String> optionalName) {\n"
+              + "        if (this.optionalName == optionalName) return this;\n"
               + "        return new Parent(optionalName, optionalChild);\n"
               + "    }\n"
               + "    public Parent withOptionalName(Supplier<Optional<String>> optionalName) {\n"
-              + "        return new Parent(optionalName.get(), optionalChild);\n"
+              + "        return withOptionalName(optionalName.get());\n"
               + "    }\n"
               + "    public Parent withOptionalName(Function<Optional<String>, Optional<String>> optionalName) {\n"
-              + "        return new Parent(optionalName.apply(this.optionalName), optionalChild);\n"
+              + "        return withOptionalName(optionalName.apply(this.optionalName));\n"
               + "    }\n"
               + "    public Parent withOptionalName(BiFunction<Parent, Optional<String>, Optional<String>> optionalName) {\n"
-              + "        return new Parent(optionalName.apply(this, this.optionalName), optionalChild);\n"
+              + "        return withOptionalName(optionalName.apply(this, this.optionalName));\n"
               + "    }\n"
               + "    public Parent withOptionalChild(Optional<Child> optionalChild) {\n"
+              + "        if (this.optionalChild == optionalChild) return this;\n"
               + "        return new Parent(optionalName, optionalChild);\n"
               + "    }\n"
               + "    public Parent withOptionalChild(Supplier<Optional<Child>> optionalChild) {\n"
-              + "        return new Parent(optionalName, optionalChild.get());\n"
+              + "        return withOptionalChild(optionalChild.get());\n"
               + "    }\n"
               + "    public Parent withOptionalChild(Function<Optional<Child>, Optional<Child>> optionalChild) {\n"
-              + "        return new Parent(optionalName, optionalChild.apply(this.optionalChild));\n"
+              + "        return withOptionalChild(optionalChild.apply(this.optionalChild));\n"
               + "    }\n"
               + "    public Parent withOptionalChild(BiFunction<Parent, Optional<Child>, Optional<Child>> optionalChild) {\n"
-              + "        return new Parent(optionalName, optionalChild.apply(this, this.optionalChild));\n"
+              + "        return withOptionalChild(optionalChild.apply(this, this.optionalChild));\n"
               + "    }\n"
               + "    public static Parent fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Parent obj = new Parent(\n"
               + "                    (Optional<String>)$utils.extractPropertyFromMap(Parent.class, Optional.class, map, $schema, \"optionalName\"),\n"
               + "                    (Optional<Child>)$utils.extractPropertyFromMap(Parent.class, Optional.class, map, $schema, \"optionalChild\")\n"
@@ -147,28 +153,41 @@ public class GenerateParentOptionalChildTest {
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"optionalName\", $utils.toMapValueObject(optionalName));\n"
               + "        map.put(\"optionalChild\", $utils.toMapValueObject(optionalChild));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"optionalName\", new functionalj.types.struct.generator.Getter(\"optionalName\", new functionalj.types.Type(\"java.util\", null, \"Optional\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.String\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"optionalChild\", new functionalj.types.struct.generator.Getter(\"optionalChild\", new functionalj.types.Type(\"java.util\", null, \"Optional\", java.util.Arrays.asList(new functionalj.types.Generic(\"me.test.Child\", null, java.util.Arrays.asList(new functionalj.types.Type(\"me.test\", null, \"Child\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Parent> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Parent[\" + \"optionalName: \" + optionalName() + \", \" + \"optionalChild: \" + optionalChild() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.optionalName);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.optionalChild);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Parent that = (Parent)another;\n"
+              + "        return $utils.checkEquals(this.optionalName, that.optionalName)\n"
+              + "            && $utils.checkEquals(this.optionalChild, that.optionalChild);\n"
               + "    }\n"
               + "    \n"
               + "    public static class ParentLens<HOST> extends ObjectLensImpl<HOST, Parent> {\n"
@@ -209,6 +228,28 @@ public class GenerateParentOptionalChildTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Parent> {\n"
+              + "        \n"
+              + "        private Optional<String> optionalName;\n"
+              + "        private Optional<Child> optionalChild;\n"
+              + "        \n"
+              + "        __Transient(Parent source) {\n"
+              + "            this.optionalName = source.optionalName;\n"
+              + "            this.optionalChild = source.optionalChild;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"optionalName\": this.optionalName = (Optional<String>)value; return true;\n"
+              + "                case \"optionalChild\": this.optionalChild = (Optional<Child>)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Parent seal() {\n"
+              + "            return new Parent(optionalName, optionalChild);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);
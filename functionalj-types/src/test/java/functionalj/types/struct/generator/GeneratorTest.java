@@ -72,6 +72,8 @@ public class GeneratorTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.BooleanLens;\n"
               + "import functionalj.lens.lenses.IntegerLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
@@ -92,13 +94,15 @@ public class GeneratorTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"me.test.null.Definitions.CarDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Car implements Definitions.CarDef,IStruct,Pipeable<Car> {\n"
+              + "public class Car implements Definitions.CarDef,IStruct,Pipeable<Car>,TransientSource<Car> {\n"
               + "    \n"
               + "    public static final Car.CarLens<Car> theCar = new Car.CarLens<>(\"theCar\", LensSpec.of(Car.class));\n"
               + "    public static final Car.CarLens<Car> eachCar = theCar;\n"
               + "    private final int anint;\n"
               + "    private final boolean anbool;\n"
               + "    private final String anstring;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"anint\", new functionalj.types.Type(null, null, \"int\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"anbool\", new functionalj.types.Type(null, null, \"boolean\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"anstring\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Car() {\n"
               + "        this(0, false, null);\n"
@@ -123,43 +127,46 @@ public class GeneratorTest {
               + "        return anstring;\n"
               + "    }\n"
               + "    public Car withAnint(int anint) {\n"
+              + "        if (this.anint == anint) return this;\n"
               + "        return new Car(anint, anbool, anstring);\n"
               + "    }\n"
               + "    public Car withAnint(Supplier<Integer> anint) {\n"
-              + "        return new Car(anint.get(), anbool, anstring);\n"
+              + "        return withAnint(anint.get());\n"
               + "    }\n"
               + "    public Car withAnint(Function<Integer, Integer> anint) {\n"
-              + "        return new Car(anint.apply(this.anint), anbool, anstring);\n"
+              + "        return withAnint(anint.apply(this.anint));\n"
               + "    }\n"
               + "    public Car withAnint(BiFunction<Car, Integer, Integer> anint) {\n"
-              + "        return new Car(anint.apply(this, this.anint), anbool, anstring);\n"
+              + "        return withAnint(anint.apply(this, this.anint));\n"
               + "    }\n"
               + "    public Car withAnbool(boolean anbool) {\n"
+              + "        if (this.anbool == anbool) return this;\n"
               + "        return new Car(anint, anbool, anstring);\n"
               + "    }\n"
               + "    public Car withAnbool(Supplier<Boolean> anbool) {\n"
-              + "        return new Car(anint, anbool.get(), anstring);\n"
+              + "        return withAnbool(anbool.get());\n"
               + "    }\n"
               + "    public Car withAnbool(Function<Boolean, Boolean> anbool) {\n"
-              + "        return new Car(anint, anbool.apply(this.anbool), anstring);\n"
+              + "        return withAnbool(anbool.apply(this.anbool));\n"
               + "    }\n"
               + "    public Car withAnbool(BiFunction<Car, Boolean, Boolean> anbool) {\n"
-              + "        return new Car(anint, anbool.apply(this, this.anbool), anstring);\n"
+              + "        return withAnbool(anbool.apply(this, this.anbool));\n"
               + "    }\n"
               + "    public Car withAnstring(String anstring) {\n"
+              + "        if (this.anstring == anstring) return this;\n"
               + "        return new Car(anint, anbool, anstring);\n"
               + "    }\n"
               + "    public Car withAnstring(Supplier<String> anstring) {\n"
-              + "        return new Car(anint, anbool, anstring.get());\n"
+              + "        return withAnstring(anstring.get());\n"
               + "    }\n"
               + "    public Car withAnstring(Function<String, String> anstring) {\n"
-              + "        return new Car(anint, anbool, anstring.apply(this.anstring));\n"
+              + "        return withAnstring(anstring.apply(this.anstring));\n"
               + "    }\n"
               + "    public Car withAnstring(BiFunction<Car, String, String> anstring) {\n"
-              + "        return new Car(anint, anbool, anstring.apply(this, this.anstring));\n"
+              + "        return withAnstring(anstring.apply(this, this.anstring));\n"
               + "    }\n"
               + "    public static Car fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Car obj = new Car(\n"
               + "                    (int)$utils.extractPropertyFromMap(Car.class, int.class, map, $schema, \"anint\"),\n"
               + "                    (boolean)$utils.extractPropertyFromMap(Car.class, boolean.class, map, $schema, \"anbool\"),\n"
@@ -168,30 +175,44 @@ public class GeneratorTest {
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"anint\", $utils.toMapValueObject(anint));\n"
               + "        map.put(\"anbool\", $utils.toMapValueObject(anbool));\n"
               + "        map.put(\"anstring\", $utils.toMapValueObject(anstring));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"anint\", new functionalj.types.struct.generator.Getter(\"anint\", new functionalj.types.Type(null, null, \"int\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"anbool\", new functionalj.types.struct.generator.Getter(\"anbool\", new functionalj.types.Type(null, null, \"boolean\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"anstring\", new functionalj.types.struct.generator.Getter(\"anstring\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Car> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Car[\" + \"anint: \" + anint() + \", \" + \"anbool: \" + anbool() + \", \" + \"anstring: \" + anstring() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.anint);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.anbool);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.anstring);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Car that = (Car)another;\n"
+              + "        return $utils.checkEquals(this.anint, that.anint)\n"
+              + "            && $utils.checkEquals(this.anbool, that.anbool)\n"
+              + "            && $utils.checkEquals(this.anstring, that.anstring);\n"
               + "    }\n"
               + "    \n"
               + "    public static class CarLens<HOST> extends ObjectLensImpl<HOST, Car> {\n"
@@ -241,6 +262,31 @@ public class GeneratorTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Car> {\n"
+              + "        \n"
+              + "        private int anint;\n"
+              + "        private boolean anbool;\n"
+              + "        private String anstring;\n"
+              + "        \n"
+              + "        __Transient(Car source) {\n"
+              + "            this.anint = source.anint;\n"
+              + "            this.anbool = source.anbool;\n"
+              + "            this.anstring = source.anstring;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"anint\": this.anint = (int)value; return true;\n"
+              + "                case \"anbool\": this.anbool = (boolean)value; return true;\n"
+              + "                case \"anstring\": this.anstring = (String)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Car seal() {\n"
+              + "            return new Car(anint, anbool, anstring);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               generated);
@@ -69,6 +69,8 @@ public class ListLensTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.ListLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.pipeable.Pipeable;\n"
@@ -88,11 +90,13 @@ public class ListLensTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"].+\\Q\", comments = \"me.test.null.Definitions.PersonDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person> {\n"
+              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person>,TransientSource<Person> {\n"
               + "    \n"
               + "    public static final Person.PersonLens<Person> thePerson = new Person.PersonLens<>(\"thePerson\", LensSpec.of(Person.class));\n"
               + "    public static final Person.PersonLens<Person> eachPerson = thePerson;\n"
               + "    private final List child;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"child\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Person() {\n"
               + "        this(null);\n"
@@ -112,45 +116,58 @@ public class ListLensTest {
               + "        return new Person(java.util.Arrays.asList(child));\n"
               + "    }\n"
               + "    public Person withChild(List child) {\n"
+              + "        if (this.child == child) return this;\n"
               + "        return new Person(child);\n"
               + "    }\n"
               + "    public Person withChild(Supplier<List> child) {\n"
-              + "        return new Person(child.get());\n"
+              + "        return withChild(child.get());\n"
               + "    }\n"
               + "    public Person withChild(Function<List, List> child) {\n"
-              + "        return new Person(child.apply(this.child));\n"
+              + "        return withChild(child.apply(this.child));\n"
               + "    }\n"
               + "    public Person withChild(BiFunction<Person, List, List> child) {\n"
-              + "        return new Person(child.apply(this, this.child));\n"
+              + "        return withChild(child.apply(this, this.child));\n"
               + "    }\n"
               + "    public static Person fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Person obj = new Person(\n"
               + "                    (List)$utils.extractPropertyFromMap(Person.class, List.class, map, $schema, \"child\")\n"
               + "                );\n"
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"child\", $utils.toMapValueObject(child));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"child\", new functionalj.types.struct.generator.Getter(\"child\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Person> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Person[\" + \"child: \" + child() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.child);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Person that = (Person)another;\n"
+              + "        return $utils.checkEquals(this.child, that.child);\n"
               + "    }\n"
               + "    \n"
               + "    public static class PersonLens<HOST> extends ObjectLensImpl<HOST, Person> {\n"
@@ -182,6 +199,25 @@ public class ListLensTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Person> {\n"
+              + "        \n"
+              + "        private List child;\n"
+              + "        \n"
+              + "        __Transient(Person source) {\n"
+              + "            this.child = source.child;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"child\": this.child = (List)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Person seal() {\n"
+              + "            return new Person(child);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}", code);
     }
@@ -193,6 +229,8 @@ public class ListLensTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.BigIntegerLens;\n"
               + "import functionalj.lens.lenses.ListLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
@@ -214,11 +252,13 @@ public class ListLensTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"].+\\Q\", comments = \"me.test.null.Definitions.PersonDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person> {\n"
+              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person>,TransientSource<Person> {\n"
               + "    \n"
               + "    public static final Person.PersonLens<Person> thePerson = new Person.PersonLens<>(\"thePerson\", LensSpec.of(Person.class));\n"
               + "    public static final Person.PersonLens<Person> eachPerson = thePerson;\n"
               + "    private final List<BigInteger> children;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.math.BigInteger\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.math\", null, \"BigInteger\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Person() {\n"
               + "        this(null);\n"
@@ -238,45 +278,58 @@ public class ListLensTest {
               + "        return new Person(java.util.Arrays.asList(children));\n"
               + "    }\n"
               + "    public Person withChildren(List<BigInteger> children) {\n"
+              + "        if (this.children == children) return this;\n"
               + "        return new Person(children);\n"
               + "    }\n"
               + "    public Person withChildren(Supplier<List<BigInteger>> children) {\n"
-              + "        return new Person(children.get());\n"
+              + "        return withChildren(children.get());\n"
               + "    }\n"
               + "    public Person withChildren(Function<List<BigInteger>, List<BigInteger>> children) {\n"
-              + "        return new Person(children.apply(this.children));\n"
+              + "        return withChildren(children.apply(this.children));\n"
               + "    }\n"
               + "    public Person withChildren(BiFunction<Person, List<BigInteger>, List<BigInteger>> children) {\n"
-              + "        return new Person(children.apply(this, this.children));\n"
+              + "        return withChildren(children.apply(this, this.children));\n"
               + "    }\n"
               + "    public static Person fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Person obj = new Person(\n"
               + "                    (List<BigInteger>)$utils.extractPropertyFromMap(Person.class, List.class, map, $schema, \"children\")\n"
               + "                );\n"
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"children\", $utils.toMapValueObject(children));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"children\", new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.math.BigInteger\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.math\", null, \"BigInteger\", java.util.Collections.emptyList()))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Person> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Person[\" + \"children: \" + children() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.children);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Person that = (Person)another;\n"
+              + "        return $utils.checkEquals(this.children, that.children);\n"
               + "    }\n"
               + "    \n"
               + "    public static class PersonLens<HOST> extends ObjectLensImpl<HOST, Person> {\n"
@@ -308,6 +361,25 @@ public class ListLensTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Person> {\n"
+              + "        \n"
+              + "        private List<BigInteger> children;\n"
+              + "        \n"
+              + "        __Transient(Person source) {\n"
+              + "            this.children = source.children;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"children\": this.children = (List<BigInteger>)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Person seal() {\n"
+              + "            return new Person(children);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}", code);
     }
@@ -319,6 +391,8 @@ public class ListLensTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.ListLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.pipeable.Pipeable;\n"
@@ -338,11 +412,13 @@ public class ListLensTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"].+\\Q\", comments = \"me.test.null.Definitions.PersonDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person> {\n"
+              + "public class Person implements Definitions.PersonDef,IStruct,Pipeable<Person>,TransientSource<Person> {\n"
               + "    \n"
               + "    public static final Person.PersonLens<Person> thePerson = new Person.PersonLens<>(\"thePerson\", LensSpec.of(Person.class));\n"
               + "    public static final Person.PersonLens<Person> eachPerson = thePerson;\n"
               + "    private final List<List<Object>> children;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.util.List\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.Object\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"Object\", java.util.Collections.emptyList()))))))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
               + "    \n"
               + "    public Person() {\n"
               + "        this(null);\n"
@@ -362,45 +438,58 @@ public class ListLensTest {
               + "        return new Person(java.util.Arrays.asList(children));\n"
               + "    }\n"
               + "    public Person withChildren(List<List<Object>> children) {\n"
+              + "        if (this.children == children) return this;\n"
               + "        return new Person(children);\n"
               + "    }\n"
               + "    public Person withChildren(Supplier<List<List<Object>>> children) {\n"
-              + "        return new Person(children.get());\n"
+              + "        return withChildren(children.get());\n"
               + "    }\n"
               + "    public Person withChildren(Function<List<List<Object>>, List<List<Object>>> children) {\n"
-              + "        return new Person(children.apply(this.children));\n"
+              + "        return withChildren(children.apply(this.children));\n"
               + "    }\n"
               + "    public Person withChildren(BiFunction<Person, List<List<Object>>, List<List<Object>>> children) {\n"
-              + "        return new Person(children.apply(this, this.children));\n"
+              + "        return withChildren(children.apply(this, this.children));\n"
               + "    }\n"
               + "    public static Person fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Person obj = new Person(\n"
               + "                    (List<List<Object>>)$utils.extractPropertyFromMap(Person.class, List.class, map, $schema, \"children\")\n"
               + "                );\n"
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"children\", $utils.toMapValueObject(children));\n"
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"children\", new functionalj.types.struct.generator.Getter(\"children\", new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.util.List\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.util\", null, \"List\", java.util.Arrays.asList(new functionalj.types.Generic(\"java.lang.Object\", null, java.util.Arrays.asList(new functionalj.types.Type(\"java.lang\", null, \"Object\", java.util.Collections.emptyList()))))))))), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Person> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Person[\" + \"children: \" + children() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.children);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Person that = (Person)another;\n"
+              + "        return $utils.checkEquals(this.children, that.children);\n"
               + "    }\n"
               + "    \n"
               + "    public static class PersonLens<HOST> extends ObjectLensImpl<HOST, Person> {\n"
@@ -432,6 +521,25 @@ public class ListLensTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Person> {\n"
+              + "        \n"
+              + "        private List<List<Object>> children;\n"
+              + "        \n"
+              + "        __Transient(Person source) {\n"
+              + "            this.children = source.children;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"children\": this.children = (List<List<Object>>)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Person seal() {\n"
+              + "            return new Person(children);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);
@@ -67,6 +67,8 @@ public class NonRequireFieldTest {
         assertAsString("package me.test;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.BooleanLens;\n"
               + "import functionalj.lens.lenses.IntegerLens;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
@@ -87,7 +89,7 @@ public class NonRequireFieldTest {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"me.test.null.Definitions.DataDef\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Data implements Definitions.DataDef,IStruct,Pipeable<Data> {\n"
+              + "public class Data implements Definitions.DataDef,IStruct,Pipeable<Data>,TransientSource<Data> {\n"
               + "    \n"
               + "    public static final Data.DataLens<Data> theData = new Data.DataLens<>(\"theData\", LensSpec.of(Data.class));\n"
               + "    public static final Data.DataLens<Data> eachData = theData;\n"
@@ -96,6 +98,8 @@ public class NonRequireFieldTest {
               + "    private final String c;\n"
               + "    private final String d;\n"
               + "    private final String e;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"a\", new functionalj.types.Type(null, null, \"int\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"b\", new functionalj.types.Type(null, null, \"boolean\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"c\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL), new functionalj.types.struct.generator.Getter(\"d\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"e\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
               + "    \n"
               + "    public Data() {\n"
               + "        this(0, false, null, null, null);\n"
@@ -132,67 +136,72 @@ public class NonRequireFieldTest {
               + "        return e;\n"
               + "    }\n"
               + "    public Data withA(int a) {\n"
+              + "        if (this.a == a) return this;\n"
               + "        return new Data(a, b, c, d, e);\n"
               + "    }\n"
               + "    public Data withA(Supplier<Integer> a) {\n"
-              + "        return new Data(a.get(), b, c, d, e);\n"
+              + "        return withA(a.get());\n"
               + "    }\n"
               + "    public Data withA(Function<Integer, Integer> a) {\n"
-              + "        return new Data(a.apply(this.a), b, c, d, e);\n"
+              + "        return withA(a.apply(this.a));\n"
               + "    }\n"
               + "    public Data withA(BiFunction<Data, Integer, Integer> a) {\n"
-              + "        return new Data(a.apply(this, this.a), b, c, d, e);\n"
+              + "        return withA(a.apply(this, this.a));\n"
               + "    }\n"
               + "    public Data withB(boolean b) {\n"
+              + "        if (this.b == b) return this;\n"
               + "        return new Data(a, b, c, d, e);\n"
               + "    }\n"
               + "    public Data withB(Supplier<Boolean> b) {\n"
-              + "        return new Data(a, b.get(), c, d, e);\n"
+              + "        return withB(b.get());\n"
               + "    }\n"
               + "    public Data withB(Function<Boolean, Boolean> b) {\n"
-              + "        return new Data(a, b.apply(this.b), c, d, e);\n"
+              + "        return withB(b.apply(this.b));\n"
               + "    }\n"
               + "    public Data withB(BiFunction<Data, Boolean, Boolean> b) {\n"
-              + "        return new Data(a, b.apply(this, this.b), c, d, e);\n"
+              + "        return withB(b.apply(this, this.b));\n"
               + "    }\n"
               + "    public Data withC(String c) {\n"
+              + "        if (this.c == c) return this;\n"
               + "        return new Data(a, b, c, d, e);\n"
               + "    }\n"
               + "    public Data withC(Supplier<String> c) {\n"
-              + "        return new Data(a, b, c.get(), d, e);\n"
+              + "        return withC(c.get());\n"
               + "    }\n"
               + "    public Data withC(Function<String, String> c) {\n"
-              + "        return new Data(a, b, c.apply(this.c), d, e);\n"
+              + "        return withC(c.apply(this.c));\n"
               + "    }\n"
               + "    public Data withC(BiFunction<Data, String, String> c) {\n"
-              + "        return new Data(a, b, c.apply(this, this.c), d, e);\n"
+              + "        return withC(c.apply(this, this.c));\n"
               + "    }\n"
               + "    public Data withD(String d) {\n"
+              + "        if (this.d == d) return this;\n"
               + "        return new Data(a, b, c, d, e);\n"
               + "    }\n"
               + "    public Data withD(Supplier<String> d) {\n"
-              + "        return new Data(a, b, c, d.get(), e);\n"
+              + "        return withD(d.get());\n"
               + "    }\n"
               + "    public Data withD(Function<String, String> d) {\n"
-              + "        return new Data(a, b, c, d.apply(this.d), e);\n"
+              + "        return withD(d.apply(this.d));\n"
               + "    }\n"
               + "    public Data withD(BiFunction<Data, String, String> d) {\n"
-              + "        return new Data(a, b, c, d.apply(this, this.d), e);\n"
+              + "        return withD(d.apply(this, this.d));\n"
               + "    }\n"
               + "    public Data withE(String e) {\n"
+              + "        if (this.e == e) return this;\n"
               + "        return new Data(a, b, c, d, e);\n"
               + "    }\n"
               + "    public Data withE(Supplier<String> e) {\n"
-              + "        return new Data(a, b, c, d, e.get());\n"
+              + "        return withE(e.get());\n"
               + "    }\n"
               + "    public Data withE(Function<String, String> e) {\n"
-              + "        return new Data(a, b, c, d, e.apply(this.e));\n"
+              + "        return withE(e.apply(this.e));\n"
               + "    }\n"
               + "    public Data withE(BiFunction<Data, String, String> e) {\n"
-              + "        return new Data(a, b, c, d, e.apply(this, this.e));\n"
+              + "        return withE(e.apply(this, this.e));\n"
               + "    }\n"
               + "    public static Data fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Data obj = new Data(\n"
               + "                    (int)$utils.extractPropertyFromMap(Data.class, int.class, map, $schema, \"a\"),\n"
               + "                    (boolean)$utils.extractPropertyFromMap(Data.class, boolean.class, map, $schema, \"b\"),\n"
@@ -203,7 +212,7 @@ public class NonRequireFieldTest {
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"a\", $utils.toMapValueObject(a));\n"
               + "        map.put(\"b\", $utils.toMapValueObject(b));\n"
               + "        map.put(\"c\", $utils.toMapValueObject(c));\n"
@@ -212,25 +221,41 @@ public class NonRequireFieldTest {
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"a\", new functionalj.types.struct.generator.Getter(\"a\", new functionalj.types.Type(null, null, \"int\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"b\", new functionalj.types.struct.generator.Getter(\"b\", new functionalj.types.Type(null, null, \"boolean\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"c\", new functionalj.types.struct.generator.Getter(\"c\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
-              + "        map.put(\"d\", new functionalj.types.struct.generator.Getter(\"d\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"e\", new functionalj.types.struct.generator.Getter(\"e\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Data> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Data[\" + \"a: \" + a() + \", \" + \"b: \" + b() + \", \" + \"c: \" + c() + \", \" + \"d: \" + d() + \", \" + \"e: \" + e() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.a);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.b);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.c);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.d);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.e);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Data that = (Data)another;\n"
+              + "        return $utils.checkEquals(this.a, that.a)\n"
+              + "            && $utils.checkEquals(this.b, that.b)\n"
+              + "            && $utils.checkEquals(this.c, that.c)\n"
+              + "            && $utils.checkEquals(this.d, that.d)\n"
+              + "            && $utils.checkEquals(this.e, that.e);\n"
               + "    }\n"
               + "    \n"
               + "    public static class DataLens<HOST> extends ObjectLensImpl<HOST, Data> {\n"
@@ -306,6 +331,37 @@ public class NonRequireFieldTest {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Data> {\n"
+              + "        \n"
+              + "        private int a;\n"
+              + "        private boolean b;\n"
+              + "        private String c;\n"
+              + "        private String d;\n"
+              + "        private String e;\n"
+              + "        \n"
+              + "        __Transient(Data source) {\n"
+              + "            this.a = source.a;\n"
+              + "            this.b = source.b;\n"
+              + "            this.c = source.c;\n"
+              + "            this.d = source.d;\n"
+              + "            this.e = source.e;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"a\": this.a = (int)value; return true;\n"
+              + "                case \"b\": this.b = (boolean)value; return true;\n"
+              + "                case \"c\": this.c = (String)value; return true;\n"
+              + "                case \"d\": this.d = (String)value; return true;\n"
+              + "                case \"e\": this.e = (String)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Data seal() {\n"
+              + "            return new Data(a, b, c, d, e);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               generated);
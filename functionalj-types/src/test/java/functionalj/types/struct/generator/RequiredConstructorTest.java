@@ -55,6 +55,8 @@ public class RequiredConstructorTest {
                   "package example.functionalj.accesslens;\n"
                 + "\n"
                 + "import functionalj.lens.core.LensSpec;\n"
+                + "import functionalj.lens.core.TransientBuilder;\n"
+                + "import functionalj.lens.core.TransientSource;\n"
                 + "import functionalj.lens.lenses.ObjectLensImpl;\n"
                 + "import functionalj.lens.lenses.StringLens;\n"
                 + "import functionalj.pipeable.Pipeable;\n"
@@ -74,14 +76,16 @@ public class RequiredConstructorTest {
                 + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"example.functionalj.accesslens.StructTypeExample\")\n"
                 + "@SuppressWarnings(\"all\")\n"
                 + "\n"
-                + "public class Person implements IStruct,Pipeable<Person> {\n"
+                + "public class Person implements IStruct,Pipeable<Person>,TransientSource<Person> {\n"
                 + "    \n"
                 + "    public static final Person.PersonLens<Person> thePerson = new Person.PersonLens<>(\"thePerson\", LensSpec.of(Person.class));\n"
                 + "    public static final Person.PersonLens<Person> eachPerson = thePerson;\n"
                 + "    private final String firstName;\n"
                 + "    private final String midName;\n"
                 + "    private final String lastName;\n"
-                + "    public static final SourceSpec spec = new functionalj.types.struct.generator.SourceSpec(new functionalj.types.JavaVersionInfo(8, 8), null, \"example.functionalj.accesslens\", \"StructTypeExample\", \"Person\", \"example.functionalj.accesslens\", null, \"spec\", null, new functionalj.types.struct.generator.SourceSpec.Configurations(true, null, false, true, true, true, true, false, true, functionalj.types.Serialize.To.NOTHING, functionalj.types.StructToString.Legacy, \"\"), java.util.Arrays.asList(new functionalj.types.struct.generator.Getter(\"firstName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"midName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL), new functionalj.types.struct.generator.Getter(\"lastName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED)), java.util.Collections.emptyList(), java.util.Arrays.asList(\"Person\"));\n"
+                + "    public static final SourceSpec spec = new functionalj.types.struct.generator.SourceSpec(new functionalj.types.JavaVersionInfo(8, 8), null, \"example.functionalj.accesslens\", \"StructTypeExample\", \"Person\", \"example.functionalj.accesslens\", null, \"spec\", null, new functionalj.types.struct.generator.SourceSpec.Configurations(true, null, false, true, true, true, true, false, true, functionalj.types.Serialize.To.NOTHING, functionalj.types.StructToString.Legacy, \"\", true), java.util.Arrays.asList(new functionalj.types.struct.generator.Getter(\"firstName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"midName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL), new functionalj.types.struct.generator.Getter(\"lastName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED)), java.util.Collections.emptyList(), java.util.Arrays.asList(\"Person\"));\n"
+                + "    private transient int __hashCode;\n"
+                + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"firstName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"midName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL), new functionalj.types.struct.generator.Getter(\"lastName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
                 + "    \n"
                 + "    public Person(String firstName, String lastName) {\n"
                 + "        this($utils.notNull(firstName), null, $utils.notNull(lastName));\n"
@@ -107,43 +111,46 @@ public class RequiredConstructorTest {
                 + "        return lastName;\n"
                 + "    }\n"
                 + "    public Person withFirstName(String firstName) {\n"
+                + "        if (this.firstName == firstName) return this;\n"
                 + "        return new Person(firstName, midName, lastName);\n"
                 + "    }\n"
                 + "    public Person withFirstName(Supplier<String> firstName) {\n"
-                + "        return new Person(firstName.get(), midName, lastName);\n"
+                + "        return withFirstName(firstName.get());\n"
                 + "    }\n"
                 + "    public Person withFirstName(Function<String, String> firstName) {\n"
-                + "        return new Person(firstName.apply(this.firstName), midName, lastName);\n"
+                + "        return withFirstName(firstName.apply(this.firstName));\n"
                 + "    }\n"
                 + "    public Person withFirstName(BiFunction<Person, String, String> firstName) {\n"
-                + "        return new Person(firstName.apply(this, this.firstName), midName, lastName);\n"
+                + "        return withFirstName(firstName.apply(this, this.firstName));\n"
                 + "    }\n"
                 + "    public Person withMidName(String midName) {\n"
+                + "        if (this.midName == midName) return this;\n"
                 + "        return new Person(firstName, midName, lastName);\n"
                 + "    }\n"
                 + "    public Person withMidName(Supplier<String> midName) {\n"
-                + "        return new Person(firstName, midName.get(), lastName);\n"
+                + "        return withMidName(midName.get());\n"
                 + "    }\n"
                 + "    public Person withMidName(Function<String, String> midName) {\n"
-                + "        return new Person(firstName, midName.apply(this.midName), lastName);\n"
+                + "        return withMidName(midName.apply(this.midName));\n"
                 + "    }\n"
                 + "    public Person withMidName(BiFunction<Person, String, String> midName) {\n"
-                + "        return new Person(firstName, midName.apply(this, this.midName), lastName);\n"
+                + "        return withMidName(midName.apply(this, this.midName));\n"
                 + "    }\n"
                 + "    public Person withLastName(String lastName) {\n"
+                + "        if (this.lastName == lastName) return this;\n"
                 + "        return new Person(firstName, midName, lastName);\n"
                 + "    }\n"
                 + "    public Person withLastName(Supplier<String> lastName) {\n"
-                + "        return new Person(firstName, midName, lastName.get());\n"
+                + "        return withLastName(lastName.get());\n"
                 + "    }\n"
                 + "    public Person withLastName(Function<String, String> lastName) {\n"
-                + "        return new Person(firstName, midName, lastName.apply(this.lastName));\n"
+                + "        return withLastName(lastName.apply(this.lastName));\n"
                 + "    }\n"
                 + "    public Person withLastName(BiFunction<Person, String, String> lastName) {\n"
-                + "        return new Person(firstName, midName, lastName.apply(this, this.lastName));\n"
+                + "        return withLastName(lastName.apply(this, this.lastName));\n"
                 + "    }\n"
                 + "    public static Person fromMap(Map<String, ? extends Object> map) {\n"
-                + "        Map<String, Getter> $schema = getStructSchema();\n"
+                + "        Map<String, Getter> $schema = __structSchema;\n"
                 + "        Person obj = new Person(\n"
                 + "                    (String)$utils.extractPropertyFromMap(Person.class, String.class, map, $schema, \"firstName\"),\n"
                 + "                    (String)$utils.extractPropertyFromMap(Person.class, String.class, map, $schema, \"midName\"),\n"
@@ -152,30 +159,44 @@ public class RequiredConstructorTest {
                 + "        return obj;\n"
                 + "    }\n"
                 + "    public Map<String, Object> __toMap() {\n"
-                + "        Map<String, Object> map = new HashMap<>();\n"
+                + "        Map<String, Object> map = new HashMap<>(16);\n"
                 + "        map.put(\"firstName\", $utils.toMapValueObject(firstName));\n"
                 + "        map.put(\"midName\", $utils.toMapValueObject(midName));\n"
                 + "        map.put(\"lastName\", $utils.toMapValueObject(lastName));\n"
                 + "        return map;\n"
                 + "    }\n"
                 + "    public Map<String, Getter> __getSchema() {\n"
-                + "        return getStructSchema();\n"
+                + "        return __structSchema;\n"
                 + "    }\n"
                 + "    public static Map<String, Getter> getStructSchema() {\n"
-                + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-                + "        map.put(\"firstName\", new functionalj.types.struct.generator.Getter(\"firstName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-                + "        map.put(\"midName\", new functionalj.types.struct.generator.Getter(\"midName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
-                + "        map.put(\"lastName\", new functionalj.types.struct.generator.Getter(\"lastName\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-                + "        return map;\n"
+                + "        return __structSchema;\n"
+                + "    }\n"
+                + "    public TransientBuilder<Person> __transientBuilder() {\n"
+                + "        return new __Transient(this);\n"
                 + "    }\n"
                 + "    public String toString() {\n"
                 + "        return \"Person[\" + \"firstName: \" + firstName() + \", \" + \"midName: \" + midName() + \", \" + \"lastName: \" + lastName() + \"]\";\n"
                 + "    }\n"
                 + "    public int hashCode() {\n"
-                + "        return toString().hashCode();\n"
+                + "        int hashCode = __hashCode;\n"
+                + "        if (hashCode != 0)\n"
+                + "            return hashCode;\n"
+                + "        hashCode = 1;\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.firstName);\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.midName);\n"
+                + "        hashCode = 31*hashCode + $utils.hashOf(this.lastName);\n"
+                + "        __hashCode = hashCode;\n"
+                + "        return hashCode;\n"
                 + "    }\n"
                 + "    public boolean equals(Object another) {\n"
-                + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+                + "        if (another == this)\n"
+                + "            return true;\n"
+                + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+                + "            return false;\n"
+                + "        Person that = (Person)another;\n"
+                + "        return $utils.checkEquals(this.firstName, that.firstName)\n"
+                + "            && $utils.checkEquals(this.midName, that.midName)\n"
+                + "            && $utils.checkEquals(this.lastName, that.lastName);\n"
                 + "    }\n"
                 + "    \n"
                 + "    public static class PersonLens<HOST> extends ObjectLensImpl<HOST, Person> {\n"
@@ -229,6 +250,31 @@ public class RequiredConstructorTest {
                 + "        \n"
                 + "        \n"
                 + "    }\n"
+                + "    static final class __Transient implements TransientBuilder<Person> {\n"
+                + "        \n"
+                + "        private String firstName;\n"
+                + "        private String midName;\n"
+                + "        private String lastName;\n"
+                + "        \n"
+                + "        __Transient(Person source) {\n"
+                + "            this.firstName = source.firstName;\n"
+                + "            this.midName = source.midName;\n"
+                + "            this.lastName = source.lastName;\n"
+                + "        }\n"
+                + "        \n"
+                + "        public boolean set(String name, Object value) {\n"
+                + "            switch (name) {\n"
+                + "                case \"firstName\": this.firstName = (String)value; return true;\n"
+                + "                case \"midName\": this.midName = (String)value; return true;\n"
+                + "                case \"lastName\": this.lastName = (String)value; return true;\n"
+                + "                default: return false;\n"
+                + "            }\n"
+                + "        }\n"
+                + "        public Person seal() {\n"
+                + "            return new Person(firstName, midName, lastName);\n"
+                + "        }\n"
+                + "        \n"
+                + "    }\n"
                 + "    \n"
                 + "}";
 }
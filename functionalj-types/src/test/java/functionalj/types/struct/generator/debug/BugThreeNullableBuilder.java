@@ -51,6 +51,8 @@ public class BugThreeNullableBuilder {
         assertAsString("package ci.server;\n"
               + "\n"
               + "import functionalj.lens.core.LensSpec;\n"
+              + "import functionalj.lens.core.TransientBuilder;\n"
+              + "import functionalj.lens.core.TransientSource;\n"
               + "import functionalj.lens.lenses.ObjectLensImpl;\n"
               + "import functionalj.lens.lenses.StringLens;\n"
               + "import functionalj.pipeable.Pipeable;\n"
@@ -69,7 +71,7 @@ public class BugThreeNullableBuilder {
               + "@Generated(value = \"FunctionalJ\", date = \"\\E[^\"]+\\Q\", comments = \"ci.server.DataModels.DataModels.BrandSpec\")\n"
               + "@SuppressWarnings(\"all\")\n"
               + "\n"
-              + "public class Brand implements DataModels.BrandSpec,IStruct,Pipeable<Brand> {\n"
+              + "public class Brand implements DataModels.BrandSpec,IStruct,Pipeable<Brand>,TransientSource<Brand> {\n"
               + "    \n"
               + "    public static final Brand.BrandLens<Brand> theBrand = new Brand.BrandLens<>(\"theBrand\", LensSpec.of(Brand.class));\n"
               + "    public static final Brand.BrandLens<Brand> eachBrand = theBrand;\n"
@@ -79,6 +81,8 @@ public class BugThreeNullableBuilder {
               + "    public final String website;\n"
               + "    public final String country;\n"
               + "    public final String description;\n"
+              + "    private transient int __hashCode;\n"
+              + "    private static final Map<String, Getter> __structSchema = $utils.structSchemaOf(new functionalj.types.struct.generator.Getter(\"id\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"name\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED), new functionalj.types.struct.generator.Getter(\"owner\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL), new functionalj.types.struct.generator.Getter(\"website\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL), new functionalj.types.struct.generator.Getter(\"country\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL), new functionalj.types.struct.generator.Getter(\"description\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
               + "    \n"
               + "    public Brand(String id, String name) {\n"
               + "        this($utils.notNull(id), $utils.notNull(name), null, null, null, null);\n"
@@ -116,79 +120,85 @@ public class BugThreeNullableBuilder {
               + "        return description;\n"
               + "    }\n"
               + "    public Brand withId(String id) {\n"
+              + "        if (this.id == id) return this;\n"
               + "        return new Brand(id, name, owner, website, country, description);\n"
               + "    }\n"
               + "    public Brand withId(Supplier<String> id) {\n"
-              + "        return new Brand(id.get(), name, owner, website, country, description);\n"
+              + "        return withId(id.get());\n"
               + "    }\n"
               + "    public Brand withId(Function<String, String> id) {\n"
-              + "        return new Brand(id.apply(this.id), name, owner, website, country, description);\n"
+              + "        return withId(id.apply(this.id));\n"
               + "    }\n"
               + "    public Brand withId(BiFunction<Brand, String, String> id) {\n"
-              + "        return new Brand(id.apply(this, this.id), name, owner, website, country, description);\n"
+              + "        return withId(id.apply(this, this.id));\n"
               + "    }\n"
               + "    public Brand withName(String name) {\n"
+              + "        if (this.name == name) return this;\n"
               + "        return new Brand(id, name, owner, website, country, description);\n"
               + "    }\n"
               + "    public Brand withName(Supplier<String> name) {\n"
-              + "        return new Brand(id, name.get(), owner, website, country, description);\n"
+              + "        return withName(name.get());\n"
               + "    }\n"
               + "    public Brand withName(Function<String, String> name) {\n"
-              + "        return new Brand(id, name.apply(this.name), owner, website, country, description);\n"
+              + "        return withName(name.apply(this.name));\n"
               + "    }\n"
               + "    public Brand withName(BiFunction<Brand, String, String> name) {\n"
-              + "        return new Brand(id, name.apply(this, this.name), owner, website, country, description);\n"
+              + "        return withName(name.apply(this, this.name));\n"
               + "    }\n"
               + "    public Brand withOwner(String owner) {\n"
+              + "        if (this.owner == owner) return this;\n"
               + "        return new Brand(id, name, owner, website, country, description);\n"
               + "    }\n"
               + "    public Brand withOwner(Supplier<String> owner) {\n"
-              + "        return new Brand(id, name, owner.get(), website, country, description);\n"
+              + "        return withOwner(owner.get());\n"
               + "    }\n"
               + "    public Brand withOwner(Function<String, String> owner) {\n"
-              + "        return new Brand(id, name, owner.apply(this.owner), website, country, description);\n"
+              + "        return withOwner(owner.apply(this.owner));\n"
               + "    }\n"
               + "    public Brand withOwner(BiFunction<Brand, String, String> owner) {\n"
-              + "        return new Brand(id, name, owner.apply(this, this.owner), website, country, description);\n"
+              + "        return withOwner(owner.apply(this, this.owner));\n"
               + "    }\n"
               + "    public Brand withWebsite(String website) {\n"
+              + "        if (this.website == website) return this;\n"
               + "        return new Brand(id, name, owner, website, country, description);\n"
               + "    }\n"
               + "    public Brand withWebsite(Supplier<String> website) {\n"
-              + "        return new Brand(id, name, owner, website.get(), country, description);\n"
+              + "        return withWebsite(website.get());\n"
               + "    }\n"
               + "    public Brand withWebsite(Function<String, String> website) {\n"
-              + "        return new Brand(id, name, owner, website.apply(this.website), country, description);\n"
+              + "        return withWebsite(website.apply(this.website));\n"
               + "    }\n"
               + "    public Brand withWebsite(BiFunction<Brand, String, String> website) {\n"
-              + "        return new Brand(id, name, owner, website.apply(this, this.website), country, description);\n"
+              + "        return withWebsite(website.apply(this, this.website));\n"
               + "    }\n"
               + "    public Brand withCountry(String country) {\n"
+              + "        if (this.country == country) return this;\n"
               + "        return new Brand(id, name, owner, website, country, description);\n"
               + "    }\n"
               + "    public Brand withCountry(Supplier<String> country) {\n"
-              + "        return new Brand(id, name, owner, website, country.get(), description);\n"
+              + "        return withCountry(country.get());\n"
               + "    }\n"
               + "    public Brand withCountry(Function<String, String> country) {\n"
-              + "        return new Brand(id, name, owner, website, country.apply(this.country), description);\n"
+              + "        return withCountry(country.apply(this.country));\n"
               + "    }\n"
               + "    public Brand withCountry(BiFunction<Brand, String, String> country) {\n"
-              + "        return new Brand(id, name, owner, website, country.apply(this, this.country), description);\n"
+              + "        return withCountry(country.apply(this, this.country));\n"
               + "    }\n"
               + "    public Brand withDescription(String description) {\n"
+              + "        if (this.description == description) return this;\n"
               + "        return new Brand(id, name, owner, website, country, description);\n"
               + "    }\n"
               + "    public Brand withDescription(Supplier<String> description) {\n"
-              + "        return new Brand(id, name, owner, website, country, description.get());\n"
+              + "        return withDescription(description.get());\n"
               + "    }\n"
               + "    public Brand withDescription(Function<String, String> description) {\n"
-              + "        return new Brand(id, name, owner, website, country, description.apply(this.description));\n"
+              + "        return withDescription(description.apply(this.description));\n"
               + "    }\n"
               + "    public Brand withDescription(BiFunction<Brand, String, String> description) {\n"
-              + "        return new Brand(id, name, owner, website, country, description.apply(this, this.description));\n"
+              + "        return withDescription(description.apply(this, this.description));\n"
               + "    }\n"
               + "    public static Brand fromMap(Map<String, ? extends Object> map) {\n"
-              + "        Map<String, Getter> $schema = getStructSchema();\n"
+              + "        Map<String, Getter> $schema = __structSchema;\n"
               + "        Brand obj = new Brand(\n"
               + "                    (String)$utils.extractPropertyFromMap(Brand.class, String.class, map, $schema, \"id\"),\n"
               + "                    (String)$utils.extractPropertyFromMap(Brand.class, String.class, map, $schema, \"name\"),\n"
@@ -200,7 +210,7 @@ public class BugThreeNullableBuilder {
               + "        return obj;\n"
               + "    }\n"
               + "    public Map<String, Object> __toMap() {\n"
-              + "        Map<String, Object> map = new HashMap<>();\n"
+              + "        Map<String, Object> map = new HashMap<>(16);\n"
               + "        map.put(\"id\", $utils.toMapValueObject(id));\n"
               + "        map.put(\"name\", $utils.toMapValueObject(name));\n"
               + "        map.put(\"owner\", $utils.toMapValueObject(owner));\n"
@@ -210,26 +220,43 @@ public class BugThreeNullableBuilder {
               + "        return map;\n"
               + "    }\n"
               + "    public Map<String, Getter> __getSchema() {\n"
-              + "        return getStructSchema();\n"
+              + "        return __structSchema;\n"
               + "    }\n"
               + "    public static Map<String, Getter> getStructSchema() {\n"
-              + "        java.util.Map<String, functionalj.types.struct.generator.Getter> map = new java.util.HashMap<>();\n"
-              + "        map.put(\"id\", new functionalj.types.struct.generator.Getter(\"id\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"name\", new functionalj.types.struct.generator.Getter(\"name\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), false, functionalj.types.DefaultValue.REQUIRED));\n"
-              + "        map.put(\"owner\", new functionalj.types.struct.generator.Getter(\"owner\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
-              + "        map.put(\"website\", new functionalj.types.struct.generator.Getter(\"website\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
-              + "        map.put(\"country\", new functionalj.types.struct.generator.Getter(\"country\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
-              + "        map.put(\"description\", new functionalj.types.struct.generator.Getter(\"description\", new functionalj.types.Type(\"java.lang\", null, \"String\", java.util.Collections.emptyList()), true, functionalj.types.DefaultValue.NULL));\n"
-              + "        return map;\n"
+              + "        return __structSchema;\n"
+              + "    }\n"
+              + "    public TransientBuilder<Brand> __transientBuilder() {\n"
+              + "        return new __Transient(this);\n"
               + "    }\n"
               + "    public String toString() {\n"
               + "        return \"Brand[\" + \"id: \" + id() + \", \" + \"name: \" + name() + \", \" + \"owner: \" + owner() + \", \" + \"website: \" + website() + \", \" + \"country: \" + country() + \", \" + \"description: \" + description() + \"]\";\n"
               + "    }\n"
               + "    public int hashCode() {\n"
-              + "        return toString().hashCode();\n"
+              + "        int hashCode = __hashCode;\n"
+              + "        if (hashCode != 0)\n"
+              + "            return hashCode;\n"
+              + "        hashCode = 1;\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.id);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.name);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.owner);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.website);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.country);\n"
+              + "        hashCode = 31*hashCode + $utils.hashOf(this.description);\n"
+              + "        __hashCode = hashCode;\n"
+              + "        return hashCode;\n"
               + "    }\n"
               + "    public boolean equals(Object another) {\n"
-              + "        return (another == this) || ((another != null) && (getClass().equals(another.getClass())) && java.util.Objects.equals(toString(), another.toString()));\n"
+              + "        if (another == this)\n"
+              + "            return true;\n"
+              + "        if ((another == null) || !getClass().equals(another.getClass()))\n"
+              + "            return false;\n"
+              + "        Brand that = (Brand)another;\n"
+              + "        return $utils.checkEquals(this.id, that.id)\n"
+              + "            && $utils.checkEquals(this.name, that.name)\n"
+              + "            && $utils.checkEquals(this.owner, that.owner)\n"
+              + "            && $utils.checkEquals(this.website, that.website)\n"
+              + "            && $utils.checkEquals(this.country, that.country)\n"
+              + "            && $utils.checkEquals(this.description, that.description);\n"
               + "    }\n"
               + "    \n"
               + "    public static class BrandLens<HOST> extends ObjectLensImpl<HOST, Brand> {\n"
@@ -340,6 +367,40 @@ public class BugThreeNullableBuilder {
               + "        \n"
               + "        \n"
               + "    }\n"
+              + "    static final class __Transient implements TransientBuilder<Brand> {\n"
+              + "        \n"
+              + "        private String id;\n"
+              + "        private String name;\n"
+              + "        private String owner;\n"
+              + "        private String website;\n"
+              + "        private String country;\n"
+              + "        private String description;\n"
+              + "        \n"
+              + "        __Transient(Brand source) {\n"
+              + "            this.id = source.id;\n"
+              + "            this.name = source.name;\n"
+              + "            this.owner = source.owner;\n"
+              + "            this.website = source.website;\n"
+              + "            this.country = source.country;\n"
+              + "            this.description = source.description;\n"
+              + "        }\n"
+              + "        \n"
+              + "        public boolean set(String name, Object value) {\n"
+              + "            switch (name) {\n"
+              + "                case \"id\": this.id = (String)value; return true;\n"
+              + "                case \"name\": this.name = (String)value; return true;\n"
+              + "                case \"owner\": this.owner = (String)value; return true;\n"
+              + "                case \"website\": this.website = (String)value; return true;\n"
+              + "                case \"country\": this.country = (String)value; return true;\n"
+              + "                case \"description\": this.description = (String)value; return true;\n"
+              + "                default: return false;\n"
+              + "            }\n"
+              + "        }\n"
+              + "        public Brand seal() {\n"
+              + "            return new Brand(id, name, owner, website, country, description);\n"
+              + "        }\n"
+              + "        \n"
+              + "    }\n"
               + "    \n"
               + "}",
               code);